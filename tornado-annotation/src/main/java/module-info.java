@@ -18,6 +18,8 @@
 module tornado.annotation {
     requires transitive jdk.internal.vm.ci;
     requires transitive org.objectweb.asm;
+    requires org.objectweb.asm.tree;
+    requires org.objectweb.asm.tree.analysis;
     requires transitive tornado.runtime;
 
     exports uk.ac.manchester.tornado.annotation;
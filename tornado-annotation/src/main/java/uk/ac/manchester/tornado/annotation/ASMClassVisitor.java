@@ -17,10 +17,15 @@
  */
 package uk.ac.manchester.tornado.annotation;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassVisitor;
@@ -31,9 +36,16 @@ import org.objectweb.asm.Opcodes;
 import jdk.vm.ci.meta.ResolvedJavaMethod;
 import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
 import uk.ac.manchester.tornado.runtime.ASMClassVisitorProvider;
+import uk.ac.manchester.tornado.runtime.common.FusedTaskProvider;
 import uk.ac.manchester.tornado.runtime.common.ParallelAnnotationProvider;
 
 public class ASMClassVisitor extends ClassVisitor implements ASMClassVisitorProvider {
+    /**
+     * Class files of the classes generated at runtime, which cannot be read
+     * from the class path.
+     */
+    private static final Map<String, byte[]> generatedClasses = new ConcurrentHashMap<>();
+
     private List<ParallelAnnotationProvider> parallelAnnotations;
     private ResolvedJavaMethod resolvedJavaMethod;
 
@@ -58,7 +70,8 @@ public class ASMClassVisitor extends ClassVisitor implements ASMClassVisitorProv
     @Override
     public ParallelAnnotationProvider[] getParallelAnnotations(ResolvedJavaMethod method) {
         String methodClassFile = method.getDeclaringClass().getName().replaceFirst("L", "").replaceFirst(";", ".class");
-        InputStream inputStream = ClassLoader.getSystemClassLoader().getResourceAsStream(methodClassFile);
+        byte[] generatedClass = generatedClasses.get(methodClassFile);
+        InputStream inputStream = generatedClass != null ? new ByteArrayInputStream(generatedClass) : ClassLoader.getSystemClassLoader().getResourceAsStream(methodClassFile);
         try {
             ClassReader classReader = new ClassReader(inputStream);
             ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
@@ -72,4 +85,18 @@ public class ASMClassVisitor extends ClassVisitor implements ASMClassVisitorProv
             throw new TornadoRuntimeException("[ERROR] Class reader could not be instantiated for class file: " + methodClassFile);
         }
     }
+
+    @Override
+    public byte[] createParallelLoopClass(Method method, String className) {
+        return new ASMParallelLoopRewriter(method).rewrite(className);
+    }
+
+    @Override
+    public FusedTaskProvider fuseTasks(Method[] methods, Object[][] arguments, Set<Object> localObjects, String className) {
+        FusedTask fusedTask = new ASMTaskFusion(methods, arguments, localObjects).fuse(className);
+        if (fusedTask != null) {
+            generatedClasses.put(className + ".class", fusedTask.getClassFile());
+        }
+        return fusedTask;
+    }
 }
@@ -0,0 +1,688 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.annotation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.Attribute;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.ModuleVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.RecordComponentVisitor;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.TypePath;
+
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.runtime.common.ParallelAnnotationProvider;
+
+/**
+ * Rewrites a task so that the iterations of its outermost {@code @Parallel}
+ * loop can be shared by several host threads. Every thread invokes the
+ * rewritten method with its own cursor (an {@code IntBinaryOperator}). The
+ * store that initialises the induction variable and the increment at the end
+ * of the loop body are replaced with calls to the cursor, which returns the
+ * next index that the thread has to execute. The loop condition is left
+ * untouched, so each thread leaves the loop as soon as the cursor runs past
+ * the iteration space.
+ *
+ * <p>
+ * Only loops in which this transformation preserves the sequential semantics
+ * are rewritten: the method must be static, the induction variable must be
+ * initialised right before the loop and only updated by one constant
+ * increment, the loop cannot be nested in another loop, and the code outside
+ * the loop, which runs once per thread, cannot write to memory or call other
+ * methods. The only calls allowed outside the loop are the getters of the
+ * TornadoVM types (e.g., {@code getSize()}) and the functions of
+ * {@link Math} and {@code TornadoMath}.
+ * </p>
+ */
+class ASMParallelLoopRewriter {
+
+    private static final String CURSOR_CLASS = "java/util/function/IntBinaryOperator";
+    private static final String CURSOR_METHOD = "applyAsInt";
+    private static final String CURSOR_METHOD_DESCRIPTOR = "(II)I";
+    private static final String TORNADO_TYPES_PACKAGE = "uk/ac/manchester/tornado/api/types/";
+    private static final Set<String> MATH_CLASSES = Set.of("java/lang/Math", "java/lang/StrictMath", "uk/ac/manchester/tornado/api/math/TornadoMath");
+
+    private final Method method;
+    private final String owner;
+    private final String descriptor;
+
+    ASMParallelLoopRewriter(Method method) {
+        this.method = method;
+        this.owner = Type.getInternalName(method.getDeclaringClass());
+        this.descriptor = Type.getMethodDescriptor(method);
+    }
+
+    byte[] rewrite(String className) {
+        if (!Modifier.isStatic(method.getModifiers())) {
+            return null;
+        }
+        byte[] classFile = readClassFile(method.getDeclaringClass());
+        if (classFile == null) {
+            return null;
+        }
+
+        ClassReader classReader = new ClassReader(classFile);
+        LoopAnalyzer analyzer = new LoopAnalyzer();
+        classReader.accept(new TargetMethodVisitor(analyzer), ClassReader.SKIP_FRAMES);
+        if (!analyzer.resolveParallelLoop()) {
+            return null;
+        }
+
+        ClassWriter classWriter = new HostClassWriter(getClassLoader(method.getDeclaringClass()));
+        classReader.accept(new ParallelLoopClassVisitor(classWriter, className, analyzer), ClassReader.SKIP_FRAMES);
+        return classWriter.toByteArray();
+    }
+
+    static ClassLoader getClassLoader(Class<?> klass) {
+        ClassLoader classLoader = klass.getClassLoader();
+        return classLoader != null ? classLoader : ClassLoader.getSystemClassLoader();
+    }
+
+    static byte[] readClassFile(Class<?> klass) {
+        String methodClassFile = Type.getInternalName(klass) + ".class";
+        try (InputStream inputStream = getClassLoader(klass).getResourceAsStream(methodClassFile)) {
+            return inputStream != null ? inputStream.readAllBytes() : null;
+        } catch (IOException e) {
+            throw new TornadoRuntimeException("[ERROR] Class reader could not be instantiated for class file: " + methodClassFile, e);
+        }
+    }
+
+    private boolean isTargetMethod(String name, String methodDescriptor) {
+        return name.equals(method.getName()) && methodDescriptor.equals(descriptor);
+    }
+
+    /**
+     * @return true if the call has no side effects, so it can run once per
+     *     thread outside the parallel loop.
+     */
+    private static boolean isPureInvocation(int opcode, String methodOwner, String name) {
+        if (opcode == Opcodes.INVOKESTATIC) {
+            return MATH_CLASSES.contains(methodOwner);
+        }
+        // getVersion() clears the modification flag of the native arrays
+        return opcode == Opcodes.INVOKEVIRTUAL && methodOwner.startsWith(TORNADO_TYPES_PACKAGE) && name.startsWith("get") && !name.equals("getVersion");
+    }
+
+    private static boolean isHeapWrite(int opcode) {
+        return (opcode >= Opcodes.IASTORE && opcode <= Opcodes.SASTORE) || opcode == Opcodes.PUTFIELD || opcode == Opcodes.PUTSTATIC;
+    }
+
+    /**
+     * Counts the instructions of a method, so that the two passes over the class
+     * file can refer to the same instruction by its position.
+     */
+    private abstract static class InstructionCounter extends MethodVisitor {
+
+        protected int ordinal;
+
+        InstructionCounter(MethodVisitor methodVisitor) {
+            super(Opcodes.ASM9, methodVisitor);
+        }
+
+        @Override
+        public void visitInsn(int opcode) {
+            super.visitInsn(opcode);
+            ordinal++;
+        }
+
+        @Override
+        public void visitIntInsn(int opcode, int operand) {
+            super.visitIntInsn(opcode, operand);
+            ordinal++;
+        }
+
+        @Override
+        public void visitVarInsn(int opcode, int varIndex) {
+            super.visitVarInsn(opcode, varIndex);
+            ordinal++;
+        }
+
+        @Override
+        public void visitTypeInsn(int opcode, String type) {
+            super.visitTypeInsn(opcode, type);
+            ordinal++;
+        }
+
+        @Override
+        public void visitFieldInsn(int opcode, String fieldOwner, String name, String fieldDescriptor) {
+            super.visitFieldInsn(opcode, fieldOwner, name, fieldDescriptor);
+            ordinal++;
+        }
+
+        @Override
+        public void visitMethodInsn(int opcode, String methodOwner, String name, String methodDescriptor, boolean isInterface) {
+            super.visitMethodInsn(opcode, methodOwner, name, methodDescriptor, isInterface);
+            ordinal++;
+        }
+
+        @Override
+        public void visitInvokeDynamicInsn(String name, String methodDescriptor, Handle bootstrapMethodHandle, Object... bootstrapMethodArguments) {
+            super.visitInvokeDynamicInsn(name, methodDescriptor, bootstrapMethodHandle, bootstrapMethodArguments);
+            ordinal++;
+        }
+
+        @Override
+        public void visitJumpInsn(int opcode, Label label) {
+            super.visitJumpInsn(opcode, label);
+            ordinal++;
+        }
+
+        @Override
+        public void visitLdcInsn(Object value) {
+            super.visitLdcInsn(value);
+            ordinal++;
+        }
+
+        @Override
+        public void visitIincInsn(int varIndex, int increment) {
+            super.visitIincInsn(varIndex, increment);
+            ordinal++;
+        }
+
+        @Override
+        public void visitTableSwitchInsn(int min, int max, Label dflt, Label... labels) {
+            super.visitTableSwitchInsn(min, max, dflt, labels);
+            ordinal++;
+        }
+
+        @Override
+        public void visitLookupSwitchInsn(Label dflt, int[] keys, Label[] labels) {
+            super.visitLookupSwitchInsn(dflt, keys, labels);
+            ordinal++;
+        }
+
+        @Override
+        public void visitMultiANewArrayInsn(String arrayDescriptor, int numDimensions) {
+            super.visitMultiANewArrayInsn(arrayDescriptor, numDimensions);
+            ordinal++;
+        }
+    }
+
+    /**
+     * First pass: it records the private members of the class and analyses the
+     * target method.
+     */
+    private class TargetMethodVisitor extends ClassVisitor {
+
+        private final LoopAnalyzer analyzer;
+
+        TargetMethodVisitor(LoopAnalyzer analyzer) {
+            super(Opcodes.ASM9);
+            this.analyzer = analyzer;
+        }
+
+        @Override
+        public FieldVisitor visitField(int access, String name, String fieldDescriptor, String signature, Object value) {
+            if ((access & Opcodes.ACC_PRIVATE) != 0) {
+                analyzer.privateMembers.add(name + fieldDescriptor);
+            }
+            return null;
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String methodDescriptor, String signature, String[] exceptions) {
+            if ((access & Opcodes.ACC_PRIVATE) != 0) {
+                analyzer.privateMembers.add(name + methodDescriptor);
+            }
+            return isTargetMethod(name, methodDescriptor) ? analyzer : null;
+        }
+    }
+
+    /**
+     * Collects the stores, increments, jumps and side effects of the target method
+     * and locates the outermost {@code @Parallel} loop.
+     */
+    private class LoopAnalyzer extends InstructionCounter {
+
+        private final Set<String> privateMembers = new HashSet<>();
+        private final Set<String> ownMemberReferences = new HashSet<>();
+        private final Map<Label, Integer> labels = new HashMap<>();
+        private final List<int[]> stores = new ArrayList<>();
+        private final List<int[]> increments = new ArrayList<>();
+        private final List<Integer> jumpOrdinals = new ArrayList<>();
+        private final List<Label> jumpTargets = new ArrayList<>();
+        private final List<Integer> heapWrites = new ArrayList<>();
+        private final List<Integer> invocations = new ArrayList<>();
+        private final List<ParallelAnnotationProvider> parallelAnnotations = new ArrayList<>();
+
+        private int initOrdinal;
+        private int incrementOrdinal;
+        private int step;
+
+        LoopAnalyzer() {
+            super(null);
+        }
+
+        @Override
+        public void visitLabel(Label label) {
+            labels.put(label, ordinal);
+        }
+
+        @Override
+        public void visitInsn(int opcode) {
+            if (isHeapWrite(opcode)) {
+                heapWrites.add(ordinal);
+            }
+            super.visitInsn(opcode);
+        }
+
+        @Override
+        public void visitVarInsn(int opcode, int varIndex) {
+            if (opcode >= Opcodes.ISTORE && opcode <= Opcodes.ASTORE) {
+                stores.add(new int[] { ordinal, varIndex, opcode });
+            }
+            super.visitVarInsn(opcode, varIndex);
+        }
+
+        @Override
+        public void visitFieldInsn(int opcode, String fieldOwner, String name, String fieldDescriptor) {
+            if (isHeapWrite(opcode)) {
+                heapWrites.add(ordinal);
+            }
+            if (fieldOwner.equals(owner)) {
+                ownMemberReferences.add(name + fieldDescriptor);
+            }
+            super.visitFieldInsn(opcode, fieldOwner, name, fieldDescriptor);
+        }
+
+        @Override
+        public void visitMethodInsn(int opcode, String methodOwner, String name, String methodDescriptor, boolean isInterface) {
+            if (!isPureInvocation(opcode, methodOwner, name)) {
+                invocations.add(ordinal);
+            }
+            if (methodOwner.equals(owner)) {
+                ownMemberReferences.add(name + methodDescriptor);
+            }
+            super.visitMethodInsn(opcode, methodOwner, name, methodDescriptor, isInterface);
+        }
+
+        @Override
+        public void visitInvokeDynamicInsn(String name, String methodDescriptor, Handle bootstrapMethodHandle, Object... bootstrapMethodArguments) {
+            invocations.add(ordinal);
+            for (Object argument : bootstrapMethodArguments) {
+                if (argument instanceof Handle handle && handle.getOwner().equals(owner)) {
+                    ownMemberReferences.add(handle.getName() + handle.getDesc());
+                }
+            }
+            super.visitInvokeDynamicInsn(name, methodDescriptor, bootstrapMethodHandle, bootstrapMethodArguments);
+        }
+
+        @Override
+        public void visitJumpInsn(int opcode, Label label) {
+            jumpOrdinals.add(ordinal);
+            jumpTargets.add(label);
+            super.visitJumpInsn(opcode, label);
+        }
+
+        @Override
+        public void visitTableSwitchInsn(int min, int max, Label dflt, Label... targets) {
+            addSwitchTargets(dflt, targets);
+            super.visitTableSwitchInsn(min, max, dflt, targets);
+        }
+
+        @Override
+        public void visitLookupSwitchInsn(Label dflt, int[] keys, Label[] targets) {
+            addSwitchTargets(dflt, targets);
+            super.visitLookupSwitchInsn(dflt, keys, targets);
+        }
+
+        private void addSwitchTargets(Label dflt, Label[] targets) {
+            jumpOrdinals.add(ordinal);
+            jumpTargets.add(dflt);
+            for (Label target : targets) {
+                jumpOrdinals.add(ordinal);
+                jumpTargets.add(target);
+            }
+        }
+
+        @Override
+        public void visitIincInsn(int varIndex, int increment) {
+            increments.add(new int[] { ordinal, varIndex, increment });
+            super.visitIincInsn(varIndex, increment);
+        }
+
+        @Override
+        public AnnotationVisitor visitLocalVariableAnnotation(int typeRef, TypePath typePath, Label[] start, Label[] end, int[] index, String annotationDescriptor, boolean visible) {
+            String annotationName = annotationDescriptor.replaceFirst("L", "").replace(";", "").replace("/", ".");
+            if (annotationName.equals(ASMMethodVisitor.parallelAnnotationClassPath)) {
+                int startOrdinal = labels.get(start[0]);
+                parallelAnnotations.add(new ParallelAnnotation(startOrdinal, labels.get(end[0]) - startOrdinal, index[0]));
+            }
+            return null;
+        }
+
+        /**
+         * Checks that the outermost {@code @Parallel} loop can be distributed and
+         * records the instructions to replace.
+         *
+         * @return true if the method can be rewritten.
+         */
+        boolean resolveParallelLoop() {
+            ParallelAnnotationProvider outermost = null;
+            for (ParallelAnnotationProvider annotation : parallelAnnotations) {
+                if (outermost == null || annotation.getStart() < outermost.getStart()) {
+                    outermost = annotation;
+                }
+            }
+            if (outermost == null) {
+                return false;
+            }
+
+            int index = outermost.getIndex();
+            int start = outermost.getStart();
+            int end = start + outermost.getLength();
+
+            // The induction variable must be initialised right before the loop
+            initOrdinal = -1;
+            for (int[] store : stores) {
+                if (store[0] == start - 1 && store[1] == index && store[2] == Opcodes.ISTORE) {
+                    initOrdinal = store[0];
+                } else if (store[1] == index && store[0] >= start && store[0] < end) {
+                    return false;
+                }
+            }
+            if (initOrdinal == -1) {
+                return false;
+            }
+
+            // ... and updated by exactly one constant increment
+            incrementOrdinal = -1;
+            for (int[] increment : increments) {
+                if (increment[1] == index && increment[0] >= start && increment[0] < end) {
+                    if (incrementOrdinal != -1 || increment[2] == 0) {
+                        return false;
+                    }
+                    incrementOrdinal = increment[0];
+                    step = increment[2];
+                }
+            }
+            if (incrementOrdinal == -1) {
+                return false;
+            }
+
+            // A backward jump from after the loop to its header means that the
+            // parallel loop is nested in a sequential one
+            for (int i = 0; i < jumpOrdinals.size(); i++) {
+                if (jumpOrdinals.get(i) >= end && labels.get(jumpTargets.get(i)) <= start) {
+                    return false;
+                }
+            }
+
+            // Code outside the loop runs once per thread
+            for (int heapWrite : heapWrites) {
+                if (heapWrite < start || heapWrite >= end) {
+                    return false;
+                }
+            }
+            for (int invocation : invocations) {
+                if (invocation < start || invocation >= end) {
+                    return false;
+                }
+            }
+
+            // The copy of the method lives in another class, so it cannot access
+            // private members of the declaring class
+            for (String reference : ownMemberReferences) {
+                if (privateMembers.contains(reference)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Second pass: it emits a class that only contains the rewritten copy of the
+     * target method.
+     */
+    private class ParallelLoopClassVisitor extends ClassVisitor {
+
+        private final String className;
+        private final LoopAnalyzer analyzer;
+
+        ParallelLoopClassVisitor(ClassVisitor classVisitor, String className, LoopAnalyzer analyzer) {
+            super(Opcodes.ASM9, classVisitor);
+            this.className = className;
+            this.analyzer = analyzer;
+        }
+
+        @Override
+        public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+            super.visit(version, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER | Opcodes.ACC_SYNTHETIC, className, null, "java/lang/Object", null);
+        }
+
+        @Override
+        public ModuleVisitor visitModule(String name, int access, String version) {
+            return null;
+        }
+
+        @Override
+        public void visitNestHost(String nestHost) {
+        }
+
+        @Override
+        public void visitOuterClass(String outerOwner, String name, String methodDescriptor) {
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String annotationDescriptor, boolean visible) {
+            return null;
+        }
+
+        @Override
+        public AnnotationVisitor visitTypeAnnotation(int typeRef, TypePath typePath, String annotationDescriptor, boolean visible) {
+            return null;
+        }
+
+        @Override
+        public void visitAttribute(Attribute attribute) {
+        }
+
+        @Override
+        public void visitNestMember(String nestMember) {
+        }
+
+        @Override
+        public void visitPermittedSubclass(String permittedSubclass) {
+        }
+
+        @Override
+        public void visitInnerClass(String name, String outerName, String innerName, int access) {
+        }
+
+        @Override
+        public RecordComponentVisitor visitRecordComponent(String name, String recordDescriptor, String signature) {
+            return null;
+        }
+
+        @Override
+        public FieldVisitor visitField(int access, String name, String fieldDescriptor, String signature, Object value) {
+            return null;
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String methodDescriptor, String signature, String[] exceptions) {
+            if (!isTargetMethod(name, methodDescriptor)) {
+                return null;
+            }
+            Type[] argumentTypes = Type.getArgumentTypes(methodDescriptor);
+            Type[] newArgumentTypes = new Type[argumentTypes.length + 1];
+            System.arraycopy(argumentTypes, 0, newArgumentTypes, 0, argumentTypes.length);
+            newArgumentTypes[argumentTypes.length] = Type.getObjectType(CURSOR_CLASS);
+            String newDescriptor = Type.getMethodDescriptor(Type.getReturnType(methodDescriptor), newArgumentTypes);
+
+            MethodVisitor methodVisitor = super.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, name, newDescriptor, null, exceptions);
+            return new ParallelLoopMethodVisitor(methodVisitor, (Type.getArgumentsAndReturnSizes(methodDescriptor) >> 2) - 1, analyzer);
+        }
+    }
+
+    /**
+     * Replaces the initialisation and the increment of the induction variable
+     * with calls to the cursor. The cursor takes the first local slot after the
+     * original arguments, so the rest of the locals are shifted by one.
+     */
+    private static class ParallelLoopMethodVisitor extends InstructionCounter {
+
+        private final int cursorSlot;
+        private final LoopAnalyzer analyzer;
+
+        ParallelLoopMethodVisitor(MethodVisitor methodVisitor, int cursorSlot, LoopAnalyzer analyzer) {
+            super(methodVisitor);
+            this.cursorSlot = cursorSlot;
+            this.analyzer = analyzer;
+        }
+
+        private int remap(int varIndex) {
+            return varIndex >= cursorSlot ? varIndex + 1 : varIndex;
+        }
+
+        private void emitCursorCall(int varIndex) {
+            mv.visitLdcInsn(analyzer.step);
+            mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, CURSOR_CLASS, CURSOR_METHOD, CURSOR_METHOD_DESCRIPTOR, true);
+            mv.visitVarInsn(Opcodes.ISTORE, remap(varIndex));
+        }
+
+        @Override
+        public void visitVarInsn(int opcode, int varIndex) {
+            if (ordinal == analyzer.initOrdinal) {
+                // Stack: init -> cursor, init, step
+                mv.visitVarInsn(Opcodes.ALOAD, cursorSlot);
+                mv.visitInsn(Opcodes.SWAP);
+                emitCursorCall(varIndex);
+                ordinal++;
+            } else {
+                super.visitVarInsn(opcode, remap(varIndex));
+            }
+        }
+
+        @Override
+        public void visitIincInsn(int varIndex, int increment) {
+            if (ordinal == analyzer.incrementOrdinal) {
+                mv.visitVarInsn(Opcodes.ALOAD, cursorSlot);
+                mv.visitVarInsn(Opcodes.ILOAD, remap(varIndex));
+                emitCursorCall(varIndex);
+                ordinal++;
+            } else {
+                super.visitIincInsn(remap(varIndex), increment);
+            }
+        }
+
+        @Override
+        public void visitLocalVariable(String name, String localDescriptor, String signature, Label start, Label end, int index) {
+            super.visitLocalVariable(name, localDescriptor, signature, start, end, remap(index));
+        }
+
+        @Override
+        public void visitParameter(String name, int access) {
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotationDefault() {
+            return null;
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String annotationDescriptor, boolean visible) {
+            return null;
+        }
+
+        @Override
+        public AnnotationVisitor visitTypeAnnotation(int typeRef, TypePath typePath, String annotationDescriptor, boolean visible) {
+            return null;
+        }
+
+        @Override
+        public void visitAnnotableParameterCount(int parameterCount, boolean visible) {
+        }
+
+        @Override
+        public AnnotationVisitor visitParameterAnnotation(int parameter, String annotationDescriptor, boolean visible) {
+            return null;
+        }
+
+        @Override
+        public void visitAttribute(Attribute attribute) {
+        }
+
+        @Override
+        public AnnotationVisitor visitInsnAnnotation(int typeRef, TypePath typePath, String annotationDescriptor, boolean visible) {
+            return null;
+        }
+
+        @Override
+        public AnnotationVisitor visitTryCatchAnnotation(int typeRef, TypePath typePath, String annotationDescriptor, boolean visible) {
+            return null;
+        }
+
+        @Override
+        public AnnotationVisitor visitLocalVariableAnnotation(int typeRef, TypePath typePath, Label[] start, Label[] end, int[] index, String annotationDescriptor, boolean visible) {
+            return null;
+        }
+
+        @Override
+        public void visitMaxs(int maxStack, int maxLocals) {
+            super.visitMaxs(0, 0);
+        }
+    }
+
+    /**
+     * Resolves the common super classes needed to compute the stack map frames
+     * with the class loader of the task.
+     */
+    static class HostClassWriter extends ClassWriter {
+
+        private final ClassLoader classLoader;
+
+        HostClassWriter(ClassLoader classLoader) {
+            super(ClassWriter.COMPUTE_FRAMES);
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        protected ClassLoader getClassLoader() {
+            return classLoader;
+        }
+
+        @Override
+        protected String getCommonSuperClass(String type1, String type2) {
+            try {
+                return super.getCommonSuperClass(type1, type2);
+            } catch (TypeNotPresentException e) {
+                return "java/lang/Object";
+            }
+        }
+    }
+}
@@ -0,0 +1,1026 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.annotation;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.FieldNode;
+import org.objectweb.asm.tree.FrameNode;
+import org.objectweb.asm.tree.IincInsnNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.IntInsnNode;
+import org.objectweb.asm.tree.InvokeDynamicInsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.LineNumberNode;
+import org.objectweb.asm.tree.LocalVariableAnnotationNode;
+import org.objectweb.asm.tree.LookupSwitchInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.TableSwitchInsnNode;
+import org.objectweb.asm.tree.VarInsnNode;
+import org.objectweb.asm.tree.analysis.Analyzer;
+import org.objectweb.asm.tree.analysis.AnalyzerException;
+import org.objectweb.asm.tree.analysis.SourceInterpreter;
+import org.objectweb.asm.tree.analysis.SourceValue;
+
+import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
+
+/**
+ * Fuses consecutive tasks that iterate over the same {@code @Parallel} loop
+ * into a single method, so the task-graph launches one kernel instead of one
+ * kernel per task. The fused method keeps the loop of the first task and runs,
+ * in every iteration, the loop bodies of all the tasks in order.
+ *
+ * <p>
+ * Fusion is only applied when it preserves the semantics of the task-graph:
+ * all loops have the same header (same bounds, initial value and step), and
+ * every object that is written by one task and used by another one is only
+ * accessed at the current index of the loop, so an iteration never depends on
+ * the result of a different iteration. Objects that are written by one task,
+ * only read by the following tasks and not used anywhere else are kept in a
+ * local variable instead of in memory, and they are removed from the
+ * parameters of the fused method.
+ * </p>
+ */
+class ASMTaskFusion {
+
+    private static final String NATIVE_ARRAYS_PACKAGE = "uk/ac/manchester/tornado/api/types/arrays/";
+    private static final String FUSED_METHOD_PREFIX = "fused";
+
+    private final Method[] methods;
+    private final Object[][] arguments;
+    private final Set<Object> localObjects;
+    private final List<Object> uniqueArguments = new ArrayList<>();
+    private final Map<Integer, Integer> lengthSubstitutes = new HashMap<>();
+
+    ASMTaskFusion(Method[] methods, Object[][] arguments, Set<Object> localObjects) {
+        this.methods = methods;
+        this.arguments = arguments;
+        this.localObjects = localObjects;
+    }
+
+    FusedTask fuse(String className) {
+        if (methods.length < 2 || methods.length != arguments.length) {
+            return null;
+        }
+
+        TaskLoop[] loops = new TaskLoop[methods.length];
+        for (int k = 0; k < methods.length; k++) {
+            loops[k] = TaskLoop.analyse(methods[k], arguments[k]);
+            if (loops[k] == null) {
+                return null;
+            }
+        }
+
+        // The fused class is defined in the package of the first task
+        for (int k = 1; k < loops.length; k++) {
+            if (!loops[k].getPackageName().equals(loops[0].getPackageName()) || loops[k].classLoader != loops[0].classLoader) {
+                return null;
+            }
+            if (loops[k].hasPreLoopCode || loops[k].init != loops[0].init || loops[k].step != loops[0].step) {
+                return null;
+            }
+        }
+
+        // Parameters that receive the same argument become a single parameter
+        int[][] ids = new int[loops.length][];
+        for (int k = 0; k < loops.length; k++) {
+            ids[k] = new int[arguments[k].length];
+            for (int p = 0; p < arguments[k].length; p++) {
+                ids[k][p] = argumentId(arguments[k][p]);
+            }
+        }
+        Type[] argumentTypes = new Type[uniqueArguments.size()];
+        for (int k = 0; k < loops.length; k++) {
+            for (int p = 0; p < ids[k].length; p++) {
+                Type type = loops[k].parameterTypes[p];
+                if (argumentTypes[ids[k][p]] == null) {
+                    argumentTypes[ids[k][p]] = type;
+                } else if (!argumentTypes[ids[k][p]].equals(type)) {
+                    return null;
+                }
+            }
+        }
+
+        for (int k = 1; k < loops.length; k++) {
+            if (!hasSameHeader(loops[0], ids[0], loops[k], ids[k])) {
+                return null;
+            }
+        }
+
+        if (!isOneToOneDataFlow(loops, ids, argumentTypes)) {
+            return null;
+        }
+
+        Map<Integer, Type> scalarReplaced = findScalarReplaceableObjects(loops, ids, argumentTypes);
+        return emit(className, loops, ids, argumentTypes, scalarReplaced);
+    }
+
+    private int argumentId(Object argument) {
+        for (int i = 0; i < uniqueArguments.size(); i++) {
+            Object other = uniqueArguments.get(i);
+            if (other == argument || (isBoxedPrimitive(argument) && argument.equals(other))) {
+                return i;
+            }
+        }
+        uniqueArguments.add(argument);
+        return uniqueArguments.size() - 1;
+    }
+
+    private static boolean isBoxedPrimitive(Object argument) {
+        return argument instanceof Number || argument instanceof Boolean || argument instanceof Character;
+    }
+
+    private static boolean isReference(Type type) {
+        return type.getSort() == Type.OBJECT || type.getSort() == Type.ARRAY;
+    }
+
+    /**
+     * Two loop headers are the same if they execute the same instructions over
+     * the same values. Different objects are accepted as receivers of a length
+     * query when their lengths are equal.
+     */
+    private boolean hasSameHeader(TaskLoop first, int[] firstIds, TaskLoop other, int[] otherIds) {
+        List<AbstractInsnNode> firstHeader = first.getHeader();
+        List<AbstractInsnNode> otherHeader = other.getHeader();
+        if (firstHeader.size() != otherHeader.size()) {
+            return false;
+        }
+
+        for (int i = 0; i < firstHeader.size(); i++) {
+            AbstractInsnNode a = firstHeader.get(i);
+            AbstractInsnNode b = otherHeader.get(i);
+            if (a.getOpcode() != b.getOpcode()) {
+                return false;
+            }
+            if (a instanceof VarInsnNode varA && b instanceof VarInsnNode varB) {
+                boolean isIndexA = varA.var == first.indexVar;
+                boolean isIndexB = varB.var == other.indexVar;
+                if (isIndexA || isIndexB) {
+                    if (isIndexA != isIndexB) {
+                        return false;
+                    }
+                    continue;
+                }
+                int idA = firstIds[first.parameterAt(varA.var)];
+                int idB = otherIds[other.parameterAt(varB.var)];
+                if (idA != idB && !(i + 1 < firstHeader.size() && isLengthQuery(firstHeader.get(i + 1)) && lengthOf(uniqueArguments.get(idA)) >= 0
+                        && lengthOf(uniqueArguments.get(idA)) == lengthOf(uniqueArguments.get(idB)))) {
+                    return false;
+                }
+            } else if (!isSameInstruction(a, b)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLengthQuery(AbstractInsnNode node) {
+        return node.getOpcode() == Opcodes.ARRAYLENGTH || (node instanceof MethodInsnNode methodInsn && isNativeArraySize(methodInsn));
+    }
+
+    private static long lengthOf(Object object) {
+        if (object != null && object.getClass().isArray()) {
+            return Array.getLength(object);
+        } else if (object instanceof TornadoNativeArray nativeArray) {
+            return nativeArray.getSize();
+        }
+        return -1;
+    }
+
+    private static boolean isSameInstruction(AbstractInsnNode a, AbstractInsnNode b) {
+        if (a instanceof IntInsnNode intA && b instanceof IntInsnNode intB) {
+            return intA.operand == intB.operand;
+        } else if (a instanceof LdcInsnNode ldcA && b instanceof LdcInsnNode ldcB) {
+            return ldcA.cst.equals(ldcB.cst);
+        } else if (a instanceof MethodInsnNode methodA && b instanceof MethodInsnNode methodB) {
+            return methodA.owner.equals(methodB.owner) && methodA.name.equals(methodB.name) && methodA.desc.equals(methodB.desc);
+        } else if (a instanceof JumpInsnNode || a instanceof InsnNode) {
+            // Both exit jumps target the end of their loop
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * An object that is written by one of the tasks and used by another one must
+     * only be accessed at the index of the parallel loop.
+     */
+    private boolean isOneToOneDataFlow(TaskLoop[] loops, int[][] ids, Type[] argumentTypes) {
+        for (int id = 0; id < uniqueArguments.size(); id++) {
+            if (!isReference(argumentTypes[id])) {
+                continue;
+            }
+            List<Access> accesses = new ArrayList<>();
+            int numUsers = 0;
+            for (int k = 0; k < loops.length; k++) {
+                List<Access> taskAccesses = loops[k].getAccesses(ids[k], id, k > 0);
+                if (contains(ids[k], id)) {
+                    numUsers++;
+                }
+                accesses.addAll(taskAccesses);
+            }
+            if (numUsers < 2) {
+                continue;
+            }
+            boolean isWritten = accesses.stream().anyMatch(access -> access.kind == AccessKind.WRITE || access.kind == AccessKind.UNKNOWN);
+            boolean isOneToOne = accesses.stream().allMatch(access -> access.kind == AccessKind.SIZE || (access.kind != AccessKind.UNKNOWN && access.atIndex));
+            if (isWritten && !isOneToOne) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean contains(int[] values, int value) {
+        return Arrays.stream(values).anyMatch(v -> v == value);
+    }
+
+    /**
+     * Finds the objects that can be kept in a local variable of the fused method:
+     * they are not transferred or used by other tasks, one task writes them
+     * unconditionally at the loop index, and only the following tasks read them
+     * at the same index. The loop bound of the first task may query the length
+     * of such an object, as long as another parameter of the same type and
+     * length can answer it instead.
+     *
+     * @return the identifiers of these objects and the type of their elements.
+     */
+    private Map<Integer, Type> findScalarReplaceableObjects(TaskLoop[] loops, int[][] ids, Type[] argumentTypes) {
+        Map<Integer, Type> scalarReplaced = new LinkedHashMap<>();
+        for (int id = 0; id < uniqueArguments.size(); id++) {
+            if (!isReference(argumentTypes[id]) || !localObjects.contains(uniqueArguments.get(id))) {
+                continue;
+            }
+
+            final int substitute = findLengthSubstitute(id, argumentTypes);
+            Access write = null;
+            int producer = -1;
+            boolean isReplaceable = true;
+            for (int k = 0; k < loops.length && isReplaceable; k++) {
+                for (Access access : loops[k].getAccesses(ids[k], id, k > 0)) {
+                    if (access.kind == AccessKind.SIZE && k == 0 && substitute >= 0 && loops[0].isInHeader(access.instruction)) {
+                        continue;
+                    }
+                    if (access.kind == AccessKind.WRITE && write == null) {
+                        write = access;
+                        producer = k;
+                    } else if (access.kind != AccessKind.READ || write == null || producer == k) {
+                        isReplaceable = false;
+                        break;
+                    }
+                }
+            }
+            if (!isReplaceable || write == null || !write.atIndex || write.elementType == null || !loops[producer].isUnconditional(write.instruction)) {
+                continue;
+            }
+
+            final Type elementType = write.elementType;
+            boolean isConsistent = true;
+            for (int k = producer + 1; k < loops.length; k++) {
+                for (Access read : loops[k].getAccesses(ids[k], id, true)) {
+                    isConsistent &= read.atIndex && elementType.equals(read.elementType);
+                }
+            }
+            if (isConsistent) {
+                scalarReplaced.put(id, elementType);
+                if (substitute >= 0) {
+                    lengthSubstitutes.put(id, substitute);
+                }
+            }
+        }
+        return scalarReplaced;
+    }
+
+    /**
+     * @return a parameter that is always passed to the fused method and has the
+     *     same type and length as the given one, or -1.
+     */
+    private int findLengthSubstitute(int id, Type[] argumentTypes) {
+        final long length = lengthOf(uniqueArguments.get(id));
+        for (int other = 0; other < uniqueArguments.size() && length >= 0; other++) {
+            Object argument = uniqueArguments.get(other);
+            if (other != id && argumentTypes[other].equals(argumentTypes[id]) && !localObjects.contains(argument) && lengthOf(argument) == length) {
+                return other;
+            }
+        }
+        return -1;
+    }
+
+    private FusedTask emit(String className, TaskLoop[] loops, int[][] ids, Type[] argumentTypes, Map<Integer, Type> scalarReplaced) {
+        // Parameters of the fused method
+        List<Object> fusedArguments = new ArrayList<>();
+        List<Type> fusedParameterTypes = new ArrayList<>();
+        int[] parameterSlots = new int[uniqueArguments.size()];
+        int nextLocal = 0;
+        for (int id = 0; id < uniqueArguments.size(); id++) {
+            if (!scalarReplaced.containsKey(id)) {
+                fusedArguments.add(uniqueArguments.get(id));
+                fusedParameterTypes.add(argumentTypes[id]);
+                parameterSlots[id] = nextLocal;
+                nextLocal += argumentTypes[id].getSize();
+            }
+        }
+
+        // Local variables of every task, followed by the scalar-replaced elements
+        int[] localBases = new int[loops.length];
+        for (int k = 0; k < loops.length; k++) {
+            localBases[k] = nextLocal;
+            nextLocal += Math.max(0, loops[k].methodNode.maxLocals - loops[k].parameterSize);
+        }
+        Map<Integer, Integer> scalarSlots = new HashMap<>();
+        for (Map.Entry<Integer, Type> entry : scalarReplaced.entrySet()) {
+            scalarSlots.put(entry.getKey(), nextLocal);
+            nextLocal += entry.getValue().getSize();
+        }
+        final int indexVar = localBases[0] + loops[0].indexVar - loops[0].parameterSize;
+
+        InsnList instructions = new InsnList();
+        List<Map<LabelNode, LabelNode>> labels = new ArrayList<>();
+        for (int k = 0; k < loops.length; k++) {
+            Emitter emitter = new Emitter(loops[k], ids[k], k, instructions, parameterSlots, localBases[k], indexVar, scalarReplaced, scalarSlots, lengthSubstitutes);
+            if (k == 0) {
+                // Code before the loop, initialisation and header of the first task
+                emitter.copy(0, loops[0].headerEndIndex + 1);
+            }
+            emitter.copy(loops[k].headerEndIndex + 1, loops[k].incrementIndex);
+            instructions.add(emitter.continueLabel);
+            labels.add(emitter.labels);
+        }
+        LabelNode loopStart = labels.get(0).get(loops[0].annotation.start.get(0));
+        LabelNode loopEnd = labels.get(0).get(loops[0].annotation.end.get(0));
+        instructions.add(new IincInsnNode(indexVar, loops[0].step));
+        instructions.add(new JumpInsnNode(Opcodes.GOTO, loopStart));
+        instructions.add(loopEnd);
+        instructions.add(new InsnNode(Opcodes.RETURN));
+
+        StringBuilder methodName = new StringBuilder(FUSED_METHOD_PREFIX);
+        for (Method method : methods) {
+            methodName.append('_').append(method.getName());
+        }
+        String descriptor = Type.getMethodDescriptor(Type.VOID_TYPE, fusedParameterTypes.toArray(new Type[0]));
+        MethodNode fusedMethod = new MethodNode(Opcodes.ASM9, Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, methodName.toString(), descriptor, null, null);
+        fusedMethod.instructions = instructions;
+
+        LocalVariableAnnotationNode parallel = loops[0].annotation;
+        LocalVariableAnnotationNode annotation = new LocalVariableAnnotationNode(parallel.typeRef, parallel.typePath, new LabelNode[] { loopStart }, new LabelNode[] { loopEnd }, new int[] { indexVar },
+                parallel.desc);
+        if (loops[0].isVisibleAnnotation) {
+            fusedMethod.visibleLocalVariableAnnotations = new ArrayList<>(List.of(annotation));
+        } else {
+            fusedMethod.invisibleLocalVariableAnnotations = new ArrayList<>(List.of(annotation));
+        }
+
+        int version = Opcodes.V1_8;
+        for (TaskLoop loop : loops) {
+            version = Math.max(version, loop.classNode.version & 0xFFFF);
+        }
+        ClassNode fusedClass = new ClassNode();
+        fusedClass.visit(version, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER | Opcodes.ACC_SYNTHETIC, className, null, "java/lang/Object", null);
+        fusedClass.methods.add(fusedMethod);
+
+        try {
+            ClassWriter classWriter = new ASMParallelLoopRewriter.HostClassWriter(loops[0].classLoader);
+            fusedClass.accept(classWriter);
+            return new FusedTask(classWriter.toByteArray(), fusedMethod.name, fusedArguments.toArray());
+        } catch (RuntimeException e) {
+            // The stack map frames of the fused method cannot be computed
+            return null;
+        }
+    }
+
+    private enum AccessKind {
+        READ, WRITE, SIZE, UNKNOWN
+    }
+
+    /**
+     * Use of a reference parameter by an instruction.
+     */
+    private record Access(int parameter, AccessKind kind, AbstractInsnNode instruction, boolean atIndex, Type elementType) {
+    }
+
+    /**
+     * Outermost {@code @Parallel} loop of a task and the accesses of the task to
+     * its reference parameters.
+     */
+    private static final class TaskLoop {
+
+        private final ClassNode classNode;
+        private final MethodNode methodNode;
+        private final ClassLoader classLoader;
+        private final Type[] parameterTypes;
+        private final int[] parameterSlots;
+        private final int parameterSize;
+        private final List<Access> accesses = new ArrayList<>();
+        private final Set<String> privateMembers = new HashSet<>();
+
+        private AbstractInsnNode[] code;
+        private LocalVariableAnnotationNode annotation;
+        private boolean isVisibleAnnotation;
+        private boolean hasPreLoopCode;
+        private int indexVar;
+        private int init;
+        private int step;
+        private int startIndex;
+        private int headerEndIndex;
+        private int lastBodyIndex;
+        private int incrementIndex;
+
+        private TaskLoop(Method method, ClassNode classNode, MethodNode methodNode) {
+            this.classNode = classNode;
+            this.methodNode = methodNode;
+            this.classLoader = ASMParallelLoopRewriter.getClassLoader(method.getDeclaringClass());
+            this.parameterTypes = Type.getArgumentTypes(methodNode.desc);
+            this.parameterSlots = new int[parameterTypes.length];
+            int slot = 0;
+            for (int i = 0; i < parameterTypes.length; i++) {
+                parameterSlots[i] = slot;
+                slot += parameterTypes[i].getSize();
+            }
+            this.parameterSize = slot;
+            for (FieldNode field : classNode.fields) {
+                if ((field.access & Opcodes.ACC_PRIVATE) != 0) {
+                    privateMembers.add(field.name + field.desc);
+                }
+            }
+            for (MethodNode member : classNode.methods) {
+                if ((member.access & Opcodes.ACC_PRIVATE) != 0) {
+                    privateMembers.add(member.name + member.desc);
+                }
+            }
+        }
+
+        static TaskLoop analyse(Method method, Object[] arguments) {
+            if (!Modifier.isStatic(method.getModifiers()) || method.getReturnType() != void.class || method.getParameterCount() != arguments.length) {
+                return null;
+            }
+            byte[] classFile = ASMParallelLoopRewriter.readClassFile(method.getDeclaringClass());
+            if (classFile == null) {
+                return null;
+            }
+
+            ClassNode classNode = new ClassNode();
+            new ClassReader(classFile).accept(classNode, ClassReader.SKIP_FRAMES);
+            String descriptor = Type.getMethodDescriptor(method);
+            for (MethodNode methodNode : classNode.methods) {
+                if (methodNode.name.equals(method.getName()) && methodNode.desc.equals(descriptor)) {
+                    TaskLoop loop = new TaskLoop(method, classNode, methodNode);
+                    return methodNode.tryCatchBlocks.isEmpty() && loop.resolveParallelLoop() && loop.analyseAccesses() ? loop : null;
+                }
+            }
+            return null;
+        }
+
+        String getPackageName() {
+            int index = classNode.name.lastIndexOf('/');
+            return index < 0 ? "" : classNode.name.substring(0, index);
+        }
+
+        int parameterAt(int slot) {
+            for (int i = 0; i < parameterSlots.length; i++) {
+                if (parameterSlots[i] == slot) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private int indexOf(AbstractInsnNode node) {
+            return methodNode.instructions.indexOf(node);
+        }
+
+        private AbstractInsnNode previousInstruction(int index) {
+            for (int i = index - 1; i >= 0; i--) {
+                if (code[i].getOpcode() >= 0) {
+                    return code[i];
+                }
+            }
+            return null;
+        }
+
+        private static Integer intConstant(AbstractInsnNode node) {
+            if (node == null) {
+                return null;
+            }
+            int opcode = node.getOpcode();
+            if (opcode >= Opcodes.ICONST_M1 && opcode <= Opcodes.ICONST_5) {
+                return opcode - Opcodes.ICONST_0;
+            } else if (node instanceof IntInsnNode intInsn && opcode != Opcodes.NEWARRAY) {
+                return intInsn.operand;
+            } else if (node instanceof LdcInsnNode ldc && ldc.cst instanceof Integer value) {
+                return value;
+            }
+            return null;
+        }
+
+        private static List<LabelNode> jumpTargets(AbstractInsnNode node) {
+            if (node instanceof JumpInsnNode jump) {
+                return List.of(jump.label);
+            } else if (node instanceof TableSwitchInsnNode tableSwitch) {
+                List<LabelNode> targets = new ArrayList<>(tableSwitch.labels);
+                targets.add(tableSwitch.dflt);
+                return targets;
+            } else if (node instanceof LookupSwitchInsnNode lookupSwitch) {
+                List<LabelNode> targets = new ArrayList<>(lookupSwitch.labels);
+                targets.add(lookupSwitch.dflt);
+                return targets;
+            }
+            return List.of();
+        }
+
+        private static boolean isStore(AbstractInsnNode node) {
+            return (node.getOpcode() >= Opcodes.ISTORE && node.getOpcode() <= Opcodes.ASTORE) || node instanceof IincInsnNode;
+        }
+
+        private static int storedVar(AbstractInsnNode node) {
+            return node instanceof IincInsnNode iinc ? iinc.var : ((VarInsnNode) node).var;
+        }
+
+        private boolean resolveParallelLoop() {
+            String parallelDescriptor = ASMMethodVisitor.parallelAnnotationClassPath == null ? null : "L" + ASMMethodVisitor.parallelAnnotationClassPath.replace('.', '/') + ";";
+            int numParallelLoops = 0;
+            for (boolean visible : new boolean[] { true, false }) {
+                List<LocalVariableAnnotationNode> annotations = visible ? methodNode.visibleLocalVariableAnnotations : methodNode.invisibleLocalVariableAnnotations;
+                if (annotations == null) {
+                    continue;
+                }
+                for (LocalVariableAnnotationNode localVariableAnnotation : annotations) {
+                    if (localVariableAnnotation.desc.equals(parallelDescriptor)) {
+                        annotation = localVariableAnnotation;
+                        isVisibleAnnotation = visible;
+                        numParallelLoops++;
+                    }
+                }
+            }
+            // Only one-dimensional loops are fused
+            if (numParallelLoops != 1 || annotation.start.size() != 1) {
+                return false;
+            }
+
+            code = methodNode.instructions.toArray();
+            indexVar = annotation.index.get(0);
+            startIndex = indexOf(annotation.start.get(0));
+            int endIndex = indexOf(annotation.end.get(0));
+
+            // int i = <constant>; just before the loop
+            AbstractInsnNode store = previousInstruction(startIndex);
+            if (!(store instanceof VarInsnNode initStore) || initStore.getOpcode() != Opcodes.ISTORE || initStore.var != indexVar) {
+                return false;
+            }
+            AbstractInsnNode constant = previousInstruction(indexOf(store));
+            Integer initValue = intConstant(constant);
+            if (initValue == null) {
+                return false;
+            }
+            init = initValue;
+            int initIndex = indexOf(constant);
+
+            // Header: everything up to the conditional jump that leaves the loop
+            headerEndIndex = -1;
+            for (int i = startIndex + 1; i < endIndex && headerEndIndex < 0; i++) {
+                if (!jumpTargets(code[i]).isEmpty()) {
+                    headerEndIndex = i;
+                }
+            }
+            if (headerEndIndex < 0 || !(code[headerEndIndex] instanceof JumpInsnNode exit) || exit.getOpcode() == Opcodes.GOTO || exit.label != annotation.end.get(0)) {
+                return false;
+            }
+
+            // i += step; goto header; at the end of the loop
+            AbstractInsnNode backEdge = previousInstruction(endIndex);
+            if (!(backEdge instanceof JumpInsnNode jump) || jump.getOpcode() != Opcodes.GOTO || jump.label != annotation.start.get(0)) {
+                return false;
+            }
+            AbstractInsnNode increment = previousInstruction(indexOf(backEdge));
+            if (!(increment instanceof IincInsnNode iinc) || iinc.var != indexVar || iinc.incr == 0) {
+                return false;
+            }
+            step = iinc.incr;
+            incrementIndex = indexOf(increment);
+            lastBodyIndex = indexOf(previousInstruction(incrementIndex));
+
+            for (int i = 0; i < code.length; i++) {
+                AbstractInsnNode node = code[i];
+                int opcode = node.getOpcode();
+                if (opcode < 0) {
+                    continue;
+                }
+                if (isStore(node) && parameterAt(storedVar(node)) >= 0) {
+                    // Parameters are shared with the other tasks
+                    return false;
+                }
+                if (isPrivateMemberReference(node)) {
+                    return false;
+                }
+                if (i < initIndex) {
+                    hasPreLoopCode = true;
+                    if (!jumpTargets(node).isEmpty() || (opcode >= Opcodes.IRETURN && opcode <= Opcodes.RETURN)) {
+                        return false;
+                    }
+                } else if (i > startIndex && i < headerEndIndex) {
+                    if (!isHeaderInstruction(node)) {
+                        return false;
+                    }
+                } else if (i > headerEndIndex && i < incrementIndex) {
+                    if (isStore(node) && storedVar(node) == indexVar) {
+                        return false;
+                    }
+                    if ((opcode >= Opcodes.IRETURN && opcode <= Opcodes.RETURN) || opcode == Opcodes.PUTSTATIC || opcode == Opcodes.PUTFIELD) {
+                        return false;
+                    }
+                    for (LabelNode target : jumpTargets(node)) {
+                        int targetIndex = indexOf(target);
+                        if (targetIndex <= headerEndIndex || targetIndex >= incrementIndex) {
+                            return false;
+                        }
+                    }
+                } else if (i >= endIndex && opcode != Opcodes.RETURN) {
+                    // Nothing runs after the loop
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean isHeaderInstruction(AbstractInsnNode node) {
+            int opcode = node.getOpcode();
+            if (node instanceof VarInsnNode varInsn) {
+                return opcode >= Opcodes.ILOAD && opcode <= Opcodes.ALOAD && (varInsn.var == indexVar || parameterAt(varInsn.var) >= 0);
+            } else if (node instanceof MethodInsnNode methodInsn) {
+                return isNativeArraySize(methodInsn);
+            } else if (node instanceof LdcInsnNode ldc) {
+                return ldc.cst instanceof Number;
+            }
+            return (opcode >= Opcodes.ICONST_M1 && opcode <= Opcodes.SIPUSH) || (opcode >= Opcodes.IADD && opcode <= Opcodes.LXOR) || (opcode >= Opcodes.I2L && opcode <= Opcodes.I2S)
+                    || opcode == Opcodes.ARRAYLENGTH;
+        }
+
+        private boolean isPrivateMemberReference(AbstractInsnNode node) {
+            if (node instanceof FieldInsnNode fieldInsn) {
+                return fieldInsn.owner.equals(classNode.name) && privateMembers.contains(fieldInsn.name + fieldInsn.desc);
+            } else if (node instanceof MethodInsnNode methodInsn) {
+                return methodInsn.owner.equals(classNode.name) && privateMembers.contains(methodInsn.name + methodInsn.desc);
+            } else if (node instanceof InvokeDynamicInsnNode invokeDynamic) {
+                for (Object argument : invokeDynamic.bsmArgs) {
+                    if (argument instanceof Handle handle && handle.getOwner().equals(classNode.name) && privateMembers.contains(handle.getName() + handle.getDesc())) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean analyseAccesses() {
+            AccessInterpreter interpreter = new AccessInterpreter();
+            try {
+                new Analyzer<>(interpreter).analyze(classNode.name, methodNode);
+            } catch (AnalyzerException e) {
+                return false;
+            }
+            for (Map.Entry<AbstractInsnNode, List<Set<AbstractInsnNode>>> entry : interpreter.operands.entrySet()) {
+                List<Set<AbstractInsnNode>> operands = entry.getValue();
+                for (int position = 0; position < operands.size(); position++) {
+                    classify(entry.getKey(), position, operands);
+                }
+            }
+            return true;
+        }
+
+        private int loadedParameter(AbstractInsnNode node) {
+            if (node instanceof VarInsnNode varInsn && varInsn.getOpcode() == Opcodes.ALOAD) {
+                int parameter = parameterAt(varInsn.var);
+                return parameter >= 0 && isReference(parameterTypes[parameter]) ? parameter : -1;
+            }
+            return -1;
+        }
+
+        private void classify(AbstractInsnNode instruction, int position, List<Set<AbstractInsnNode>> operands) {
+            Set<Integer> parameters = new HashSet<>();
+            boolean hasOtherSources = false;
+            for (AbstractInsnNode source : operands.get(position)) {
+                int parameter = loadedParameter(source);
+                if (parameter >= 0) {
+                    parameters.add(parameter);
+                } else {
+                    hasOtherSources = true;
+                }
+            }
+            if (parameters.isEmpty()) {
+                return;
+            }
+            if (parameters.size() > 1 || hasOtherSources) {
+                // The same value can be one of several objects
+                parameters.forEach(parameter -> accesses.add(new Access(parameter, AccessKind.UNKNOWN, instruction, false, null)));
+                return;
+            }
+
+            int parameter = parameters.iterator().next();
+            int opcode = instruction.getOpcode();
+            if (position == 0 && opcode >= Opcodes.IALOAD && opcode <= Opcodes.SALOAD) {
+                accesses.add(new Access(parameter, AccessKind.READ, instruction, isLoopIndex(operands.get(1)), arrayElementType(opcode - Opcodes.IALOAD)));
+            } else if (position == 0 && opcode >= Opcodes.IASTORE && opcode <= Opcodes.SASTORE) {
+                accesses.add(new Access(parameter, AccessKind.WRITE, instruction, isLoopIndex(operands.get(1)), arrayElementType(opcode - Opcodes.IASTORE)));
+            } else if (position == 0 && opcode == Opcodes.ARRAYLENGTH) {
+                accesses.add(new Access(parameter, AccessKind.SIZE, instruction, false, null));
+            } else if (position == 0 && instruction instanceof MethodInsnNode methodInsn && isNativeArrayAccess(methodInsn)) {
+                Type[] argumentTypes = Type.getArgumentTypes(methodInsn.desc);
+                Type returnType = Type.getReturnType(methodInsn.desc);
+                if (isNativeArraySize(methodInsn)) {
+                    accesses.add(new Access(parameter, AccessKind.SIZE, instruction, false, null));
+                } else if (methodInsn.name.equals("get") && argumentTypes.length == 1 && argumentTypes[0] == Type.INT_TYPE && isPrimitive(returnType)) {
+                    accesses.add(new Access(parameter, AccessKind.READ, instruction, isLoopIndex(operands.get(1)), returnType));
+                } else if (methodInsn.name.equals("set") && argumentTypes.length == 2 && argumentTypes[0] == Type.INT_TYPE && isPrimitive(argumentTypes[1]) && returnType == Type.VOID_TYPE) {
+                    accesses.add(new Access(parameter, AccessKind.WRITE, instruction, isLoopIndex(operands.get(1)), argumentTypes[1]));
+                } else {
+                    accesses.add(new Access(parameter, AccessKind.UNKNOWN, instruction, false, null));
+                }
+            } else {
+                accesses.add(new Access(parameter, AccessKind.UNKNOWN, instruction, false, null));
+            }
+        }
+
+        private static boolean isPrimitive(Type type) {
+            return type.getSort() >= Type.BOOLEAN && type.getSort() <= Type.DOUBLE;
+        }
+
+        private static Type arrayElementType(int offset) {
+            return switch (offset) {
+                case 0 -> Type.INT_TYPE;
+                case 1 -> Type.LONG_TYPE;
+                case 2 -> Type.FLOAT_TYPE;
+                case 3 -> Type.DOUBLE_TYPE;
+                case 5 -> Type.BYTE_TYPE;
+                case 6 -> Type.CHAR_TYPE;
+                case 7 -> Type.SHORT_TYPE;
+                default -> null;
+            };
+        }
+
+        private boolean isLoopIndex(Set<AbstractInsnNode> sources) {
+            if (sources.size() != 1) {
+                return false;
+            }
+            AbstractInsnNode source = sources.iterator().next();
+            return source instanceof VarInsnNode varInsn && varInsn.getOpcode() == Opcodes.ILOAD && varInsn.var == indexVar && indexOf(source) > headerEndIndex && indexOf(source) < incrementIndex;
+        }
+
+        List<AbstractInsnNode> getHeader() {
+            List<AbstractInsnNode> header = new ArrayList<>();
+            for (int i = startIndex + 1; i <= headerEndIndex; i++) {
+                if (code[i].getOpcode() >= 0) {
+                    header.add(code[i]);
+                }
+            }
+            return header;
+        }
+
+        /**
+         * @return the accesses of the task to the argument {@code id}. The accesses
+         *     in the header of the loop are skipped when the header is dropped.
+         */
+        boolean isInHeader(AbstractInsnNode instruction) {
+            int index = indexOf(instruction);
+            return index > startIndex && index <= headerEndIndex;
+        }
+
+        List<Access> getAccesses(int[] ids, int id, boolean dropHeader) {
+            List<Access> result = new ArrayList<>();
+            for (Access access : accesses) {
+                if (ids[access.parameter] == id && !(dropHeader && isInHeader(access.instruction))) {
+                    result.add(access);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * @return true if every iteration of the loop executes the instruction.
+         */
+        boolean isUnconditional(AbstractInsnNode instruction) {
+            int index = indexOf(instruction);
+            for (int i = headerEndIndex + 1; i < index; i++) {
+                if (!jumpTargets(code[i]).isEmpty() || code[i].getOpcode() == Opcodes.ATHROW) {
+                    return false;
+                }
+            }
+            return index > headerEndIndex && index < incrementIndex;
+        }
+    }
+
+    private static boolean isNativeArrayAccess(MethodInsnNode methodInsn) {
+        return (methodInsn.getOpcode() == Opcodes.INVOKEVIRTUAL || methodInsn.getOpcode() == Opcodes.INVOKEINTERFACE) && methodInsn.owner.startsWith(NATIVE_ARRAYS_PACKAGE);
+    }
+
+    private static boolean isNativeArraySize(MethodInsnNode methodInsn) {
+        return isNativeArrayAccess(methodInsn) && methodInsn.name.equals("getSize") && methodInsn.desc.equals("()I");
+    }
+
+    /**
+     * Records the values consumed by every instruction. Duplicating a value on
+     * the stack keeps its sources, so the uses of the copies are attributed to
+     * the original load.
+     */
+    private static final class AccessInterpreter extends SourceInterpreter {
+
+        private final Map<AbstractInsnNode, List<Set<AbstractInsnNode>>> operands = new HashMap<>();
+
+        AccessInterpreter() {
+            super(Opcodes.ASM9);
+        }
+
+        private void record(AbstractInsnNode instruction, List<? extends SourceValue> values) {
+            List<Set<AbstractInsnNode>> recorded = operands.computeIfAbsent(instruction, key -> {
+                List<Set<AbstractInsnNode>> sets = new ArrayList<>();
+                values.forEach(value -> sets.add(new HashSet<>()));
+                return sets;
+            });
+            for (int i = 0; i < values.size(); i++) {
+                recorded.get(i).addAll(values.get(i).insns);
+            }
+        }
+
+        @Override
+        public SourceValue copyOperation(AbstractInsnNode instruction, SourceValue value) {
+            int opcode = instruction.getOpcode();
+            if (opcode >= Opcodes.DUP && opcode <= Opcodes.SWAP) {
+                return value;
+            }
+            if (opcode >= Opcodes.ISTORE && opcode <= Opcodes.ASTORE) {
+                record(instruction, List.of(value));
+            }
+            return super.copyOperation(instruction, value);
+        }
+
+        @Override
+        public SourceValue unaryOperation(AbstractInsnNode instruction, SourceValue value) {
+            record(instruction, List.of(value));
+            return super.unaryOperation(instruction, value);
+        }
+
+        @Override
+        public SourceValue binaryOperation(AbstractInsnNode instruction, SourceValue value1, SourceValue value2) {
+            record(instruction, List.of(value1, value2));
+            return super.binaryOperation(instruction, value1, value2);
+        }
+
+        @Override
+        public SourceValue ternaryOperation(AbstractInsnNode instruction, SourceValue value1, SourceValue value2, SourceValue value3) {
+            record(instruction, List.of(value1, value2, value3));
+            return super.ternaryOperation(instruction, value1, value2, value3);
+        }
+
+        @Override
+        public SourceValue naryOperation(AbstractInsnNode instruction, List<? extends SourceValue> values) {
+            record(instruction, values);
+            return super.naryOperation(instruction, values);
+        }
+
+        @Override
+        public void returnOperation(AbstractInsnNode instruction, SourceValue value, SourceValue expected) {
+            record(instruction, List.of(value));
+            super.returnOperation(instruction, value, expected);
+        }
+    }
+
+    /**
+     * Copies the instructions of one task into the fused method, mapping its
+     * parameters and local variables to the ones of the fused method.
+     */
+    private static final class Emitter {
+
+        private final TaskLoop loop;
+        private final int[] ids;
+        private final boolean isFirstTask;
+        private final InsnList instructions;
+        private final int[] parameterSlots;
+        private final int localBase;
+        private final int indexVar;
+        private final Map<Integer, Type> scalarReplaced;
+        private final Map<Integer, Integer> scalarSlots;
+        private final Map<Integer, Integer> lengthSubstitutes;
+        private final Map<AbstractInsnNode, Access> scalarAccesses = new HashMap<>();
+        private final Map<LabelNode, LabelNode> labels = new HashMap<>();
+        private final LabelNode continueLabel = new LabelNode();
+
+        Emitter(TaskLoop loop, int[] ids, int taskIndex, InsnList instructions, int[] parameterSlots, int localBase, int indexVar, Map<Integer, Type> scalarReplaced,
+                Map<Integer, Integer> scalarSlots, Map<Integer, Integer> lengthSubstitutes) {
+            this.loop = loop;
+            this.ids = ids;
+            this.isFirstTask = taskIndex == 0;
+            this.instructions = instructions;
+            this.parameterSlots = parameterSlots;
+            this.localBase = localBase;
+            this.indexVar = indexVar;
+            this.scalarReplaced = scalarReplaced;
+            this.scalarSlots = scalarSlots;
+            this.lengthSubstitutes = lengthSubstitutes;
+
+            for (int i = 0; i < loop.code.length; i++) {
+                if (loop.code[i] instanceof LabelNode label) {
+                    // Labels after the last instruction of the body are the target of continue
+                    labels.put(label, i > loop.lastBodyIndex && i < loop.incrementIndex ? continueLabel : new LabelNode());
+                }
+            }
+            for (Access access : loop.accesses) {
+                if (scalarReplaced.containsKey(ids[access.parameter]) && access.kind != AccessKind.SIZE) {
+                    scalarAccesses.put(access.instruction, access);
+                }
+            }
+        }
+
+        private int mapLocal(int var) {
+            if (!isFirstTask && var == loop.indexVar) {
+                return indexVar;
+            }
+            return localBase + var - loop.parameterSize;
+        }
+
+        void copy(int from, int to) {
+            for (int i = from; i < to; i++) {
+                AbstractInsnNode node = loop.code[i];
+                if (node instanceof LabelNode label) {
+                    if (labels.get(label) != continueLabel) {
+                        instructions.add(labels.get(label));
+                    }
+                } else if (node instanceof LineNumberNode || node instanceof FrameNode) {
+                    // Debug information and frames of the original method do not apply
+                } else if (node instanceof VarInsnNode varInsn) {
+                    int parameter = loop.parameterAt(varInsn.var);
+                    if (parameter < 0) {
+                        instructions.add(new VarInsnNode(varInsn.getOpcode(), mapLocal(varInsn.var)));
+                    } else if (isFirstTask && lengthSubstitutes.containsKey(ids[parameter]) && loop.isInHeader(node)) {
+                        // The loop bound reads the length of another parameter
+                        instructions.add(new VarInsnNode(varInsn.getOpcode(), parameterSlots[lengthSubstitutes.get(ids[parameter])]));
+                    } else if (scalarReplaced.containsKey(ids[parameter])) {
+                        // Only consumed by the accesses that are replaced below
+                        instructions.add(new InsnNode(Opcodes.ACONST_NULL));
+                    } else {
+                        instructions.add(new VarInsnNode(varInsn.getOpcode(), parameterSlots[ids[parameter]]));
+                    }
+                } else if (node instanceof IincInsnNode iinc) {
+                    instructions.add(new IincInsnNode(mapLocal(iinc.var), iinc.incr));
+                } else if (scalarAccesses.containsKey(node)) {
+                    emitScalarAccess(scalarAccesses.get(node));
+                } else {
+                    instructions.add(node.clone(labels));
+                }
+            }
+        }
+
+        private void emitScalarAccess(Access access) {
+            int slot = scalarSlots.get(ids[access.parameter]);
+            Type elementType = scalarReplaced.get(ids[access.parameter]);
+            if (access.kind == AccessKind.READ) {
+                // Drop the array and the index
+                instructions.add(new InsnNode(Opcodes.POP2));
+                instructions.add(new VarInsnNode(elementType.getOpcode(Opcodes.ILOAD), slot));
+            } else {
+                switch (access.instruction.getOpcode()) {
+                    case Opcodes.BASTORE -> instructions.add(new InsnNode(Opcodes.I2B));
+                    case Opcodes.CASTORE -> instructions.add(new InsnNode(Opcodes.I2C));
+                    case Opcodes.SASTORE -> instructions.add(new InsnNode(Opcodes.I2S));
+                    default -> {
+                    }
+                }
+                instructions.add(new VarInsnNode(elementType.getOpcode(Opcodes.ISTORE), slot));
+                instructions.add(new InsnNode(Opcodes.POP2));
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.annotation;
+
+import uk.ac.manchester.tornado.runtime.common.FusedTaskProvider;
+
+public class FusedTask implements FusedTaskProvider {
+    private final byte[] classFile;
+    private final String methodName;
+    private final Object[] arguments;
+
+    public FusedTask(byte[] classFile, String methodName, Object[] arguments) {
+        this.classFile = classFile;
+        this.methodName = methodName;
+        this.arguments = arguments;
+    }
+
+    @Override
+    public byte[] getClassFile() {
+        return classFile;
+    }
+
+    @Override
+    public String getMethodName() {
+        return methodName;
+    }
+
+    @Override
+    public Object[] getArguments() {
+        return arguments;
+    }
+}
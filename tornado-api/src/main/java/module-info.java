@@ -18,6 +18,8 @@
 module tornado.api {
     exports uk.ac.manchester.tornado.api;
     exports uk.ac.manchester.tornado.api.annotations;
+    exports uk.ac.manchester.tornado.api.algorithms;
+    opens uk.ac.manchester.tornado.api.algorithms;
     exports uk.ac.manchester.tornado.api.common;
     exports uk.ac.manchester.tornado.api.enums;
     exports uk.ac.manchester.tornado.api.exceptions;
@@ -45,4 +47,8 @@ module tornado.api {
     opens uk.ac.manchester.tornado.api.types.volumes;
     exports uk.ac.manchester.tornado.api.types.vectors;
     opens uk.ac.manchester.tornado.api.types.vectors;
+    exports uk.ac.manchester.tornado.api.types.tensors;
+    opens uk.ac.manchester.tornado.api.types.tensors;
+    exports uk.ac.manchester.tornado.api.types.sparse;
+    opens uk.ac.manchester.tornado.api.types.sparse;
 }
@@ -87,4 +87,115 @@ public interface ExecutionContext {
      * @return double[]
      */
     double[] allocateDoubleLocalArray(int size);
+
+    /**
+     * Number of work-items in the sub-group (warp in CUDA terminology) of the
+     * current work-item.
+     *
+     * @return int
+     */
+    int getSubGroupSize();
+
+    /**
+     * Identifier of the work-item within its sub-group, from 0 to
+     * {@link #getSubGroupSize()} - 1.
+     *
+     * @return int
+     */
+    int getSubGroupLocalId();
+
+    /**
+     * Identifier of the sub-group within its work-group.
+     *
+     * @return int
+     */
+    int getSubGroupId();
+
+    /**
+     * It returns the value of the work-item {@code sourceLocalId} of the same
+     * sub-group.
+     */
+    int subGroupShuffle(int value, int sourceLocalId);
+
+    float subGroupShuffle(float value, int sourceLocalId);
+
+    /**
+     * It returns the value of the work-item with sub-group local identifier
+     * {@code getSubGroupLocalId() + delta}. The result is undefined if that
+     * work-item is outside the sub-group.
+     */
+    int subGroupShuffleDown(int value, int delta);
+
+    float subGroupShuffleDown(float value, int delta);
+
+    /**
+     * It returns the value of the work-item with sub-group local identifier
+     * {@code getSubGroupLocalId() - delta}. The result is undefined if that
+     * work-item is outside the sub-group.
+     */
+    int subGroupShuffleUp(int value, int delta);
+
+    float subGroupShuffleUp(float value, int delta);
+
+    /**
+     * It returns the value of the work-item with sub-group local identifier
+     * {@code getSubGroupLocalId() ^ mask}.
+     */
+    int subGroupShuffleXor(int value, int mask);
+
+    float subGroupShuffleXor(float value, int mask);
+
+    /**
+     * It returns the value of the work-item {@code sourceLocalId} to all the
+     * work-items of the sub-group. The identifier must be the same for all of
+     * them.
+     */
+    int subGroupBroadcast(int value, int sourceLocalId);
+
+    float subGroupBroadcast(float value, int sourceLocalId);
+
+    /**
+     * It returns a mask with the bit {@code i} set if the predicate is true for
+     * the work-item {@code i} of the sub-group. The mask holds up to 64
+     * work-items, which covers the sub-groups of the supported GPUs (e.g., 32 on
+     * NVIDIA, 64 on AMD). The work-items from 64 on are not in the mask.
+     */
+    long subGroupBallot(boolean predicate);
+
+    /**
+     * Sum of the values of all the work-items of the sub-group.
+     */
+    int subGroupReduceAdd(int value);
+
+    float subGroupReduceAdd(float value);
+
+    /**
+     * Minimum of the values of all the work-items of the sub-group.
+     */
+    int subGroupReduceMin(int value);
+
+    float subGroupReduceMin(float value);
+
+    /**
+     * Maximum of the values of all the work-items of the sub-group.
+     */
+    int subGroupReduceMax(int value);
+
+    float subGroupReduceMax(float value);
+
+    /**
+     * Sum of the values of the work-items of the sub-group from 0 to the current
+     * work-item, both included.
+     */
+    int subGroupScanInclusiveAdd(int value);
+
+    float subGroupScanInclusiveAdd(float value);
+
+    /**
+     * Sum of the values of the work-items of the sub-group before the current
+     * work-item.
+     */
+    int subGroupScanExclusiveAdd(int value);
+
+    float subGroupScanExclusiveAdd(float value);
 }
@@ -18,10 +18,14 @@
 package uk.ac.manchester.tornado.api;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.Objects;
 
+import uk.ac.manchester.tornado.api.common.DeoptimizationRecord;
 import uk.ac.manchester.tornado.api.common.TornadoDevice;
 import uk.ac.manchester.tornado.api.enums.ProfilerMode;
+import uk.ac.manchester.tornado.api.profiler.LatencyHistogram;
+import uk.ac.manchester.tornado.api.profiler.ProfilerType;
 
 /**
  * A {@link TaskGraph} is encapsulated in this class and all actions over a task
@@ -121,6 +125,22 @@ public class ImmutableTaskGraph {
         return taskGraph.getProfileLog();
     }
 
+    Map<String, Map<ProfilerType, LatencyHistogram>> getLatencyHistograms() {
+        return taskGraph.getLatencyHistograms();
+    }
+
+    void withDeoptimizationBackoff(int maxFailures, long retryAfterMillis) {
+        taskGraph.withDeoptimizationBackoff(maxFailures, retryAfterMillis);
+    }
+
+    Map<String, DeoptimizationRecord> getDeoptimizations() {
+        return taskGraph.getDeoptimizations();
+    }
+
+    void resetDeoptimizations() {
+        taskGraph.resetDeoptimizations();
+    }
+
     boolean isFinished() {
         return taskGraph.isFinished();
     }
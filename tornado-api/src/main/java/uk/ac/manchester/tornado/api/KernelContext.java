@@ -180,4 +180,203 @@ public class KernelContext implements ExecutionContext {
     public double[] allocateDoubleLocalArray(int size) {
         return new double[size];
     }
+
+    /**
+     * It returns the number of work-items of the sub-group (warp in CUDA
+     * terminology). When running in Java, or on devices without sub-groups, each
+     * sub-group has a single work-item.
+     * <p>
+     * OpenCL equivalent: get_sub_group_size();
+     * <p>
+     * PTX equivalent: WARP_SZ
+     */
+    @Override
+    public int getSubGroupSize() {
+        return 1;
+    }
+
+    /**
+     * It returns the identifier of the work-item within its sub-group.
+     * <p>
+     * OpenCL equivalent: get_sub_group_local_id();
+     * <p>
+     * PTX equivalent: %laneid
+     */
+    @Override
+    public int getSubGroupLocalId() {
+        return 0;
+    }
+
+    /**
+     * It returns the identifier of the sub-group within its work-group.
+     * <p>
+     * OpenCL equivalent: get_sub_group_id();
+     * <p>
+     * PTX equivalent: linear thread identifier in the block / WARP_SZ
+     */
+    @Override
+    public int getSubGroupId() {
+        return 0;
+    }
+
+    /**
+     * OpenCL equivalent: sub_group_shuffle(value, sourceLocalId);
+     * <p>
+     * PTX equivalent: shfl.sync.idx.b32
+     */
+    @Override
+    public int subGroupShuffle(int value, int sourceLocalId) {
+        return value;
+    }
+
+    @Override
+    public float subGroupShuffle(float value, int sourceLocalId) {
+        return value;
+    }
+
+    /**
+     * OpenCL equivalent: sub_group_shuffle_down(value, delta);
+     * <p>
+     * PTX equivalent: shfl.sync.down.b32
+     */
+    @Override
+    public int subGroupShuffleDown(int value, int delta) {
+        return value;
+    }
+
+    @Override
+    public float subGroupShuffleDown(float value, int delta) {
+        return value;
+    }
+
+    /**
+     * OpenCL equivalent: sub_group_shuffle_up(value, delta);
+     * <p>
+     * PTX equivalent: shfl.sync.up.b32
+     */
+    @Override
+    public int subGroupShuffleUp(int value, int delta) {
+        return value;
+    }
+
+    @Override
+    public float subGroupShuffleUp(float value, int delta) {
+        return value;
+    }
+
+    /**
+     * OpenCL equivalent: sub_group_shuffle_xor(value, mask);
+     * <p>
+     * PTX equivalent: shfl.sync.bfly.b32
+     */
+    @Override
+    public int subGroupShuffleXor(int value, int mask) {
+        return value;
+    }
+
+    @Override
+    public float subGroupShuffleXor(float value, int mask) {
+        return value;
+    }
+
+    /**
+     * OpenCL equivalent: sub_group_broadcast(value, sourceLocalId);
+     * <p>
+     * PTX equivalent: shfl.sync.idx.b32
+     */
+    @Override
+    public int subGroupBroadcast(int value, int sourceLocalId) {
+        return value;
+    }
+
+    @Override
+    public float subGroupBroadcast(float value, int sourceLocalId) {
+        return value;
+    }
+
+    /**
+     * OpenCL equivalent: two sub_group_reduce_add(predicate ? 1 &lt;&lt; (get_sub_group_local_id() &amp; 31) : 0), for the
+     * work-items 0-31 and 32-63, joined in a long.
+     * <p>
+     * PTX equivalent: butterfly reductions with shfl.sync.bfly.b32
+     */
+    @Override
+    public long subGroupBallot(boolean predicate) {
+        return predicate ? 1 : 0;
+    }
+
+    /**
+     * OpenCL equivalent: sub_group_reduce_add(value);
+     * <p>
+     * PTX equivalent: butterfly reduction with shfl.sync.bfly.b32
+     */
+    @Override
+    public int subGroupReduceAdd(int value) {
+        return value;
+    }
+
+    @Override
+    public float subGroupReduceAdd(float value) {
+        return value;
+    }
+
+    /**
+     * OpenCL equivalent: sub_group_reduce_min(value);
+     * <p>
+     * PTX equivalent: butterfly reduction with shfl.sync.bfly.b32
+     */
+    @Override
+    public int subGroupReduceMin(int value) {
+        return value;
+    }
+
+    @Override
+    public float subGroupReduceMin(float value) {
+        return value;
+    }
+
+    /**
+     * OpenCL equivalent: sub_group_reduce_max(value);
+     * <p>
+     * PTX equivalent: butterfly reduction with shfl.sync.bfly.b32
+     */
+    @Override
+    public int subGroupReduceMax(int value) {
+        return value;
+    }
+
+    @Override
+    public float subGroupReduceMax(float value) {
+        return value;
+    }
+
+    /**
+     * OpenCL equivalent: sub_group_scan_inclusive_add(value);
+     * <p>
+     * PTX equivalent: scan with shfl.sync.up.b32
+     */
+    @Override
+    public int subGroupScanInclusiveAdd(int value) {
+        return value;
+    }
+
+    @Override
+    public float subGroupScanInclusiveAdd(float value) {
+        return value;
+    }
+
+    /**
+     * OpenCL equivalent: sub_group_scan_exclusive_add(value);
+     * <p>
+     * PTX equivalent: scan with shfl.sync.up.b32
+     */
+    @Override
+    public int subGroupScanExclusiveAdd(int value) {
+        return 0;
+    }
+
+    @Override
+    public float subGroupScanExclusiveAdd(float value) {
+        return 0.0f;
+    }
 }
@@ -19,9 +19,11 @@ package uk.ac.manchester.tornado.api;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import uk.ac.manchester.tornado.api.common.Access;
+import uk.ac.manchester.tornado.api.common.DeoptimizationRecord;
 import uk.ac.manchester.tornado.api.common.TaskPackage;
 import uk.ac.manchester.tornado.api.common.TornadoDevice;
 import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task;
@@ -42,6 +44,8 @@ import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task8;
 import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task9;
 import uk.ac.manchester.tornado.api.enums.ProfilerMode;
 import uk.ac.manchester.tornado.api.exceptions.TornadoTaskRuntimeException;
+import uk.ac.manchester.tornado.api.profiler.LatencyHistogram;
+import uk.ac.manchester.tornado.api.profiler.ProfilerType;
 import uk.ac.manchester.tornado.api.runtime.TornadoAPIProvider;
 
 /**
@@ -864,6 +868,22 @@ public class TaskGraph implements TaskGraphInterface {
         return taskGraphImpl.getProfileLog();
     }
 
+    Map<String, Map<ProfilerType, LatencyHistogram>> getLatencyHistograms() {
+        return taskGraphImpl.getLatencyHistograms();
+    }
+
+    void withDeoptimizationBackoff(int maxFailures, long retryAfterMillis) {
+        taskGraphImpl.withDeoptimizationBackoff(maxFailures, retryAfterMillis);
+    }
+
+    Map<String, DeoptimizationRecord> getDeoptimizations() {
+        return taskGraphImpl.getDeoptimizations();
+    }
+
+    void resetDeoptimizations() {
+        taskGraphImpl.resetDeoptimizations();
+    }
+
     public Collection<?> getOutputs() {
         return taskGraphImpl.getOutputs();
     }
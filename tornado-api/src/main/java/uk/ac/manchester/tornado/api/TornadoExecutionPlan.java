@@ -19,12 +19,17 @@ package uk.ac.manchester.tornado.api;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+import uk.ac.manchester.tornado.api.common.DeoptimizationRecord;
 import uk.ac.manchester.tornado.api.common.TornadoDevice;
 import uk.ac.manchester.tornado.api.enums.ProfilerMode;
 import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.api.profiler.LatencyHistogram;
+import uk.ac.manchester.tornado.api.profiler.ProfilerType;
 import uk.ac.manchester.tornado.api.runtime.TornadoRuntime;
 
 /**
@@ -265,6 +270,51 @@ public class TornadoExecutionPlan {
         return this;
     }
 
+    /**
+     * Sets the backoff of the tasks that bail out to Java. After
+     * {@code maxFailures} consecutive bailouts of a task, the task-graph runs
+     * the Java implementation without compiling the task again, until
+     * {@code retryAfterMillis} milliseconds have passed since the last bailout.
+     * By default, the values of the options {@code tornado.deopt.maxFailures}
+     * and {@code tornado.deopt.retryAfter} are used.
+     *
+     * @param maxFailures
+     *     Number of consecutive bailouts before the backoff starts. It must be
+     *     at least 1.
+     * @param retryAfterMillis
+     *     Time, in milliseconds, before the task is compiled again. With a
+     *     negative value, the task is never compiled again.
+     * @return {@link TornadoExecutionPlan}
+     */
+    public TornadoExecutionPlan withDeoptimizationBackoff(int maxFailures, long retryAfterMillis) {
+        if (maxFailures < 1) {
+            throw new TornadoRuntimeException("The number of failures of the deoptimization backoff must be at least 1: " + maxFailures);
+        }
+        tornadoExecutor.withDeoptimizationBackoff(maxFailures, retryAfterMillis);
+        return this;
+    }
+
+    /**
+     * Returns the bailouts to Java of the tasks of the execution plan, indexed by
+     * task id (e.g. {@code s0.t0}). The map is empty if no task bailed out.
+     *
+     * @return {@link Map}
+     */
+    public Map<String, DeoptimizationRecord> getDeoptimizations() {
+        return tornadoExecutor.getDeoptimizations();
+    }
+
+    /**
+     * Forgets the bailouts of the tasks, so that the tasks are compiled again in
+     * the next execution.
+     *
+     * @return {@link TornadoExecutionPlan}
+     */
+    public TornadoExecutionPlan resetDeoptimizations() {
+        tornadoExecutor.resetDeoptimizations();
+        return this;
+    }
+
     static class TornadoExecutor {
 
         private List<ImmutableTaskGraph> immutableTaskGraphList;
@@ -368,6 +418,32 @@ public class TornadoExecutionPlan {
             return immutableTaskGraphList.stream().map(ImmutableTaskGraph::getProfileLog).collect(Collectors.joining());
         }
 
+        Map<String, Map<ProfilerType, LatencyHistogram>> getLatencyHistograms() {
+            Map<String, Map<ProfilerType, LatencyHistogram>> histograms = new LinkedHashMap<>();
+            immutableTaskGraphList.forEach(immutableTaskGraph -> immutableTaskGraph.getLatencyHistograms().forEach((name, types) -> {
+                Map<ProfilerType, LatencyHistogram> merged = histograms.computeIfAbsent(name, k -> new LinkedHashMap<>());
+                types.forEach((type, histogram) -> merged.merge(type, histogram, (a, b) -> {
+                    a.add(b);
+                    return a;
+                }));
+            }));
+            return histograms;
+        }
+
+        void withDeoptimizationBackoff(int maxFailures, long retryAfterMillis) {
+            immutableTaskGraphList.forEach(immutableTaskGraph -> immutableTaskGraph.withDeoptimizationBackoff(maxFailures, retryAfterMillis));
+        }
+
+        Map<String, DeoptimizationRecord> getDeoptimizations() {
+            Map<String, DeoptimizationRecord> deoptimizations = new LinkedHashMap<>();
+            immutableTaskGraphList.forEach(immutableTaskGraph -> deoptimizations.putAll(immutableTaskGraph.getDeoptimizations()));
+            return deoptimizations;
+        }
+
+        void resetDeoptimizations() {
+            immutableTaskGraphList.forEach(ImmutableTaskGraph::resetDeoptimizations);
+        }
+
         void dumpProfiles() {
             immutableTaskGraphList.forEach(ImmutableTaskGraph::dumpProfiles);
         }
@@ -17,9 +17,14 @@
  */
 package uk.ac.manchester.tornado.api;
 
+import java.util.Collections;
+import java.util.Map;
+
 import uk.ac.manchester.tornado.api.TornadoExecutionPlan.TornadoExecutor;
 import uk.ac.manchester.tornado.api.enums.ProfilerMode;
+import uk.ac.manchester.tornado.api.profiler.LatencyHistogram;
 import uk.ac.manchester.tornado.api.profiler.ProfileInterface;
+import uk.ac.manchester.tornado.api.profiler.ProfilerType;
 
 /**
  * Object that stores all information related to profiling an executor. To be
@@ -168,6 +173,47 @@ public class TornadoProfilerResult implements ProfileInterface {
         return executor.getProfileLog();
     }
 
+    /**
+     * Returns the latency histograms accumulated across all executions since the
+     * last {@link TornadoExecutionPlan#clearProfiles()}. The histograms are
+     * indexed by the name of the task or task-graph, and by the timer:
+     *
+     * <ul>
+     * <li>Tasks (e.g., {@code "s0.t0"}): {@link ProfilerType#TASK_KERNEL_TIME}.</li>
+     * <li>Task-graphs (e.g., {@code "s0"}): {@link ProfilerType#COPY_IN_TIME},
+     * {@link ProfilerType#COPY_OUT_TIME},
+     * {@link ProfilerType#TOTAL_DISPATCH_KERNEL_TIME} and
+     * {@link ProfilerType#TOTAL_TASK_GRAPH_TIME}.</li>
+     * </ul>
+     *
+     * <p>
+     * The histograms are only recorded when the profiler is enabled and the
+     * option {@code -Dtornado.profiler.histograms=True} is set. The returned
+     * histograms are copies, so they are not updated by later executions.
+     * </p>
+     *
+     * @return Map of histograms.
+     */
+    public Map<String, Map<ProfilerType, LatencyHistogram>> getLatencyHistograms() {
+        return executor.getLatencyHistograms();
+    }
+
+    /**
+     * Returns the latency histogram of a timer for a task or a task-graph.
+     *
+     * @param name
+     *     Name of the task (e.g., {@code "s0.t0"}) or of the task-graph (e.g.,
+     *     {@code "s0"}).
+     * @param profilerType
+     *     Timer of the histogram (see {@link #getLatencyHistograms()}).
+     * @return {@link LatencyHistogram}. The histogram is empty if no value was
+     *     recorded.
+     */
+    public LatencyHistogram getLatencyHistogram(String name, ProfilerType profilerType) {
+        LatencyHistogram histogram = getLatencyHistograms().getOrDefault(name, Collections.emptyMap()).get(profilerType);
+        return histogram != null ? histogram : new LatencyHistogram();
+    }
+
     TornadoExecutor getExecutor() {
         return executor;
     }
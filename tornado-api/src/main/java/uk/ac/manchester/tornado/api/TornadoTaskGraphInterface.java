@@ -18,16 +18,20 @@
 package uk.ac.manchester.tornado.api;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
 import uk.ac.manchester.tornado.api.common.Access;
+import uk.ac.manchester.tornado.api.common.DeoptimizationRecord;
 import uk.ac.manchester.tornado.api.common.SchedulableTask;
 import uk.ac.manchester.tornado.api.common.TaskPackage;
 import uk.ac.manchester.tornado.api.common.TornadoDevice;
 import uk.ac.manchester.tornado.api.enums.ProfilerMode;
 import uk.ac.manchester.tornado.api.memory.TaskMetaDataInterface;
+import uk.ac.manchester.tornado.api.profiler.LatencyHistogram;
 import uk.ac.manchester.tornado.api.profiler.ProfileInterface;
+import uk.ac.manchester.tornado.api.profiler.ProfilerType;
 
 public interface TornadoTaskGraphInterface extends ProfileInterface {
 
@@ -59,6 +63,14 @@ public interface TornadoTaskGraphInterface extends ProfileInterface {
 
     void clearProfiles();
 
+    Map<String, Map<ProfilerType, LatencyHistogram>> getLatencyHistograms();
+
+    void withDeoptimizationBackoff(int maxFailures, long retryAfterMillis);
+
+    Map<String, DeoptimizationRecord> getDeoptimizations();
+
+    void resetDeoptimizations();
+
     void waitOn();
 
     void transferToDevice(int mode, Object... objects);
@@ -17,12 +17,46 @@
  */
 package uk.ac.manchester.tornado.api;
 
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.VarHandle;
+
 import uk.ac.manchester.tornado.api.internal.annotations.TornadoVMIntrinsic;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
 import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.arrays.LongArray;
+import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
 
+/**
+ * Atomic operations on the elements of the native arrays. The TornadoVM
+ * backends replace the calls with the native atomics of the devices. In Java,
+ * the operations are lock-free and they access the {@link java.lang.foreign.MemorySegment}
+ * of the arrays through {@link VarHandle}s.
+ *
+ * <p>
+ * All the operations, except {@code atomic_cas}, return the value of the
+ * element before the operation. The floating-point comparisons of
+ * {@code atomic_cmpxchg} and {@code atomic_cas} are bitwise.
+ * </p>
+ *
+ * <p>
+ * Like the writes through the memory segment, the operations do not mark the
+ * arrays as modified, so the threads updating the same array do not contend on
+ * its flag. The TornadoVM runtime marks the arrays of the tasks that run on the
+ * host. Other host code must call {@link TornadoNativeArray#markModified()}
+ * once after its atomic updates.
+ * </p>
+ */
 @TornadoVMIntrinsic
 public class TornadoVMIntrinsics {
 
+    private static final VarHandle INT_ELEMENT = ValueLayout.JAVA_INT.arrayElementVarHandle();
+    private static final VarHandle LONG_ELEMENT = ValueLayout.JAVA_LONG.arrayElementVarHandle();
+    private static final VarHandle FLOAT_ELEMENT = ValueLayout.JAVA_FLOAT.arrayElementVarHandle();
+
+    private static long position(int index, int elementBytes) {
+        return TornadoNativeArray.ARRAY_HEADER / elementBytes + index;
+    }
+
     /**
      * Compute (old + value) and store result at location pointed by p. The function returns old.
      *
@@ -31,9 +65,233 @@ public class TornadoVMIntrinsics {
      * @param value
      * @return old value
      */
-    public static synchronized int atomic_add(IntArray array, int index, int value) {
-        int old = array.get(index);
-        array.set(index, array.get(index) + value);
+    public static int atomic_add(IntArray array, int index, int value) {
+        return (int) INT_ELEMENT.getAndAdd(array.getSegment(), position(index, Integer.BYTES), value);
+    }
+
+    /**
+     * Compute (old - value) and store result at location pointed by p. The function returns old.
+     */
+    public static int atomic_sub(IntArray array, int index, int value) {
+        return (int) INT_ELEMENT.getAndAdd(array.getSegment(), position(index, Integer.BYTES), -value);
+    }
+
+    /**
+     * Compute min(old, value) and store result at location pointed by p. The function returns old.
+     */
+    public static int atomic_min(IntArray array, int index, int value) {
+        final long position = position(index, Integer.BYTES);
+        int old;
+        do {
+            old = (int) INT_ELEMENT.getVolatile(array.getSegment(), position);
+        } while (value < old && !INT_ELEMENT.weakCompareAndSet(array.getSegment(), position, old, value));
         return old;
     }
+
+    /**
+     * Compute max(old, value) and store result at location pointed by p. The function returns old.
+     */
+    public static int atomic_max(IntArray array, int index, int value) {
+        final long position = position(index, Integer.BYTES);
+        int old;
+        do {
+            old = (int) INT_ELEMENT.getVolatile(array.getSegment(), position);
+        } while (value > old && !INT_ELEMENT.weakCompareAndSet(array.getSegment(), position, old, value));
+        return old;
+    }
+
+    /**
+     * Compute (old &amp; value) and store result at location pointed by p. The function returns old.
+     */
+    public static int atomic_and(IntArray array, int index, int value) {
+        return (int) INT_ELEMENT.getAndBitwiseAnd(array.getSegment(), position(index, Integer.BYTES), value);
+    }
+
+    /**
+     * Compute (old | value) and store result at location pointed by p. The function returns old.
+     */
+    public static int atomic_or(IntArray array, int index, int value) {
+        return (int) INT_ELEMENT.getAndBitwiseOr(array.getSegment(), position(index, Integer.BYTES), value);
+    }
+
+    /**
+     * Compute (old ^ value) and store result at location pointed by p. The function returns old.
+     */
+    public static int atomic_xor(IntArray array, int index, int value) {
+        return (int) INT_ELEMENT.getAndBitwiseXor(array.getSegment(), position(index, Integer.BYTES), value);
+    }
+
+    /**
+     * Store value at location pointed by p. The function returns old.
+     */
+    public static int atomic_xchg(IntArray array, int index, int value) {
+        return (int) INT_ELEMENT.getAndSet(array.getSegment(), position(index, Integer.BYTES), value);
+    }
+
+    /**
+     * Store value at location pointed by p if old is equal to expected. The function returns old.
+     */
+    public static int atomic_cmpxchg(IntArray array, int index, int expected, int value) {
+        return (int) INT_ELEMENT.compareAndExchange(array.getSegment(), position(index, Integer.BYTES), expected, value);
+    }
+
+    /**
+     * Store value at location pointed by p if old is equal to expected. The function returns true if
+     * the value was stored.
+     */
+    public static boolean atomic_cas(IntArray array, int index, int expected, int value) {
+        return INT_ELEMENT.compareAndSet(array.getSegment(), position(index, Integer.BYTES), expected, value);
+    }
+
+    /**
+     * Compute (old + value) and store result at location pointed by p. The function returns old.
+     */
+    public static long atomic_add(LongArray array, int index, long value) {
+        return (long) LONG_ELEMENT.getAndAdd(array.getSegment(), position(index, Long.BYTES), value);
+    }
+
+    /**
+     * Compute (old - value) and store result at location pointed by p. The function returns old.
+     */
+    public static long atomic_sub(LongArray array, int index, long value) {
+        return (long) LONG_ELEMENT.getAndAdd(array.getSegment(), position(index, Long.BYTES), -value);
+    }
+
+    /**
+     * Compute min(old, value) and store result at location pointed by p. The function returns old.
+     */
+    public static long atomic_min(LongArray array, int index, long value) {
+        final long position = position(index, Long.BYTES);
+        long old;
+        do {
+            old = (long) LONG_ELEMENT.getVolatile(array.getSegment(), position);
+        } while (value < old && !LONG_ELEMENT.weakCompareAndSet(array.getSegment(), position, old, value));
+        return old;
+    }
+
+    /**
+     * Compute max(old, value) and store result at location pointed by p. The function returns old.
+     */
+    public static long atomic_max(LongArray array, int index, long value) {
+        final long position = position(index, Long.BYTES);
+        long old;
+        do {
+            old = (long) LONG_ELEMENT.getVolatile(array.getSegment(), position);
+        } while (value > old && !LONG_ELEMENT.weakCompareAndSet(array.getSegment(), position, old, value));
+        return old;
+    }
+
+    /**
+     * Compute (old &amp; value) and store result at location pointed by p. The function returns old.
+     */
+    public static long atomic_and(LongArray array, int index, long value) {
+        return (long) LONG_ELEMENT.getAndBitwiseAnd(array.getSegment(), position(index, Long.BYTES), value);
+    }
+
+    /**
+     * Compute (old | value) and store result at location pointed by p. The function returns old.
+     */
+    public static long atomic_or(LongArray array, int index, long value) {
+        return (long) LONG_ELEMENT.getAndBitwiseOr(array.getSegment(), position(index, Long.BYTES), value);
+    }
+
+    /**
+     * Compute (old ^ value) and store result at location pointed by p. The function returns old.
+     */
+    public static long atomic_xor(LongArray array, int index, long value) {
+        return (long) LONG_ELEMENT.getAndBitwiseXor(array.getSegment(), position(index, Long.BYTES), value);
+    }
+
+    /**
+     * Store value at location pointed by p. The function returns old.
+     */
+    public static long atomic_xchg(LongArray array, int index, long value) {
+        return (long) LONG_ELEMENT.getAndSet(array.getSegment(), position(index, Long.BYTES), value);
+    }
+
+    /**
+     * Store value at location pointed by p if old is equal to expected. The function returns old.
+     */
+    public static long atomic_cmpxchg(LongArray array, int index, long expected, long value) {
+        return (long) LONG_ELEMENT.compareAndExchange(array.getSegment(), position(index, Long.BYTES), expected, value);
+    }
+
+    /**
+     * Store value at location pointed by p if old is equal to expected. The function returns true if
+     * the value was stored.
+     */
+    public static boolean atomic_cas(LongArray array, int index, long expected, long value) {
+        return LONG_ELEMENT.compareAndSet(array.getSegment(), position(index, Long.BYTES), expected, value);
+    }
+
+    /**
+     * Compute (old + value) and store result at location pointed by p. The function returns old.
+     *
+     * <p>
+     * The devices do not provide floating-point atomics, so the operation is a
+     * compare-and-swap loop. The same code runs on the host and on the devices.
+     * </p>
+     */
+    public static float atomic_add(FloatArray array, int index, float value) {
+        float old;
+        do {
+            old = array.get(index);
+        } while (!atomic_cas(array, index, old, old + value));
+        return old;
+    }
+
+    /**
+     * Compute (old - value) and store result at location pointed by p. The function returns old.
+     */
+    public static float atomic_sub(FloatArray array, int index, float value) {
+        float old;
+        do {
+            old = array.get(index);
+        } while (!atomic_cas(array, index, old, old - value));
+        return old;
+    }
+
+    /**
+     * Compute min(old, value) and store result at location pointed by p. The function returns old.
+     */
+    public static float atomic_min(FloatArray array, int index, float value) {
+        float old;
+        do {
+            old = array.get(index);
+        } while (!atomic_cas(array, index, old, Math.min(old, value)));
+        return old;
+    }
+
+    /**
+     * Compute max(old, value) and store result at location pointed by p. The function returns old.
+     */
+    public static float atomic_max(FloatArray array, int index, float value) {
+        float old;
+        do {
+            old = array.get(index);
+        } while (!atomic_cas(array, index, old, Math.max(old, value)));
+        return old;
+    }
+
+    /**
+     * Store value at location pointed by p. The function returns old.
+     */
+    public static float atomic_xchg(FloatArray array, int index, float value) {
+        return (float) FLOAT_ELEMENT.getAndSet(array.getSegment(), position(index, Float.BYTES), value);
+    }
+
+    /**
+     * Store value at location pointed by p if old is bitwise equal to expected. The function returns old.
+     */
+    public static float atomic_cmpxchg(FloatArray array, int index, float expected, float value) {
+        return (float) FLOAT_ELEMENT.compareAndExchange(array.getSegment(), position(index, Float.BYTES), expected, value);
+    }
+
+    /**
+     * Store value at location pointed by p if old is bitwise equal to expected. The function returns
+     * true if the value was stored.
+     */
+    public static boolean atomic_cas(FloatArray array, int index, float expected, float value) {
+        return FLOAT_ELEMENT.compareAndSet(array.getSegment(), position(index, Float.BYTES), expected, value);
+    }
 }
@@ -0,0 +1,454 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.algorithms;
+
+import java.util.function.IntFunction;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task11;
+import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task7;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.arrays.LongArray;
+import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
+
+/**
+ * Device-wide least-significant-digit radix sort of the native arrays, with
+ * optional {@link IntArray} payloads (e.g., the indices of the keys).
+ *
+ * <p>
+ * Each pass sorts the keys by a digit of {@link #RADIX_BITS} bits, from the
+ * least significant one:
+ * <ul>
+ * <li>each work-group ranks the keys of its block with a local scan of
+ * per-digit flags: the rank of a key is the number of keys with the same digit
+ * before it in the block, and the last element of the scan gives the counts of
+ * the digits of the block;</li>
+ * <li>an exclusive {@link Scan} of the counts, stored digit by digit, gives the
+ * first position of the keys of each digit and block;</li>
+ * <li>each key is moved to its position plus its rank, so the passes are
+ * stable.</li>
+ * </ul>
+ * The passes alternate between the arrays and a temporary buffer, and the
+ * number of passes is even, so the sorted keys and payloads end in the given
+ * arrays. The tasks are added to a user {@link TaskGraph}, so the sort composes
+ * with other tasks without leaving the device. The grids of the tasks are
+ * registered in the given {@link GridScheduler}.
+ * </p>
+ *
+ * <p>
+ * The segmented sort sorts each segment of the keys independently. It sorts
+ * 64-bit keys made of the index of the segment and the key.
+ * </p>
+ */
+public final class RadixSort {
+
+    public static final int RADIX_BITS = 4;
+
+    public static final int RADIX = 1 << RADIX_BITS;
+
+    private static final int RADIX_MASK = RADIX - 1;
+
+    private static final int BLOCK_SIZE = Scan.BLOCK_SIZE;
+
+    private static final int LANE_BITS = 16;
+
+    private static final int LANE_MASK = (1 << LANE_BITS) - 1;
+
+    private static final int DIGITS_PER_GROUP = Long.SIZE / LANE_BITS;
+
+    private static final int DIGIT_GROUPS = RADIX / DIGITS_PER_GROUP;
+
+    private static final Kernels<IntArray> INT_KERNELS = new Kernels<>(RadixSort::countDigits, RadixSort::scatter, IntArray::new, Integer.SIZE);
+    private static final Kernels<LongArray> LONG_KERNELS = new Kernels<>(RadixSort::countDigits, RadixSort::scatter, LongArray::new, Long.SIZE);
+    private static final Kernels<FloatArray> FLOAT_KERNELS = new Kernels<>(RadixSort::countDigits, RadixSort::scatter, FloatArray::new, Float.SIZE);
+
+    private RadixSort() {
+    }
+
+    /**
+     * Kernels and allocator of the sort of one type of keys.
+     */
+    private record Kernels<K extends TornadoNativeArray>(Task7<KernelContext, K, IntArray, IntArray, Integer, Integer, Integer> countDigits, //
+            Task11<KernelContext, K, K, IntArray, IntArray, IntArray, IntArray, Integer, Integer, Integer, Integer> scatter, //
+            IntFunction<K> allocator, //
+            int keyBits) {
+    }
+
+    /**
+     * The sign bit is flipped, so the negative keys are sorted before the
+     * positive ones.
+     */
+    private static int digit(int key, int shift) {
+        return ((key ^ Integer.MIN_VALUE) >>> shift) & RADIX_MASK;
+    }
+
+    private static int digit(long key, int shift) {
+        return (int) ((key ^ Long.MIN_VALUE) >>> shift) & RADIX_MASK;
+    }
+
+    /**
+     * The bits of the negative floats are inverted, and the sign bit of the
+     * positive floats is flipped, so the bits are sorted as integers.
+     */
+    private static int digit(float key, int shift) {
+        int bits = Float.floatToRawIntBits(key);
+        int sortable = bits ^ ((bits >> 31) | Integer.MIN_VALUE);
+        return (sortable >>> shift) & RADIX_MASK;
+    }
+
+    /**
+     * Flags of the digits {@code group * DIGITS_PER_GROUP} to
+     * {@code (group + 1) * DIGITS_PER_GROUP - 1}, packed in lanes of
+     * {@link #LANE_BITS} bits: the lane of {@code digit} is 1 if the digit is in
+     * the group. The sums of the flags of a block fit in the lanes, so the scan of
+     * the packed flags counts the digits of a group at once.
+     */
+    private static long digitFlag(int digit, int group) {
+        return digit / DIGITS_PER_GROUP == group ? 1L << ((digit % DIGITS_PER_GROUP) * LANE_BITS) : 0L;
+    }
+
+    /**
+     * @return the lane of {@code digit} in the packed sums of its group.
+     */
+    private static int digitCount(long flags, int digit) {
+        return (int) (flags >>> ((digit % DIGITS_PER_GROUP) * LANE_BITS)) & LANE_MASK;
+    }
+
+    /**
+     * Ranks the keys of each block by digit with a local scan of per-digit flags
+     * (see {@link #digitFlag}), as {@link Scan#blockScan} scans a block. The rank
+     * of each key, the number of keys with the same digit before it in the block,
+     * is stored in {@code ranks}. The last element of the scan holds the counts
+     * of the block: the count of digit {@code d} in block {@code b} is stored at
+     * {@code d * numBlocks + b}.
+     */
+    public static void countDigits(KernelContext context, IntArray keys, IntArray counts, IntArray ranks, int size, int shift, int numBlocks) {
+        long[] flags = context.allocateLongLocalArray(BLOCK_SIZE * DIGIT_GROUPS);
+        int localId = context.localIdx;
+        int i = context.globalIdx;
+        // The keys after the end are not counted
+        int digit = i < size ? digit(keys.get(i), shift) : RADIX;
+        for (int group = 0; group < DIGIT_GROUPS; group++) {
+            flags[group * BLOCK_SIZE + localId] = digitFlag(digit, group);
+        }
+        for (int group = 0; group < DIGIT_GROUPS; group++) {
+            int base = group * BLOCK_SIZE;
+            for (int offset = 1; offset < BLOCK_SIZE; offset *= 2) {
+                context.localBarrier();
+                long previous = localId >= offset ? flags[base + localId - offset] : 0L;
+                context.localBarrier();
+                flags[base + localId] += previous;
+            }
+        }
+        context.localBarrier();
+        if (i < size) {
+            ranks.set(i, digitCount(flags[(digit / DIGITS_PER_GROUP) * BLOCK_SIZE + localId], digit) - 1);
+        }
+        if (localId < RADIX) {
+            counts.set(localId * numBlocks + context.groupIdx, digitCount(flags[(localId / DIGITS_PER_GROUP) * BLOCK_SIZE + BLOCK_SIZE - 1], localId));
+        }
+    }
+
+    public static void countDigits(KernelContext context, LongArray keys, IntArray counts, IntArray ranks, int size, int shift, int numBlocks) {
+        long[] flags = context.allocateLongLocalArray(BLOCK_SIZE * DIGIT_GROUPS);
+        int localId = context.localIdx;
+        int i = context.globalIdx;
+        // The keys after the end are not counted
+        int digit = i < size ? digit(keys.get(i), shift) : RADIX;
+        for (int group = 0; group < DIGIT_GROUPS; group++) {
+            flags[group * BLOCK_SIZE + localId] = digitFlag(digit, group);
+        }
+        for (int group = 0; group < DIGIT_GROUPS; group++) {
+            int base = group * BLOCK_SIZE;
+            for (int offset = 1; offset < BLOCK_SIZE; offset *= 2) {
+                context.localBarrier();
+                long previous = localId >= offset ? flags[base + localId - offset] : 0L;
+                context.localBarrier();
+                flags[base + localId] += previous;
+            }
+        }
+        context.localBarrier();
+        if (i < size) {
+            ranks.set(i, digitCount(flags[(digit / DIGITS_PER_GROUP) * BLOCK_SIZE + localId], digit) - 1);
+        }
+        if (localId < RADIX) {
+            counts.set(localId * numBlocks + context.groupIdx, digitCount(flags[(localId / DIGITS_PER_GROUP) * BLOCK_SIZE + BLOCK_SIZE - 1], localId));
+        }
+    }
+
+    public static void countDigits(KernelContext context, FloatArray keys, IntArray counts, IntArray ranks, int size, int shift, int numBlocks) {
+        long[] flags = context.allocateLongLocalArray(BLOCK_SIZE * DIGIT_GROUPS);
+        int localId = context.localIdx;
+        int i = context.globalIdx;
+        // The keys after the end are not counted
+        int digit = i < size ? digit(keys.get(i), shift) : RADIX;
+        for (int group = 0; group < DIGIT_GROUPS; group++) {
+            flags[group * BLOCK_SIZE + localId] = digitFlag(digit, group);
+        }
+        for (int group = 0; group < DIGIT_GROUPS; group++) {
+            int base = group * BLOCK_SIZE;
+            for (int offset = 1; offset < BLOCK_SIZE; offset *= 2) {
+                context.localBarrier();
+                long previous = localId >= offset ? flags[base + localId - offset] : 0L;
+                context.localBarrier();
+                flags[base + localId] += previous;
+            }
+        }
+        context.localBarrier();
+        if (i < size) {
+            ranks.set(i, digitCount(flags[(digit / DIGITS_PER_GROUP) * BLOCK_SIZE + localId], digit) - 1);
+        }
+        if (localId < RADIX) {
+            counts.set(localId * numBlocks + context.groupIdx, digitCount(flags[(localId / DIGITS_PER_GROUP) * BLOCK_SIZE + BLOCK_SIZE - 1], localId));
+        }
+    }
+
+    /**
+     * Moves each key, and its payload if {@code hasValues} is 1, to the first
+     * position of its digit and block plus its rank in the block.
+     */
+    public static void scatter(KernelContext context, IntArray keysIn, IntArray keysOut, IntArray valuesIn, IntArray valuesOut, IntArray offsets, IntArray ranks, int size, int shift, int numBlocks,
+            int hasValues) {
+        int i = context.globalIdx;
+        if (i < size) {
+            int digit = digit(keysIn.get(i), shift);
+            int position = offsets.get(digit * numBlocks + context.groupIdx) + ranks.get(i);
+            keysOut.set(position, keysIn.get(i));
+            if (hasValues == 1) {
+                valuesOut.set(position, valuesIn.get(i));
+            }
+        }
+    }
+
+    public static void scatter(KernelContext context, LongArray keysIn, LongArray keysOut, IntArray valuesIn, IntArray valuesOut, IntArray offsets, IntArray ranks, int size, int shift, int numBlocks,
+            int hasValues) {
+        int i = context.globalIdx;
+        if (i < size) {
+            int digit = digit(keysIn.get(i), shift);
+            int position = offsets.get(digit * numBlocks + context.groupIdx) + ranks.get(i);
+            keysOut.set(position, keysIn.get(i));
+            if (hasValues == 1) {
+                valuesOut.set(position, valuesIn.get(i));
+            }
+        }
+    }
+
+    public static void scatter(KernelContext context, FloatArray keysIn, FloatArray keysOut, IntArray valuesIn, IntArray valuesOut, IntArray offsets, IntArray ranks, int size, int shift, int numBlocks,
+            int hasValues) {
+        int i = context.globalIdx;
+        if (i < size) {
+            int digit = digit(keysIn.get(i), shift);
+            int position = offsets.get(digit * numBlocks + context.groupIdx) + ranks.get(i);
+            keysOut.set(position, keysIn.get(i));
+            if (hasValues == 1) {
+                valuesOut.set(position, valuesIn.get(i));
+            }
+        }
+    }
+
+    /**
+     * @return the index of the segment of element {@code i}, the last segment
+     *     that starts at or before {@code i}.
+     */
+    private static long findSegment(IntArray segmentOffsets, int numSegments, int i) {
+        int low = 0;
+        int high = numSegments - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (segmentOffsets.get(middle) <= i) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Builds the keys of the segmented sort: the index of the segment in the high
+     * bits, and the key, with the sign bit flipped, in the low bits.
+     */
+    public static void encodeSegmentedKeys(KernelContext context, IntArray keys, IntArray segmentOffsets, LongArray segmentedKeys, int numSegments, int size) {
+        int i = context.globalIdx;
+        if (i < size) {
+            long segment = findSegment(segmentOffsets, numSegments, i);
+            segmentedKeys.set(i, (segment << 32) | ((keys.get(i) ^ Integer.MIN_VALUE) & 0xFFFFFFFFL));
+        }
+    }
+
+    public static void encodeSegmentedKeys(KernelContext context, FloatArray keys, IntArray segmentOffsets, LongArray segmentedKeys, int numSegments, int size) {
+        int i = context.globalIdx;
+        if (i < size) {
+            long segment = findSegment(segmentOffsets, numSegments, i);
+            int bits = Float.floatToRawIntBits(keys.get(i));
+            int sortable = bits ^ ((bits >> 31) | Integer.MIN_VALUE);
+            segmentedKeys.set(i, (segment << 32) | (sortable & 0xFFFFFFFFL));
+        }
+    }
+
+    public static void decodeSegmentedKeys(KernelContext context, LongArray segmentedKeys, IntArray keys, int size) {
+        int i = context.globalIdx;
+        if (i < size) {
+            keys.set(i, ((int) segmentedKeys.get(i)) ^ Integer.MIN_VALUE);
+        }
+    }
+
+    public static void decodeSegmentedKeys(KernelContext context, LongArray segmentedKeys, FloatArray keys, int size) {
+        int i = context.globalIdx;
+        if (i < size) {
+            int sortable = (int) segmentedKeys.get(i);
+            int bits = sortable < 0 ? sortable ^ Integer.MIN_VALUE : ~sortable;
+            keys.set(i, Float.intBitsToFloat(bits));
+        }
+    }
+
+    /**
+     * Adds the tasks that sort {@code keys} in ascending order to the task-graph.
+     * The names of the tasks start with {@code id}.
+     */
+    public static TaskGraph sort(TaskGraph taskGraph, GridScheduler gridScheduler, String id, IntArray keys) {
+        return addSortTasks(taskGraph, gridScheduler, id, INT_KERNELS, keys, null, INT_KERNELS.keyBits());
+    }
+
+    /**
+     * Adds the tasks that sort {@code keys} in ascending order, and move the
+     * {@code values} with their keys, to the task-graph. The names of the tasks
+     * start with {@code id}.
+     */
+    public static TaskGraph sort(TaskGraph taskGraph, GridScheduler gridScheduler, String id, IntArray keys, IntArray values) {
+        return addSortTasks(taskGraph, gridScheduler, id, INT_KERNELS, keys, values, INT_KERNELS.keyBits());
+    }
+
+    public static TaskGraph sort(TaskGraph taskGraph, GridScheduler gridScheduler, String id, LongArray keys) {
+        return addSortTasks(taskGraph, gridScheduler, id, LONG_KERNELS, keys, null, LONG_KERNELS.keyBits());
+    }
+
+    public static TaskGraph sort(TaskGraph taskGraph, GridScheduler gridScheduler, String id, LongArray keys, IntArray values) {
+        return addSortTasks(taskGraph, gridScheduler, id, LONG_KERNELS, keys, values, LONG_KERNELS.keyBits());
+    }
+
+    public static TaskGraph sort(TaskGraph taskGraph, GridScheduler gridScheduler, String id, FloatArray keys) {
+        return addSortTasks(taskGraph, gridScheduler, id, FLOAT_KERNELS, keys, null, FLOAT_KERNELS.keyBits());
+    }
+
+    public static TaskGraph sort(TaskGraph taskGraph, GridScheduler gridScheduler, String id, FloatArray keys, IntArray values) {
+        return addSortTasks(taskGraph, gridScheduler, id, FLOAT_KERNELS, keys, values, FLOAT_KERNELS.keyBits());
+    }
+
+    /**
+     * Adds the tasks that sort each segment of {@code keys} in ascending order to
+     * the task-graph. Segment {@code s} holds the keys from
+     * {@code segmentOffsets[s]} to {@code segmentOffsets[s + 1]}, so the offsets
+     * have one more element than the number of segments. {@code values} can be
+     * {@code null}.
+     */
+    public static TaskGraph sortSegments(TaskGraph taskGraph, GridScheduler gridScheduler, String id, IntArray keys, IntArray values, IntArray segmentOffsets) {
+        LongArray segmentedKeys = createSegmentedKeys(taskGraph, gridScheduler, id, keys, segmentOffsets);
+        taskGraph.task(id + "Encode", RadixSort::encodeSegmentedKeys, new KernelContext(), keys, segmentOffsets, segmentedKeys, segmentOffsets.getSize() - 1, keys.getSize());
+        addSortTasks(taskGraph, gridScheduler, id, LONG_KERNELS, segmentedKeys, values, getSegmentedKeyBits(segmentOffsets));
+        taskGraph.task(id + "Decode", RadixSort::decodeSegmentedKeys, new KernelContext(), segmentedKeys, keys, keys.getSize());
+        return taskGraph;
+    }
+
+    public static TaskGraph sortSegments(TaskGraph taskGraph, GridScheduler gridScheduler, String id, FloatArray keys, IntArray values, IntArray segmentOffsets) {
+        LongArray segmentedKeys = createSegmentedKeys(taskGraph, gridScheduler, id, keys, segmentOffsets);
+        taskGraph.task(id + "Encode", RadixSort::encodeSegmentedKeys, new KernelContext(), keys, segmentOffsets, segmentedKeys, segmentOffsets.getSize() - 1, keys.getSize());
+        addSortTasks(taskGraph, gridScheduler, id, LONG_KERNELS, segmentedKeys, values, getSegmentedKeyBits(segmentOffsets));
+        taskGraph.task(id + "Decode", RadixSort::decodeSegmentedKeys, new KernelContext(), segmentedKeys, keys, keys.getSize());
+        return taskGraph;
+    }
+
+    /**
+     * Allocates the keys of the segmented sort and registers the grids of the
+     * encoding and decoding tasks.
+     */
+    private static LongArray createSegmentedKeys(TaskGraph taskGraph, GridScheduler gridScheduler, String id, TornadoNativeArray keys, IntArray segmentOffsets) {
+        if (segmentOffsets.getSize() < 2) {
+            throw new TornadoRuntimeException("The segment offsets need at least two elements: the start and the end of the first segment");
+        }
+        LongArray segmentedKeys = new LongArray(keys.getSize());
+        taskGraph.transferToDevice(DataTransferMode.FIRST_EXECUTION, segmentedKeys);
+        int numBlocks = Scan.numBlocks(keys.getSize());
+        gridScheduler.setWorkerGrid(taskGraph.getTaskGraphName() + "." + id + "Encode", Scan.createWorkerGrid(numBlocks));
+        gridScheduler.setWorkerGrid(taskGraph.getTaskGraphName() + "." + id + "Decode", Scan.createWorkerGrid(numBlocks));
+        return segmentedKeys;
+    }
+
+    /**
+     * @return the number of bits of the keys and of the indices of the segments.
+     */
+    private static int getSegmentedKeyBits(IntArray segmentOffsets) {
+        int numSegments = segmentOffsets.getSize() - 1;
+        return Integer.SIZE + (Integer.SIZE - Integer.numberOfLeadingZeros(numSegments - 1));
+    }
+
+    private static <K extends TornadoNativeArray> TaskGraph addSortTasks(TaskGraph taskGraph, GridScheduler gridScheduler, String id, Kernels<K> kernels, K keys, IntArray values, int keyBits) {
+        final int size = keys.getSize();
+        if (values != null && values.getSize() != size) {
+            throw new TornadoRuntimeException("The keys and the values of the sort have different sizes: " + size + " and " + values.getSize());
+        }
+        if (size == 0) {
+            return taskGraph;
+        }
+        final int numBlocks = Scan.numBlocks(size);
+        final boolean hasValues = values != null;
+
+        K temporaryKeys = kernels.allocator().apply(size);
+        IntArray valuesIn = hasValues ? values : new IntArray(1);
+        IntArray valuesOut = new IntArray(hasValues ? size : 1);
+        IntArray counts = new IntArray(RADIX * numBlocks);
+        IntArray offsets = new IntArray(RADIX * numBlocks);
+        IntArray ranks = new IntArray(size);
+        taskGraph.transferToDevice(DataTransferMode.FIRST_EXECUTION, temporaryKeys, valuesIn, valuesOut, counts, offsets, ranks);
+
+        // An even number of passes leaves the sorted keys in the input array
+        int passes = (keyBits + RADIX_BITS - 1) / RADIX_BITS;
+        passes += passes % 2;
+
+        K keysIn = keys;
+        K keysOut = temporaryKeys;
+        for (int pass = 0; pass < passes; pass++) {
+            int shift = pass * RADIX_BITS;
+
+            String countTask = id + "Count" + pass;
+            taskGraph.task(countTask, kernels.countDigits(), new KernelContext(), keysIn, counts, ranks, size, shift, numBlocks);
+            gridScheduler.setWorkerGrid(taskGraph.getTaskGraphName() + "." + countTask, Scan.createWorkerGrid(numBlocks));
+
+            Scan.exclusive(taskGraph, gridScheduler, id + "Offsets" + pass, counts, offsets);
+
+            String scatterTask = id + "Scatter" + pass;
+            taskGraph.task(scatterTask, kernels.scatter(), new KernelContext(), keysIn, keysOut, valuesIn, valuesOut, offsets, ranks, size, shift, numBlocks, hasValues ? 1 : 0);
+            gridScheduler.setWorkerGrid(taskGraph.getTaskGraphName() + "." + scatterTask, Scan.createWorkerGrid(numBlocks));
+
+            K nextKeys = keysIn;
+            keysIn = keysOut;
+            keysOut = nextKeys;
+            if (hasValues) {
+                IntArray nextValues = valuesIn;
+                valuesIn = valuesOut;
+                valuesOut = nextValues;
+            }
+        }
+        return taskGraph;
+    }
+}
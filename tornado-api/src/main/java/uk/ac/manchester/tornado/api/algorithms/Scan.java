@@ -0,0 +1,412 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.algorithms;
+
+import java.lang.foreign.MemorySegment;
+import java.util.function.IntFunction;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.WorkerGrid;
+import uk.ac.manchester.tornado.api.WorkerGrid1D;
+import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task5;
+import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task6;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.api.types.arrays.DoubleArray;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.arrays.LongArray;
+import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
+
+/**
+ * Device-wide parallel prefix sum (scan) of the native arrays.
+ *
+ * <p>
+ * The scan runs in three phases. Each work-group scans a block of
+ * {@link #BLOCK_SIZE} elements in local memory and stores the sum of the
+ * block. The sums of the blocks are scanned with the same kernels, recursively
+ * until they fit in a single block. Finally, the scanned sums are added to the
+ * elements of the following blocks.
+ * </p>
+ *
+ * <p>
+ * The tasks of a scan can be added to a user {@link TaskGraph} (e.g.,
+ * {@link #inclusive(TaskGraph, GridScheduler, String, IntArray, IntArray)}),
+ * so they run with the rest of the application. The grid of each task is
+ * registered in the given {@link GridScheduler}, which must be passed to the
+ * execution plan. Inputs larger than the memory of the device are scanned in
+ * batches with {@link #inclusive(IntArray, IntArray, int)}: the sum of each
+ * batch is carried on to the next one.
+ * </p>
+ */
+public final class Scan {
+
+    /**
+     * Number of elements scanned by each work-group.
+     */
+    public static final int BLOCK_SIZE = 256;
+
+    private static final Kernels<IntArray> INT_KERNELS = new Kernels<>(Scan::blockScan, Scan::addBlockOffsets, IntArray::new);
+    private static final Kernels<LongArray> LONG_KERNELS = new Kernels<>(Scan::blockScan, Scan::addBlockOffsets, LongArray::new);
+    private static final Kernels<FloatArray> FLOAT_KERNELS = new Kernels<>(Scan::blockScan, Scan::addBlockOffsets, FloatArray::new);
+    private static final Kernels<DoubleArray> DOUBLE_KERNELS = new Kernels<>(Scan::blockScan, Scan::addBlockOffsets, DoubleArray::new);
+
+    private Scan() {
+    }
+
+    /**
+     * Kernels and allocator of the scan of one type of native array.
+     */
+    private record Kernels<T extends TornadoNativeArray>(Task6<KernelContext, T, T, T, Integer, Integer> blockScan, //
+            Task5<KernelContext, T, T, T, Integer> addBlockOffsets, //
+            IntFunction<T> allocator) {
+    }
+
+    /**
+     * Scans a block of {@link #BLOCK_SIZE} elements in local memory and stores
+     * the sum of the block in {@code blockSums}. The input and the output can be
+     * the same array.
+     *
+     * @param exclusive
+     *     1 for an exclusive scan, 0 for an inclusive scan.
+     */
+    public static void blockScan(KernelContext context, IntArray input, IntArray output, IntArray blockSums, int size, int exclusive) {
+        int[] local = context.allocateIntLocalArray(BLOCK_SIZE);
+        int localId = context.localIdx;
+        int i = context.globalIdx;
+        local[localId] = i < size ? input.get(i) : 0;
+        for (int offset = 1; offset < BLOCK_SIZE; offset *= 2) {
+            context.localBarrier();
+            int previous = localId >= offset ? local[localId - offset] : 0;
+            context.localBarrier();
+            local[localId] += previous;
+        }
+        context.localBarrier();
+        if (i < size) {
+            if (exclusive == 0) {
+                output.set(i, local[localId]);
+            } else {
+                output.set(i, localId == 0 ? 0 : local[localId - 1]);
+            }
+        }
+        if (localId == BLOCK_SIZE - 1) {
+            blockSums.set(context.groupIdx, local[localId]);
+        }
+    }
+
+    public static void blockScan(KernelContext context, LongArray input, LongArray output, LongArray blockSums, int size, int exclusive) {
+        long[] local = context.allocateLongLocalArray(BLOCK_SIZE);
+        int localId = context.localIdx;
+        int i = context.globalIdx;
+        local[localId] = i < size ? input.get(i) : 0L;
+        for (int offset = 1; offset < BLOCK_SIZE; offset *= 2) {
+            context.localBarrier();
+            long previous = localId >= offset ? local[localId - offset] : 0L;
+            context.localBarrier();
+            local[localId] += previous;
+        }
+        context.localBarrier();
+        if (i < size) {
+            if (exclusive == 0) {
+                output.set(i, local[localId]);
+            } else {
+                output.set(i, localId == 0 ? 0L : local[localId - 1]);
+            }
+        }
+        if (localId == BLOCK_SIZE - 1) {
+            blockSums.set(context.groupIdx, local[localId]);
+        }
+    }
+
+    public static void blockScan(KernelContext context, FloatArray input, FloatArray output, FloatArray blockSums, int size, int exclusive) {
+        float[] local = context.allocateFloatLocalArray(BLOCK_SIZE);
+        int localId = context.localIdx;
+        int i = context.globalIdx;
+        local[localId] = i < size ? input.get(i) : 0.0f;
+        for (int offset = 1; offset < BLOCK_SIZE; offset *= 2) {
+            context.localBarrier();
+            float previous = localId >= offset ? local[localId - offset] : 0.0f;
+            context.localBarrier();
+            local[localId] += previous;
+        }
+        context.localBarrier();
+        if (i < size) {
+            if (exclusive == 0) {
+                output.set(i, local[localId]);
+            } else {
+                output.set(i, localId == 0 ? 0.0f : local[localId - 1]);
+            }
+        }
+        if (localId == BLOCK_SIZE - 1) {
+            blockSums.set(context.groupIdx, local[localId]);
+        }
+    }
+
+    public static void blockScan(KernelContext context, DoubleArray input, DoubleArray output, DoubleArray blockSums, int size, int exclusive) {
+        double[] local = context.allocateDoubleLocalArray(BLOCK_SIZE);
+        int localId = context.localIdx;
+        int i = context.globalIdx;
+        local[localId] = i < size ? input.get(i) : 0.0;
+        for (int offset = 1; offset < BLOCK_SIZE; offset *= 2) {
+            context.localBarrier();
+            double previous = localId >= offset ? local[localId - offset] : 0.0;
+            context.localBarrier();
+            local[localId] += previous;
+        }
+        context.localBarrier();
+        if (i < size) {
+            if (exclusive == 0) {
+                output.set(i, local[localId]);
+            } else {
+                output.set(i, localId == 0 ? 0.0 : local[localId - 1]);
+            }
+        }
+        if (localId == BLOCK_SIZE - 1) {
+            blockSums.set(context.groupIdx, local[localId]);
+        }
+    }
+
+    /**
+     * Adds the exclusive scan of the sums of the previous blocks, and the carry
+     * of the previous batches, to the elements of each block.
+     */
+    public static void addBlockOffsets(KernelContext context, IntArray output, IntArray blockOffsets, IntArray carry, int size) {
+        int i = context.globalIdx;
+        if (i < size) {
+            output.set(i, output.get(i) + blockOffsets.get(context.groupIdx) + carry.get(0));
+        }
+    }
+
+    public static void addBlockOffsets(KernelContext context, LongArray output, LongArray blockOffsets, LongArray carry, int size) {
+        int i = context.globalIdx;
+        if (i < size) {
+            output.set(i, output.get(i) + blockOffsets.get(context.groupIdx) + carry.get(0));
+        }
+    }
+
+    public static void addBlockOffsets(KernelContext context, FloatArray output, FloatArray blockOffsets, FloatArray carry, int size) {
+        int i = context.globalIdx;
+        if (i < size) {
+            output.set(i, output.get(i) + blockOffsets.get(context.groupIdx) + carry.get(0));
+        }
+    }
+
+    public static void addBlockOffsets(KernelContext context, DoubleArray output, DoubleArray blockOffsets, DoubleArray carry, int size) {
+        int i = context.globalIdx;
+        if (i < size) {
+            output.set(i, output.get(i) + blockOffsets.get(context.groupIdx) + carry.get(0));
+        }
+    }
+
+    /**
+     * Adds the tasks of an inclusive scan of {@code input} into {@code output} to
+     * the task-graph. The names of the tasks start with {@code id}.
+     */
+    public static TaskGraph inclusive(TaskGraph taskGraph, GridScheduler gridScheduler, String id, IntArray input, IntArray output) {
+        return addScanTasks(taskGraph, gridScheduler, id, INT_KERNELS, input, output, false, null);
+    }
+
+    /**
+     * Adds the tasks of an exclusive scan of {@code input} into {@code output} to
+     * the task-graph. The names of the tasks start with {@code id}.
+     */
+    public static TaskGraph exclusive(TaskGraph taskGraph, GridScheduler gridScheduler, String id, IntArray input, IntArray output) {
+        return addScanTasks(taskGraph, gridScheduler, id, INT_KERNELS, input, output, true, null);
+    }
+
+    public static TaskGraph inclusive(TaskGraph taskGraph, GridScheduler gridScheduler, String id, LongArray input, LongArray output) {
+        return addScanTasks(taskGraph, gridScheduler, id, LONG_KERNELS, input, output, false, null);
+    }
+
+    public static TaskGraph exclusive(TaskGraph taskGraph, GridScheduler gridScheduler, String id, LongArray input, LongArray output) {
+        return addScanTasks(taskGraph, gridScheduler, id, LONG_KERNELS, input, output, true, null);
+    }
+
+    public static TaskGraph inclusive(TaskGraph taskGraph, GridScheduler gridScheduler, String id, FloatArray input, FloatArray output) {
+        return addScanTasks(taskGraph, gridScheduler, id, FLOAT_KERNELS, input, output, false, null);
+    }
+
+    public static TaskGraph exclusive(TaskGraph taskGraph, GridScheduler gridScheduler, String id, FloatArray input, FloatArray output) {
+        return addScanTasks(taskGraph, gridScheduler, id, FLOAT_KERNELS, input, output, true, null);
+    }
+
+    public static TaskGraph inclusive(TaskGraph taskGraph, GridScheduler gridScheduler, String id, DoubleArray input, DoubleArray output) {
+        return addScanTasks(taskGraph, gridScheduler, id, DOUBLE_KERNELS, input, output, false, null);
+    }
+
+    public static TaskGraph exclusive(TaskGraph taskGraph, GridScheduler gridScheduler, String id, DoubleArray input, DoubleArray output) {
+        return addScanTasks(taskGraph, gridScheduler, id, DOUBLE_KERNELS, input, output, true, null);
+    }
+
+    /**
+     * Runs an inclusive scan of {@code input} into {@code output} on the default
+     * device, in batches of at most {@code batchSize} elements. Only the buffers
+     * of one batch are allocated on the device.
+     */
+    public static void inclusive(IntArray input, IntArray output, int batchSize) {
+        executeInBatches(INT_KERNELS, input, output, batchSize, false);
+    }
+
+    /**
+     * Runs an exclusive scan of {@code input} into {@code output} on the default
+     * device, in batches of at most {@code batchSize} elements. Only the buffers
+     * of one batch are allocated on the device.
+     */
+    public static void exclusive(IntArray input, IntArray output, int batchSize) {
+        executeInBatches(INT_KERNELS, input, output, batchSize, true);
+    }
+
+    public static void inclusive(LongArray input, LongArray output, int batchSize) {
+        executeInBatches(LONG_KERNELS, input, output, batchSize, false);
+    }
+
+    public static void exclusive(LongArray input, LongArray output, int batchSize) {
+        executeInBatches(LONG_KERNELS, input, output, batchSize, true);
+    }
+
+    public static void inclusive(FloatArray input, FloatArray output, int batchSize) {
+        executeInBatches(FLOAT_KERNELS, input, output, batchSize, false);
+    }
+
+    public static void exclusive(FloatArray input, FloatArray output, int batchSize) {
+        executeInBatches(FLOAT_KERNELS, input, output, batchSize, true);
+    }
+
+    public static void inclusive(DoubleArray input, DoubleArray output, int batchSize) {
+        executeInBatches(DOUBLE_KERNELS, input, output, batchSize, false);
+    }
+
+    public static void exclusive(DoubleArray input, DoubleArray output, int batchSize) {
+        executeInBatches(DOUBLE_KERNELS, input, output, batchSize, true);
+    }
+
+    static int numBlocks(int size) {
+        return (size + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    }
+
+    static WorkerGrid createWorkerGrid(int numBlocks) {
+        WorkerGrid worker = new WorkerGrid1D(numBlocks * BLOCK_SIZE);
+        worker.setLocalWork(BLOCK_SIZE, 1, 1);
+        return worker;
+    }
+
+    private static <T extends TornadoNativeArray> TaskGraph addScanTasks(TaskGraph taskGraph, GridScheduler gridScheduler, String id, Kernels<T> kernels, T input, T output, boolean exclusive,
+            T carry) {
+        if (input.getSize() != output.getSize()) {
+            throw new TornadoRuntimeException("The input and the output of the scan have different sizes: " + input.getSize() + " and " + output.getSize());
+        }
+        T zero = kernels.allocator().apply(1);
+        taskGraph.transferToDevice(DataTransferMode.FIRST_EXECUTION, zero);
+        addLevelTasks(taskGraph, gridScheduler, id, 0, kernels, input, output, input.getSize(), exclusive, carry != null ? carry : zero, zero);
+        return taskGraph;
+    }
+
+    /**
+     * Adds the tasks of one level of the scan. The sums of the blocks are scanned
+     * by the next level.
+     */
+    private static <T extends TornadoNativeArray> void addLevelTasks(TaskGraph taskGraph, GridScheduler gridScheduler, String id, int level, Kernels<T> kernels, T input, T output, int size,
+            boolean exclusive, T carry, T zero) {
+        int numBlocks = numBlocks(size);
+        T blockSums = kernels.allocator().apply(numBlocks);
+        taskGraph.transferToDevice(DataTransferMode.FIRST_EXECUTION, blockSums);
+
+        String scanTask = id + "Scan" + level;
+        taskGraph.task(scanTask, kernels.blockScan(), new KernelContext(), input, output, blockSums, size, exclusive ? 1 : 0);
+        gridScheduler.setWorkerGrid(taskGraph.getTaskGraphName() + "." + scanTask, createWorkerGrid(numBlocks));
+
+        // A single block of the inner levels is already complete
+        if (numBlocks == 1 && carry == zero) {
+            return;
+        }
+        T blockOffsets = kernels.allocator().apply(numBlocks);
+        taskGraph.transferToDevice(DataTransferMode.FIRST_EXECUTION, blockOffsets);
+        addLevelTasks(taskGraph, gridScheduler, id, level + 1, kernels, blockSums, blockOffsets, numBlocks, true, zero, zero);
+
+        String offsetsTask = id + "Offsets" + level;
+        taskGraph.task(offsetsTask, kernels.addBlockOffsets(), new KernelContext(), output, blockOffsets, carry, size);
+        gridScheduler.setWorkerGrid(taskGraph.getTaskGraphName() + "." + offsetsTask, createWorkerGrid(numBlocks));
+    }
+
+    /**
+     * Scans the batches with an inclusive scan on the device. The last element of
+     * the scan of a batch is the carry of the next one. The exclusive scan is the
+     * inclusive scan shifted by one element, so it is built when the batch is
+     * copied back.
+     */
+    private static <T extends TornadoNativeArray> void executeInBatches(Kernels<T> kernels, T input, T output, int batchSize, boolean exclusive) {
+        if (input.getSize() != output.getSize()) {
+            throw new TornadoRuntimeException("The input and the output of the scan have different sizes: " + input.getSize() + " and " + output.getSize());
+        }
+        if (batchSize <= 0) {
+            throw new TornadoRuntimeException("Invalid batch size for the scan: " + batchSize);
+        }
+        final int size = input.getSize();
+        if (size == 0) {
+            return;
+        }
+        final int batch = Math.min(size, batchSize);
+        final long elementBytes = input.getNumBytesWithoutHeader() / size;
+        final long header = TornadoNativeArray.ARRAY_HEADER;
+
+        T batchInput = kernels.allocator().apply(batch);
+        T batchOutput = kernels.allocator().apply(batch);
+        T carry = kernels.allocator().apply(1);
+        MemorySegment batchInputSegment = batchInput.getSegment();
+        MemorySegment batchOutputSegment = batchOutput.getSegment();
+        MemorySegment carrySegment = carry.getSegment();
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("scan") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, batchInput, carry);
+        addScanTasks(taskGraph, gridScheduler, "t", kernels, batchInput, batchOutput, false, carry);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, batchOutput);
+
+        TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot());
+        executionPlan.withGridScheduler(gridScheduler);
+
+        for (int start = 0; start < size; start += batch) {
+            int length = Math.min(batch, size - start);
+            MemorySegment.copy(input.getSegment(), header + start * elementBytes, batchInputSegment, header, length * elementBytes);
+            if (length < batch) {
+                // Zero is the identity of the sum, so the tail of the last batch does not change the scan
+                batchInputSegment.asSlice(header + length * elementBytes, (batch - length) * elementBytes).fill((byte) 0);
+            }
+            batchInput.markModified();
+
+            if (exclusive) {
+                MemorySegment.copy(carrySegment, header, output.getSegment(), header + start * elementBytes, elementBytes);
+            }
+
+            executionPlan.execute();
+
+            if (exclusive) {
+                MemorySegment.copy(batchOutputSegment, header, output.getSegment(), header + (start + 1) * elementBytes, (length - 1) * elementBytes);
+            } else {
+                MemorySegment.copy(batchOutputSegment, header, output.getSegment(), header + start * elementBytes, length * elementBytes);
+            }
+            MemorySegment.copy(batchOutputSegment, header + (length - 1) * elementBytes, carrySegment, header, elementBytes);
+            carry.markModified();
+        }
+        output.markModified();
+        executionPlan.freeDeviceMemory();
+    }
+}
@@ -0,0 +1,357 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.algorithms;
+
+import static uk.ac.manchester.tornado.api.algorithms.Scan.BLOCK_SIZE;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoVMIntrinsics;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.sparse.CSRMatrixFloat;
+import uk.ac.manchester.tornado.api.types.sparse.SELLMatrixFloat;
+
+/**
+ * Sparse matrix-vector (SpMV) and sparse matrix-dense matrix (SpMM) products
+ * on the device.
+ *
+ * <p>
+ * The SpMV of a {@link CSRMatrixFloat} has three kernels, and the kernel is
+ * selected with the statistics of the lengths of the rows
+ * ({@link #selectStrategy(CSRMatrixFloat)}):
+ * </p>
+ * <ul>
+ * <li>{@link Strategy#ROW_PER_THREAD}: one thread computes a row. It is the
+ * best kernel for short rows of similar length.</li>
+ * <li>{@link Strategy#GROUP_PER_ROW}: a group of up to 32 threads (a warp)
+ * computes a row, with coalesced accesses to the non-zeros, and the partial
+ * sums are reduced in local memory. It is the best kernel for long rows.</li>
+ * <li>{@link Strategy#MERGE_PATH}: the rows and the non-zeros are split evenly
+ * between the threads, following the merge path of the row offsets and the
+ * positions of the non-zeros. Each thread does the same amount of work,
+ * whatever the lengths of the rows, so it is the best kernel for irregular
+ * matrices (e.g., graphs with power-law degrees). The rows split between
+ * threads are completed by a second task.</li>
+ * </ul>
+ *
+ * <p>
+ * As in {@link Scan}, the tasks are added to a user {@link TaskGraph}, and
+ * their grids are registered in the given {@link GridScheduler}. The arrays of
+ * the matrix are transferred to the device on the first execution; the vectors
+ * must be transferred by the task-graph.
+ * </p>
+ */
+public final class SparseLinearAlgebra {
+
+    /**
+     * Maximum number of threads that compute a row with
+     * {@link Strategy#GROUP_PER_ROW}.
+     */
+    public static final int MAX_THREADS_PER_ROW = 32;
+
+    /**
+     * Number of rows and non-zeros processed by each thread with
+     * {@link Strategy#MERGE_PATH}.
+     */
+    public static final int MERGE_PATH_ITEMS_PER_THREAD = 8;
+
+    /**
+     * Minimum mean length of the rows to compute each row with a group of
+     * threads.
+     */
+    private static final float GROUP_PER_ROW_MIN_LENGTH = 8.0f;
+
+    /**
+     * Ratio between the longest and the mean row above which one thread (or one
+     * group) per row leaves most of the device idle.
+     */
+    private static final float MERGE_PATH_IMBALANCE = 8.0f;
+
+    /**
+     * Kernel of the SpMV of a CSR matrix.
+     */
+    public enum Strategy {
+        ROW_PER_THREAD, //
+        GROUP_PER_ROW, //
+        MERGE_PATH
+    }
+
+    private SparseLinearAlgebra() {
+    }
+
+    /**
+     * Selects the SpMV kernel of a matrix. The merge path is selected when the
+     * lengths of the rows are imbalanced: the longest row is much longer than the
+     * mean, and the standard deviation is larger than the mean (e.g., power-law
+     * distributions). Otherwise, a group of threads computes each row if the rows
+     * are long, and one thread computes each row if they are short.
+     */
+    public static Strategy selectStrategy(CSRMatrixFloat matrix) {
+        float mean = Math.max(1.0f, matrix.getMeanRowLength());
+        if (matrix.getMaxRowLength() > MERGE_PATH_IMBALANCE * mean && matrix.getRowLengthDeviation() > mean) {
+            return Strategy.MERGE_PATH;
+        }
+        if (matrix.getMeanRowLength() >= GROUP_PER_ROW_MIN_LENGTH) {
+            return Strategy.GROUP_PER_ROW;
+        }
+        return Strategy.ROW_PER_THREAD;
+    }
+
+    /**
+     * Number of threads that compute each row with
+     * {@link Strategy#GROUP_PER_ROW}: the largest power of two that is not
+     * larger than the mean length of the rows, up to {@link #MAX_THREADS_PER_ROW}.
+     */
+    static int threadsPerRow(CSRMatrixFloat matrix) {
+        int threads = 1;
+        while (threads * 2 <= MAX_THREADS_PER_ROW && threads * 2 <= matrix.getMeanRowLength()) {
+            threads *= 2;
+        }
+        return threads;
+    }
+
+    public static void spmvRowPerThread(KernelContext context, IntArray rowOffsets, IntArray columns, FloatArray values, FloatArray x, FloatArray y, int numRows) {
+        int row = context.globalIdx;
+        if (row < numRows) {
+            float sum = 0.0f;
+            int end = rowOffsets.get(row + 1);
+            for (int k = rowOffsets.get(row); k < end; k++) {
+                sum += values.get(k) * x.get(columns.get(k));
+            }
+            y.set(row, sum);
+        }
+    }
+
+    /**
+     * Computes each row with {@code threadsPerRow} consecutive threads of a
+     * work-group. The threads of a row read consecutive non-zeros, and their
+     * partial sums are reduced with a tree in local memory.
+     */
+    public static void spmvGroupPerRow(KernelContext context, IntArray rowOffsets, IntArray columns, FloatArray values, FloatArray x, FloatArray y, int numRows, int threadsPerRow) {
+        float[] partialSums = context.allocateFloatLocalArray(BLOCK_SIZE);
+        int localId = context.localIdx;
+        int lane = localId & (threadsPerRow - 1);
+        int row = context.globalIdx / threadsPerRow;
+        float sum = 0.0f;
+        if (row < numRows) {
+            int end = rowOffsets.get(row + 1);
+            for (int k = rowOffsets.get(row) + lane; k < end; k += threadsPerRow) {
+                sum += values.get(k) * x.get(columns.get(k));
+            }
+        }
+        partialSums[localId] = sum;
+        for (int offset = threadsPerRow / 2; offset > 0; offset /= 2) {
+            context.localBarrier();
+            if (lane < offset) {
+                partialSums[localId] += partialSums[localId + offset];
+            }
+        }
+        if (lane == 0 && row < numRows) {
+            y.set(row, partialSums[localId]);
+        }
+    }
+
+    /**
+     * Each thread consumes {@link #MERGE_PATH_ITEMS_PER_THREAD} items of the
+     * merge of the ends of the rows and the positions of the non-zeros. The
+     * start of the thread is found with a binary search on its diagonal of the
+     * merge path. The rows that end in the segment of the thread are stored,
+     * and the partial sum of the last row, which continues in the next threads,
+     * is stored in {@code carryRows} and {@code carryValues}.
+     */
+    public static void spmvMergePath(KernelContext context, IntArray rowOffsets, IntArray columns, FloatArray values, FloatArray x, FloatArray y, IntArray carryRows, FloatArray carryValues,
+            int numRows, int numThreads) {
+        int thread = context.globalIdx;
+        if (thread < numThreads) {
+            int numNonZeros = rowOffsets.get(numRows);
+            int pathLength = numRows + numNonZeros;
+            int diagonal = Math.min(thread * MERGE_PATH_ITEMS_PER_THREAD, pathLength);
+            int diagonalEnd = Math.min(diagonal + MERGE_PATH_ITEMS_PER_THREAD, pathLength);
+
+            // Binary search of the row where the diagonal crosses the merge path
+            int low = Math.max(diagonal - numNonZeros, 0);
+            int high = Math.min(diagonal, numRows);
+            while (low < high) {
+                int pivot = (low + high) >> 1;
+                if (rowOffsets.get(pivot + 1) <= diagonal - pivot - 1) {
+                    low = pivot + 1;
+                } else {
+                    high = pivot;
+                }
+            }
+            int row = low;
+            int k = diagonal - low;
+
+            float sum = 0.0f;
+            while (row + k < diagonalEnd) {
+                if (k < rowOffsets.get(row + 1)) {
+                    sum += values.get(k) * x.get(columns.get(k));
+                    k++;
+                } else {
+                    y.set(row, sum);
+                    sum = 0.0f;
+                    row++;
+                }
+            }
+            carryRows.set(thread, row);
+            carryValues.set(thread, sum);
+        }
+    }
+
+    /**
+     * Adds the partial sums of the rows split between threads. Several threads
+     * can carry a partial sum of the same long row, so the sums are atomic.
+     */
+    public static void mergePathFixup(KernelContext context, IntArray carryRows, FloatArray carryValues, FloatArray y, int numRows, int numThreads) {
+        int thread = context.globalIdx;
+        if (thread < numThreads) {
+            int row = carryRows.get(thread);
+            if (row < numRows) {
+                TornadoVMIntrinsics.atomic_add(y, row, carryValues.get(thread));
+            }
+        }
+    }
+
+    /**
+     * One thread computes each row of a SELL-C-&sigma; matrix. The threads of a
+     * slice read consecutive elements, and the padding at the end of the shorter
+     * rows is skipped.
+     */
+    public static void spmvSELL(KernelContext context, IntArray sliceOffsets, IntArray rowPermutation, IntArray rowLengths, IntArray columns, FloatArray values, FloatArray x, FloatArray y,
+            int numRows, int sliceHeight) {
+        int position = context.globalIdx;
+        if (position < numRows) {
+            int start = sliceOffsets.get(position / sliceHeight) + position % sliceHeight;
+            int length = rowLengths.get(position);
+            float sum = 0.0f;
+            for (int j = 0; j < length; j++) {
+                int k = start + j * sliceHeight;
+                sum += values.get(k) * x.get(columns.get(k));
+            }
+            y.set(rowPermutation.get(position), sum);
+        }
+    }
+
+    /**
+     * Computes {@code Y = A * X}, where {@code X} and {@code Y} are dense
+     * matrices of {@code numVectors} columns stored by rows. Each thread
+     * computes one element of {@code Y}; the consecutive threads of a row read
+     * consecutive elements of {@code X}.
+     */
+    public static void spmm(KernelContext context, IntArray rowOffsets, IntArray columns, FloatArray values, FloatArray x, FloatArray y, int numRows, int numVectors) {
+        int idx = context.globalIdx;
+        int row = idx / numVectors;
+        int vector = idx % numVectors;
+        if (row < numRows) {
+            float sum = 0.0f;
+            int end = rowOffsets.get(row + 1);
+            for (int k = rowOffsets.get(row); k < end; k++) {
+                sum += values.get(k) * x.get(columns.get(k) * numVectors + vector);
+            }
+            y.set(row * numVectors + vector, sum);
+        }
+    }
+
+    /**
+     * Adds the tasks of {@code y = A * x} to the task-graph, with the kernel
+     * selected by {@link #selectStrategy(CSRMatrixFloat)}. The names of the tasks
+     * start with {@code id}.
+     */
+    public static TaskGraph spmv(TaskGraph taskGraph, GridScheduler gridScheduler, String id, CSRMatrixFloat matrix, FloatArray x, FloatArray y) {
+        return spmv(taskGraph, gridScheduler, id, matrix, x, y, selectStrategy(matrix));
+    }
+
+    /**
+     * Adds the tasks of {@code y = A * x} to the task-graph, with the given
+     * kernel. The names of the tasks start with {@code id}.
+     */
+    public static TaskGraph spmv(TaskGraph taskGraph, GridScheduler gridScheduler, String id, CSRMatrixFloat matrix, FloatArray x, FloatArray y, Strategy strategy) {
+        checkVectors(matrix.getNumRows(), matrix.getNumColumns(), x.getSize(), y.getSize(), 1);
+        final int numRows = matrix.getNumRows();
+        taskGraph.transferToDevice(DataTransferMode.FIRST_EXECUTION, matrix.getRowOffsets(), matrix.getColumns(), matrix.getValues());
+        switch (strategy) {
+            case ROW_PER_THREAD -> {
+                taskGraph.task(id, SparseLinearAlgebra::spmvRowPerThread, new KernelContext(), matrix.getRowOffsets(), matrix.getColumns(), matrix.getValues(), x, y, numRows);
+                setWorkerGrid(taskGraph, gridScheduler, id, numRows);
+            }
+            case GROUP_PER_ROW -> {
+                int threadsPerRow = threadsPerRow(matrix);
+                taskGraph.task(id, SparseLinearAlgebra::spmvGroupPerRow, new KernelContext(), matrix.getRowOffsets(), matrix.getColumns(), matrix.getValues(), x, y, numRows, threadsPerRow);
+                setWorkerGrid(taskGraph, gridScheduler, id, numRows * threadsPerRow);
+            }
+            case MERGE_PATH -> {
+                int pathLength = numRows + matrix.getNumNonZeros();
+                int numThreads = Math.max(1, (pathLength + MERGE_PATH_ITEMS_PER_THREAD - 1) / MERGE_PATH_ITEMS_PER_THREAD);
+                IntArray carryRows = new IntArray(numThreads);
+                FloatArray carryValues = new FloatArray(numThreads);
+                taskGraph.transferToDevice(DataTransferMode.FIRST_EXECUTION, carryRows, carryValues);
+
+                String fixupTask = id + "Fixup";
+                taskGraph.task(id, SparseLinearAlgebra::spmvMergePath, new KernelContext(), matrix.getRowOffsets(), matrix.getColumns(), matrix.getValues(), x, y, carryRows, carryValues, numRows,
+                        numThreads);
+                taskGraph.task(fixupTask, SparseLinearAlgebra::mergePathFixup, new KernelContext(), carryRows, carryValues, y, numRows, numThreads);
+                setWorkerGrid(taskGraph, gridScheduler, id, numThreads);
+                setWorkerGrid(taskGraph, gridScheduler, fixupTask, numThreads);
+            }
+            default -> throw new TornadoRuntimeException("Unsupported SpMV strategy: " + strategy);
+        }
+        return taskGraph;
+    }
+
+    /**
+     * Adds the task of {@code y = A * x} of a SELL-C-&sigma; (or ELLPACK) matrix
+     * to the task-graph.
+     */
+    public static TaskGraph spmv(TaskGraph taskGraph, GridScheduler gridScheduler, String id, SELLMatrixFloat matrix, FloatArray x, FloatArray y) {
+        checkVectors(matrix.getNumRows(), matrix.getNumColumns(), x.getSize(), y.getSize(), 1);
+        taskGraph.transferToDevice(DataTransferMode.FIRST_EXECUTION, matrix.getSliceOffsets(), matrix.getRowPermutation(), matrix.getRowLengths(), matrix.getColumns(), matrix.getValues());
+        taskGraph.task(id, SparseLinearAlgebra::spmvSELL, new KernelContext(), matrix.getSliceOffsets(), matrix.getRowPermutation(), matrix.getRowLengths(), matrix.getColumns(), matrix.getValues(), x,
+                y, matrix.getNumRows(), matrix.getSliceHeight());
+        setWorkerGrid(taskGraph, gridScheduler, id, matrix.getNumRows());
+        return taskGraph;
+    }
+
+    /**
+     * Adds the task of {@code Y = A * X} to the task-graph, where {@code X} and
+     * {@code Y} are dense matrices of {@code numVectors} columns stored by rows.
+     */
+    public static TaskGraph spmm(TaskGraph taskGraph, GridScheduler gridScheduler, String id, CSRMatrixFloat matrix, FloatArray x, FloatArray y, int numVectors) {
+        checkVectors(matrix.getNumRows(), matrix.getNumColumns(), x.getSize(), y.getSize(), numVectors);
+        taskGraph.transferToDevice(DataTransferMode.FIRST_EXECUTION, matrix.getRowOffsets(), matrix.getColumns(), matrix.getValues());
+        taskGraph.task(id, SparseLinearAlgebra::spmm, new KernelContext(), matrix.getRowOffsets(), matrix.getColumns(), matrix.getValues(), x, y, matrix.getNumRows(), numVectors);
+        setWorkerGrid(taskGraph, gridScheduler, id, matrix.getNumRows() * numVectors);
+        return taskGraph;
+    }
+
+    private static void checkVectors(int numRows, int numColumns, int xSize, int ySize, int numVectors) {
+        if (numVectors <= 0) {
+            throw new TornadoRuntimeException("Invalid number of vectors: " + numVectors);
+        }
+        if (xSize != numColumns * numVectors || ySize != numRows * numVectors) {
+            throw new TornadoRuntimeException("The sizes of the vectors (" + xSize + " and " + ySize + ") do not match a " + numRows + " x " + numColumns + " matrix and " + numVectors + " vectors");
+        }
+    }
+
+    private static void setWorkerGrid(TaskGraph taskGraph, GridScheduler gridScheduler, String task, int numThreads) {
+        gridScheduler.setWorkerGrid(taskGraph.getTaskGraphName() + "." + task, Scan.createWorkerGrid(Math.max(1, Scan.numBlocks(numThreads))));
+    }
+}
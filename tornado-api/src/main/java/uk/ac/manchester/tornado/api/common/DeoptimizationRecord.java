@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.common;
+
+/**
+ * Bailouts of a task to the Java implementation, as recorded by the runtime.
+ * A task that keeps failing to compile or to launch is not compiled again
+ * after {@code maxFailures} consecutive failures, until the retry time of the
+ * backoff (see
+ * {@link uk.ac.manchester.tornado.api.TornadoExecutionPlan#withDeoptimizationBackoff(int, long)}).
+ * In the meantime, the task-graph runs the Java implementation directly.
+ *
+ * @param taskId
+ *     Id of the task (e.g. {@code s0.t0}), or of the task-graph if the
+ *     bailout cannot be attributed to a task.
+ * @param reason
+ *     Reason of the last bailout.
+ * @param count
+ *     Number of bailouts since the task-graph was created.
+ * @param consecutiveFailures
+ *     Number of bailouts since the last successful execution on the device.
+ * @param firstTimestamp
+ *     Time of the first bailout, in milliseconds since the epoch.
+ * @param lastTimestamp
+ *     Time of the last bailout, in milliseconds since the epoch.
+ * @param retryTimestamp
+ *     Time after which the runtime compiles the task again, in milliseconds
+ *     since the epoch: 0 if the task is compiled again in the next execution,
+ *     and {@link Long#MAX_VALUE} if it is never compiled again.
+ */
+public record DeoptimizationRecord(String taskId, String reason, int count, int consecutiveFailures, long firstTimestamp, long lastTimestamp, long retryTimestamp) {
+
+    /**
+     * Returns true if the runtime skips the compilation of the task, and runs
+     * the Java implementation instead.
+     */
+    public boolean isBackedOff() {
+        return retryTimestamp > System.currentTimeMillis();
+    }
+}
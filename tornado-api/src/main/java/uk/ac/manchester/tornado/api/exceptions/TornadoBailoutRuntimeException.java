@@ -23,6 +23,7 @@ public class TornadoBailoutRuntimeException extends RuntimeException {
     static final String RED = "\u001B[31m";
     private final String message;
     private Exception e;
+    private String taskId;
 
     public TornadoBailoutRuntimeException(final String msg) {
         message = RED + msg + RESET;
@@ -33,10 +34,27 @@ public class TornadoBailoutRuntimeException extends RuntimeException {
         this.e = e;
     }
 
+    /**
+     * @param taskId
+     *     Id of the task that bailed out (e.g. {@code s0.t0}).
+     */
+    public TornadoBailoutRuntimeException(final String msg, Exception e, String taskId) {
+        this(msg, e);
+        this.taskId = taskId;
+    }
+
     public Exception getException() {
         return this.e;
     }
 
+    /**
+     * Returns the id of the task that bailed out, or {@code null} if the bailout
+     * is not attributed to a task.
+     */
+    public String getTaskId() {
+        return taskId;
+    }
+
     @Override
     public String getMessage() {
         return message;
@@ -26,6 +26,11 @@ public class TornadoRuntimeException extends RuntimeException {
         message = msg;
     }
 
+    public TornadoRuntimeException(final String msg, Throwable cause) {
+        message = msg;
+        this.initCause(cause);
+    }
+
     public TornadoRuntimeException(Exception e) {
         message = e.getMessage();
         this.initCause(e.getCause());
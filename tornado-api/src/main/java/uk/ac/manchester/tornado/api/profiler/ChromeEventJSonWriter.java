@@ -17,16 +17,25 @@
  */
 package uk.ac.manchester.tornado.api.profiler;
 
-import java.io.File;
-
+/**
+ * Writes the events of the {@link ChromeEventTracer} in the JSON array format
+ * of the Chrome trace viewer ({@code chrome://tracing} and Perfetto). In this
+ * format the closing bracket is optional, so a trace file can be loaded even if
+ * the process was killed before the file was closed.
+ */
 public class ChromeEventJSonWriter extends JSonWriter<ChromeEventJSonWriter> {
-    ContentWriter NO_ARGS = null;
 
     ChromeEventJSonWriter() {
         super();
-        objectStart();
-        arrayStart("traceEvents");
-        object(() -> {
+    }
+
+    /**
+     * Starts a trace file with the metadata of the process.
+     */
+    ChromeEventJSonWriter traceStart() {
+        clear();
+        osqbrace();
+        return object(() -> {
             object("args", () -> kv("name", "Tornado"));
             kv("ph", "M");
             pidAndTid();
@@ -35,6 +44,10 @@ public class ChromeEventJSonWriter extends JSonWriter<ChromeEventJSonWriter> {
         });
     }
 
+    ChromeEventJSonWriter traceEnd() {
+        return csqbrace();
+    }
+
     JSonWriter pidAndTid() {
         return kv("pid", 0).kv("tid", Thread.currentThread().getId());
     }
@@ -43,22 +56,33 @@ public class ChromeEventJSonWriter extends JSonWriter<ChromeEventJSonWriter> {
         return kv("ph", phase).kv("name", name).kv("cat", category).pidAndTid();
     }
 
-    public JSonWriter x(String name, String category, long startNs, long endNs, ContentWriter cw) {
+    ChromeEventJSonWriter x(ChromeTraceEvent event) {
         return compact().object(() -> {
-            common("X", name, category);
-            ns("ts", startNs);
-            nsd("dur", endNs - startNs);
-            if (cw != NO_ARGS) {
+            kv("ph", "X").kv("name", event.name()).kv("cat", event.category()).kv("pid", 0).kv("tid", event.tid());
+            ns("ts", event.startNs());
+            nsd("dur", event.endNs() - event.startNs());
+            Object[] args = event.args();
+            if (args != null) {
                 object("args", () -> {
-                    nonCompact();
-                    cw.write();
+                    for (int i = 0; i < args.length; i += 2) {
+                        arg((String) args[i], args[i + 1]);
+                    }
                 });
-            } else {
-                nonCompact();
             }
+            nonCompact();
         });
     }
 
+    private void arg(String key, Object value) {
+        if (value instanceof Long longValue) {
+            kv(key, (long) longValue);
+        } else if (value instanceof Integer intValue) {
+            kv(key, (int) intValue);
+        } else if (value != null) {
+            kv(key, value.toString());
+        }
+    }
+
     JSonWriter b(String name, String category, long startNs) {
         return common("B", name, category).ns("ts", startNs);
     }
@@ -66,10 +90,4 @@ public class ChromeEventJSonWriter extends JSonWriter<ChromeEventJSonWriter> {
     JSonWriter e(String name, long durationNs) {
         return kv("ph", "E").kv("name", name).pidAndTid().ns("ts", durationNs);
     }
-
-    @Override
-    void write(File file) {
-        arrayEnd().objectEnd();
-        super.write(file);
-    }
 }
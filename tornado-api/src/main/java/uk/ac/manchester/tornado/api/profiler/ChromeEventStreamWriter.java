@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.profiler;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes the events of the {@link ChromeEventTracer} to disk while the
+ * application runs. The events are published in a bounded buffer, and a
+ * background thread writes them in batches to a set of rotating files:
+ * {@code <name>.0.json}, {@code <name>.1.json}, ... When a file reaches the
+ * maximum size, the writer closes it and starts the next one, and only the
+ * last {@code maxFiles} files are kept. Each file is a complete trace that can
+ * be loaded on its own.
+ *
+ * <p>
+ * The events are dropped when the buffer is full, so the tracer never blocks
+ * the application and its memory is bounded.
+ * </p>
+ */
+final class ChromeEventStreamWriter {
+
+    private static final int BATCH_SIZE = 1024;
+
+    private final Path directory;
+    private final String baseName;
+    private final String extension;
+    private final long maxFileSize;
+    private final int maxFiles;
+    private final long flushIntervalMs;
+
+    private final BlockingQueue<ChromeTraceEvent> buffer;
+    private final AtomicLong droppedEvents;
+    private final ChromeEventJSonWriter json;
+    private final Thread writerThread;
+
+    private Writer out;
+    private int fileIndex;
+    private long fileSize;
+    private volatile boolean running;
+
+    ChromeEventStreamWriter(Path file, long maxFileSize, int maxFiles, int bufferSize, long flushIntervalMs) {
+        Path absolutePath = file.toAbsolutePath();
+        this.directory = absolutePath.getParent();
+        String fileName = absolutePath.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        this.baseName = dot > 0 ? fileName.substring(0, dot) : fileName;
+        this.extension = dot > 0 ? fileName.substring(dot) : ".json";
+        this.maxFileSize = maxFileSize;
+        this.maxFiles = Math.max(1, maxFiles);
+        this.flushIntervalMs = flushIntervalMs;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.droppedEvents = new AtomicLong();
+        this.json = new ChromeEventJSonWriter();
+        this.fileIndex = -1;
+        this.running = true;
+        this.writerThread = new Thread(this::run, "TornadoVM-Chrome-Tracer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Publishes an event. It returns immediately, and the event is dropped if
+     * the buffer is full.
+     */
+    void offer(ChromeTraceEvent event) {
+        if (!buffer.offer(event)) {
+            droppedEvents.incrementAndGet();
+        }
+    }
+
+    long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    Path getFile(int index) {
+        return directory.resolve(baseName + "." + index + extension);
+    }
+
+    private void run() {
+        List<ChromeTraceEvent> batch = new ArrayList<>(BATCH_SIZE);
+        while (running) {
+            try {
+                ChromeTraceEvent event = buffer.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (event != null) {
+                    batch.add(event);
+                    buffer.drainTo(batch, BATCH_SIZE - 1);
+                }
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Writes the events of the batch and flushes the file, so the events are on
+     * disk even if the process is killed afterwards.
+     */
+    private synchronized void writeBatch(List<ChromeTraceEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            for (ChromeTraceEvent event : batch) {
+                if (out == null || fileSize >= maxFileSize) {
+                    nextFile();
+                }
+                String content = json.x(event).takeContent();
+                out.write(content);
+                fileSize += content.length();
+            }
+            out.flush();
+        } catch (IOException e) {
+            droppedEvents.addAndGet(batch.size());
+            System.err.println("[TornadoVM-ChromeTracer] Unable to write the trace: " + e.getMessage());
+        } finally {
+            batch.clear();
+        }
+    }
+
+    private void nextFile() throws IOException {
+        closeFile();
+        fileIndex++;
+        Files.deleteIfExists(getFile(fileIndex - maxFiles));
+        out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(getFile(fileIndex).toFile()), StandardCharsets.UTF_8));
+        String header = json.traceStart().takeContent();
+        out.write(header);
+        fileSize = header.length();
+    }
+
+    private void closeFile() throws IOException {
+        if (out != null) {
+            out.write(json.traceEnd().takeContent());
+            out.close();
+            out = null;
+        }
+    }
+
+    /**
+     * Writes the events in the buffer, from the calling thread.
+     */
+    synchronized void flush() {
+        List<ChromeTraceEvent> batch = new ArrayList<>(buffer.size());
+        buffer.drainTo(batch);
+        writeBatch(batch);
+    }
+
+    /**
+     * Writes the pending events, closes the current file and stops the
+     * background thread.
+     */
+    void close() {
+        running = false;
+        writerThread.interrupt();
+        try {
+            // The thread finishes the batch that it is writing
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            flush();
+            try {
+                closeFile();
+            } catch (IOException e) {
+                System.err.println("[TornadoVM-ChromeTracer] Unable to close the trace: " + e.getMessage());
+            }
+        }
+    }
+}
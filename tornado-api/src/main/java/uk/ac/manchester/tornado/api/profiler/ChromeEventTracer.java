@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013-2023, APT Group, Department of Computer Science,
+ * Copyright (c) 2013-2024, APT Group, Department of Computer Science,
  * The University of Manchester.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
@@ -17,9 +17,39 @@
  */
 package uk.ac.manchester.tornado.api.profiler;
 
-import java.io.File;
+import java.nio.file.Path;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Traces events in the format of the Chrome trace viewer
+ * ({@code chrome://tracing} and Perfetto).
+ *
+ * <p>
+ * The events are streamed to rotating files by a background thread (see
+ * {@link ChromeEventStreamWriter}), so the memory of the tracer is bounded and
+ * the trace is on disk even if the process is killed. The tracer is configured
+ * with the following properties:
+ * </p>
+ * <ul>
+ * <li>{@code tornado.chrome.event.tracer.enabled}: enables the tracer. It can
+ * be changed at any point during runtime (see {@link #enable()} and
+ * {@link #disable()}).</li>
+ * <li>{@code tornado.chrome.event.tracer.filename}: name of the trace files.
+ * {@code chrome.json} is written to {@code chrome.0.json},
+ * {@code chrome.1.json}, ...</li>
+ * <li>{@code tornado.chrome.event.tracer.file.size}: size of each file, in
+ * bytes, before it is rotated. Default is 64MB.</li>
+ * <li>{@code tornado.chrome.event.tracer.files}: number of files kept. Default
+ * is 4.</li>
+ * <li>{@code tornado.chrome.event.tracer.buffer}: number of events buffered for
+ * the background thread. Default is 65536.</li>
+ * <li>{@code tornado.chrome.event.tracer.flush.interval}: maximum time, in
+ * milliseconds, before the buffered events are written. Default is 1000.</li>
+ * <li>{@code tornado.chrome.event.tracer.sampling}: traces 1 in N executions.
+ * Default is 1 (all the executions). It can be changed during runtime.</li>
+ * </ul>
+ */
 public class ChromeEventTracer {
     /**
      * The filename for ChromeEventTracer to write json file.
@@ -27,13 +57,14 @@ public class ChromeEventTracer {
     public static final String CHROME_EVENT_TRACER_FILENAME_KEY = "tornado.chrome.event.tracer.filename";
     public static final String CHROME_EVENT_TRACER_FILENAME = System.getProperties().getProperty(CHROME_EVENT_TRACER_FILENAME_KEY, "chrome.json");
     public static final String CHROME_EVENT_TRACER_ENABLED_KEY = "tornado.chrome.event.tracer.enabled";
-    public static final ChromeEventJSonWriter json = new ChromeEventJSonWriter();
+    public static final String CHROME_EVENT_TRACER_FILE_SIZE_KEY = "tornado.chrome.event.tracer.file.size";
+    public static final String CHROME_EVENT_TRACER_FILES_KEY = "tornado.chrome.event.tracer.files";
+    public static final String CHROME_EVENT_TRACER_BUFFER_KEY = "tornado.chrome.event.tracer.buffer";
+    public static final String CHROME_EVENT_TRACER_FLUSH_INTERVAL_KEY = "tornado.chrome.event.tracer.flush.interval";
+    public static final String CHROME_EVENT_TRACER_SAMPLING_KEY = "tornado.chrome.event.tracer.sampling";
 
-    static {
-        if (isEnabled()) {
-            Runtime.getRuntime().addShutdownHook(new Thread(() -> json.write(new File(getChromeEventTracerFileName()))));
-        }
-    }
+    private static final AtomicLong executions = new AtomicLong();
+    private static volatile ChromeEventStreamWriter writer;
 
     public ChromeEventTracer() {
 
@@ -61,55 +92,154 @@ public class ChromeEventTracer {
         return isChromeEventTracerEnabled();
     }
 
+    public static void enable() {
+        System.setProperty(CHROME_EVENT_TRACER_ENABLED_KEY, "true");
+    }
+
+    /**
+     * Stops tracing. The events already traced are still written.
+     */
+    public static void disable() {
+        System.setProperty(CHROME_EVENT_TRACER_ENABLED_KEY, "false");
+    }
+
+    /**
+     * Returns N, when 1 in N executions is traced.
+     */
+    public static int getSamplingRate() {
+        return Math.max(1, Integer.getInteger(CHROME_EVENT_TRACER_SAMPLING_KEY, 1));
+    }
+
+    /**
+     * Decides if the current execution is traced. It is called once per
+     * execution, so all the events of a sampled execution are traced.
+     */
+    private static boolean sample() {
+        if (!isEnabled()) {
+            return false;
+        }
+        int samplingRate = getSamplingRate();
+        return samplingRate == 1 || executions.getAndIncrement() % samplingRate == 0;
+    }
+
+    private static ChromeEventStreamWriter getWriter() {
+        ChromeEventStreamWriter streamWriter = writer;
+        if (streamWriter == null) {
+            synchronized (ChromeEventTracer.class) {
+                streamWriter = writer;
+                if (streamWriter == null) {
+                    streamWriter = new ChromeEventStreamWriter(Path.of(getChromeEventTracerFileName()), //
+                            Long.getLong(CHROME_EVENT_TRACER_FILE_SIZE_KEY, 64L * 1024 * 1024), //
+                            Integer.getInteger(CHROME_EVENT_TRACER_FILES_KEY, 4), //
+                            Integer.getInteger(CHROME_EVENT_TRACER_BUFFER_KEY, 65536), //
+                            Long.getLong(CHROME_EVENT_TRACER_FLUSH_INTERVAL_KEY, 1000));
+                    ChromeEventStreamWriter hookWriter = streamWriter;
+                    Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                        if (writer == hookWriter) {
+                            hookWriter.close();
+                        }
+                    }));
+                    writer = streamWriter;
+                }
+            }
+        }
+        return streamWriter;
+    }
+
+    private static void record(String name, String category, long startNs, long endNs, Object... args) {
+        getWriter().offer(new ChromeTraceEvent(name, category, Thread.currentThread().getId(), startNs, endNs, args.length == 0 ? null : args));
+    }
+
+    /**
+     * Writes the traced events to disk. It blocks until the events in the buffer
+     * are written.
+     */
+    public static void flush() {
+        ChromeEventStreamWriter streamWriter = writer;
+        if (streamWriter != null) {
+            streamWriter.flush();
+        }
+    }
+
+    /**
+     * Writes the traced events and closes the current trace file. The next
+     * traced event starts a new set of files, with the current configuration of
+     * the tracer.
+     */
+    public static void close() {
+        synchronized (ChromeEventTracer.class) {
+            if (writer != null) {
+                writer.close();
+                writer = null;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of events dropped because the buffer was full.
+     */
+    public static long getDroppedEvents() {
+        ChromeEventStreamWriter streamWriter = writer;
+        return streamWriter == null ? 0 : streamWriter.getDroppedEvents();
+    }
+
     public static void enqueueWriteIfEnabled(String tag, long bytes, long startNs, long endNs) {
-        if (isEnabled()) {
-            json.x(tag, "write", startNs, endNs, () -> json.kv("bytes", bytes));
+        if (sample()) {
+            record(tag, "write", startNs, endNs, "bytes", bytes);
         }
     }
 
     public static void enqueueReadIfEnabled(String tag, long bytes, long startNs, long endNs) {
-        if (isEnabled()) {
-            json.x(tag, "read", startNs, endNs, () -> json.kv("bytes", bytes));
+        if (sample()) {
+            record(tag, "read", startNs, endNs, "bytes", bytes);
         }
     }
 
     public static void enqueueNDRangeKernelIfEnabled(String tag, long startNs, long endNs) {
-        if (isEnabled()) {
-            json.x(tag, "NDRangeKernel", startNs, endNs, null);
+        if (sample()) {
+            record(tag, "NDRangeKernel", startNs, endNs);
         }
     }
 
     public static void enqueueTaskIfEnabled(String tag, long startNs, long endNs) {
-        if (isEnabled()) {
-            json.x(tag, "exec", startNs, endNs, null);
+        if (sample()) {
+            record(tag, "exec", startNs, endNs);
         }
     }
 
     public static void trace(String tag, Runnable r) {
         long startNs = System.nanoTime();
         r.run();
-        if (isEnabled()) {
-            json.x(tag, "trace", startNs, System.nanoTime(), null);
+        if (sample()) {
+            record(tag, "trace", startNs, System.nanoTime());
         }
     }
 
     public static <T> T trace(String tag, Builder<T> b) {
         long startNs = System.nanoTime();
         T value = b.build();
-        if (isEnabled()) {
-            json.x(tag, "trace", startNs, System.nanoTime(), null);
+        if (sample()) {
+            record(tag, "trace", startNs, System.nanoTime());
         }
         return value;
     }
 
     public static void opencltimes(int localId, long queuedNs, long submitNs, long startNs, long endNs, Map<String, ?> meta) {
-        json.x("queued", null, queuedNs, endNs, meta == null ? null : () -> {
-            for (String k : meta.keySet()) {
-                json.kv(k, (String) meta.get(k));
+        if (!sample()) {
+            return;
+        }
+        Object[] args = new Object[0];
+        if (meta != null) {
+            args = new Object[meta.size() * 2];
+            int i = 0;
+            for (Map.Entry<String, ?> entry : meta.entrySet()) {
+                args[i++] = entry.getKey();
+                args[i++] = entry.getValue();
             }
-        });
-        json.x("submit", null, submitNs, endNs, null);
-        json.x("start", null, startNs, endNs, null);
+        }
+        record("queued", null, queuedNs, endNs, args);
+        record("submit", null, submitNs, endNs);
+        record("start", null, startNs, endNs);
         // order queue submit start end
     }
 
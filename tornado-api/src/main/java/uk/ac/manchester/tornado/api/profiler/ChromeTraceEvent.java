@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.profiler;
+
+/**
+ * Complete event ({@code "ph": "X"}) of the Chrome trace format, captured by
+ * the {@link ChromeEventTracer} and written by the
+ * {@link ChromeEventStreamWriter}.
+ *
+ * @param tid
+ *     Id of the thread that recorded the event.
+ * @param args
+ *     Arguments of the event as pairs of keys and values, or {@code null}.
+ */
+record ChromeTraceEvent(String name, String category, long tid, long startNs, long endNs, Object[] args) {
+}
@@ -104,7 +104,14 @@ public class JSonWriter<T extends JSonWriter> {
     }
 
     protected T quote(String value) {
-        return (T) append("\"" + value + "\"").state(State.AFTER_VALUE);
+        return (T) append("\"" + escape(value) + "\"").state(State.AFTER_VALUE);
+    }
+
+    private static String escape(String value) {
+        if (value.indexOf('"') == -1 && value.indexOf('\\') == -1 && value.indexOf('\n') == -1) {
+            return value;
+        }
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
     }
 
     protected T colon() {
@@ -265,6 +272,27 @@ public class JSonWriter<T extends JSonWriter> {
         return sb.toString();
     }
 
+    /**
+     * Returns the JSON written so far and removes it from the writer. The state
+     * of the writer is kept, so the next values continue the same document.
+     */
+    String takeContent() {
+        String content = sb.toString();
+        sb.setLength(0);
+        return content;
+    }
+
+    /**
+     * Removes the content and the state of the writer to start a new document.
+     */
+    protected T clear() {
+        sb.setLength(0);
+        scope = 0;
+        compactMode = false;
+        currentState = State.NONE;
+        return (T) this;
+    }
+
     void write(File file) {
         try {
             OutputStreamWriter o = new OutputStreamWriter(new FileOutputStream(file));
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.profiler;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+
+/**
+ * Histogram of latencies, in nanoseconds, with a constant memory footprint.
+ *
+ * <p>
+ * The buckets follow the log-linear layout of the HDR histograms: the values
+ * below {@value #LINEAR_BUCKETS} have a bucket each, and every power of two
+ * above is split into {@value #SUB_BUCKETS} buckets of equal width. The
+ * percentiles are therefore reported with a relative error below 1/64
+ * (1.6%), independently of the number of recorded values. The values above
+ * {@link #getHighestTrackableValue()} (about 4.9 hours) are counted in the
+ * last bucket.
+ * </p>
+ *
+ * <p>
+ * The histogram can be updated and read from several threads without locks.
+ * </p>
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_BUCKETS = SUB_BUCKETS << 1;
+    private static final int LINEAR_BITS = SUB_BUCKET_BITS + 1;
+    private static final int MAX_VALUE_BITS = 44;
+    private static final int NUM_BUCKETS = LINEAR_BUCKETS + (MAX_VALUE_BITS - LINEAR_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts;
+    private final AtomicLong totalCount;
+    private final AtomicLong sum;
+    private final AtomicLong min;
+    private final AtomicLong max;
+
+    public LatencyHistogram() {
+        counts = new AtomicLongArray(NUM_BUCKETS);
+        totalCount = new AtomicLong();
+        sum = new AtomicLong();
+        min = new AtomicLong(Long.MAX_VALUE);
+        max = new AtomicLong(Long.MIN_VALUE);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < LINEAR_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent >= MAX_VALUE_BITS) {
+            return NUM_BUCKETS - 1;
+        }
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+        return LINEAR_BUCKETS + (exponent - LINEAR_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the highest value that falls in the bucket of the given index.
+     */
+    static long bucketUpperBound(int index) {
+        if (index < LINEAR_BUCKETS) {
+            return index;
+        }
+        int offset = index - LINEAR_BUCKETS;
+        int shift = offset / SUB_BUCKETS + LINEAR_BITS - SUB_BUCKET_BITS;
+        long lowerBound = (long) (SUB_BUCKETS + offset % SUB_BUCKETS) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param value
+     *     Latency in nanoseconds. Negative values are ignored.
+     */
+    public void record(long value) {
+        if (value < 0) {
+            return;
+        }
+        counts.incrementAndGet(bucketIndex(value));
+        totalCount.incrementAndGet();
+        sum.addAndGet(value);
+        min.accumulateAndGet(value, Math::min);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Adds all the values recorded in another histogram to this one.
+     *
+     * @param other
+     *     {@link LatencyHistogram}
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            long count = other.counts.get(i);
+            if (count != 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+        totalCount.addAndGet(other.totalCount.get());
+        sum.addAndGet(other.sum.get());
+        min.accumulateAndGet(other.min.get(), Math::min);
+        max.accumulateAndGet(other.max.get(), Math::max);
+    }
+
+    /**
+     * Returns a new histogram with the values recorded so far.
+     *
+     * @return {@link LatencyHistogram}
+     */
+    public LatencyHistogram copy() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.add(this);
+        return histogram;
+    }
+
+    /**
+     * Removes all the recorded values.
+     */
+    public void reset() {
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        totalCount.set(0);
+        sum.set(0);
+        min.set(Long.MAX_VALUE);
+        max.set(Long.MIN_VALUE);
+    }
+
+    /**
+     * Returns the number of recorded values.
+     */
+    public long getTotalCount() {
+        return totalCount.get();
+    }
+
+    /**
+     * Returns the lowest recorded value, or 0 if the histogram is empty.
+     */
+    public long getMin() {
+        return getTotalCount() == 0 ? 0 : min.get();
+    }
+
+    /**
+     * Returns the highest recorded value, or 0 if the histogram is empty.
+     */
+    public long getMax() {
+        return getTotalCount() == 0 ? 0 : max.get();
+    }
+
+    /**
+     * Returns the mean of the recorded values, or 0 if the histogram is empty.
+     */
+    public double getMean() {
+        long count = getTotalCount();
+        return count == 0 ? 0 : (double) sum.get() / count;
+    }
+
+    /**
+     * Returns the value below which the given percentage of the recorded values
+     * fall. The value is the upper bound of the bucket of the percentile, capped
+     * to the highest recorded value.
+     *
+     * @param percentile
+     *     Percentile in the range [0, 100].
+     * @return Latency in nanoseconds, or 0 if the histogram is empty.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new TornadoRuntimeException("Invalid percentile: " + percentile);
+        }
+        long count = getTotalCount();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long accumulated = 0;
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            accumulated += counts.get(i);
+            if (accumulated >= rank) {
+                return Math.max(getMin(), Math.min(bucketUpperBound(i), getMax()));
+            }
+        }
+        return getMax();
+    }
+
+    public long getP50() {
+        return getValueAtPercentile(50.0);
+    }
+
+    public long getP99() {
+        return getValueAtPercentile(99.0);
+    }
+
+    public long getP999() {
+        return getValueAtPercentile(99.9);
+    }
+
+    /**
+     * Returns the highest value that is recorded with the precision of the
+     * histogram.
+     */
+    public static long getHighestTrackableValue() {
+        return (1L << MAX_VALUE_BITS) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LatencyHistogram <count=%d, min=%d, mean=%.1f, p50=%d, p99=%d, p999=%d, max=%d>", getTotalCount(), getMin(), getMean(), getP50(), getP99(), getP999(), getMax());
+    }
+}
@@ -122,6 +122,9 @@ public final class ByteArray extends TornadoNativeArray {
      */
     public void set(int index, byte value) {
         segment.setAtIndex(JAVA_BYTE, baseIndex + index, value);
+        if (!modified) {
+            modified = true;
+        }
     }
 
     /**
@@ -149,6 +152,7 @@ public final class ByteArray extends TornadoNativeArray {
         for (int i = 0; i < getSize(); i++) {
             segment.setAtIndex(JAVA_BYTE, baseIndex + i, value);
         }
+        markModified();
     }
 
     /**
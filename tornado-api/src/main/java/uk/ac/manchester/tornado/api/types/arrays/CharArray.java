@@ -128,6 +128,9 @@ public final class CharArray extends TornadoNativeArray {
      */
     public void set(int index, char value) {
         segment.setAtIndex(JAVA_CHAR, baseIndex + index, value);
+        if (!modified) {
+            modified = true;
+        }
     }
 
     /**
@@ -147,6 +150,7 @@ public final class CharArray extends TornadoNativeArray {
         for (int i = 0; i < getSize(); i++) {
             segment.setAtIndex(JAVA_CHAR, baseIndex + i, value);
         }
+        markModified();
     }
 
     /**
@@ -122,6 +122,9 @@ public final class DoubleArray extends TornadoNativeArray {
      */
     public void set(int index, double value) {
         segment.setAtIndex(JAVA_DOUBLE, baseIndex + index, value);
+        if (!modified) {
+            modified = true;
+        }
     }
 
     /**
@@ -149,6 +152,7 @@ public final class DoubleArray extends TornadoNativeArray {
         for (int i = 0; i < getSize(); i++) {
             segment.setAtIndex(JAVA_DOUBLE, baseIndex + i, value);
         }
+        markModified();
     }
 
     /**
@@ -122,6 +122,9 @@ public final class FloatArray extends TornadoNativeArray {
      */
     public void set(int index, float value) {
         segment.setAtIndex(JAVA_FLOAT, baseIndex + index, value);
+        if (!modified) {
+            modified = true;
+        }
     }
 
     /**
@@ -149,6 +152,7 @@ public final class FloatArray extends TornadoNativeArray {
         for (int i = 0; i < getSize(); i++) {
             segment.setAtIndex(JAVA_FLOAT, baseIndex + i, value);
         }
+        markModified();
     }
 
     /**
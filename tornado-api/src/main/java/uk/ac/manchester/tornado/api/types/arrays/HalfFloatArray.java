@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.types.arrays;
+
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_SHORT;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+
+import uk.ac.manchester.tornado.api.internal.annotations.SegmentElementSize;
+
+/**
+ * This class represents an array of half-precision (IEEE 754 binary16) floats stored in native memory.
+ * The elements are stored in a {@link MemorySegment} using two bytes each, which halves the memory and
+ * transfer cost compared to a {@link FloatArray}. Values are read and written as {@code float}, and they
+ * are converted on every access.
+ *
+ * <p>
+ * When a kernel is compiled, the conversions of {@link #toFloat(short)} and {@link #toHalf(float)} are
+ * lowered to the native half type of the device (e.g., {@code half} in OpenCL with {@code cl_khr_fp16},
+ * {@code .f16} in PTX). If the device does not support FP16, the Java implementation of the conversion
+ * is compiled instead, so the data is still stored in 16 bits and the arithmetic is done in FP32.
+ * </p>
+ */
+@SegmentElementSize(size = 2)
+public final class HalfFloatArray extends TornadoNativeArray {
+    private static final int HALF_FLOAT_BYTES = 2;
+    private MemorySegment segment;
+    private int numberOfElements;
+    private int arrayHeaderSize;
+
+    private int baseIndex;
+
+    private long segmentByteSize;
+
+    /**
+     * Constructs a new instance of the {@code HalfFloatArray} that will store a user-specified number of elements.
+     * @param numberOfElements The number of elements in the array.
+     */
+    public HalfFloatArray(int numberOfElements) {
+        this.numberOfElements = numberOfElements;
+        arrayHeaderSize = (int) TornadoNativeArray.ARRAY_HEADER;
+        assert arrayHeaderSize >= 4;
+        baseIndex = arrayHeaderSize / HALF_FLOAT_BYTES;
+        segmentByteSize = numberOfElements * HALF_FLOAT_BYTES + arrayHeaderSize;
+
+        segment = Arena.ofAuto().allocate(segmentByteSize, 1);
+        segment.setAtIndex(JAVA_INT, 0, numberOfElements);
+    }
+
+    /**
+     * Converts a half-precision value, given by its binary16 bits, to a float.
+     * @param halfFloat The bits of the half-precision value.
+     * @return The float value.
+     */
+    public static float toFloat(short halfFloat) {
+        return Float.float16ToFloat(halfFloat);
+    }
+
+    /**
+     * Converts a float to the bits of the nearest half-precision value, rounding to nearest even.
+     * @param value The float value.
+     * @return The binary16 bits of the half-precision value.
+     */
+    public static short toHalf(float value) {
+        return Float.floatToFloat16(value);
+    }
+
+    /**
+     * Internal method used to create a new instance of the {@code HalfFloatArray} from on-heap data.
+     * @param values The on-heap float array to create the instance from.
+     * @return A new {@code HalfFloatArray} instance, initialized with values of the on-heap float array.
+     */
+    private static HalfFloatArray createSegment(float[] values) {
+        HalfFloatArray array = new HalfFloatArray(values.length);
+        for (int i = 0; i < values.length; i++) {
+            array.set(i, values[i]);
+        }
+        return array;
+    }
+
+    /**
+     * Creates a new instance of the {@code HalfFloatArray} class from an on-heap float array. The values are
+     * rounded to half precision.
+     * @param values The on-heap float array to create the instance from.
+     * @return A new {@code HalfFloatArray} instance, initialized with values of the on-heap float array.
+     */
+    public static HalfFloatArray fromArray(float[] values) {
+        return createSegment(values);
+    }
+
+    /**
+     * Creates a new instance of the {@code HalfFloatArray} class from a set of float values. The values are
+     * rounded to half precision.
+     * @param values The float values to initialize the array with.
+     * @return A new {@code HalfFloatArray} instance, initialized with the given values.
+     */
+    public static HalfFloatArray fromElements(float... values) {
+        return createSegment(values);
+    }
+
+    /**
+     * Creates a new instance of the {@code HalfFloatArray} class from a {@link MemorySegment} that contains
+     * binary16 values.
+     * @param segment The {@link MemorySegment} containing the off-heap half-precision data.
+     * @return A new {@code HalfFloatArray} instance, initialized with the segment data.
+     */
+    public static HalfFloatArray fromSegment(MemorySegment segment) {
+        long byteSize = segment.byteSize();
+        int numElements = (int) (byteSize / HALF_FLOAT_BYTES);
+        HalfFloatArray halfFloatArray = new HalfFloatArray(numElements);
+        MemorySegment.copy(segment, 0, halfFloatArray.segment, halfFloatArray.baseIndex * HALF_FLOAT_BYTES, byteSize);
+        return halfFloatArray;
+    }
+
+    /**
+     * Converts the data from off-heap to on-heap, by copying the values of a {@code HalfFloatArray}
+     * instance into a new on-heap float array.
+     * @return A new on-heap float array, initialized with the values stored in the {@code HalfFloatArray} instance.
+     */
+    public float[] toHeapArray() {
+        float[] outputArray = new float[getSize()];
+        for (int i = 0; i < getSize(); i++) {
+            outputArray[i] = get(i);
+        }
+        return outputArray;
+    }
+
+    /**
+     * Sets the value at a specified index of the {@code HalfFloatArray} instance. The value is rounded to
+     * half precision.
+     * @param index The index at which to set the value.
+     * @param value The float value to store at the specified index.
+     */
+    public void set(int index, float value) {
+        segment.setAtIndex(JAVA_SHORT, baseIndex + index, toHalf(value));
+        if (!modified) {
+            modified = true;
+        }
+    }
+
+    /**
+     * Gets the value stored at the specified index of the {@code HalfFloatArray} instance.
+     * @param index The index of which to retrieve the value.
+     * @return The value converted to float.
+     */
+    public float get(int index) {
+        return toFloat(segment.getAtIndex(JAVA_SHORT, baseIndex + index));
+    }
+
+    /**
+     * Sets the binary16 bits at a specified index of the {@code HalfFloatArray} instance.
+     * @param index The index at which to set the bits.
+     * @param halfFloat The bits of the half-precision value.
+     */
+    public void setHalf(int index, short halfFloat) {
+        segment.setAtIndex(JAVA_SHORT, baseIndex + index, halfFloat);
+        if (!modified) {
+            modified = true;
+        }
+    }
+
+    /**
+     * Gets the binary16 bits stored at the specified index of the {@code HalfFloatArray} instance.
+     * @param index The index of which to retrieve the bits.
+     * @return The bits of the half-precision value.
+     */
+    public short getHalf(int index) {
+        return segment.getAtIndex(JAVA_SHORT, baseIndex + index);
+    }
+
+    /**
+     * Sets all the values of the {@code HalfFloatArray} instance to zero.
+     */
+    @Override
+    public void clear() {
+        init(0.0f);
+    }
+
+    /**
+     * Initializes all the elements of the {@code HalfFloatArray} instance with a specified value.
+     * @param value The float value to initialize the {@code HalfFloatArray} instance with.
+     */
+    public void init(float value) {
+        short halfFloat = toHalf(value);
+        for (int i = 0; i < getSize(); i++) {
+            segment.setAtIndex(JAVA_SHORT, baseIndex + i, halfFloat);
+        }
+        markModified();
+    }
+
+    /**
+     * Returns the number of elements stored in the {@code HalfFloatArray} instance.
+     * @return
+     */
+    @Override
+    public int getSize() {
+        return numberOfElements;
+    }
+
+    /**
+     * Returns the underlying {@link MemorySegment} of the {@code HalfFloatArray} instance.
+     * @return The {@link MemorySegment} associated with the {@code HalfFloatArray} instance.
+     */
+    @Override
+    public MemorySegment getSegment() {
+        return segment;
+    }
+
+    /**
+     * Returns the total number of bytes that the {@link MemorySegment}, associated with the {@code HalfFloatArray} instance, occupies.
+     * @return The total number of bytes of the {@link MemorySegment}.
+     */
+    @Override
+    public long getNumBytesOfSegment() {
+        return segmentByteSize;
+    }
+
+    /**
+     * Returns the number of bytes of the {@link MemorySegment} that is associated with the {@code HalfFloatArray} instance,
+     * excluding the header bytes.
+     * @return The number of bytes of the raw data in the {@link MemorySegment}.
+     */
+    @Override
+    public long getNumBytesWithoutHeader() {
+        return segmentByteSize - TornadoNativeArray.ARRAY_HEADER;
+    }
+}
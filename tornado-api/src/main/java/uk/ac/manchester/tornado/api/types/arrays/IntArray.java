@@ -119,6 +119,9 @@ public final class IntArray extends TornadoNativeArray {
      */
     public void set(int index, int value) {
         segment.setAtIndex(JAVA_INT, baseIndex + index, value);
+        if (!modified) {
+            modified = true;
+        }
     }
 
     /**
@@ -146,6 +149,7 @@ public final class IntArray extends TornadoNativeArray {
         for (int i = 0; i < getSize(); i++) {
             segment.setAtIndex(JAVA_INT, baseIndex + i, value);
         }
+        markModified();
     }
 
     /**
@@ -120,6 +120,9 @@ public final class LongArray extends TornadoNativeArray {
      */
     public void set(int index, long value) {
         segment.setAtIndex(JAVA_LONG, baseIndex + index, value);
+        if (!modified) {
+            modified = true;
+        }
     }
 
     /**
@@ -147,6 +150,7 @@ public final class LongArray extends TornadoNativeArray {
         for (int i = 0; i < getSize(); i++) {
             segment.setAtIndex(JAVA_LONG, baseIndex + i, value);
         }
+        markModified();
     }
 
     /**
@@ -121,6 +121,9 @@ public final class ShortArray extends TornadoNativeArray {
      */
     public void set(int index, short value) {
         segment.setAtIndex(JAVA_SHORT, baseIndex + index, value);
+        if (!modified) {
+            modified = true;
+        }
     }
 
     /**
@@ -148,6 +151,7 @@ public final class ShortArray extends TornadoNativeArray {
         for (int i = 0; i < getSize(); i++) {
             segment.setAtIndex(JAVA_SHORT, baseIndex + i, value);
         }
+        markModified();
     }
 
     /**
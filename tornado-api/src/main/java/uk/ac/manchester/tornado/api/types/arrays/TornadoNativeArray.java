@@ -18,6 +18,7 @@
 package uk.ac.manchester.tornado.api.types.arrays;
 
 import java.lang.foreign.MemorySegment;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * This abstract sealed class represents the common functionality of the TornadoVM custom native arrays,
@@ -32,10 +33,17 @@ import java.lang.foreign.MemorySegment;
  * <p>
  * The constant {@code ARRAY_HEADER} represents the size of the header in bytes.
  * </p>
+ *
+ * <p>
+ * Each native array also carries a modification version (see {@link #getVersion()}). With the option
+ * {@code -Dtornado.transfers.versioned=True}, the TornadoVM runtime uses it to skip host-to-device copies
+ * of arrays that the host has not written since the last copy. Writes that bypass the API of the array,
+ * such as {@link MemorySegment#copy} on {@link #getSegment()}, must be followed by {@link #markModified()}.
+ * </p>
  */
 public abstract sealed class TornadoNativeArray permits //
         IntArray, FloatArray, DoubleArray, LongArray, ShortArray, //
-        ByteArray, CharArray {
+        ByteArray, CharArray, HalfFloatArray {
 
     /**
      * The size of the header in bytes. The default value is 24, but it can be configurable through
@@ -43,6 +51,18 @@ public abstract sealed class TornadoNativeArray permits //
      */
     public static final long ARRAY_HEADER = Long.parseLong(System.getProperty("tornado.panama.objectHeader", "24"));
 
+    private static final AtomicLong versionCounter = new AtomicLong();
+
+    /**
+     * Set by the writes from the host. The flag is a plain field, so the writes do not pay for a
+     * volatile access: it is read by {@link #getVersion()} on the thread that executes the task-graph,
+     * after the writes that happen before the execution. It is only stored when it changes, so threads
+     * writing the same array do not contend on it. It is removed from the code compiled for the devices.
+     */
+    boolean modified = true;
+
+    private long version;
+
     /**
      * Returns the number of elements stored in the native array.
      * @return The number of elements of the native data array.
@@ -55,6 +75,34 @@ public abstract sealed class TornadoNativeArray permits //
      */
     public abstract MemorySegment getSegment();
 
+    /**
+     * Returns the modification version of the native array. The version changes if the array was written
+     * through its API (e.g., {@code set}, {@code init}) since the previous call. Versions are unique across
+     * all native arrays.
+     *
+     * <p>
+     * The flag of the writes is cleared before the contents of the array are copied, so a write that
+     * happens during the copy is seen by the next call. Writes that are not ordered before the execution
+     * of the task-graph (e.g., from another thread without synchronization) race with the copy.
+     * </p>
+     * @return The current version of the native array.
+     */
+    public synchronized long getVersion() {
+        if (modified) {
+            modified = false;
+            version = versionCounter.incrementAndGet();
+        }
+        return version;
+    }
+
+    /**
+     * Marks the native array as modified. This method must be invoked after writing the underlying
+     * {@link MemorySegment} directly, so the new contents are copied to the devices.
+     */
+    public void markModified() {
+        modified = true;
+    }
+
     /**
      * Returns the total number of bytes that the {@link MemorySegment} occupies, including the header bytes.
      * @return The total number of bytes of the {@link MemorySegment}.
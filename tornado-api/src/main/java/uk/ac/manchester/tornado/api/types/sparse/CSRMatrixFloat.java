@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.types.sparse;
+
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+
+/**
+ * Sparse matrix of floats in the Compressed Sparse Row (CSR) format. The
+ * non-zeros of row {@code i} are stored in the positions
+ * {@code [rowOffsets[i], rowOffsets[i + 1])} of {@link #getColumns()} and
+ * {@link #getValues()}.
+ *
+ * <p>
+ * The three arrays are native arrays, so the kernels receive them directly.
+ * The statistics of the lengths of the rows (maximum, mean and standard
+ * deviation) are computed when the matrix is created. They are used by
+ * {@link uk.ac.manchester.tornado.api.algorithms.SparseLinearAlgebra} to
+ * select the SpMV kernel of the matrix.
+ * </p>
+ */
+public final class CSRMatrixFloat {
+
+    private final int numRows;
+    private final int numColumns;
+    private final IntArray rowOffsets;
+    private final IntArray columns;
+    private final FloatArray values;
+
+    private final int maxRowLength;
+    private final float meanRowLength;
+    private final float rowLengthDeviation;
+
+    /**
+     * Creates a CSR matrix from its arrays. The arrays are not copied.
+     *
+     * @param numRows
+     *     Number of rows.
+     * @param numColumns
+     *     Number of columns.
+     * @param rowOffsets
+     *     Position of the first non-zero of each row, followed by the number of
+     *     non-zeros ({@code numRows + 1} elements).
+     * @param columns
+     *     Column of each non-zero.
+     * @param values
+     *     Value of each non-zero.
+     */
+    public CSRMatrixFloat(int numRows, int numColumns, IntArray rowOffsets, IntArray columns, FloatArray values) {
+        if (rowOffsets.getSize() != numRows + 1) {
+            throw new TornadoRuntimeException("The row offsets of a CSR matrix with " + numRows + " rows must have " + (numRows + 1) + " elements, but it has " + rowOffsets.getSize());
+        }
+        if (columns.getSize() != values.getSize()) {
+            throw new TornadoRuntimeException("The columns and the values of a CSR matrix have different sizes: " + columns.getSize() + " and " + values.getSize());
+        }
+        if (rowOffsets.get(0) != 0 || rowOffsets.get(numRows) != values.getSize()) {
+            throw new TornadoRuntimeException("The row offsets of the CSR matrix do not cover its " + values.getSize() + " non-zeros");
+        }
+        this.numRows = numRows;
+        this.numColumns = numColumns;
+        this.rowOffsets = rowOffsets;
+        this.columns = columns;
+        this.values = values;
+
+        int max = 0;
+        double sumOfSquares = 0;
+        for (int i = 0; i < numRows; i++) {
+            int length = rowOffsets.get(i + 1) - rowOffsets.get(i);
+            if (length < 0) {
+                throw new TornadoRuntimeException("The row offsets of the CSR matrix are not sorted at row " + i);
+            }
+            max = Math.max(max, length);
+            sumOfSquares += (double) length * length;
+        }
+        double mean = numRows == 0 ? 0 : (double) values.getSize() / numRows;
+        this.maxRowLength = max;
+        this.meanRowLength = (float) mean;
+        this.rowLengthDeviation = numRows == 0 ? 0 : (float) Math.sqrt(Math.max(0, sumOfSquares / numRows - mean * mean));
+    }
+
+    /**
+     * Creates a CSR matrix from the coordinates (COO format) of its non-zeros.
+     * The non-zeros can be in any order; they are sorted by row, and the order
+     * of the non-zeros of a row is kept. Duplicated coordinates are kept as
+     * separate non-zeros, so they are added by the SpMV.
+     *
+     * @param numRows
+     *     Number of rows.
+     * @param numColumns
+     *     Number of columns.
+     * @param rowIndices
+     *     Row of each non-zero.
+     * @param columnIndices
+     *     Column of each non-zero.
+     * @param nonZeros
+     *     Value of each non-zero.
+     * @return A new CSR matrix.
+     */
+    public static CSRMatrixFloat fromCoordinates(int numRows, int numColumns, int[] rowIndices, int[] columnIndices, float[] nonZeros) {
+        if (rowIndices.length != columnIndices.length || rowIndices.length != nonZeros.length) {
+            throw new TornadoRuntimeException("The coordinates of the non-zeros have different lengths: " + rowIndices.length + ", " + columnIndices.length + " and " + nonZeros.length);
+        }
+        final int nnz = nonZeros.length;
+        IntArray rowOffsets = new IntArray(numRows + 1);
+        IntArray columns = new IntArray(nnz);
+        FloatArray values = new FloatArray(nnz);
+
+        // Counting sort of the non-zeros by row
+        int[] next = new int[numRows + 1];
+        for (int row : rowIndices) {
+            if (row < 0 || row >= numRows) {
+                throw new TornadoRuntimeException("Row index " + row + " out of bounds for a matrix with " + numRows + " rows");
+            }
+            next[row + 1]++;
+        }
+        for (int i = 0; i < numRows; i++) {
+            next[i + 1] += next[i];
+        }
+        for (int i = 0; i <= numRows; i++) {
+            rowOffsets.set(i, next[i]);
+        }
+        for (int k = 0; k < nnz; k++) {
+            if (columnIndices[k] < 0 || columnIndices[k] >= numColumns) {
+                throw new TornadoRuntimeException("Column index " + columnIndices[k] + " out of bounds for a matrix with " + numColumns + " columns");
+            }
+            int position = next[rowIndices[k]]++;
+            columns.set(position, columnIndices[k]);
+            values.set(position, nonZeros[k]);
+        }
+        return new CSRMatrixFloat(numRows, numColumns, rowOffsets, columns, values);
+    }
+
+    /**
+     * Creates a CSR matrix with the non-zero elements of a dense matrix.
+     *
+     * @param matrix
+     *     Dense matrix, by rows.
+     * @return A new CSR matrix.
+     */
+    public static CSRMatrixFloat fromDense(float[][] matrix) {
+        final int numRows = matrix.length;
+        final int numColumns = numRows == 0 ? 0 : matrix[0].length;
+        int nnz = 0;
+        for (float[] row : matrix) {
+            for (float value : row) {
+                if (value != 0.0f) {
+                    nnz++;
+                }
+            }
+        }
+        IntArray rowOffsets = new IntArray(numRows + 1);
+        IntArray columns = new IntArray(nnz);
+        FloatArray values = new FloatArray(nnz);
+        int position = 0;
+        for (int i = 0; i < numRows; i++) {
+            rowOffsets.set(i, position);
+            for (int j = 0; j < numColumns; j++) {
+                if (matrix[i][j] != 0.0f) {
+                    columns.set(position, j);
+                    values.set(position, matrix[i][j]);
+                    position++;
+                }
+            }
+        }
+        rowOffsets.set(numRows, position);
+        return new CSRMatrixFloat(numRows, numColumns, rowOffsets, columns, values);
+    }
+
+    /**
+     * Computes {@code y = A * x} on the host. It is the reference of the device
+     * kernels.
+     */
+    public void multiply(FloatArray x, FloatArray y) {
+        for (int i = 0; i < numRows; i++) {
+            float sum = 0.0f;
+            for (int k = rowOffsets.get(i); k < rowOffsets.get(i + 1); k++) {
+                sum += values.get(k) * x.get(columns.get(k));
+            }
+            y.set(i, sum);
+        }
+    }
+
+    public int getNumRows() {
+        return numRows;
+    }
+
+    public int getNumColumns() {
+        return numColumns;
+    }
+
+    public int getNumNonZeros() {
+        return values.getSize();
+    }
+
+    public int getRowLength(int row) {
+        return rowOffsets.get(row + 1) - rowOffsets.get(row);
+    }
+
+    public IntArray getRowOffsets() {
+        return rowOffsets;
+    }
+
+    public IntArray getColumns() {
+        return columns;
+    }
+
+    public FloatArray getValues() {
+        return values;
+    }
+
+    public int getMaxRowLength() {
+        return maxRowLength;
+    }
+
+    public float getMeanRowLength() {
+        return meanRowLength;
+    }
+
+    public float getRowLengthDeviation() {
+        return rowLengthDeviation;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CSRMatrixFloat <%d x %d, nnz=%d, row length: max=%d mean=%.2f stddev=%.2f>", numRows, numColumns, getNumNonZeros(), maxRowLength, meanRowLength, rowLengthDeviation);
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.types.sparse;
+
+import java.util.Arrays;
+
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+
+/**
+ * Sparse matrix of floats in the Sliced ELLPACK format with sorting
+ * (SELL-C-&sigma;). The rows are sorted by decreasing length within windows of
+ * &sigma; rows, and they are grouped in slices of C rows. Each slice is padded
+ * to the length of its longest row and stored by columns, so the threads that
+ * process consecutive rows of a slice read consecutive elements.
+ *
+ * <p>
+ * The element {@code j} of the row in position {@code r} of slice {@code s}
+ * is stored in {@code sliceOffsets[s] + j * C + r}. The padding has the column
+ * 0 and the value 0. The row of the matrix in each position is given by
+ * {@link #getRowPermutation()}.
+ * </p>
+ *
+ * <p>
+ * ELLPACK is the particular case of a single slice without sorting
+ * ({@link #fromCSR(CSRMatrixFloat)}). It is the best format for matrices with
+ * rows of similar length. The sorting reduces the padding of the matrices
+ * with irregular rows.
+ * </p>
+ */
+public final class SELLMatrixFloat {
+
+    private final int numRows;
+    private final int numColumns;
+    private final int numNonZeros;
+    private final int sliceHeight;
+    private final int sortWindow;
+    private final IntArray sliceOffsets;
+    private final IntArray rowPermutation;
+    private final IntArray rowLengths;
+    private final IntArray columns;
+    private final FloatArray values;
+
+    private SELLMatrixFloat(int numRows, int numColumns, int numNonZeros, int sliceHeight, int sortWindow, IntArray sliceOffsets, IntArray rowPermutation, IntArray rowLengths, IntArray columns,
+            FloatArray values) {
+        this.numRows = numRows;
+        this.numColumns = numColumns;
+        this.numNonZeros = numNonZeros;
+        this.sliceHeight = sliceHeight;
+        this.sortWindow = sortWindow;
+        this.sliceOffsets = sliceOffsets;
+        this.rowPermutation = rowPermutation;
+        this.rowLengths = rowLengths;
+        this.columns = columns;
+        this.values = values;
+    }
+
+    /**
+     * Converts a CSR matrix to the ELLPACK format: a single slice with all the
+     * rows, padded to the length of the longest row.
+     */
+    public static SELLMatrixFloat fromCSR(CSRMatrixFloat matrix) {
+        return fromCSR(matrix, Math.max(1, matrix.getNumRows()), 1);
+    }
+
+    /**
+     * Converts a CSR matrix to the SELL-C-&sigma; format.
+     *
+     * @param matrix
+     *     The CSR matrix.
+     * @param sliceHeight
+     *     Number of rows of each slice (C). A multiple of the size of the
+     *     work-groups (or warps) keeps the accesses coalesced.
+     * @param sortWindow
+     *     Number of consecutive rows sorted by length (&sigma;). 1 disables the
+     *     sorting.
+     * @return A new SELL-C-&sigma; matrix.
+     */
+    public static SELLMatrixFloat fromCSR(CSRMatrixFloat matrix, int sliceHeight, int sortWindow) {
+        if (sliceHeight <= 0 || sortWindow <= 0) {
+            throw new TornadoRuntimeException("Invalid slice height or sort window for a SELL-C-sigma matrix: " + sliceHeight + ", " + sortWindow);
+        }
+        final int numRows = matrix.getNumRows();
+        final IntArray csrOffsets = matrix.getRowOffsets();
+        final IntArray csrColumns = matrix.getColumns();
+        final FloatArray csrValues = matrix.getValues();
+
+        // Sort the rows by decreasing length within each window
+        Integer[] order = new Integer[numRows];
+        for (int i = 0; i < numRows; i++) {
+            order[i] = i;
+        }
+        if (sortWindow > 1) {
+            for (int start = 0; start < numRows; start += sortWindow) {
+                Arrays.sort(order, start, Math.min(numRows, start + sortWindow), (a, b) -> Integer.compare(matrix.getRowLength(b), matrix.getRowLength(a)));
+            }
+        }
+
+        final int numSlices = (numRows + sliceHeight - 1) / sliceHeight;
+        IntArray sliceOffsets = new IntArray(numSlices + 1);
+        IntArray rowPermutation = new IntArray(numRows);
+        IntArray rowLengths = new IntArray(numRows);
+        int offset = 0;
+        for (int s = 0; s < numSlices; s++) {
+            sliceOffsets.set(s, offset);
+            int width = 0;
+            for (int p = s * sliceHeight; p < Math.min(numRows, (s + 1) * sliceHeight); p++) {
+                rowPermutation.set(p, order[p]);
+                rowLengths.set(p, matrix.getRowLength(order[p]));
+                width = Math.max(width, rowLengths.get(p));
+            }
+            offset += width * sliceHeight;
+        }
+        sliceOffsets.set(numSlices, offset);
+
+        IntArray columns = new IntArray(offset);
+        FloatArray values = new FloatArray(offset);
+        for (int p = 0; p < numRows; p++) {
+            int s = p / sliceHeight;
+            int r = p % sliceHeight;
+            int start = csrOffsets.get(order[p]);
+            for (int j = 0; j < rowLengths.get(p); j++) {
+                columns.set(sliceOffsets.get(s) + j * sliceHeight + r, csrColumns.get(start + j));
+                values.set(sliceOffsets.get(s) + j * sliceHeight + r, csrValues.get(start + j));
+            }
+        }
+        return new SELLMatrixFloat(numRows, matrix.getNumColumns(), matrix.getNumNonZeros(), sliceHeight, sortWindow, sliceOffsets, rowPermutation, rowLengths, columns, values);
+    }
+
+    public int getNumRows() {
+        return numRows;
+    }
+
+    public int getNumColumns() {
+        return numColumns;
+    }
+
+    public int getNumNonZeros() {
+        return numNonZeros;
+    }
+
+    /**
+     * Returns the number of stored elements, including the padding.
+     */
+    public int getNumStoredElements() {
+        return values.getSize();
+    }
+
+    public int getSliceHeight() {
+        return sliceHeight;
+    }
+
+    public int getSortWindow() {
+        return sortWindow;
+    }
+
+    public int getNumSlices() {
+        return sliceOffsets.getSize() - 1;
+    }
+
+    public IntArray getSliceOffsets() {
+        return sliceOffsets;
+    }
+
+    public IntArray getRowPermutation() {
+        return rowPermutation;
+    }
+
+    public IntArray getRowLengths() {
+        return rowLengths;
+    }
+
+    public IntArray getColumns() {
+        return columns;
+    }
+
+    public FloatArray getValues() {
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SELLMatrixFloat <%d x %d, nnz=%d, C=%d, sigma=%d, stored=%d>", numRows, numColumns, numNonZeros, sliceHeight, sortWindow, getNumStoredElements());
+    }
+}
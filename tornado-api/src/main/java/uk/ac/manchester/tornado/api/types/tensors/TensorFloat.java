@@ -0,0 +1,424 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.types.tensors;
+
+import java.util.Arrays;
+
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+
+/**
+ * N-dimensional tensor of floats, described by a shape, strides (in elements)
+ * and an offset over a {@link FloatArray}. The views ({@link #slice},
+ * {@link #select}, {@link #transpose}, {@link #permute} and {@link #reshape})
+ * share the storage of the tensor, so they do not copy data.
+ *
+ * <p>
+ * Kernels receive the storage and the layout of the tensor ({@link #getStorage()}
+ * and {@link #getLayout()}), and they compute the position of the elements with
+ * the static {@code index} methods. The index arithmetic is plain integer code,
+ * so it is inlined and optimized with the rest of the kernel. All the views of a
+ * tensor share the same storage object, so the storage is transferred once to
+ * the device, whatever the number of views used by the tasks.
+ * </p>
+ *
+ * <p>
+ * E.g., to add two tensors of any rank, with any strides:
+ * </p>
+ *
+ * <code>
+ * for (@Parallel int i = 0; i < TensorFloat.numElements(layoutC); i++) {
+ *     c.set(TensorFloat.elementIndex(layoutC, i), a.get(TensorFloat.elementIndex(layoutA, i)) + b.get(TensorFloat.elementIndex(layoutB, i)));
+ * }
+ * </code>
+ */
+public final class TensorFloat {
+
+    /**
+     * Position of the rank in the layout.
+     */
+    public static final int LAYOUT_RANK = 0;
+
+    /**
+     * Position of the offset in the layout.
+     */
+    public static final int LAYOUT_OFFSET = 1;
+
+    /**
+     * Position of the first dimension in the layout. The dimensions are followed
+     * by the strides.
+     */
+    public static final int LAYOUT_SHAPE = 2;
+
+    private final FloatArray storage;
+    private final int[] shape;
+    private final int[] strides;
+    private final int offset;
+    private final IntArray layout;
+
+    /**
+     * Allocates a contiguous tensor, with row-major strides.
+     *
+     * @param shape
+     *     Size of each dimension.
+     */
+    public TensorFloat(int... shape) {
+        this(new FloatArray(product(shape)), shape);
+    }
+
+    /**
+     * Creates a contiguous tensor, with row-major strides, over an existing
+     * array.
+     *
+     * @param storage
+     *     The array with the elements of the tensor.
+     * @param shape
+     *     Size of each dimension.
+     */
+    public TensorFloat(FloatArray storage, int... shape) {
+        this(storage, shape.clone(), rowMajorStrides(shape), 0);
+        if (product(shape) > storage.getSize()) {
+            throw new TornadoRuntimeException("The storage of " + storage.getSize() + " elements is too small for the shape " + Arrays.toString(shape));
+        }
+    }
+
+    private TensorFloat(FloatArray storage, int[] shape, int[] strides, int offset) {
+        for (int dimension : shape) {
+            if (dimension < 0) {
+                throw new TornadoRuntimeException("Negative dimension in the shape " + Arrays.toString(shape));
+            }
+        }
+        this.storage = storage;
+        this.shape = shape;
+        this.strides = strides;
+        this.offset = offset;
+        this.layout = createLayout(shape, strides, offset);
+    }
+
+    private static int product(int[] shape) {
+        long size = 1;
+        for (int dimension : shape) {
+            size *= dimension;
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new TornadoRuntimeException("The tensor of shape " + Arrays.toString(shape) + " exceeds the maximum number of elements");
+        }
+        return (int) size;
+    }
+
+    private static int[] rowMajorStrides(int[] shape) {
+        int[] strides = new int[shape.length];
+        int stride = 1;
+        for (int d = shape.length - 1; d >= 0; d--) {
+            strides[d] = stride;
+            stride *= shape[d];
+        }
+        return strides;
+    }
+
+    private static IntArray createLayout(int[] shape, int[] strides, int offset) {
+        int rank = shape.length;
+        IntArray layout = new IntArray(LAYOUT_SHAPE + 2 * rank);
+        layout.set(LAYOUT_RANK, rank);
+        layout.set(LAYOUT_OFFSET, offset);
+        for (int d = 0; d < rank; d++) {
+            layout.set(LAYOUT_SHAPE + d, shape[d]);
+            layout.set(LAYOUT_SHAPE + rank + d, strides[d]);
+        }
+        return layout;
+    }
+
+    private void checkDimension(int dimension) {
+        if (dimension < 0 || dimension >= shape.length) {
+            throw new TornadoRuntimeException("Dimension " + dimension + " out of range for a tensor of rank " + shape.length);
+        }
+    }
+
+    /**
+     * @return the array that holds the elements of the tensor and of all its
+     *     views.
+     */
+    public FloatArray getStorage() {
+        return storage;
+    }
+
+    /**
+     * Returns the layout of the tensor to use in kernels: the rank, the offset,
+     * the dimensions and the strides.
+     *
+     * @return the layout of the tensor.
+     */
+    public IntArray getLayout() {
+        return layout;
+    }
+
+    public int getRank() {
+        return shape.length;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int[] getShape() {
+        return shape.clone();
+    }
+
+    public int getShape(int dimension) {
+        checkDimension(dimension);
+        return shape[dimension];
+    }
+
+    public int[] getStrides() {
+        return strides.clone();
+    }
+
+    public int getStride(int dimension) {
+        checkDimension(dimension);
+        return strides[dimension];
+    }
+
+    /**
+     * @return the number of elements of the tensor.
+     */
+    public int getSize() {
+        return product(shape);
+    }
+
+    /**
+     * @return true if the elements are stored in row-major order, without gaps.
+     */
+    public boolean isContiguous() {
+        int stride = 1;
+        for (int d = shape.length - 1; d >= 0; d--) {
+            if (shape[d] != 1 && strides[d] != stride) {
+                return false;
+            }
+            stride *= shape[d];
+        }
+        return true;
+    }
+
+    /**
+     * Position in the storage of the element with the given indices.
+     *
+     * @param indices
+     *     One index per dimension.
+     * @return the position in the storage.
+     */
+    public int indexOf(int... indices) {
+        if (indices.length != shape.length) {
+            throw new TornadoRuntimeException("Expected " + shape.length + " indices, but got " + indices.length);
+        }
+        int index = offset;
+        for (int d = 0; d < shape.length; d++) {
+            if (indices[d] < 0 || indices[d] >= shape[d]) {
+                throw new TornadoRuntimeException("Index " + indices[d] + " out of range for dimension " + d + " of size " + shape[d]);
+            }
+            index += indices[d] * strides[d];
+        }
+        return index;
+    }
+
+    public float get(int... indices) {
+        return storage.get(indexOf(indices));
+    }
+
+    public void set(float value, int... indices) {
+        storage.set(indexOf(indices), value);
+    }
+
+    /**
+     * View of the range [from, to) of a dimension.
+     */
+    public TensorFloat slice(int dimension, int from, int to) {
+        checkDimension(dimension);
+        if (from < 0 || to > shape[dimension] || from > to) {
+            throw new TornadoRuntimeException("Invalid range [" + from + ", " + to + ") for dimension " + dimension + " of size " + shape[dimension]);
+        }
+        int[] newShape = shape.clone();
+        newShape[dimension] = to - from;
+        return new TensorFloat(storage, newShape, strides.clone(), offset + from * strides[dimension]);
+    }
+
+    /**
+     * View of one index of a dimension. The dimension is removed, so the rank of
+     * the view is one less than the rank of the tensor.
+     */
+    public TensorFloat select(int dimension, int index) {
+        checkDimension(dimension);
+        if (index < 0 || index >= shape[dimension]) {
+            throw new TornadoRuntimeException("Index " + index + " out of range for dimension " + dimension + " of size " + shape[dimension]);
+        }
+        int[] newShape = new int[shape.length - 1];
+        int[] newStrides = new int[shape.length - 1];
+        for (int d = 0, n = 0; d < shape.length; d++) {
+            if (d != dimension) {
+                newShape[n] = shape[d];
+                newStrides[n] = strides[d];
+                n++;
+            }
+        }
+        return new TensorFloat(storage, newShape, newStrides, offset + index * strides[dimension]);
+    }
+
+    /**
+     * View with two dimensions swapped.
+     */
+    public TensorFloat transpose(int dimension0, int dimension1) {
+        int[] order = new int[shape.length];
+        for (int d = 0; d < order.length; d++) {
+            order[d] = d;
+        }
+        checkDimension(dimension0);
+        checkDimension(dimension1);
+        order[dimension0] = dimension1;
+        order[dimension1] = dimension0;
+        return permute(order);
+    }
+
+    /**
+     * View with the dimensions in a new order: the dimension {@code d} of the
+     * view is the dimension {@code order[d]} of the tensor.
+     */
+    public TensorFloat permute(int... order) {
+        if (order.length != shape.length) {
+            throw new TornadoRuntimeException("Expected a permutation of " + shape.length + " dimensions, but got " + Arrays.toString(order));
+        }
+        boolean[] used = new boolean[shape.length];
+        int[] newShape = new int[shape.length];
+        int[] newStrides = new int[shape.length];
+        for (int d = 0; d < order.length; d++) {
+            checkDimension(order[d]);
+            if (used[order[d]]) {
+                throw new TornadoRuntimeException("Invalid permutation " + Arrays.toString(order));
+            }
+            used[order[d]] = true;
+            newShape[d] = shape[order[d]];
+            newStrides[d] = strides[order[d]];
+        }
+        return new TensorFloat(storage, newShape, newStrides, offset);
+    }
+
+    /**
+     * View with a new shape and the same number of elements. Only contiguous
+     * tensors can be reshaped without copying, so the others must be copied
+     * with {@link #contiguous()} first.
+     */
+    public TensorFloat reshape(int... newShape) {
+        if (product(newShape) != getSize()) {
+            throw new TornadoRuntimeException("Cannot reshape a tensor of shape " + Arrays.toString(shape) + " into " + Arrays.toString(newShape));
+        }
+        if (!isContiguous()) {
+            throw new TornadoRuntimeException("Only contiguous tensors can be reshaped without copying; use contiguous() first");
+        }
+        return new TensorFloat(storage, newShape.clone(), rowMajorStrides(newShape), offset);
+    }
+
+    /**
+     * Copies the elements of the tensor to a new contiguous tensor.
+     *
+     * @return a contiguous tensor with the same shape and elements.
+     */
+    public TensorFloat contiguous() {
+        TensorFloat result = new TensorFloat(shape);
+        FloatArray output = result.getStorage();
+        for (int i = 0; i < output.getSize(); i++) {
+            output.set(i, storage.get(elementIndex(layout, i)));
+        }
+        return result;
+    }
+
+    /**
+     * @return the rank of the tensor described by the layout.
+     */
+    public static int rank(IntArray layout) {
+        return layout.get(LAYOUT_RANK);
+    }
+
+    /**
+     * @return the size of a dimension of the tensor described by the layout.
+     */
+    public static int size(IntArray layout, int dimension) {
+        return layout.get(LAYOUT_SHAPE + dimension);
+    }
+
+    /**
+     * @return the stride of a dimension of the tensor described by the layout.
+     */
+    public static int stride(IntArray layout, int dimension) {
+        return layout.get(LAYOUT_SHAPE + layout.get(LAYOUT_RANK) + dimension);
+    }
+
+    /**
+     * @return the number of elements of the tensor described by the layout.
+     */
+    public static int numElements(IntArray layout) {
+        int rank = layout.get(LAYOUT_RANK);
+        int size = 1;
+        for (int d = 0; d < rank; d++) {
+            size *= layout.get(LAYOUT_SHAPE + d);
+        }
+        return size;
+    }
+
+    public static int index(IntArray layout, int i0) {
+        return layout.get(LAYOUT_OFFSET) + i0 * stride(layout, 0);
+    }
+
+    public static int index(IntArray layout, int i0, int i1) {
+        return layout.get(LAYOUT_OFFSET) + i0 * stride(layout, 0) + i1 * stride(layout, 1);
+    }
+
+    public static int index(IntArray layout, int i0, int i1, int i2) {
+        return layout.get(LAYOUT_OFFSET) + i0 * stride(layout, 0) + i1 * stride(layout, 1) + i2 * stride(layout, 2);
+    }
+
+    public static int index(IntArray layout, int i0, int i1, int i2, int i3) {
+        return layout.get(LAYOUT_OFFSET) + i0 * stride(layout, 0) + i1 * stride(layout, 1) + i2 * stride(layout, 2) + i3 * stride(layout, 3);
+    }
+
+    /**
+     * Position in the storage of an element, given its position in the row-major
+     * order of the tensor. This works for any rank, so element-wise kernels can
+     * use a single parallel loop over {@link #numElements(IntArray)}.
+     *
+     * @param layout
+     *     Layout of the tensor.
+     * @param element
+     *     Position of the element in row-major order.
+     * @return the position in the storage.
+     */
+    public static int elementIndex(IntArray layout, int element) {
+        int rank = layout.get(LAYOUT_RANK);
+        int index = layout.get(LAYOUT_OFFSET);
+        int remaining = element;
+        for (int d = rank - 1; d >= 0; d--) {
+            int dimension = layout.get(LAYOUT_SHAPE + d);
+            index += (remaining % dimension) * layout.get(LAYOUT_SHAPE + rank + d);
+            remaining = remaining / dimension;
+        }
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TensorFloat <shape=%s, strides=%s, offset=%d>", Arrays.toString(shape), Arrays.toString(strides), offset);
+    }
+}
@@ -65,6 +65,7 @@ __SKIP_SERIAL__ = " -Dtornado.benchmarks.skipserial=True "
 __SKIP_PARALLEL__ = " -Dtornado.enable=False "
 __SKIP_DEVICES__ = " -Dtornado.blacklist.devices="
 __VALIDATE__ = " -Dtornado.benchmarks.validate=True "
+__RESULTS__ = " -Dtornado.benchmarks.results="
 __ENABLE_PROFILER__ = " --enableProfiler "
 __DISABLE_LEVEL_ZERO_DEFAULT_SCHEDULER__ = (
     " -Dtornado.spirv.levelzero.thread.dispatcher=False "
@@ -182,6 +183,8 @@ def composeAllOptions(args):
         jvm_options = jvm_options + __VALIDATE__
     if args.skip_devices != None:
         jvm_options = jvm_options + __SKIP_DEVICES__ + args.skip_devices + " "
+    if args.results != None:
+        jvm_options = jvm_options + __RESULTS__ + os.path.abspath(args.results) + " "
     if args.profiler:
         tornado_options = tornado_options + __ENABLE_PROFILER__ + args.profiler + " "
     if args.jvmFlags != None:
@@ -350,6 +353,14 @@ def parseArguments():
         required=False,
         help="Run Benchmarks with the OpenCL|PTX|SPIRV profiler",
     )
+    parser.add_argument(
+        "--results",
+        action="store",
+        dest="results",
+        required=False,
+        default=None,
+        help="Append the samples of each benchmark to a file (JSON lines, or CSV if the file ends with .csv)",
+    )
     parser.add_argument(
         "--jmh", action="store_true", dest="jmh", default=False, help="Run with JMH"
     )
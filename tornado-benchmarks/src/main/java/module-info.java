@@ -19,6 +19,7 @@ module tornado.benchmarks {
     requires org.apache.commons.lang3;
     requires java.logging;
     requires jmh.core;
+    requires tornado.drivers.common;
 
     requires transitive tornado.api;
     requires transitive tornado.matrices;
@@ -38,6 +39,7 @@ module tornado.benchmarks {
     exports uk.ac.manchester.tornado.benchmarks.mandelbrot;
     exports uk.ac.manchester.tornado.benchmarks.montecarlo;
     exports uk.ac.manchester.tornado.benchmarks.nbody;
+    exports uk.ac.manchester.tornado.benchmarks.overhead;
     exports uk.ac.manchester.tornado.benchmarks.rotateimage;
     exports uk.ac.manchester.tornado.benchmarks.rotatevector;
     exports uk.ac.manchester.tornado.benchmarks.saxpy;
@@ -45,4 +47,5 @@ module tornado.benchmarks {
     exports uk.ac.manchester.tornado.benchmarks.sgemv;
     exports uk.ac.manchester.tornado.benchmarks.spmv;
     exports uk.ac.manchester.tornado.benchmarks.stencil;
+    exports uk.ac.manchester.tornado.benchmarks.transfers;
 }
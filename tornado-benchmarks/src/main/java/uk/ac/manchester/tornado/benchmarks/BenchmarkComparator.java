@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Compares two sets of results written by {@link BenchmarkResultWriter} (JSON
+ * lines) and reports, for each benchmark, variant and device present in both
+ * sets, the change of the median time and whether the change is statistically
+ * significant (two-sided Mann-Whitney U test on the samples after the
+ * warmup). A change is reported as a regression or an improvement only if it
+ * is significant and larger than the threshold. The kernel and copy times are
+ * compared too when both runs were profiled.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado -m tornado.benchmarks/uk.ac.manchester.tornado.benchmarks.BenchmarkComparator baseline.json current.json [--alpha 0.05] [--threshold 5]
+ * </code>
+ *
+ * <p>
+ * The process exits with status 1 if any regression is found, so it can be
+ * used to gate a CI job.
+ * </p>
+ */
+public class BenchmarkComparator {
+
+    private static final Map<String, Function<BenchmarkResult, double[]>> METRICS = new LinkedHashMap<>();
+
+    static {
+        METRICS.put("time", BenchmarkResult::getSteadySamples);
+        METRICS.put("kernel", BenchmarkResult::getSteadyKernel);
+        METRICS.put("copyIn", BenchmarkResult::getSteadyCopyIn);
+        METRICS.put("copyOut", BenchmarkResult::getSteadyCopyOut);
+    }
+
+    public enum Verdict {
+        SAME, REGRESSION, IMPROVEMENT
+    }
+
+    public record Comparison(String key, String metric, double baselineMedian, double currentMedian, double change, double pValue, Verdict verdict) {
+    }
+
+    private final double alpha;
+    private final double threshold;
+
+    /**
+     * @param alpha
+     *     Significance level of the test.
+     * @param threshold
+     *     Minimum change of the median, in percentage, to report.
+     */
+    public BenchmarkComparator(double alpha, double threshold) {
+        this.alpha = alpha;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Merges the results with the same key, e.g. several runs of the same
+     * benchmark stored in the same file.
+     */
+    private static Map<String, double[]> group(List<BenchmarkResult> results, Function<BenchmarkResult, double[]> metric) {
+        Map<String, double[]> groups = new LinkedHashMap<>();
+        for (BenchmarkResult result : results) {
+            double[] samples = metric.apply(result);
+            if (!result.valid() || samples.length == 0) {
+                continue;
+            }
+            groups.merge(result.getKey(), samples, BenchmarkComparator::concat);
+        }
+        return groups;
+    }
+
+    private static double[] concat(double[] a, double[] b) {
+        double[] result = new double[a.length + b.length];
+        System.arraycopy(a, 0, result, 0, a.length);
+        System.arraycopy(b, 0, result, a.length, b.length);
+        return result;
+    }
+
+    Comparison compare(String key, String metric, double[] baseline, double[] current) {
+        double baselineMedian = BenchmarkStatistics.median(baseline);
+        double currentMedian = BenchmarkStatistics.median(current);
+        double change = (currentMedian - baselineMedian) / baselineMedian * 100;
+        double pValue = BenchmarkStatistics.mannWhitneyPValue(baseline, current);
+        Verdict verdict = Verdict.SAME;
+        if (pValue < alpha && Math.abs(change) >= threshold) {
+            verdict = change > 0 ? Verdict.REGRESSION : Verdict.IMPROVEMENT;
+        }
+        return new Comparison(key, metric, baselineMedian, currentMedian, change, pValue, verdict);
+    }
+
+    public List<Comparison> compare(List<BenchmarkResult> baseline, List<BenchmarkResult> current) {
+        List<Comparison> comparisons = new ArrayList<>();
+        METRICS.forEach((metric, samples) -> {
+            Map<String, double[]> baselineGroups = group(baseline, samples);
+            group(current, samples).forEach((key, currentSamples) -> {
+                double[] baselineSamples = baselineGroups.get(key);
+                if (baselineSamples != null) {
+                    comparisons.add(compare(key, metric, baselineSamples, currentSamples));
+                }
+            });
+        });
+        return comparisons;
+    }
+
+    private static void usage() {
+        System.out.println("Usage: BenchmarkComparator <baseline.json> <current.json> [--alpha <significance level, default 0.05>] [--threshold <min change in %, default 5>]");
+        System.exit(2);
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            usage();
+        }
+        double alpha = 0.05;
+        double threshold = 5;
+        for (int i = 2; i < args.length; i += 2) {
+            if (i + 1 >= args.length) {
+                usage();
+            }
+            switch (args[i]) {
+                case "--alpha" -> alpha = Double.parseDouble(args[i + 1]);
+                case "--threshold" -> threshold = Double.parseDouble(args[i + 1]);
+                default -> usage();
+            }
+        }
+
+        BenchmarkComparator comparator = new BenchmarkComparator(alpha, threshold);
+        List<Comparison> comparisons = comparator.compare(BenchmarkResultWriter.read(Paths.get(args[0])), BenchmarkResultWriter.read(Paths.get(args[1])));
+
+        int regressions = 0;
+        System.out.printf("%-60s %-8s %14s %14s %9s %9s  %s%n", "benchmark variant device", "metric", "baseline(ns)", "current(ns)", "change", "p-value", "verdict");
+        for (Comparison c : comparisons) {
+            System.out.printf("%-60s %-8s %14.0f %14.0f %+8.2f%% %9.4f  %s%n", c.key(), c.metric(), c.baselineMedian(), c.currentMedian(), c.change(), c.pValue(), c.verdict());
+            if (c.verdict() == Verdict.REGRESSION) {
+                regressions++;
+            }
+        }
+        System.out.printf("%d comparisons, %d regressions (alpha=%.3f, threshold=%.1f%%)%n", comparisons.size(), regressions, alpha, threshold);
+        System.exit(regressions == 0 ? 0 : 1);
+    }
+}
@@ -18,7 +18,6 @@
 package uk.ac.manchester.tornado.benchmarks;
 
 import static java.lang.Math.toIntExact;
-import static java.util.Arrays.sort;
 import static uk.ac.manchester.tornado.api.utils.TornadoAPIUtils.humanReadableByteCount;
 
 import java.util.ArrayList;
@@ -148,23 +147,11 @@ public abstract class BenchmarkDriver {
     }
 
     public double getMin(double[] arr) {
-        double minValue = arr[0];
-        for (int i = 1; i < arr.length; i++) {
-            if (arr[i] < minValue) {
-                minValue = arr[i];
-            }
-        }
-        return minValue;
+        return BenchmarkStatistics.min(arr);
     }
 
     public double getMedian(double[] arr) {
-        double[] temp = arr.clone();
-        sort(temp);
-        if (temp.length % 2 == 0) {
-            return ((temp[temp.length / 2] + temp[temp.length / 2 - 1]) / 2);
-        } else {
-            return temp[temp.length / 2];
-        }
+        return BenchmarkStatistics.median(arr);
     }
 
     public double[] toArray(List<Long> list) {
@@ -260,6 +247,27 @@ public abstract class BenchmarkDriver {
         return String.format("average=%6e, median=%6e, firstIteration=%6e, best=%6e", getAverage(), getMedian(), getFirstIteration(), getBestExecution());
     }
 
+    /**
+     * Returns the number of iterations that are excluded from the average as
+     * warmup.
+     */
+    public int getWarmupIterations() {
+        return timers == null || timers.length <= startingIndex ? 0 : startingIndex;
+    }
+
+    /**
+     * Creates the {@link BenchmarkResult} with the samples of the last call to
+     * {@link #benchmark}.
+     */
+    public BenchmarkResult createResult(String benchmark, String variant, TornadoDevice device, String deviceId, String config) {
+        String backend = device == null ? "JAVA" : device.getTornadoVMBackend().name();
+        String deviceName = device == null ? "JVM" : device.getPhysicalDevice().getDeviceName();
+        return new BenchmarkResult(benchmark, variant, deviceId, backend, deviceName, config, validResult, getWarmupIterations(), timers == null ? new double[0] : timers.clone(), //
+                deviceKernelTimers == null ? new double[0] : toArray(deviceKernelTimers), //
+                deviceCopyIn == null ? new double[0] : toArray(deviceCopyIn), //
+                deviceCopyOut == null ? new double[0] : toArray(deviceCopyOut));
+    }
+
     public String getSummary() {
         return String.format("elapsed=%6e, per iteration=%6e", getElapsed(), getElapsedPerIteration());
     }
@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+
+/**
+ * Samples of one run of a benchmark on one device, in a form that can be
+ * stored and compared across runs (see {@link BenchmarkResultWriter} and
+ * {@link BenchmarkComparator}). All times are in nanoseconds.
+ *
+ * @param benchmark
+ *     Id of the benchmark, including its parameters (e.g.
+ *     {@code saxpy-100-16777216}).
+ * @param variant
+ *     {@code java-reference}, {@code java-streams} or {@code tornado}.
+ * @param device
+ *     Device in the form {@code backendIndex:deviceIndex}, or {@code host} for
+ *     the Java variants.
+ * @param backend
+ *     Name of the backend of the device.
+ * @param deviceName
+ *     Name of the device.
+ * @param config
+ *     Problem size, as reported by the benchmark.
+ * @param warmup
+ *     Number of samples at the beginning of {@code samples} that belong to the
+ *     warmup.
+ * @param samples
+ *     End-to-end time of each iteration.
+ * @param kernel
+ *     Kernel time of each iteration, or an empty array if the profiler was not
+ *     enabled. The same applies to {@code copyIn} and {@code copyOut}.
+ */
+public record BenchmarkResult(String benchmark, String variant, String device, String backend, String deviceName, String config, boolean valid, int warmup, double[] samples, double[] kernel,
+        double[] copyIn, double[] copyOut) {
+
+    public static final String CSV_HEADER = "benchmark,variant,device,backend,deviceName,config,valid,iteration,warmup,time,kernel,copyIn,copyOut";
+
+    /**
+     * Key used to match the results of two runs.
+     */
+    public String getKey() {
+        return benchmark + " " + variant + " " + device;
+    }
+
+    private double[] afterWarmup(double[] values) {
+        return values.length > warmup ? Arrays.copyOfRange(values, warmup, values.length) : values;
+    }
+
+    /**
+     * Returns the samples after the warmup.
+     */
+    public double[] getSteadySamples() {
+        return afterWarmup(samples);
+    }
+
+    /**
+     * Returns the kernel times after the warmup.
+     */
+    public double[] getSteadyKernel() {
+        return afterWarmup(kernel);
+    }
+
+    /**
+     * Returns the copy-in times after the warmup.
+     */
+    public double[] getSteadyCopyIn() {
+        return afterWarmup(copyIn);
+    }
+
+    /**
+     * Returns the copy-out times after the warmup.
+     */
+    public double[] getSteadyCopyOut() {
+        return afterWarmup(copyOut);
+    }
+
+    private static void appendString(StringBuilder json, String key, String value) {
+        json.append('"').append(key).append("\":\"");
+        for (char c : String.valueOf(value).toCharArray()) {
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                default -> json.append(c < 0x20 ? ' ' : c);
+            }
+        }
+        json.append("\",");
+    }
+
+    private static void appendArray(StringBuilder json, String key, double[] values) {
+        json.append('"').append(key).append("\":[");
+        for (int i = 0; i < values.length; i++) {
+            if (i != 0) {
+                json.append(',');
+            }
+            json.append((long) values[i]);
+        }
+        json.append("],");
+    }
+
+    /**
+     * Returns the result as a single line of JSON.
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder("{");
+        appendString(json, "benchmark", benchmark);
+        appendString(json, "variant", variant);
+        appendString(json, "device", device);
+        appendString(json, "backend", backend);
+        appendString(json, "deviceName", deviceName);
+        appendString(json, "config", config);
+        json.append("\"valid\":").append(valid).append(',');
+        json.append("\"warmup\":").append(warmup).append(',');
+        appendArray(json, "samples", samples);
+        appendArray(json, "kernel", kernel);
+        appendArray(json, "copyIn", copyIn);
+        appendArray(json, "copyOut", copyOut);
+        json.setCharAt(json.length() - 1, '}');
+        return json.toString();
+    }
+
+    private static String csvField(String value) {
+        String field = String.valueOf(value);
+        return field.contains(",") || field.contains("\"") ? "\"" + field.replace("\"", "\"\"") + "\"" : field;
+    }
+
+    private static String csvValue(double[] values, int index) {
+        return index < values.length ? Long.toString((long) values[index]) : "";
+    }
+
+    /**
+     * Appends one CSV row per iteration, in the order of {@link #CSV_HEADER}.
+     */
+    public StringBuilder appendCsv(StringBuilder csv) {
+        String prefix = String.join(",", csvField(benchmark), csvField(variant), csvField(device), csvField(backend), csvField(deviceName), csvField(config), Boolean.toString(valid));
+        for (int i = 0; i < samples.length; i++) {
+            csv.append(prefix).append(',').append(i).append(',').append(i < warmup).append(',').append((long) samples[i]).append(',') //
+                    .append(csvValue(kernel, i)).append(',').append(csvValue(copyIn, i)).append(',').append(csvValue(copyOut, i)).append('\n');
+        }
+        return csv;
+    }
+
+    /**
+     * Parses a line written by {@link #toJson()}.
+     */
+    public static BenchmarkResult fromJson(String line) {
+        Map<String, Object> values = new JsonLineParser(line).parse();
+        return new BenchmarkResult( //
+                (String) values.get("benchmark"), //
+                (String) values.get("variant"), //
+                (String) values.get("device"), //
+                (String) values.get("backend"), //
+                (String) values.get("deviceName"), //
+                (String) values.get("config"), //
+                Boolean.parseBoolean(String.valueOf(values.get("valid"))), //
+                (int) Double.parseDouble(String.valueOf(values.getOrDefault("warmup", "0"))), //
+                (double[]) values.getOrDefault("samples", new double[0]), //
+                (double[]) values.getOrDefault("kernel", new double[0]), //
+                (double[]) values.getOrDefault("copyIn", new double[0]), //
+                (double[]) values.getOrDefault("copyOut", new double[0]));
+    }
+
+    /**
+     * Parser for the flat objects of {@link #toJson()}: the values are strings,
+     * numbers, booleans or arrays of numbers.
+     */
+    private static final class JsonLineParser {
+        private final String line;
+        private int position;
+
+        JsonLineParser(String line) {
+            this.line = line;
+        }
+
+        private TornadoRuntimeException error() {
+            return new TornadoRuntimeException("Invalid benchmark result at position " + position + ": " + line);
+        }
+
+        private char next() {
+            while (position < line.length() && Character.isWhitespace(line.charAt(position))) {
+                position++;
+            }
+            if (position >= line.length()) {
+                throw error();
+            }
+            return line.charAt(position);
+        }
+
+        private void expect(char c) {
+            if (next() != c) {
+                throw error();
+            }
+            position++;
+        }
+
+        private String parseString() {
+            expect('"');
+            StringBuilder value = new StringBuilder();
+            while (position < line.length() && line.charAt(position) != '"') {
+                char c = line.charAt(position++);
+                if (c == '\\' && position < line.length()) {
+                    c = line.charAt(position++);
+                }
+                value.append(c);
+            }
+            expect('"');
+            return value.toString();
+        }
+
+        private String parseLiteral() {
+            int start = position;
+            while (position < line.length() && ",]}".indexOf(line.charAt(position)) < 0) {
+                position++;
+            }
+            return line.substring(start, position).trim();
+        }
+
+        private double[] parseArray() {
+            expect('[');
+            List<Double> values = new ArrayList<>();
+            while (next() != ']') {
+                try {
+                    values.add(Double.parseDouble(parseLiteral()));
+                } catch (NumberFormatException e) {
+                    throw error();
+                }
+                if (next() == ',') {
+                    position++;
+                }
+            }
+            position++;
+            return values.stream().mapToDouble(Double::doubleValue).toArray();
+        }
+
+        Map<String, Object> parse() {
+            Map<String, Object> values = new LinkedHashMap<>();
+            expect('{');
+            while (next() != '}') {
+                String key = parseString();
+                expect(':');
+                char c = next();
+                values.put(key, c == '"' ? parseString() : c == '[' ? parseArray() : parseLiteral());
+                if (next() == ',') {
+                    position++;
+                }
+            }
+            return values;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+
+/**
+ * Appends the {@link BenchmarkResult}s to the file given by the
+ * {@code tornado.benchmarks.results} property. Files that end with
+ * {@code .csv} receive one row per iteration; any other file receives one
+ * JSON object per line, which is the format read by
+ * {@link BenchmarkComparator}. The results are appended, so the runs of
+ * several benchmarks (each in its own JVM) can be collected in the same file.
+ */
+public final class BenchmarkResultWriter {
+
+    private static final String RESULTS_FILE = System.getProperty("tornado.benchmarks.results", "");
+
+    private BenchmarkResultWriter() {
+    }
+
+    public static boolean isEnabled() {
+        return !RESULTS_FILE.isEmpty();
+    }
+
+    public static synchronized void write(BenchmarkResult result) {
+        write(Paths.get(RESULTS_FILE), result);
+    }
+
+    public static void write(Path file, BenchmarkResult result) {
+        try {
+            String content;
+            if (file.toString().endsWith(".csv")) {
+                StringBuilder csv = new StringBuilder();
+                if (!Files.exists(file) || Files.size(file) == 0) {
+                    csv.append(BenchmarkResult.CSV_HEADER).append('\n');
+                }
+                content = result.appendCsv(csv).toString();
+            } else {
+                content = result.toJson() + "\n";
+            }
+            Files.writeString(file, content, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new TornadoRuntimeException("Unable to write the benchmark results to " + file + ": " + e.getMessage());
+        }
+    }
+
+    public static List<BenchmarkResult> read(Path file) {
+        List<BenchmarkResult> results = new ArrayList<>();
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (!line.isBlank()) {
+                    results.add(BenchmarkResult.fromJson(line));
+                }
+            }
+        } catch (IOException e) {
+            throw new TornadoRuntimeException("Unable to read the benchmark results from " + file + ": " + e.getMessage());
+        }
+        return results;
+    }
+}
@@ -66,6 +66,7 @@ public abstract class BenchmarkRunner {
             referenceTest.benchmark(null, false);
 
             System.out.printf("bm=%-15s, id=%-20s, %s\n", id, "java-reference", referenceTest.getPreciseSummary());
+            saveResult(id, "java-reference", referenceTest, null, "host");
 
             refElapsed = referenceTest.getAverage();
             refElapsedMedian = referenceTest.getMedian();
@@ -75,6 +76,7 @@ public abstract class BenchmarkRunner {
             if (streamsTest != null && !SKIP_STREAMS) {
                 streamsTest.benchmark(null, false);
                 System.out.printf("bm=%-15s, id=%-20s, %s\n", id, "java-streams", streamsTest.getSummary());
+                saveResult(id, "java-streams", streamsTest, null, "host");
             }
         } else {
             refElapsed = -1;
@@ -145,7 +147,7 @@ public abstract class BenchmarkRunner {
                             benchmarkDriver.getAverageCopyOutTime(), //
                             driver.getDevice(deviceIndex));
                 }
-
+                saveResult(id, "tornado", benchmarkDriver, tornadoDevice, driverIndex + ":" + deviceIndex);
             }
         }
     }
@@ -166,6 +168,13 @@ public abstract class BenchmarkRunner {
             System.out.printf("bm=%-15s, device=%-5s, %s, speedupAvg=%.4f, speedupMedian=%.4f, speedupFirstIteration=%.4f, CV=%.4f, deviceName=%s\n", id, driverIndex + ":" + deviceIndex, deviceTest
                     .getPreciseSummary(), refElapsed / deviceTest.getAverage(), refElapsedMedian / deviceTest.getMedian(), refFirstIteration / deviceTest.getFirstIteration(), deviceTest.getCV(),
                     driver.getDevice(deviceIndex));
+            saveResult(id, "tornado", deviceTest, tornadoDevice, driverIndex + ":" + deviceIndex);
+        }
+    }
+
+    private void saveResult(String id, String variant, BenchmarkDriver benchmarkDriver, TornadoDevice device, String deviceId) {
+        if (BenchmarkResultWriter.isEnabled()) {
+            BenchmarkResultWriter.write(benchmarkDriver.createResult(id, variant, device, deviceId, getConfigString()));
         }
     }
 
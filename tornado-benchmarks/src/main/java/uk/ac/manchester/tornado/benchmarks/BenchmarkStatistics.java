@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks;
+
+import static java.util.Arrays.sort;
+
+import java.util.Arrays;
+
+/**
+ * Statistics of the samples of the benchmarks, and the significance test used
+ * to compare two sets of samples.
+ */
+public final class BenchmarkStatistics {
+
+    private BenchmarkStatistics() {
+    }
+
+    public static double min(double[] samples) {
+        double minValue = samples[0];
+        for (int i = 1; i < samples.length; i++) {
+            minValue = Math.min(minValue, samples[i]);
+        }
+        return minValue;
+    }
+
+    public static double median(double[] samples) {
+        double[] sorted = samples.clone();
+        sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 0 ? (sorted[middle - 1] + sorted[middle]) / 2 : sorted[middle];
+    }
+
+    public static double mean(double[] samples) {
+        double sum = 0;
+        for (double sample : samples) {
+            sum += sample;
+        }
+        return sum / samples.length;
+    }
+
+    public static double stdDev(double[] samples) {
+        double mean = mean(samples);
+        double sum = 0;
+        for (double sample : samples) {
+            sum += (sample - mean) * (sample - mean);
+        }
+        return Math.sqrt(sum / samples.length);
+    }
+
+    /**
+     * Two-sided Mann-Whitney U test: probability that the two sets of samples
+     * come from the same distribution. The test does not assume that the
+     * samples are normally distributed, so it is not sensitive to the outliers
+     * that are common in the execution times (GC, JIT compilation, ...). The
+     * p-value is computed with the normal approximation, with the correction
+     * for ties, which is accurate for more than about 10 samples per set.
+     *
+     * @return p-value in [0, 1].
+     */
+    public static double mannWhitneyPValue(double[] x, double[] y) {
+        final int n1 = x.length;
+        final int n2 = y.length;
+        final int n = n1 + n2;
+        double[] values = new double[n];
+        boolean[] isX = new boolean[n];
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = i < n1 ? x[i] : y[i - n1];
+            isX[i] = i < n1;
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+
+        // Ranks, with the average rank for the ties
+        double rankSumX = 0;
+        double tieCorrection = 0;
+        for (int i = 0; i < n;) {
+            int j = i;
+            while (j + 1 < n && values[order[j + 1]] == values[order[i]]) {
+                j++;
+            }
+            double rank = (i + j) / 2.0 + 1;
+            for (int k = i; k <= j; k++) {
+                if (isX[order[k]]) {
+                    rankSumX += rank;
+                }
+            }
+            double ties = j - i + 1;
+            tieCorrection += ties * ties * ties - ties;
+            i = j + 1;
+        }
+
+        double u = rankSumX - n1 * (n1 + 1) / 2.0;
+        double meanU = n1 * (double) n2 / 2.0;
+        double varianceU = n1 * (double) n2 / 12.0 * ((n + 1) - tieCorrection / ((double) n * (n - 1)));
+        if (varianceU <= 0) {
+            return 1.0;
+        }
+        // Continuity correction
+        double z = (Math.abs(u - meanU) - 0.5) / Math.sqrt(varianceU);
+        return Math.min(1.0, 2 * (1 - normalCdf(Math.max(0, z))));
+    }
+
+    /**
+     * Cumulative distribution function of the standard normal distribution
+     * (Abramowitz and Stegun, 7.1.26).
+     */
+    static double normalCdf(double z) {
+        double x = Math.abs(z) / Math.sqrt(2);
+        double t = 1 / (1 + 0.3275911 * x);
+        double erf = 1 - ((((1.061405429 * t - 1.453152027) * t + 1.421413741) * t - 0.284496736) * t + 0.254829592) * t * Math.exp(-x * x);
+        return z >= 0 ? 0.5 * (1 + erf) : 0.5 * (1 - erf);
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks.overhead;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.TornadoExecutionResult;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.enums.ProfilerMode;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+
+/**
+ * Host-side overheads of the dispatch of a task-graph: building and
+ * snapshotting the task-graph, creating the execution plan, and executing the
+ * TornadoVM bytecodes (including the marshalling of the kernel arguments), with
+ * and without the profiler. The kernels are tiny, so the measurements are
+ * dominated by the runtime.
+ *
+ * <p>
+ * With the virtual OpenCL device, the kernels are compiled but nothing is sent
+ * to a device, so the suite runs on machines without GPUs:
+ * </p>
+ * <code>
+ * tornado --jvm="-Dtornado.virtual.device=True -Dtornado.device.desc=${TORNADO_SDK}/examples/virtual-device-GPU.json" -jar tornado-benchmarks/target/jmhbenchmarks.jar uk.ac.manchester.tornado.benchmarks.overhead.JMHDispatchOverhead
+ * </code>
+ */
+public class JMHDispatchOverhead {
+
+    private static final int NUM_ELEMENTS = 256;
+
+    public static void add(IntArray a, IntArray b, IntArray c) {
+        for (@Parallel int i = 0; i < c.getSize(); i++) {
+            c.set(i, a.get(i) + b.get(i));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkSetup {
+
+        @Param({ "1", "8" })
+        int numTasks;
+
+        private IntArray a;
+        private IntArray b;
+        private IntArray c;
+
+        private ImmutableTaskGraph immutableTaskGraph;
+        private TornadoExecutionPlan executionPlan;
+        private TornadoExecutionPlan executionPlanWithProfiler;
+
+        TaskGraph createTaskGraph() {
+            TaskGraph taskGraph = new TaskGraph("overhead") //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b);
+            for (int i = 0; i < numTasks; i++) {
+                taskGraph.task("t" + i, JMHDispatchOverhead::add, a, b, c);
+            }
+            return taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+        }
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            a = new IntArray(NUM_ELEMENTS);
+            b = new IntArray(NUM_ELEMENTS);
+            c = new IntArray(NUM_ELEMENTS);
+            a.init(1);
+            b.init(2);
+
+            immutableTaskGraph = createTaskGraph().snapshot();
+            executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
+            executionPlan.withWarmUp();
+
+            executionPlanWithProfiler = new TornadoExecutionPlan(createTaskGraph().snapshot());
+            executionPlanWithProfiler.withProfiler(ProfilerMode.SILENT).withWarmUp();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public ImmutableTaskGraph snapshot(BenchmarkSetup state) {
+        return state.createTaskGraph().snapshot();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public TornadoExecutionPlan planConstruction(BenchmarkSetup state) {
+        return new TornadoExecutionPlan(state.immutableTaskGraph);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public TornadoExecutionResult execute(BenchmarkSetup state) {
+        return state.executionPlan.execute();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public TornadoExecutionResult executeWithProfiler(BenchmarkSetup state) {
+        return state.executionPlanWithProfiler.execute();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder() //
+                .include(JMHDispatchOverhead.class.getName() + ".*") //
+                .build();
+        new Runner(opt).run();
+    }
+}
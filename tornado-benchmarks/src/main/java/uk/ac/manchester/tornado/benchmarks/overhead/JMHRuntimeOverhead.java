@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks.overhead;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import uk.ac.manchester.tornado.api.TornadoDeviceContext;
+import uk.ac.manchester.tornado.api.TornadoTargetDevice;
+import uk.ac.manchester.tornado.api.profiler.ProfilerType;
+import uk.ac.manchester.tornado.api.profiler.TornadoProfiler;
+import uk.ac.manchester.tornado.drivers.common.TornadoBufferProvider;
+import uk.ac.manchester.tornado.runtime.profiler.EmptyProfiler;
+import uk.ac.manchester.tornado.runtime.profiler.TimeProfiler;
+
+/**
+ * Overheads of the components of the runtime that are used in every execution
+ * of a task-graph: the device-buffer cache of the {@link TornadoBufferProvider}
+ * and the {@link TimeProfiler}. The device is mocked, so the suite does not
+ * need a device nor a backend.
+ *
+ * <p>
+ * How to run in isolation?
+ * </p>
+ * <code>
+ * tornado -jar tornado-benchmarks/target/jmhbenchmarks.jar uk.ac.manchester.tornado.benchmarks.overhead.JMHRuntimeOverhead
+ * </code>
+ */
+public class JMHRuntimeOverhead {
+
+    private static final long MB = 1024 * 1024;
+
+    /**
+     * Returns a device context whose methods return the default values, with a
+     * device without a limit for the size of the allocations.
+     */
+    private static TornadoDeviceContext mockDeviceContext() {
+        TornadoTargetDevice device = mock(TornadoTargetDevice.class, null);
+        return mock(TornadoDeviceContext.class, device);
+    }
+
+    private static <T> T mock(Class<T> type, TornadoTargetDevice device) {
+        return type.cast(Proxy.newProxyInstance(JMHRuntimeOverhead.class.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+            Class<?> returnType = method.getReturnType();
+            return switch (method.getName()) {
+                case "getDevice" -> device;
+                case "getDeviceMaxAllocationSize" -> Long.MAX_VALUE;
+                default -> {
+                    if (returnType == boolean.class) {
+                        yield false;
+                    } else if (returnType == long.class) {
+                        yield 0L;
+                    } else if (returnType.isPrimitive() && returnType != void.class) {
+                        yield 0;
+                    }
+                    yield null;
+                }
+            };
+        }));
+    }
+
+    /**
+     * Buffer provider that hands out fake buffer ids.
+     */
+    private static class MockBufferProvider extends TornadoBufferProvider {
+
+        private long nextBuffer = 1;
+
+        MockBufferProvider() {
+            super(mockDeviceContext());
+        }
+
+        @Override
+        protected long allocateBuffer(long size) {
+            return nextBuffer++;
+        }
+
+        @Override
+        protected void releaseBuffer(long buffer) {
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class BufferProviderSetup {
+
+        @Param({ "16", "128" })
+        int numBuffers;
+
+        private TornadoBufferProvider bufferProvider;
+        private long[] sizes;
+        private long[] buffers;
+
+        /**
+         * Fills the device memory and releases all the buffers, so the benchmark
+         * measures the steady state, in which every request is served from the
+         * cache of free buffers.
+         */
+        @Setup(Level.Trial)
+        public void doSetup() {
+            bufferProvider = new MockBufferProvider();
+            sizes = new long[numBuffers];
+            buffers = new long[numBuffers];
+            for (int i = 0; i < numBuffers; i++) {
+                sizes[i] = (1 + i % 8) * MB;
+            }
+            List<long[]> allocated = new ArrayList<>();
+            for (int i = 0; bufferProvider.getAvailableMemory() >= MB; i++) {
+                long size = Math.min((1 + i % 8) * MB, bufferProvider.getAvailableMemory());
+                allocated.add(new long[] { bufferProvider.getBufferWithSize(size), size });
+            }
+            for (long[] buffer : allocated) {
+                bufferProvider.markBufferReleased(buffer[0], buffer[1]);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ProfilerSetup {
+
+        @Param({ "1", "8" })
+        int numTasks;
+
+        private String[] taskNames;
+        private TornadoProfiler timeProfiler;
+        private TornadoProfiler emptyProfiler;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            taskNames = new String[numTasks];
+            for (int i = 0; i < numTasks; i++) {
+                taskNames[i] = "overhead.t" + i;
+            }
+            timeProfiler = new TimeProfiler();
+            emptyProfiler = new EmptyProfiler();
+        }
+    }
+
+    /**
+     * Timers recorded by the runtime in an execution of a task-graph.
+     */
+    private static long profileExecution(TornadoProfiler profiler, String[] taskNames) {
+        profiler.clean();
+        profiler.start(ProfilerType.TOTAL_TASK_GRAPH_TIME);
+        profiler.start(ProfilerType.COPY_IN_TIME);
+        profiler.stop(ProfilerType.COPY_IN_TIME);
+        for (String taskName : taskNames) {
+            profiler.setTaskTimer(ProfilerType.TASK_KERNEL_TIME, taskName, 1000);
+            profiler.sum(ProfilerType.TOTAL_KERNEL_TIME, 1000);
+            profiler.addValueToMetric(ProfilerType.TOTAL_COPY_IN_SIZE_BYTES, taskName, 1024);
+        }
+        profiler.start(ProfilerType.COPY_OUT_TIME);
+        profiler.stop(ProfilerType.COPY_OUT_TIME);
+        profiler.stop(ProfilerType.TOTAL_TASK_GRAPH_TIME);
+        return profiler.getTimer(ProfilerType.TOTAL_KERNEL_TIME);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void bufferProviderReuse(BufferProviderSetup state, Blackhole blackhole) {
+        TornadoBufferProvider bufferProvider = state.bufferProvider;
+        for (int i = 0; i < state.numBuffers; i++) {
+            state.buffers[i] = bufferProvider.getBufferWithSize(state.sizes[i]);
+        }
+        for (int i = 0; i < state.numBuffers; i++) {
+            bufferProvider.markBufferReleased(state.buffers[i], state.sizes[i]);
+        }
+        blackhole.consume(state.buffers);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public long timeProfiler(ProfilerSetup state) {
+        return profileExecution(state.timeProfiler, state.taskNames);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public long emptyProfiler(ProfilerSetup state) {
+        return profileExecution(state.emptyProfiler, state.taskNames);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder() //
+                .include(JMHRuntimeOverhead.class.getName() + ".*") //
+                .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks.transfers;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoDriver;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.common.Event;
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.runtime.TornadoRuntime;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.benchmarks.BenchmarkResult;
+import uk.ac.manchester.tornado.benchmarks.BenchmarkResultWriter;
+import uk.ac.manchester.tornado.benchmarks.BenchmarkStatistics;
+import uk.ac.manchester.tornado.runtime.common.DeviceObjectState;
+import uk.ac.manchester.tornado.runtime.common.exceptions.TornadoUnsupportedError;
+
+/**
+ * Bandwidth and latency of the data transfers between the host and each
+ * device, for sizes from 4 bytes to {@code tornado.benchmarks.transfers.maxBytes}
+ * (1GB by default), in both directions, for heap and off-heap arrays, blocking
+ * and non-blocking transfers, and full arrays and sub-regions (see
+ * {@link TransferCase}). The transfers are issued directly on the
+ * {@link TornadoDevice}, so the measurements do not include the TornadoVM
+ * interpreter. Then, the same data is processed by an execution plan with
+ * batches of increasing sizes, to find the batch size with the best
+ * end-to-end throughput.
+ *
+ * <p>
+ * For each device, the benchmark writes a {@link TransferProfile} in the
+ * directory given by {@code tornado.benchmarks.transfers.profile.dir}.
+ * </p>
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado -m tornado.benchmarks/uk.ac.manchester.tornado.benchmarks.transfers.TransferBenchmark
+ * </code>
+ */
+public class TransferBenchmark {
+
+    private static final long MAX_BYTES = Long.parseLong(System.getProperty("tornado.benchmarks.transfers.maxBytes", Long.toString(1L << 30)));
+
+    private static final int ITERATIONS = Integer.parseInt(System.getProperty("tornado.benchmarks.transfers.iterations", "100"));
+
+    private static final String PROFILE_DIR = System.getProperty("tornado.benchmarks.transfers.profile.dir", ".");
+
+    private static final long MAX_BATCH_DATA_BYTES = 512L << 20;
+
+    /**
+     * Number of non-blocking transfers in flight before the host waits.
+     */
+    private static final int QUEUE_DEPTH = 8;
+
+    private static final int WARMUP = 5;
+
+    private static final int MIN_ITERATIONS = 5;
+
+    /**
+     * Bytes copied per transfer size and case, to bound the time of the large
+     * transfers.
+     */
+    private static final long BYTES_PER_SIZE = 4L << 30;
+
+    public static void copy(FloatArray input, FloatArray output) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            output.set(i, input.get(i));
+        }
+    }
+
+    private static long waitFor(TornadoDevice device, int eventId) {
+        if (eventId < 0) {
+            return 0;
+        }
+        Event event = device.resolveEvent(eventId);
+        event.waitForEvents();
+        return event.getElapsedTime();
+    }
+
+    private static long waitFor(TornadoDevice device, List<Integer> eventIds) {
+        long elapsed = 0;
+        if (eventIds != null) {
+            for (int eventId : eventIds) {
+                elapsed += waitFor(device, eventId);
+            }
+        }
+        return elapsed;
+    }
+
+    /**
+     * Runs one blocking transfer, or {@link #QUEUE_DEPTH} non-blocking
+     * transfers.
+     *
+     * @return Host and device times per transfer.
+     */
+    private static double[] transfer(TornadoDevice device, TransferCase transferCase, Object hostObject, long batchSize, long hostOffset, DeviceObjectState state) {
+        final int numTransfers = transferCase.blocking() ? 1 : QUEUE_DEPTH;
+        long deviceTime = 0;
+        final long start = System.nanoTime();
+        if (transferCase.hostToDevice()) {
+            if (transferCase.blocking()) {
+                deviceTime = waitFor(device, device.streamIn(hostObject, batchSize, hostOffset, state, null));
+            } else {
+                List<Integer> eventIds = new ArrayList<>();
+                for (int i = 0; i < numTransfers; i++) {
+                    List<Integer> events = device.streamIn(hostObject, batchSize, hostOffset, state, null);
+                    if (events != null) {
+                        eventIds.addAll(events);
+                    }
+                }
+                deviceTime = waitFor(device, eventIds);
+            }
+        } else {
+            if (transferCase.blocking()) {
+                deviceTime = waitFor(device, device.streamOutBlocking(hostObject, hostOffset, state, null));
+            } else {
+                // The backends do not return the events of the non-blocking reads
+                for (int i = 0; i < numTransfers; i++) {
+                    device.streamOut(hostObject, hostOffset, state, null);
+                }
+                device.sync();
+            }
+        }
+        final long end = System.nanoTime();
+        return new double[] { (double) (end - start) / numTransfers, (double) deviceTime / numTransfers };
+    }
+
+    private static TransferProfile.Measurement measure(TornadoDevice device, String deviceId, TransferCase transferCase, long bytes) {
+        final int numElements = (int) Math.max(1, bytes / Float.BYTES);
+        final int hostElements = transferCase.subRegion() ? numElements * 2 : numElements;
+        final Object hostObject = transferCase.heap() ? new float[hostElements] : new FloatArray(hostElements);
+        final long regionBytes = (long) numElements * Float.BYTES;
+        final long batchSize = transferCase.subRegion() ? regionBytes : 0;
+        final long hostOffset = transferCase.subRegion() ? regionBytes : 0;
+        final int iterations = (int) Math.max(MIN_ITERATIONS, Math.min(ITERATIONS, BYTES_PER_SIZE / (regionBytes * (transferCase.blocking() ? 1 : QUEUE_DEPTH))));
+
+        DeviceObjectState state = new DeviceObjectState();
+        device.allocate(hostObject, batchSize, state);
+        try {
+            // The reads need a buffer with contents
+            waitFor(device, device.streamIn(hostObject, batchSize, hostOffset, state, null));
+
+            double[] hostTimes = new double[WARMUP + iterations];
+            double[] deviceTimes = new double[WARMUP + iterations];
+            for (int i = 0; i < hostTimes.length; i++) {
+                double[] times = transfer(device, transferCase, hostObject, batchSize, hostOffset, state);
+                hostTimes[i] = times[0];
+                deviceTimes[i] = times[1];
+            }
+
+            if (BenchmarkResultWriter.isEnabled()) {
+                BenchmarkResultWriter.write(new BenchmarkResult("transfer-" + transferCase.getName() + "-" + regionBytes, "tornado", deviceId, device.getTornadoVMBackend().name(), device
+                        .getPhysicalDevice().getDeviceName(), "bytes=" + regionBytes, true, WARMUP, hostTimes, new double[0], new double[0], new double[0]));
+            }
+
+            double[] steadyHostTimes = Arrays.copyOfRange(hostTimes, WARMUP, hostTimes.length);
+            double[] steadyDeviceTimes = Arrays.copyOfRange(deviceTimes, WARMUP, deviceTimes.length);
+            return new TransferProfile.Measurement(transferCase, regionBytes, BenchmarkStatistics.median(steadyHostTimes), BenchmarkStatistics.median(steadyDeviceTimes));
+        } finally {
+            device.deallocate(state);
+        }
+    }
+
+    private static String toBatchString(long batchBytes) {
+        return batchBytes % 1_000_000_000 == 0 ? (batchBytes / 1_000_000_000) + "GB" : (batchBytes / 1_000_000) + "MB";
+    }
+
+    /**
+     * Copies an array through a task-graph, without batches and with batches
+     * from 1MB to the size of the array.
+     */
+    private static void measureBatches(TornadoDevice device, TransferProfile profile, long dataBytes) {
+        final int numElements = (int) (dataBytes / Float.BYTES);
+        FloatArray input = new FloatArray(numElements);
+        FloatArray output = new FloatArray(numElements);
+        input.init(1.0f);
+
+        TaskGraph taskGraph = new TaskGraph("transfers") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("copy", TransferBenchmark::copy, input, output) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+
+        for (long batchBytes = 0; batchBytes < dataBytes; batchBytes = (batchBytes == 0) ? 1_000_000 : batchBytes * 2) {
+            TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot());
+            executionPlan.withDevice(device);
+            if (batchBytes > 0) {
+                executionPlan.withBatch(toBatchString(batchBytes));
+            }
+            final int iterations = Math.max(MIN_ITERATIONS, ITERATIONS / 10);
+            double[] times = new double[iterations];
+            for (int i = 0; i < WARMUP + iterations; i++) {
+                final long start = System.nanoTime();
+                executionPlan.execute();
+                final long end = System.nanoTime();
+                if (i >= WARMUP) {
+                    times[i - WARMUP] = end - start;
+                }
+            }
+            executionPlan.freeDeviceMemory();
+
+            TransferProfile.BatchMeasurement measurement = new TransferProfile.BatchMeasurement(batchBytes, 2 * dataBytes, BenchmarkStatistics.median(times));
+            profile.add(measurement);
+            System.out.printf("bm=%-40s, batch=%-6s, time=%.4e, bandwidth=%.3f GB/s%n", "transfer-batch-" + dataBytes, batchBytes == 0 ? "none" : toBatchString(batchBytes), measurement.ns(),
+                    measurement.getBandwidthGBs());
+        }
+    }
+
+    private static void benchmark(TornadoDevice device, String deviceId) {
+        final long maxAllocation = device.getMaxAllocMemory();
+        final long maxHostAllocation = Runtime.getRuntime().maxMemory() / 4;
+        TransferProfile profile = new TransferProfile(deviceId, device.getTornadoVMBackend().name(), device.getPhysicalDevice().getDeviceName());
+
+        for (TransferCase transferCase : TransferCase.all()) {
+            for (long bytes = Float.BYTES; bytes <= MAX_BYTES && bytes <= maxAllocation; bytes *= 4) {
+                final long hostBytes = transferCase.subRegion() ? 2 * bytes : bytes;
+                if (transferCase.heap() && hostBytes > maxHostAllocation) {
+                    break;
+                }
+                try {
+                    TransferProfile.Measurement measurement = measure(device, deviceId, transferCase, bytes);
+                    profile.add(measurement);
+                    System.out.printf("bm=%-40s, device=%-5s, bytes=%-10d, latency=%.4e, deviceTime=%.4e, bandwidth=%.3f GB/s%n", "transfer-" + transferCase.getName(), deviceId, bytes,
+                            measurement.hostNs(), measurement.deviceNs(), measurement.getBandwidthGBs());
+                } catch (TornadoUnsupportedError e) {
+                    System.out.printf("bm=%-40s, device=%-5s, unsupported: %s%n", "transfer-" + transferCase.getName(), deviceId, e.getMessage());
+                    break;
+                }
+            }
+        }
+
+        measureBatches(device, profile, Math.min(Math.min(MAX_BYTES, MAX_BATCH_DATA_BYTES), maxAllocation / 2));
+
+        Path file = Paths.get(PROFILE_DIR, String.format("transfer-profile-%s-%s.json", device.getTornadoVMBackend().name().toLowerCase(), deviceId.replace(':', '-')));
+        profile.write(file);
+        System.out.printf("Transfer profile of %s written to %s%n", deviceId, file);
+    }
+
+    public static void main(String[] args) {
+        final String selectedDevices = TornadoRuntime.getProperty("devices");
+        if (selectedDevices == null || selectedDevices.isEmpty()) {
+            final int numDrivers = TornadoRuntime.getTornadoRuntime().getNumDrivers();
+            for (int driverIndex = 0; driverIndex < numDrivers; driverIndex++) {
+                final TornadoDriver driver = TornadoRuntime.getTornadoRuntime().getDriver(driverIndex);
+                for (int deviceIndex = 0; deviceIndex < driver.getDeviceCount(); deviceIndex++) {
+                    benchmark(driver.getDevice(deviceIndex), driverIndex + ":" + deviceIndex);
+                }
+            }
+        } else {
+            for (String device : selectedDevices.split(",")) {
+                final String[] stringIndex = device.split(":");
+                final int driverIndex = Integer.parseInt(stringIndex[0]);
+                final int deviceIndex = Integer.parseInt(stringIndex[1]);
+                benchmark(TornadoRuntime.getTornadoRuntime().getDriver(driverIndex).getDevice(deviceIndex), device);
+            }
+        }
+    }
+}
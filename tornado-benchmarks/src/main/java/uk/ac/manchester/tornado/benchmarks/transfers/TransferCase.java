@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks.transfers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One kind of transfer measured by the {@link TransferBenchmark}.
+ *
+ * @param hostToDevice
+ *     Direction of the copy.
+ * @param heap
+ *     {@code float[]} if true, {@code FloatArray} (off-heap) otherwise.
+ * @param blocking
+ *     If true, the host waits for each transfer to finish. Otherwise, the
+ *     transfers are enqueued back to back and the host waits once for all of
+ *     them.
+ * @param subRegion
+ *     If true, the copy covers the second half of a host array twice as large
+ *     as the transfer, as the batches of an execution plan do.
+ */
+public record TransferCase(boolean hostToDevice, boolean heap, boolean blocking, boolean subRegion) {
+
+    public static List<TransferCase> all() {
+        List<TransferCase> cases = new ArrayList<>();
+        for (boolean hostToDevice : new boolean[] { true, false }) {
+            for (boolean heap : new boolean[] { false, true }) {
+                for (boolean blocking : new boolean[] { true, false }) {
+                    for (boolean subRegion : new boolean[] { false, true }) {
+                        cases.add(new TransferCase(hostToDevice, heap, blocking, subRegion));
+                    }
+                }
+            }
+        }
+        return cases;
+    }
+
+    public String getDirection() {
+        return hostToDevice ? "h2d" : "d2h";
+    }
+
+    public String getName() {
+        return String.join("-", getDirection(), heap ? "heap" : "native", blocking ? "blocking" : "nonblocking", subRegion ? "subregion" : "full");
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks.transfers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+
+/**
+ * Transfer profile of a device, written by the {@link TransferBenchmark} as a
+ * JSON file. Besides the raw measurements, the profile contains a latency and
+ * bandwidth model per direction, {@code time(bytes) = latencyNs + bytes /
+ * bandwidth}, fitted on the blocking transfers of full off-heap arrays, and
+ * the batch size that gave the highest end-to-end throughput for
+ * {@code TornadoExecutionPlan.withBatch}.
+ *
+ * <p>
+ * The model fields can be used by cost models: {@code halfBandwidthBytes} is
+ * the size of the transfers that reach half of the peak bandwidth, below which
+ * the transfers are dominated by the latency.
+ * </p>
+ */
+public class TransferProfile {
+
+    /**
+     * @param hostNs
+     *     Median time per transfer, measured on the host.
+     * @param deviceNs
+     *     Median time per transfer reported by the device events, or 0 if the
+     *     backend does not report it.
+     */
+    public record Measurement(TransferCase transferCase, long bytes, double hostNs, double deviceNs) {
+        public double getBandwidthGBs() {
+            return bytes / hostNs;
+        }
+    }
+
+    /**
+     * @param batchBytes
+     *     Batch size, or 0 for the execution without batches.
+     * @param totalBytes
+     *     Bytes copied in and out per execution.
+     * @param ns
+     *     Median end-to-end time of the execution plan.
+     */
+    public record BatchMeasurement(long batchBytes, long totalBytes, double ns) {
+        public double getBandwidthGBs() {
+            return totalBytes / ns;
+        }
+    }
+
+    /**
+     * Latency and bandwidth model of the transfers in one direction.
+     */
+    public record Model(double latencyNs, double bandwidthGBs) {
+        public long getHalfBandwidthBytes() {
+            return (long) (latencyNs * bandwidthGBs);
+        }
+    }
+
+    private final String device;
+    private final String backend;
+    private final String deviceName;
+    private final List<Measurement> measurements = new ArrayList<>();
+    private final List<BatchMeasurement> batchMeasurements = new ArrayList<>();
+
+    public TransferProfile(String device, String backend, String deviceName) {
+        this.device = device;
+        this.backend = backend;
+        this.deviceName = deviceName;
+    }
+
+    public void add(Measurement measurement) {
+        measurements.add(measurement);
+    }
+
+    public void add(BatchMeasurement measurement) {
+        batchMeasurements.add(measurement);
+    }
+
+    /**
+     * Fits the model on the blocking transfers of full off-heap arrays in the
+     * given direction: the latency is the time of the smallest transfer, and
+     * the bandwidth is the one of the largest transfer once the latency is
+     * removed.
+     *
+     * @return {@link Model}, or {@code null} if there are no measurements.
+     */
+    public Model getModel(boolean hostToDevice) {
+        List<Measurement> samples = measurements.stream() //
+                .filter(m -> m.transferCase().equals(new TransferCase(hostToDevice, false, true, false))) //
+                .sorted(Comparator.comparingLong(Measurement::bytes)) //
+                .toList();
+        if (samples.isEmpty()) {
+            return null;
+        }
+        Measurement smallest = samples.get(0);
+        Measurement largest = samples.get(samples.size() - 1);
+        double latency = smallest.hostNs();
+        double transferTime = Math.max(1, largest.hostNs() - latency);
+        return new Model(latency, largest.bytes() / transferTime);
+    }
+
+    /**
+     * Returns the smallest batch size whose throughput is within 5% of the best
+     * one, or 0 if the execution without batches was the fastest.
+     */
+    public long getRecommendedBatchBytes() {
+        double best = batchMeasurements.stream().mapToDouble(BatchMeasurement::getBandwidthGBs).max().orElse(0);
+        return batchMeasurements.stream() //
+                .filter(m -> m.getBandwidthGBs() >= 0.95 * best) //
+                .mapToLong(BatchMeasurement::batchBytes) //
+                .filter(bytes -> bytes > 0) //
+                .min() //
+                .orElse(0);
+    }
+
+    private static String quote(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    private static void appendModel(StringBuilder json, String name, Model model) {
+        json.append(String.format(Locale.ROOT, "    %s: {\"latencyNs\": %.1f, \"bandwidthGBs\": %.3f, \"halfBandwidthBytes\": %d}", quote(name), model.latencyNs(), model.bandwidthGBs(), model
+                .getHalfBandwidthBytes()));
+    }
+
+    public String toJson() {
+        StringBuilder json = new StringBuilder("{\n");
+        json.append("  \"device\": ").append(quote(device)).append(",\n");
+        json.append("  \"backend\": ").append(quote(backend)).append(",\n");
+        json.append("  \"deviceName\": ").append(quote(deviceName)).append(",\n");
+        json.append("  \"model\": {\n");
+        List<String> models = new ArrayList<>();
+        for (boolean hostToDevice : new boolean[] { true, false }) {
+            Model model = getModel(hostToDevice);
+            if (model != null) {
+                StringBuilder entry = new StringBuilder();
+                appendModel(entry, hostToDevice ? "h2d" : "d2h", model);
+                models.add(entry.toString());
+            }
+        }
+        json.append(String.join(",\n", models)).append("\n  },\n");
+        json.append("  \"recommendedBatchBytes\": ").append(getRecommendedBatchBytes()).append(",\n");
+
+        json.append("  \"transfers\": [\n");
+        for (int i = 0; i < measurements.size(); i++) {
+            Measurement m = measurements.get(i);
+            TransferCase c = m.transferCase();
+            json.append(String.format(Locale.ROOT,
+                    "    {\"direction\": \"%s\", \"data\": \"%s\", \"blocking\": %b, \"subRegion\": %b, \"bytes\": %d, \"latencyNs\": %.1f, \"deviceNs\": %.1f, \"bandwidthGBs\": %.3f}", c
+                            .getDirection(), c.heap() ? "heap" : "native", c.blocking(), c.subRegion(), m.bytes(), m.hostNs(), m.deviceNs(), m.getBandwidthGBs()));
+            json.append(i == measurements.size() - 1 ? "\n" : ",\n");
+        }
+        json.append("  ],\n");
+
+        json.append("  \"batches\": [\n");
+        for (int i = 0; i < batchMeasurements.size(); i++) {
+            BatchMeasurement m = batchMeasurements.get(i);
+            json.append(String.format(Locale.ROOT, "    {\"batchBytes\": %d, \"totalBytes\": %d, \"timeNs\": %.1f, \"bandwidthGBs\": %.3f}", m.batchBytes(), m.totalBytes(), m.ns(), m
+                    .getBandwidthGBs()));
+            json.append(i == batchMeasurements.size() - 1 ? "\n" : ",\n");
+        }
+        json.append("  ]\n");
+        json.append("}\n");
+        return json.toString();
+    }
+
+    public void write(Path file) {
+        try {
+            Files.writeString(file, toJson(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new TornadoRuntimeException("Unable to write the transfer profile to " + file + ": " + e.getMessage());
+        }
+    }
+}
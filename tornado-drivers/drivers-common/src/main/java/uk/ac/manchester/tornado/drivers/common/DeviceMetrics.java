@@ -0,0 +1,78 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.common;
+
+import static uk.ac.manchester.tornado.runtime.metrics.MetricScope.DEVICE;
+
+import java.util.function.IntSupplier;
+
+import uk.ac.manchester.tornado.api.TornadoDeviceContext;
+import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
+import uk.ac.manchester.tornado.runtime.metrics.MetricsRegistry;
+
+/**
+ * Gauges of a device context in the {@link MetricsRegistry}. All the backends
+ * publish the same metrics, so the dashboards do not depend on the backend.
+ */
+public final class DeviceMetrics {
+
+    private DeviceMetrics() {
+    }
+
+    /**
+     * Registers the gauges of the buffer provider, the code cache and the event
+     * pool of a device.
+     *
+     * @param backend
+     *     Backend of the device.
+     * @param deviceContext
+     *     Device context. Only the platform and device indexes are used, so the
+     *     gauges can be registered from the constructor of the context.
+     * @param bufferProvider
+     *     {@link TornadoBufferProvider} of the device.
+     * @param numKernels
+     *     Number of kernels in the code cache.
+     * @param numEvents
+     *     Number of slots of the event pool that hold an event.
+     * @param numRetainedEvents
+     *     Number of retained events of the event pool.
+     * @param eventPoolSize
+     *     Capacity of the event pool.
+     * @return The name of the device in the metrics.
+     */
+    public static String register(TornadoVMBackendType backend, TornadoDeviceContext deviceContext, TornadoBufferProvider bufferProvider, IntSupplier numKernels, IntSupplier numEvents,
+            IntSupplier numRetainedEvents, int eventPoolSize) {
+        String deviceName = MetricsRegistry.deviceName(backend, deviceContext);
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        registry.gauge("tornado_device_buffers_used", "Device buffers in use", DEVICE, deviceName, bufferProvider::getNumUsedBuffers);
+        registry.gauge("tornado_device_buffers_free", "Device buffers cached for reuse", DEVICE, deviceName, bufferProvider::getNumFreeBuffers);
+        registry.gauge("tornado_device_memory_allocated_bytes", "Device memory allocated by the buffer provider", DEVICE, deviceName, bufferProvider::getAllocatedMemory);
+        registry.gauge("tornado_device_memory_available_bytes", "Device memory still available to the buffer provider", DEVICE, deviceName, bufferProvider::getAvailableMemory);
+        registry.gauge("tornado_device_code_cache_kernels", "Kernels installed in the code cache", DEVICE, deviceName, numKernels::getAsInt);
+        registry.gauge("tornado_device_event_pool_events", "Slots of the event pool that hold an event", DEVICE, deviceName, numEvents::getAsInt);
+        registry.gauge("tornado_device_event_pool_retained", "Retained events of the event pool", DEVICE, deviceName, numRetainedEvents::getAsInt);
+        registry.gauge("tornado_device_event_pool_size", "Capacity of the event pool", DEVICE, deviceName, () -> eventPoolSize);
+        return deviceName;
+    }
+}
@@ -184,6 +184,22 @@ public abstract class TornadoBufferProvider {
         freeBuffers(DEVICE_AVAILABLE_MEMORY);
     }
 
+    public int getNumUsedBuffers() {
+        return usedBuffers.size();
+    }
+
+    public int getNumFreeBuffers() {
+        return freeBuffers.size();
+    }
+
+    public long getAllocatedMemory() {
+        return DEVICE_AVAILABLE_MEMORY - currentMemoryAvailable;
+    }
+
+    public long getAvailableMemory() {
+        return currentMemoryAvailable;
+    }
+
     public static class BufferInfo {
         public final long buffer;
         public final long size;
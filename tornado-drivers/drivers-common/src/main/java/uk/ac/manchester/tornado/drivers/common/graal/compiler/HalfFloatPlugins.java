@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.common.graal.compiler;
+
+import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.graphbuilderconf.GraphBuilderContext;
+import org.graalvm.compiler.nodes.graphbuilderconf.InvocationPlugin;
+import org.graalvm.compiler.nodes.graphbuilderconf.InvocationPlugins;
+import org.graalvm.compiler.nodes.graphbuilderconf.InvocationPlugins.Registration;
+
+import jdk.vm.ci.meta.ResolvedJavaMethod;
+import uk.ac.manchester.tornado.api.types.arrays.HalfFloatArray;
+import uk.ac.manchester.tornado.runtime.graal.nodes.HalfFloatConvertNode;
+import uk.ac.manchester.tornado.runtime.graal.nodes.HalfFloatConvertNode.Operation;
+
+/**
+ * Invocation plugins for the conversions of {@link HalfFloatArray}, shared by
+ * the backends. The backends only register them for devices with FP16
+ * support. Otherwise, the calls are inlined and the Java implementation of
+ * the conversion is compiled, so the values are still stored in 16 bits and
+ * the arithmetic is done in single precision.
+ */
+public final class HalfFloatPlugins {
+
+    /**
+     * Creates the conversion node of the backend.
+     */
+    @FunctionalInterface
+    public interface HalfFloatNodeFactory {
+        HalfFloatConvertNode create(Operation operation, ValueNode value);
+    }
+
+    private HalfFloatPlugins() {
+    }
+
+    public static void registerHalfFloatPlugins(InvocationPlugins plugins, HalfFloatNodeFactory factory) {
+        Registration r = new Registration(plugins, HalfFloatArray.class);
+        for (Operation operation : Operation.values()) {
+            r.register(new InvocationPlugin(operation.getMethodName(), operation.getInputKind().toJavaClass()) {
+                @Override
+                public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver, ValueNode value) {
+                    b.addPush(operation.getResultKind(), factory.create(operation, value));
+                    return true;
+                }
+            });
+        }
+    }
+}
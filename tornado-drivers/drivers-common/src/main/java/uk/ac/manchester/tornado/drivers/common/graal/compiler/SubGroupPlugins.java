@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.common.graal.compiler;
+
+import org.graalvm.compiler.nodes.ConstantNode;
+import org.graalvm.compiler.nodes.LogicNode;
+import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.calc.AddNode;
+import org.graalvm.compiler.nodes.calc.AndNode;
+import org.graalvm.compiler.nodes.calc.ConditionalNode;
+import org.graalvm.compiler.nodes.calc.FloatLessThanNode;
+import org.graalvm.compiler.nodes.calc.IntegerEqualsNode;
+import org.graalvm.compiler.nodes.calc.IntegerLessThanNode;
+import org.graalvm.compiler.nodes.calc.LeftShiftNode;
+import org.graalvm.compiler.nodes.calc.OrNode;
+import org.graalvm.compiler.nodes.calc.ZeroExtendNode;
+import org.graalvm.compiler.nodes.graphbuilderconf.GraphBuilderContext;
+import org.graalvm.compiler.nodes.graphbuilderconf.InvocationPlugin;
+import org.graalvm.compiler.nodes.graphbuilderconf.InvocationPlugins.Registration;
+
+import jdk.vm.ci.meta.JavaKind;
+import jdk.vm.ci.meta.ResolvedJavaMethod;
+import uk.ac.manchester.tornado.runtime.graal.nodes.SubGroupNode;
+import uk.ac.manchester.tornado.runtime.graal.nodes.SubGroupNode.Operation;
+
+/**
+ * Invocation plugins for the sub-group operations of the {@code KernelContext}
+ * API, shared by the backends. Each backend provides a
+ * {@link SubGroupNodeFactory} that creates its nodes. The backends without
+ * native sub-group reductions or scans can build them from shuffles with
+ * {@link #createShuffleReduction} and {@link #createShuffleScan}.
+ */
+public final class SubGroupPlugins {
+
+    /**
+     * Creates the nodes of a sub-group operation and adds them to the graph.
+     */
+    @FunctionalInterface
+    public interface SubGroupNodeFactory {
+        ValueNode create(GraphBuilderContext b, Operation operation, JavaKind kind, ValueNode value, ValueNode operand);
+    }
+
+    private SubGroupPlugins() {
+    }
+
+    public static void registerSubGroupPlugins(Registration r, SubGroupNodeFactory factory) {
+        for (Operation operation : Operation.values()) {
+            if (!operation.hasValue()) {
+                r.register(new InvocationPlugin(operation.getMethodName(), InvocationPlugin.Receiver.class) {
+                    @Override
+                    public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver) {
+                        b.push(JavaKind.Int, factory.create(b, operation, JavaKind.Int, null, null));
+                        return true;
+                    }
+                });
+                continue;
+            }
+            for (JavaKind kind : SubGroupNode.VALUE_KINDS) {
+                if (operation.hasOperand()) {
+                    r.register(new InvocationPlugin(operation.getMethodName(), InvocationPlugin.Receiver.class, kind.toJavaClass(), int.class) {
+                        @Override
+                        public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver, ValueNode value, ValueNode operand) {
+                            b.push(kind, factory.create(b, operation, kind, value, operand));
+                            return true;
+                        }
+                    });
+                } else {
+                    r.register(new InvocationPlugin(operation.getMethodName(), InvocationPlugin.Receiver.class, kind.toJavaClass()) {
+                        @Override
+                        public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver, ValueNode value) {
+                            b.push(kind, factory.create(b, operation, kind, value, null));
+                            return true;
+                        }
+                    });
+                }
+            }
+        }
+
+        r.register(new InvocationPlugin("subGroupBallot", InvocationPlugin.Receiver.class, boolean.class) {
+            @Override
+            public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver, ValueNode predicate) {
+                b.push(JavaKind.Long, createBallot(b, factory, predicate));
+                return true;
+            }
+        });
+    }
+
+    /**
+     * The ballot is the sum of the bits of the work-items with a true predicate.
+     * The bits are different, so the sum is their bitwise or. The work-items 0-31
+     * and 32-63 are added in two 32-bit reductions, which are joined in a long.
+     * The work-items from 64 on are not in the ballot.
+     */
+    private static ValueNode createBallot(GraphBuilderContext b, SubGroupNodeFactory factory, ValueNode predicate) {
+        ValueNode localId = factory.create(b, Operation.LOCAL_ID, JavaKind.Int, null, null);
+        ValueNode shift = b.add(new AndNode(localId, ConstantNode.forInt(31)));
+        ValueNode bit = b.add(new LeftShiftNode(ConstantNode.forInt(1), shift));
+        LogicNode isFalse = b.add(new IntegerEqualsNode(predicate, ConstantNode.forInt(0)));
+        ValueNode selected = b.add(new ConditionalNode(isFalse, ConstantNode.forInt(0), bit));
+        LogicNode isLowHalf = b.add(new IntegerLessThanNode(localId, ConstantNode.forInt(32)));
+        ValueNode lowBits = b.add(new ConditionalNode(isLowHalf, selected, ConstantNode.forInt(0)));
+        ValueNode highBits = b.add(new ConditionalNode(isLowHalf, ConstantNode.forInt(0), selected));
+        ValueNode low = factory.create(b, Operation.REDUCE_ADD, JavaKind.Int, lowBits, null);
+        ValueNode high = factory.create(b, Operation.REDUCE_ADD, JavaKind.Int, highBits, null);
+        ValueNode highLong = b.add(new LeftShiftNode(b.add(new ZeroExtendNode(high, 64)), ConstantNode.forInt(32)));
+        return b.add(new OrNode(highLong, b.add(new ZeroExtendNode(low, 64))));
+    }
+
+    private static LogicNode createLessThan(GraphBuilderContext b, JavaKind kind, ValueNode x, ValueNode y) {
+        return b.add(kind == JavaKind.Float ? new FloatLessThanNode(x, y, false) : new IntegerLessThanNode(x, y));
+    }
+
+    private static ValueNode combine(GraphBuilderContext b, Operation operation, JavaKind kind, ValueNode x, ValueNode y) {
+        return switch (operation) {
+            case REDUCE_ADD -> b.add(new AddNode(x, y));
+            case REDUCE_MIN -> b.add(new ConditionalNode(createLessThan(b, kind, x, y), x, y));
+            case REDUCE_MAX -> b.add(new ConditionalNode(createLessThan(b, kind, x, y), y, x));
+            default -> throw new IllegalArgumentException("Not a reduction: " + operation);
+        };
+    }
+
+    /**
+     * Butterfly reduction: after log2(subGroupSize) exchanges, all the work-items
+     * hold the result.
+     */
+    public static ValueNode createShuffleReduction(GraphBuilderContext b, SubGroupNodeFactory factory, Operation operation, JavaKind kind, ValueNode value, int subGroupSize) {
+        ValueNode result = value;
+        for (int mask = subGroupSize / 2; mask > 0; mask /= 2) {
+            ValueNode other = factory.create(b, Operation.SHUFFLE_XOR, kind, result, ConstantNode.forInt(mask));
+            result = combine(b, operation, kind, result, other);
+        }
+        return result;
+    }
+
+    /**
+     * Hillis-Steele scan of additions. The exclusive scan moves the inclusive scan
+     * one work-item up.
+     */
+    public static ValueNode createShuffleScan(GraphBuilderContext b, SubGroupNodeFactory factory, Operation operation, JavaKind kind, ValueNode value, int subGroupSize) {
+        ValueNode localId = factory.create(b, Operation.LOCAL_ID, JavaKind.Int, null, null);
+        ValueNode result = value;
+        for (int delta = 1; delta < subGroupSize; delta *= 2) {
+            ValueNode previous = factory.create(b, Operation.SHUFFLE_UP, kind, result, ConstantNode.forInt(delta));
+            ValueNode sum = b.add(new AddNode(result, previous));
+            LogicNode outOfRange = b.add(new IntegerLessThanNode(localId, ConstantNode.forInt(delta)));
+            result = b.add(new ConditionalNode(outOfRange, result, sum));
+        }
+        if (operation == Operation.SCAN_EXCLUSIVE_ADD) {
+            ValueNode previous = factory.create(b, Operation.SHUFFLE_UP, kind, result, ConstantNode.forInt(1));
+            LogicNode isFirst = b.add(new IntegerEqualsNode(localId, ConstantNode.forInt(0)));
+            ValueNode zero = kind == JavaKind.Float ? ConstantNode.forFloat(0.0f) : ConstantNode.forInt(0);
+            result = b.add(new ConditionalNode(isFirst, zero, previous));
+        }
+        return result;
+    }
+}
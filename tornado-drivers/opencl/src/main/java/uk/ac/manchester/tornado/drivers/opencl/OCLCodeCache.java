@@ -39,6 +39,7 @@ import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -47,6 +48,8 @@ import java.util.HashMap;
 import java.util.StringJoiner;
 import java.util.StringTokenizer;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import uk.ac.manchester.tornado.api.exceptions.TornadoBailoutRuntimeException;
 import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
@@ -65,6 +68,7 @@ public class OCLCodeCache {
     private static final String TRUE = "True";
     private static final int SPIRV_MAGIC_NUMBER = 119734787;
     private static final String OPENCL_SOURCE_SUFFIX = ".cl";
+    private static final Pattern OPENCL_C_VERSION = Pattern.compile("OpenCL C (\\d+)\\.(\\d+)");
     private final boolean OPENCL_CACHE_ENABLE = Boolean.parseBoolean(getProperty("tornado.opencl.codecache.enable", FALSE));
     private final boolean OPENCL_DUMP_BINS = Boolean.parseBoolean(getProperty("tornado.opencl.codecache.dump", FALSE));
     private final boolean OPENCL_DUMP_SOURCE = Boolean.parseBoolean(getProperty("tornado.opencl.source.dump", FALSE));
@@ -557,6 +561,31 @@ public class OCLCodeCache {
         return value == SPIRV_MAGIC_NUMBER;
     }
 
+    /**
+     * The device-scope fences of the reductions (see
+     * {@link uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLLIRStmt.DeviceMemFenceStmt})
+     * need OpenCL C 2.0 or newer. The kernels with these fences are compiled with
+     * the newest OpenCL C version of the device, unless the compiler flags set a
+     * version.
+     */
+    private String composeCompilerFlags(TaskMetaData meta, byte[] source) {
+        String flags = meta.getCompilerFlags();
+        if (flags.contains("-cl-std") || !new String(source, StandardCharsets.US_ASCII).contains("memory_scope_device")) {
+            return flags;
+        }
+        Matcher matcher = OPENCL_C_VERSION.matcher(deviceContext.getDevice().getDeviceOpenCLCVersion());
+        if (!matcher.find()) {
+            return flags;
+        }
+        int major = Integer.parseInt(matcher.group(1));
+        if (major >= 3) {
+            return flags + " -cl-std=CL3.0";
+        } else if (major == 2) {
+            return flags + " -cl-std=CL2.0";
+        }
+        return flags;
+    }
+
     public OCLInstalledCode installSource(TaskMetaData meta, String id, String entryPoint, byte[] source) {
 
         info("Installing code for %s into code cache", entryPoint);
@@ -586,7 +615,7 @@ public class OCLCodeCache {
         RuntimeUtilities.maybePrintSource(source);
 
         final long t0 = System.nanoTime();
-        program.build(meta.getCompilerFlags());
+        program.build(isSPIRVBinary ? meta.getCompilerFlags() : composeCompilerFlags(meta, source));
         final long t1 = System.nanoTime();
 
         final OCLBuildStatus status = program.getStatus(deviceContext.getDeviceId());
@@ -727,6 +756,13 @@ public class OCLCodeCache {
         return deviceContext.getDevice().getDeviceName().toLowerCase().startsWith("xilinx");
     }
 
+    /**
+     * Returns the number of kernels installed in the cache.
+     */
+    public int getNumKernels() {
+        return cache.size();
+    }
+
     public void reset() {
         for (OCLInstalledCode code : cache.values()) {
             code.invalidate();
@@ -34,7 +34,9 @@ import java.util.List;
 
 import uk.ac.manchester.tornado.api.common.Event;
 import uk.ac.manchester.tornado.api.common.SchedulableTask;
+import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
 import uk.ac.manchester.tornado.api.runtime.TornadoRuntime;
+import uk.ac.manchester.tornado.drivers.common.DeviceMetrics;
 import uk.ac.manchester.tornado.drivers.common.EventDescriptor;
 import uk.ac.manchester.tornado.drivers.common.TornadoBufferProvider;
 import uk.ac.manchester.tornado.drivers.opencl.enums.OCLDeviceType;
@@ -88,6 +90,7 @@ public class OCLDeviceContext extends TornadoLogger implements OCLDeviceContextI
             bumpBuffer = -1;
         }
         bufferProvider = new OCLBufferProvider(this);
+        DeviceMetrics.register(TornadoVMBackendType.OPENCL, this, bufferProvider, codeCache::getNumKernels, oclEventPool::getNumEvents, oclEventPool::getNumRetainedEvents, oclEventPool.getPoolSize());
 
         this.device.setDeviceContext(this);
     }
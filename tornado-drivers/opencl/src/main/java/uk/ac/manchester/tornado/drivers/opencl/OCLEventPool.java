@@ -171,4 +171,25 @@ class OCLEventPool {
         return descriptors[localEventID];
     }
 
+    /**
+     * Returns the number of slots of the pool that hold an event.
+     */
+    int getNumEvents() {
+        int numEvents = 0;
+        for (long event : events) {
+            if (event > 0) {
+                numEvents++;
+            }
+        }
+        return numEvents;
+    }
+
+    int getNumRetainedEvents() {
+        return retain.cardinality();
+    }
+
+    int getPoolSize() {
+        return eventPoolSize;
+    }
+
 }
@@ -53,6 +53,9 @@ public class OCLTargetDescription extends TargetDescription {
     private final boolean supportsFP64;
     private final String extensions;
     private final boolean supportsInt64Atomics;
+    private final boolean supportsInt64ExtendedAtomics;
+    private final boolean supportsSubGroups;
+    private final boolean supportsFP16;
 
     public OCLTargetDescription(Architecture arch, boolean supportsFP64, String extensions) {
         this(arch, false, STACK_ALIGNMENT, IMPLICIT_NULL_CHECK_LIMIT, INLINE_OBJECTS, supportsFP64, extensions);
@@ -63,9 +66,21 @@ public class OCLTargetDescription extends TargetDescription {
         this.supportsFP64 = supportsFP64;
         this.extensions = extensions;
         supportsInt64Atomics = extensions.contains("cl_khr_int64_base_atomics");
+        supportsInt64ExtendedAtomics = extensions.contains("cl_khr_int64_extended_atomics");
+        supportsSubGroups = hasExtension(extensions, "cl_khr_subgroups") && hasExtension(extensions, "cl_khr_subgroup_shuffle") //
+                && hasExtension(extensions, "cl_khr_subgroup_shuffle_relative");
+        supportsFP16 = hasExtension(extensions, "cl_khr_fp16");
     }
     //@formatter:on
 
+    /**
+     * Exact match of the name, so that {@code cl_khr_subgroup_shuffle} is not
+     * found in {@code cl_khr_subgroup_shuffle_relative}.
+     */
+    private static boolean hasExtension(String extensions, String name) {
+        return (" " + extensions + " ").contains(" " + name + " ");
+    }
+
     private int lookupLengthIndex(int vectorLength) {
         switch (vectorLength) {
             case 2:
@@ -96,6 +111,26 @@ public class OCLTargetDescription extends TargetDescription {
         return supportsInt64Atomics;
     }
 
+    public boolean supportsInt64ExtendedAtomics() {
+        return supportsInt64ExtendedAtomics;
+    }
+
+    /**
+     * @return true if the device supports the sub-group functions, including the
+     *     shuffles.
+     */
+    public boolean supportsSubGroups() {
+        return supportsSubGroups;
+    }
+
+    /**
+     * @return true if the device supports the {@code half} type in arithmetic
+     *     and conversions ({@code cl_khr_fp16}).
+     */
+    public boolean supportsFP16() {
+        return supportsFP16;
+    }
+
     public String getExtensions() {
         return extensions;
     }
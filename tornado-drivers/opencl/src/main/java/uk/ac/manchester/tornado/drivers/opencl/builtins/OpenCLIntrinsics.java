@@ -59,6 +59,50 @@ public class OpenCLIntrinsics {
      */
     public static native void globalBarrier();
 
+    /**
+     * Acquire-release fence on the global memory with the scope of the device.
+     * <p>
+     * <code>
+     * atomic_work_item_fence(CLK_GLOBAL_MEM_FENCE, memory_order_acq_rel, memory_scope_device);
+     * </code>
+     * </p>
+     * The kernels compiled as OpenCL C 1.x use
+     * {@code mem_fence(CLK_GLOBAL_MEM_FENCE)}.
+     */
+    public static native void globalMemFence();
+
+    public static native int get_sub_group_size();
+
+    public static native int get_sub_group_id();
+
+    public static native int get_sub_group_local_id();
+
+    public static native int sub_group_reduce_add(int value);
+
+    public static native float sub_group_reduce_add(float value);
+
+    public static native int sub_group_reduce_min(int value);
+
+    public static native float sub_group_reduce_min(float value);
+
+    public static native int sub_group_reduce_max(int value);
+
+    public static native float sub_group_reduce_max(float value);
+
+    /**
+     * Atomically increments the 32-bit integer stored at the position
+     * {@code index} of the array.
+     *
+     * @return the value before the increment.
+     */
+    public static native int atomic_inc(int[] array, int index);
+
+    public static native int atomic_inc(long[] array, int index);
+
+    public static native int atomic_inc(float[] array, int index);
+
+    public static native int atomic_inc(double[] array, int index);
+
     public static native void printf();
 
     public static native void printEmpty();
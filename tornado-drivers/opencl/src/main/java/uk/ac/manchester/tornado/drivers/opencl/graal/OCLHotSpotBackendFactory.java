@@ -47,6 +47,7 @@ import jdk.vm.ci.hotspot.HotSpotConstantReflectionProvider;
 import jdk.vm.ci.hotspot.HotSpotJVMCIRuntime;
 import jdk.vm.ci.hotspot.HotSpotMetaAccessProvider;
 import jdk.vm.ci.runtime.JVMCIBackend;
+import uk.ac.manchester.tornado.drivers.common.graal.compiler.HalfFloatPlugins;
 import uk.ac.manchester.tornado.drivers.graal.TornadoMetaAccessExtensionProvider;
 import uk.ac.manchester.tornado.drivers.graal.TornadoPlatformConfigurationProvider;
 import uk.ac.manchester.tornado.drivers.graal.TornadoWordTypes;
@@ -59,6 +60,7 @@ import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLCompilerConfigu
 import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.plugins.OCLGraphBuilderPlugins;
 import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLAddressLowering;
 import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLKind;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLHalfFloatConvertNode;
 import uk.ac.manchester.tornado.runtime.TornadoVMConfig;
 import uk.ac.manchester.tornado.runtime.graal.DummySnippetFactory;
 import uk.ac.manchester.tornado.runtime.graal.compiler.TornadoConstantFieldProvider;
@@ -115,7 +117,7 @@ public class OCLHotSpotBackendFactory {
             ClassfileBytecodeProvider bytecodeProvider = new ClassfileBytecodeProvider(metaAccess, snippetReflection);
             GraalDebugHandlersFactory graalDebugHandlersFactory = new GraalDebugHandlersFactory(snippetReflection);
             TornadoReplacements replacements = new TornadoReplacements(graalDebugHandlersFactory, p, snippetReflection, bytecodeProvider, target);
-            plugins = createGraphBuilderPlugins(metaAccess, replacements, snippetReflection, lowerer);
+            plugins = createGraphBuilderPlugins(metaAccess, replacements, snippetReflection, lowerer, target);
 
             replacements.setGraphBuilderPlugins(plugins);
 
@@ -132,7 +134,7 @@ public class OCLHotSpotBackendFactory {
     }
 
     protected static Plugins createGraphBuilderPlugins(HotSpotMetaAccessProvider metaAccess, Replacements replacements, SnippetReflectionProvider snippetReflectionProvider,
-            LoweringProvider loweringProvider) {
+            LoweringProvider loweringProvider, OCLTargetDescription target) {
         InvocationPlugins invocationPlugins = new InvocationPlugins();
         Plugins plugins = new Plugins(invocationPlugins);
 
@@ -147,6 +149,9 @@ public class OCLHotSpotBackendFactory {
                 false, //
                 loweringProvider);
         OCLGraphBuilderPlugins.registerInvocationPlugins(plugins, invocationPlugins);
+        if (target.supportsFP16()) {
+            HalfFloatPlugins.registerHalfFloatPlugins(invocationPlugins, OCLHalfFloatConvertNode::new);
+        }
         return plugins;
     }
 
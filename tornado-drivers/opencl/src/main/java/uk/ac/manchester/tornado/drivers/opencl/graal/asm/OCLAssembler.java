@@ -78,6 +78,20 @@ public final class OCLAssembler extends Assembler {
             emitLine("#pragma OPENCL EXTENSION cl_khr_int64_base_atomics : enable  ");
         }
 
+        if (((OCLTargetDescription) target).supportsInt64ExtendedAtomics()) {
+            emitLine("#pragma OPENCL EXTENSION cl_khr_int64_extended_atomics : enable  ");
+        }
+
+        if (((OCLTargetDescription) target).supportsSubGroups()) {
+            emitLine("#pragma OPENCL EXTENSION cl_khr_subgroups : enable  ");
+            emitLine("#pragma OPENCL EXTENSION cl_khr_subgroup_shuffle : enable  ");
+            emitLine("#pragma OPENCL EXTENSION cl_khr_subgroup_shuffle_relative : enable  ");
+        }
+
+        if (((OCLTargetDescription) target).supportsFP16()) {
+            emitLine("#pragma OPENCL EXTENSION cl_khr_fp16 : enable  ");
+        }
+
         if (EMIT_INTRINSICS) {
             emitAtomicIntrinsics();
         }
@@ -639,6 +653,7 @@ public final class OCLAssembler extends Assembler {
         public static final OCLUnaryOp CAST_TO_FLOAT = new OCLUnaryOp("(float) ", true);
         public static final OCLUnaryOp CAST_TO_BYTE = new OCLUnaryOp("(char) ", true);
         public static final OCLUnaryOp CAST_TO_DOUBLE = new OCLUnaryOp("(double) ", true);
+        public static final OCLUnaryOp CAST_TO_HALF = new OCLUnaryOp("(half) ", true);
 
         public static final OCLUnaryOp CAST_TO_INT_PTR = new OCLUnaryOp("(int *) ", true);
         public static final OCLUnaryOp CAST_TO_SHORT_PTR = new OCLUnaryOp("(short *) ", true);
@@ -740,6 +755,10 @@ public final class OCLAssembler extends Assembler {
 
         public static final OCLUnaryIntrinsic AS_FLOAT = new OCLUnaryIntrinsic("as_float");
         public static final OCLUnaryIntrinsic AS_INT = new OCLUnaryIntrinsic("as_int");
+        public static final OCLUnaryIntrinsic AS_DOUBLE = new OCLUnaryIntrinsic("as_double");
+        public static final OCLUnaryIntrinsic AS_LONG = new OCLUnaryIntrinsic("as_long");
+        public static final OCLUnaryIntrinsic AS_SHORT = new OCLUnaryIntrinsic("as_short");
+        public static final OCLUnaryIntrinsic AS_HALF = new OCLUnaryIntrinsic("as_half");
 
         public static final OCLUnaryIntrinsic IS_FINITE = new OCLUnaryIntrinsic("isfinite");
         public static final OCLUnaryIntrinsic IS_INF = new OCLUnaryIntrinsic("isinf");
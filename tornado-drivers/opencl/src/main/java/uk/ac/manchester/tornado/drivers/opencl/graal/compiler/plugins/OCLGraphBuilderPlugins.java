@@ -78,22 +78,25 @@ import uk.ac.manchester.tornado.api.KernelContext;
 import uk.ac.manchester.tornado.api.TornadoVMIntrinsics;
 import uk.ac.manchester.tornado.api.exceptions.Debug;
 import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.drivers.common.graal.compiler.SubGroupPlugins;
 import uk.ac.manchester.tornado.drivers.opencl.graal.OCLArchitecture;
 import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLKind;
-import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.AtomicAddNodeTemplate;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.DecAtomicNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.GetAtomicNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.IncAtomicNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.LocalArrayNode;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLAtomicArrayNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLBarrierNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLFPBinaryIntrinsicNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLFPUnaryIntrinsicNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLIntBinaryIntrinsicNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLIntUnaryIntrinsicNode;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLSubGroupNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.PrintfNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.TPrintfNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.TornadoAtomicIntegerNode;
 import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+import uk.ac.manchester.tornado.runtime.graal.nodes.AtomicArrayNode;
 
 public class OCLGraphBuilderPlugins {
 
@@ -120,20 +123,39 @@ public class OCLGraphBuilderPlugins {
 
     }
 
-    private static void registerTornadoVMAtomicsPlugins(Registration r) {
-        r.register(new InvocationPlugin("atomic_add", int[].class, Integer.TYPE, Integer.TYPE) {
-            @Override
-            public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver, ValueNode array, ValueNode index, ValueNode inc) {
-                AtomicAddNodeTemplate atomicIncNode = new AtomicAddNodeTemplate(array, index, inc);
-                b.addPush(JavaKind.Int, b.append(atomicIncNode));
-                return true;
-            }
-        });
+    private static void registerAtomicArrayPlugin(Registration r, AtomicArrayNode.Operation operation, JavaKind elementKind) {
+        final Class<?> arrayClass = AtomicArrayNode.getArrayClass(elementKind);
+        final JavaKind resultKind = (operation == AtomicArrayNode.Operation.CAS) ? JavaKind.Boolean : elementKind;
+        if (operation.isComparison()) {
+            r.register(new InvocationPlugin(operation.getMethodName(), arrayClass, int.class, elementKind.toJavaClass(), elementKind.toJavaClass()) {
+                @Override
+                public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver, ValueNode array, ValueNode index, ValueNode expected, ValueNode value) {
+                    AddressNode address = AtomicArrayNode.createElementAddress(b, array, index, elementKind);
+                    b.addPush(resultKind, new OCLAtomicArrayNode(operation, elementKind, address, expected, value));
+                    return true;
+                }
+            });
+        } else {
+            r.register(new InvocationPlugin(operation.getMethodName(), arrayClass, int.class, elementKind.toJavaClass()) {
+                @Override
+                public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver, ValueNode array, ValueNode index, ValueNode value) {
+                    AddressNode address = AtomicArrayNode.createElementAddress(b, array, index, elementKind);
+                    b.addPush(resultKind, new OCLAtomicArrayNode(operation, elementKind, address, null, value));
+                    return true;
+                }
+            });
+        }
     }
 
     private static void registerTornadoVMAtomicsPlugins(InvocationPlugins plugins) {
         Registration r = new Registration(plugins, TornadoVMIntrinsics.class);
-        registerTornadoVMAtomicsPlugins(r);
+        for (JavaKind elementKind : AtomicArrayNode.ELEMENT_KINDS) {
+            for (AtomicArrayNode.Operation operation : AtomicArrayNode.Operation.values()) {
+                if (operation.isIntrinsic(elementKind)) {
+                    registerAtomicArrayPlugin(r, operation, elementKind);
+                }
+            }
+        }
     }
 
     private static boolean isMethodFromAtomicClass(ResolvedJavaMethod method) {
@@ -305,6 +327,7 @@ public class OCLGraphBuilderPlugins {
         registerLocalBarrier(r);
         registerGlobalBarrier(r);
         localArraysPlugins(r);
+        SubGroupPlugins.registerSubGroupPlugins(r, (b, operation, kind, value, operand) -> b.append(new OCLSubGroupNode(operation, kind, value, operand)));
     }
 
     private static boolean printfHandler(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver, ValueNode... args) {
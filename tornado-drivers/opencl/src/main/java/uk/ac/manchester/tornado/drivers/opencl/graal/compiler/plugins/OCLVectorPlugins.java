@@ -260,8 +260,9 @@ public final class OCLVectorPlugins {
         ps.appendNodePlugin(new NodePlugin() {
             @Override
             public boolean handleInvoke(GraphBuilderContext b, ResolvedJavaMethod method, ValueNode[] args) {
-                if (method.getName().equals("<init>") && (method.toString().contains("FloatArray.<init>(int)") || method.toString().contains("DoubleArray.<init>(int)") || method.toString().contains(
-                        "IntArray.<init>(int)"))) {
+                // HalfFloatArray also ends with FloatArray, and it is not supported in private memory
+                if (method.getName().equals("<init>") && !method.toString().contains("HalfFloatArray") && (method.toString().contains("FloatArray.<init>(int)") || method.toString().contains(
+                        "DoubleArray.<init>(int)") || method.toString().contains("IntArray.<init>(int)"))) {
                     Class<?> javaType = resolveJavaClass(method.toString());
                     b.append(new PanamaPrivateMemoryNode(b.getMetaAccess().lookupJavaType(javaType), args[1]));
                     return true;
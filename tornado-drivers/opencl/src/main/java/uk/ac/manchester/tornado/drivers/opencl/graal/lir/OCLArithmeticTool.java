@@ -183,8 +183,15 @@ public class OCLArithmeticTool extends ArithmeticLIRGenerator {
 
     @Override
     public Value emitReinterpret(LIRKind lirKind, Value x) {
-        unimplemented();
-        return null;
+        Logger.traceBuildLIR(Logger.BACKEND.OpenCL, "emitReinterpret: %s to %s", x, lirKind);
+        OCLUnaryIntrinsic op = switch ((OCLKind) lirKind.getPlatformKind()) {
+            case INT -> OCLUnaryIntrinsic.AS_INT;
+            case LONG -> OCLUnaryIntrinsic.AS_LONG;
+            case FLOAT -> OCLUnaryIntrinsic.AS_FLOAT;
+            case DOUBLE -> OCLUnaryIntrinsic.AS_DOUBLE;
+            default -> throw unimplemented("reinterpret to " + lirKind);
+        };
+        return emitUnaryAssign(op, lirKind, x);
     }
 
     @Override
@@ -294,6 +301,11 @@ public class OCLArithmeticTool extends ArithmeticLIRGenerator {
         Variable result = getGen().newVariable(toKind);
 
         getGen().emitMove(result, value);
+        if (kind.isInteger() && fromBits == 32 && toBits == 64) {
+            // An int to long assignment in OpenCL C sign-extends, so clear the upper half
+            ConstantValue mask = new ConstantValue(toKind, JavaConstant.forLong(0xFFFFFFFFL));
+            return emitBinaryAssign(OCLBinaryOp.BITWISE_AND, toKind, result, mask);
+        }
         return result;
     }
 
@@ -21,6 +21,7 @@
  */
 package uk.ac.manchester.tornado.drivers.opencl.graal.lir;
 
+import org.graalvm.compiler.core.common.LIRKind;
 import org.graalvm.compiler.lir.LIRInstruction;
 import org.graalvm.compiler.lir.LIRInstructionClass;
 import org.graalvm.compiler.lir.Opcode;
@@ -35,6 +36,8 @@ import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLCompilationResu
 import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLUnary.MemoryAccess;
 import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLUnary.OCLAddressCast;
 import uk.ac.manchester.tornado.drivers.opencl.graal.meta.OCLMemorySpace;
+import uk.ac.manchester.tornado.runtime.graal.nodes.AtomicArrayNode;
+import uk.ac.manchester.tornado.runtime.graal.nodes.SubGroupNode;
 
 public class OCLLIRStmt {
 
@@ -808,6 +811,96 @@ public class OCLLIRStmt {
         }
     }
 
+    /**
+     * Atomic operation on an element of a native array (see
+     * {@link AtomicArrayNode}). The operations on {@code long} elements use the
+     * {@code atom_*} functions of the {@code cl_khr_int64_*_atomics}
+     * extensions. The comparisons of {@code float} elements are performed on
+     * their bits.
+     */
+    @Opcode("ATOMIC_ARRAY")
+    public static class AtomicArrayStmt extends AbstractInstruction {
+
+        public static final LIRInstructionClass<AtomicArrayStmt> TYPE = LIRInstructionClass.create(AtomicArrayStmt.class);
+
+        @Def
+        protected AllocatableValue result;
+        @Use
+        protected OCLAddressCast cast;
+        @Use
+        protected MemoryAccess address;
+        @Use
+        protected Value expected;
+        @Use
+        protected Value value;
+
+        private final AtomicArrayNode.Operation operation;
+        private final OCLKind elementKind;
+
+        public AtomicArrayStmt(AtomicArrayNode.Operation operation, OCLKind elementKind, AllocatableValue result, MemoryAccess address, Value expected, Value value) {
+            super(TYPE);
+            this.operation = operation;
+            this.elementKind = elementKind;
+            this.result = result;
+            this.address = address;
+            this.expected = expected;
+            this.value = value;
+            OCLKind pointerKind = (elementKind == OCLKind.FLOAT && operation.isComparison()) ? OCLKind.INT : elementKind;
+            this.cast = new OCLAddressCast(address.getBase(), LIRKind.value(pointerKind));
+        }
+
+        private void emitOperand(OCLCompilationResultBuilder crb, OCLAssembler asm, Value operand) {
+            if (elementKind == OCLKind.FLOAT && operation.isComparison()) {
+                asm.emit("as_int(");
+                asm.emitValue(crb, operand);
+                asm.emit(")");
+            } else {
+                asm.emitValue(crb, operand);
+            }
+        }
+
+        private void emitAtomicCall(OCLCompilationResultBuilder crb, OCLAssembler asm) {
+            String function = operation == AtomicArrayNode.Operation.CAS ? "cmpxchg" : operation.name().toLowerCase();
+            asm.emit(elementKind == OCLKind.LONG ? "atom_" : "atomic_");
+            asm.emit(function);
+            asm.emit("(");
+            cast.emit(crb, asm);
+            asm.space();
+            address.emit(crb, asm);
+            if (operation.isComparison()) {
+                asm.emit(", ");
+                emitOperand(crb, asm, expected);
+            }
+            asm.emit(", ");
+            emitOperand(crb, asm, value);
+            asm.emit(")");
+        }
+
+        @Override
+        public void emitCode(OCLCompilationResultBuilder crb, OCLAssembler asm) {
+            asm.indent();
+            asm.emitValue(crb, result);
+            asm.space();
+            asm.assign();
+            asm.space();
+            if (operation == AtomicArrayNode.Operation.CAS) {
+                asm.emit("(");
+                emitAtomicCall(crb, asm);
+                asm.emit(" == ");
+                emitOperand(crb, asm, expected);
+                asm.emit(")");
+            } else if (operation == AtomicArrayNode.Operation.CMPXCHG && elementKind == OCLKind.FLOAT) {
+                asm.emit("as_float(");
+                emitAtomicCall(crb, asm);
+                asm.emit(")");
+            } else {
+                emitAtomicCall(crb, asm);
+            }
+            asm.delimiter();
+            asm.eol();
+        }
+    }
+
     @Opcode("VSTORE")
     public static class VectorStoreStmt extends AbstractInstruction {
 
@@ -871,6 +964,37 @@ public class OCLLIRStmt {
         }
     }
 
+    /**
+     * Acquire-release fence on the global memory with the scope of the device.
+     * {@code mem_fence} only orders the accesses of a work-item, so the kernels
+     * compiled as OpenCL C 2.0 or newer use {@code atomic_work_item_fence}. The
+     * OpenCL C 1.x kernels fall back to {@code mem_fence}, which is the
+     * strongest fence of that version.
+     */
+    @Opcode("DEVICE_MEM_FENCE")
+    public static class DeviceMemFenceStmt extends AbstractInstruction {
+
+        public static final LIRInstructionClass<DeviceMemFenceStmt> TYPE = LIRInstructionClass.create(DeviceMemFenceStmt.class);
+
+        /**
+         * The feature macros of OpenCL C 3.0 must be defined for the fence.
+         */
+        private static final String DEVICE_FENCE_SUPPORTED = "#if __OPENCL_C_VERSION__ >= 200 && (__OPENCL_C_VERSION__ < 300 || (defined(__opencl_c_atomic_order_acq_rel) && defined(__opencl_c_atomic_scope_device)))";
+
+        public DeviceMemFenceStmt() {
+            super(TYPE);
+        }
+
+        @Override
+        public void emitCode(OCLCompilationResultBuilder crb, OCLAssembler asm) {
+            asm.emitLine(DEVICE_FENCE_SUPPORTED);
+            asm.emitLine("atomic_work_item_fence(CLK_GLOBAL_MEM_FENCE, memory_order_acq_rel, memory_scope_device);");
+            asm.emitLine("#else");
+            asm.emitLine("mem_fence(CLK_GLOBAL_MEM_FENCE);");
+            asm.emitLine("#endif");
+        }
+    }
+
     @Opcode("EXPR")
     public static class ExprStmt extends AbstractInstruction {
 
@@ -953,4 +1077,91 @@ public class OCLLIRStmt {
 
         }
     }
+
+    /**
+     * Sub-group operation (see {@link SubGroupNode}), emitted with the functions
+     * of the {@code cl_khr_subgroups} and {@code cl_khr_subgroup_shuffle*}
+     * extensions. When the device does not support them, each work-item is a
+     * sub-group of its own.
+     */
+    @Opcode("SUB_GROUP")
+    public static class SubGroupStmt extends AbstractInstruction {
+
+        public static final LIRInstructionClass<SubGroupStmt> TYPE = LIRInstructionClass.create(SubGroupStmt.class);
+
+        @Def
+        protected AllocatableValue result;
+        @Use
+        protected Value value;
+        @Use
+        protected Value operand;
+
+        private final SubGroupNode.Operation operation;
+        private final boolean emulated;
+
+        public SubGroupStmt(SubGroupNode.Operation operation, AllocatableValue result, Value value, Value operand, boolean emulated) {
+            super(TYPE);
+            this.operation = operation;
+            this.result = result;
+            this.value = value;
+            this.operand = operand;
+            this.emulated = emulated;
+        }
+
+        private static String getFunctionName(SubGroupNode.Operation operation) {
+            return switch (operation) {
+                case SIZE -> "get_sub_group_size";
+                case LOCAL_ID -> "get_sub_group_local_id";
+                case ID -> "get_sub_group_id";
+                case SHUFFLE -> "sub_group_shuffle";
+                case SHUFFLE_DOWN -> "sub_group_shuffle_down";
+                case SHUFFLE_UP -> "sub_group_shuffle_up";
+                case SHUFFLE_XOR -> "sub_group_shuffle_xor";
+                case BROADCAST -> "sub_group_broadcast";
+                case REDUCE_ADD -> "sub_group_reduce_add";
+                case REDUCE_MIN -> "sub_group_reduce_min";
+                case REDUCE_MAX -> "sub_group_reduce_max";
+                case SCAN_INCLUSIVE_ADD -> "sub_group_scan_inclusive_add";
+                case SCAN_EXCLUSIVE_ADD -> "sub_group_scan_exclusive_add";
+            };
+        }
+
+        private void emitEmulated(OCLCompilationResultBuilder crb, OCLAssembler asm) {
+            switch (operation) {
+                case SIZE -> asm.emit("1");
+                case LOCAL_ID -> asm.emit("0");
+                case ID -> asm.emit("(int) (get_local_id(0) + get_local_size(0) * (get_local_id(1) + get_local_size(1) * get_local_id(2)))");
+                case SCAN_EXCLUSIVE_ADD -> asm.emit("0");
+                default -> asm.emitValue(crb, value);
+            }
+        }
+
+        @Override
+        public void emitCode(OCLCompilationResultBuilder crb, OCLAssembler asm) {
+            asm.indent();
+            asm.emitValue(crb, result);
+            asm.space();
+            asm.assign();
+            asm.space();
+            if (emulated) {
+                emitEmulated(crb, asm);
+            } else {
+                if (!operation.hasValue()) {
+                    asm.emit("(int) ");
+                }
+                asm.emit(getFunctionName(operation));
+                asm.emit("(");
+                if (operation.hasValue()) {
+                    asm.emitValue(crb, value);
+                }
+                if (operation.hasOperand()) {
+                    asm.emit(", ");
+                    asm.emitValue(crb, operand);
+                }
+                asm.emit(")");
+            }
+            asm.delimiter();
+            asm.eol();
+        }
+    }
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.opencl.graal.nodes;
+
+import org.graalvm.compiler.core.common.LIRKind;
+import org.graalvm.compiler.graph.NodeClass;
+import org.graalvm.compiler.lir.Variable;
+import org.graalvm.compiler.lir.gen.ArithmeticLIRGeneratorTool;
+import org.graalvm.compiler.nodeinfo.NodeInfo;
+import org.graalvm.compiler.nodes.ValueNode;
+
+import jdk.vm.ci.meta.Value;
+import uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLUnaryIntrinsic;
+import uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLUnaryOp;
+import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLArithmeticTool;
+import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLKind;
+import uk.ac.manchester.tornado.runtime.graal.nodes.HalfFloatConvertNode;
+
+/**
+ * Conversion through the {@code half} type of {@code cl_khr_fp16}. The bits
+ * are reinterpreted with {@code as_half} and {@code as_short}.
+ */
+@NodeInfo(nameTemplate = "OCLHalfFloat{p#operation/s}")
+public class OCLHalfFloatConvertNode extends HalfFloatConvertNode {
+
+    public static final NodeClass<OCLHalfFloatConvertNode> TYPE = NodeClass.create(OCLHalfFloatConvertNode.class);
+
+    public OCLHalfFloatConvertNode(Operation operation, ValueNode value) {
+        super(TYPE, operation, value);
+    }
+
+    @Override
+    protected Value generate(ArithmeticLIRGeneratorTool gen, Value input) {
+        OCLArithmeticTool tool = (OCLArithmeticTool) gen;
+        LIRKind halfKind = LIRKind.value(OCLKind.HALF);
+        if (operation == Operation.TO_FLOAT) {
+            Variable bits = tool.emitUnaryAssign(OCLUnaryOp.CAST_TO_SHORT, LIRKind.value(OCLKind.SHORT), input);
+            Variable half = tool.emitUnaryAssign(OCLUnaryIntrinsic.AS_HALF, halfKind, bits);
+            return tool.emitUnaryAssign(OCLUnaryOp.CAST_TO_FLOAT, LIRKind.value(OCLKind.FLOAT), half);
+        } else {
+            Variable half = tool.emitUnaryAssign(OCLUnaryOp.CAST_TO_HALF, halfKind, input);
+            return tool.emitUnaryAssign(OCLUnaryIntrinsic.AS_SHORT, tool.getGen().getLIRKind(stamp), half);
+        }
+    }
+}
@@ -1,7 +1,6 @@
 /*
- * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
  * The University of Manchester. All rights reserved.
- * Copyright (c) 2009, 2017, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -23,43 +22,43 @@ package uk.ac.manchester.tornado.drivers.opencl.graal.nodes;
 
 import org.graalvm.compiler.core.common.type.StampFactory;
 import org.graalvm.compiler.graph.NodeClass;
-import org.graalvm.compiler.lir.Variable;
-import org.graalvm.compiler.lir.gen.LIRGeneratorTool;
 import org.graalvm.compiler.nodeinfo.NodeInfo;
-import org.graalvm.compiler.nodes.ValueNode;
-import org.graalvm.compiler.nodes.calc.FloatingNode;
+import org.graalvm.compiler.nodes.FixedWithNextNode;
+import org.graalvm.compiler.nodes.memory.MemoryKill;
 import org.graalvm.compiler.nodes.spi.LIRLowerable;
 import org.graalvm.compiler.nodes.spi.NodeLIRBuilderTool;
 
-import jdk.vm.ci.meta.JavaKind;
-import uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler;
+import uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLUnaryIntrinsic;
 import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLLIRStmt;
 import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLUnary;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLBarrierNode.OCLMemFenceFlags;
 
-@NodeInfo(shortName = "AtomicAdd")
-public class AtomicAddNodeTemplate extends FloatingNode implements LIRLowerable {
+/**
+ * Orders the memory accesses of a work-item without synchronizing the
+ * work-group, so it can be placed in divergent code, unlike
+ * {@link OCLBarrierNode}. The fences on the global memory have the scope of the
+ * device (see {@link OCLLIRStmt.DeviceMemFenceStmt}), so the writes of a
+ * work-group released before an atomic are visible to the work-group that
+ * acquires them after the atomic.
+ */
+@NodeInfo
+public class OCLMemFenceNode extends FixedWithNextNode implements LIRLowerable, MemoryKill {
 
-    public static final NodeClass<AtomicAddNodeTemplate> TYPE = NodeClass.create(AtomicAddNodeTemplate.class);
+    public static final NodeClass<OCLMemFenceNode> TYPE = NodeClass.create(OCLMemFenceNode.class);
 
-    @Input
-    ValueNode array;
-    @Input
-    ValueNode index;
-    @Input
-    ValueNode inc;
+    private final OCLMemFenceFlags flags;
 
-    public AtomicAddNodeTemplate(ValueNode array, ValueNode index, ValueNode inc) {
-        super(TYPE, StampFactory.forKind(JavaKind.Int));
-        this.array = array;
-        this.index = index;
-        this.inc = inc;
+    public OCLMemFenceNode(OCLMemFenceFlags flags) {
+        super(TYPE, StampFactory.forVoid());
+        this.flags = flags;
     }
 
     @Override
     public void generate(NodeLIRBuilderTool gen) {
-        LIRGeneratorTool tool = gen.getLIRGeneratorTool();
-        Variable result = tool.newVariable(tool.getLIRKind(stamp));
-        tool.append(new OCLLIRStmt.AssignStmt(result, new OCLUnary.Intrinsic(OCLAssembler.OCLUnaryIntrinsic.ATOMIC_INC, tool.getLIRKind(stamp), gen.operand(inc))));
-        gen.setResult(this, result);
+        if (flags == OCLMemFenceFlags.GLOBAL) {
+            gen.getLIRGeneratorTool().append(new OCLLIRStmt.DeviceMemFenceStmt());
+        } else {
+            gen.getLIRGeneratorTool().append(new OCLLIRStmt.ExprStmt(new OCLUnary.Barrier(OCLUnaryIntrinsic.MEM_FENCE, flags)));
+        }
     }
 }
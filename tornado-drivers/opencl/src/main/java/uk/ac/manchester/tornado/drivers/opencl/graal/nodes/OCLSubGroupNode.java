@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.opencl.graal.nodes;
+
+import org.graalvm.compiler.graph.NodeClass;
+import org.graalvm.compiler.lir.Variable;
+import org.graalvm.compiler.lir.gen.LIRGeneratorTool;
+import org.graalvm.compiler.nodeinfo.NodeInfo;
+import org.graalvm.compiler.nodes.ValueNode;
+
+import jdk.vm.ci.meta.JavaKind;
+import jdk.vm.ci.meta.Value;
+import uk.ac.manchester.tornado.drivers.opencl.OCLTargetDescription;
+import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLLIRStmt;
+import uk.ac.manchester.tornado.runtime.graal.nodes.SubGroupNode;
+
+@NodeInfo(nameTemplate = "OCLSubGroup{p#operation/s}")
+public class OCLSubGroupNode extends SubGroupNode {
+
+    public static final NodeClass<OCLSubGroupNode> TYPE = NodeClass.create(OCLSubGroupNode.class);
+
+    public OCLSubGroupNode(Operation operation, JavaKind kind, ValueNode value, ValueNode operand) {
+        super(TYPE, operation, kind, value, operand);
+    }
+
+    @Override
+    protected Value generate(LIRGeneratorTool gen, Value valueOperand, Value operandValue) {
+        Variable result = gen.newVariable(gen.getLIRKind(stamp));
+        boolean emulated = !((OCLTargetDescription) gen.target()).supportsSubGroups();
+        Value lirValue = valueOperand == null ? Value.ILLEGAL : valueOperand;
+        Value lirOperand = operandValue == null ? Value.ILLEGAL : operandValue;
+        gen.append(new OCLLIRStmt.SubGroupStmt(operation, result, lirValue, lirOperand, emulated));
+        return result;
+    }
+}
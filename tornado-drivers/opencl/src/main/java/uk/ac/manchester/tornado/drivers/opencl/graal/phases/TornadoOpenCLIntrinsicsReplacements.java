@@ -42,8 +42,10 @@ import org.graalvm.compiler.nodes.GraphState;
 import org.graalvm.compiler.nodes.InvokeNode;
 import org.graalvm.compiler.nodes.StructuredGraph;
 import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.memory.address.AddressNode;
 import org.graalvm.compiler.nodes.util.GraphUtil;
 import org.graalvm.compiler.phases.BasePhase;
+import org.graalvm.compiler.replacements.DefaultJavaLoweringProvider;
 import uk.ac.manchester.tornado.drivers.opencl.graal.OCLArchitecture;
 import uk.ac.manchester.tornado.drivers.opencl.graal.OCLLoweringProvider;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.FixedArrayNode;
@@ -53,8 +55,13 @@ import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.GroupIdNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.LocalArrayNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.LocalGroupSizeNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.LocalThreadIDFixedNode;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLAtomicArrayNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLBarrierNode;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLMemFenceNode;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLSubGroupNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OpenCLPrintf;
+import uk.ac.manchester.tornado.runtime.graal.nodes.AtomicArrayNode;
+import uk.ac.manchester.tornado.runtime.graal.nodes.SubGroupNode.Operation;
 import uk.ac.manchester.tornado.runtime.graal.phases.TornadoHighTierContext;
 
 public class TornadoOpenCLIntrinsicsReplacements extends BasePhase<TornadoHighTierContext> {
@@ -128,6 +135,32 @@ public class TornadoOpenCLIntrinsicsReplacements extends BasePhase<TornadoHighTi
                     graph.replaceFixed(invoke, groupIdNode);
                     break;
                 }
+                case "Direct#OpenCLIntrinsics.globalMemFence": {
+                    OCLMemFenceNode fence = graph.addOrUnique(new OCLMemFenceNode(OCLBarrierNode.OCLMemFenceFlags.GLOBAL));
+                    graph.replaceFixed(invoke, fence);
+                    break;
+                }
+                case "Direct#OpenCLIntrinsics.get_sub_group_size":
+                    replaceSubGroupOperation(graph, invoke, Operation.SIZE);
+                    break;
+                case "Direct#OpenCLIntrinsics.get_sub_group_id":
+                    replaceSubGroupOperation(graph, invoke, Operation.ID);
+                    break;
+                case "Direct#OpenCLIntrinsics.get_sub_group_local_id":
+                    replaceSubGroupOperation(graph, invoke, Operation.LOCAL_ID);
+                    break;
+                case "Direct#OpenCLIntrinsics.sub_group_reduce_add":
+                    replaceSubGroupOperation(graph, invoke, Operation.REDUCE_ADD);
+                    break;
+                case "Direct#OpenCLIntrinsics.sub_group_reduce_min":
+                    replaceSubGroupOperation(graph, invoke, Operation.REDUCE_MIN);
+                    break;
+                case "Direct#OpenCLIntrinsics.sub_group_reduce_max":
+                    replaceSubGroupOperation(graph, invoke, Operation.REDUCE_MAX);
+                    break;
+                case "Direct#OpenCLIntrinsics.atomic_inc":
+                    replaceAtomicIncrement(graph, invoke, context);
+                    break;
                 case "Direct#OpenCLIntrinsics.printEmpty":
                     OpenCLPrintf printfNode = graph.addOrUnique(new OpenCLPrintf("\"\""));
                     graph.replaceFixed(invoke, printfNode);
@@ -136,6 +169,25 @@ public class TornadoOpenCLIntrinsicsReplacements extends BasePhase<TornadoHighTi
         }
     }
 
+    private void replaceSubGroupOperation(StructuredGraph graph, InvokeNode invoke, Operation operation) {
+        ValueNode value = operation.hasValue() ? invoke.callTarget().arguments().get(0) : null;
+        JavaKind kind = value == null ? JavaKind.Int : value.getStackKind();
+        OCLSubGroupNode subGroupNode = graph.add(new OCLSubGroupNode(operation, kind, value, null));
+        graph.replaceFixed(invoke, subGroupNode);
+    }
+
+    /**
+     * The counter is addressed as the array elements written by the snippets, and
+     * it is incremented as a 32-bit integer whatever the kind of the elements.
+     */
+    private void replaceAtomicIncrement(StructuredGraph graph, InvokeNode invoke, TornadoHighTierContext context) {
+        NodeInputList<ValueNode> arguments = invoke.callTarget().arguments();
+        JavaKind elementKind = invoke.callTarget().targetMethod().getSignature().getParameterType(0, null).getComponentType().getJavaKind();
+        AddressNode address = ((DefaultJavaLoweringProvider) context.getLowerer()).createArrayAddress(graph, arguments.get(0), elementKind, arguments.get(1));
+        OCLAtomicArrayNode atomicNode = graph.add(new OCLAtomicArrayNode(AtomicArrayNode.Operation.ADD, JavaKind.Int, address, null, ConstantNode.forInt(1, graph)));
+        graph.replaceFixed(invoke, atomicNode);
+    }
+
     private void lowerLocalInvokeNodeNewArray(StructuredGraph graph, int length, JavaKind elementKind, InvokeNode newArray) {
         LocalArrayNode localArrayNode;
         ConstantNode newLengthNode = ConstantNode.forInt(length, graph);
@@ -42,6 +42,7 @@ import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLFPBinaryIntrinsicN
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLIntBinaryIntrinsicNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.StoreAtomicIndexedNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.TornadoReduceAddNode;
+import uk.ac.manchester.tornado.runtime.graal.nodes.TornadoReduceBitwiseNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.TornadoReduceMulNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.WriteAtomicNode;
 
@@ -319,6 +320,102 @@ public class ReduceCPUSnippets implements Snippets {
         }
     }
 
+    @Snippet
+    public static void partialReduceIntAnd(int[] inputArray, int[] outputArray, int gidx, int start, int globalID) {
+        OpenCLIntrinsics.localBarrier();
+        if (gidx >= start) {
+            outputArray[globalID + 1] &= inputArray[gidx];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntOr(int[] inputArray, int[] outputArray, int gidx, int start, int globalID) {
+        OpenCLIntrinsics.localBarrier();
+        if (gidx >= start) {
+            outputArray[globalID + 1] |= inputArray[gidx];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntXor(int[] inputArray, int[] outputArray, int gidx, int start, int globalID) {
+        OpenCLIntrinsics.localBarrier();
+        if (gidx >= start) {
+            outputArray[globalID + 1] ^= inputArray[gidx];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntAndCarrierValue(int[] inputArray, int[] outputArray, int gidx, int start, int globalID, int value) {
+        OpenCLIntrinsics.localBarrier();
+        if (gidx >= start) {
+            outputArray[globalID + 1] &= value;
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntOrCarrierValue(int[] inputArray, int[] outputArray, int gidx, int start, int globalID, int value) {
+        OpenCLIntrinsics.localBarrier();
+        if (gidx >= start) {
+            outputArray[globalID + 1] |= value;
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntXorCarrierValue(int[] inputArray, int[] outputArray, int gidx, int start, int globalID, int value) {
+        OpenCLIntrinsics.localBarrier();
+        if (gidx >= start) {
+            outputArray[globalID + 1] ^= value;
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongAnd(long[] inputArray, long[] outputArray, int gidx, int start, int globalID) {
+        OpenCLIntrinsics.localBarrier();
+        if (gidx >= start) {
+            outputArray[globalID + 1] &= inputArray[gidx];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongOr(long[] inputArray, long[] outputArray, int gidx, int start, int globalID) {
+        OpenCLIntrinsics.localBarrier();
+        if (gidx >= start) {
+            outputArray[globalID + 1] |= inputArray[gidx];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongXor(long[] inputArray, long[] outputArray, int gidx, int start, int globalID) {
+        OpenCLIntrinsics.localBarrier();
+        if (gidx >= start) {
+            outputArray[globalID + 1] ^= inputArray[gidx];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongAndCarrierValue(long[] inputArray, long[] outputArray, int gidx, int start, int globalID, long value) {
+        OpenCLIntrinsics.localBarrier();
+        if (gidx >= start) {
+            outputArray[globalID + 1] &= value;
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongOrCarrierValue(long[] inputArray, long[] outputArray, int gidx, int start, int globalID, long value) {
+        OpenCLIntrinsics.localBarrier();
+        if (gidx >= start) {
+            outputArray[globalID + 1] |= value;
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongXorCarrierValue(long[] inputArray, long[] outputArray, int gidx, int start, int globalID, long value) {
+        OpenCLIntrinsics.localBarrier();
+        if (gidx >= start) {
+            outputArray[globalID + 1] ^= value;
+        }
+    }
+
     protected static class Tuple2<T0, T1> {
         T0 t0;
         T1 t1;
@@ -374,6 +471,21 @@ public class ReduceCPUSnippets implements Snippets {
         // Additional tuple
         private final Tuple2<Class<? extends ReduceCPUSnippets>, String> partialReduceAddIntSnippetCarrierValue = new Tuple2<>(ReduceCPUSnippets.class, "partialReduceIntAddCarrierValue");
         private final Tuple2<Class<? extends ReduceCPUSnippets>, String> partialReduceMulIntSnippet = new Tuple2<>(ReduceCPUSnippets.class, "partialReduceIntMul");
+
+        // Bitwise
+        private final Tuple2<Class<? extends ReduceCPUSnippets>, String> partialReduceAndIntSnippet = new Tuple2<>(ReduceCPUSnippets.class, "partialReduceIntAnd");
+        private final Tuple2<Class<? extends ReduceCPUSnippets>, String> partialReduceAndIntSnippetCarrierValue = new Tuple2<>(ReduceCPUSnippets.class, "partialReduceIntAndCarrierValue");
+        private final Tuple2<Class<? extends ReduceCPUSnippets>, String> partialReduceOrIntSnippet = new Tuple2<>(ReduceCPUSnippets.class, "partialReduceIntOr");
+        private final Tuple2<Class<? extends ReduceCPUSnippets>, String> partialReduceOrIntSnippetCarrierValue = new Tuple2<>(ReduceCPUSnippets.class, "partialReduceIntOrCarrierValue");
+        private final Tuple2<Class<? extends ReduceCPUSnippets>, String> partialReduceXorIntSnippet = new Tuple2<>(ReduceCPUSnippets.class, "partialReduceIntXor");
+        private final Tuple2<Class<? extends ReduceCPUSnippets>, String> partialReduceXorIntSnippetCarrierValue = new Tuple2<>(ReduceCPUSnippets.class, "partialReduceIntXorCarrierValue");
+        private final Tuple2<Class<? extends ReduceCPUSnippets>, String> partialReduceAndLongSnippet = new Tuple2<>(ReduceCPUSnippets.class, "partialReduceLongAnd");
+        private final Tuple2<Class<? extends ReduceCPUSnippets>, String> partialReduceAndLongSnippetCarrierValue = new Tuple2<>(ReduceCPUSnippets.class, "partialReduceLongAndCarrierValue");
+        private final Tuple2<Class<? extends ReduceCPUSnippets>, String> partialReduceOrLongSnippet = new Tuple2<>(ReduceCPUSnippets.class, "partialReduceLongOr");
+        private final Tuple2<Class<? extends ReduceCPUSnippets>, String> partialReduceOrLongSnippetCarrierValue = new Tuple2<>(ReduceCPUSnippets.class, "partialReduceLongOrCarrierValue");
+        private final Tuple2<Class<? extends ReduceCPUSnippets>, String> partialReduceXorLongSnippet = new Tuple2<>(ReduceCPUSnippets.class, "partialReduceLongXor");
+        private final Tuple2<Class<? extends ReduceCPUSnippets>, String> partialReduceXorLongSnippetCarrierValue = new Tuple2<>(ReduceCPUSnippets.class, "partialReduceLongXorCarrierValue");
+
         Providers providers;
 
         public Templates(OptionValues options, Providers providers) {
@@ -408,6 +520,22 @@ public class ReduceCPUSnippets implements Snippets {
             }
         }
 
+        private SnippetInfo getBitwiseSnippetInteger(TornadoReduceBitwiseNode value, ValueNode extra) {
+            return switch (value.getOperation()) {
+                case AND -> (extra == null) ? snippet(partialReduceAndIntSnippet) : snippet(partialReduceAndIntSnippetCarrierValue);
+                case OR -> (extra == null) ? snippet(partialReduceOrIntSnippet) : snippet(partialReduceOrIntSnippetCarrierValue);
+                case XOR -> (extra == null) ? snippet(partialReduceXorIntSnippet) : snippet(partialReduceXorIntSnippetCarrierValue);
+            };
+        }
+
+        private SnippetInfo getBitwiseSnippetLong(TornadoReduceBitwiseNode value, ValueNode extra) {
+            return switch (value.getOperation()) {
+                case AND -> (extra == null) ? snippet(partialReduceAndLongSnippet) : snippet(partialReduceAndLongSnippetCarrierValue);
+                case OR -> (extra == null) ? snippet(partialReduceOrLongSnippet) : snippet(partialReduceOrLongSnippetCarrierValue);
+                case XOR -> (extra == null) ? snippet(partialReduceXorLongSnippet) : snippet(partialReduceXorLongSnippetCarrierValue);
+            };
+        }
+
         @Override
         public SnippetInfo inferIntSnippet(ValueNode value, ValueNode extra) {
             SnippetInfo snippet = null;
@@ -417,6 +545,8 @@ public class ReduceCPUSnippets implements Snippets {
                 snippet = (extra == null) ? snippet(partialReduceMulIntSnippet) : snippet(partialReduceMulIntSnippetCarrierValue);
             } else if (value instanceof OCLIntBinaryIntrinsicNode) {
                 snippet = getSnippetFromOCLBinaryNodeInteger((OCLIntBinaryIntrinsicNode) value, extra);
+            } else if (value instanceof TornadoReduceBitwiseNode bitwise) {
+                snippet = getBitwiseSnippetInteger(bitwise, extra);
             } else {
                 throw new RuntimeException("Reduce Operation no supported yet: snippet not installed");
             }
@@ -432,6 +562,8 @@ public class ReduceCPUSnippets implements Snippets {
                 snippet = (extra == null) ? snippet(partialReduceMulLongSnippet) : snippet(partialReduceMulLongSnippetCarrierValue);
             } else if (value instanceof OCLIntBinaryIntrinsicNode) {
                 snippet = getSnippetFromOCLBinaryNodeLong((OCLIntBinaryIntrinsicNode) value, extra);
+            } else if (value instanceof TornadoReduceBitwiseNode bitwise) {
+                snippet = getBitwiseSnippetLong(bitwise, extra);
             } else {
                 throw new RuntimeException("Reduce Operation no supported yet: snippet not installed");
             }
@@ -46,6 +46,7 @@ import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLFPBinaryIntrinsicN
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLIntBinaryIntrinsicNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.StoreAtomicIndexedNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.TornadoReduceAddNode;
+import uk.ac.manchester.tornado.runtime.graal.nodes.TornadoReduceBitwiseNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.TornadoReduceMulNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.WriteAtomicNode;
 
@@ -68,9 +69,13 @@ public class ReduceGPUSnippets implements Snippets {
         int localGroupSize = OpenCLIntrinsics.get_local_size(0);
         int groupID = OpenCLIntrinsics.get_group_id(0);
 
-        localArray[localIdx] = inputArray[gidx];
+        int subGroupSize = OpenCLIntrinsics.get_sub_group_size();
+        int partial = OpenCLIntrinsics.sub_group_reduce_add(inputArray[gidx]);
+        if (OpenCLIntrinsics.get_sub_group_local_id() == 0) {
+            localArray[OpenCLIntrinsics.get_sub_group_id()] = partial;
+        }
 
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             OpenCLIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] += localArray[localIdx + stride];
@@ -80,6 +85,14 @@ public class ReduceGPUSnippets implements Snippets {
         OpenCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result += outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -92,9 +105,13 @@ public class ReduceGPUSnippets implements Snippets {
         int localGroupSize = OpenCLIntrinsics.get_local_size(0);
         int groupID = OpenCLIntrinsics.get_group_id(0);
 
-        localArray[localIdx] = value;
+        int subGroupSize = OpenCLIntrinsics.get_sub_group_size();
+        int partial = OpenCLIntrinsics.sub_group_reduce_add(value);
+        if (OpenCLIntrinsics.get_sub_group_local_id() == 0) {
+            localArray[OpenCLIntrinsics.get_sub_group_id()] = partial;
+        }
 
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             OpenCLIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] += localArray[localIdx + stride];
@@ -103,6 +120,14 @@ public class ReduceGPUSnippets implements Snippets {
         OpenCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result += outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -126,6 +151,14 @@ public class ReduceGPUSnippets implements Snippets {
         OpenCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result += outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -150,6 +183,14 @@ public class ReduceGPUSnippets implements Snippets {
         OpenCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = inputArray[myID];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result += outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -161,9 +202,13 @@ public class ReduceGPUSnippets implements Snippets {
         int localGroupSize = OpenCLIntrinsics.get_local_size(0);
         int groupID = OpenCLIntrinsics.get_group_id(0);
 
-        localArray[localIdx] = inputArray[gidx];
+        int subGroupSize = OpenCLIntrinsics.get_sub_group_size();
+        float partial = OpenCLIntrinsics.sub_group_reduce_add(inputArray[gidx]);
+        if (OpenCLIntrinsics.get_sub_group_local_id() == 0) {
+            localArray[OpenCLIntrinsics.get_sub_group_id()] = partial;
+        }
 
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             OpenCLIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] += localArray[localIdx + stride];
@@ -173,6 +218,14 @@ public class ReduceGPUSnippets implements Snippets {
         OpenCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                float result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result += outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -186,8 +239,13 @@ public class ReduceGPUSnippets implements Snippets {
         int groupID = OpenCLIntrinsics.get_group_id(0);
 
         int myID = localIdx + (localGroupSize * groupID);
-        localArray[localIdx] = value;
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        int subGroupSize = OpenCLIntrinsics.get_sub_group_size();
+        float partial = OpenCLIntrinsics.sub_group_reduce_add(value);
+        if (OpenCLIntrinsics.get_sub_group_local_id() == 0) {
+            localArray[OpenCLIntrinsics.get_sub_group_id()] = partial;
+        }
+
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             OpenCLIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] += localArray[localIdx + stride];
@@ -197,6 +255,14 @@ public class ReduceGPUSnippets implements Snippets {
         OpenCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                float result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result += outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -221,6 +287,14 @@ public class ReduceGPUSnippets implements Snippets {
         OpenCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                double result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result += outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -244,6 +318,14 @@ public class ReduceGPUSnippets implements Snippets {
         OpenCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                double result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result += outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -268,6 +350,14 @@ public class ReduceGPUSnippets implements Snippets {
         OpenCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result *= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -291,6 +381,14 @@ public class ReduceGPUSnippets implements Snippets {
         OpenCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result *= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -315,6 +413,14 @@ public class ReduceGPUSnippets implements Snippets {
         OpenCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result *= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -338,6 +444,14 @@ public class ReduceGPUSnippets implements Snippets {
         OpenCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = inputArray[myID];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result *= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -362,6 +476,14 @@ public class ReduceGPUSnippets implements Snippets {
         OpenCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                float result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result *= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -386,6 +508,14 @@ public class ReduceGPUSnippets implements Snippets {
         OpenCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                float result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result *= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -410,6 +540,14 @@ public class ReduceGPUSnippets implements Snippets {
         OpenCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                double result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result *= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -433,6 +571,14 @@ public class ReduceGPUSnippets implements Snippets {
         OpenCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                double result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result *= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -444,8 +590,13 @@ public class ReduceGPUSnippets implements Snippets {
 
         int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
 
-        localArray[localIdx] = inputArray[gidx];
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        int subGroupSize = OpenCLIntrinsics.get_sub_group_size();
+        int partial = OpenCLIntrinsics.sub_group_reduce_max(inputArray[gidx]);
+        if (OpenCLIntrinsics.get_sub_group_local_id() == 0) {
+            localArray[OpenCLIntrinsics.get_sub_group_id()] = partial;
+        }
+
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             OpenCLIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] = TornadoMath.max(localArray[localIdx], localArray[localIdx + stride]);
@@ -455,6 +606,14 @@ public class ReduceGPUSnippets implements Snippets {
         OpenCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.max(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -466,8 +625,13 @@ public class ReduceGPUSnippets implements Snippets {
 
         int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
 
-        localArray[localIdx] = extra;
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        int subGroupSize = OpenCLIntrinsics.get_sub_group_size();
+        int partial = OpenCLIntrinsics.sub_group_reduce_max(extra);
+        if (OpenCLIntrinsics.get_sub_group_local_id() == 0) {
+            localArray[OpenCLIntrinsics.get_sub_group_id()] = partial;
+        }
+
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             OpenCLIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] = TornadoMath.max(localArray[localIdx], localArray[localIdx + stride]);
@@ -477,6 +641,14 @@ public class ReduceGPUSnippets implements Snippets {
         OpenCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.max(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -501,6 +673,14 @@ public class ReduceGPUSnippets implements Snippets {
         OpenCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.max(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -525,6 +705,14 @@ public class ReduceGPUSnippets implements Snippets {
         OpenCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.max(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -537,8 +725,13 @@ public class ReduceGPUSnippets implements Snippets {
 
         float[] localArray = (float[]) NewArrayNode.newUninitializedArray(float.class, LOCAL_WORK_GROUP_SIZE);
 
-        localArray[localIdx] = inputArray[gidx];
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        int subGroupSize = OpenCLIntrinsics.get_sub_group_size();
+        float partial = OpenCLIntrinsics.sub_group_reduce_max(inputArray[gidx]);
+        if (OpenCLIntrinsics.get_sub_group_local_id() == 0) {
+            localArray[OpenCLIntrinsics.get_sub_group_id()] = partial;
+        }
+
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             OpenCLIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] = TornadoMath.max(localArray[localIdx], localArray[localIdx + stride]);
@@ -548,6 +741,14 @@ public class ReduceGPUSnippets implements Snippets {
         OpenCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                float result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.max(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -560,8 +761,13 @@ public class ReduceGPUSnippets implements Snippets {
 
         float[] localArray = (float[]) NewArrayNode.newUninitializedArray(float.class, LOCAL_WORK_GROUP_SIZE);
 
-        localArray[localIdx] = extra;
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        int subGroupSize = OpenCLIntrinsics.get_sub_group_size();
+        float partial = OpenCLIntrinsics.sub_group_reduce_max(extra);
+        if (OpenCLIntrinsics.get_sub_group_local_id() == 0) {
+            localArray[OpenCLIntrinsics.get_sub_group_id()] = partial;
+        }
+
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             OpenCLIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] = TornadoMath.max(localArray[localIdx], localArray[localIdx + stride]);
@@ -571,6 +777,14 @@ public class ReduceGPUSnippets implements Snippets {
         OpenCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                float result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.max(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -593,6 +807,14 @@ public class ReduceGPUSnippets implements Snippets {
         OpenCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                double result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.max(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -615,6 +837,14 @@ public class ReduceGPUSnippets implements Snippets {
         OpenCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                double result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.max(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -627,8 +857,13 @@ public class ReduceGPUSnippets implements Snippets {
 
         int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
 
-        localArray[localIdx] = inputArray[gidx];
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        int subGroupSize = OpenCLIntrinsics.get_sub_group_size();
+        int partial = OpenCLIntrinsics.sub_group_reduce_min(inputArray[gidx]);
+        if (OpenCLIntrinsics.get_sub_group_local_id() == 0) {
+            localArray[OpenCLIntrinsics.get_sub_group_id()] = partial;
+        }
+
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             OpenCLIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] = TornadoMath.min(localArray[localIdx], localArray[localIdx + stride]);
@@ -638,6 +873,14 @@ public class ReduceGPUSnippets implements Snippets {
         OpenCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.min(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -650,8 +893,13 @@ public class ReduceGPUSnippets implements Snippets {
 
         int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
 
-        localArray[localIdx] = extra;
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        int subGroupSize = OpenCLIntrinsics.get_sub_group_size();
+        int partial = OpenCLIntrinsics.sub_group_reduce_min(extra);
+        if (OpenCLIntrinsics.get_sub_group_local_id() == 0) {
+            localArray[OpenCLIntrinsics.get_sub_group_id()] = partial;
+        }
+
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             OpenCLIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] = TornadoMath.min(localArray[localIdx], localArray[localIdx + stride]);
@@ -661,6 +909,14 @@ public class ReduceGPUSnippets implements Snippets {
         OpenCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.min(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -685,6 +941,14 @@ public class ReduceGPUSnippets implements Snippets {
         OpenCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.min(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -709,6 +973,14 @@ public class ReduceGPUSnippets implements Snippets {
         OpenCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.min(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -721,8 +993,13 @@ public class ReduceGPUSnippets implements Snippets {
 
         float[] localArray = (float[]) NewArrayNode.newUninitializedArray(float.class, LOCAL_WORK_GROUP_SIZE);
 
-        localArray[localIdx] = inputArray[gidx];
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        int subGroupSize = OpenCLIntrinsics.get_sub_group_size();
+        float partial = OpenCLIntrinsics.sub_group_reduce_min(inputArray[gidx]);
+        if (OpenCLIntrinsics.get_sub_group_local_id() == 0) {
+            localArray[OpenCLIntrinsics.get_sub_group_id()] = partial;
+        }
+
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             OpenCLIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] = TornadoMath.min(localArray[localIdx], localArray[localIdx + stride]);
@@ -732,6 +1009,14 @@ public class ReduceGPUSnippets implements Snippets {
         OpenCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                float result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.min(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -744,8 +1029,13 @@ public class ReduceGPUSnippets implements Snippets {
 
         float[] localArray = (float[]) NewArrayNode.newUninitializedArray(float.class, LOCAL_WORK_GROUP_SIZE);
 
-        localArray[localIdx] = extra;
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        int subGroupSize = OpenCLIntrinsics.get_sub_group_size();
+        float partial = OpenCLIntrinsics.sub_group_reduce_min(extra);
+        if (OpenCLIntrinsics.get_sub_group_local_id() == 0) {
+            localArray[OpenCLIntrinsics.get_sub_group_id()] = partial;
+        }
+
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             OpenCLIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] = TornadoMath.min(localArray[localIdx], localArray[localIdx + stride]);
@@ -755,6 +1045,14 @@ public class ReduceGPUSnippets implements Snippets {
         OpenCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                float result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.min(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -777,6 +1075,14 @@ public class ReduceGPUSnippets implements Snippets {
         OpenCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                double result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.min(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -799,9 +1105,448 @@ public class ReduceGPUSnippets implements Snippets {
         OpenCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                double result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.min(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntAnd(int[] inputArray, int[] outputArray, int gidx) {
+
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+        int groupID = OpenCLIntrinsics.get_group_id(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] &= localArray[localIdx + stride];
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result &= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntOr(int[] inputArray, int[] outputArray, int gidx) {
+
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+        int groupID = OpenCLIntrinsics.get_group_id(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] |= localArray[localIdx + stride];
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result |= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntXor(int[] inputArray, int[] outputArray, int gidx) {
+
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+        int groupID = OpenCLIntrinsics.get_group_id(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] ^= localArray[localIdx + stride];
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result ^= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntAndCarrierValue(int[] inputArray, int[] outputArray, int gidx, int value) {
+
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+        int groupID = OpenCLIntrinsics.get_group_id(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = value;
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] &= localArray[localIdx + stride];
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result &= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntOrCarrierValue(int[] inputArray, int[] outputArray, int gidx, int value) {
+
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+        int groupID = OpenCLIntrinsics.get_group_id(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = value;
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] |= localArray[localIdx + stride];
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result |= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntXorCarrierValue(int[] inputArray, int[] outputArray, int gidx, int value) {
+
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+        int groupID = OpenCLIntrinsics.get_group_id(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = value;
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] ^= localArray[localIdx + stride];
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result ^= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongAnd(long[] inputArray, long[] outputArray, int gidx) {
+
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+        int groupID = OpenCLIntrinsics.get_group_id(0);
+
+        long[] localArray = (long[]) NewArrayNode.newUninitializedArray(long.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] &= localArray[localIdx + stride];
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result &= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongOr(long[] inputArray, long[] outputArray, int gidx) {
+
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+        int groupID = OpenCLIntrinsics.get_group_id(0);
+
+        long[] localArray = (long[]) NewArrayNode.newUninitializedArray(long.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] |= localArray[localIdx + stride];
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result |= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
+    @Snippet
+    public static void partialReduceLongXor(long[] inputArray, long[] outputArray, int gidx) {
+
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+        int groupID = OpenCLIntrinsics.get_group_id(0);
+
+        long[] localArray = (long[]) NewArrayNode.newUninitializedArray(long.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] ^= localArray[localIdx + stride];
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result ^= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongAndCarrierValue(long[] inputArray, long[] outputArray, int gidx, long value) {
+
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+        int groupID = OpenCLIntrinsics.get_group_id(0);
+
+        int myID = localIdx + (localGroupSize * groupID);
+
+        inputArray[myID] = value;
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                inputArray[myID] &= inputArray[myID + stride];
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = inputArray[myID];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result &= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongOrCarrierValue(long[] inputArray, long[] outputArray, int gidx, long value) {
+
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+        int groupID = OpenCLIntrinsics.get_group_id(0);
+
+        int myID = localIdx + (localGroupSize * groupID);
+
+        inputArray[myID] = value;
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                inputArray[myID] |= inputArray[myID + stride];
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = inputArray[myID];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result |= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongXorCarrierValue(long[] inputArray, long[] outputArray, int gidx, long value) {
+
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+        int groupID = OpenCLIntrinsics.get_group_id(0);
+
+        int myID = localIdx + (localGroupSize * groupID);
+
+        inputArray[myID] = value;
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                inputArray[myID] ^= inputArray[myID + stride];
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = inputArray[myID];
+            int numGroups = OpenCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result ^= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    /**
+     * Counts the work-groups that stored their partial result in the element after
+     * the partial results. The counter is zero when the kernel starts.
+     *
+     * <p>
+     * The fence before the increment publishes the partial result of the
+     * work-group. The fence after the increment of the last work-group keeps its
+     * loads of the partial results from returning stale values. The fences are
+     * acquire-release fences with the scope of the device
+     * ({@code atomic_work_item_fence}), since {@code mem_fence} only orders the
+     * accesses within a work-item. The kernels compiled as OpenCL C 1.x fall back
+     * to {@code mem_fence}.
+     * </p>
+     *
+     * @return true for the last work-group, which folds the partial results of all
+     *     the work-groups into the first element of the output array.
+     */
+    private static boolean isLastGroup(int[] outputArray, int numGroups) {
+        OpenCLIntrinsics.globalMemFence();
+        if (OpenCLIntrinsics.atomic_inc(outputArray, numGroups + 1) == numGroups - 1) {
+            OpenCLIntrinsics.globalMemFence();
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isLastGroup(long[] outputArray, int numGroups) {
+        OpenCLIntrinsics.globalMemFence();
+        if (OpenCLIntrinsics.atomic_inc(outputArray, numGroups + 1) == numGroups - 1) {
+            OpenCLIntrinsics.globalMemFence();
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isLastGroup(float[] outputArray, int numGroups) {
+        OpenCLIntrinsics.globalMemFence();
+        if (OpenCLIntrinsics.atomic_inc(outputArray, numGroups + 1) == numGroups - 1) {
+            OpenCLIntrinsics.globalMemFence();
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isLastGroup(double[] outputArray, int numGroups) {
+        OpenCLIntrinsics.globalMemFence();
+        if (OpenCLIntrinsics.atomic_inc(outputArray, numGroups + 1) == numGroups - 1) {
+            OpenCLIntrinsics.globalMemFence();
+            return true;
+        }
+        return false;
+    }
+
     protected static class Tuple2<T0, T1> {
         T0 t0;
         T1 t1;
@@ -862,6 +1607,20 @@ public class ReduceGPUSnippets implements Snippets {
         private final Tuple2<Class<? extends ReduceGPUSnippets>, String> partialReduceMinDoubleSnippet = new Tuple2<>(ReduceGPUSnippets.class, "partialReduceDoubleMin");
         private final Tuple2<Class<? extends ReduceGPUSnippets>, String> partialReduceMinDoubleSnippetCarrierValue = new Tuple2<>(ReduceGPUSnippets.class, "partialReduceDoubleMinCarrierValue");
 
+        // Bitwise
+        private final Tuple2<Class<? extends ReduceGPUSnippets>, String> partialReduceIntAndSnippet = new Tuple2<>(ReduceGPUSnippets.class, "partialReduceIntAnd");
+        private final Tuple2<Class<? extends ReduceGPUSnippets>, String> partialReduceIntAndSnippetCarrierValue = new Tuple2<>(ReduceGPUSnippets.class, "partialReduceIntAndCarrierValue");
+        private final Tuple2<Class<? extends ReduceGPUSnippets>, String> partialReduceIntOrSnippet = new Tuple2<>(ReduceGPUSnippets.class, "partialReduceIntOr");
+        private final Tuple2<Class<? extends ReduceGPUSnippets>, String> partialReduceIntOrSnippetCarrierValue = new Tuple2<>(ReduceGPUSnippets.class, "partialReduceIntOrCarrierValue");
+        private final Tuple2<Class<? extends ReduceGPUSnippets>, String> partialReduceIntXorSnippet = new Tuple2<>(ReduceGPUSnippets.class, "partialReduceIntXor");
+        private final Tuple2<Class<? extends ReduceGPUSnippets>, String> partialReduceIntXorSnippetCarrierValue = new Tuple2<>(ReduceGPUSnippets.class, "partialReduceIntXorCarrierValue");
+        private final Tuple2<Class<? extends ReduceGPUSnippets>, String> partialReduceLongAndSnippet = new Tuple2<>(ReduceGPUSnippets.class, "partialReduceLongAnd");
+        private final Tuple2<Class<? extends ReduceGPUSnippets>, String> partialReduceLongAndSnippetCarrierValue = new Tuple2<>(ReduceGPUSnippets.class, "partialReduceLongAndCarrierValue");
+        private final Tuple2<Class<? extends ReduceGPUSnippets>, String> partialReduceLongOrSnippet = new Tuple2<>(ReduceGPUSnippets.class, "partialReduceLongOr");
+        private final Tuple2<Class<? extends ReduceGPUSnippets>, String> partialReduceLongOrSnippetCarrierValue = new Tuple2<>(ReduceGPUSnippets.class, "partialReduceLongOrCarrierValue");
+        private final Tuple2<Class<? extends ReduceGPUSnippets>, String> partialReduceLongXorSnippet = new Tuple2<>(ReduceGPUSnippets.class, "partialReduceLongXor");
+        private final Tuple2<Class<? extends ReduceGPUSnippets>, String> partialReduceLongXorSnippetCarrierValue = new Tuple2<>(ReduceGPUSnippets.class, "partialReduceLongXorCarrierValue");
+
         Providers providers;
 
         public Templates(OptionValues options, Providers providers) {
@@ -896,6 +1655,22 @@ public class ReduceGPUSnippets implements Snippets {
             }
         }
 
+        private SnippetInfo getBitwiseSnippetInteger(TornadoReduceBitwiseNode value, ValueNode extra) {
+            return switch (value.getOperation()) {
+                case AND -> (extra == null) ? snippet(partialReduceIntAndSnippet) : snippet(partialReduceIntAndSnippetCarrierValue);
+                case OR -> (extra == null) ? snippet(partialReduceIntOrSnippet) : snippet(partialReduceIntOrSnippetCarrierValue);
+                case XOR -> (extra == null) ? snippet(partialReduceIntXorSnippet) : snippet(partialReduceIntXorSnippetCarrierValue);
+            };
+        }
+
+        private SnippetInfo getBitwiseSnippetLong(TornadoReduceBitwiseNode value, ValueNode extra) {
+            return switch (value.getOperation()) {
+                case AND -> (extra == null) ? snippet(partialReduceLongAndSnippet) : snippet(partialReduceLongAndSnippetCarrierValue);
+                case OR -> (extra == null) ? snippet(partialReduceLongOrSnippet) : snippet(partialReduceLongOrSnippetCarrierValue);
+                case XOR -> (extra == null) ? snippet(partialReduceLongXorSnippet) : snippet(partialReduceLongXorSnippetCarrierValue);
+            };
+        }
+
         @Override
         public SnippetInfo inferIntSnippet(ValueNode value, ValueNode extra) {
             SnippetInfo snippet;
@@ -907,6 +1682,8 @@ public class ReduceGPUSnippets implements Snippets {
             } else if (value instanceof OCLIntBinaryIntrinsicNode) {
                 OCLIntBinaryIntrinsicNode op = (OCLIntBinaryIntrinsicNode) value;
                 snippet = getSnippetFromOCLBinaryNodeInteger(op, extra);
+            } else if (value instanceof TornadoReduceBitwiseNode bitwise) {
+                snippet = getBitwiseSnippetInteger(bitwise, extra);
             } else {
                 throw new RuntimeException("Reduce Operation no supported yet: snippet not installed");
             }
@@ -923,6 +1700,8 @@ public class ReduceGPUSnippets implements Snippets {
             } else if (value instanceof OCLIntBinaryIntrinsicNode) {
                 OCLIntBinaryIntrinsicNode op = (OCLIntBinaryIntrinsicNode) value;
                 snippet = getSnippetFromOCLBinaryNodeLong(op, extra);
+            } else if (value instanceof TornadoReduceBitwiseNode bitwise) {
+                snippet = getBitwiseSnippetLong(bitwise, extra);
             } else {
                 throw new RuntimeException("Reduce Operation no supported yet: snippet not installed");
             }
@@ -68,6 +68,13 @@ public class PTXCodeCache {
         return cache.containsKey(name);
     }
 
+    /**
+     * Returns the number of kernels installed in the cache.
+     */
+    public int getNumKernels() {
+        return cache.size();
+    }
+
     public void reset() {
         for (PTXInstalledCode code : cache.values()) {
             code.invalidate();
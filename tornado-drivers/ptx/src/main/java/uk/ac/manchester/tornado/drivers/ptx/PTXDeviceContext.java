@@ -36,9 +36,11 @@ import uk.ac.manchester.tornado.api.TornadoDeviceContext;
 import uk.ac.manchester.tornado.api.WorkerGrid;
 import uk.ac.manchester.tornado.api.common.Event;
 import uk.ac.manchester.tornado.api.common.SchedulableTask;
+import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
 import uk.ac.manchester.tornado.api.profiler.ProfilerType;
 import uk.ac.manchester.tornado.api.profiler.TornadoProfiler;
 import uk.ac.manchester.tornado.api.runtime.TornadoRuntime;
+import uk.ac.manchester.tornado.drivers.common.DeviceMetrics;
 import uk.ac.manchester.tornado.drivers.common.TornadoBufferProvider;
 import uk.ac.manchester.tornado.drivers.ptx.graal.compiler.PTXCompilationResult;
 import uk.ac.manchester.tornado.drivers.ptx.mm.PTXKernelArgs;
@@ -69,6 +71,8 @@ public class PTXDeviceContext extends TornadoLogger implements TornadoDeviceCont
         codeCache = new PTXCodeCache(this);
         memoryManager = new PTXMemoryManager(this);
         bufferProvider = new PTXBufferProvider(this);
+        PTXEventPool eventPool = stream.getEventPool();
+        DeviceMetrics.register(TornadoVMBackendType.PTX, this, bufferProvider, codeCache::getNumKernels, eventPool::getNumEvents, eventPool::getNumRetainedEvents, eventPool.getPoolSize());
         wasReset = false;
     }
 
@@ -106,6 +106,27 @@ public class PTXEventPool {
         return events[localEventID];
     }
 
+    /**
+     * Returns the number of slots of the pool that hold an event.
+     */
+    int getNumEvents() {
+        int numEvents = 0;
+        for (PTXEvent event : events) {
+            if (event != null) {
+                numEvents++;
+            }
+        }
+        return numEvents;
+    }
+
+    int getNumRetainedEvents() {
+        return retain.cardinality();
+    }
+
+    int getPoolSize() {
+        return eventPoolSize;
+    }
+
     public List<PTXEvent> getEvents() {
         List<PTXEvent> result = new ArrayList<>();
         for (int i = 0; i < eventIndex; i++) {
@@ -49,6 +49,10 @@ public class PTXStream extends TornadoLogger {
         this.ptxEventPool = new PTXEventPool(EVENT_WINDOW);
     }
 
+    PTXEventPool getEventPool() {
+        return ptxEventPool;
+    }
+
     //@formatter:off
     private static native byte[][] writeArrayDtoH(long address, long length, byte[] array, long hostOffset, byte[] streamWrapper);
     private static native byte[][] writeArrayDtoH(long address, long length, long hostPointer, long hostOffset, byte[] streamWrapper);
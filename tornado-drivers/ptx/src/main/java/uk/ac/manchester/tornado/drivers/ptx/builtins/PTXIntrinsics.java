@@ -57,6 +57,40 @@ public class PTXIntrinsics {
      */
     public static native void globalBarrier();
 
+    /**
+     * <p>
+     * <code>
+     * membar.gl;
+     * </code>
+     * </p>
+     */
+    public static native void globalMemFence();
+
+    /**
+     * <p>
+     * <code>
+     * shfl.sync.bfly.b32 result, value, laneMask, 0x1F, 0xFFFFFFFF;
+     * </code>
+     * </p>
+     */
+    public static native int shfl_xor(int value, int laneMask);
+
+    public static native float shfl_xor(float value, int laneMask);
+
+    /**
+     * Atomically increments the 32-bit integer stored at the position
+     * {@code index} of the array, whatever the type of its elements.
+     *
+     * @return the value before the increment.
+     */
+    public static native int atomic_inc(int[] array, int index);
+
+    public static native int atomic_inc(long[] array, int index);
+
+    public static native int atomic_inc(float[] array, int index);
+
+    public static native int atomic_inc(double[] array, int index);
+
     public static native void printf();
 
     public static native void printEmpty();
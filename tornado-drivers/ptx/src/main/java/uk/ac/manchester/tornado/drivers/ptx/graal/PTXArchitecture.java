@@ -69,6 +69,8 @@ public class PTXArchitecture extends Architecture {
     public static PTXBuiltInRegister GridDimY = new PTXBuiltInRegister("%nctaid.y");
     public static PTXBuiltInRegister GridDimZ = new PTXBuiltInRegister("%nctaid.z");
 
+    public static PTXBuiltInRegister LaneID = new PTXBuiltInRegister("%laneid");
+
     public PTXArchitecture(PTXKind wordKind, ByteOrder byteOrder) {
         super("Tornado PTX", wordKind, byteOrder, false, null, LOAD_STORE | STORE_STORE, NATIVE_CALL_DISPLACEMENT_OFFSET, RETURN_ADDRESS_SIZE);
 
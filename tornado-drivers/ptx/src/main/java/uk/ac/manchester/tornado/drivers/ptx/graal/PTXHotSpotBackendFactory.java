@@ -47,6 +47,7 @@ import jdk.vm.ci.hotspot.HotSpotJVMCIRuntime;
 import jdk.vm.ci.hotspot.HotSpotMetaAccessProvider;
 import jdk.vm.ci.meta.JavaKind;
 import jdk.vm.ci.runtime.JVMCIBackend;
+import uk.ac.manchester.tornado.drivers.common.graal.compiler.HalfFloatPlugins;
 import uk.ac.manchester.tornado.drivers.graal.TornadoMetaAccessExtensionProvider;
 import uk.ac.manchester.tornado.drivers.graal.TornadoPlatformConfigurationProvider;
 import uk.ac.manchester.tornado.drivers.graal.TornadoWordTypes;
@@ -58,6 +59,7 @@ import uk.ac.manchester.tornado.drivers.ptx.graal.compiler.PTXCompilerConfigurat
 import uk.ac.manchester.tornado.drivers.ptx.graal.compiler.plugins.PTXGraphBuilderPlugins;
 import uk.ac.manchester.tornado.drivers.ptx.graal.lir.PTXAddressLowering;
 import uk.ac.manchester.tornado.drivers.ptx.graal.lir.PTXKind;
+import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.PTXHalfFloatConvertNode;
 import uk.ac.manchester.tornado.runtime.TornadoVMConfig;
 import uk.ac.manchester.tornado.runtime.graal.DummySnippetFactory;
 import uk.ac.manchester.tornado.runtime.graal.compiler.TornadoConstantFieldProvider;
@@ -136,6 +138,8 @@ public class PTXHotSpotBackendFactory {
                 false, //
                 loweringProvider);
         PTXGraphBuilderPlugins.registerInvocationPlugins(plugins, invocationPlugins);
+        // The conversions between .f16 and .f32 are available on all the architectures
+        HalfFloatPlugins.registerHalfFloatPlugins(invocationPlugins, PTXHalfFloatConvertNode::new);
         return plugins;
     }
 }
@@ -491,6 +491,8 @@ public class PTXAssembler extends Assembler {
         public static final PTXUnaryOp NOT = new PTXUnaryOp("not", true, ROUND_NEAREST_EVEN);
         public static final PTXUnaryOp NEGATE = new PTXUnaryOp("neg", false, null);
         public static final PTXUnaryOp MOV = new PTXUnaryOp(MOVE, false, null);
+        // The bit-size types of mov are compatible with any type of the same size
+        public static final PTXUnaryOp MOV_BITS = new PTXUnaryOp(MOVE, true, null);
         public static final PTXUnaryOp CVT_FLOAT_RNE = new PTXUnaryOp(CONVERT, false, ROUND_NEAREST_EVEN);
         public static final PTXUnaryOp CVT_FLOAT = new PTXUnaryOp(CONVERT, false, null);
         public static final PTXUnaryOp CVT_INT_RTZ = new PTXUnaryOp(CONVERT, false, ROUND_TOWARD_ZERO_INTEGER);
@@ -49,7 +49,9 @@ import org.graalvm.compiler.graph.Node;
 import org.graalvm.compiler.nodes.ConstantNode;
 import org.graalvm.compiler.nodes.FixedWithNextNode;
 import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.calc.AddNode;
 import org.graalvm.compiler.nodes.calc.MulNode;
+import org.graalvm.compiler.nodes.calc.RightShiftNode;
 import org.graalvm.compiler.nodes.extended.BoxNode;
 import org.graalvm.compiler.nodes.extended.JavaReadNode;
 import org.graalvm.compiler.nodes.extended.JavaWriteNode;
@@ -70,27 +72,38 @@ import jdk.vm.ci.meta.JavaConstant;
 import jdk.vm.ci.meta.JavaKind;
 import jdk.vm.ci.meta.ResolvedJavaMethod;
 import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.TornadoVMIntrinsics;
 import uk.ac.manchester.tornado.api.exceptions.Debug;
 import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.drivers.common.graal.compiler.SubGroupPlugins;
 import uk.ac.manchester.tornado.drivers.ptx.graal.PTXArchitecture;
 import uk.ac.manchester.tornado.drivers.ptx.graal.lir.PTXKind;
 import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.LocalArrayNode;
+import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.LocalThreadIdNode;
+import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.LocalThreadSizeNode;
+import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.PTXAtomicArrayNode;
 import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.PTXBarrierNode;
 import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.PTXFPBinaryIntrinsicNode;
 import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.PTXFPUnaryIntrinsicNode;
 import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.PTXIntBinaryIntrinsicNode;
 import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.PTXIntUnaryIntrinsicNode;
+import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.PTXSubGroupNode;
 import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.PrintfNode;
 import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+import uk.ac.manchester.tornado.runtime.graal.nodes.AtomicArrayNode;
+import uk.ac.manchester.tornado.runtime.graal.nodes.SubGroupNode;
 
 public class PTXGraphBuilderPlugins {
 
+    private static final int WARP_SIZE = 32;
+
     public static void registerInvocationPlugins(final Plugins ps, final InvocationPlugins plugins) {
         if (TornadoOptions.INLINE_DURING_BYTECODE_PARSING) {
             ps.appendInlineInvokePlugin(new InlineDuringParsingPlugin());
         }
 
         registerTornadoInstrinsicsPlugins(plugins);
+        registerTornadoVMAtomicsPlugins(plugins);
         registerPTXBuiltinPlugins(plugins);
         PTXMathPlugins.registerTornadoMathPlugins(plugins);
         PTXVectorPlugins.registerPlugins(ps, plugins);
@@ -98,6 +111,41 @@ public class PTXGraphBuilderPlugins {
         registerKernelContextPlugins(plugins);
     }
 
+    private static void registerAtomicArrayPlugin(Registration r, AtomicArrayNode.Operation operation, JavaKind elementKind) {
+        final Class<?> arrayClass = AtomicArrayNode.getArrayClass(elementKind);
+        final JavaKind resultKind = (operation == AtomicArrayNode.Operation.CAS) ? JavaKind.Boolean : elementKind;
+        if (operation.isComparison()) {
+            r.register(new InvocationPlugin(operation.getMethodName(), arrayClass, int.class, elementKind.toJavaClass(), elementKind.toJavaClass()) {
+                @Override
+                public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver, ValueNode array, ValueNode index, ValueNode expected, ValueNode value) {
+                    AddressNode address = AtomicArrayNode.createElementAddress(b, array, index, elementKind);
+                    b.addPush(resultKind, new PTXAtomicArrayNode(operation, elementKind, address, expected, value));
+                    return true;
+                }
+            });
+        } else {
+            r.register(new InvocationPlugin(operation.getMethodName(), arrayClass, int.class, elementKind.toJavaClass()) {
+                @Override
+                public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver, ValueNode array, ValueNode index, ValueNode value) {
+                    AddressNode address = AtomicArrayNode.createElementAddress(b, array, index, elementKind);
+                    b.addPush(resultKind, new PTXAtomicArrayNode(operation, elementKind, address, null, value));
+                    return true;
+                }
+            });
+        }
+    }
+
+    private static void registerTornadoVMAtomicsPlugins(InvocationPlugins plugins) {
+        Registration r = new Registration(plugins, TornadoVMIntrinsics.class);
+        for (JavaKind elementKind : AtomicArrayNode.ELEMENT_KINDS) {
+            for (AtomicArrayNode.Operation operation : AtomicArrayNode.Operation.values()) {
+                if (operation.isIntrinsic(elementKind)) {
+                    registerAtomicArrayPlugin(r, operation, elementKind);
+                }
+            }
+        }
+    }
+
     private static void registerTornadoInstrinsicsPlugins(InvocationPlugins plugins) {
 
         final InvocationPlugin printfPlugin = new InvocationPlugin("printf", String.class, Object[].class) {
@@ -277,6 +325,37 @@ public class PTXGraphBuilderPlugins {
         registerLocalBarrier(r);
         registerGlobalBarrier(r);
         localArraysPlugins(r);
+        SubGroupPlugins.registerSubGroupPlugins(r, PTXGraphBuilderPlugins::createSubGroupNode);
+    }
+
+    /**
+     * The sub-groups are the warps of 32 threads. The warps are formed from the
+     * linear identifiers of the threads of the block, so the block size should be
+     * a multiple of 32. The reductions and the scans are built from shuffles:
+     * {@code redux.sync} requires sm_80 and only applies to integers.
+     */
+    private static ValueNode createSubGroupNode(GraphBuilderContext b, SubGroupNode.Operation operation, JavaKind kind, ValueNode value, ValueNode operand) {
+        return switch (operation) {
+            case SIZE -> b.add(ConstantNode.forInt(WARP_SIZE));
+            case ID -> b.add(new RightShiftNode(createLocalLinearId(b), ConstantNode.forInt(Integer.numberOfTrailingZeros(WARP_SIZE))));
+            case REDUCE_ADD, REDUCE_MIN, REDUCE_MAX -> SubGroupPlugins.createShuffleReduction(b, PTXGraphBuilderPlugins::createSubGroupNode, operation, kind, value, WARP_SIZE);
+            case SCAN_INCLUSIVE_ADD, SCAN_EXCLUSIVE_ADD -> SubGroupPlugins.createShuffleScan(b, PTXGraphBuilderPlugins::createSubGroupNode, operation, kind, value, WARP_SIZE);
+            default -> b.append(new PTXSubGroupNode(operation, kind, value, operand));
+        };
+    }
+
+    private static ValueNode createLocalLinearId(GraphBuilderContext b) {
+        ValueNode[] localIds = new ValueNode[3];
+        ValueNode[] localSizes = new ValueNode[2];
+        for (int dimension = 0; dimension < 3; dimension++) {
+            localIds[dimension] = b.add(new LocalThreadIdNode(ConstantNode.forInt(dimension)));
+            if (dimension < 2) {
+                localSizes[dimension] = b.add(new LocalThreadSizeNode(ConstantNode.forInt(dimension)));
+            }
+        }
+        // x + sizeX * (y + sizeY * z)
+        ValueNode yz = b.add(new AddNode(localIds[1], b.add(new MulNode(localSizes[1], localIds[2]))));
+        return b.add(new AddNode(localIds[0], b.add(new MulNode(localSizes[0], yz))));
     }
 
     private static void registerFPIntrinsics(Registration r, Class<?> type, JavaKind kind) {
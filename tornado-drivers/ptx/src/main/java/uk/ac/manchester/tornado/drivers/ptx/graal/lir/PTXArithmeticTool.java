@@ -171,8 +171,8 @@ public class PTXArithmeticTool extends ArithmeticLIRGenerator {
 
     @Override
     public Value emitReinterpret(LIRKind to, Value inputVal) {
-        unimplemented();
-        return null;
+        Logger.traceBuildLIR(Logger.BACKEND.PTX, "emitReinterpret to=%s inputVal=%s", to, inputVal);
+        return emitUnaryAssign(PTXAssembler.PTXUnaryOp.MOV_BITS, to, inputVal);
     }
 
     @Override
@@ -57,6 +57,8 @@ import uk.ac.manchester.tornado.drivers.ptx.graal.asm.PTXAssembler;
 import uk.ac.manchester.tornado.drivers.ptx.graal.asm.PTXAssembler.PTXNullaryOp;
 import uk.ac.manchester.tornado.drivers.ptx.graal.compiler.PTXCompilationResultBuilder;
 import uk.ac.manchester.tornado.drivers.ptx.graal.meta.PTXMemorySpace;
+import uk.ac.manchester.tornado.runtime.graal.nodes.AtomicArrayNode;
+import uk.ac.manchester.tornado.runtime.graal.nodes.SubGroupNode;
 
 public class PTXLIRStmt {
 
@@ -363,6 +365,128 @@ public class PTXLIRStmt {
         }
     }
 
+    /**
+     * Atomic operation on an element of a native array (see
+     * {@link AtomicArrayNode}). The subtractions are emitted as additions of the
+     * negated value. The exchanges and comparisons use bit-size types, so they
+     * also apply to {@code float} elements.
+     */
+    @Opcode("ATOMIC_ARRAY")
+    public static class AtomicArrayStmt extends AbstractInstruction {
+
+        public static final LIRInstructionClass<AtomicArrayStmt> TYPE = LIRInstructionClass.create(AtomicArrayStmt.class);
+
+        @Def
+        protected Variable result;
+        @Use
+        protected PTXUnary.MemoryAccess address;
+        @Use
+        protected Value expected;
+        @Use
+        protected Value value;
+        @Temp
+        protected Variable old;
+        @Temp
+        protected Variable predicate;
+
+        private final AtomicArrayNode.Operation operation;
+        private final PTXKind elementKind;
+
+        public AtomicArrayStmt(AtomicArrayNode.Operation operation, PTXKind elementKind, Variable result, PTXUnary.MemoryAccess address, Value expected, Value value, Variable old,
+                Variable predicate) {
+            super(TYPE);
+            this.operation = operation;
+            this.elementKind = elementKind;
+            this.result = result;
+            this.address = address;
+            this.expected = expected;
+            this.value = value;
+            this.old = old;
+            this.predicate = predicate;
+        }
+
+        private String getBitType() {
+            return "b" + (elementKind.getSizeInBytes() * 8);
+        }
+
+        private String getOperationType() {
+            return switch (operation) {
+                case ADD -> elementKind.isFloating() ? elementKind.toString() : (elementKind.getSizeInBytes() == 8 ? PTXKind.U64.toString() : PTXKind.S32.toString());
+                case MIN, MAX -> elementKind.toString();
+                default -> getBitType();
+            };
+        }
+
+        private String getOperationName() {
+            return switch (operation) {
+                case XCHG -> "exch";
+                case CMPXCHG, CAS -> "cas";
+                default -> operation.name().toLowerCase();
+            };
+        }
+
+        private void emitOperand(PTXAssembler asm, Value operand) {
+            if (operand instanceof ConstantValue constant && elementKind.isFloating()) {
+                // The bit-size types take integer literals
+                asm.emit(String.format("0x%08X", Float.floatToRawIntBits(constant.getJavaConstant().asFloat())));
+            } else {
+                asm.emitValue(operand);
+            }
+        }
+
+        @Override
+        public void emitCode(PTXCompilationResultBuilder crb, PTXAssembler asm) {
+            // atom.global.add.s32 %r5, [%rud4], %r3;
+            Variable destination = (operation == AtomicArrayNode.Operation.CAS) ? old : result;
+            asm.emitSymbol(TAB);
+            asm.emit("atom");
+            asm.emitSymbol(DOT);
+            asm.emit(address.getBase().memorySpace.getName());
+            asm.emitSymbol(DOT);
+            asm.emit(getOperationName());
+            asm.emitSymbol(DOT);
+            asm.emit(getOperationType());
+            asm.emitSymbol(TAB);
+            asm.emitValue(destination);
+            asm.emitSymbol(COMMA + SPACE);
+            address.emit(crb, asm, null);
+            if (operation.isComparison()) {
+                asm.emitSymbol(COMMA + SPACE);
+                emitOperand(asm, expected);
+            }
+            asm.emitSymbol(COMMA + SPACE);
+            emitOperand(asm, value);
+            asm.delimiter();
+            asm.eol();
+
+            if (operation == AtomicArrayNode.Operation.CAS) {
+                // setp.eq.b32 %p1, %r5, %r2;
+                asm.emitSymbol(TAB);
+                asm.emit("setp.eq." + getBitType());
+                asm.emitSymbol(TAB);
+                asm.emitValue(predicate);
+                asm.emitSymbol(COMMA + SPACE);
+                asm.emitValue(old);
+                asm.emitSymbol(COMMA + SPACE);
+                emitOperand(asm, expected);
+                asm.delimiter();
+                asm.eol();
+
+                // selp.s32 %r6, 1, 0, %p1;
+                asm.emitSymbol(TAB);
+                asm.emit("selp." + result.getPlatformKind().toString());
+                asm.emitSymbol(TAB);
+                asm.emitValue(result);
+                asm.emitSymbol(COMMA + SPACE);
+                asm.emit("1, 0");
+                asm.emitSymbol(COMMA + SPACE);
+                asm.emitValue(predicate);
+                asm.delimiter();
+                asm.eol();
+            }
+        }
+    }
+
     @Opcode("VSTORE")
     public static class VectorStoreStmt extends AbstractInstruction {
 
@@ -486,4 +610,92 @@ public class PTXLIRStmt {
             asm.eol();
         }
     }
+
+    /**
+     * Exchange of a 32-bit value between the threads of a warp (see
+     * {@link SubGroupNode}). All the threads of the warp take part in the
+     * exchange.
+     */
+    @Opcode("SHUFFLE")
+    public static class ShuffleStmt extends AbstractInstruction {
+
+        public static final LIRInstructionClass<ShuffleStmt> TYPE = LIRInstructionClass.create(ShuffleStmt.class);
+
+        private static final String FULL_MASK = "0xFFFFFFFF";
+
+        @Def
+        protected Variable result;
+        @Use
+        protected Value value;
+        @Use
+        protected Value operand;
+
+        private final SubGroupNode.Operation operation;
+
+        public ShuffleStmt(SubGroupNode.Operation operation, Variable result, Value value, Value operand) {
+            super(TYPE);
+            this.operation = operation;
+            this.result = result;
+            this.value = value;
+            this.operand = operand;
+        }
+
+        private String getMode() {
+            return switch (operation) {
+                case SHUFFLE, BROADCAST -> "idx";
+                case SHUFFLE_DOWN -> "down";
+                case SHUFFLE_UP -> "up";
+                case SHUFFLE_XOR -> "bfly";
+                default -> throw new IllegalArgumentException("Not a shuffle: " + operation);
+            };
+        }
+
+        @Override
+        public void emitCode(PTXCompilationResultBuilder crb, PTXAssembler asm) {
+            // shfl.sync.down.b32 %r2, %r1, %r3, 0x1F, 0xFFFFFFFF;
+            // The clamp of the up shuffles is the first lane, and the last lane otherwise
+            String clamp = operation == SubGroupNode.Operation.SHUFFLE_UP ? "0x0" : "0x1F";
+            asm.emitSymbol(TAB);
+            asm.emit("shfl.sync");
+            asm.emitSymbol(DOT);
+            asm.emit(getMode());
+            asm.emitSymbol(DOT);
+            asm.emit("b32");
+            asm.emitSymbol(TAB);
+            asm.emitValue(result);
+            asm.emitSymbol(COMMA + SPACE);
+            asm.emitValue(value);
+            asm.emitSymbol(COMMA + SPACE);
+            asm.emitValue(operand);
+            asm.emitSymbol(COMMA + SPACE);
+            asm.emit(clamp);
+            asm.emitSymbol(COMMA + SPACE);
+            asm.emit(FULL_MASK);
+            asm.delimiter();
+            asm.eol();
+        }
+    }
+
+    /**
+     * Orders the memory accesses of a thread to the global memory, as seen by the
+     * other threads of the device. Unlike {@code bar.sync}, the threads do not
+     * wait for each other.
+     */
+    @Opcode("MEMBAR")
+    public static class MemoryFenceStmt extends AbstractInstruction {
+
+        public static final LIRInstructionClass<MemoryFenceStmt> TYPE = LIRInstructionClass.create(MemoryFenceStmt.class);
+
+        public MemoryFenceStmt() {
+            super(TYPE);
+        }
+
+        @Override
+        public void emitCode(PTXCompilationResultBuilder crb, PTXAssembler asm) {
+            asm.emitSymbol(TAB);
+            asm.emit("membar.gl");
+            asm.delimiter();
+            asm.eol();
+        }
+    }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.ptx.graal.nodes;
+
+import org.graalvm.compiler.core.common.LIRKind;
+import org.graalvm.compiler.core.common.type.StampFactory;
+import org.graalvm.compiler.graph.NodeClass;
+import org.graalvm.compiler.lir.ConstantValue;
+import org.graalvm.compiler.lir.Variable;
+import org.graalvm.compiler.lir.gen.LIRGeneratorTool;
+import org.graalvm.compiler.nodeinfo.NodeInfo;
+import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.memory.address.AddressNode;
+
+import jdk.vm.ci.meta.JavaConstant;
+import jdk.vm.ci.meta.JavaKind;
+import jdk.vm.ci.meta.Value;
+import uk.ac.manchester.tornado.drivers.ptx.graal.lir.PTXKind;
+import uk.ac.manchester.tornado.drivers.ptx.graal.lir.PTXLIRStmt;
+import uk.ac.manchester.tornado.drivers.ptx.graal.lir.PTXUnary;
+import uk.ac.manchester.tornado.runtime.graal.nodes.AtomicArrayNode;
+
+@NodeInfo(nameTemplate = "PTXAtomic{p#operation/s}")
+public class PTXAtomicArrayNode extends AtomicArrayNode {
+
+    public static final NodeClass<PTXAtomicArrayNode> TYPE = NodeClass.create(PTXAtomicArrayNode.class);
+
+    public PTXAtomicArrayNode(Operation operation, JavaKind elementKind, AddressNode address, ValueNode expected, ValueNode value) {
+        super(TYPE, operation, elementKind, address, expected, value);
+    }
+
+    /**
+     * PTX has no {@code atom.sub}, so the value is negated and added.
+     */
+    private static Value negate(LIRGeneratorTool gen, Value value) {
+        if (value instanceof ConstantValue constant) {
+            JavaConstant javaConstant = constant.getJavaConstant();
+            JavaConstant negated = javaConstant.getJavaKind() == JavaKind.Long ? JavaConstant.forLong(-javaConstant.asLong()) : JavaConstant.forInt(-javaConstant.asInt());
+            return new ConstantValue(constant.getValueKind(), negated);
+        }
+        return gen.getArithmetic().emitNegate(value, false);
+    }
+
+    @Override
+    protected Value generate(LIRGeneratorTool gen, Value addressValue, Value expectedValue, Value newValue) {
+        Variable result = gen.newVariable(gen.getLIRKind(stamp));
+        PTXKind ptxKind = (PTXKind) gen.getLIRKind(StampFactory.forKind(elementKind)).getPlatformKind();
+
+        Operation ptxOperation = operation;
+        Value value = newValue;
+        if (operation == Operation.SUB) {
+            ptxOperation = Operation.ADD;
+            value = negate(gen, newValue);
+        }
+
+        Variable old = null;
+        Variable predicate = null;
+        if (operation == Operation.CAS) {
+            old = gen.newVariable(LIRKind.value(ptxKind));
+            predicate = gen.newVariable(LIRKind.value(PTXKind.PRED));
+        }
+        gen.append(new PTXLIRStmt.AtomicArrayStmt(ptxOperation, ptxKind, result, (PTXUnary.MemoryAccess) addressValue, expectedValue, value, old, predicate));
+        return result;
+    }
+}
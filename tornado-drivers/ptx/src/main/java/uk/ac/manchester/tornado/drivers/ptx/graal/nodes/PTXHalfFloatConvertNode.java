@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.ptx.graal.nodes;
+
+import org.graalvm.compiler.core.common.LIRKind;
+import org.graalvm.compiler.graph.NodeClass;
+import org.graalvm.compiler.lir.Variable;
+import org.graalvm.compiler.lir.gen.ArithmeticLIRGeneratorTool;
+import org.graalvm.compiler.nodeinfo.NodeInfo;
+import org.graalvm.compiler.nodes.ValueNode;
+
+import jdk.vm.ci.meta.Value;
+import uk.ac.manchester.tornado.drivers.ptx.graal.asm.PTXAssembler.PTXUnaryOp;
+import uk.ac.manchester.tornado.drivers.ptx.graal.lir.PTXArithmeticTool;
+import uk.ac.manchester.tornado.drivers.ptx.graal.lir.PTXKind;
+import uk.ac.manchester.tornado.runtime.graal.nodes.HalfFloatConvertNode;
+
+/**
+ * Conversion through an {@code .f16} register. The bits are moved between the
+ * 16-bit integer and the half registers with {@code mov.b16}, and the values
+ * are converted with {@code cvt}.
+ */
+@NodeInfo(nameTemplate = "PTXHalfFloat{p#operation/s}")
+public class PTXHalfFloatConvertNode extends HalfFloatConvertNode {
+
+    public static final NodeClass<PTXHalfFloatConvertNode> TYPE = NodeClass.create(PTXHalfFloatConvertNode.class);
+
+    public PTXHalfFloatConvertNode(Operation operation, ValueNode value) {
+        super(TYPE, operation, value);
+    }
+
+    @Override
+    protected Value generate(ArithmeticLIRGeneratorTool gen, Value input) {
+        PTXArithmeticTool tool = (PTXArithmeticTool) gen;
+        LIRKind halfKind = LIRKind.value(PTXKind.F16);
+        LIRKind shortKind = LIRKind.value(PTXKind.S16);
+        if (operation == Operation.TO_FLOAT) {
+            Variable bits = tool.emitUnaryAssign(PTXUnaryOp.CVT_FLOAT, shortKind, input);
+            Variable half = tool.emitUnaryAssign(PTXUnaryOp.MOV_BITS, halfKind, bits);
+            return tool.emitUnaryAssign(PTXUnaryOp.CVT_FLOAT, LIRKind.value(PTXKind.F32), half);
+        } else {
+            Variable half = tool.emitUnaryAssign(PTXUnaryOp.CVT_FLOAT_RNE, halfKind, input);
+            Variable bits = tool.emitUnaryAssign(PTXUnaryOp.MOV_BITS, shortKind, half);
+            return tool.emitUnaryAssign(PTXUnaryOp.CVT_FLOAT, tool.getGen().getLIRKind(stamp), bits);
+        }
+    }
+}
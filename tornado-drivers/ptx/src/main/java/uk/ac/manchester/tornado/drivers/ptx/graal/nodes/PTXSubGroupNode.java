@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.ptx.graal.nodes;
+
+import static uk.ac.manchester.tornado.api.exceptions.TornadoInternalError.shouldNotReachHere;
+
+import org.graalvm.compiler.graph.NodeClass;
+import org.graalvm.compiler.lir.Variable;
+import org.graalvm.compiler.lir.gen.LIRGeneratorTool;
+import org.graalvm.compiler.nodeinfo.NodeInfo;
+import org.graalvm.compiler.nodes.ValueNode;
+
+import jdk.vm.ci.meta.JavaKind;
+import jdk.vm.ci.meta.Value;
+import uk.ac.manchester.tornado.drivers.ptx.graal.PTXArchitecture;
+import uk.ac.manchester.tornado.drivers.ptx.graal.lir.PTXLIRStmt;
+import uk.ac.manchester.tornado.runtime.graal.nodes.SubGroupNode;
+
+/**
+ * Warp operations of PTX. Only the lane identifier and the shuffles are
+ * emitted by this node: the plugins build the other sub-group operations from
+ * them (see {@code PTXGraphBuilderPlugins}).
+ */
+@NodeInfo(nameTemplate = "PTXSubGroup{p#operation/s}")
+public class PTXSubGroupNode extends SubGroupNode {
+
+    public static final NodeClass<PTXSubGroupNode> TYPE = NodeClass.create(PTXSubGroupNode.class);
+
+    public PTXSubGroupNode(Operation operation, JavaKind kind, ValueNode value, ValueNode operand) {
+        super(TYPE, operation, kind, value, operand);
+    }
+
+    @Override
+    protected Value generate(LIRGeneratorTool gen, Value valueOperand, Value operandValue) {
+        Variable result = gen.newVariable(gen.getLIRKind(stamp));
+        switch (operation) {
+            case LOCAL_ID -> gen.append(new PTXLIRStmt.AssignStmt(result, PTXArchitecture.LaneID));
+            case SHUFFLE, SHUFFLE_DOWN, SHUFFLE_UP, SHUFFLE_XOR, BROADCAST -> gen.append(new PTXLIRStmt.ShuffleStmt(operation, result, valueOperand, operandValue));
+            default -> shouldNotReachHere("Sub-group operation not emitted by PTX: %s", operation);
+        }
+        return result;
+    }
+}
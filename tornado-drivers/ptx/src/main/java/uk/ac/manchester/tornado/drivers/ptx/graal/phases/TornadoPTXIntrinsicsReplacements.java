@@ -34,8 +34,10 @@ import org.graalvm.compiler.nodes.GraphState;
 import org.graalvm.compiler.nodes.InvokeNode;
 import org.graalvm.compiler.nodes.StructuredGraph;
 import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.memory.address.AddressNode;
 import org.graalvm.compiler.nodes.util.GraphUtil;
 import org.graalvm.compiler.phases.BasePhase;
+import org.graalvm.compiler.replacements.DefaultJavaLoweringProvider;
 
 import jdk.vm.ci.meta.JavaKind;
 import jdk.vm.ci.meta.MetaAccessProvider;
@@ -50,7 +52,12 @@ import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.GroupIdNode;
 import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.LocalArrayNode;
 import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.LocalGroupSizeNode;
 import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.LocalThreadIDFixedNode;
+import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.PTXAtomicArrayNode;
 import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.PTXBarrierNode;
+import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.PTXMemFenceNode;
+import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.PTXSubGroupNode;
+import uk.ac.manchester.tornado.runtime.graal.nodes.AtomicArrayNode;
+import uk.ac.manchester.tornado.runtime.graal.nodes.SubGroupNode;
 import uk.ac.manchester.tornado.runtime.graal.phases.TornadoHighTierContext;
 
 public class TornadoPTXIntrinsicsReplacements extends BasePhase<TornadoHighTierContext> {
@@ -94,6 +101,22 @@ public class TornadoPTXIntrinsicsReplacements extends BasePhase<TornadoHighTierC
                     graph.replaceFixed(invoke, barrier);
                     break;
                 }
+                case "Direct#PTXIntrinsics.globalMemFence": {
+                    PTXMemFenceNode fence = graph.add(new PTXMemFenceNode());
+                    graph.replaceFixed(invoke, fence);
+                    break;
+                }
+                case "Direct#PTXIntrinsics.shfl_xor": {
+                    NodeInputList<ValueNode> arguments = invoke.callTarget().arguments();
+                    ValueNode value = arguments.get(0);
+                    PTXSubGroupNode shuffle = graph.add(new PTXSubGroupNode(SubGroupNode.Operation.SHUFFLE_XOR, value.getStackKind(), value, arguments.get(1)));
+                    graph.replaceFixed(invoke, shuffle);
+                    break;
+                }
+                case "Direct#PTXIntrinsics.atomic_inc": {
+                    replaceAtomicIncrement(graph, invoke, context);
+                    break;
+                }
                 case "Direct#PTXIntrinsics.get_local_id": {
                     ConstantNode dimension = getConstantNodeFromArguments(invoke, 0);
                     LocalThreadIDFixedNode localIDNode = graph.addOrUnique(new LocalThreadIDFixedNode(dimension));
@@ -131,6 +154,18 @@ public class TornadoPTXIntrinsicsReplacements extends BasePhase<TornadoHighTierC
         }
     }
 
+    /**
+     * The counter is addressed as the array elements written by the snippets, and
+     * it is incremented as a 32-bit integer whatever the kind of the elements.
+     */
+    private void replaceAtomicIncrement(StructuredGraph graph, InvokeNode invoke, TornadoHighTierContext context) {
+        NodeInputList<ValueNode> arguments = invoke.callTarget().arguments();
+        JavaKind elementKind = invoke.callTarget().targetMethod().getSignature().getParameterType(0, null).getComponentType().getJavaKind();
+        AddressNode address = ((DefaultJavaLoweringProvider) context.getLowerer()).createArrayAddress(graph, arguments.get(0), elementKind, arguments.get(1));
+        PTXAtomicArrayNode atomicNode = graph.add(new PTXAtomicArrayNode(AtomicArrayNode.Operation.ADD, JavaKind.Int, address, null, ConstantNode.forInt(1, graph)));
+        graph.replaceFixed(invoke, atomicNode);
+    }
+
     private void lowerLocalInvokeNodeNewArray(StructuredGraph graph, int length, JavaKind elementKind, InvokeNode newArray) {
         LocalArrayNode localArrayNode;
         ConstantNode newLengthNode = ConstantNode.forInt(length, graph);
@@ -41,6 +41,7 @@ import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.PTXFPBinaryIntrinsicNode
 import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.PTXIntBinaryIntrinsicNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.StoreAtomicIndexedNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.TornadoReduceAddNode;
+import uk.ac.manchester.tornado.runtime.graal.nodes.TornadoReduceBitwiseNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.TornadoReduceMulNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.WriteAtomicNode;
 
@@ -55,6 +56,12 @@ public class PTXGPUReduceSnippets implements Snippets {
      */
     private static int LOCAL_WORK_GROUP_SIZE = 223;
 
+    /**
+     * Number of threads of a warp. The intra-warp stage of the reductions uses
+     * shuffles instead of shared memory.
+     */
+    private static final int WARP_SIZE = 32;
+
     @Snippet
     public static void partialReduceIntAdd(int[] inputArray, int[] outputArray, int gidx) {
         int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
@@ -63,9 +70,16 @@ public class PTXGPUReduceSnippets implements Snippets {
         int localGroupSize = PTXIntrinsics.get_local_size(0);
         int groupID = PTXIntrinsics.get_group_id(0);
 
-        localArray[localIdx] = inputArray[gidx];
+        int subGroupSize = localGroupSize < WARP_SIZE ? 1 : WARP_SIZE;
+        int partial = inputArray[gidx];
+        for (int mask = subGroupSize / 2; mask > 0; mask /= 2) {
+            partial += PTXIntrinsics.shfl_xor(partial, mask);
+        }
+        if ((localIdx & (subGroupSize - 1)) == 0) {
+            localArray[localIdx / subGroupSize] = partial;
+        }
 
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             PTXIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] += localArray[localIdx + stride];
@@ -75,6 +89,14 @@ public class PTXGPUReduceSnippets implements Snippets {
         PTXIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result += outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -87,9 +109,16 @@ public class PTXGPUReduceSnippets implements Snippets {
         int localGroupSize = PTXIntrinsics.get_local_size(0);
         int groupID = PTXIntrinsics.get_group_id(0);
 
-        localArray[localIdx] = value;
+        int subGroupSize = localGroupSize < WARP_SIZE ? 1 : WARP_SIZE;
+        int partial = value;
+        for (int mask = subGroupSize / 2; mask > 0; mask /= 2) {
+            partial += PTXIntrinsics.shfl_xor(partial, mask);
+        }
+        if ((localIdx & (subGroupSize - 1)) == 0) {
+            localArray[localIdx / subGroupSize] = partial;
+        }
 
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             PTXIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] += localArray[localIdx + stride];
@@ -98,6 +127,14 @@ public class PTXGPUReduceSnippets implements Snippets {
         PTXIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result += outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -121,6 +158,14 @@ public class PTXGPUReduceSnippets implements Snippets {
         PTXIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result += outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -145,6 +190,14 @@ public class PTXGPUReduceSnippets implements Snippets {
         PTXIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = inputArray[myID];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result += outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -156,9 +209,16 @@ public class PTXGPUReduceSnippets implements Snippets {
         int localGroupSize = PTXIntrinsics.get_local_size(0);
         int groupID = PTXIntrinsics.get_group_id(0);
 
-        localArray[localIdx] = inputArray[gidx];
+        int subGroupSize = localGroupSize < WARP_SIZE ? 1 : WARP_SIZE;
+        float partial = inputArray[gidx];
+        for (int mask = subGroupSize / 2; mask > 0; mask /= 2) {
+            partial += PTXIntrinsics.shfl_xor(partial, mask);
+        }
+        if ((localIdx & (subGroupSize - 1)) == 0) {
+            localArray[localIdx / subGroupSize] = partial;
+        }
 
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             PTXIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] += localArray[localIdx + stride];
@@ -168,6 +228,14 @@ public class PTXGPUReduceSnippets implements Snippets {
         PTXIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                float result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result += outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -181,8 +249,16 @@ public class PTXGPUReduceSnippets implements Snippets {
         int groupID = PTXIntrinsics.get_group_id(0);
 
         int myID = localIdx + (localGroupSize * groupID);
-        localArray[localIdx] = value;
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        int subGroupSize = localGroupSize < WARP_SIZE ? 1 : WARP_SIZE;
+        float partial = value;
+        for (int mask = subGroupSize / 2; mask > 0; mask /= 2) {
+            partial += PTXIntrinsics.shfl_xor(partial, mask);
+        }
+        if ((localIdx & (subGroupSize - 1)) == 0) {
+            localArray[localIdx / subGroupSize] = partial;
+        }
+
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             PTXIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] += localArray[localIdx + stride];
@@ -192,6 +268,14 @@ public class PTXGPUReduceSnippets implements Snippets {
         PTXIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                float result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result += outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -216,6 +300,14 @@ public class PTXGPUReduceSnippets implements Snippets {
         PTXIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                double result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result += outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -239,6 +331,14 @@ public class PTXGPUReduceSnippets implements Snippets {
         PTXIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                double result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result += outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -263,6 +363,14 @@ public class PTXGPUReduceSnippets implements Snippets {
         PTXIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result *= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -286,6 +394,14 @@ public class PTXGPUReduceSnippets implements Snippets {
         PTXIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result *= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -310,6 +426,14 @@ public class PTXGPUReduceSnippets implements Snippets {
         PTXIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result *= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -333,6 +457,14 @@ public class PTXGPUReduceSnippets implements Snippets {
         PTXIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = inputArray[myID];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result *= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -357,6 +489,14 @@ public class PTXGPUReduceSnippets implements Snippets {
         PTXIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                float result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result *= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -381,6 +521,14 @@ public class PTXGPUReduceSnippets implements Snippets {
         PTXIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                float result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result *= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -405,6 +553,14 @@ public class PTXGPUReduceSnippets implements Snippets {
         PTXIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                double result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result *= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -428,6 +584,14 @@ public class PTXGPUReduceSnippets implements Snippets {
         PTXIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                double result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result *= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -439,8 +603,16 @@ public class PTXGPUReduceSnippets implements Snippets {
 
         int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
 
-        localArray[localIdx] = inputArray[gidx];
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        int subGroupSize = localGroupSize < WARP_SIZE ? 1 : WARP_SIZE;
+        int partial = inputArray[gidx];
+        for (int mask = subGroupSize / 2; mask > 0; mask /= 2) {
+            partial = TornadoMath.max(partial, PTXIntrinsics.shfl_xor(partial, mask));
+        }
+        if ((localIdx & (subGroupSize - 1)) == 0) {
+            localArray[localIdx / subGroupSize] = partial;
+        }
+
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             PTXIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] = TornadoMath.max(localArray[localIdx], localArray[localIdx + stride]);
@@ -450,6 +622,14 @@ public class PTXGPUReduceSnippets implements Snippets {
         PTXIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.max(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -461,8 +641,16 @@ public class PTXGPUReduceSnippets implements Snippets {
 
         int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
 
-        localArray[localIdx] = extra;
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        int subGroupSize = localGroupSize < WARP_SIZE ? 1 : WARP_SIZE;
+        int partial = extra;
+        for (int mask = subGroupSize / 2; mask > 0; mask /= 2) {
+            partial = TornadoMath.max(partial, PTXIntrinsics.shfl_xor(partial, mask));
+        }
+        if ((localIdx & (subGroupSize - 1)) == 0) {
+            localArray[localIdx / subGroupSize] = partial;
+        }
+
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             PTXIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] = TornadoMath.max(localArray[localIdx], localArray[localIdx + stride]);
@@ -472,6 +660,14 @@ public class PTXGPUReduceSnippets implements Snippets {
         PTXIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.max(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -496,6 +692,14 @@ public class PTXGPUReduceSnippets implements Snippets {
         PTXIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.max(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -520,6 +724,14 @@ public class PTXGPUReduceSnippets implements Snippets {
         PTXIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.max(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -532,8 +744,16 @@ public class PTXGPUReduceSnippets implements Snippets {
 
         float[] localArray = (float[]) NewArrayNode.newUninitializedArray(float.class, LOCAL_WORK_GROUP_SIZE);
 
-        localArray[localIdx] = inputArray[gidx];
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        int subGroupSize = localGroupSize < WARP_SIZE ? 1 : WARP_SIZE;
+        float partial = inputArray[gidx];
+        for (int mask = subGroupSize / 2; mask > 0; mask /= 2) {
+            partial = TornadoMath.max(partial, PTXIntrinsics.shfl_xor(partial, mask));
+        }
+        if ((localIdx & (subGroupSize - 1)) == 0) {
+            localArray[localIdx / subGroupSize] = partial;
+        }
+
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             PTXIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] = TornadoMath.max(localArray[localIdx], localArray[localIdx + stride]);
@@ -543,6 +763,14 @@ public class PTXGPUReduceSnippets implements Snippets {
         PTXIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                float result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.max(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -555,8 +783,16 @@ public class PTXGPUReduceSnippets implements Snippets {
 
         float[] localArray = (float[]) NewArrayNode.newUninitializedArray(float.class, LOCAL_WORK_GROUP_SIZE);
 
-        localArray[localIdx] = extra;
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        int subGroupSize = localGroupSize < WARP_SIZE ? 1 : WARP_SIZE;
+        float partial = extra;
+        for (int mask = subGroupSize / 2; mask > 0; mask /= 2) {
+            partial = TornadoMath.max(partial, PTXIntrinsics.shfl_xor(partial, mask));
+        }
+        if ((localIdx & (subGroupSize - 1)) == 0) {
+            localArray[localIdx / subGroupSize] = partial;
+        }
+
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             PTXIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] = TornadoMath.max(localArray[localIdx], localArray[localIdx + stride]);
@@ -566,6 +802,14 @@ public class PTXGPUReduceSnippets implements Snippets {
         PTXIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                float result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.max(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -588,6 +832,14 @@ public class PTXGPUReduceSnippets implements Snippets {
         PTXIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                double result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.max(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -610,6 +862,14 @@ public class PTXGPUReduceSnippets implements Snippets {
         PTXIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                double result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.max(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -622,8 +882,16 @@ public class PTXGPUReduceSnippets implements Snippets {
 
         int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
 
-        localArray[localIdx] = inputArray[gidx];
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        int subGroupSize = localGroupSize < WARP_SIZE ? 1 : WARP_SIZE;
+        int partial = inputArray[gidx];
+        for (int mask = subGroupSize / 2; mask > 0; mask /= 2) {
+            partial = TornadoMath.min(partial, PTXIntrinsics.shfl_xor(partial, mask));
+        }
+        if ((localIdx & (subGroupSize - 1)) == 0) {
+            localArray[localIdx / subGroupSize] = partial;
+        }
+
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             PTXIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] = TornadoMath.min(localArray[localIdx], localArray[localIdx + stride]);
@@ -633,6 +901,14 @@ public class PTXGPUReduceSnippets implements Snippets {
         PTXIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.min(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -645,8 +921,16 @@ public class PTXGPUReduceSnippets implements Snippets {
 
         int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
 
-        localArray[localIdx] = extra;
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        int subGroupSize = localGroupSize < WARP_SIZE ? 1 : WARP_SIZE;
+        int partial = extra;
+        for (int mask = subGroupSize / 2; mask > 0; mask /= 2) {
+            partial = TornadoMath.min(partial, PTXIntrinsics.shfl_xor(partial, mask));
+        }
+        if ((localIdx & (subGroupSize - 1)) == 0) {
+            localArray[localIdx / subGroupSize] = partial;
+        }
+
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             PTXIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] = TornadoMath.min(localArray[localIdx], localArray[localIdx + stride]);
@@ -656,6 +940,14 @@ public class PTXGPUReduceSnippets implements Snippets {
         PTXIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.min(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -680,6 +972,14 @@ public class PTXGPUReduceSnippets implements Snippets {
         PTXIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.min(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -704,6 +1004,14 @@ public class PTXGPUReduceSnippets implements Snippets {
         PTXIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.min(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -716,8 +1024,16 @@ public class PTXGPUReduceSnippets implements Snippets {
 
         float[] localArray = (float[]) NewArrayNode.newUninitializedArray(float.class, LOCAL_WORK_GROUP_SIZE);
 
-        localArray[localIdx] = inputArray[gidx];
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        int subGroupSize = localGroupSize < WARP_SIZE ? 1 : WARP_SIZE;
+        float partial = inputArray[gidx];
+        for (int mask = subGroupSize / 2; mask > 0; mask /= 2) {
+            partial = TornadoMath.min(partial, PTXIntrinsics.shfl_xor(partial, mask));
+        }
+        if ((localIdx & (subGroupSize - 1)) == 0) {
+            localArray[localIdx / subGroupSize] = partial;
+        }
+
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             PTXIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] = TornadoMath.min(localArray[localIdx], localArray[localIdx + stride]);
@@ -727,6 +1043,14 @@ public class PTXGPUReduceSnippets implements Snippets {
         PTXIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                float result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.min(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -739,8 +1063,16 @@ public class PTXGPUReduceSnippets implements Snippets {
 
         float[] localArray = (float[]) NewArrayNode.newUninitializedArray(float.class, LOCAL_WORK_GROUP_SIZE);
 
-        localArray[localIdx] = extra;
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        int subGroupSize = localGroupSize < WARP_SIZE ? 1 : WARP_SIZE;
+        float partial = extra;
+        for (int mask = subGroupSize / 2; mask > 0; mask /= 2) {
+            partial = TornadoMath.min(partial, PTXIntrinsics.shfl_xor(partial, mask));
+        }
+        if ((localIdx & (subGroupSize - 1)) == 0) {
+            localArray[localIdx / subGroupSize] = partial;
+        }
+
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             PTXIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] = TornadoMath.min(localArray[localIdx], localArray[localIdx + stride]);
@@ -750,6 +1082,14 @@ public class PTXGPUReduceSnippets implements Snippets {
         PTXIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                float result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.min(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -772,6 +1112,14 @@ public class PTXGPUReduceSnippets implements Snippets {
         PTXIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                double result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.min(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -794,9 +1142,445 @@ public class PTXGPUReduceSnippets implements Snippets {
         PTXIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                double result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.min(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
+    @Snippet
+    public static void partialReduceIntAnd(int[] inputArray, int[] outputArray, int gidx) {
+
+        int localIdx = PTXIntrinsics.get_local_id(0);
+        int localGroupSize = PTXIntrinsics.get_local_size(0);
+        int groupID = PTXIntrinsics.get_group_id(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            PTXIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] &= localArray[localIdx + stride];
+            }
+        }
+
+        PTXIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result &= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntOr(int[] inputArray, int[] outputArray, int gidx) {
+
+        int localIdx = PTXIntrinsics.get_local_id(0);
+        int localGroupSize = PTXIntrinsics.get_local_size(0);
+        int groupID = PTXIntrinsics.get_group_id(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            PTXIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] |= localArray[localIdx + stride];
+            }
+        }
+
+        PTXIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result |= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntXor(int[] inputArray, int[] outputArray, int gidx) {
+
+        int localIdx = PTXIntrinsics.get_local_id(0);
+        int localGroupSize = PTXIntrinsics.get_local_size(0);
+        int groupID = PTXIntrinsics.get_group_id(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            PTXIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] ^= localArray[localIdx + stride];
+            }
+        }
+
+        PTXIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result ^= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntAndCarrierValue(int[] inputArray, int[] outputArray, int gidx, int value) {
+
+        int localIdx = PTXIntrinsics.get_local_id(0);
+        int localGroupSize = PTXIntrinsics.get_local_size(0);
+        int groupID = PTXIntrinsics.get_group_id(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = value;
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            PTXIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] &= localArray[localIdx + stride];
+            }
+        }
+
+        PTXIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result &= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntOrCarrierValue(int[] inputArray, int[] outputArray, int gidx, int value) {
+
+        int localIdx = PTXIntrinsics.get_local_id(0);
+        int localGroupSize = PTXIntrinsics.get_local_size(0);
+        int groupID = PTXIntrinsics.get_group_id(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = value;
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            PTXIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] |= localArray[localIdx + stride];
+            }
+        }
+
+        PTXIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result |= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntXorCarrierValue(int[] inputArray, int[] outputArray, int gidx, int value) {
+
+        int localIdx = PTXIntrinsics.get_local_id(0);
+        int localGroupSize = PTXIntrinsics.get_local_size(0);
+        int groupID = PTXIntrinsics.get_group_id(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = value;
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            PTXIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] ^= localArray[localIdx + stride];
+            }
+        }
+
+        PTXIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result ^= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongAnd(long[] inputArray, long[] outputArray, int gidx) {
+
+        int localIdx = PTXIntrinsics.get_local_id(0);
+        int localGroupSize = PTXIntrinsics.get_local_size(0);
+        int groupID = PTXIntrinsics.get_group_id(0);
+
+        long[] localArray = (long[]) NewArrayNode.newUninitializedArray(long.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            PTXIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] &= localArray[localIdx + stride];
+            }
+        }
+
+        PTXIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result &= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongOr(long[] inputArray, long[] outputArray, int gidx) {
+
+        int localIdx = PTXIntrinsics.get_local_id(0);
+        int localGroupSize = PTXIntrinsics.get_local_size(0);
+        int groupID = PTXIntrinsics.get_group_id(0);
+
+        long[] localArray = (long[]) NewArrayNode.newUninitializedArray(long.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            PTXIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] |= localArray[localIdx + stride];
+            }
+        }
+
+        PTXIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result |= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongXor(long[] inputArray, long[] outputArray, int gidx) {
+
+        int localIdx = PTXIntrinsics.get_local_id(0);
+        int localGroupSize = PTXIntrinsics.get_local_size(0);
+        int groupID = PTXIntrinsics.get_group_id(0);
+
+        long[] localArray = (long[]) NewArrayNode.newUninitializedArray(long.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            PTXIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] ^= localArray[localIdx + stride];
+            }
+        }
+
+        PTXIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result ^= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongAndCarrierValue(long[] inputArray, long[] outputArray, int gidx, long value) {
+
+        int localIdx = PTXIntrinsics.get_local_id(0);
+        int localGroupSize = PTXIntrinsics.get_local_size(0);
+        int groupID = PTXIntrinsics.get_group_id(0);
+
+        int myID = localIdx + (localGroupSize * groupID);
+
+        inputArray[myID] = value;
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            PTXIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                inputArray[myID] &= inputArray[myID + stride];
+            }
+        }
+
+        PTXIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = inputArray[myID];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result &= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongOrCarrierValue(long[] inputArray, long[] outputArray, int gidx, long value) {
+
+        int localIdx = PTXIntrinsics.get_local_id(0);
+        int localGroupSize = PTXIntrinsics.get_local_size(0);
+        int groupID = PTXIntrinsics.get_group_id(0);
+
+        int myID = localIdx + (localGroupSize * groupID);
+
+        inputArray[myID] = value;
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            PTXIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                inputArray[myID] |= inputArray[myID + stride];
+            }
+        }
+
+        PTXIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = inputArray[myID];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result |= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongXorCarrierValue(long[] inputArray, long[] outputArray, int gidx, long value) {
+
+        int localIdx = PTXIntrinsics.get_local_id(0);
+        int localGroupSize = PTXIntrinsics.get_local_size(0);
+        int groupID = PTXIntrinsics.get_group_id(0);
+
+        int myID = localIdx + (localGroupSize * groupID);
+
+        inputArray[myID] = value;
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            PTXIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                inputArray[myID] ^= inputArray[myID + stride];
+            }
+        }
+
+        PTXIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = inputArray[myID];
+            int numGroups = PTXIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result ^= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    /**
+     * Counts the work-groups that stored their partial result in the element after
+     * the partial results. The counter is zero when the kernel starts.
+     *
+     * <p>
+     * The fence before the increment publishes the partial result of the
+     * work-group. The fence after the increment of the last work-group keeps its
+     * loads of the partial results from returning stale values from a
+     * non-coherent cache.
+     * </p>
+     *
+     * @return true for the last work-group, which folds the partial results of all
+     *     the work-groups into the first element of the output array.
+     */
+    private static boolean isLastGroup(int[] outputArray, int numGroups) {
+        PTXIntrinsics.globalMemFence();
+        if (PTXIntrinsics.atomic_inc(outputArray, numGroups + 1) == numGroups - 1) {
+            PTXIntrinsics.globalMemFence();
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isLastGroup(long[] outputArray, int numGroups) {
+        PTXIntrinsics.globalMemFence();
+        if (PTXIntrinsics.atomic_inc(outputArray, numGroups + 1) == numGroups - 1) {
+            PTXIntrinsics.globalMemFence();
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isLastGroup(float[] outputArray, int numGroups) {
+        PTXIntrinsics.globalMemFence();
+        if (PTXIntrinsics.atomic_inc(outputArray, numGroups + 1) == numGroups - 1) {
+            PTXIntrinsics.globalMemFence();
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isLastGroup(double[] outputArray, int numGroups) {
+        PTXIntrinsics.globalMemFence();
+        if (PTXIntrinsics.atomic_inc(outputArray, numGroups + 1) == numGroups - 1) {
+            PTXIntrinsics.globalMemFence();
+            return true;
+        }
+        return false;
+    }
+
     protected static class Tuple2<T0, T1> {
         T0 t0;
         T1 t1;
@@ -857,6 +1641,20 @@ public class PTXGPUReduceSnippets implements Snippets {
         private final Tuple2<Class<? extends PTXGPUReduceSnippets>, String> partialReduceMinDoubleSnippet = new Tuple2<>(PTXGPUReduceSnippets.class, "partialReduceDoubleMin");
         private final Tuple2<Class<? extends PTXGPUReduceSnippets>, String> partialReduceMinDoubleSnippetCarrierValue = new Tuple2<>(PTXGPUReduceSnippets.class, "partialReduceDoubleMinCarrierValue");
 
+        // Bitwise
+        private final Tuple2<Class<? extends PTXGPUReduceSnippets>, String> partialReduceIntAndSnippet = new Tuple2<>(PTXGPUReduceSnippets.class, "partialReduceIntAnd");
+        private final Tuple2<Class<? extends PTXGPUReduceSnippets>, String> partialReduceIntAndSnippetCarrierValue = new Tuple2<>(PTXGPUReduceSnippets.class, "partialReduceIntAndCarrierValue");
+        private final Tuple2<Class<? extends PTXGPUReduceSnippets>, String> partialReduceIntOrSnippet = new Tuple2<>(PTXGPUReduceSnippets.class, "partialReduceIntOr");
+        private final Tuple2<Class<? extends PTXGPUReduceSnippets>, String> partialReduceIntOrSnippetCarrierValue = new Tuple2<>(PTXGPUReduceSnippets.class, "partialReduceIntOrCarrierValue");
+        private final Tuple2<Class<? extends PTXGPUReduceSnippets>, String> partialReduceIntXorSnippet = new Tuple2<>(PTXGPUReduceSnippets.class, "partialReduceIntXor");
+        private final Tuple2<Class<? extends PTXGPUReduceSnippets>, String> partialReduceIntXorSnippetCarrierValue = new Tuple2<>(PTXGPUReduceSnippets.class, "partialReduceIntXorCarrierValue");
+        private final Tuple2<Class<? extends PTXGPUReduceSnippets>, String> partialReduceLongAndSnippet = new Tuple2<>(PTXGPUReduceSnippets.class, "partialReduceLongAnd");
+        private final Tuple2<Class<? extends PTXGPUReduceSnippets>, String> partialReduceLongAndSnippetCarrierValue = new Tuple2<>(PTXGPUReduceSnippets.class, "partialReduceLongAndCarrierValue");
+        private final Tuple2<Class<? extends PTXGPUReduceSnippets>, String> partialReduceLongOrSnippet = new Tuple2<>(PTXGPUReduceSnippets.class, "partialReduceLongOr");
+        private final Tuple2<Class<? extends PTXGPUReduceSnippets>, String> partialReduceLongOrSnippetCarrierValue = new Tuple2<>(PTXGPUReduceSnippets.class, "partialReduceLongOrCarrierValue");
+        private final Tuple2<Class<? extends PTXGPUReduceSnippets>, String> partialReduceLongXorSnippet = new Tuple2<>(PTXGPUReduceSnippets.class, "partialReduceLongXor");
+        private final Tuple2<Class<? extends PTXGPUReduceSnippets>, String> partialReduceLongXorSnippetCarrierValue = new Tuple2<>(PTXGPUReduceSnippets.class, "partialReduceLongXorCarrierValue");
+
         Providers providers;
 
         public Templates(OptionValues options, Providers providers) {
@@ -892,6 +1690,22 @@ public class PTXGPUReduceSnippets implements Snippets {
             }
         }
 
+        private SnippetInfo getBitwiseSnippetInteger(TornadoReduceBitwiseNode value, ValueNode extra) {
+            return switch (value.getOperation()) {
+                case AND -> (extra == null) ? snippet(partialReduceIntAndSnippet) : snippet(partialReduceIntAndSnippetCarrierValue);
+                case OR -> (extra == null) ? snippet(partialReduceIntOrSnippet) : snippet(partialReduceIntOrSnippetCarrierValue);
+                case XOR -> (extra == null) ? snippet(partialReduceIntXorSnippet) : snippet(partialReduceIntXorSnippetCarrierValue);
+            };
+        }
+
+        private SnippetInfo getBitwiseSnippetLong(TornadoReduceBitwiseNode value, ValueNode extra) {
+            return switch (value.getOperation()) {
+                case AND -> (extra == null) ? snippet(partialReduceLongAndSnippet) : snippet(partialReduceLongAndSnippetCarrierValue);
+                case OR -> (extra == null) ? snippet(partialReduceLongOrSnippet) : snippet(partialReduceLongOrSnippetCarrierValue);
+                case XOR -> (extra == null) ? snippet(partialReduceLongXorSnippet) : snippet(partialReduceLongXorSnippetCarrierValue);
+            };
+        }
+
         @Override
         public SnippetInfo inferIntSnippet(ValueNode value, ValueNode extra) {
             SnippetInfo snippet;
@@ -903,6 +1717,8 @@ public class PTXGPUReduceSnippets implements Snippets {
             } else if (value instanceof PTXIntBinaryIntrinsicNode) {
                 PTXIntBinaryIntrinsicNode op = (PTXIntBinaryIntrinsicNode) value;
                 snippet = getSnippetFromOCLBinaryNodeInteger(op, extra);
+            } else if (value instanceof TornadoReduceBitwiseNode bitwise) {
+                snippet = getBitwiseSnippetInteger(bitwise, extra);
             } else {
                 throw new RuntimeException("Reduce Operation no supported yet: snippet not installed");
             }
@@ -919,6 +1735,8 @@ public class PTXGPUReduceSnippets implements Snippets {
             } else if (value instanceof PTXIntBinaryIntrinsicNode) {
                 PTXIntBinaryIntrinsicNode op = (PTXIntBinaryIntrinsicNode) value;
                 snippet = getSnippetFromOCLBinaryNodeLong(op, extra);
+            } else if (value instanceof TornadoReduceBitwiseNode bitwise) {
+                snippet = getBitwiseSnippetLong(bitwise, extra);
             } else {
                 throw new RuntimeException("Reduce Operation no supported yet: snippet not installed");
             }
@@ -130,6 +130,7 @@ import uk.ac.manchester.tornado.drivers.spirv.graal.compiler.SPIRVNodeLIRBuilder
 import uk.ac.manchester.tornado.drivers.spirv.graal.compiler.SPIRVNodeMatchRules;
 import uk.ac.manchester.tornado.drivers.spirv.graal.compiler.SPIRVReferenceMapBuilder;
 import uk.ac.manchester.tornado.drivers.spirv.graal.lir.SPIRVKind;
+import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.SPIRVSubGroupNode;
 import uk.ac.manchester.tornado.drivers.spirv.mm.SPIRVKernelArgs;
 import uk.ac.manchester.tornado.runtime.common.Tornado;
 import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
@@ -505,6 +506,16 @@ public class SPIRVBackend extends TornadoBackend<SPIRVProviders> implements Fram
             SPIRVSymbolTable.put(SPIRVThreadBuiltIn.WORKGROUP_SIZE.name, id);
             asm.builtinTable.put(SPIRVThreadBuiltIn.WORKGROUP_SIZE, id);
         }
+
+        // Sub-group built-ins
+        for (SPIRVSubGroupNode subGroupNode : cfg.graph.getNodes().filter(SPIRVSubGroupNode.class)) {
+            SPIRVThreadBuiltIn builtIn = SPIRVThreadBuiltIn.fromSubGroupOperation(subGroupNode.getOperation());
+            if (builtIn != null && !asm.builtinTable.containsKey(builtIn)) {
+                SPIRVId id = asm.emitDecorateOpenCLBuiltin(module, builtIn);
+                SPIRVSymbolTable.put(builtIn.name, id);
+                asm.builtinTable.put(builtIn, id);
+            }
+        }
     }
 
     private void emitPrologueForMainKernel(SPIRVCompilationResultBuilder crb, SPIRVAssembler asm, ResolvedJavaMethod method, LIR lir, SPIRVId methodId, IDTable idTable) {
@@ -758,7 +769,11 @@ public class SPIRVBackend extends TornadoBackend<SPIRVProviders> implements Fram
     public void emitBuiltinVariables(SPIRVAssembler asm) {
         SPIRVId ptrV3ulong = asm.primitives.getPtrOpTypePointerWithStorage(SPIRVKind.OP_TYPE_VECTOR3_INT_64, SPIRVStorageClass.Input());
         for (Map.Entry<SPIRVThreadBuiltIn, SPIRVId> entry : asm.getBuiltinTableEntrySet()) {
-            asm.module.add(new SPIRVOpVariable(ptrV3ulong, entry.getValue(), SPIRVStorageClass.Input(), new SPIRVOptionalOperand<>()));
+            SPIRVId type = ptrV3ulong;
+            if (entry.getKey().isScalar()) {
+                type = asm.primitives.getPtrOpTypePointerWithStorage(SPIRVKind.OP_TYPE_INT_32, SPIRVStorageClass.Input());
+            }
+            asm.module.add(new SPIRVOpVariable(type, entry.getValue(), SPIRVStorageClass.Input(), new SPIRVOptionalOperand<>()));
         }
     }
 
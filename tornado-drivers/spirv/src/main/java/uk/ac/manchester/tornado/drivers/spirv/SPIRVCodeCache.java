@@ -46,6 +46,13 @@ public abstract class SPIRVCodeCache {
         return cache.containsKey(name);
     }
 
+    /**
+     * Returns the number of kernels installed in the cache.
+     */
+    public int getNumKernels() {
+        return cache.size();
+    }
+
     public void reset() {
         for (SPIRVInstalledCode code : cache.values()) {
             code.invalidate();
@@ -29,8 +29,10 @@ import java.util.LinkedList;
 import uk.ac.manchester.tornado.api.TornadoDeviceContext;
 import uk.ac.manchester.tornado.api.common.Event;
 import uk.ac.manchester.tornado.api.common.SchedulableTask;
+import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
 import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
 import uk.ac.manchester.tornado.api.runtime.TornadoRuntime;
+import uk.ac.manchester.tornado.drivers.common.DeviceMetrics;
 import uk.ac.manchester.tornado.drivers.common.EventDescriptor;
 import uk.ac.manchester.tornado.drivers.common.TornadoBufferProvider;
 import uk.ac.manchester.tornado.drivers.spirv.graal.SPIRVInstalledCode;
@@ -84,6 +86,7 @@ public abstract class SPIRVDeviceContext implements TornadoDeviceContext {
         this.wasReset = false;
         this.spirvEventPool = new SPIRVEventPool(Tornado.EVENT_WINDOW);
         this.bufferProvider = new SPIRVBufferProvider(this);
+        DeviceMetrics.register(TornadoVMBackendType.SPIRV, this, bufferProvider, codeCache::getNumKernels, spirvEventPool::getNumEvents, spirvEventPool::getNumRetainedEvents, spirvEventPool.getPoolSize());
     }
 
     public SPIRVContext getSpirvContext() {
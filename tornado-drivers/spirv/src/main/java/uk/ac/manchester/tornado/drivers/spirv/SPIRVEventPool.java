@@ -91,4 +91,19 @@ public class SPIRVEventPool {
     public EventDescriptor getDescriptor(int eventId) {
         return descriptors[eventId];
     }
+
+    /**
+     * Returns the number of slots of the pool that hold an event.
+     */
+    int getNumEvents() {
+        return events.size();
+    }
+
+    int getNumRetainedEvents() {
+        return retain.cardinality();
+    }
+
+    int getPoolSize() {
+        return poolSize;
+    }
 }
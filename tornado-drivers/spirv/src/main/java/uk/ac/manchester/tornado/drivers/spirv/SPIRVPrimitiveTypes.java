@@ -29,6 +29,7 @@ import java.util.Map;
 import java.util.Set;
 
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpCapability;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpExtension;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpTypeBool;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpTypeFloat;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpTypeInt;
@@ -39,6 +40,7 @@ import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpUndef;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.operands.SPIRVCapability;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.operands.SPIRVId;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.operands.SPIRVLiteralInteger;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.operands.SPIRVLiteralString;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.operands.SPIRVStorageClass;
 import uk.ac.manchester.tornado.drivers.spirv.graal.lir.SPIRVKind;
 
@@ -58,6 +60,9 @@ public class SPIRVPrimitiveTypes {
 
     private boolean vector16Capability;
     private boolean genericCapability;
+    private boolean int64AtomicsCapability;
+    private boolean groupsCapability;
+    private boolean subgroupShuffleCapability;
 
     public SPIRVPrimitiveTypes(uk.ac.manchester.beehivespirvtoolkit.lib.SPIRVModule module) {
         this.module = module;
@@ -139,6 +144,40 @@ public class SPIRVPrimitiveTypes {
         return primitives.get(primitive);
     }
 
+    /**
+     * The atomic operations on 64-bit integers require the Int64Atomics
+     * capability.
+     */
+    public void enableInt64AtomicsCapability() {
+        if (!int64AtomicsCapability) {
+            module.add(new SPIRVOpCapability(SPIRVCapability.Int64Atomics()));
+            int64AtomicsCapability = true;
+        }
+    }
+
+    /**
+     * The broadcasts, reductions and scans of the sub-groups require the Groups
+     * capability.
+     */
+    public void enableGroupsCapability() {
+        if (!groupsCapability) {
+            module.add(new SPIRVOpCapability(SPIRVCapability.Groups()));
+            groupsCapability = true;
+        }
+    }
+
+    /**
+     * The shuffles of the sub-groups are provided by the SPV_INTEL_subgroups
+     * extension.
+     */
+    public void enableSubgroupShuffleCapability() {
+        if (!subgroupShuffleCapability) {
+            module.add(new SPIRVOpCapability(SPIRVCapability.SubgroupShuffleINTEL()));
+            module.add(new SPIRVOpExtension(new SPIRVLiteralString("SPV_INTEL_subgroups")));
+            subgroupShuffleCapability = true;
+        }
+    }
+
     public SPIRVId getPtrToCrossWorkGroupPrimitive(SPIRVKind primitive) {
         return getPtrOpTypePointerWithStorage(primitive, SPIRVStorageClass.CrossWorkgroup());
     }
@@ -36,9 +36,12 @@ public class SPIRVTargetDescription extends TargetDescription {
 
     private boolean supportsFP64;
 
+    private boolean supportsFP16;
+
     public SPIRVTargetDescription(Architecture arch, boolean isMP, int stackAlignment, int implicitNullCheckLimit, boolean inlineObjects, boolean supportsFP64, String extensions) {
         super(arch, isMP, stackAlignment, implicitNullCheckLimit, inlineObjects);
         this.supportsFP64 = supportsFP64;
+        this.supportsFP16 = (" " + extensions + " ").contains(" cl_khr_fp16 ");
     }
 
     public SPIRVArchitecture getArch() {
@@ -53,4 +56,12 @@ public class SPIRVTargetDescription extends TargetDescription {
         return this.supportsFP64;
     }
 
+    /**
+     * @return true if the device supports the {@code Float16} capability, and
+     *     therefore the conversions between half and single precision.
+     */
+    public boolean isSupportsFP16() {
+        return this.supportsFP16;
+    }
+
 }
@@ -33,6 +33,8 @@ import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.LocalGroupSizeNode;
 import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.LocalThreadIdFixedNode;
 import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.LocalThreadIdNode;
 import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.LocalThreadSizeNode;
+import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.SPIRVSubGroupNode;
+import uk.ac.manchester.tornado.runtime.graal.nodes.SubGroupNode;
 
 /**
  * OpenCL Thread Built-ins for SPIR-V.
@@ -44,7 +46,10 @@ public enum SPIRVThreadBuiltIn {
     GLOBAL_SIZE("spirv_BuiltInGlobalSize", SPIRVBuiltIn.GlobalSize(), GlobalThreadSizeNode.class, null),
     LOCAL_THREAD_ID("spirv_BuiltInLocalInvocationId", SPIRVBuiltIn.LocalInvocationId(), LocalThreadIdFixedNode.class, LocalThreadIdNode.class),
     WORKGROUP_SIZE("spirv_BuiltInWorkgroupSize", SPIRVBuiltIn.WorkgroupSize(), LocalGroupSizeNode.class, LocalThreadSizeNode.class),
-    GROUP_ID("spirv_BuiltInWorkgroupId", SPIRVBuiltIn.WorkgroupId(), GroupIdNode.class, null);
+    GROUP_ID("spirv_BuiltInWorkgroupId", SPIRVBuiltIn.WorkgroupId(), GroupIdNode.class, null),
+    SUB_GROUP_SIZE("spirv_BuiltInSubgroupSize", SPIRVBuiltIn.SubgroupSize(), SPIRVSubGroupNode.class, null),
+    SUB_GROUP_LOCAL_ID("spirv_BuiltInSubgroupLocalInvocationId", SPIRVBuiltIn.SubgroupLocalInvocationId(), SPIRVSubGroupNode.class, null),
+    SUB_GROUP_ID("spirv_BuiltInSubgroupId", SPIRVBuiltIn.SubgroupId(), SPIRVSubGroupNode.class, null);
     // @formatter:on
 
     String name;
@@ -75,4 +80,25 @@ public enum SPIRVThreadBuiltIn {
         return optionalNodeClass;
     }
 
+    /**
+     * The sub-group built-ins are scalar 32-bit integers, whereas the others are
+     * vectors of 3 elements.
+     */
+    public boolean isScalar() {
+        return this == SUB_GROUP_SIZE || this == SUB_GROUP_LOCAL_ID || this == SUB_GROUP_ID;
+    }
+
+    /**
+     * @return the built-in read by the sub-group operation, or {@code null} if
+     *     the operation does not read a built-in.
+     */
+    public static SPIRVThreadBuiltIn fromSubGroupOperation(SubGroupNode.Operation operation) {
+        return switch (operation) {
+            case SIZE -> SUB_GROUP_SIZE;
+            case LOCAL_ID -> SUB_GROUP_LOCAL_ID;
+            case ID -> SUB_GROUP_ID;
+            default -> null;
+        };
+    }
+
 }
@@ -45,6 +45,44 @@ public class SPIRVOCLIntrinsics {
 
     public static native void globalBarrier();
 
+    /**
+     * Memory barrier of the device scope on the global memory. The work-items do
+     * not wait for each other.
+     */
+    public static native void globalMemFence();
+
+    public static native int get_sub_group_size();
+
+    public static native int get_sub_group_id();
+
+    public static native int get_sub_group_local_id();
+
+    public static native int sub_group_reduce_add(int value);
+
+    public static native float sub_group_reduce_add(float value);
+
+    public static native int sub_group_reduce_min(int value);
+
+    public static native float sub_group_reduce_min(float value);
+
+    public static native int sub_group_reduce_max(int value);
+
+    public static native float sub_group_reduce_max(float value);
+
+    /**
+     * Atomically increments the 32-bit integer stored at the position
+     * {@code index} of the array, whatever the type of its elements.
+     *
+     * @return the value before the increment.
+     */
+    public static native int atomic_inc(int[] array, int index);
+
+    public static native int atomic_inc(long[] array, int index);
+
+    public static native int atomic_inc(float[] array, int index);
+
+    public static native int atomic_inc(double[] array, int index);
+
     public static native void printf();
 
     public static native void printEmpty();
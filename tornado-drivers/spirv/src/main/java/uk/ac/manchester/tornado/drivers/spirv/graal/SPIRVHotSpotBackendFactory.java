@@ -45,6 +45,7 @@ import jdk.vm.ci.hotspot.HotSpotConstantReflectionProvider;
 import jdk.vm.ci.hotspot.HotSpotJVMCIRuntime;
 import jdk.vm.ci.hotspot.HotSpotMetaAccessProvider;
 import jdk.vm.ci.runtime.JVMCIBackend;
+import uk.ac.manchester.tornado.drivers.common.graal.compiler.HalfFloatPlugins;
 import uk.ac.manchester.tornado.drivers.graal.TornadoMetaAccessExtensionProvider;
 import uk.ac.manchester.tornado.drivers.graal.TornadoPlatformConfigurationProvider;
 import uk.ac.manchester.tornado.drivers.graal.TornadoWordTypes;
@@ -57,6 +58,7 @@ import uk.ac.manchester.tornado.drivers.spirv.graal.compiler.SPIRVCompilerConfig
 import uk.ac.manchester.tornado.drivers.spirv.graal.compiler.plugins.SPIRVGraphBuilderPlugins;
 import uk.ac.manchester.tornado.drivers.spirv.graal.lir.SPIRVAddressLowering;
 import uk.ac.manchester.tornado.drivers.spirv.graal.lir.SPIRVKind;
+import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.SPIRVHalfFloatConvertNode;
 import uk.ac.manchester.tornado.runtime.TornadoVMConfig;
 import uk.ac.manchester.tornado.runtime.graal.DummySnippetFactory;
 import uk.ac.manchester.tornado.runtime.graal.compiler.TornadoConstantFieldProvider;
@@ -109,7 +111,7 @@ public class SPIRVHotSpotBackendFactory {
             ClassfileBytecodeProvider bytecodeProvider = new ClassfileBytecodeProvider(metaAccess, snippetReflection);
             GraalDebugHandlersFactory graalDebugHandlersFactory = new GraalDebugHandlersFactory(snippetReflection);
             TornadoReplacements replacements = new TornadoReplacements(graalDebugHandlersFactory, p, snippetReflection, bytecodeProvider, targetDescription);
-            plugins = createGraphPlugins(metaAccess, replacements, snippetReflection, lowerer);
+            plugins = createGraphPlugins(metaAccess, replacements, snippetReflection, lowerer, targetDescription);
 
             replacements.setGraphBuilderPlugins(plugins);
 
@@ -133,10 +135,12 @@ public class SPIRVHotSpotBackendFactory {
      *            {@link HotSpotMetaAccessProvider}
      * @param replacements
      *            {@link TornadoReplacements}
+     * @param targetDescription
+     *            {@link SPIRVTargetDescription} of the device
      * @return Plugins for SPIRV
      */
     private static Plugins createGraphPlugins(HotSpotMetaAccessProvider metaAccess, TornadoReplacements replacements, SnippetReflectionProvider snippetReflectionProvider,
-            LoweringProvider loweringProvider) {
+            LoweringProvider loweringProvider, SPIRVTargetDescription targetDescription) {
         InvocationPlugins invocationPlugins = new InvocationPlugins();
         Plugins plugins = new Plugins(invocationPlugins);
 
@@ -151,6 +155,9 @@ public class SPIRVHotSpotBackendFactory {
                 false, //
                 loweringProvider);
         SPIRVGraphBuilderPlugins.registerInvocationPlugins(plugins, invocationPlugins);
+        if (targetDescription.isSupportsFP16()) {
+            HalfFloatPlugins.registerHalfFloatPlugins(invocationPlugins, SPIRVHalfFloatConvertNode::new);
+        }
 
         return plugins;
     }
@@ -472,6 +472,13 @@ public final class SPIRVAssembler extends Assembler {
             builtInList.add(builtinTable.get(SPIRVThreadBuiltIn.GROUP_ID));
         }
 
+        // The sub-group built-ins are registered from the operations of the graph
+        for (SPIRVThreadBuiltIn builtIn : SPIRVThreadBuiltIn.values()) {
+            if (builtIn.isScalar() && builtinTable.containsKey(builtIn)) {
+                builtInList.add(builtinTable.get(builtIn));
+            }
+        }
+
         if (builtInList.size() == 0) {
             operands = new SPIRVMultipleOperands();
         } else {
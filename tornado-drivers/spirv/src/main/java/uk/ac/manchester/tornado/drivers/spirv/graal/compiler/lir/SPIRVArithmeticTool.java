@@ -353,7 +353,10 @@ public class SPIRVArithmeticTool extends ArithmeticLIRGenerator {
 
     @Override
     public Value emitReinterpret(LIRKind to, Value inputVal) {
-        return null;
+        Logger.traceBuildLIR(Logger.BACKEND.SPIRV, "emitReinterpret: %s to %s", inputVal, to);
+        final Variable result = getGen().newVariable(to);
+        getGen().append(new SPIRVLIRStmt.AssignStmt(result, new SPIRVUnary.Bitcast(to, result, inputVal)));
+        return result;
     }
 
     @Override
@@ -67,20 +67,25 @@ import org.graalvm.word.LocationIdentity;
 import jdk.vm.ci.meta.JavaKind;
 import jdk.vm.ci.meta.ResolvedJavaMethod;
 import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.TornadoVMIntrinsics;
 import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.drivers.common.graal.compiler.SubGroupPlugins;
 import uk.ac.manchester.tornado.drivers.common.logging.Logger;
 import uk.ac.manchester.tornado.drivers.spirv.graal.SPIRVArchitecture;
 import uk.ac.manchester.tornado.drivers.spirv.graal.lir.SPIRVKind;
 import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.LocalArrayNode;
+import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.SPIRVAtomicArrayNode;
 import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.SPIRVBarrierNode;
 import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.SPIRVFPBinaryIntrinsicNode;
 import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.SPIRVFPUnaryIntrinsicNode;
 import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.SPIRVIntBinaryIntrinsicNode;
 import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.SPIRVIntUnaryIntrinsicNode;
+import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.SPIRVSubGroupNode;
 import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.SlotsBaseAddressNode;
 import uk.ac.manchester.tornado.runtime.common.Tornado;
 import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
 import uk.ac.manchester.tornado.runtime.directives.CompilerInternals;
+import uk.ac.manchester.tornado.runtime.graal.nodes.AtomicArrayNode;
 
 public class SPIRVGraphBuilderPlugins {
 
@@ -101,6 +106,7 @@ public class SPIRVGraphBuilderPlugins {
 
         registerCompilerIntrinsicsPlugins(invocationPlugins);
         registerTornadoVMIntrinsicsPlugins(plugins);
+        registerTornadoVMAtomicsPlugins(invocationPlugins);
         registerOpenCLBuiltinPlugins(invocationPlugins);
 
         // Register plugins for the new API
@@ -148,6 +154,7 @@ public class SPIRVGraphBuilderPlugins {
         registerLocalBarrier(r);
         registerGlobalBarrier(r);
         localArraysPlugins(r);
+        SubGroupPlugins.registerSubGroupPlugins(r, (b, operation, kind, value, operand) -> b.append(new SPIRVSubGroupNode(operation, kind, value, operand)));
     }
 
     private static void registerLocalBarrier(Registration r) {
@@ -361,6 +368,41 @@ public class SPIRVGraphBuilderPlugins {
         });
     }
 
+    private static void registerAtomicArrayPlugin(Registration r, AtomicArrayNode.Operation operation, JavaKind elementKind) {
+        final Class<?> arrayClass = AtomicArrayNode.getArrayClass(elementKind);
+        final JavaKind resultKind = (operation == AtomicArrayNode.Operation.CAS) ? JavaKind.Boolean : elementKind;
+        if (operation.isComparison()) {
+            r.register(new InvocationPlugin(operation.getMethodName(), arrayClass, int.class, elementKind.toJavaClass(), elementKind.toJavaClass()) {
+                @Override
+                public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver, ValueNode array, ValueNode index, ValueNode expected, ValueNode value) {
+                    AddressNode address = AtomicArrayNode.createElementAddress(b, array, index, elementKind);
+                    b.addPush(resultKind, new SPIRVAtomicArrayNode(operation, elementKind, address, expected, value));
+                    return true;
+                }
+            });
+        } else {
+            r.register(new InvocationPlugin(operation.getMethodName(), arrayClass, int.class, elementKind.toJavaClass()) {
+                @Override
+                public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver, ValueNode array, ValueNode index, ValueNode value) {
+                    AddressNode address = AtomicArrayNode.createElementAddress(b, array, index, elementKind);
+                    b.addPush(resultKind, new SPIRVAtomicArrayNode(operation, elementKind, address, null, value));
+                    return true;
+                }
+            });
+        }
+    }
+
+    private static void registerTornadoVMAtomicsPlugins(InvocationPlugins plugins) {
+        Registration r = new Registration(plugins, TornadoVMIntrinsics.class);
+        for (JavaKind elementKind : AtomicArrayNode.ELEMENT_KINDS) {
+            for (AtomicArrayNode.Operation operation : AtomicArrayNode.Operation.values()) {
+                if (operation.isIntrinsic(elementKind)) {
+                    registerAtomicArrayPlugin(r, operation, elementKind);
+                }
+            }
+        }
+    }
+
     private static void registerTornadoVMIntrinsicsPlugins(Plugins plugins) {
         if (Tornado.DEBUG) {
             Logger.traceRuntime(Logger.BACKEND.SPIRV, "SPIRV Registering VM Intrinsics Plugins - pending");
@@ -36,6 +36,13 @@ import jdk.vm.ci.meta.Value;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVInstruction;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpDecorate;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpExtInst;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpGroupBroadcast;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpGroupFAdd;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpGroupFMax;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpGroupFMin;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpGroupIAdd;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpGroupSMax;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpGroupSMin;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpIEqual;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpINotEqual;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpLoad;
@@ -44,9 +51,14 @@ import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpSConvert;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpSGreaterThan;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpSLessThan;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpSelect;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpSubgroupShuffleDownINTEL;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpSubgroupShuffleINTEL;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpSubgroupShuffleUpINTEL;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpSubgroupShuffleXorINTEL;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpUConvert;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpVariable;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.operands.SPIRVDecoration;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.operands.SPIRVGroupOperation;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.operands.SPIRVId;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.operands.SPIRVLiteralExtInstInteger;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.operands.SPIRVLiteralInteger;
@@ -56,10 +68,12 @@ import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.operands.SPIRVMulti
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.operands.SPIRVOptionalOperand;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.operands.SPIRVStorageClass;
 import uk.ac.manchester.tornado.drivers.common.logging.Logger;
+import uk.ac.manchester.tornado.drivers.spirv.SPIRVThreadBuiltIn;
 import uk.ac.manchester.tornado.drivers.spirv.graal.asm.SPIRVAssembler;
 import uk.ac.manchester.tornado.drivers.spirv.graal.asm.SPIRVAssembler.SPIRVBinaryOp;
 import uk.ac.manchester.tornado.drivers.spirv.graal.compiler.SPIRVCompilationResultBuilder;
 import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+import uk.ac.manchester.tornado.runtime.graal.nodes.SubGroupNode;
 
 public class SPIRVBinary {
 
@@ -555,4 +569,102 @@ public class SPIRVBinary {
             asm.registerLIRInstructionValue(this, resultID);
         }
     }
+
+    /**
+     * Sub-group operation (see {@link SubGroupNode}). The broadcasts, reductions
+     * and scans use the instructions of the Groups capability with the sub-group
+     * scope, and the shuffles the instructions of the SPV_INTEL_subgroups
+     * extension. The module targets SPIR-V 1.2, which does not provide the
+     * {@code OpGroupNonUniform*} instructions.
+     */
+    public static class SubGroupOperation extends BinaryConsumer {
+
+        private static final String SUBGROUP_SCOPE = "3";
+
+        private final SubGroupNode.Operation operation;
+
+        public SubGroupOperation(SubGroupNode.Operation operation, Variable result, LIRKind valueKind, Value value, Value operand) {
+            super(null, result, valueKind, value, operand);
+            this.operation = operation;
+        }
+
+        protected SPIRVId obtainPhiValueIdIfNeeded(SPIRVAssembler asm) {
+            SPIRVId operationId;
+            if (!asm.isPhiMapEmpty() && asm.isResultInPhiMap(result)) {
+                operationId = asm.getPhiId(result);
+                while (operationId == null) {
+                    // Nested IF, We Keep Looking into the trace
+                    AllocatableValue v = asm.getPhiTraceValue(result);
+                    operationId = asm.getPhiId((Variable) v);
+                }
+            } else {
+                operationId = asm.module.getNextId();
+            }
+            return operationId;
+        }
+
+        private SPIRVInstruction createGroupOperation(boolean isFloat, SPIRVId type, SPIRVId resultId, SPIRVId scope, SPIRVId valueId) {
+            SPIRVGroupOperation groupOperation = switch (operation) {
+                case SCAN_INCLUSIVE_ADD -> SPIRVGroupOperation.InclusiveScan();
+                case SCAN_EXCLUSIVE_ADD -> SPIRVGroupOperation.ExclusiveScan();
+                default -> SPIRVGroupOperation.Reduce();
+            };
+            return switch (operation) {
+                case REDUCE_MIN -> isFloat ? new SPIRVOpGroupFMin(type, resultId, scope, groupOperation, valueId) : new SPIRVOpGroupSMin(type, resultId, scope, groupOperation, valueId);
+                case REDUCE_MAX -> isFloat ? new SPIRVOpGroupFMax(type, resultId, scope, groupOperation, valueId) : new SPIRVOpGroupSMax(type, resultId, scope, groupOperation, valueId);
+                default -> isFloat ? new SPIRVOpGroupFAdd(type, resultId, scope, groupOperation, valueId) : new SPIRVOpGroupIAdd(type, resultId, scope, groupOperation, valueId);
+            };
+        }
+
+        @Override
+        public void emit(SPIRVCompilationResultBuilder crb, SPIRVAssembler asm) {
+            Logger.traceCodeGen(Logger.BACKEND.SPIRV, "emit SubGroupOperation: " + operation + " (" + x + ", " + y + ")");
+
+            SPIRVKind kind = (SPIRVKind) getLIRKind().getPlatformKind();
+            SPIRVId type = asm.primitives.getTypePrimitive(kind);
+            SPIRVId resultId = obtainPhiValueIdIfNeeded(asm);
+
+            if (!operation.hasValue()) {
+                // %id = OpLoad %uint %spirv_BuiltInSubgroupLocalInvocationId Aligned 4
+                SPIRVId builtIn = asm.builtinTable.get(SPIRVThreadBuiltIn.fromSubGroupOperation(operation));
+                asm.currentBlockScope().add(new SPIRVOpLoad(type, resultId, builtIn, new SPIRVOptionalOperand<>(SPIRVMemoryAccess.Aligned(new SPIRVLiteralInteger(kind.getByteCount())))));
+                asm.registerLIRInstructionValue(this, resultId);
+                return;
+            }
+
+            SPIRVId valueId = loadSPIRVId(crb, asm, x);
+            SPIRVId operandId = operation.hasOperand() ? loadSPIRVId(crb, asm, y) : null;
+            SPIRVInstruction instruction;
+            switch (operation) {
+                case SHUFFLE -> {
+                    asm.primitives.enableSubgroupShuffleCapability();
+                    instruction = new SPIRVOpSubgroupShuffleINTEL(type, resultId, valueId, operandId);
+                }
+                case SHUFFLE_DOWN -> {
+                    asm.primitives.enableSubgroupShuffleCapability();
+                    instruction = new SPIRVOpSubgroupShuffleDownINTEL(type, resultId, valueId, valueId, operandId);
+                }
+                case SHUFFLE_UP -> {
+                    asm.primitives.enableSubgroupShuffleCapability();
+                    instruction = new SPIRVOpSubgroupShuffleUpINTEL(type, resultId, valueId, valueId, operandId);
+                }
+                case SHUFFLE_XOR -> {
+                    asm.primitives.enableSubgroupShuffleCapability();
+                    instruction = new SPIRVOpSubgroupShuffleXorINTEL(type, resultId, valueId, operandId);
+                }
+                case BROADCAST -> {
+                    asm.primitives.enableGroupsCapability();
+                    SPIRVId scope = asm.lookUpConstant(SUBGROUP_SCOPE, SPIRVKind.OP_TYPE_INT_32);
+                    instruction = new SPIRVOpGroupBroadcast(type, resultId, scope, valueId, operandId);
+                }
+                default -> {
+                    asm.primitives.enableGroupsCapability();
+                    SPIRVId scope = asm.lookUpConstant(SUBGROUP_SCOPE, SPIRVKind.OP_TYPE_INT_32);
+                    instruction = createGroupOperation(kind.isFloatingPoint(), type, resultId, scope, valueId);
+                }
+            }
+            asm.currentBlockScope().add(instruction);
+            asm.registerLIRInstructionValue(this, resultId);
+        }
+    }
 }
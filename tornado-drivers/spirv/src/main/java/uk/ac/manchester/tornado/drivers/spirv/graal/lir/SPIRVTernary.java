@@ -29,13 +29,28 @@ import org.graalvm.compiler.lir.Variable;
 
 import jdk.vm.ci.meta.AllocatableValue;
 import jdk.vm.ci.meta.Value;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVInstruction;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpAtomicAnd;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpAtomicCompareExchange;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpAtomicExchange;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpAtomicIAdd;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpAtomicISub;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpAtomicOr;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpAtomicSMax;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpAtomicSMin;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpAtomicXor;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpBitcast;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpExtInst;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpIEqual;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpSelect;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.operands.SPIRVId;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.operands.SPIRVLiteralExtInstInteger;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.operands.SPIRVMultipleOperands;
 import uk.ac.manchester.tornado.drivers.common.logging.Logger;
 import uk.ac.manchester.tornado.drivers.spirv.graal.asm.SPIRVAssembler;
 import uk.ac.manchester.tornado.drivers.spirv.graal.compiler.SPIRVCompilationResultBuilder;
+import uk.ac.manchester.tornado.drivers.spirv.graal.lir.SPIRVUnary.SPIRVAddressCast;
+import uk.ac.manchester.tornado.runtime.graal.nodes.AtomicArrayNode;
 
 public class SPIRVTernary {
 
@@ -110,4 +125,109 @@ public class SPIRVTernary {
         }
 
     }
+
+    /**
+     * Atomic operation on an element of a native array (see
+     * {@link AtomicArrayNode}). The operations use the device scope and relaxed
+     * memory semantics. The {@code float} elements are accessed through a pointer
+     * to {@code int} and bitcast, so the comparisons are bitwise.
+     */
+    public static class AtomicArrayOperation extends TernaryConsumer {
+
+        // Scope and memory semantics of the operations
+        private static final String DEVICE_SCOPE = "1";
+        private static final String RELAXED_SEMANTICS = "0";
+
+        private final AtomicArrayNode.Operation operation;
+
+        private final SPIRVKind elementKind;
+
+        private final Variable result;
+
+        @LIRInstruction.Use
+        private SPIRVAddressCast cast;
+
+        public AtomicArrayOperation(LIRKind lirKind, AtomicArrayNode.Operation operation, SPIRVKind elementKind, SPIRVAddressCast cast, Value expected, Value value, Variable result) {
+            super(lirKind, cast, expected, value);
+            this.operation = operation;
+            this.elementKind = elementKind;
+            this.cast = cast;
+            this.result = result;
+        }
+
+        protected SPIRVId obtainPhiValueIdIfNeeded(SPIRVAssembler asm) {
+            SPIRVId operationId;
+            if (!asm.isPhiMapEmpty() && asm.isResultInPhiMap(result)) {
+                operationId = asm.getPhiId(result);
+                while (operationId == null) {
+                    // Nested IF, We Keep Looking into the trace
+                    AllocatableValue v = asm.getPhiTraceValue(result);
+                    operationId = asm.getPhiId((Variable) v);
+                }
+            } else {
+                operationId = asm.module.getNextId();
+            }
+            return operationId;
+        }
+
+        private SPIRVId loadOperand(SPIRVCompilationResultBuilder crb, SPIRVAssembler asm, Value operand, SPIRVKind operandKind) {
+            SPIRVId id = loadSPIRVId(crb, asm, operand);
+            if (operandKind == elementKind) {
+                return id;
+            }
+            SPIRVId bitcast = asm.module.getNextId();
+            asm.currentBlockScope().add(new SPIRVOpBitcast(asm.primitives.getTypePrimitive(operandKind), bitcast, id));
+            return bitcast;
+        }
+
+        private SPIRVInstruction createAtomic(SPIRVId type, SPIRVId old, SPIRVId pointer, SPIRVId scope, SPIRVId semantics, SPIRVId expectedId, SPIRVId valueId) {
+            return switch (operation) {
+                case ADD -> new SPIRVOpAtomicIAdd(type, old, pointer, scope, semantics, valueId);
+                case SUB -> new SPIRVOpAtomicISub(type, old, pointer, scope, semantics, valueId);
+                case MIN -> new SPIRVOpAtomicSMin(type, old, pointer, scope, semantics, valueId);
+                case MAX -> new SPIRVOpAtomicSMax(type, old, pointer, scope, semantics, valueId);
+                case AND -> new SPIRVOpAtomicAnd(type, old, pointer, scope, semantics, valueId);
+                case OR -> new SPIRVOpAtomicOr(type, old, pointer, scope, semantics, valueId);
+                case XOR -> new SPIRVOpAtomicXor(type, old, pointer, scope, semantics, valueId);
+                case XCHG -> new SPIRVOpAtomicExchange(type, old, pointer, scope, semantics, valueId);
+                case CMPXCHG, CAS -> new SPIRVOpAtomicCompareExchange(type, old, pointer, scope, semantics, semantics, valueId, expectedId);
+            };
+        }
+
+        @Override
+        public void emit(SPIRVCompilationResultBuilder crb, SPIRVAssembler asm) {
+            Logger.traceCodeGen(Logger.BACKEND.SPIRV, "emit AtomicArrayOperation: " + operation + " (" + cast + ", " + y + ", " + z + ")");
+
+            cast.emit(crb, asm);
+            SPIRVId pointer = asm.lookUpLIRInstructions(cast);
+            SPIRVKind operandKind = (SPIRVKind) cast.getLIRKind().getPlatformKind();
+            if (operandKind == SPIRVKind.OP_TYPE_INT_64) {
+                asm.primitives.enableInt64AtomicsCapability();
+            }
+
+            SPIRVId type = asm.primitives.getTypePrimitive(operandKind);
+            SPIRVId expectedId = operation.isComparison() ? loadOperand(crb, asm, y, operandKind) : null;
+            SPIRVId valueId = loadOperand(crb, asm, z, operandKind);
+            SPIRVId scope = asm.lookUpConstant(DEVICE_SCOPE, SPIRVKind.OP_TYPE_INT_32);
+            SPIRVId semantics = asm.lookUpConstant(RELAXED_SEMANTICS, SPIRVKind.OP_TYPE_INT_32);
+
+            SPIRVId resultId = obtainPhiValueIdIfNeeded(asm);
+            SPIRVId old = (operandKind == elementKind && operation != AtomicArrayNode.Operation.CAS) ? resultId : asm.module.getNextId();
+            asm.currentBlockScope().add(createAtomic(type, old, pointer, scope, semantics, expectedId, valueId));
+
+            if (operation == AtomicArrayNode.Operation.CAS) {
+                // The result is 1 if the element was equal to the expected value
+                SPIRVId comparison = asm.module.getNextId();
+                asm.currentBlockScope().add(new SPIRVOpIEqual(asm.primitives.getTypePrimitive(SPIRVKind.OP_TYPE_BOOL), comparison, old, expectedId));
+                SPIRVKind resultKind = (SPIRVKind) getLIRKind().getPlatformKind();
+                SPIRVId one = asm.lookUpConstant("1", resultKind);
+                SPIRVId zero = asm.lookUpConstant("0", resultKind);
+                asm.currentBlockScope().add(new SPIRVOpSelect(asm.primitives.getTypePrimitive(resultKind), resultId, comparison, one, zero));
+            } else if (old != resultId) {
+                asm.currentBlockScope().add(new SPIRVOpBitcast(asm.primitives.getTypePrimitive(elementKind), resultId, old));
+            }
+
+            asm.registerLIRInstructionValue(this, resultId);
+        }
+    }
 }
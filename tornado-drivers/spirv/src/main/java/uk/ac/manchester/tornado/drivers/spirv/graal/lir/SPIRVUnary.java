@@ -35,6 +35,7 @@ import jdk.vm.ci.meta.AllocatableValue;
 import jdk.vm.ci.meta.Local;
 import jdk.vm.ci.meta.Value;
 import uk.ac.manchester.beehivespirvtoolkit.lib.SPIRVInstScope;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpBitcast;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpCompositeExtract;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpControlBarrier;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpConvertFToS;
@@ -46,6 +47,7 @@ import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpFConvert;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpFNegate;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpInBoundsPtrAccessChain;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpLoad;
+import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpMemoryBarrier;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpReturnValue;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpSConvert;
 import uk.ac.manchester.beehivespirvtoolkit.lib.instructions.SPIRVOpSNegate;
@@ -788,6 +790,31 @@ public class SPIRVUnary {
         }
     }
 
+    /**
+     * Reinterprets the bits of a value as a different type of the same width
+     * (e.g., {@code Float.floatToRawIntBits}).
+     */
+    public static class Bitcast extends AbstractExtend {
+
+        public Bitcast(LIRKind toKind, Variable result, Value inputVal) {
+            super(null, result, toKind, inputVal);
+        }
+
+        @Override
+        public void emit(SPIRVCompilationResultBuilder crb, SPIRVAssembler asm) {
+            Logger.traceCodeGen(Logger.BACKEND.SPIRV, "emit SPIRVOpBitcast : " + value.getPlatformKind() + " -> " + getLIRKind().getPlatformKind());
+
+            SPIRVKind spirvKind = (SPIRVKind) value.getPlatformKind();
+            SPIRVId type = asm.primitives.getTypePrimitive(spirvKind);
+            SPIRVId loadConvert = loadConvertIfNeeded(crb, asm, type, spirvKind);
+
+            SPIRVId toType = asm.primitives.getTypePrimitive((SPIRVKind) getLIRKind().getPlatformKind());
+            SPIRVId result = obtainPhiValueIdIfNeeded(asm);
+            asm.currentBlockScope().add(new SPIRVOpBitcast(toType, result, loadConvert));
+            asm.registerLIRInstructionValue(this, result);
+        }
+    }
+
     public static class CastOperations extends UnaryConsumer {
 
         protected CastOperations(SPIRVUnaryOp opcode, Variable result, LIRKind valueKind, Value value) {
@@ -1145,6 +1172,28 @@ public class SPIRVUnary {
         }
     }
 
+    /**
+     * Memory barrier of the device scope: it orders the memory accesses of the
+     * work-item without waiting for the other work-items of the work-group.
+     */
+    public static class MemoryFence extends UnaryConsumer {
+
+        private SPIRVBarrierNode.SPIRVMemFenceFlags flags;
+
+        public MemoryFence(SPIRVBarrierNode.SPIRVMemFenceFlags flags) {
+            super(null, null, LIRKind.Illegal, null);
+            this.flags = flags;
+        }
+
+        @Override
+        public void emit(SPIRVCompilationResultBuilder crb, SPIRVAssembler asm) {
+            Logger.traceCodeGen(Logger.BACKEND.SPIRV, "emit MemoryBarrier with FLAGS" + flags.toString() + " SEMANTICS: " + flags.getMemorySemantics());
+            SPIRVId deviceScope = asm.lookUpConstant("1", SPIRVKind.OP_TYPE_INT_32);
+            SPIRVId constantSemantics = asm.lookUpConstant(Integer.toString(flags.getMemorySemantics()), SPIRVKind.OP_TYPE_INT_32);
+            asm.currentBlockScope().add(new SPIRVOpMemoryBarrier(deviceScope, constantSemantics));
+        }
+    }
+
     public static class LoadParameter extends SPIRVLIROp {
 
         @Use
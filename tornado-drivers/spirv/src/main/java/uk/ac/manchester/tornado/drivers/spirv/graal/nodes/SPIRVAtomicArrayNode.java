@@ -0,0 +1,68 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.spirv.graal.nodes;
+
+import org.graalvm.compiler.core.common.LIRKind;
+import org.graalvm.compiler.core.common.type.StampFactory;
+import org.graalvm.compiler.graph.NodeClass;
+import org.graalvm.compiler.lir.Variable;
+import org.graalvm.compiler.lir.gen.LIRGeneratorTool;
+import org.graalvm.compiler.nodeinfo.NodeInfo;
+import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.memory.address.AddressNode;
+
+import jdk.vm.ci.meta.JavaKind;
+import jdk.vm.ci.meta.Value;
+import uk.ac.manchester.tornado.drivers.common.logging.Logger;
+import uk.ac.manchester.tornado.drivers.spirv.graal.lir.SPIRVKind;
+import uk.ac.manchester.tornado.drivers.spirv.graal.lir.SPIRVLIRStmt;
+import uk.ac.manchester.tornado.drivers.spirv.graal.lir.SPIRVTernary;
+import uk.ac.manchester.tornado.drivers.spirv.graal.lir.SPIRVUnary;
+import uk.ac.manchester.tornado.runtime.graal.nodes.AtomicArrayNode;
+
+@NodeInfo(nameTemplate = "SPIRVAtomic{p#operation/s}")
+public class SPIRVAtomicArrayNode extends AtomicArrayNode {
+
+    public static final NodeClass<SPIRVAtomicArrayNode> TYPE = NodeClass.create(SPIRVAtomicArrayNode.class);
+
+    public SPIRVAtomicArrayNode(Operation operation, JavaKind elementKind, AddressNode address, ValueNode expected, ValueNode value) {
+        super(TYPE, operation, elementKind, address, expected, value);
+    }
+
+    @Override
+    protected Value generate(LIRGeneratorTool gen, Value addressValue, Value expectedValue, Value newValue) {
+        Logger.traceBuildLIR(Logger.BACKEND.SPIRV, "emit AtomicArrayNode: %s %s", operation, addressValue);
+        LIRKind resultKind = gen.getLIRKind(stamp);
+        Variable result = gen.newVariable(resultKind);
+        SPIRVKind spirvKind = (SPIRVKind) gen.getLIRKind(StampFactory.forKind(elementKind)).getPlatformKind();
+
+        // The atomic instructions of SPIR-V operate on integers
+        SPIRVKind pointerKind = (elementKind == JavaKind.Float) ? SPIRVKind.OP_TYPE_INT_32 : spirvKind;
+        SPIRVUnary.MemoryAccess memoryAccess = (SPIRVUnary.MemoryAccess) addressValue;
+        SPIRVUnary.SPIRVAddressCast cast = new SPIRVUnary.SPIRVAddressCast(memoryAccess.getValue(), memoryAccess.getMemoryRegion(), LIRKind.value(pointerKind));
+
+        gen.append(new SPIRVLIRStmt.AssignStmt(result, new SPIRVTernary.AtomicArrayOperation(resultKind, operation, spirvKind, cast, expectedValue, newValue, result)));
+        return result;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.spirv.graal.nodes;
+
+import org.graalvm.compiler.core.common.LIRKind;
+import org.graalvm.compiler.graph.NodeClass;
+import org.graalvm.compiler.lir.Variable;
+import org.graalvm.compiler.lir.gen.ArithmeticLIRGeneratorTool;
+import org.graalvm.compiler.nodeinfo.NodeInfo;
+import org.graalvm.compiler.nodes.ValueNode;
+
+import jdk.vm.ci.meta.Value;
+import uk.ac.manchester.tornado.drivers.spirv.graal.compiler.lir.SPIRVArithmeticTool;
+import uk.ac.manchester.tornado.drivers.spirv.graal.lir.SPIRVKind;
+import uk.ac.manchester.tornado.drivers.spirv.graal.lir.SPIRVLIRStmt;
+import uk.ac.manchester.tornado.drivers.spirv.graal.lir.SPIRVUnary;
+import uk.ac.manchester.tornado.runtime.graal.nodes.HalfFloatConvertNode;
+
+/**
+ * Conversion through the {@code Float16} type. The bits are reinterpreted with
+ * {@code OpBitcast} and the values are converted with {@code OpFConvert}.
+ */
+@NodeInfo(nameTemplate = "SPIRVHalfFloat{p#operation/s}")
+public class SPIRVHalfFloatConvertNode extends HalfFloatConvertNode {
+
+    public static final NodeClass<SPIRVHalfFloatConvertNode> TYPE = NodeClass.create(SPIRVHalfFloatConvertNode.class);
+
+    public SPIRVHalfFloatConvertNode(Operation operation, ValueNode value) {
+        super(TYPE, operation, value);
+    }
+
+    @Override
+    protected Value generate(ArithmeticLIRGeneratorTool gen, Value input) {
+        SPIRVArithmeticTool tool = (SPIRVArithmeticTool) gen;
+        LIRKind halfKind = LIRKind.value(SPIRVKind.OP_TYPE_FLOAT_16);
+        LIRKind shortKind = LIRKind.value(SPIRVKind.OP_TYPE_INT_16);
+        if (operation == Operation.TO_FLOAT) {
+            Value bits = tool.emitNarrow(input, 16);
+            Variable half = tool.getGen().newVariable(halfKind);
+            tool.getGen().append(new SPIRVLIRStmt.AssignStmt(half, new SPIRVUnary.Bitcast(halfKind, half, bits)));
+            LIRKind floatKind = LIRKind.value(SPIRVKind.OP_TYPE_FLOAT_32);
+            Variable result = tool.getGen().newVariable(floatKind);
+            tool.getGen().append(new SPIRVLIRStmt.AssignStmt(result, new SPIRVUnary.CastFloatDouble(floatKind, result, half, SPIRVKind.OP_TYPE_FLOAT_32)));
+            return result;
+        } else {
+            Variable half = tool.getGen().newVariable(halfKind);
+            tool.getGen().append(new SPIRVLIRStmt.AssignStmt(half, new SPIRVUnary.CastFloatDouble(halfKind, half, input, SPIRVKind.OP_TYPE_FLOAT_16)));
+            Variable bits = tool.getGen().newVariable(shortKind);
+            tool.getGen().append(new SPIRVLIRStmt.AssignStmt(bits, new SPIRVUnary.Bitcast(shortKind, bits, half)));
+            return tool.emitSignExtend(bits, 16, 32);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.spirv.graal.nodes;
+
+import org.graalvm.compiler.core.common.type.StampFactory;
+import org.graalvm.compiler.graph.NodeClass;
+import org.graalvm.compiler.nodeinfo.NodeInfo;
+import org.graalvm.compiler.nodes.FixedWithNextNode;
+import org.graalvm.compiler.nodes.memory.MemoryKill;
+import org.graalvm.compiler.nodes.spi.LIRLowerable;
+import org.graalvm.compiler.nodes.spi.NodeLIRBuilderTool;
+
+import uk.ac.manchester.tornado.drivers.common.logging.Logger;
+import uk.ac.manchester.tornado.drivers.spirv.graal.lir.SPIRVLIRStmt;
+import uk.ac.manchester.tornado.drivers.spirv.graal.lir.SPIRVUnary;
+import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.SPIRVBarrierNode.SPIRVMemFenceFlags;
+
+/**
+ * Instruction: OpMemoryBarrier. Unlike {@link SPIRVBarrierNode}, the
+ * work-items of the work-group do not wait for each other, so the node can be
+ * placed in divergent code.
+ */
+@NodeInfo
+public class SPIRVMemFenceNode extends FixedWithNextNode implements LIRLowerable, MemoryKill {
+
+    public static final NodeClass<SPIRVMemFenceNode> TYPE = NodeClass.create(SPIRVMemFenceNode.class);
+
+    private final SPIRVMemFenceFlags flags;
+
+    public SPIRVMemFenceNode(SPIRVMemFenceFlags flags) {
+        super(TYPE, StampFactory.forVoid());
+        this.flags = flags;
+    }
+
+    @Override
+    public void generate(NodeLIRBuilderTool generator) {
+        Logger.traceBuildLIR(Logger.BACKEND.SPIRV, "Append MemoryBarrier of type: " + flags);
+        generator.getLIRGeneratorTool().append(new SPIRVLIRStmt.ExprStmt(new SPIRVUnary.MemoryFence(flags)));
+    }
+}
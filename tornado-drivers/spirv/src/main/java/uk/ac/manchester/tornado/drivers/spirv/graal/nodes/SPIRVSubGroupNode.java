@@ -0,0 +1,57 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.spirv.graal.nodes;
+
+import org.graalvm.compiler.core.common.LIRKind;
+import org.graalvm.compiler.graph.NodeClass;
+import org.graalvm.compiler.lir.Variable;
+import org.graalvm.compiler.lir.gen.LIRGeneratorTool;
+import org.graalvm.compiler.nodeinfo.NodeInfo;
+import org.graalvm.compiler.nodes.ValueNode;
+
+import jdk.vm.ci.meta.JavaKind;
+import jdk.vm.ci.meta.Value;
+import uk.ac.manchester.tornado.drivers.common.logging.Logger;
+import uk.ac.manchester.tornado.drivers.spirv.graal.lir.SPIRVBinary;
+import uk.ac.manchester.tornado.drivers.spirv.graal.lir.SPIRVLIRStmt;
+import uk.ac.manchester.tornado.runtime.graal.nodes.SubGroupNode;
+
+@NodeInfo(nameTemplate = "SPIRVSubGroup{p#operation/s}")
+public class SPIRVSubGroupNode extends SubGroupNode {
+
+    public static final NodeClass<SPIRVSubGroupNode> TYPE = NodeClass.create(SPIRVSubGroupNode.class);
+
+    public SPIRVSubGroupNode(Operation operation, JavaKind kind, ValueNode value, ValueNode operand) {
+        super(TYPE, operation, kind, value, operand);
+    }
+
+    @Override
+    protected Value generate(LIRGeneratorTool gen, Value valueOperand, Value operandValue) {
+        Logger.traceBuildLIR(Logger.BACKEND.SPIRV, "emit SubGroupNode: %s", operation);
+        LIRKind resultKind = gen.getLIRKind(stamp);
+        Variable result = gen.newVariable(resultKind);
+        gen.append(new SPIRVLIRStmt.AssignStmt(result, new SPIRVBinary.SubGroupOperation(operation, result, resultKind, valueOperand, operandValue)));
+        return result;
+    }
+}
@@ -36,8 +36,10 @@ import org.graalvm.compiler.nodes.GraphState;
 import org.graalvm.compiler.nodes.InvokeNode;
 import org.graalvm.compiler.nodes.StructuredGraph;
 import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.memory.address.AddressNode;
 import org.graalvm.compiler.nodes.util.GraphUtil;
 import org.graalvm.compiler.phases.BasePhase;
+import org.graalvm.compiler.replacements.DefaultJavaLoweringProvider;
 
 import jdk.vm.ci.meta.JavaKind;
 import jdk.vm.ci.meta.MetaAccessProvider;
@@ -53,7 +55,12 @@ import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.GroupIdNode;
 import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.LocalArrayNode;
 import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.LocalGroupSizeNode;
 import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.LocalThreadIdFixedNode;
+import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.SPIRVAtomicArrayNode;
 import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.SPIRVBarrierNode;
+import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.SPIRVMemFenceNode;
+import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.SPIRVSubGroupNode;
+import uk.ac.manchester.tornado.runtime.graal.nodes.AtomicArrayNode;
+import uk.ac.manchester.tornado.runtime.graal.nodes.SubGroupNode.Operation;
 import uk.ac.manchester.tornado.runtime.graal.phases.TornadoHighTierContext;
 
 public class TornadoSPIRVIntrinsicsReplacements extends BasePhase<TornadoHighTierContext> {
@@ -96,6 +103,39 @@ public class TornadoSPIRVIntrinsicsReplacements extends BasePhase<TornadoHighTie
                     graph.replaceFixed(invoke, barrierNode);
                     break;
                 }
+                case "Direct#SPIRVOCLIntrinsics.globalMemFence": {
+                    SPIRVMemFenceNode fenceNode = graph.add(new SPIRVMemFenceNode(SPIRVBarrierNode.SPIRVMemFenceFlags.GLOBAL));
+                    graph.replaceFixed(invoke, fenceNode);
+                    break;
+                }
+                case "Direct#SPIRVOCLIntrinsics.get_sub_group_size": {
+                    replaceSubGroupOperation(graph, invoke, Operation.SIZE);
+                    break;
+                }
+                case "Direct#SPIRVOCLIntrinsics.get_sub_group_id": {
+                    replaceSubGroupOperation(graph, invoke, Operation.ID);
+                    break;
+                }
+                case "Direct#SPIRVOCLIntrinsics.get_sub_group_local_id": {
+                    replaceSubGroupOperation(graph, invoke, Operation.LOCAL_ID);
+                    break;
+                }
+                case "Direct#SPIRVOCLIntrinsics.sub_group_reduce_add": {
+                    replaceSubGroupOperation(graph, invoke, Operation.REDUCE_ADD);
+                    break;
+                }
+                case "Direct#SPIRVOCLIntrinsics.sub_group_reduce_min": {
+                    replaceSubGroupOperation(graph, invoke, Operation.REDUCE_MIN);
+                    break;
+                }
+                case "Direct#SPIRVOCLIntrinsics.sub_group_reduce_max": {
+                    replaceSubGroupOperation(graph, invoke, Operation.REDUCE_MAX);
+                    break;
+                }
+                case "Direct#SPIRVOCLIntrinsics.atomic_inc": {
+                    replaceAtomicIncrement(graph, invoke, context);
+                    break;
+                }
                 case "Direct#SPIRVOCLIntrinsics.get_local_id": {
                     ConstantNode dimension = getConstantNodeFromArguments(invoke, 0);
                     LocalThreadIdFixedNode localIdNode = graph.addOrUnique(new LocalThreadIdFixedNode(dimension));
@@ -133,6 +173,25 @@ public class TornadoSPIRVIntrinsicsReplacements extends BasePhase<TornadoHighTie
         }
     }
 
+    private void replaceSubGroupOperation(StructuredGraph graph, InvokeNode invoke, Operation operation) {
+        ValueNode value = operation.hasValue() ? invoke.callTarget().arguments().get(0) : null;
+        JavaKind kind = value == null ? JavaKind.Int : value.getStackKind();
+        SPIRVSubGroupNode subGroupNode = graph.add(new SPIRVSubGroupNode(operation, kind, value, null));
+        graph.replaceFixed(invoke, subGroupNode);
+    }
+
+    /**
+     * The counter is addressed as the array elements written by the snippets, and
+     * it is incremented as a 32-bit integer whatever the kind of the elements.
+     */
+    private void replaceAtomicIncrement(StructuredGraph graph, InvokeNode invoke, TornadoHighTierContext context) {
+        NodeInputList<ValueNode> arguments = invoke.callTarget().arguments();
+        JavaKind elementKind = invoke.callTarget().targetMethod().getSignature().getParameterType(0, null).getComponentType().getJavaKind();
+        AddressNode address = ((DefaultJavaLoweringProvider) context.getLowerer()).createArrayAddress(graph, arguments.get(0), elementKind, arguments.get(1));
+        SPIRVAtomicArrayNode atomicNode = graph.add(new SPIRVAtomicArrayNode(AtomicArrayNode.Operation.ADD, JavaKind.Int, address, null, ConstantNode.forInt(1, graph)));
+        graph.replaceFixed(invoke, atomicNode);
+    }
+
     private void lowerLocalInvokeNodeNewArray(StructuredGraph graph, int length, JavaKind elementKind, InvokeNode invokeWithNewArray) {
         ConstantNode newLengthNode = ConstantNode.forInt(length, graph);
         ResolvedJavaType elementType = metaAccessProvider.lookupJavaType(elementKind.toJavaClass());
@@ -44,6 +44,7 @@ import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.SPIRVFPBinaryIntrinsic
 import uk.ac.manchester.tornado.drivers.spirv.graal.nodes.SPIRVIntBinaryIntrinsicNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.StoreAtomicIndexedNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.TornadoReduceAddNode;
+import uk.ac.manchester.tornado.runtime.graal.nodes.TornadoReduceBitwiseNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.TornadoReduceMulNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.WriteAtomicNode;
 
@@ -66,9 +67,13 @@ public class ReduceGPUSnippets implements Snippets {
         int localGroupSize = SPIRVOCLIntrinsics.get_local_size(0);
         int groupID = SPIRVOCLIntrinsics.get_group_id(0);
 
-        localArray[localIdx] = inputArray[gidx];
+        int subGroupSize = SPIRVOCLIntrinsics.get_sub_group_size();
+        int partial = SPIRVOCLIntrinsics.sub_group_reduce_add(inputArray[gidx]);
+        if (SPIRVOCLIntrinsics.get_sub_group_local_id() == 0) {
+            localArray[SPIRVOCLIntrinsics.get_sub_group_id()] = partial;
+        }
 
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             SPIRVOCLIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] += localArray[localIdx + stride];
@@ -78,6 +83,14 @@ public class ReduceGPUSnippets implements Snippets {
         SPIRVOCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result += outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -90,9 +103,13 @@ public class ReduceGPUSnippets implements Snippets {
         int localGroupSize = SPIRVOCLIntrinsics.get_local_size(0);
         int groupID = SPIRVOCLIntrinsics.get_group_id(0);
 
-        localArray[localIdx] = value;
+        int subGroupSize = SPIRVOCLIntrinsics.get_sub_group_size();
+        int partial = SPIRVOCLIntrinsics.sub_group_reduce_add(value);
+        if (SPIRVOCLIntrinsics.get_sub_group_local_id() == 0) {
+            localArray[SPIRVOCLIntrinsics.get_sub_group_id()] = partial;
+        }
 
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             SPIRVOCLIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] += localArray[localIdx + stride];
@@ -101,6 +118,14 @@ public class ReduceGPUSnippets implements Snippets {
         SPIRVOCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result += outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -124,6 +149,14 @@ public class ReduceGPUSnippets implements Snippets {
         SPIRVOCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result += outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -148,6 +181,14 @@ public class ReduceGPUSnippets implements Snippets {
         SPIRVOCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = inputArray[myID];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result += outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -159,9 +200,13 @@ public class ReduceGPUSnippets implements Snippets {
         int localGroupSize = SPIRVOCLIntrinsics.get_local_size(0);
         int groupID = SPIRVOCLIntrinsics.get_group_id(0);
 
-        localArray[localIdx] = inputArray[gidx];
+        int subGroupSize = SPIRVOCLIntrinsics.get_sub_group_size();
+        float partial = SPIRVOCLIntrinsics.sub_group_reduce_add(inputArray[gidx]);
+        if (SPIRVOCLIntrinsics.get_sub_group_local_id() == 0) {
+            localArray[SPIRVOCLIntrinsics.get_sub_group_id()] = partial;
+        }
 
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             SPIRVOCLIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] += localArray[localIdx + stride];
@@ -171,6 +216,14 @@ public class ReduceGPUSnippets implements Snippets {
         SPIRVOCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                float result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result += outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -184,8 +237,13 @@ public class ReduceGPUSnippets implements Snippets {
         int groupID = SPIRVOCLIntrinsics.get_group_id(0);
 
         int myID = localIdx + (localGroupSize * groupID);
-        localArray[localIdx] = value;
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        int subGroupSize = SPIRVOCLIntrinsics.get_sub_group_size();
+        float partial = SPIRVOCLIntrinsics.sub_group_reduce_add(value);
+        if (SPIRVOCLIntrinsics.get_sub_group_local_id() == 0) {
+            localArray[SPIRVOCLIntrinsics.get_sub_group_id()] = partial;
+        }
+
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             SPIRVOCLIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] += localArray[localIdx + stride];
@@ -195,6 +253,14 @@ public class ReduceGPUSnippets implements Snippets {
         SPIRVOCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                float result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result += outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -219,6 +285,14 @@ public class ReduceGPUSnippets implements Snippets {
         SPIRVOCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                double result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result += outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -242,6 +316,14 @@ public class ReduceGPUSnippets implements Snippets {
         SPIRVOCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                double result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result += outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -266,6 +348,14 @@ public class ReduceGPUSnippets implements Snippets {
         SPIRVOCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result *= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -289,6 +379,14 @@ public class ReduceGPUSnippets implements Snippets {
         SPIRVOCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result *= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -313,6 +411,14 @@ public class ReduceGPUSnippets implements Snippets {
         SPIRVOCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result *= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -336,6 +442,14 @@ public class ReduceGPUSnippets implements Snippets {
         SPIRVOCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = inputArray[myID];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result *= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -360,6 +474,14 @@ public class ReduceGPUSnippets implements Snippets {
         SPIRVOCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                float result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result *= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -384,6 +506,14 @@ public class ReduceGPUSnippets implements Snippets {
         SPIRVOCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                float result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result *= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -408,6 +538,14 @@ public class ReduceGPUSnippets implements Snippets {
         SPIRVOCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                double result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result *= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -431,6 +569,14 @@ public class ReduceGPUSnippets implements Snippets {
         SPIRVOCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                double result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result *= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -442,8 +588,13 @@ public class ReduceGPUSnippets implements Snippets {
 
         int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
 
-        localArray[localIdx] = inputArray[gidx];
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        int subGroupSize = SPIRVOCLIntrinsics.get_sub_group_size();
+        int partial = SPIRVOCLIntrinsics.sub_group_reduce_max(inputArray[gidx]);
+        if (SPIRVOCLIntrinsics.get_sub_group_local_id() == 0) {
+            localArray[SPIRVOCLIntrinsics.get_sub_group_id()] = partial;
+        }
+
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             SPIRVOCLIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] = TornadoMath.max(localArray[localIdx], localArray[localIdx + stride]);
@@ -453,6 +604,14 @@ public class ReduceGPUSnippets implements Snippets {
         SPIRVOCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.max(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -464,8 +623,13 @@ public class ReduceGPUSnippets implements Snippets {
 
         int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
 
-        localArray[localIdx] = extra;
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        int subGroupSize = SPIRVOCLIntrinsics.get_sub_group_size();
+        int partial = SPIRVOCLIntrinsics.sub_group_reduce_max(extra);
+        if (SPIRVOCLIntrinsics.get_sub_group_local_id() == 0) {
+            localArray[SPIRVOCLIntrinsics.get_sub_group_id()] = partial;
+        }
+
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             SPIRVOCLIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] = TornadoMath.max(localArray[localIdx], localArray[localIdx + stride]);
@@ -475,6 +639,14 @@ public class ReduceGPUSnippets implements Snippets {
         SPIRVOCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.max(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -499,6 +671,14 @@ public class ReduceGPUSnippets implements Snippets {
         SPIRVOCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.max(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -523,6 +703,14 @@ public class ReduceGPUSnippets implements Snippets {
         SPIRVOCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.max(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -535,8 +723,13 @@ public class ReduceGPUSnippets implements Snippets {
 
         float[] localArray = (float[]) NewArrayNode.newUninitializedArray(float.class, LOCAL_WORK_GROUP_SIZE);
 
-        localArray[localIdx] = inputArray[gidx];
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        int subGroupSize = SPIRVOCLIntrinsics.get_sub_group_size();
+        float partial = SPIRVOCLIntrinsics.sub_group_reduce_max(inputArray[gidx]);
+        if (SPIRVOCLIntrinsics.get_sub_group_local_id() == 0) {
+            localArray[SPIRVOCLIntrinsics.get_sub_group_id()] = partial;
+        }
+
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             SPIRVOCLIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] = TornadoMath.max(localArray[localIdx], localArray[localIdx + stride]);
@@ -546,6 +739,14 @@ public class ReduceGPUSnippets implements Snippets {
         SPIRVOCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                float result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.max(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -558,8 +759,13 @@ public class ReduceGPUSnippets implements Snippets {
 
         float[] localArray = (float[]) NewArrayNode.newUninitializedArray(float.class, LOCAL_WORK_GROUP_SIZE);
 
-        localArray[localIdx] = extra;
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        int subGroupSize = SPIRVOCLIntrinsics.get_sub_group_size();
+        float partial = SPIRVOCLIntrinsics.sub_group_reduce_max(extra);
+        if (SPIRVOCLIntrinsics.get_sub_group_local_id() == 0) {
+            localArray[SPIRVOCLIntrinsics.get_sub_group_id()] = partial;
+        }
+
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             SPIRVOCLIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] = TornadoMath.max(localArray[localIdx], localArray[localIdx + stride]);
@@ -569,6 +775,14 @@ public class ReduceGPUSnippets implements Snippets {
         SPIRVOCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                float result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.max(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -591,6 +805,14 @@ public class ReduceGPUSnippets implements Snippets {
         SPIRVOCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                double result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.max(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -613,6 +835,14 @@ public class ReduceGPUSnippets implements Snippets {
         SPIRVOCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                double result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.max(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -625,8 +855,13 @@ public class ReduceGPUSnippets implements Snippets {
 
         int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
 
-        localArray[localIdx] = inputArray[gidx];
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        int subGroupSize = SPIRVOCLIntrinsics.get_sub_group_size();
+        int partial = SPIRVOCLIntrinsics.sub_group_reduce_min(inputArray[gidx]);
+        if (SPIRVOCLIntrinsics.get_sub_group_local_id() == 0) {
+            localArray[SPIRVOCLIntrinsics.get_sub_group_id()] = partial;
+        }
+
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             SPIRVOCLIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] = TornadoMath.min(localArray[localIdx], localArray[localIdx + stride]);
@@ -636,6 +871,14 @@ public class ReduceGPUSnippets implements Snippets {
         SPIRVOCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.min(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -648,8 +891,13 @@ public class ReduceGPUSnippets implements Snippets {
 
         int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
 
-        localArray[localIdx] = extra;
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        int subGroupSize = SPIRVOCLIntrinsics.get_sub_group_size();
+        int partial = SPIRVOCLIntrinsics.sub_group_reduce_min(extra);
+        if (SPIRVOCLIntrinsics.get_sub_group_local_id() == 0) {
+            localArray[SPIRVOCLIntrinsics.get_sub_group_id()] = partial;
+        }
+
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             SPIRVOCLIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] = TornadoMath.min(localArray[localIdx], localArray[localIdx + stride]);
@@ -659,6 +907,14 @@ public class ReduceGPUSnippets implements Snippets {
         SPIRVOCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.min(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -683,6 +939,14 @@ public class ReduceGPUSnippets implements Snippets {
         SPIRVOCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.min(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -707,6 +971,14 @@ public class ReduceGPUSnippets implements Snippets {
         SPIRVOCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.min(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -719,8 +991,13 @@ public class ReduceGPUSnippets implements Snippets {
 
         float[] localArray = (float[]) NewArrayNode.newUninitializedArray(float.class, LOCAL_WORK_GROUP_SIZE);
 
-        localArray[localIdx] = inputArray[gidx];
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        int subGroupSize = SPIRVOCLIntrinsics.get_sub_group_size();
+        float partial = SPIRVOCLIntrinsics.sub_group_reduce_min(inputArray[gidx]);
+        if (SPIRVOCLIntrinsics.get_sub_group_local_id() == 0) {
+            localArray[SPIRVOCLIntrinsics.get_sub_group_id()] = partial;
+        }
+
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             SPIRVOCLIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] = TornadoMath.min(localArray[localIdx], localArray[localIdx + stride]);
@@ -730,6 +1007,14 @@ public class ReduceGPUSnippets implements Snippets {
         SPIRVOCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                float result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.min(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -742,8 +1027,13 @@ public class ReduceGPUSnippets implements Snippets {
 
         float[] localArray = (float[]) NewArrayNode.newUninitializedArray(float.class, LOCAL_WORK_GROUP_SIZE);
 
-        localArray[localIdx] = extra;
-        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+        int subGroupSize = SPIRVOCLIntrinsics.get_sub_group_size();
+        float partial = SPIRVOCLIntrinsics.sub_group_reduce_min(extra);
+        if (SPIRVOCLIntrinsics.get_sub_group_local_id() == 0) {
+            localArray[SPIRVOCLIntrinsics.get_sub_group_id()] = partial;
+        }
+
+        for (int stride = (localGroupSize / subGroupSize / 2); stride > 0; stride /= 2) {
             SPIRVOCLIntrinsics.localBarrier();
             if (localIdx < stride) {
                 localArray[localIdx] = TornadoMath.min(localArray[localIdx], localArray[localIdx + stride]);
@@ -753,6 +1043,14 @@ public class ReduceGPUSnippets implements Snippets {
         SPIRVOCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                float result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.min(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -775,6 +1073,14 @@ public class ReduceGPUSnippets implements Snippets {
         SPIRVOCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                double result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.min(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
@@ -797,9 +1103,446 @@ public class ReduceGPUSnippets implements Snippets {
         SPIRVOCLIntrinsics.globalBarrier();
         if (localIdx == 0) {
             outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                double result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result = TornadoMath.min(result, outputArray[i]);
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntAnd(int[] inputArray, int[] outputArray, int gidx) {
+
+        int localIdx = SPIRVOCLIntrinsics.get_local_id(0);
+        int localGroupSize = SPIRVOCLIntrinsics.get_local_size(0);
+        int groupID = SPIRVOCLIntrinsics.get_group_id(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            SPIRVOCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] &= localArray[localIdx + stride];
+            }
+        }
+
+        SPIRVOCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result &= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntOr(int[] inputArray, int[] outputArray, int gidx) {
+
+        int localIdx = SPIRVOCLIntrinsics.get_local_id(0);
+        int localGroupSize = SPIRVOCLIntrinsics.get_local_size(0);
+        int groupID = SPIRVOCLIntrinsics.get_group_id(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            SPIRVOCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] |= localArray[localIdx + stride];
+            }
+        }
+
+        SPIRVOCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result |= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntXor(int[] inputArray, int[] outputArray, int gidx) {
+
+        int localIdx = SPIRVOCLIntrinsics.get_local_id(0);
+        int localGroupSize = SPIRVOCLIntrinsics.get_local_size(0);
+        int groupID = SPIRVOCLIntrinsics.get_group_id(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            SPIRVOCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] ^= localArray[localIdx + stride];
+            }
+        }
+
+        SPIRVOCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result ^= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntAndCarrierValue(int[] inputArray, int[] outputArray, int gidx, int value) {
+
+        int localIdx = SPIRVOCLIntrinsics.get_local_id(0);
+        int localGroupSize = SPIRVOCLIntrinsics.get_local_size(0);
+        int groupID = SPIRVOCLIntrinsics.get_group_id(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = value;
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            SPIRVOCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] &= localArray[localIdx + stride];
+            }
+        }
+
+        SPIRVOCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result &= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntOrCarrierValue(int[] inputArray, int[] outputArray, int gidx, int value) {
+
+        int localIdx = SPIRVOCLIntrinsics.get_local_id(0);
+        int localGroupSize = SPIRVOCLIntrinsics.get_local_size(0);
+        int groupID = SPIRVOCLIntrinsics.get_group_id(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = value;
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            SPIRVOCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] |= localArray[localIdx + stride];
+            }
+        }
+
+        SPIRVOCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result |= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntXorCarrierValue(int[] inputArray, int[] outputArray, int gidx, int value) {
+
+        int localIdx = SPIRVOCLIntrinsics.get_local_id(0);
+        int localGroupSize = SPIRVOCLIntrinsics.get_local_size(0);
+        int groupID = SPIRVOCLIntrinsics.get_group_id(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = value;
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            SPIRVOCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] ^= localArray[localIdx + stride];
+            }
+        }
+
+        SPIRVOCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                int result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result ^= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongAnd(long[] inputArray, long[] outputArray, int gidx) {
+
+        int localIdx = SPIRVOCLIntrinsics.get_local_id(0);
+        int localGroupSize = SPIRVOCLIntrinsics.get_local_size(0);
+        int groupID = SPIRVOCLIntrinsics.get_group_id(0);
+
+        long[] localArray = (long[]) NewArrayNode.newUninitializedArray(long.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            SPIRVOCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] &= localArray[localIdx + stride];
+            }
+        }
+
+        SPIRVOCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result &= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongOr(long[] inputArray, long[] outputArray, int gidx) {
+
+        int localIdx = SPIRVOCLIntrinsics.get_local_id(0);
+        int localGroupSize = SPIRVOCLIntrinsics.get_local_size(0);
+        int groupID = SPIRVOCLIntrinsics.get_group_id(0);
+
+        long[] localArray = (long[]) NewArrayNode.newUninitializedArray(long.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            SPIRVOCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] |= localArray[localIdx + stride];
+            }
+        }
+
+        SPIRVOCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result |= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
         }
     }
 
+    @Snippet
+    public static void partialReduceLongXor(long[] inputArray, long[] outputArray, int gidx) {
+
+        int localIdx = SPIRVOCLIntrinsics.get_local_id(0);
+        int localGroupSize = SPIRVOCLIntrinsics.get_local_size(0);
+        int groupID = SPIRVOCLIntrinsics.get_group_id(0);
+
+        long[] localArray = (long[]) NewArrayNode.newUninitializedArray(long.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            SPIRVOCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] ^= localArray[localIdx + stride];
+            }
+        }
+
+        SPIRVOCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result ^= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongAndCarrierValue(long[] inputArray, long[] outputArray, int gidx, long value) {
+
+        int localIdx = SPIRVOCLIntrinsics.get_local_id(0);
+        int localGroupSize = SPIRVOCLIntrinsics.get_local_size(0);
+        int groupID = SPIRVOCLIntrinsics.get_group_id(0);
+
+        int myID = localIdx + (localGroupSize * groupID);
+
+        inputArray[myID] = value;
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            SPIRVOCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                inputArray[myID] &= inputArray[myID + stride];
+            }
+        }
+
+        SPIRVOCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = inputArray[myID];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result &= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongOrCarrierValue(long[] inputArray, long[] outputArray, int gidx, long value) {
+
+        int localIdx = SPIRVOCLIntrinsics.get_local_id(0);
+        int localGroupSize = SPIRVOCLIntrinsics.get_local_size(0);
+        int groupID = SPIRVOCLIntrinsics.get_group_id(0);
+
+        int myID = localIdx + (localGroupSize * groupID);
+
+        inputArray[myID] = value;
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            SPIRVOCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                inputArray[myID] |= inputArray[myID + stride];
+            }
+        }
+
+        SPIRVOCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = inputArray[myID];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result |= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongXorCarrierValue(long[] inputArray, long[] outputArray, int gidx, long value) {
+
+        int localIdx = SPIRVOCLIntrinsics.get_local_id(0);
+        int localGroupSize = SPIRVOCLIntrinsics.get_local_size(0);
+        int groupID = SPIRVOCLIntrinsics.get_group_id(0);
+
+        int myID = localIdx + (localGroupSize * groupID);
+
+        inputArray[myID] = value;
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            SPIRVOCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                inputArray[myID] ^= inputArray[myID + stride];
+            }
+        }
+
+        SPIRVOCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = inputArray[myID];
+            int numGroups = SPIRVOCLIntrinsics.get_global_size(0) / localGroupSize;
+            if (isLastGroup(outputArray, numGroups)) {
+                long result = outputArray[0];
+                for (int i = 1; i <= numGroups; i++) {
+                    result ^= outputArray[i];
+                }
+                outputArray[0] = result;
+            }
+        }
+    }
+
+    /**
+     * Counts the work-groups that stored their partial result in the element after
+     * the partial results. The counter is zero when the kernel starts.
+     *
+     * <p>
+     * The fence before the increment publishes the partial result of the
+     * work-group. The fence after the increment of the last work-group keeps its
+     * loads of the partial results from returning stale values. The fences are
+     * {@code OpMemoryBarrier} instructions with the scope of the device on the
+     * cross-work-group memory.
+     * </p>
+     *
+     * @return true for the last work-group, which folds the partial results of all
+     *     the work-groups into the first element of the output array.
+     */
+    private static boolean isLastGroup(int[] outputArray, int numGroups) {
+        SPIRVOCLIntrinsics.globalMemFence();
+        if (SPIRVOCLIntrinsics.atomic_inc(outputArray, numGroups + 1) == numGroups - 1) {
+            SPIRVOCLIntrinsics.globalMemFence();
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isLastGroup(long[] outputArray, int numGroups) {
+        SPIRVOCLIntrinsics.globalMemFence();
+        if (SPIRVOCLIntrinsics.atomic_inc(outputArray, numGroups + 1) == numGroups - 1) {
+            SPIRVOCLIntrinsics.globalMemFence();
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isLastGroup(float[] outputArray, int numGroups) {
+        SPIRVOCLIntrinsics.globalMemFence();
+        if (SPIRVOCLIntrinsics.atomic_inc(outputArray, numGroups + 1) == numGroups - 1) {
+            SPIRVOCLIntrinsics.globalMemFence();
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isLastGroup(double[] outputArray, int numGroups) {
+        SPIRVOCLIntrinsics.globalMemFence();
+        if (SPIRVOCLIntrinsics.atomic_inc(outputArray, numGroups + 1) == numGroups - 1) {
+            SPIRVOCLIntrinsics.globalMemFence();
+            return true;
+        }
+        return false;
+    }
+
     protected static class Tuple2<T0, T1> {
         T0 t0;
         T1 t1;
@@ -859,6 +1602,20 @@ public class ReduceGPUSnippets implements Snippets {
         private final Tuple2<Class<? extends ReduceGPUSnippets>, String> partialReduceMinDoubleSnippet = new Tuple2<>(ReduceGPUSnippets.class, "partialReduceDoubleMin");
         private final Tuple2<Class<? extends ReduceGPUSnippets>, String> partialReduceMinDoubleSnippetCarrierValue = new Tuple2<>(ReduceGPUSnippets.class, "partialReduceDoubleMinCarrierValue");
 
+        // Bitwise
+        private final Tuple2<Class<? extends ReduceGPUSnippets>, String> partialReduceIntAndSnippet = new Tuple2<>(ReduceGPUSnippets.class, "partialReduceIntAnd");
+        private final Tuple2<Class<? extends ReduceGPUSnippets>, String> partialReduceIntAndSnippetCarrierValue = new Tuple2<>(ReduceGPUSnippets.class, "partialReduceIntAndCarrierValue");
+        private final Tuple2<Class<? extends ReduceGPUSnippets>, String> partialReduceIntOrSnippet = new Tuple2<>(ReduceGPUSnippets.class, "partialReduceIntOr");
+        private final Tuple2<Class<? extends ReduceGPUSnippets>, String> partialReduceIntOrSnippetCarrierValue = new Tuple2<>(ReduceGPUSnippets.class, "partialReduceIntOrCarrierValue");
+        private final Tuple2<Class<? extends ReduceGPUSnippets>, String> partialReduceIntXorSnippet = new Tuple2<>(ReduceGPUSnippets.class, "partialReduceIntXor");
+        private final Tuple2<Class<? extends ReduceGPUSnippets>, String> partialReduceIntXorSnippetCarrierValue = new Tuple2<>(ReduceGPUSnippets.class, "partialReduceIntXorCarrierValue");
+        private final Tuple2<Class<? extends ReduceGPUSnippets>, String> partialReduceLongAndSnippet = new Tuple2<>(ReduceGPUSnippets.class, "partialReduceLongAnd");
+        private final Tuple2<Class<? extends ReduceGPUSnippets>, String> partialReduceLongAndSnippetCarrierValue = new Tuple2<>(ReduceGPUSnippets.class, "partialReduceLongAndCarrierValue");
+        private final Tuple2<Class<? extends ReduceGPUSnippets>, String> partialReduceLongOrSnippet = new Tuple2<>(ReduceGPUSnippets.class, "partialReduceLongOr");
+        private final Tuple2<Class<? extends ReduceGPUSnippets>, String> partialReduceLongOrSnippetCarrierValue = new Tuple2<>(ReduceGPUSnippets.class, "partialReduceLongOrCarrierValue");
+        private final Tuple2<Class<? extends ReduceGPUSnippets>, String> partialReduceLongXorSnippet = new Tuple2<>(ReduceGPUSnippets.class, "partialReduceLongXor");
+        private final Tuple2<Class<? extends ReduceGPUSnippets>, String> partialReduceLongXorSnippetCarrierValue = new Tuple2<>(ReduceGPUSnippets.class, "partialReduceLongXorCarrierValue");
+
         Providers providers;
 
         public Templates(OptionValues options, Providers providers) {
@@ -893,6 +1650,22 @@ public class ReduceGPUSnippets implements Snippets {
             }
         }
 
+        private SnippetTemplate.SnippetInfo getBitwiseSnippetInteger(TornadoReduceBitwiseNode value, ValueNode extra) {
+            return switch (value.getOperation()) {
+                case AND -> (extra == null) ? snippet(partialReduceIntAndSnippet) : snippet(partialReduceIntAndSnippetCarrierValue);
+                case OR -> (extra == null) ? snippet(partialReduceIntOrSnippet) : snippet(partialReduceIntOrSnippetCarrierValue);
+                case XOR -> (extra == null) ? snippet(partialReduceIntXorSnippet) : snippet(partialReduceIntXorSnippetCarrierValue);
+            };
+        }
+
+        private SnippetTemplate.SnippetInfo getBitwiseSnippetLong(TornadoReduceBitwiseNode value, ValueNode extra) {
+            return switch (value.getOperation()) {
+                case AND -> (extra == null) ? snippet(partialReduceLongAndSnippet) : snippet(partialReduceLongAndSnippetCarrierValue);
+                case OR -> (extra == null) ? snippet(partialReduceLongOrSnippet) : snippet(partialReduceLongOrSnippetCarrierValue);
+                case XOR -> (extra == null) ? snippet(partialReduceLongXorSnippet) : snippet(partialReduceLongXorSnippetCarrierValue);
+            };
+        }
+
         @Override
         public SnippetTemplate.SnippetInfo inferIntSnippet(ValueNode value, ValueNode extra) {
             SnippetTemplate.SnippetInfo snippet;
@@ -904,6 +1677,8 @@ public class ReduceGPUSnippets implements Snippets {
             } else if (value instanceof SPIRVIntBinaryIntrinsicNode) {
                 SPIRVIntBinaryIntrinsicNode op = (SPIRVIntBinaryIntrinsicNode) value;
                 snippet = getSnippetFromOCLBinaryNodeInteger(op, extra);
+            } else if (value instanceof TornadoReduceBitwiseNode bitwise) {
+                snippet = getBitwiseSnippetInteger(bitwise, extra);
             } else {
                 throw new RuntimeException("Reduce Operation no supported yet: snippet not installed");
             }
@@ -920,6 +1695,8 @@ public class ReduceGPUSnippets implements Snippets {
             } else if (value instanceof SPIRVIntBinaryIntrinsicNode) {
                 SPIRVIntBinaryIntrinsicNode op = (SPIRVIntBinaryIntrinsicNode) value;
                 snippet = getSnippetFromOCLBinaryNodeLong(op, extra);
+            } else if (value instanceof TornadoReduceBitwiseNode bitwise) {
+                snippet = getBitwiseSnippetLong(bitwise, extra);
             } else {
                 throw new RuntimeException("Reduce Operation no supported yet: snippet not installed");
             }
@@ -0,0 +1,643 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.matrix;
+
+import static java.lang.foreign.ValueLayout.JAVA_BYTE;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import uk.ac.manchester.tornado.api.types.arrays.DoubleArray;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.sparse.CSRMatrixFloat;
+import uk.ac.manchester.tornado.matrix.SparseMatrixUtils.CSRMatrix;
+
+/**
+ * Loader of sparse matrices in the Matrix Market coordinate format.
+ *
+ * <p>
+ * The file is memory-mapped and split in chunks of lines that are parsed in
+ * parallel, directly from the bytes of the file, without creating objects per
+ * entry. The CSR matrix is built with a counting sort:
+ * </p>
+ * <ol>
+ * <li>The first pass builds the histogram of the rows of each chunk, as the
+ * sorted list of the rows of the chunk with their number of entries.</li>
+ * <li>The histograms are added into the row offsets, which are scanned.</li>
+ * <li>The histograms are scanned in the order of the chunks into the position
+ * of the first entry of each chunk in each of its rows.</li>
+ * <li>The second pass parses the entries again and scatters them to their rows,
+ * from the positions of the chunk, so the threads do not share any counter.</li>
+ * <li>The columns of each row are sorted.</li>
+ * </ol>
+ *
+ * <p>
+ * The {@code real}, {@code integer} and {@code pattern} fields, and the
+ * {@code general}, {@code symmetric} and {@code skew-symmetric} symmetries are
+ * supported. The symmetric matrices are expanded. The values of the
+ * {@code pattern} matrices are pseudo-random values in [0, 256), derived from
+ * the coordinates of the entries, so the mirrored entries have the same value.
+ * Duplicated entries are kept, in the order of the file.
+ * </p>
+ */
+public final class MatrixMarketLoader {
+
+    /**
+     * Default approximate number of bytes of each chunk of the file parsed by a
+     * thread.
+     */
+    public static final int CHUNK_BYTES = 4 * 1024 * 1024;
+
+    /**
+     * Rows shorter than this are sorted in-place with an insertion sort.
+     */
+    private static final int INSERTION_SORT_LENGTH = 32;
+
+    /**
+     * Number of rows sorted by each parallel task.
+     */
+    private static final int ROWS_PER_SORT_TASK = 4096;
+
+    private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+    private MatrixMarketLoader() {
+    }
+
+    private enum Field {
+        REAL, INTEGER, PATTERN
+    }
+
+    private enum Symmetry {
+        GENERAL, SYMMETRIC, SKEW_SYMMETRIC
+    }
+
+    private record Header(Field field, Symmetry symmetry, int numRows, int numColumns, long numEntries, long dataStart) {
+    }
+
+    /**
+     * Values of the matrix, stored as floats or doubles.
+     */
+    private interface Values {
+        double get(int index);
+
+        void set(int index, double value);
+    }
+
+    /**
+     * Histogram of the rows of the entries of a chunk, including the mirrored
+     * entries. The first pass appends the row of each entry, then
+     * {@link #countRows()} keeps the distinct rows with their number of entries,
+     * which are replaced by the positions of the first entry of the chunk in each
+     * row before the second pass.
+     */
+    private static final class ChunkRows {
+        private int[] rows = new int[1024];
+        private int[] positions;
+        private int size;
+        private long numRowEntries;
+
+        void add(int row) {
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, 2 * size);
+            }
+            rows[size++] = row;
+        }
+
+        void countRows() {
+            numRowEntries = size;
+            Arrays.sort(rows, 0, size);
+            int[] counts = new int[size];
+            int distinct = 0;
+            for (int k = 0; k < size; k++) {
+                if (distinct > 0 && rows[distinct - 1] == rows[k]) {
+                    counts[distinct - 1]++;
+                } else {
+                    rows[distinct] = rows[k];
+                    counts[distinct++] = 1;
+                }
+            }
+            rows = Arrays.copyOf(rows, distinct);
+            positions = Arrays.copyOf(counts, distinct);
+            size = distinct;
+        }
+
+        /**
+         * @return the position of the next entry of the chunk in the row.
+         */
+        int next(int row) {
+            return positions[Arrays.binarySearch(rows, row)]++;
+        }
+    }
+
+    /**
+     * Loads a matrix with float values.
+     */
+    public static CSRMatrix<FloatArray> loadFloat(Path path) throws IOException {
+        return loadFloat(path, CHUNK_BYTES);
+    }
+
+    /**
+     * Loads a matrix with float values, parsing the file in chunks of about
+     * {@code chunkBytes} bytes.
+     */
+    public static CSRMatrix<FloatArray> loadFloat(Path path, int chunkBytes) throws IOException {
+        CSRMatrix<FloatArray> matrix = new CSRMatrix<>();
+        load(path, chunkBytes, matrix, floatValues(matrix));
+        return matrix;
+    }
+
+    /**
+     * Loads a matrix with double values.
+     */
+    public static CSRMatrix<DoubleArray> loadDouble(Path path) throws IOException {
+        return loadDouble(path, CHUNK_BYTES);
+    }
+
+    /**
+     * Loads a matrix with double values, parsing the file in chunks of about
+     * {@code chunkBytes} bytes.
+     */
+    public static CSRMatrix<DoubleArray> loadDouble(Path path, int chunkBytes) throws IOException {
+        CSRMatrix<DoubleArray> matrix = new CSRMatrix<>();
+        load(path, chunkBytes, matrix, nnz -> {
+            matrix.vals = new DoubleArray(nnz);
+            return new Values() {
+                @Override
+                public double get(int index) {
+                    return matrix.vals.get(index);
+                }
+
+                @Override
+                public void set(int index, double value) {
+                    matrix.vals.set(index, value);
+                }
+            };
+        });
+        return matrix;
+    }
+
+    /**
+     * Loads a matrix with float values as a {@link CSRMatrixFloat}, which can be
+     * used by the device SpMV of
+     * {@link uk.ac.manchester.tornado.api.algorithms.SparseLinearAlgebra}.
+     */
+    public static CSRMatrixFloat loadCSRMatrixFloat(Path path) throws IOException {
+        CSRMatrix<FloatArray> matrix = new CSRMatrix<>();
+        Header header = load(path, CHUNK_BYTES, matrix, floatValues(matrix));
+        return new CSRMatrixFloat(matrix.size, header.numColumns(), matrix.rows, matrix.cols, matrix.vals);
+    }
+
+    private interface ValuesAllocator {
+        Values allocate(int numNonZeros);
+    }
+
+    private static ValuesAllocator floatValues(CSRMatrix<FloatArray> matrix) {
+        return nnz -> {
+            matrix.vals = new FloatArray(nnz);
+            return new Values() {
+                @Override
+                public double get(int index) {
+                    return matrix.vals.get(index);
+                }
+
+                @Override
+                public void set(int index, double value) {
+                    matrix.vals.set(index, (float) value);
+                }
+            };
+        };
+    }
+
+    private static Header load(Path path, int chunkBytes, CSRMatrix<?> matrix, ValuesAllocator allocator) throws IOException {
+        if (chunkBytes <= 0) {
+            throw new IllegalArgumentException("The size of the chunks must be positive: " + chunkBytes);
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ); Arena arena = Arena.ofShared()) {
+            MemorySegment file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            Header header = parseHeader(file);
+            long[] chunks = splitInChunks(file, header.dataStart(), chunkBytes);
+            final int numChunks = chunks.length - 1;
+            final int numRows = header.numRows();
+
+            // Build the histogram of the rows of each chunk
+            ChunkRows[] chunkRows = new ChunkRows[numChunks];
+            long[] entriesPerChunk = new long[numChunks];
+            parallel(numChunks, chunk -> {
+                chunkRows[chunk] = new ChunkRows();
+                entriesPerChunk[chunk] = parseChunk(file, chunks[chunk], chunks[chunk + 1], header, chunkRows[chunk], null, null);
+                chunkRows[chunk].countRows();
+            });
+            long numEntries = Arrays.stream(entriesPerChunk).sum();
+            if (numEntries != header.numEntries()) {
+                throw new IOException("The Matrix Market file " + path + " has " + numEntries + " entries, but its header declares " + header.numEntries());
+            }
+            long numNonZeros = Arrays.stream(chunkRows).mapToLong(histogram -> histogram.numRowEntries).sum();
+            if (numNonZeros > Integer.MAX_VALUE - 8) {
+                throw new IOException("The Matrix Market file " + path + " has too many non-zeros for a native array");
+            }
+
+            // Add the histograms in rowCounts[row + 1] and scan them into the row offsets
+            int[] rowCounts = new int[numRows + 1];
+            for (ChunkRows histogram : chunkRows) {
+                for (int k = 0; k < histogram.size; k++) {
+                    rowCounts[histogram.rows[k] + 1] += histogram.positions[k];
+                }
+            }
+            IntArray rowOffsets = new IntArray(numRows + 1);
+            for (int i = 1; i <= numRows; i++) {
+                rowCounts[i] += rowCounts[i - 1];
+                rowOffsets.set(i, rowCounts[i]);
+            }
+
+            // Position of the first entry of each chunk in its rows, in the order of the chunks
+            for (ChunkRows histogram : chunkRows) {
+                for (int k = 0; k < histogram.size; k++) {
+                    int row = histogram.rows[k];
+                    int count = histogram.positions[k];
+                    histogram.positions[k] = rowCounts[row];
+                    rowCounts[row] += count;
+                }
+            }
+
+            // Scatter the entries to their rows
+            IntArray columns = new IntArray((int) numNonZeros);
+            Values values = allocator.allocate((int) numNonZeros);
+            parallel(numChunks, chunk -> parseChunk(file, chunks[chunk], chunks[chunk + 1], header, chunkRows[chunk], columns, values));
+
+            parallel((numRows + ROWS_PER_SORT_TASK - 1) / ROWS_PER_SORT_TASK, task -> {
+                for (int row = task * ROWS_PER_SORT_TASK; row < Math.min(numRows, (task + 1) * ROWS_PER_SORT_TASK); row++) {
+                    sortRow(rowOffsets.get(row), rowOffsets.get(row + 1), columns, values);
+                }
+            });
+
+            matrix.n = (int) numNonZeros;
+            matrix.size = numRows;
+            matrix.rows = rowOffsets;
+            matrix.cols = columns;
+            return header;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void parallel(int numTasks, IntConsumer task) {
+        IntStream.range(0, numTasks).parallel().forEach(task);
+    }
+
+    private static Header parseHeader(MemorySegment file) throws IOException {
+        Parser parser = new Parser(file, 0, file.byteSize());
+        String banner = parser.readLine().trim().toLowerCase(Locale.ROOT);
+        String[] options = banner.split("\\s+");
+        if (options.length < 5 || !options[0].equals("%%matrixmarket") || !options[1].equals("matrix")) {
+            throw new IOException("The file is not a Matrix Market matrix: " + banner);
+        }
+        if (!options[2].equals("coordinate")) {
+            throw new IOException("Only the coordinate format of Matrix Market is supported: " + options[2]);
+        }
+        Field field = switch (options[3]) {
+            case "real", "double" -> Field.REAL;
+            case "integer" -> Field.INTEGER;
+            case "pattern" -> Field.PATTERN;
+            default -> throw new IOException("Unsupported Matrix Market field: " + options[3]);
+        };
+        Symmetry symmetry = switch (options[4]) {
+            case "general" -> Symmetry.GENERAL;
+            case "symmetric" -> Symmetry.SYMMETRIC;
+            case "skew-symmetric" -> Symmetry.SKEW_SYMMETRIC;
+            default -> throw new IOException("Unsupported Matrix Market symmetry: " + options[4]);
+        };
+
+        while (parser.skipBlankOrCommentLine()) {
+            // Skip the comments
+        }
+        long numRows = parser.parseLong();
+        long numColumns = parser.parseLong();
+        long numEntries = parser.parseLong();
+        parser.skipLine();
+        if (numRows > Integer.MAX_VALUE - 1 || numColumns > Integer.MAX_VALUE) {
+            throw new IOException("The matrix is too large: " + numRows + " x " + numColumns);
+        }
+        return new Header(field, symmetry, (int) numRows, (int) numColumns, numEntries, parser.position);
+    }
+
+    /**
+     * Splits the entries in chunks of about {@code chunkBytes}. Each chunk starts
+     * at the beginning of a line.
+     */
+    private static long[] splitInChunks(MemorySegment file, long dataStart, int chunkBytes) {
+        final long size = file.byteSize();
+        int numChunks = (int) Math.max(1, (size - dataStart + chunkBytes - 1) / chunkBytes);
+        long[] chunks = new long[numChunks + 1];
+        chunks[0] = dataStart;
+        for (int i = 1; i < numChunks; i++) {
+            long position = Math.max(chunks[i - 1], dataStart + (long) i * chunkBytes);
+            while (position < size && file.get(JAVA_BYTE, position - 1) != '\n') {
+                position++;
+            }
+            chunks[i] = position;
+        }
+        chunks[numChunks] = size;
+        return chunks;
+    }
+
+    /**
+     * Parses the entries of a chunk. The first pass, without columns and values,
+     * records the rows of the entries in the histogram of the chunk; the second
+     * pass stores the entries at the positions of the chunk in their rows.
+     *
+     * @return the number of entries of the chunk.
+     */
+    private static long parseChunk(MemorySegment file, long start, long end, Header header, ChunkRows chunkRows, IntArray columns, Values values) {
+        Parser parser = new Parser(file, start, end);
+        final boolean mirrored = header.symmetry() != Symmetry.GENERAL;
+        long numEntries = 0;
+        try {
+            while (parser.position < end) {
+                if (parser.skipBlankOrCommentLine()) {
+                    continue;
+                }
+                long rowIndex = parser.parseLong() - 1;
+                long columnIndex = parser.parseLong() - 1;
+                if (rowIndex < 0 || rowIndex >= header.numRows() || columnIndex < 0 || columnIndex >= header.numColumns()) {
+                    throw new IOException("Entry (" + (rowIndex + 1) + ", " + (columnIndex + 1) + ") out of bounds at byte " + parser.position);
+                }
+                int row = (int) rowIndex;
+                int column = (int) columnIndex;
+                boolean mirror = mirrored && row != column;
+                if (columns == null) {
+                    chunkRows.add(row);
+                    if (mirror) {
+                        chunkRows.add(column);
+                    }
+                } else {
+                    double value = header.field() == Field.PATTERN ? patternValue(row, column) : parser.parseDouble();
+                    int position = chunkRows.next(row);
+                    columns.set(position, column);
+                    values.set(position, value);
+                    if (mirror) {
+                        position = chunkRows.next(column);
+                        columns.set(position, row);
+                        values.set(position, header.symmetry() == Symmetry.SKEW_SYMMETRIC ? -value : value);
+                    }
+                }
+                parser.skipLine();
+                numEntries++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return numEntries;
+    }
+
+    /**
+     * Pseudo-random value in [0, 256) of an entry of a pattern matrix. It only
+     * depends on the coordinates, so it does not depend on the order of the
+     * parsing, and the value of (i, j) and (j, i) is the same.
+     */
+    private static double patternValue(int row, int column) {
+        long z = ((long) Math.min(row, column) << 32 | Math.max(row, column)) + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z = z ^ (z >>> 31);
+        return (z >>> 40) * 0x1.0p-24 * 256.0;
+    }
+
+    private static void sortRow(int start, int end, IntArray columns, Values values) {
+        boolean sorted = true;
+        for (int k = start + 1; k < end && sorted; k++) {
+            sorted = columns.get(k - 1) <= columns.get(k);
+        }
+        if (sorted) {
+            return;
+        }
+        if (end - start <= INSERTION_SORT_LENGTH) {
+            for (int k = start + 1; k < end; k++) {
+                int column = columns.get(k);
+                double value = values.get(k);
+                int j = k - 1;
+                while (j >= start && columns.get(j) > column) {
+                    columns.set(j + 1, columns.get(j));
+                    values.set(j + 1, values.get(j));
+                    j--;
+                }
+                columns.set(j + 1, column);
+                values.set(j + 1, value);
+            }
+            return;
+        }
+        // Sort the columns with the position of the entries in the low bits, and gather the values
+        long[] keys = new long[end - start];
+        double[] rowValues = new double[end - start];
+        for (int k = start; k < end; k++) {
+            keys[k - start] = ((long) columns.get(k) << 32) | (k - start);
+            rowValues[k - start] = values.get(k);
+        }
+        Arrays.sort(keys);
+        for (int k = start; k < end; k++) {
+            columns.set(k, (int) (keys[k - start] >>> 32));
+            values.set(k, rowValues[(int) keys[k - start]]);
+        }
+    }
+
+    /**
+     * Parser of the tokens of a range of the file. The numbers are parsed from
+     * the bytes, without creating strings.
+     */
+    private static final class Parser {
+        private final MemorySegment file;
+        private final long end;
+        private long position;
+
+        Parser(MemorySegment file, long start, long end) {
+            this.file = file;
+            this.position = start;
+            this.end = end;
+        }
+
+        private int peek() {
+            return position < end ? file.get(JAVA_BYTE, position) : '\n';
+        }
+
+        private static boolean isDigit(int c) {
+            return c >= '0' && c <= '9';
+        }
+
+        private static boolean isSpace(int c) {
+            return c == ' ' || c == '\t';
+        }
+
+        private static boolean isEndOfToken(int c) {
+            return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+        }
+
+        private void skipSpaces() {
+            while (position < end && isSpace(peek())) {
+                position++;
+            }
+        }
+
+        void skipLine() {
+            while (position < end && file.get(JAVA_BYTE, position) != '\n') {
+                position++;
+            }
+            position++;
+        }
+
+        String readLine() {
+            long start = position;
+            skipLine();
+            long length = Math.min(position, end) - start;
+            return new String(file.asSlice(start, length).toArray(JAVA_BYTE), StandardCharsets.US_ASCII);
+        }
+
+        /**
+         * Skips the line if it is blank or a comment.
+         *
+         * @return true if the line was skipped.
+         */
+        boolean skipBlankOrCommentLine() {
+            if (position >= end) {
+                return false;
+            }
+            skipSpaces();
+            int c = peek();
+            if (c == '\n' || c == '\r' || c == '%') {
+                skipLine();
+                return true;
+            }
+            return false;
+        }
+
+        long parseLong() throws IOException {
+            skipSpaces();
+            if (peek() == '+') {
+                position++;
+            }
+            if (!isDigit(peek())) {
+                throw new IOException("Expected an integer at byte " + position);
+            }
+            long value = 0;
+            while (isDigit(peek())) {
+                value = value * 10 + (peek() - '0');
+                if (value > Integer.MAX_VALUE * 4L) {
+                    throw new IOException("Integer too large at byte " + position);
+                }
+                position++;
+            }
+            return value;
+        }
+
+        /**
+         * Parses a decimal floating-point number. The number is computed exactly
+         * from its digits when they fit in the mantissa of a double and the power
+         * of ten is exact (up to 15 significant digits and exponents up to 22),
+         * which is the case of most of the matrices. The other numbers are parsed
+         * by {@link Double#parseDouble}.
+         */
+        double parseDouble() throws IOException {
+            skipSpaces();
+            final long start = position;
+            boolean negative = false;
+            if (peek() == '-' || peek() == '+') {
+                negative = peek() == '-';
+                position++;
+            }
+            long mantissa = 0;
+            int significantDigits = 0;
+            int exponent = 0;
+            boolean hasDigits = false;
+            boolean truncated = false;
+            while (isDigit(peek())) {
+                hasDigits = true;
+                if (significantDigits < 18) {
+                    mantissa = mantissa * 10 + (peek() - '0');
+                    significantDigits += mantissa != 0 ? 1 : 0;
+                } else {
+                    exponent++;
+                    truncated |= peek() != '0';
+                }
+                position++;
+            }
+            if (peek() == '.') {
+                position++;
+                while (isDigit(peek())) {
+                    hasDigits = true;
+                    if (significantDigits < 18) {
+                        mantissa = mantissa * 10 + (peek() - '0');
+                        significantDigits += mantissa != 0 ? 1 : 0;
+                        exponent--;
+                    } else {
+                        truncated |= peek() != '0';
+                    }
+                    position++;
+                }
+            }
+            int c = peek();
+            if (hasDigits && (c == 'e' || c == 'E' || c == 'd' || c == 'D')) {
+                position++;
+                boolean negativeExponent = false;
+                if (peek() == '-' || peek() == '+') {
+                    negativeExponent = peek() == '-';
+                    position++;
+                }
+                if (!isDigit(peek())) {
+                    throw new IOException("Malformed exponent at byte " + position);
+                }
+                int value = 0;
+                while (isDigit(peek())) {
+                    value = Math.min(100000, value * 10 + (peek() - '0'));
+                    position++;
+                }
+                exponent += negativeExponent ? -value : value;
+            }
+            if (hasDigits && isEndOfToken(peek())) {
+                if (mantissa == 0) {
+                    return negative ? -0.0 : 0.0;
+                }
+                if (!truncated && significantDigits <= 15 && exponent >= -22 && exponent <= 22) {
+                    double value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+                    return negative ? -value : value;
+                }
+            }
+            return parseDoubleToken(start);
+        }
+
+        private double parseDoubleToken(long start) throws IOException {
+            while (!isEndOfToken(peek())) {
+                position++;
+            }
+            String token = new String(file.asSlice(start, position - start).toArray(JAVA_BYTE), StandardCharsets.US_ASCII);
+            try {
+                return Double.parseDouble(token.replace('d', 'e').replace('D', 'e'));
+            } catch (NumberFormatException e) {
+                throw new IOException("Malformed number at byte " + start + ": " + token);
+            }
+        }
+    }
+}
@@ -1,10 +1,13 @@
 open module tornado.runtime {
     requires java.logging;
+    requires java.management;
+    requires jdk.httpserver;
     requires jdk.unsupported;
 
     requires transitive jdk.internal.vm.ci;
     requires transitive jdk.internal.vm.compiler;
     requires transitive tornado.api;
+    requires transitive jdk.jfr;
 
     exports uk.ac.manchester.tornado.runtime;
     exports uk.ac.manchester.tornado.runtime.analyzer;
@@ -24,6 +27,9 @@ open module tornado.runtime {
     exports uk.ac.manchester.tornado.runtime.graal.phases.lir;
     exports uk.ac.manchester.tornado.runtime.graph;
     exports uk.ac.manchester.tornado.runtime.graph.nodes;
+    exports uk.ac.manchester.tornado.runtime.host;
+    exports uk.ac.manchester.tornado.runtime.jfr;
+    exports uk.ac.manchester.tornado.runtime.metrics;
     exports uk.ac.manchester.tornado.runtime.profiler;
     exports uk.ac.manchester.tornado.runtime.sketcher;
     exports uk.ac.manchester.tornado.runtime.tasks;
@@ -23,9 +23,75 @@
  */
 package uk.ac.manchester.tornado.runtime;
 
+import java.lang.reflect.Method;
+import java.util.Set;
+
 import jdk.vm.ci.meta.ResolvedJavaMethod;
+import uk.ac.manchester.tornado.runtime.common.FusedTaskProvider;
 import uk.ac.manchester.tornado.runtime.common.ParallelAnnotationProvider;
 
 public interface ASMClassVisitorProvider {
+
+    /**
+     * Instantiates the implementation set with
+     * {@code -Dtornado.load.annotation.implementation}.
+     *
+     * @return the provider, or {@code null} if it is not available.
+     */
+    static ASMClassVisitorProvider loadImplementation() {
+        String tornadoAnnotationImplementation = System.getProperty("tornado.load.annotation.implementation");
+        if (tornadoAnnotationImplementation == null) {
+            return null;
+        }
+        try {
+            Class<?> klass = Class.forName(tornadoAnnotationImplementation);
+            return (ASMClassVisitorProvider) klass.getConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            return null;
+        }
+    }
+
     ParallelAnnotationProvider[] getParallelAnnotations(ResolvedJavaMethod method);
+
+    /**
+     * Builds a class, named {@code className}, that contains a copy of the given
+     * static method in which the outermost {@code @Parallel} loop is distributed
+     * across workers. The copy takes an extra trailing
+     * {@link java.util.function.IntBinaryOperator} parameter that hands out the
+     * iterations to execute: it is called with the initial index and the loop
+     * step before entering the loop, and with the current index and the loop step
+     * instead of each increment.
+     *
+     * @param method
+     *     Static method to rewrite.
+     * @param className
+     *     Internal name of the class to build, in the package of the declaring
+     *     class of the method.
+     * @return the class file, or {@code null} if the method cannot be executed
+     *     in parallel on the host.
+     */
+    byte[] createParallelLoopClass(Method method, String className);
+
+    /**
+     * Fuses consecutive tasks whose {@code @Parallel} loops iterate over the
+     * same domain into a single static method of a new class, named
+     * {@code className}. Every iteration of the fused loop runs the loop bodies
+     * of all the tasks in order. The {@code @Parallel} annotations of the new
+     * class are visible to {@link #getParallelAnnotations}.
+     *
+     * @param methods
+     *     Static methods of the tasks, in launch order.
+     * @param arguments
+     *     Arguments of each task.
+     * @param localObjects
+     *     Objects that are neither transferred nor used by other tasks. If one
+     *     task produces them and the following tasks consume them element by
+     *     element, they are kept in local variables and removed from the
+     *     arguments of the fused task.
+     * @param className
+     *     Internal name of the class to build, in the package of the declaring
+     *     class of the first method.
+     * @return the fused task, or {@code null} if the tasks cannot be fused.
+     */
+    FusedTaskProvider fuseTasks(Method[] methods, Object[][] arguments, Set<Object> localObjects, String className);
 }
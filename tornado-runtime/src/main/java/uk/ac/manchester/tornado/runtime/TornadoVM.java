@@ -145,8 +145,8 @@ public class TornadoVM extends TornadoLogger {
             }
         } catch (ExecutionException | InterruptedException e) {
             Throwable cause = e.getCause();
-            if (cause instanceof TornadoBailoutRuntimeException) {
-                throw new TornadoBailoutRuntimeException(e.getMessage());
+            if (cause instanceof TornadoBailoutRuntimeException bailout) {
+                throw new TornadoBailoutRuntimeException(e.getMessage(), bailout.getException(), bailout.getTaskId());
             } else if (cause instanceof TornadoFailureException) {
                 throw new TornadoFailureException(e);
             } else if (cause instanceof TornadoRuntimeException) {
@@ -49,10 +49,13 @@ import org.graalvm.compiler.nodes.StartNode;
 import org.graalvm.compiler.nodes.StructuredGraph;
 import org.graalvm.compiler.nodes.ValueNode;
 import org.graalvm.compiler.nodes.calc.AddNode;
+import org.graalvm.compiler.nodes.calc.AndNode;
 import org.graalvm.compiler.nodes.calc.BinaryArithmeticNode;
 import org.graalvm.compiler.nodes.calc.BinaryNode;
 import org.graalvm.compiler.nodes.calc.IntegerLessThanNode;
 import org.graalvm.compiler.nodes.calc.MulNode;
+import org.graalvm.compiler.nodes.calc.OrNode;
+import org.graalvm.compiler.nodes.calc.XorNode;
 import org.graalvm.compiler.nodes.java.ArrayLengthNode;
 import org.graalvm.compiler.nodes.java.MethodCallTargetNode;
 import org.graalvm.compiler.nodes.java.StoreIndexedNode;
@@ -64,6 +67,7 @@ import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
 import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
 import uk.ac.manchester.tornado.runtime.graal.nodes.StoreAtomicIndexedNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.TornadoReduceAddNode;
+import uk.ac.manchester.tornado.runtime.graal.nodes.TornadoReduceBitwiseNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.WriteAtomicNode;
 import uk.ac.manchester.tornado.runtime.graal.phases.MarkFloatingPointIntrinsicsNode;
 import uk.ac.manchester.tornado.runtime.graal.phases.MarkIntIntrinsicNode;
@@ -101,6 +105,14 @@ public class ReduceCodeAnalysis {
                 operations.add(REDUCE_OPERATION.SUM);
             } else if (operation instanceof MulNode) {
                 operations.add(REDUCE_OPERATION.MUL);
+            } else if (operation instanceof TornadoReduceBitwiseNode bitwise) {
+                operations.add(REDUCE_OPERATION.valueOf(bitwise.getOperation().name()));
+            } else if (operation instanceof AndNode) {
+                operations.add(REDUCE_OPERATION.AND);
+            } else if (operation instanceof OrNode) {
+                operations.add(REDUCE_OPERATION.OR);
+            } else if (operation instanceof XorNode) {
+                operations.add(REDUCE_OPERATION.XOR);
             } else if (operation instanceof InvokeNode invoke) {
                 if (invoke.callTarget().targetName().equals("Math.max")) {
                     operations.add(REDUCE_OPERATION.MAX);
@@ -466,10 +478,18 @@ public class ReduceCodeAnalysis {
         }
     }
 
+    /**
+     * Operations of the reductions with {@code @Reduce}. Each operation combines
+     * one value per result array, so argmin/argmax and compound reductions, which
+     * combine coupled values, are not operations of the analysis.
+     */
     public enum REDUCE_OPERATION { //
         SUM, //
         MUL, //
         MIN, //
-        MAX //
+        MAX, //
+        AND, //
+        OR, //
+        XOR //
     }
 }
@@ -33,6 +33,7 @@ import uk.ac.manchester.tornado.api.types.arrays.ByteArray;
 import uk.ac.manchester.tornado.api.types.arrays.CharArray;
 import uk.ac.manchester.tornado.api.types.arrays.DoubleArray;
 import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.HalfFloatArray;
 import uk.ac.manchester.tornado.api.types.arrays.IntArray;
 import uk.ac.manchester.tornado.api.types.arrays.LongArray;
 import uk.ac.manchester.tornado.api.types.arrays.ShortArray;
@@ -98,6 +99,7 @@ public class BatchConfiguration {
                     case ShortArray _ -> DataTypeSize.SHORT.getSize();
                     case ByteArray _ -> DataTypeSize.BYTE.getSize();
                     case CharArray _ -> DataTypeSize.CHAR.getSize();
+                    case HalfFloatArray _ -> DataTypeSize.SHORT.getSize();
                     default -> throw new TornadoRuntimeException("Unsupported array type: " + o.getClass());
                 };
                 elementSizes.add(elementSize);
@@ -27,20 +27,30 @@ import static uk.ac.manchester.tornado.runtime.common.RuntimeUtilities.humanRead
 
 import uk.ac.manchester.tornado.api.memory.ObjectBuffer;
 import uk.ac.manchester.tornado.api.memory.TornadoDeviceObjectState;
+import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
 
 public class DeviceObjectState implements TornadoDeviceObjectState {
 
+    private static final long NO_VERSION = 0;
+
     private ObjectBuffer objectBuffer;
     private boolean atomicRegionPresent;
 
     private boolean contents;
     private boolean lockBuffer;
 
+    /**
+     * Version of the native array (see {@link TornadoNativeArray#getVersion()})
+     * held by the device buffer.
+     */
+    private long transferredVersion;
+
     public DeviceObjectState() {
         objectBuffer = null;
         atomicRegionPresent = false;
         contents = false;
         lockBuffer = false;
+        transferredVersion = NO_VERSION;
     }
 
     public void setObjectBuffer(ObjectBuffer value) {
@@ -74,6 +84,59 @@ public class DeviceObjectState implements TornadoDeviceObjectState {
 
     public void setContents(boolean value) {
         contents = value;
+        if (!value) {
+            transferredVersion = NO_VERSION;
+        }
+    }
+
+    /**
+     * @return true if the device buffer already holds the given version of the
+     *     native array, so the host-to-device copy can be skipped.
+     */
+    public boolean hasVersion(long version) {
+        return contents && transferredVersion == version;
+    }
+
+    /**
+     * @return true if the device buffer holds an older version of the native
+     *     array, copied from the host and not written by any task since.
+     */
+    public boolean isStale(long version) {
+        return contents && transferredVersion != NO_VERSION && transferredVersion != version;
+    }
+
+    public void setTransferredVersion(long version) {
+        transferredVersion = version;
+    }
+
+    /**
+     * Called when a task may write the device buffer, since the buffer no longer
+     * matches any version of the host array.
+     */
+    public void invalidateVersion() {
+        transferredVersion = NO_VERSION;
+    }
+
+    /**
+     * Called after the device buffer is copied to the host. The copy writes the
+     * native array without its API, so the array gets a new version, and the
+     * copies of the previous version on other devices become stale. The buffer
+     * holds the new version only if it was copied whole.
+     *
+     * @param object
+     *     Host object written by the copy.
+     * @param isWholeBuffer
+     *     True if the whole buffer was copied to the host.
+     */
+    public void updateVersionAfterCopyOut(Object object, boolean isWholeBuffer) {
+        if (object instanceof TornadoNativeArray nativeArray) {
+            nativeArray.markModified();
+            if (isWholeBuffer) {
+                transferredVersion = nativeArray.getVersion();
+            } else {
+                transferredVersion = NO_VERSION;
+            }
+        }
     }
 
     @Override
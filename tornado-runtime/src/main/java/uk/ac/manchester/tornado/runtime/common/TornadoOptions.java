@@ -147,6 +147,23 @@ public class TornadoOptions {
      * code. This option is True by default.
      */
     public static final boolean RECOVER_BAILOUT = getBooleanValue("tornado.recover.bailout", TRUE);
+    /**
+     * When the code bails out to Java, run the outermost {@code @Parallel} loops
+     * of the tasks on all the host cores instead of on a single thread. This
+     * option is False by default.
+     */
+    public static final boolean RECOVER_BAILOUT_HOST_PARALLEL = getBooleanValue("tornado.recover.bailout.parallel", FALSE);
+    /**
+     * Number of consecutive bailouts of a task after which the task-graph stops
+     * compiling it and runs the Java implementation directly. Default is 3.
+     */
+    public static final int DEOPT_MAX_FAILURES = getIntValue("tornado.deopt.maxFailures", "3");
+    /**
+     * Time, in milliseconds, after which a task that was backed off by
+     * {@link #DEOPT_MAX_FAILURES} is compiled again. With a negative value, the
+     * task is never compiled again. Default is 60000 (1 minute).
+     */
+    public static final long DEOPT_RETRY_AFTER = Long.parseLong(getProperty("tornado.deopt.retryAfter", "60000"));
     /**
      * Option to log the IP of the current machine on the profiler logs.
      */
@@ -156,6 +173,37 @@ public class TornadoOptions {
      * port.
      */
     public static final String SOCKET_PORT = getProperty("tornado.dump.to.ip", "");
+    /**
+     * Exports the profiler logs to the file of {@code tornado.profiler.dump.dir}
+     * and to the socket of {@code tornado.dump.to.ip} from a background thread.
+     * When disabled, the logs are exported by the thread that executes the
+     * task-graph. True by default.
+     */
+    public static final boolean PROFILER_EXPORT_ASYNC = getBooleanValue("tornado.profiler.export.async", TRUE);
+    /**
+     * Number of profiler records buffered for the background exporter. The
+     * records are dropped when the buffer is full. Default is 4096.
+     */
+    public static final int PROFILER_EXPORT_BUFFER_SIZE = getIntValue("tornado.profiler.export.buffer", "4096");
+    /**
+     * Maximum number of profiler records exported in a batch. Default is 256.
+     */
+    public static final int PROFILER_EXPORT_BATCH_SIZE = getIntValue("tornado.profiler.export.batch", "256");
+    /**
+     * Maximum time, in milliseconds, that a profiler record waits in the buffer
+     * before it is exported. Default is 100.
+     */
+    public static final int PROFILER_EXPORT_INTERVAL = getIntValue("tornado.profiler.export.interval", "100");
+    /**
+     * Option to publish the metrics of the runtime (buffers, code caches, event
+     * pools, compilations and bailouts) as MBeans. False by default.
+     */
+    public static final boolean METRICS_JMX = getBooleanValue("tornado.metrics.jmx", FALSE);
+    /**
+     * Port of the local HTTP endpoint that serves the metrics of the runtime in
+     * the Prometheus text format. The endpoint is disabled with 0 (default).
+     */
+    public static final int METRICS_PROMETHEUS_PORT = getIntValue("tornado.metrics.prometheus.port", "0");
     /**
      * Sets the number of threads for the Tornado Sketcher. Default is 4.
      */
@@ -229,6 +277,29 @@ public class TornadoOptions {
      * memory).
      */
     public static final int LEVEL_ZERO_BUFFER_ALIGNMENT = getIntValue("tornado.spirv.levelzero.alignment", "64");
+    /**
+     * Execute all task-graphs on the host with the pure-Java multi-core executor,
+     * even if accelerator drivers are available. Task-graphs always run on the
+     * host when no driver is installed. False by default.
+     */
+    public static final boolean HOST_PARALLEL = getBooleanValue("tornado.host.parallel", FALSE);
+    /**
+     * Number of worker threads used by the host multi-core executor. It is the
+     * number of available processors by default.
+     */
+    public static final int HOST_THREADS = getIntValue("tornado.host.threads", Integer.toString(Runtime.getRuntime().availableProcessors()));
+    /**
+     * Number of consecutive loop iterations that a host worker claims at a time
+     * when executing a {@code @Parallel} loop. 1024 by default.
+     */
+    public static final int HOST_CHUNK_SIZE = getIntValue("tornado.host.chunk", "1024");
+    /**
+     * Fuse consecutive tasks of a task-graph that iterate over the same
+     * {@code @Parallel} domain and exchange data element by element into a
+     * single kernel. Intermediate buffers that are only used by the fused tasks
+     * are kept in registers. False by default.
+     */
+    public static final boolean FUSE_TASKS = getBooleanValue("tornado.fuse.tasks", FALSE);
     /**
      * Enable/Disable the extended memory allocation mode for the Level Zero
      * Backend. It is enabled by default.
@@ -249,6 +320,8 @@ public class TornadoOptions {
 
     public static String PROFILER_LOG = "tornado.log.profiler";
     public static String PROFILER = "tornado.profiler";
+    public static String PROFILER_HISTOGRAMS = "tornado.profiler.histograms";
+    public static String VERSIONED_TRANSFERS = "tornado.transfers.versioned";
     /**
      * Option to load FPGA pre-compiled binaries.
      */
@@ -278,6 +351,30 @@ public class TornadoOptions {
         return getBooleanValue(PROFILER, FALSE);
     }
 
+    /**
+     * Option to accumulate the timers of the profiler in latency histograms
+     * across executions. It requires the profiler. False by default.
+     *
+     * @return boolean.
+     */
+    public static boolean isProfilerHistogramsEnabled() {
+        return getBooleanValue(PROFILER_HISTOGRAMS, FALSE);
+    }
+
+    /**
+     * Skip the copies of native arrays registered with
+     * {@code DataTransferMode.EVERY_EXECUTION} when the host has not written
+     * them since the last copy to the device, and copy again the arrays
+     * registered with {@code DataTransferMode.FIRST_EXECUTION} when the host
+     * wrote them. The writes are only tracked through the API of the native
+     * arrays, so it is False by default.
+     *
+     * @return boolean.
+     */
+    public static boolean isVersionedTransfersEnabled() {
+        return getBooleanValue(VERSIONED_TRANSFERS, FALSE);
+    }
+
     /**
      * Option for enabling partial loop unrolling. The unroll factor can be
      * configured to take any integer value of power of 2 and less than 32.
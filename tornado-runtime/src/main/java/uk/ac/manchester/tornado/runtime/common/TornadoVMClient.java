@@ -22,8 +22,10 @@
  */
 package uk.ac.manchester.tornado.runtime.common;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.net.Socket;
 import java.net.UnknownHostException;
 import java.nio.charset.StandardCharsets;
@@ -34,6 +36,12 @@ public class TornadoVMClient {
     private String host;
     private int port;
 
+    /**
+     * Connection kept open by {@link #send(String)}.
+     */
+    private Socket connection;
+    private Writer connectionWriter;
+
     public TornadoVMClient() {
         if (validArgument()) {
             this.host = TornadoOptions.SOCKET_PORT.split(":")[0];
@@ -62,6 +70,44 @@ public class TornadoVMClient {
         socket.close();
     }
 
+    /**
+     * Sends a log through a connection that is kept open between calls. If the
+     * connection is broken, it is opened again and the log is sent once more.
+     */
+    public synchronized void send(String log) throws IOException {
+        for (int attempt = 0; attempt < 2; attempt++) {
+            try {
+                if (connection == null || connection.isClosed()) {
+                    connection = new Socket(host, port);
+                    connectionWriter = new BufferedWriter(new OutputStreamWriter(connection.getOutputStream(), StandardCharsets.UTF_8));
+                }
+                connectionWriter.write(log);
+                connectionWriter.flush();
+                return;
+            } catch (IOException e) {
+                close();
+                if (attempt == 1) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Closes the connection of {@link #send(String)}.
+     */
+    public synchronized void close() {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (IOException e) {
+                // The connection is discarded anyway
+            }
+            connection = null;
+            connectionWriter = null;
+        }
+    }
+
     private Socket openSocket() {
         Socket socket = null;
 
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.graal.nodes;
+
+import org.graalvm.compiler.core.common.type.StampFactory;
+import org.graalvm.compiler.graph.NodeClass;
+import org.graalvm.compiler.lir.gen.LIRGeneratorTool;
+import org.graalvm.compiler.nodeinfo.InputType;
+import org.graalvm.compiler.nodeinfo.NodeInfo;
+import org.graalvm.compiler.nodes.ConstantNode;
+import org.graalvm.compiler.nodes.FixedWithNextNode;
+import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.calc.AddNode;
+import org.graalvm.compiler.nodes.calc.MulNode;
+import org.graalvm.compiler.nodes.calc.SignExtendNode;
+import org.graalvm.compiler.nodes.graphbuilderconf.GraphBuilderContext;
+import org.graalvm.compiler.nodes.memory.SingleMemoryKill;
+import org.graalvm.compiler.nodes.memory.address.AddressNode;
+import org.graalvm.compiler.nodes.memory.address.OffsetAddressNode;
+import org.graalvm.compiler.nodes.spi.LIRLowerable;
+import org.graalvm.compiler.nodes.spi.NodeLIRBuilderTool;
+import org.graalvm.word.LocationIdentity;
+
+import jdk.vm.ci.meta.JavaKind;
+import jdk.vm.ci.meta.Value;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.arrays.LongArray;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+
+/**
+ * Atomic read-modify-write of one element of a native array (e.g.,
+ * {@code TornadoVMIntrinsics.atomic_add(IntArray, int, int)}). The node
+ * returns the value of the element before the operation, or whether the
+ * exchange succeeded for {@link Operation#CAS}. Each backend emits the
+ * operation with its native atomics.
+ */
+@NodeInfo(nameTemplate = "Atomic{p#operation/s}")
+public abstract class AtomicArrayNode extends FixedWithNextNode implements LIRLowerable, SingleMemoryKill {
+
+    public static final NodeClass<AtomicArrayNode> TYPE = NodeClass.create(AtomicArrayNode.class);
+
+    public enum Operation {
+        ADD, //
+        SUB, //
+        MIN, //
+        MAX, //
+        AND, //
+        OR, //
+        XOR, //
+        XCHG, //
+        CMPXCHG, //
+        CAS;
+
+        /**
+         * @return the name of the method in {@code TornadoVMIntrinsics}.
+         */
+        public String getMethodName() {
+            return "atomic_" + name().toLowerCase();
+        }
+
+        public boolean isComparison() {
+            return this == CMPXCHG || this == CAS;
+        }
+
+        /**
+         * The arithmetic operations on {@code float} elements are compare-and-swap
+         * loops written in Java, so they are not replaced by the backends.
+         *
+         * @return true if the backends replace the operation on elements of the
+         *     given kind.
+         */
+        public boolean isIntrinsic(JavaKind kind) {
+            return kind != JavaKind.Float || this == XCHG || isComparison();
+        }
+    }
+
+    /**
+     * Kinds of the elements of the native arrays with atomic operations.
+     */
+    public static final JavaKind[] ELEMENT_KINDS = { JavaKind.Int, JavaKind.Long, JavaKind.Float };
+
+    @Input(InputType.Association)
+    protected AddressNode address;
+
+    @Input
+    protected ValueNode value;
+
+    @OptionalInput
+    protected ValueNode expected;
+
+    protected final Operation operation;
+
+    protected final JavaKind elementKind;
+
+    protected AtomicArrayNode(NodeClass<? extends AtomicArrayNode> type, Operation operation, JavaKind elementKind, AddressNode address, ValueNode expected, ValueNode value) {
+        super(type, operation == Operation.CAS ? StampFactory.forKind(JavaKind.Boolean) : StampFactory.forKind(elementKind));
+        this.operation = operation;
+        this.elementKind = elementKind;
+        this.address = address;
+        this.expected = expected;
+        this.value = value;
+    }
+
+    /**
+     * Builds the address of the element {@code index} of a native array. The
+     * element is placed after the header of the array.
+     */
+    public static AddressNode createElementAddress(GraphBuilderContext b, ValueNode array, ValueNode index, JavaKind elementKind) {
+        int elementSize = elementKind.getByteCount();
+        ValueNode position = b.append(new AddNode(index, ConstantNode.forInt((int) TornadoOptions.PANAMA_OBJECT_HEADER_SIZE / elementSize)));
+        ValueNode longPosition = b.append(new SignExtendNode(position, 64));
+        ValueNode offset = b.append(new MulNode(longPosition, ConstantNode.forLong(elementSize)));
+        return b.append(new OffsetAddressNode(array, offset));
+    }
+
+    public static Class<?> getArrayClass(JavaKind elementKind) {
+        return switch (elementKind) {
+            case Int -> IntArray.class;
+            case Long -> LongArray.class;
+            case Float -> FloatArray.class;
+            default -> throw new TornadoRuntimeException("Atomic operations are not supported for " + elementKind);
+        };
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public JavaKind getElementKind() {
+        return elementKind;
+    }
+
+    public AddressNode getAddress() {
+        return address;
+    }
+
+    public ValueNode getValue() {
+        return value;
+    }
+
+    public ValueNode getExpected() {
+        return expected;
+    }
+
+    @Override
+    public LocationIdentity getKilledLocationIdentity() {
+        return LocationIdentity.any();
+    }
+
+    @Override
+    public final void generate(NodeLIRBuilderTool builder) {
+        Value expectedValue = expected == null ? null : builder.operand(expected);
+        Value result = generate(builder.getLIRGeneratorTool(), builder.operand(address), expectedValue, builder.operand(value));
+        builder.setResult(this, result);
+    }
+
+    /**
+     * Emits the atomic operation.
+     *
+     * @param gen
+     *     LIR generator of the backend.
+     * @param addressValue
+     *     Address of the element, as lowered by the backend.
+     * @param expectedValue
+     *     Expected value of the element for {@link Operation#CMPXCHG} and
+     *     {@link Operation#CAS}; {@code null} otherwise.
+     * @param newValue
+     *     Operand of the operation.
+     * @return the result of the node.
+     */
+    protected abstract Value generate(LIRGeneratorTool gen, Value addressValue, Value expectedValue, Value newValue);
+}
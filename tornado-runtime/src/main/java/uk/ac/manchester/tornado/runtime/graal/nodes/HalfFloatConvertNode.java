@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.graal.nodes;
+
+import org.graalvm.compiler.core.common.type.StampFactory;
+import org.graalvm.compiler.graph.NodeClass;
+import org.graalvm.compiler.lir.gen.ArithmeticLIRGeneratorTool;
+import org.graalvm.compiler.nodeinfo.NodeInfo;
+import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.calc.FloatingNode;
+import org.graalvm.compiler.nodes.spi.ArithmeticLIRLowerable;
+import org.graalvm.compiler.nodes.spi.NodeLIRBuilderTool;
+
+import jdk.vm.ci.meta.JavaKind;
+import jdk.vm.ci.meta.Value;
+
+/**
+ * Conversion between single precision and the bits of a half-precision value,
+ * as stored in a {@code HalfFloatArray}. The backends lower the node to the
+ * native half type of the device. The node is only created for devices that
+ * support FP16; on the others the Java implementation of the conversion is
+ * compiled.
+ */
+@NodeInfo(nameTemplate = "HalfFloat{p#operation/s}")
+public abstract class HalfFloatConvertNode extends FloatingNode implements ArithmeticLIRLowerable {
+
+    public static final NodeClass<HalfFloatConvertNode> TYPE = NodeClass.create(HalfFloatConvertNode.class);
+
+    public enum Operation {
+        TO_FLOAT("toFloat", JavaKind.Short, JavaKind.Float), //
+        TO_HALF("toHalf", JavaKind.Float, JavaKind.Short);
+
+        private final String methodName;
+        private final JavaKind inputKind;
+        private final JavaKind resultKind;
+
+        Operation(String methodName, JavaKind inputKind, JavaKind resultKind) {
+            this.methodName = methodName;
+            this.inputKind = inputKind;
+            this.resultKind = resultKind;
+        }
+
+        /**
+         * @return the name of the static method in {@code HalfFloatArray}.
+         */
+        public String getMethodName() {
+            return methodName;
+        }
+
+        public JavaKind getInputKind() {
+            return inputKind;
+        }
+
+        public JavaKind getResultKind() {
+            return resultKind;
+        }
+    }
+
+    @Input
+    protected ValueNode value;
+
+    protected final Operation operation;
+
+    protected HalfFloatConvertNode(NodeClass<? extends HalfFloatConvertNode> type, Operation operation, ValueNode value) {
+        super(type, StampFactory.forKind(operation.getResultKind()));
+        this.operation = operation;
+        this.value = value;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public ValueNode getValue() {
+        return value;
+    }
+
+    @Override
+    public final void generate(NodeLIRBuilderTool builder, ArithmeticLIRGeneratorTool gen) {
+        builder.setResult(this, generate(gen, builder.operand(value)));
+    }
+
+    /**
+     * Emits the conversion.
+     *
+     * @param gen
+     *     Arithmetic LIR generator of the backend.
+     * @param input
+     *     The float value for {@link Operation#TO_HALF}, or the bits of the
+     *     half-precision value for {@link Operation#TO_FLOAT}.
+     * @return the result of the node.
+     */
+    protected abstract Value generate(ArithmeticLIRGeneratorTool gen, Value input);
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.graal.nodes;
+
+import org.graalvm.compiler.core.common.type.StampFactory;
+import org.graalvm.compiler.graph.NodeClass;
+import org.graalvm.compiler.lir.gen.LIRGeneratorTool;
+import org.graalvm.compiler.nodeinfo.NodeInfo;
+import org.graalvm.compiler.nodes.FixedWithNextNode;
+import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.spi.LIRLowerable;
+import org.graalvm.compiler.nodes.spi.NodeLIRBuilderTool;
+
+import jdk.vm.ci.meta.JavaKind;
+import jdk.vm.ci.meta.Value;
+
+/**
+ * Collective operation of the work-items of a sub-group (warp in CUDA
+ * terminology), exposed through the {@code KernelContext} API. The node is
+ * fixed, so it is not moved to a different control-flow path: all the
+ * work-items of the sub-group must execute it.
+ */
+@NodeInfo(nameTemplate = "SubGroup{p#operation/s}")
+public abstract class SubGroupNode extends FixedWithNextNode implements LIRLowerable {
+
+    public static final NodeClass<SubGroupNode> TYPE = NodeClass.create(SubGroupNode.class);
+
+    public enum Operation {
+        SIZE("getSubGroupSize"), //
+        LOCAL_ID("getSubGroupLocalId"), //
+        ID("getSubGroupId"), //
+        SHUFFLE("subGroupShuffle"), //
+        SHUFFLE_DOWN("subGroupShuffleDown"), //
+        SHUFFLE_UP("subGroupShuffleUp"), //
+        SHUFFLE_XOR("subGroupShuffleXor"), //
+        BROADCAST("subGroupBroadcast"), //
+        REDUCE_ADD("subGroupReduceAdd"), //
+        REDUCE_MIN("subGroupReduceMin"), //
+        REDUCE_MAX("subGroupReduceMax"), //
+        SCAN_INCLUSIVE_ADD("subGroupScanInclusiveAdd"), //
+        SCAN_EXCLUSIVE_ADD("subGroupScanExclusiveAdd");
+
+        private final String methodName;
+
+        Operation(String methodName) {
+            this.methodName = methodName;
+        }
+
+        /**
+         * @return the name of the method in {@code KernelContext}.
+         */
+        public String getMethodName() {
+            return methodName;
+        }
+
+        /**
+         * @return true if the operation takes a value of each work-item.
+         */
+        public boolean hasValue() {
+            return ordinal() >= SHUFFLE.ordinal();
+        }
+
+        /**
+         * @return true if the operation takes a sub-group local identifier, a
+         *     delta or a mask, in addition to the value.
+         */
+        public boolean hasOperand() {
+            return hasValue() && ordinal() <= BROADCAST.ordinal();
+        }
+    }
+
+    /**
+     * Kinds of the values of the collective operations.
+     */
+    public static final JavaKind[] VALUE_KINDS = { JavaKind.Int, JavaKind.Float };
+
+    @OptionalInput
+    protected ValueNode value;
+
+    @OptionalInput
+    protected ValueNode operand;
+
+    protected final Operation operation;
+
+    protected final JavaKind kind;
+
+    protected SubGroupNode(NodeClass<? extends SubGroupNode> type, Operation operation, JavaKind kind, ValueNode value, ValueNode operand) {
+        super(type, StampFactory.forKind(kind));
+        this.operation = operation;
+        this.kind = kind;
+        this.value = value;
+        this.operand = operand;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public JavaKind getKind() {
+        return kind;
+    }
+
+    public ValueNode getValue() {
+        return value;
+    }
+
+    public ValueNode getOperand() {
+        return operand;
+    }
+
+    @Override
+    public final void generate(NodeLIRBuilderTool builder) {
+        Value valueOperand = value == null ? null : builder.operand(value);
+        Value operandValue = operand == null ? null : builder.operand(operand);
+        builder.setResult(this, generate(builder.getLIRGeneratorTool(), valueOperand, operandValue));
+    }
+
+    /**
+     * Emits the collective operation.
+     *
+     * @param gen
+     *     LIR generator of the backend.
+     * @param valueOperand
+     *     Value of the work-item; {@code null} for {@link Operation#SIZE},
+     *     {@link Operation#LOCAL_ID} and {@link Operation#ID}.
+     * @param operandValue
+     *     Sub-group local identifier, delta or mask of the shuffles and
+     *     broadcasts; {@code null} otherwise.
+     * @return the result of the node.
+     */
+    protected abstract Value generate(LIRGeneratorTool gen, Value valueOperand, Value operandValue);
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.graal.nodes;
+
+import static org.graalvm.compiler.nodeinfo.NodeCycles.CYCLES_1;
+
+import org.graalvm.compiler.core.common.type.Stamp;
+import org.graalvm.compiler.graph.NodeClass;
+import org.graalvm.compiler.lir.gen.ArithmeticLIRGeneratorTool;
+import org.graalvm.compiler.nodeinfo.NodeInfo;
+import org.graalvm.compiler.nodes.NodeView;
+import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.calc.BinaryNode;
+import org.graalvm.compiler.nodes.spi.ArithmeticLIRLowerable;
+import org.graalvm.compiler.nodes.spi.CanonicalizerTool;
+import org.graalvm.compiler.nodes.spi.NodeLIRBuilderTool;
+
+import jdk.vm.ci.meta.Value;
+
+/**
+ * Bitwise and, or and xor reductions of integer and long values. The node
+ * replaces the operation of the reduction, so the backends select the snippet
+ * of the operation, as with {@link TornadoReduceAddNode}.
+ */
+@NodeInfo(shortName = "REDUCE(bitwise)", nameTemplate = "REDUCE({p#operation/s})", cycles = CYCLES_1)
+public class TornadoReduceBitwiseNode extends BinaryNode implements ArithmeticLIRLowerable {
+
+    public static final NodeClass<TornadoReduceBitwiseNode> TYPE = NodeClass.create(TornadoReduceBitwiseNode.class);
+
+    public enum Operation {
+        AND, //
+        OR, //
+        XOR
+    }
+
+    private final Operation operation;
+
+    public TornadoReduceBitwiseNode(Operation operation, ValueNode x, ValueNode y) {
+        super(TYPE, x.stamp(NodeView.DEFAULT).unrestricted(), x, y);
+        this.operation = operation;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    @Override
+    public Stamp foldStamp(Stamp stampX, Stamp stampY) {
+        return stamp(NodeView.DEFAULT);
+    }
+
+    @Override
+    public ValueNode canonical(CanonicalizerTool tool, ValueNode forX, ValueNode forY) {
+        return this;
+    }
+
+    @Override
+    public void generate(NodeLIRBuilderTool tool, ArithmeticLIRGeneratorTool gen) {
+        Value op1 = tool.operand(getX());
+        Value op2 = tool.operand(getY());
+        Value result = switch (operation) {
+            case AND -> gen.emitAnd(op1, op2);
+            case OR -> gen.emitOr(op1, op2);
+            case XOR -> gen.emitXor(op1, op2);
+        };
+        tool.setResult(this, result);
+    }
+}
@@ -60,6 +60,7 @@ import org.graalvm.compiler.phases.BasePhase;
 import jdk.vm.ci.meta.Constant;
 import jdk.vm.ci.meta.MetaAccessProvider;
 import uk.ac.manchester.tornado.api.common.Access;
+import uk.ac.manchester.tornado.runtime.graal.nodes.AtomicArrayNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.ParallelRangeNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.ParallelStrideNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.StoreAtomicIndexedNode;
@@ -224,7 +225,7 @@ public class TornadoDataflowAnalysis extends BasePhase<TornadoSketchTierContext>
                 isReadField = true;
             } else if (currentNode instanceof MarkVectorStore) {
                 isWritten = true;
-            } else if (isNodeFromKnownObject(currentNode)) {
+            } else if (isNodeFromKnownObject(currentNode) || currentNode instanceof AtomicArrayNode) {
                 // All known objects are passed by reference -> R/W (e.g., Atomics)
                 isRead = true;
                 isWritten = true;
@@ -263,7 +264,7 @@ public class TornadoDataflowAnalysis extends BasePhase<TornadoSketchTierContext>
         if (field.contains("uk.ac.manchester.tornado.api.types.arrays.IntArray") || field.contains("uk.ac.manchester.tornado.api.types.arrays.DoubleArray") || field.contains(
                 "uk.ac.manchester.tornado.api.types.arrays.FloatArray") || field.contains("uk.ac.manchester.tornado.api.types.arrays.LongArray") || field.contains(
                         "uk.ac.manchester.tornado.api.types.arrays.CharArray") || field.contains("uk.ac.manchester.tornado.api.types.arrays.ShortArray") || field.contains(
-                                "uk.ac.manchester.tornado.api.types.arrays.ByteArray")) {
+                                "uk.ac.manchester.tornado.api.types.arrays.ByteArray") || field.contains("uk.ac.manchester.tornado.api.types.arrays.HalfFloatArray")) {
             return true;
         } else {
             return false;
@@ -39,16 +39,23 @@ import org.graalvm.compiler.nodes.extended.JavaWriteNode;
 import org.graalvm.compiler.nodes.extended.LoadHubNode;
 import org.graalvm.compiler.nodes.java.InstanceOfNode;
 import org.graalvm.compiler.nodes.java.LoadFieldNode;
+import org.graalvm.compiler.nodes.java.StoreFieldNode;
 import org.graalvm.compiler.nodes.memory.address.OffsetAddressNode;
 import org.graalvm.compiler.phases.BasePhase;
+import org.graalvm.compiler.phases.common.CanonicalizerPhase;
+
+import jdk.vm.ci.meta.ResolvedJavaField;
 
 import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
 import uk.ac.manchester.tornado.api.internal.annotations.SegmentElementSize;
+import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
 import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
 import uk.ac.manchester.tornado.runtime.graal.nodes.WriteAtomicNode;
 
 public class TornadoNativeTypeElimination extends BasePhase<TornadoSketchTierContext> {
 
+    private static final String MODIFIED_FLAG = "modified";
+
     @Override
     public Optional<NotApplicable> notApplicableTo(GraphState graphState) {
         return ALWAYS_APPLICABLE;
@@ -107,6 +114,38 @@ public class TornadoNativeTypeElimination extends BasePhase<TornadoSketchTierCon
                 }
             }
         }
+
+        removeModificationTracking(graph, context);
+    }
+
+    private static boolean isModifiedFlag(ResolvedJavaField field) {
+        return field.getName().equals(MODIFIED_FLAG) && field.getDeclaringClass().toJavaName().equals(TornadoNativeArray.class.getName());
+    }
+
+    /**
+     * The native arrays record the writes from the host to skip redundant copies
+     * (see {@link TornadoNativeArray#getVersion()}). The flag is meaningless on
+     * the device, so its loads and stores are removed, and the branch that tests
+     * it is folded.
+     */
+    private static void removeModificationTracking(StructuredGraph graph, TornadoSketchTierContext context) {
+        boolean hasTracking = false;
+        for (StoreFieldNode storeField : graph.getNodes().filter(StoreFieldNode.class).snapshot()) {
+            if (isModifiedFlag(storeField.field())) {
+                graph.removeFixed(storeField);
+                hasTracking = true;
+            }
+        }
+        for (LoadFieldNode loadField : graph.getNodes().filter(LoadFieldNode.class).snapshot()) {
+            if (isModifiedFlag(loadField.field())) {
+                loadField.replaceAtUsages(ConstantNode.forBoolean(true, graph));
+                graph.removeFixed(loadField);
+                hasTracking = true;
+            }
+        }
+        if (hasTracking) {
+            CanonicalizerPhase.create().apply(graph, context);
+        }
     }
 
     private static void removeFixedGuardNodes(FixedGuardNode fixedGuardNode, LoadFieldNode loadFieldSegment) {
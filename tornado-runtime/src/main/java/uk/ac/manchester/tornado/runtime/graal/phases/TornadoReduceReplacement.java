@@ -42,11 +42,14 @@ import org.graalvm.compiler.nodes.StartNode;
 import org.graalvm.compiler.nodes.StructuredGraph;
 import org.graalvm.compiler.nodes.ValueNode;
 import org.graalvm.compiler.nodes.calc.AddNode;
+import org.graalvm.compiler.nodes.calc.AndNode;
 import org.graalvm.compiler.nodes.calc.BinaryArithmeticNode;
 import org.graalvm.compiler.nodes.calc.BinaryNode;
 import org.graalvm.compiler.nodes.calc.CompareNode;
 import org.graalvm.compiler.nodes.calc.MulNode;
+import org.graalvm.compiler.nodes.calc.OrNode;
 import org.graalvm.compiler.nodes.calc.SubNode;
+import org.graalvm.compiler.nodes.calc.XorNode;
 import org.graalvm.compiler.nodes.extended.JavaReadNode;
 import org.graalvm.compiler.nodes.extended.JavaWriteNode;
 import org.graalvm.compiler.nodes.java.LoadFieldNode;
@@ -61,6 +64,7 @@ import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
 import uk.ac.manchester.tornado.runtime.graal.nodes.StoreAtomicIndexedNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.StoreAtomicIndexedNodeExtension;
 import uk.ac.manchester.tornado.runtime.graal.nodes.TornadoReduceAddNode;
+import uk.ac.manchester.tornado.runtime.graal.nodes.TornadoReduceBitwiseNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.TornadoReduceMulNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.TornadoReduceSubNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.WriteAtomicNode;
@@ -215,6 +219,12 @@ public class TornadoReduceReplacement extends BasePhase<TornadoSketchTierContext
             accumulator = subNode.getX();
             value = atomicSub;
             subNode.safeDelete();
+        } else if (storeValue instanceof AndNode || storeValue instanceof OrNode || storeValue instanceof XorNode) {
+            BinaryNode bitwiseNode = (BinaryNode) storeValue;
+            final TornadoReduceBitwiseNode reduceBitwise = graph.addOrUnique(new TornadoReduceBitwiseNode(getBitwiseOperation(bitwiseNode), bitwiseNode.getX(), bitwiseNode.getY()));
+            accumulator = getCarriedOperand(store, bitwiseNode);
+            value = reduceBitwise;
+            bitwiseNode.safeDelete();
         } else if (storeValue instanceof BinaryNode) {
 
             // We need to compare with the name because it is loaded from inner core
@@ -235,6 +245,31 @@ public class TornadoReduceReplacement extends BasePhase<TornadoSketchTierContext
         return new ReductionMetadataNode(value, accumulator, inputArray, startNode);
     }
 
+    private static TornadoReduceBitwiseNode.Operation getBitwiseOperation(BinaryNode node) {
+        if (node instanceof AndNode) {
+            return TornadoReduceBitwiseNode.Operation.AND;
+        } else if (node instanceof OrNode) {
+            return TornadoReduceBitwiseNode.Operation.OR;
+        }
+        return TornadoReduceBitwiseNode.Operation.XOR;
+    }
+
+    /**
+     * Bitwise operations are commutative, so the reduction variable can be on
+     * either side.
+     *
+     * @return the operand that is not the read of the reduction variable.
+     */
+    private ValueNode getCarriedOperand(Node store, BinaryNode operation) {
+        boolean readsReductionInX;
+        if (store instanceof StoreIndexedNode storeIndexed) {
+            readsReductionInX = recursiveCheck(storeIndexed.array(), storeIndexed.index(), operation.getX());
+        } else {
+            readsReductionInX = recursiveCheck(null, ((JavaWriteNode) store).getAddress(), operation.getX());
+        }
+        return readsReductionInX ? operation.getY() : operation.getX();
+    }
+
     /**
      * Final Node Replacement.
      */
@@ -0,0 +1,238 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.graph;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.annotations.Reduce;
+import uk.ac.manchester.tornado.api.common.SchedulableTask;
+import uk.ac.manchester.tornado.runtime.ASMClassVisitorProvider;
+import uk.ac.manchester.tornado.runtime.common.FusedTaskProvider;
+import uk.ac.manchester.tornado.runtime.common.RuntimeUtilities;
+import uk.ac.manchester.tornado.runtime.common.Tornado;
+import uk.ac.manchester.tornado.runtime.tasks.CompilableTask;
+import uk.ac.manchester.tornado.runtime.tasks.meta.ScheduleMetaData;
+import uk.ac.manchester.tornado.runtime.tasks.meta.TaskMetaData;
+
+/**
+ * Graph-level optimisation that fuses consecutive element-wise tasks of a
+ * task-graph into a single kernel (producer-consumer fusion).
+ *
+ * <p>
+ * Consecutive tasks are grouped when they are mapped to the same device, share
+ * at least one argument and their {@code @Parallel} loops iterate over the same
+ * domain. The legality of the fusion is checked on the bytecode of the tasks
+ * (see {@link ASMClassVisitorProvider#fuseTasks}). Intermediate objects that
+ * are not transferred and not used by any other task of the graph are kept in
+ * registers, so they are never allocated on the device.
+ * </p>
+ */
+public class TornadoTaskFusion {
+
+    private static final String FUSED_CLASS_SUFFIX = "$TornadoFused$";
+
+    private static final ASMClassVisitorProvider asmClassVisitorProvider = ASMClassVisitorProvider.loadImplementation();
+    private static final AtomicInteger classCounter = new AtomicInteger(0);
+
+    private final ScheduleMetaData scheduleMetaData;
+    private final Predicate<Object> isTransferred;
+    private final Predicate<SchedulableTask> canFuse;
+
+    /**
+     * @param scheduleMetaData
+     *     Meta-data of the task-graph.
+     * @param isTransferred
+     *     Returns true for objects that are copied between the host and the
+     *     device.
+     * @param canFuse
+     *     Returns false for tasks that have to be launched on their own (e.g.,
+     *     tasks with a worker grid).
+     */
+    public TornadoTaskFusion(ScheduleMetaData scheduleMetaData, Predicate<Object> isTransferred, Predicate<SchedulableTask> canFuse) {
+        this.scheduleMetaData = scheduleMetaData;
+        this.isTransferred = isTransferred;
+        this.canFuse = canFuse;
+    }
+
+    public static boolean isAvailable() {
+        return asmClassVisitorProvider != null;
+    }
+
+    /**
+     * Fuses the tasks of a task-graph.
+     *
+     * @param tasks
+     *     Tasks in launch order.
+     * @return the tasks to launch, in order. Each group of fused tasks is
+     *     replaced by a new {@link CompilableTask}.
+     */
+    public List<SchedulableTask> fuse(List<SchedulableTask> tasks) {
+        List<SchedulableTask> launchOrder = new ArrayList<>();
+        int i = 0;
+        while (i < tasks.size()) {
+            List<SchedulableTask> group = new ArrayList<>(List.of(tasks.get(i)));
+            FusedTaskProvider fusedTask = null;
+            if (isFusible(tasks.get(i))) {
+                String className = createClassName((CompilableTask) tasks.get(i));
+                for (int j = i + 1; j < tasks.size() && isFusible(tasks.get(j)) && tasks.get(j).getDevice().equals(tasks.get(i).getDevice()) && sharesArguments(group, tasks.get(j)); j++) {
+                    List<SchedulableTask> candidate = new ArrayList<>(group);
+                    candidate.add(tasks.get(j));
+                    FusedTaskProvider fusedCandidate = fuseGroup(candidate, tasks, className);
+                    if (fusedCandidate == null) {
+                        break;
+                    }
+                    group = candidate;
+                    fusedTask = fusedCandidate;
+                }
+            }
+
+            SchedulableTask fused = fusedTask != null ? createFusedTask(group, fusedTask) : null;
+            if (fused != null) {
+                launchOrder.add(fused);
+                i += group.size();
+            } else {
+                launchOrder.add(tasks.get(i));
+                i++;
+            }
+        }
+        return launchOrder;
+    }
+
+    private boolean isFusible(SchedulableTask task) {
+        if (!(task instanceof CompilableTask compilableTask) || !canFuse.test(task)) {
+            return false;
+        }
+        Method method = compilableTask.getMethod();
+        if (!Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != task.getArguments().length) {
+            return false;
+        }
+        TaskMetaData meta = compilableTask.meta();
+        if (meta.isLocalWorkDefined() || meta.isGlobalWorkDefined()) {
+            return false;
+        }
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            if (parameterType == KernelContext.class) {
+                return false;
+            }
+        }
+        for (Annotation[] annotations : method.getParameterAnnotations()) {
+            for (Annotation annotation : annotations) {
+                if (annotation instanceof Reduce) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean isObject(Object argument) {
+        return !RuntimeUtilities.isBoxedPrimitiveClass(argument.getClass());
+    }
+
+    private static boolean sharesArguments(List<SchedulableTask> group, SchedulableTask task) {
+        for (Object argument : task.getArguments()) {
+            if (isObject(argument) && group.stream().anyMatch(member -> usesArgument(member, argument))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean usesArgument(SchedulableTask task, Object argument) {
+        for (Object taskArgument : task.getArguments()) {
+            if (taskArgument == argument) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private FusedTaskProvider fuseGroup(List<SchedulableTask> group, List<SchedulableTask> tasks, String className) {
+        Method[] methods = new Method[group.size()];
+        Object[][] arguments = new Object[group.size()][];
+        Set<Object> localObjects = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int k = 0; k < group.size(); k++) {
+            methods[k] = ((CompilableTask) group.get(k)).getMethod();
+            arguments[k] = group.get(k).getArguments();
+            for (Object argument : arguments[k]) {
+                if (isObject(argument) && !isTransferred.test(argument)) {
+                    localObjects.add(argument);
+                }
+            }
+        }
+        for (SchedulableTask task : tasks) {
+            if (!group.contains(task)) {
+                localObjects.removeIf(object -> usesArgument(task, object));
+            }
+        }
+        return asmClassVisitorProvider.fuseTasks(methods, arguments, localObjects, className);
+    }
+
+    private static String createClassName(CompilableTask task) {
+        return task.getMethod().getDeclaringClass().getName().replace('.', '/') + FUSED_CLASS_SUFFIX + classCounter.incrementAndGet();
+    }
+
+    private SchedulableTask createFusedTask(List<SchedulableTask> group, FusedTaskProvider fusedTask) {
+        final Class<?> declaringClass = ((CompilableTask) group.get(0)).getMethod().getDeclaringClass();
+        try {
+            // The new class is defined in the package of the first task
+            TornadoTaskFusion.class.getModule().addReads(declaringClass.getModule());
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+            Class<?> fusedClass = lookup.defineClass(fusedTask.getClassFile());
+            Method fusedMethod = null;
+            for (Method method : fusedClass.getDeclaredMethods()) {
+                if (method.getName().equals(fusedTask.getMethodName())) {
+                    fusedMethod = method;
+                }
+            }
+            if (fusedMethod == null) {
+                return null;
+            }
+
+            StringBuilder id = new StringBuilder();
+            for (SchedulableTask task : group) {
+                String taskId = task.getId();
+                id.append(id.isEmpty() ? "" : "_").append(taskId.substring(taskId.lastIndexOf('.') + 1));
+            }
+            CompilableTask fused = new CompilableTask(scheduleMetaData, id.toString(), fusedMethod, fusedTask.getArguments());
+            fused.mapTo(group.get(0).getDevice());
+            Tornado.debug("Tasks %s fused into %s", id, fusedMethod.getName());
+            return fused;
+        } catch (ReflectiveOperationException | LinkageError | IllegalArgumentException e) {
+            Tornado.debug("Tasks cannot be fused: %s", e.getMessage());
+            return null;
+        }
+    }
+}
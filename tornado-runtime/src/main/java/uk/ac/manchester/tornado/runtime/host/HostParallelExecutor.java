@@ -0,0 +1,174 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.host;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntBinaryOperator;
+
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.annotations.Reduce;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.runtime.ASMClassVisitorProvider;
+import uk.ac.manchester.tornado.runtime.common.Tornado;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+
+/**
+ * Pure-Java multi-core executor for tasks. It runs on the host, without any
+ * accelerator driver, and it operates directly on the task arguments, so no
+ * data is copied.
+ *
+ * <p>
+ * The first time a task is executed, its outermost {@code @Parallel} loop is
+ * rewritten (see {@link ASMClassVisitorProvider#createParallelLoopClass}) into
+ * a new class in the package of the task. The rewritten method is then invoked
+ * concurrently from a {@link ForkJoinPool} with one {@link ParallelLoopCursor}
+ * per worker. Tasks that cannot be rewritten (no {@code @Parallel} loop,
+ * reductions, kernel-context tasks, lambdas with captured variables, etc.) are
+ * reported back to the caller, which runs them sequentially.
+ * </p>
+ */
+public final class HostParallelExecutor {
+
+    private static final String PARALLEL_CLASS_SUFFIX = "$TornadoParallel$";
+
+    private static final ASMClassVisitorProvider asmClassVisitorProvider = loadClassVisitorProvider();
+    private static final ForkJoinPool pool = new ForkJoinPool(Math.max(1, TornadoOptions.HOST_THREADS));
+    private static final ConcurrentHashMap<Method, Optional<MethodHandle>> parallelKernels = new ConcurrentHashMap<>();
+    private static final AtomicInteger classCounter = new AtomicInteger(0);
+
+    private HostParallelExecutor() {
+    }
+
+    private static ASMClassVisitorProvider loadClassVisitorProvider() {
+        ASMClassVisitorProvider provider = ASMClassVisitorProvider.loadImplementation();
+        if (provider == null && System.getProperty("tornado.load.annotation.implementation") != null) {
+            Tornado.warn("Tornado Annotation Implementation class not found. Host tasks will run sequentially.");
+        }
+        return provider;
+    }
+
+    /**
+     * Runs a task on all the host workers.
+     *
+     * @param method
+     *     Method of the task.
+     * @param arguments
+     *     Arguments of the task.
+     * @param chunkSize
+     *     Number of consecutive loop iterations that a worker claims at a time.
+     * @return false if the task cannot be executed in parallel. In this case,
+     *     the task has not been executed.
+     */
+    public static boolean execute(Method method, Object[] arguments, int chunkSize) {
+        if (method.getParameterCount() != arguments.length) {
+            // Lambda with captured variables
+            return false;
+        }
+        Optional<MethodHandle> parallelKernel = parallelKernels.computeIfAbsent(method, HostParallelExecutor::createParallelKernel);
+        if (parallelKernel.isEmpty()) {
+            return false;
+        }
+
+        final MethodHandle kernel = parallelKernel.get();
+        final AtomicInteger nextChunk = new AtomicInteger(0);
+        final int numWorkers = pool.getParallelism();
+        final ForkJoinTask<?>[] workers = new ForkJoinTask<?>[numWorkers];
+        for (int i = 0; i < numWorkers; i++) {
+            Object[] workerArguments = Arrays.copyOf(arguments, arguments.length + 1);
+            workerArguments[arguments.length] = new ParallelLoopCursor(nextChunk, Math.max(1, chunkSize));
+            workers[i] = pool.submit(() -> invoke(kernel, workerArguments));
+        }
+        for (ForkJoinTask<?> worker : workers) {
+            worker.join();
+        }
+        return true;
+    }
+
+    private static void invoke(MethodHandle kernel, Object[] arguments) {
+        try {
+            kernel.invokeExact(arguments);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new TornadoRuntimeException("[ERROR] Host task failed: " + e, e);
+        }
+    }
+
+    private static boolean isSupported(Method method) {
+        if (!Modifier.isStatic(method.getModifiers())) {
+            return false;
+        }
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            if (parameterType == KernelContext.class) {
+                return false;
+            }
+        }
+        for (Annotation[] annotations : method.getParameterAnnotations()) {
+            for (Annotation annotation : annotations) {
+                if (annotation instanceof Reduce) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static Optional<MethodHandle> createParallelKernel(Method method) {
+        if (asmClassVisitorProvider == null || !isSupported(method)) {
+            return Optional.empty();
+        }
+
+        final Class<?> declaringClass = method.getDeclaringClass();
+        final String className = declaringClass.getName().replace('.', '/') + PARALLEL_CLASS_SUFFIX + method.getName() + "$" + classCounter.incrementAndGet();
+        try {
+            byte[] classFile = asmClassVisitorProvider.createParallelLoopClass(method, className);
+            if (classFile == null) {
+                return Optional.empty();
+            }
+
+            // The new class is defined in the package of the task
+            HostParallelExecutor.class.getModule().addReads(declaringClass.getModule());
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+            Class<?> parallelClass = lookup.defineClass(classFile);
+
+            MethodType methodType = MethodType.methodType(method.getReturnType(), method.getParameterTypes()).appendParameterTypes(IntBinaryOperator.class);
+            MethodHandle kernel = lookup.findStatic(parallelClass, method.getName(), methodType);
+            return Optional.of(kernel.asSpreader(Object[].class, methodType.parameterCount()).asType(MethodType.methodType(void.class, Object[].class)));
+        } catch (ReflectiveOperationException | LinkageError | IllegalArgumentException | TornadoRuntimeException e) {
+            Tornado.debug("Task %s cannot run in parallel on the host: %s", method.getName(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
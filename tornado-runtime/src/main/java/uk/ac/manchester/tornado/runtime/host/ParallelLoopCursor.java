@@ -0,0 +1,84 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.host;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Hands out the iterations of a {@code @Parallel} loop to one host worker. All
+ * the cursors of the same execution share a chunk counter: a worker claims
+ * {@code chunkSize} consecutive iterations at a time, so threads that finish
+ * early take more work (dynamic scheduling) while each thread still walks a
+ * contiguous range that the JIT can unroll and vectorise.
+ *
+ * <p>
+ * The rewritten task calls {@link #applyAsInt(int, int)} with the initial
+ * value of the induction variable before entering the loop, and with the
+ * current value at the end of each iteration. Both calls pass the loop step.
+ * </p>
+ */
+public final class ParallelLoopCursor implements IntBinaryOperator {
+
+    private final AtomicInteger nextChunk;
+    private final int chunkSize;
+
+    private boolean started;
+    private int init;
+    private int step;
+    private long iteration;
+    private long chunkEnd;
+
+    public ParallelLoopCursor(AtomicInteger nextChunk, int chunkSize) {
+        this.nextChunk = nextChunk;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public int applyAsInt(int index, int step) {
+        if (!started) {
+            started = true;
+            this.init = index;
+            this.step = step;
+            claimChunk();
+        } else if (++iteration >= chunkEnd) {
+            claimChunk();
+        }
+        return indexOf(iteration);
+    }
+
+    private void claimChunk() {
+        iteration = (long) nextChunk.getAndIncrement() * chunkSize;
+        chunkEnd = iteration + chunkSize;
+    }
+
+    /**
+     * The index saturates instead of wrapping around, so the loop condition
+     * always terminates the loop once the iteration space is exhausted.
+     */
+    private int indexOf(long iterationNumber) {
+        long index = init + iterationNumber * step;
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, index));
+    }
+}
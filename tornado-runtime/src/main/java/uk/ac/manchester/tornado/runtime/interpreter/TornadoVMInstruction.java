@@ -0,0 +1,111 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.interpreter;
+
+import uk.ac.manchester.tornado.runtime.common.DeviceObjectState;
+import uk.ac.manchester.tornado.runtime.graph.TornadoVMBytecodes;
+
+/**
+ * A pre-decoded TornadoVM bytecode. The {@link TornadoVMInterpreter} decodes
+ * the byte stream produced by the
+ * {@link uk.ac.manchester.tornado.runtime.graph.TornadoVMBytecodeBuilder} only
+ * once, when the interpreter is created, into an array of instructions. All
+ * operands, wait lists and argument lists are resolved at that point, so the
+ * execution loop does not need to parse bytes or allocate per invocation.
+ */
+final class TornadoVMInstruction {
+
+    final TornadoVMBytecodes bytecode;
+
+    /**
+     * Object index for single-object bytecodes (transfers and de-allocations).
+     */
+    final int objectIndex;
+
+    /**
+     * Event list index, or -1 if the bytecode has no associated event list.
+     */
+    final int eventList;
+
+    /**
+     * Event list to wait on, resolved at decode time. It is {@code null} when
+     * dependencies are not used.
+     */
+    final int[] waitList;
+
+    final long offset;
+    final long sizeBatch;
+
+    // ALLOC operands
+    final int[] objectIndexes;
+    final Object[] objects;
+    final DeviceObjectState[] objectStates;
+
+    // LAUNCH operands
+    final int callWrapperIndex;
+    final int taskIndex;
+    final int localTaskIndex;
+    final int numArgs;
+    final byte[] argTypes;
+    final int[] argIndexes;
+
+    private TornadoVMInstruction(TornadoVMBytecodes bytecode, int objectIndex, int eventList, int[] waitList, long offset, long sizeBatch, int[] objectIndexes, int callWrapperIndex, int taskIndex,
+            int localTaskIndex, byte[] argTypes, int[] argIndexes) {
+        this.bytecode = bytecode;
+        this.objectIndex = objectIndex;
+        this.eventList = eventList;
+        this.waitList = waitList;
+        this.offset = offset;
+        this.sizeBatch = sizeBatch;
+        this.objectIndexes = objectIndexes;
+        this.objects = (objectIndexes != null) ? new Object[objectIndexes.length] : null;
+        this.objectStates = (objectIndexes != null) ? new DeviceObjectState[objectIndexes.length] : null;
+        this.callWrapperIndex = callWrapperIndex;
+        this.taskIndex = taskIndex;
+        this.localTaskIndex = localTaskIndex;
+        this.numArgs = (argTypes != null) ? argTypes.length : 0;
+        this.argTypes = argTypes;
+        this.argIndexes = argIndexes;
+    }
+
+    static TornadoVMInstruction alloc(long sizeBatch, int[] objectIndexes) {
+        return new TornadoVMInstruction(TornadoVMBytecodes.ALLOC, -1, -1, null, 0, sizeBatch, objectIndexes, -1, -1, -1, null, null);
+    }
+
+    static TornadoVMInstruction dealloc(int objectIndex) {
+        return new TornadoVMInstruction(TornadoVMBytecodes.DEALLOC, objectIndex, -1, null, 0, 0, null, -1, -1, -1, null, null);
+    }
+
+    static TornadoVMInstruction transfer(TornadoVMBytecodes bytecode, int objectIndex, int eventList, int[] waitList, long offset, long sizeBatch) {
+        return new TornadoVMInstruction(bytecode, objectIndex, eventList, waitList, offset, sizeBatch, null, -1, -1, -1, null, null);
+    }
+
+    static TornadoVMInstruction launch(int callWrapperIndex, int taskIndex, int localTaskIndex, int eventList, int[] waitList, long offset, long batchThreads, byte[] argTypes, int[] argIndexes) {
+        return new TornadoVMInstruction(TornadoVMBytecodes.LAUNCH, -1, eventList, waitList, offset, batchThreads, null, callWrapperIndex, taskIndex, localTaskIndex, argTypes, argIndexes);
+    }
+
+    static TornadoVMInstruction eventListOperation(TornadoVMBytecodes bytecode, int eventList, int[] waitList) {
+        return new TornadoVMInstruction(bytecode, -1, eventList, waitList, 0, 0, null, -1, -1, -1, null, null);
+    }
+}
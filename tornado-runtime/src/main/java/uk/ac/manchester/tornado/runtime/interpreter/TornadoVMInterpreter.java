@@ -29,6 +29,7 @@ import static uk.ac.manchester.tornado.runtime.common.Tornado.USE_VM_FLUSH;
 import static uk.ac.manchester.tornado.runtime.common.Tornado.VM_USE_DEPS;
 import static uk.ac.manchester.tornado.runtime.common.TornadoOptions.VIRTUAL_DEVICE_ENABLED;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.BitSet;
 import java.util.HashMap;
@@ -38,6 +39,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import uk.ac.manchester.tornado.api.GridScheduler;
 import uk.ac.manchester.tornado.api.KernelContext;
 import uk.ac.manchester.tornado.api.WorkerGrid;
+import uk.ac.manchester.tornado.api.common.Access;
 import uk.ac.manchester.tornado.api.common.Event;
 import uk.ac.manchester.tornado.api.common.SchedulableTask;
 import uk.ac.manchester.tornado.api.common.TornadoEvents;
@@ -49,6 +51,7 @@ import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
 import uk.ac.manchester.tornado.api.memory.ObjectBuffer;
 import uk.ac.manchester.tornado.api.profiler.ProfilerType;
 import uk.ac.manchester.tornado.api.profiler.TornadoProfiler;
+import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
 import uk.ac.manchester.tornado.runtime.EmptyEvent;
 import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
 import uk.ac.manchester.tornado.runtime.common.DeviceObjectState;
@@ -61,6 +64,14 @@ import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
 import uk.ac.manchester.tornado.runtime.graph.TornadoExecutionContext;
 import uk.ac.manchester.tornado.runtime.graph.TornadoVMBytecodeResult;
 import uk.ac.manchester.tornado.runtime.graph.TornadoVMBytecodes;
+import uk.ac.manchester.tornado.runtime.jfr.BufferAllocationEvent;
+import uk.ac.manchester.tornado.runtime.jfr.DataTransferEvent;
+import uk.ac.manchester.tornado.runtime.jfr.DeviceEventRecorder;
+import uk.ac.manchester.tornado.runtime.jfr.KernelCompleteEvent;
+import uk.ac.manchester.tornado.runtime.jfr.KernelLaunchEvent;
+import uk.ac.manchester.tornado.runtime.metrics.Counter;
+import uk.ac.manchester.tornado.runtime.metrics.MetricScope;
+import uk.ac.manchester.tornado.runtime.metrics.MetricsRegistry;
 import uk.ac.manchester.tornado.runtime.profiler.TimeProfiler;
 import uk.ac.manchester.tornado.runtime.tasks.GlobalObjectState;
 import uk.ac.manchester.tornado.runtime.tasks.PrebuiltTask;
@@ -85,6 +96,7 @@ public class TornadoVMInterpreter extends TornadoLogger {
     private final KernelArgs[] callWrappers;
     private final int[][] events;
     private final int[] eventsIndexes;
+    private final int[] eventsHighWaterMarks;
     private final TornadoAcceleratorDevice deviceForInterpreter;
     private final TornadoInstalledCode[] installedCodes;
 
@@ -94,7 +106,14 @@ public class TornadoVMInterpreter extends TornadoLogger {
 
     private final TornadoProfiler timeProfiler;
     private final TornadoExecutionContext executionContext;
-    private final TornadoVMBytecodeResult bytecodeResult;
+    private final TornadoVMInstruction[] instructions;
+    private final DeviceObjectState[] deviceStates;
+    private final HashMap<Integer, Integer> kernelContextThreads;
+    private final DeviceEventRecorder deviceEventRecorder = new DeviceEventRecorder();
+    private final Counter deviceCompilations;
+    private final Counter deviceKernelLaunches;
+    private final Counter taskGraphCompilations;
+    private final boolean versionedTransfers;
     private double totalTime;
     private long invocations;
     private boolean finishedWarmup;
@@ -116,7 +135,6 @@ public class TornadoVMInterpreter extends TornadoLogger {
     public TornadoVMInterpreter(TornadoExecutionContext executionContext, TornadoVMBytecodeResult bytecodeResult, TornadoProfiler timeProfiler, TornadoAcceleratorDevice device) {
         this.executionContext = executionContext;
         this.timeProfiler = timeProfiler;
-        this.bytecodeResult = bytecodeResult;
 
         assert device != null;
         this.deviceForInterpreter = device;
@@ -127,11 +145,13 @@ public class TornadoVMInterpreter extends TornadoLogger {
 
         debug("init an instance of a tornadovm interpreter...");
 
-        this.bytecodeResult.getLong(); // Skips bytes not needed
+        bytecodeResult.getLong(); // Skips bytes not needed
 
         callWrappers = executionContext.getCallWrappers().clone();
-        events = new int[this.bytecodeResult.getInt()][MAX_EVENTS];
+        events = new int[bytecodeResult.getInt()][MAX_EVENTS];
         eventsIndexes = new int[events.length];
+        eventsHighWaterMarks = new int[events.length];
+        kernelContextThreads = new HashMap<>();
 
         localTaskList = executionContext.getTasksForDevice(deviceForInterpreter.getDeviceContext(), deviceForInterpreter.getDriverIndex());
 
@@ -145,18 +165,26 @@ public class TornadoVMInterpreter extends TornadoLogger {
         debug("created %d callWrappers", callWrappers.length);
         debug("created %d event lists", events.length);
 
+        constants = executionContext.getConstants();
+        tasks = executionContext.getTasks();
+
+        rewindBufferToBegin(bytecodeResult);
+        instructions = decodeBytecodes(bytecodeResult);
+        debug("decoded %d bytecodes", instructions.length);
+
         objects = executionContext.getObjects();
         globalStates = new GlobalObjectState[objects.size()];
+        deviceStates = new DeviceObjectState[objects.size()];
         fetchGlobalStates();
 
-        rewindBufferToBegin();
-
-        constants = executionContext.getConstants();
-        tasks = executionContext.getTasks();
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        String deviceName = MetricsRegistry.deviceName(device.getTornadoVMBackend(), device.getDeviceContext());
+        deviceCompilations = metrics.counter("tornado_device_compilations_total", "Tasks compiled for the device", MetricScope.DEVICE, deviceName);
+        deviceKernelLaunches = metrics.counter("tornado_device_kernel_launches_total", "Kernels launched on the device", MetricScope.DEVICE, deviceName);
+        taskGraphCompilations = metrics.counter("tornado_task_graph_compilations_total", "Tasks compiled for the task-graph", MetricScope.TASK_GRAPH, executionContext.getId());
+        versionedTransfers = TornadoOptions.isVersionedTransfersEnabled();
 
         debug("interpreter for device %s is ready to go", device.toString());
-
-        this.bytecodeResult.mark();
     }
 
     public void fetchGlobalStates() {
@@ -165,11 +193,28 @@ public class TornadoVMInterpreter extends TornadoLogger {
             final Object object = objects.get(i);
             TornadoInternalError.guarantee(object != null, "null object found in TornadoVM");
             globalStates[i] = TornadoCoreRuntime.getTornadoRuntime().resolveObject(object);
+            deviceStates[i] = globalStates[i].getDeviceState(deviceForInterpreter);
             debug("\tobject[%d]: [0x%x] %s %s", i, object.hashCode(), object.getClass().getTypeName(), globalStates[i]);
         }
+        resolveAllocInstructions();
     }
 
-    private void rewindBufferToBegin() {
+    /**
+     * It binds the objects and device states of every ALLOC instruction, so
+     * allocations can be issued without building new arrays per execution.
+     */
+    private void resolveAllocInstructions() {
+        for (TornadoVMInstruction instruction : instructions) {
+            if (instruction.bytecode == TornadoVMBytecodes.ALLOC) {
+                for (int i = 0; i < instruction.objectIndexes.length; i++) {
+                    instruction.objects[i] = objects.get(instruction.objectIndexes[i]);
+                    instruction.objectStates[i] = deviceStates[instruction.objectIndexes[i]];
+                }
+            }
+        }
+    }
+
+    private void rewindBufferToBegin(TornadoVMBytecodeResult bytecodeResult) {
         byte op = bytecodeResult.get();
         while (op != TornadoVMBytecodes.BEGIN.value()) {
             TornadoInternalError.guarantee(op == TornadoVMBytecodes.CONTEXT.value(), "invalid code: 0x%x", op);
@@ -184,6 +229,85 @@ public class TornadoVMInterpreter extends TornadoLogger {
         }
     }
 
+    /**
+     * It translates the bytecodes between BEGIN and END into an array of
+     * {@link TornadoVMInstruction}. This is done once per interpreter, and the
+     * resulting instructions are reused for every execution of the task-graph.
+     *
+     * @param bytecodeResult
+     *     The {@link TornadoVMBytecodeResult} positioned right after the BEGIN
+     *     bytecode.
+     * @return An array with the decoded instructions, excluding END.
+     */
+    private TornadoVMInstruction[] decodeBytecodes(TornadoVMBytecodeResult bytecodeResult) {
+        List<TornadoVMInstruction> decoded = new ArrayList<>();
+        while (bytecodeResult.hasRemaining()) {
+            final byte op = bytecodeResult.get();
+            if (op == TornadoVMBytecodes.ALLOC.value()) {
+                final long sizeBatch = bytecodeResult.getLong();
+                final int argSize = bytecodeResult.getInt();
+                final int[] args = new int[argSize];
+                for (int i = 0; i < argSize; i++) {
+                    args[i] = bytecodeResult.getInt();
+                }
+                decoded.add(TornadoVMInstruction.alloc(sizeBatch, args));
+            } else if (op == TornadoVMBytecodes.DEALLOC.value()) {
+                decoded.add(TornadoVMInstruction.dealloc(bytecodeResult.getInt()));
+            } else if (op == TornadoVMBytecodes.TRANSFER_HOST_TO_DEVICE_ONCE.value() || op == TornadoVMBytecodes.TRANSFER_HOST_TO_DEVICE_ALWAYS.value()) {
+                final int objectIndex = bytecodeResult.getInt();
+                final int eventList = bytecodeResult.getInt();
+                final long offset = bytecodeResult.getLong();
+                final long sizeBatch = bytecodeResult.getLong();
+                final TornadoVMBytecodes bytecode = (op == TornadoVMBytecodes.TRANSFER_HOST_TO_DEVICE_ONCE.value())
+                        ? TornadoVMBytecodes.TRANSFER_HOST_TO_DEVICE_ONCE
+                        : TornadoVMBytecodes.TRANSFER_HOST_TO_DEVICE_ALWAYS;
+                decoded.add(TornadoVMInstruction.transfer(bytecode, objectIndex, eventList, resolveWaitList(eventList), offset, sizeBatch));
+            } else if (op == TornadoVMBytecodes.TRANSFER_DEVICE_TO_HOST_ALWAYS.value() || op == TornadoVMBytecodes.TRANSFER_DEVICE_TO_HOST_ALWAYS_BLOCKING.value()) {
+                final int objectIndex = bytecodeResult.getInt();
+                final int eventList = bytecodeResult.getInt();
+                final long offset = bytecodeResult.getLong();
+                final long sizeBatch = bytecodeResult.getLong();
+                final TornadoVMBytecodes bytecode = (op == TornadoVMBytecodes.TRANSFER_DEVICE_TO_HOST_ALWAYS.value())
+                        ? TornadoVMBytecodes.TRANSFER_DEVICE_TO_HOST_ALWAYS
+                        : TornadoVMBytecodes.TRANSFER_DEVICE_TO_HOST_ALWAYS_BLOCKING;
+                decoded.add(TornadoVMInstruction.transfer(bytecode, objectIndex, eventList, resolveWaitList(eventList), offset, sizeBatch));
+            } else if (op == TornadoVMBytecodes.LAUNCH.value()) {
+                final int callWrapperIndex = bytecodeResult.getInt();
+                final int taskIndex = bytecodeResult.getInt();
+                final int numArgs = bytecodeResult.getInt();
+                final int eventList = bytecodeResult.getInt();
+                final long offset = bytecodeResult.getLong();
+                final long batchThreads = bytecodeResult.getLong();
+                final byte[] argTypes = new byte[numArgs];
+                final int[] argIndexes = new int[numArgs];
+                for (int i = 0; i < numArgs; i++) {
+                    argTypes[i] = bytecodeResult.get();
+                    argIndexes[i] = bytecodeResult.getInt();
+                    if (argTypes[i] != TornadoVMBytecodes.PUSH_CONSTANT_ARGUMENT.value() && argTypes[i] != TornadoVMBytecodes.PUSH_REFERENCE_ARGUMENT.value()) {
+                        TornadoInternalError.shouldNotReachHere();
+                    }
+                }
+                decoded.add(TornadoVMInstruction.launch(callWrapperIndex, taskIndex, globalToLocalTaskIndex(taskIndex), eventList, resolveWaitList(eventList), offset, batchThreads, argTypes,
+                        argIndexes));
+            } else if (op == TornadoVMBytecodes.ADD_DEPENDENCY.value()) {
+                final int eventList = bytecodeResult.getInt();
+                decoded.add(TornadoVMInstruction.eventListOperation(TornadoVMBytecodes.ADD_DEPENDENCY, eventList, null));
+            } else if (op == TornadoVMBytecodes.BARRIER.value()) {
+                final int eventList = bytecodeResult.getInt();
+                decoded.add(TornadoVMInstruction.eventListOperation(TornadoVMBytecodes.BARRIER, eventList, resolveWaitList(eventList)));
+            } else if (op == TornadoVMBytecodes.END.value()) {
+                break;
+            } else {
+                throwError(op);
+            }
+        }
+        return decoded.toArray(new TornadoVMInstruction[0]);
+    }
+
+    private int[] resolveWaitList(int eventList) {
+        return (useDependencies && eventList != -1) ? events[eventList] : null;
+    }
+
     public void setGridScheduler(GridScheduler gridScheduler) {
         this.gridScheduler = gridScheduler;
     }
@@ -256,101 +380,62 @@ public class TornadoVMInterpreter extends TornadoLogger {
                     .debugHighLightHelper(" Running in thread: ")).append(Thread.currentThread().getName()).append("\n");
         }
 
-        while (bytecodeResult.hasRemaining()) {
-            final byte op = bytecodeResult.get();
-            if (op == TornadoVMBytecodes.ALLOC.value()) {
-                final long sizeBatch = bytecodeResult.getLong();
-                final int argSize = bytecodeResult.getInt();
-                final int[] args = new int[argSize];
-                for (int i = 0; i < argSize; i++) {
-                    args[i] = bytecodeResult.getInt();
-                }
-                if (isWarmup) {
-                    continue;
-                }
-                lastEvent = executeAlloc(tornadoVMBytecodeList, args, sizeBatch);
-            } else if (op == TornadoVMBytecodes.DEALLOC.value()) {
-                final int objectIndex = bytecodeResult.getInt();
-                if (isWarmup) {
-                    continue;
+        for (final TornadoVMInstruction instruction : instructions) {
+            switch (instruction.bytecode) {
+                case ALLOC -> {
+                    if (!isWarmup) {
+                        lastEvent = executeAlloc(tornadoVMBytecodeList, instruction);
+                    }
                 }
-                lastEvent = executeDeAlloc(tornadoVMBytecodeList, objectIndex);
-            } else if (op == TornadoVMBytecodes.TRANSFER_HOST_TO_DEVICE_ONCE.value()) {
-                final int objectIndex = bytecodeResult.getInt();
-                final int eventList = bytecodeResult.getInt();
-                final long offset = bytecodeResult.getLong();
-                final long sizeBatch = bytecodeResult.getLong();
-                final int[] waitList = (useDependencies && eventList != -1) ? events[eventList] : null;
-                if (isWarmup) {
-                    continue;
+                case DEALLOC -> {
+                    if (!isWarmup) {
+                        lastEvent = executeDeAlloc(tornadoVMBytecodeList, instruction.objectIndex);
+                    }
                 }
-                transferHostToDeviceOnce(tornadoVMBytecodeList, objectIndex, offset, eventList, sizeBatch, waitList);
-            } else if (op == TornadoVMBytecodes.TRANSFER_HOST_TO_DEVICE_ALWAYS.value()) {
-                final int objectIndex = bytecodeResult.getInt();
-                final int eventList = bytecodeResult.getInt();
-                final long offset = bytecodeResult.getLong();
-                final long sizeBatch = bytecodeResult.getLong();
-                final int[] waitList = (useDependencies && eventList != -1) ? events[eventList] : null;
-                if (isWarmup) {
-                    continue;
+                case TRANSFER_HOST_TO_DEVICE_ONCE -> {
+                    if (!isWarmup) {
+                        transferHostToDeviceOnce(tornadoVMBytecodeList, instruction.objectIndex, instruction.offset, instruction.eventList, instruction.sizeBatch, instruction.waitList);
+                    }
                 }
-                transferHostToDeviceAlways(tornadoVMBytecodeList, objectIndex, offset, eventList, sizeBatch, waitList);
-            } else if (op == TornadoVMBytecodes.TRANSFER_DEVICE_TO_HOST_ALWAYS.value()) {
-                final int objectIndex = bytecodeResult.getInt();
-                final int eventList = bytecodeResult.getInt();
-                final long offset = bytecodeResult.getLong();
-                final long sizeBatch = bytecodeResult.getLong();
-                final int[] waitList = (useDependencies) ? events[eventList] : null;
-                if (isWarmup) {
-                    continue;
+                case TRANSFER_HOST_TO_DEVICE_ALWAYS -> {
+                    if (!isWarmup) {
+                        transferHostToDeviceAlways(tornadoVMBytecodeList, instruction.objectIndex, instruction.offset, instruction.eventList, instruction.sizeBatch, instruction.waitList);
+                    }
                 }
-                lastEvent = transferDeviceToHost(tornadoVMBytecodeList, objectIndex, offset, eventList, sizeBatch, waitList);
-            } else if (op == TornadoVMBytecodes.TRANSFER_DEVICE_TO_HOST_ALWAYS_BLOCKING.value()) {
-                final int objectIndex = bytecodeResult.getInt();
-                final int eventList = bytecodeResult.getInt();
-                final long offset = bytecodeResult.getLong();
-                final long sizeBatch = bytecodeResult.getLong();
-                final int[] waitList = (useDependencies) ? events[eventList] : null;
-                if (isWarmup) {
-                    continue;
+                case TRANSFER_DEVICE_TO_HOST_ALWAYS -> {
+                    if (!isWarmup) {
+                        lastEvent = transferDeviceToHost(tornadoVMBytecodeList, instruction.objectIndex, instruction.offset, instruction.eventList, instruction.sizeBatch, instruction.waitList);
+                    }
                 }
-                transferDeviceToHostBlocking(tornadoVMBytecodeList, objectIndex, offset, eventList, sizeBatch, waitList);
-            } else if (op == TornadoVMBytecodes.LAUNCH.value()) {
-                final int callWrapperIndex = bytecodeResult.getInt();
-                final int taskIndex = bytecodeResult.getInt();
-                final int numArgs = bytecodeResult.getInt();
-                final int eventList = bytecodeResult.getInt();
-                final long offset = bytecodeResult.getLong();
-                final long batchThreads = bytecodeResult.getLong();
-                ExecutionInfo info = compileTaskFromBytecodeToBinary(callWrapperIndex, numArgs, eventList, taskIndex, batchThreads);
-                if (isWarmup) {
-                    popArgumentsFromCall(numArgs);
-                    continue;
+                case TRANSFER_DEVICE_TO_HOST_ALWAYS_BLOCKING -> {
+                    if (!isWarmup) {
+                        transferDeviceToHostBlocking(tornadoVMBytecodeList, instruction.objectIndex, instruction.offset, instruction.eventList, instruction.sizeBatch, instruction.waitList);
+                    }
                 }
-                lastEvent = executeLaunch(tornadoVMBytecodeList, numArgs, eventList, taskIndex, batchThreads, offset, info);
-            } else if (op == TornadoVMBytecodes.ADD_DEPENDENCY.value()) {
-                final int eventList = bytecodeResult.getInt();
-                if (isWarmup) {
-                    continue;
+                case LAUNCH -> {
+                    KernelArgs callWrapper = compileTaskFromBytecodeToBinary(instruction);
+                    if (!isWarmup) {
+                        lastEvent = executeLaunch(tornadoVMBytecodeList, instruction, callWrapper);
+                    }
                 }
-                executeDependency(tornadoVMBytecodeList, lastEvent, eventList);
-            } else if (op == TornadoVMBytecodes.BARRIER.value()) {
-                final int eventList = bytecodeResult.getInt();
-                final int[] waitList = (useDependencies && eventList != -1) ? events[eventList] : null;
-                if (isWarmup) {
-                    continue;
+                case ADD_DEPENDENCY -> {
+                    if (!isWarmup) {
+                        executeDependency(tornadoVMBytecodeList, lastEvent, instruction.eventList);
+                    }
                 }
-                lastEvent = executeBarrier(tornadoVMBytecodeList, eventList, waitList);
-            } else if (op == TornadoVMBytecodes.END.value()) {
-                if (!isWarmup && TornadoOptions.PRINT_BYTECODES) {
-                    tornadoVMBytecodeList.append("bc: ").append(InterpreterUtilities.debugHighLightBC("END\n")).append("\n");
+                case BARRIER -> {
+                    if (!isWarmup) {
+                        lastEvent = executeBarrier(tornadoVMBytecodeList, instruction.eventList, instruction.waitList);
+                    }
                 }
-                break;
-            } else {
-                throwError(op);
+                default -> throwError(instruction.bytecode.value());
             }
         }
 
+        if (!isWarmup && TornadoOptions.PRINT_BYTECODES) {
+            tornadoVMBytecodeList.append("bc: ").append(InterpreterUtilities.debugHighLightBC("END\n")).append("\n");
+        }
+
         Event barrier = EMPTY_EVENT;
         if (!isWarmup) {
             if (useDependencies) {
@@ -361,6 +446,10 @@ public class TornadoVMInterpreter extends TornadoLogger {
             if (USE_VM_FLUSH) {
                 deviceForInterpreter.flush();
             }
+
+            if (!deviceEventRecorder.isEmpty()) {
+                deviceEventRecorder.commit(deviceForInterpreter);
+            }
         }
 
         final long t1 = System.nanoTime();
@@ -374,8 +463,6 @@ public class TornadoVMInterpreter extends TornadoLogger {
             debug("bc: complete elapsed=%.9f s (%d iterations, %.9f s mean)", elapsed, invocations, (totalTime / invocations));
         }
 
-        bytecodeResult.reset();
-
         if (TornadoOptions.PRINT_BYTECODES) {
             System.out.println(tornadoVMBytecodeList);
         }
@@ -383,28 +470,77 @@ public class TornadoVMInterpreter extends TornadoLogger {
         return barrier;
     }
 
+    /**
+     * It clears the entries of the event lists written in the previous
+     * execution. Only the slots that were filled by ADD_DEPENDENCY are reset.
+     */
     private void initWaitEventList() {
-        for (int[] waitList : events) {
-            Arrays.fill(waitList, -1);
+        for (int i = 0; i < events.length; i++) {
+            if (eventsHighWaterMarks[i] > 0) {
+                Arrays.fill(events[i], 0, eventsHighWaterMarks[i], -1);
+                eventsHighWaterMarks[i] = 0;
+            }
         }
     }
 
-    private int executeAlloc(StringBuilder tornadoVMBytecodeList, int[] args, long sizeBatch) {
-
-        Object[] objects = new Object[args.length];
-        DeviceObjectState[] objectStates = new DeviceObjectState[args.length];
-        for (int i = 0; i < objects.length; i++) {
-            objects[i] = this.objects.get(args[i]);
-            objectStates[i] = resolveObjectState(args[i]);
-
-            if (TornadoOptions.PRINT_BYTECODES) {
-                String verbose = String.format("bc: " + InterpreterUtilities.debugHighLightBC("ALLOC") + "%s on %s, size=%d", objects[i], InterpreterUtilities.debugDeviceBC(deviceForInterpreter),
-                        sizeBatch);
+    private int executeAlloc(StringBuilder tornadoVMBytecodeList, TornadoVMInstruction instruction) {
+        final Object[] objects = instruction.objects;
+        if (TornadoOptions.PRINT_BYTECODES) {
+            for (Object object : objects) {
+                String verbose = String.format("bc: " + InterpreterUtilities.debugHighLightBC("ALLOC") + "%s on %s, size=%d", object, InterpreterUtilities.debugDeviceBC(deviceForInterpreter),
+                        instruction.sizeBatch);
                 tornadoVMBytecodeList.append(verbose).append("\n");
             }
         }
 
-        return deviceForInterpreter.allocateObjects(objects, sizeBatch, objectStates);
+        // The JFR events are only created when a recording is running
+        BufferAllocationEvent allocationEvent = null;
+        if (BufferAllocationEvent.isRecording()) {
+            allocationEvent = new BufferAllocationEvent();
+            allocationEvent.begin();
+        }
+        int event = deviceForInterpreter.allocateObjects(objects, instruction.sizeBatch, instruction.objectStates);
+        if (allocationEvent != null) {
+            allocationEvent.end();
+            if (allocationEvent.shouldCommit()) {
+                allocationEvent.device = deviceForInterpreter.getDeviceName();
+                allocationEvent.numObjects = objects.length;
+                for (DeviceObjectState objectState : instruction.objectStates) {
+                    if (objectState != null && objectState.hasObjectBuffer()) {
+                        allocationEvent.bytes += objectState.getObjectBuffer().size();
+                    }
+                }
+                allocationEvent.commit();
+            }
+        }
+        return event;
+    }
+
+    private static DataTransferEvent beginTransfer() {
+        if (!DataTransferEvent.isRecording()) {
+            return null;
+        }
+        DataTransferEvent transferEvent = new DataTransferEvent();
+        transferEvent.begin();
+        return transferEvent;
+    }
+
+    private void recordTransfer(DataTransferEvent transferEvent, String direction, boolean blocking, Object object, DeviceObjectState objectState, long sizeBatch, int eventId) {
+        if (transferEvent == null) {
+            return;
+        }
+        transferEvent.end();
+        if (transferEvent.shouldCommit()) {
+            transferEvent.direction = direction;
+            transferEvent.blocking = blocking;
+            transferEvent.objectType = object.getClass();
+            transferEvent.bytes = sizeBatch > 0 ? sizeBatch : objectState.getObjectBuffer().size();
+            deviceEventRecorder.add(transferEvent, deviceForInterpreter.getDeviceName(), eventId);
+        }
+    }
+
+    private static int lastEventOf(List<Integer> events) {
+        return (events == null || events.isEmpty()) ? -1 : events.get(events.size() - 1);
     }
 
     private int executeDeAlloc(StringBuilder tornadoVMBytecodeList, final int objectIndex) {
@@ -430,10 +566,19 @@ public class TornadoVMInterpreter extends TornadoLogger {
 
         final DeviceObjectState objectState = resolveObjectState(objectIndex);
 
+        // Native arrays that the host wrote after the first copy are copied again
+        final TornadoNativeArray nativeArray = getVersionedArray(object, offset, sizeBatch);
+        final long version = nativeArray != null ? nativeArray.getVersion() : 0;
+
         // We need to stream-in when using batches, because the whole data is not copied
-        List<Integer> allEvents = (sizeBatch > 0)
+        DataTransferEvent transferEvent = beginTransfer();
+        List<Integer> allEvents = (sizeBatch > 0 || (nativeArray != null && objectState.isStale(version)))
                 ? deviceForInterpreter.streamIn(object, sizeBatch, offset, objectState, waitList)
                 : deviceForInterpreter.ensurePresent(object, objectState, waitList, sizeBatch, offset);
+        recordTransfer(transferEvent, DataTransferEvent.HOST_TO_DEVICE, false, object, objectState, sizeBatch, lastEventOf(allEvents));
+        if (nativeArray != null && allEvents != null) {
+            objectState.setTransferredVersion(version);
+        }
 
         resetEventIndexes(eventList);
 
@@ -480,15 +625,35 @@ public class TornadoVMInterpreter extends TornadoLogger {
             return 0;
         }
 
+        final DeviceObjectState objectState = resolveObjectState(objectIndex);
+
+        // Native arrays that the host has not written since the last copy are
+        // already up-to-date on the device
+        final TornadoNativeArray nativeArray = getVersionedArray(object, offset, sizeBatch);
+        final long version = nativeArray != null ? nativeArray.getVersion() : 0;
+        final boolean isUpToDate = nativeArray != null && objectState.hasVersion(version);
+
         if (TornadoOptions.PRINT_BYTECODES && isObjectAtomic(object)) {
-            String verbose = String.format("bc: " + InterpreterUtilities.debugHighLightBC("TRANSFER_HOST_TO_DEVICE_ALWAYS") + " [0x%x] %s on %s, size=%d, offset=%d [event list=%d]", object.hashCode(),
-                    object, InterpreterUtilities.debugDeviceBC(deviceForInterpreter), sizeBatch, offset, eventList);
+            String coloredText = isUpToDate
+                    ? InterpreterUtilities.debugHighLightNonExecBC("TRANSFER_HOST_TO_DEVICE_ALWAYS")
+                    : InterpreterUtilities.debugHighLightBC("TRANSFER_HOST_TO_DEVICE_ALWAYS");
+            String verbose = String.format("bc: " + coloredText + " [0x%x] %s on %s, size=%d, offset=%d [event list=%d]", object.hashCode(), object, InterpreterUtilities.debugDeviceBC(
+                    deviceForInterpreter), sizeBatch, offset, eventList);
             tornadoVMBytecodeList.append(verbose).append("\n");
 
         }
 
-        final DeviceObjectState objectState = resolveObjectState(objectIndex);
+        if (isUpToDate) {
+            resetEventIndexes(eventList);
+            return 0;
+        }
+
+        DataTransferEvent transferEvent = beginTransfer();
         List<Integer> allEvents = deviceForInterpreter.streamIn(object, sizeBatch, offset, objectState, waitList);
+        recordTransfer(transferEvent, DataTransferEvent.HOST_TO_DEVICE, false, object, objectState, sizeBatch, lastEventOf(allEvents));
+        if (nativeArray != null) {
+            objectState.setTransferredVersion(version);
+        }
 
         resetEventIndexes(eventList);
 
@@ -525,7 +690,11 @@ public class TornadoVMInterpreter extends TornadoLogger {
         }
 
         final DeviceObjectState objectState = resolveObjectState(objectIndex);
+        limitCopyOut(objectIndex, object, objectState, sizeBatch);
+        DataTransferEvent transferEvent = beginTransfer();
         int lastEvent = deviceForInterpreter.streamOutBlocking(object, offset, objectState, waitList);
+        recordTransfer(transferEvent, DataTransferEvent.DEVICE_TO_HOST, true, object, objectState, sizeBatch, lastEvent);
+        updateVersionAfterCopyOut(object, objectState, offset, sizeBatch);
 
         resetEventIndexes(eventList);
 
@@ -536,7 +705,7 @@ public class TornadoVMInterpreter extends TornadoLogger {
             value += event.getElapsedTime();
             timeProfiler.setTimer(ProfilerType.COPY_OUT_TIME, value);
 
-            timeProfiler.addValueToMetric(ProfilerType.TOTAL_COPY_OUT_SIZE_BYTES, TimeProfiler.NO_TASK_NAME, objectState.getObjectBuffer().size());
+            timeProfiler.addValueToMetric(ProfilerType.TOTAL_COPY_OUT_SIZE_BYTES, TimeProfiler.NO_TASK_NAME, copyOutSize(objectState));
 
             long dispatchValue = timeProfiler.getTimer(ProfilerType.TOTAL_DISPATCH_DATA_TRANSFERS_TIME);
             dispatchValue += event.getDriverDispatchTime();
@@ -561,8 +730,12 @@ public class TornadoVMInterpreter extends TornadoLogger {
         }
 
         final DeviceObjectState objectState = resolveObjectState(objectIndex);
+        limitCopyOut(objectIndex, object, objectState, sizeBatch);
 
+        DataTransferEvent transferEvent = beginTransfer();
         final int tornadoEventID = deviceForInterpreter.streamOutBlocking(object, offset, objectState, waitList);
+        recordTransfer(transferEvent, DataTransferEvent.DEVICE_TO_HOST, true, object, objectState, sizeBatch, tornadoEventID);
+        updateVersionAfterCopyOut(object, objectState, offset, sizeBatch);
 
         if (TornadoOptions.isProfilerEnabled() && tornadoEventID != -1) {
             Event event = deviceForInterpreter.resolveEvent(tornadoEventID);
@@ -571,7 +744,7 @@ public class TornadoVMInterpreter extends TornadoLogger {
             value += event.getElapsedTime();
             timeProfiler.setTimer(ProfilerType.COPY_OUT_TIME, value);
 
-            timeProfiler.addValueToMetric(ProfilerType.TOTAL_COPY_OUT_SIZE_BYTES, TimeProfiler.NO_TASK_NAME, objectState.getObjectBuffer().size());
+            timeProfiler.addValueToMetric(ProfilerType.TOTAL_COPY_OUT_SIZE_BYTES, TimeProfiler.NO_TASK_NAME, copyOutSize(objectState));
 
             long dispatchValue = timeProfiler.getTimer(ProfilerType.TOTAL_DISPATCH_DATA_TRANSFERS_TIME);
             dispatchValue += event.getDriverDispatchTime();
@@ -580,7 +753,7 @@ public class TornadoVMInterpreter extends TornadoLogger {
         resetEventIndexes(eventList);
     }
 
-    private ExecutionInfo compileTaskFromBytecodeToBinary(final int callWrapperIndex, final int numArgs, final int eventList, final int taskIndex, final long batchThreads) {
+    private KernelArgs compileTaskFromBytecodeToBinary(TornadoVMInstruction instruction) {
 
         if (deviceForInterpreter.getDeviceContext().wasReset() && finishedWarmup) {
             throw new TornadoFailureException("[ERROR] reset() was called after warmup() on device: " + deviceForInterpreter + "!");
@@ -588,16 +761,18 @@ public class TornadoVMInterpreter extends TornadoLogger {
 
         boolean redeployOnDevice = executionContext.redeployOnDevice();
 
-        final KernelArgs callWrapper = resolveCallWrapper(callWrapperIndex, numArgs, callWrappers, deviceForInterpreter, redeployOnDevice);
+        final KernelArgs callWrapper = resolveCallWrapper(instruction.callWrapperIndex, instruction.numArgs, callWrappers, deviceForInterpreter, redeployOnDevice);
 
-        final int[] waitList = (useDependencies && eventList != -1) ? events[eventList] : null;
+        final int taskIndex = instruction.taskIndex;
+        final int localTaskIndex = instruction.localTaskIndex;
+        final long batchThreads = instruction.sizeBatch;
         final SchedulableTask task = tasks.get(taskIndex);
 
         // Check if a different batch size was used for the same kernel. If true, then
         // the kernel needs to be recompiled.
 
-        if (!shouldCompile(installedCodes[globalToLocalTaskIndex(taskIndex)]) && task.getBatchThreads() != 0 && task.getBatchThreads() != batchThreads) {
-            installedCodes[globalToLocalTaskIndex(taskIndex)].invalidate();
+        if (!shouldCompile(installedCodes[localTaskIndex]) && task.getBatchThreads() != 0 && task.getBatchThreads() != batchThreads) {
+            installedCodes[localTaskIndex].invalidate();
         }
         // Set the batch size in the task information
         task.setBatchThreads(batchThreads);
@@ -608,7 +783,7 @@ public class TornadoVMInterpreter extends TornadoLogger {
             task.setGridScheduler(gridScheduler);
         }
 
-        if (shouldCompile(installedCodes[globalToLocalTaskIndex(taskIndex)])) {
+        if (shouldCompile(installedCodes[localTaskIndex])) {
             task.mapTo(deviceForInterpreter);
             try {
                 task.attachProfiler(timeProfiler);
@@ -618,67 +793,64 @@ public class TornadoVMInterpreter extends TornadoLogger {
                     // FPGAs, that has to be a single source.
                     task.forceCompilation();
                 }
-                installedCodes[globalToLocalTaskIndex(taskIndex)] = deviceForInterpreter.installCode(task);
+                installedCodes[localTaskIndex] = deviceForInterpreter.installCode(task);
+                deviceCompilations.increment();
+                taskGraphCompilations.increment();
                 profilerUpdateForPreCompiledTask(task);
                 doUpdate = false;
             } catch (TornadoBailoutRuntimeException e) {
                 throw new TornadoBailoutRuntimeException("Unable to compile " + task.getFullName() + "\n" + "The internal error is: " + e.getMessage() + "\n" + "Stacktrace: " + Arrays.toString(e
-                        .getStackTrace()), e);
+                        .getStackTrace()), e, task.getId());
             } catch (TornadoDeviceFP64NotSupported e) {
                 throw e;
             } catch (InternalError e) {
-                throw new TornadoBailoutRuntimeException("[Internal Error] Unable to compile " + task.getFullName() + "\n" + Arrays.toString(e.getStackTrace()));
+                throw new TornadoBailoutRuntimeException("[Internal Error] Unable to compile " + task.getFullName() + "\n" + Arrays.toString(e.getStackTrace()), null, task.getId());
             }
         }
-        return new ExecutionInfo(callWrapper, waitList);
-    }
-
-    private void popArgumentsFromCall(int numArgs) {
-        for (int i = 0; i < numArgs; i++) {
-            bytecodeResult.get();
-            bytecodeResult.getInt();
-        }
+        return callWrapper;
     }
 
-    private int executeLaunch(StringBuilder tornadoVMBytecodeList, final int numArgs, final int eventList, final int taskIndex, final long batchThreads, final long offset, ExecutionInfo info) {
+    private int executeLaunch(StringBuilder tornadoVMBytecodeList, TornadoVMInstruction instruction, KernelArgs callWrapper) {
+        final int eventList = instruction.eventList;
+        final int localTaskIndex = instruction.localTaskIndex;
+        final long batchThreads = instruction.sizeBatch;
+        final long offset = instruction.offset;
+        final int[] waitList = instruction.waitList;
+        final SchedulableTask task = tasks.get(instruction.taskIndex);
 
-        final SchedulableTask task = tasks.get(taskIndex);
-        KernelArgs callWrapper = info.callWrapper;
-        int[] waitList = info.waitList;
-
-        if (installedCodes[globalToLocalTaskIndex(taskIndex)] == null) {
+        if (installedCodes[localTaskIndex] == null) {
             // After warming-up, it is possible to get a null pointer in the task-cache due
             // to lazy compilation for FPGAs. In tha case, we check again the code cache.
-            installedCodes[globalToLocalTaskIndex(taskIndex)] = deviceForInterpreter.getCodeFromCache(task);
+            installedCodes[localTaskIndex] = deviceForInterpreter.getCodeFromCache(task);
         }
 
-        final TornadoInstalledCode installedCode = installedCodes[globalToLocalTaskIndex(taskIndex)];
+        final TornadoInstalledCode installedCode = installedCodes[localTaskIndex];
 
         if (installedCode == null) {
-            throw new TornadoBailoutRuntimeException("Code generator Failed");
+            throw new TornadoBailoutRuntimeException("Code generator Failed", null, task.getId());
         }
 
         int[] atomicsArray;
 
         atomicsArray = (task instanceof PrebuiltTask prebuiltTask) ? prebuiltTask.getAtomics() : deviceForInterpreter.checkAtomicsForTask(task);
 
-        HashMap<Integer, Integer> map = new HashMap<>();
+        kernelContextThreads.clear();
         if (gridScheduler != null && gridScheduler.get(task.getId()) != null) {
             WorkerGrid workerGrid = gridScheduler.get(task.getId());
             long[] global = workerGrid.getGlobalWork();
             int i = 0;
             for (long maxThread : global) {
-                map.put(i++, (int) maxThread);
+                kernelContextThreads.put(i++, (int) maxThread);
             }
         }
         callWrapper.reset();
-        callWrapper.setKernelContext(map);
+        callWrapper.setKernelContext(kernelContextThreads);
 
         ObjectBuffer bufferAtomics = null;
 
-        for (int i = 0; i < numArgs; i++) {
-            final byte argType = bytecodeResult.get();
-            final int argIndex = bytecodeResult.getInt();
+        for (int i = 0; i < instruction.numArgs; i++) {
+            final byte argType = instruction.argTypes[i];
+            final int argIndex = instruction.argIndexes[i];
 
             if (argType == TornadoVMBytecodes.PUSH_CONSTANT_ARGUMENT.value()) {
                 // Add a constant argument
@@ -691,8 +863,11 @@ public class TornadoVMInterpreter extends TornadoLogger {
                     continue;
                 }
 
-                final GlobalObjectState globalState = resolveGlobalObjectState(argIndex);
-                final DeviceObjectState objectState = globalState.getDeviceState(deviceForInterpreter);
+                final DeviceObjectState objectState = resolveObjectState(argIndex);
+                if (versionedTransfers && objects.get(argIndex) instanceof TornadoNativeArray && mayWriteObject(task, objects.get(argIndex))) {
+                    // The device buffer will not match the host version anymore
+                    objectState.invalidateVersion();
+                }
 
                 if (!isObjectInAtomicRegion(objectState, deviceForInterpreter, task)) {
                     // Add a reference (arrays, vector types, panama regions)
@@ -743,9 +918,29 @@ public class TornadoVMInterpreter extends TornadoLogger {
         metadata.setGridScheduler(gridScheduler);
 
         try {
+            KernelLaunchEvent launchEvent = null;
+            if (KernelLaunchEvent.isRecording()) {
+                launchEvent = new KernelLaunchEvent();
+                launchEvent.begin();
+            }
             int lastEvent = useDependencies
                     ? installedCode.launchWithDependencies(callWrapper, bufferAtomics, metadata, batchThreads, waitList)
                     : installedCode.launchWithoutDependencies(callWrapper, bufferAtomics, metadata, batchThreads);
+            deviceKernelLaunches.increment();
+            if (launchEvent != null) {
+                launchEvent.end();
+                if (launchEvent.shouldCommit()) {
+                    launchEvent.task = task.getId();
+                    launchEvent.device = deviceForInterpreter.getDeviceName();
+                    launchEvent.batchThreads = batchThreads;
+                    launchEvent.commit();
+                }
+            }
+            if (KernelCompleteEvent.isRecording()) {
+                KernelCompleteEvent completeEvent = new KernelCompleteEvent();
+                completeEvent.task = task.getId();
+                deviceEventRecorder.add(completeEvent, deviceForInterpreter.getDeviceName(), lastEvent);
+            }
 
             resetEventIndexes(eventList);
             return lastEvent;
@@ -753,7 +948,7 @@ public class TornadoVMInterpreter extends TornadoLogger {
             if (Tornado.DEBUG) {
                 e.printStackTrace();
             }
-            throw new TornadoBailoutRuntimeException("Bailout from LAUNCH Bytecode: \nReason: " + e.toString(), e);
+            throw new TornadoBailoutRuntimeException("Bailout from LAUNCH Bytecode: \nReason: " + e.toString(), e, task.getId());
         }
     }
 
@@ -767,6 +962,7 @@ public class TornadoVMInterpreter extends TornadoLogger {
             TornadoInternalError.guarantee(eventsIndexes[eventList] < events[eventList].length, "event list is too small");
             events[eventList][eventsIndexes[eventList]] = lastEvent;
             eventsIndexes[eventList]++;
+            eventsHighWaterMarks[eventList] = Math.max(eventsHighWaterMarks[eventList], eventsIndexes[eventList]);
         }
     }
 
@@ -789,7 +985,7 @@ public class TornadoVMInterpreter extends TornadoLogger {
     }
 
     private DeviceObjectState resolveObjectState(int index) {
-        return globalStates[index].getDeviceState(deviceForInterpreter);
+        return deviceStates[index];
     }
 
     private boolean isObjectKernelContext(Object object) {
@@ -840,8 +1036,53 @@ public class TornadoVMInterpreter extends TornadoLogger {
         }
     }
 
-    private GlobalObjectState resolveGlobalObjectState(int index) {
-        return globalStates[index];
+    /**
+     * Reads only the first bytes of the native arrays whose global state limits
+     * the copies to the host (see {@link GlobalObjectState#setCopyOutBytes(long)}).
+     */
+    private void limitCopyOut(int objectIndex, Object object, DeviceObjectState objectState, long sizeBatch) {
+        final long copyOutBytes = globalStates[objectIndex].getCopyOutBytes();
+        if (copyOutBytes > 0 && sizeBatch <= 0 && object instanceof TornadoNativeArray) {
+            objectState.getObjectBuffer().setSizeSubRegion(copyOutBytes);
+        }
+    }
+
+    private void updateVersionAfterCopyOut(Object object, DeviceObjectState objectState, long offset, long sizeBatch) {
+        if (versionedTransfers) {
+            final boolean isWholeBuffer = getVersionedArray(object, offset, sizeBatch) != null && objectState.getObjectBuffer().getSizeSubRegionSize() <= 0;
+            objectState.updateVersionAfterCopyOut(object, isWholeBuffer);
+        }
+    }
+
+    private static long copyOutSize(DeviceObjectState objectState) {
+        final ObjectBuffer buffer = objectState.getObjectBuffer();
+        return buffer.getSizeSubRegionSize() > 0 ? buffer.getSizeSubRegionSize() : buffer.size();
+    }
+
+    /**
+     * @return the native array whose version is tracked for the transfer, or null
+     *     if the whole object is copied as usual.
+     */
+    private TornadoNativeArray getVersionedArray(Object object, long offset, long sizeBatch) {
+        return (versionedTransfers && sizeBatch <= 0 && offset == 0 && object instanceof TornadoNativeArray array) ? array : null;
+    }
+
+    /**
+     * @return false only if the task is known to read, and not write, the object.
+     */
+    private static boolean mayWriteObject(SchedulableTask task, Object object) {
+        final Object[] arguments = task.getArguments();
+        final Access[] accesses = task.getArgumentsAccess();
+        boolean isArgument = false;
+        for (int i = 0; i < arguments.length; i++) {
+            if (arguments[i] == object) {
+                isArgument = true;
+                if (accesses == null || i >= accesses.length || accesses[i] != Access.READ_ONLY) {
+                    return true;
+                }
+            }
+        }
+        return !isArgument;
     }
 
     private boolean isObjectInAtomicRegion(DeviceObjectState objectState, TornadoAcceleratorDevice device, SchedulableTask task) {
@@ -860,14 +1101,4 @@ public class TornadoVMInterpreter extends TornadoLogger {
         Arrays.fill(installedCodes, null);
     }
 
-    private static class ExecutionInfo {
-        KernelArgs callWrapper;
-        int[] waitList;
-
-        ExecutionInfo(KernelArgs callWrapper, int[] waitList) {
-            this.callWrapper = callWrapper;
-            this.waitList = waitList;
-        }
-    }
-
 }
@@ -0,0 +1,64 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for the allocation of the device buffers of a task-graph.
+ */
+@Name("tornado.BufferAllocation")
+@Label("Buffer Allocation")
+@Description("Allocation of device buffers")
+@Category({ "TornadoVM", "Device" })
+@StackTrace(false)
+public class BufferAllocationEvent extends jdk.jfr.Event {
+
+    private static final EventType EVENT_TYPE = EventTypes.lookup(BufferAllocationEvent.class);
+
+    /**
+     * @return True if the event is enabled in a running recording. Check it
+     *     before creating the event.
+     */
+    public static boolean isRecording() {
+        return EventTypes.isEnabled(EVENT_TYPE);
+    }
+
+    @Label("Device")
+    public String device;
+
+    @Label("Objects")
+    public int numObjects;
+
+    @Label("Size")
+    @Description("Total size of the buffers of the objects")
+    @DataAmount
+    public long bytes;
+}
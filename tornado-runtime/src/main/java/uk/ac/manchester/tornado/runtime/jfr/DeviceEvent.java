@@ -0,0 +1,64 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import uk.ac.manchester.tornado.api.common.Event;
+
+/**
+ * Base class of the JFR events with timestamps from the device. The duration of
+ * the JFR event is the time on the host to enqueue the command. The device
+ * timestamps are read from the driver event when the execution of the
+ * task-graph finishes (see {@link DeviceEventRecorder}), so the events of the
+ * device do not add synchronization points to the execution.
+ */
+@Category({ "TornadoVM", "Device" })
+@StackTrace(false)
+abstract class DeviceEvent extends jdk.jfr.Event {
+
+    @Label("Device")
+    String device;
+
+    @Label("Device Start Time")
+    @Description("Start of the command on the device, in nanoseconds of the device clock")
+    long deviceStartTime;
+
+    @Label("Device End Time")
+    @Description("End of the command on the device, in nanoseconds of the device clock")
+    long deviceEndTime;
+
+    @Label("Device Elapsed Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long deviceElapsedTime;
+
+    void setDeviceTimes(Event event) {
+        deviceStartTime = event.getStartTime();
+        deviceEndTime = event.getEndTime();
+        deviceElapsedTime = event.getElapsedTime();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.jfr;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import uk.ac.manchester.tornado.api.common.Event;
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+
+/**
+ * Keeps the JFR events of the commands enqueued on a device until the
+ * execution of the task-graph finishes. The events are then completed with the
+ * timestamps of the driver and committed. Only the events enabled in the
+ * running recordings are added, so the recorder is empty when JFR is not
+ * recording.
+ *
+ * <p>
+ * Note that {@link #commit} waits for each pending driver event to read its
+ * timestamps. While {@code tornado.DataTransfer} or
+ * {@code tornado.KernelComplete} are recorded, the host therefore waits for the
+ * device at the end of every execution of the task-graph, which hides the
+ * overlap of the host code with the asynchronous commands of the device.
+ * </p>
+ */
+public final class DeviceEventRecorder {
+
+    private final List<DeviceEvent> pendingEvents = new ArrayList<>();
+    private final List<Integer> pendingEventIds = new ArrayList<>();
+
+    private void add(DeviceEvent jfrEvent, String device, int eventId) {
+        if (eventId == -1) {
+            return;
+        }
+        jfrEvent.device = device;
+        pendingEvents.add(jfrEvent);
+        pendingEventIds.add(eventId);
+    }
+
+    public void add(KernelCompleteEvent jfrEvent, String device, int eventId) {
+        add((DeviceEvent) jfrEvent, device, eventId);
+    }
+
+    public void add(DataTransferEvent jfrEvent, String device, int eventId) {
+        add((DeviceEvent) jfrEvent, device, eventId);
+    }
+
+    public boolean isEmpty() {
+        return pendingEvents.isEmpty();
+    }
+
+    /**
+     * Reads the timestamps of the pending events from the driver and commits
+     * them. This blocks until all the pending commands finish on the device.
+     *
+     * @param device
+     *     Device where the commands were enqueued.
+     */
+    public void commit(TornadoDevice device) {
+        for (int i = 0; i < pendingEvents.size(); i++) {
+            Event event = device.resolveEvent(pendingEventIds.get(i));
+            event.waitForEvents();
+            DeviceEvent jfrEvent = pendingEvents.get(i);
+            jfrEvent.setDeviceTimes(event);
+            jfrEvent.commit();
+        }
+        pendingEvents.clear();
+        pendingEventIds.clear();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.jfr;
+
+import jdk.jfr.EventType;
+
+/**
+ * Cached {@link EventType}s of the events emitted in the hot paths of the
+ * runtime. The interpreter checks the type before it allocates an event, so no
+ * event objects are created when JFR is not recording.
+ */
+final class EventTypes {
+
+    private EventTypes() {
+    }
+
+    /**
+     * @return The type of the event, or {@code null} if Flight Recorder is not
+     *     available in this VM.
+     */
+    static EventType lookup(Class<? extends jdk.jfr.Event> eventClass) {
+        try {
+            return EventType.getEventType(eventClass);
+        } catch (IllegalStateException | InternalError e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return True if the event is enabled and at least one recording is
+     *     running.
+     */
+    static boolean isEnabled(EventType eventType) {
+        return eventType != null && eventType.isEnabled();
+    }
+}
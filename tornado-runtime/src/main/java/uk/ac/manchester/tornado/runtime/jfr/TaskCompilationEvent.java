@@ -0,0 +1,72 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a phase of the compilation of a task: the Graal compilation
+ * from Java bytecodes to the code of the backend ({@link #GRAAL}), or the
+ * compilation of that code to a device binary by the driver ({@link #DRIVER}).
+ */
+@Name("tornado.TaskCompilation")
+@Label("Task Compilation")
+@Description("Compilation of a task for a device")
+@Category({ "TornadoVM", "Compiler" })
+@StackTrace(false)
+public class TaskCompilationEvent extends jdk.jfr.Event {
+
+    public static final String GRAAL = "Graal";
+    public static final String DRIVER = "Driver";
+
+    @Label("Task")
+    public String task;
+
+    @Label("Device")
+    public String device;
+
+    @Label("Backend")
+    public String backend;
+
+    @Label("Phase")
+    public String phase;
+
+    /**
+     * Ends and commits the event, if it is enabled.
+     */
+    public void commit(String task, String device, String backend, String phase) {
+        end();
+        if (shouldCommit()) {
+            this.task = task;
+            this.device = device;
+            this.backend = backend;
+            this.phase = phase;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.metrics;
+
+/**
+ * Aggregation level of a metric. Each metric of the {@link MetricsRegistry}
+ * belongs to a device, to a task-graph or to a task.
+ *
+ * <p>
+ * The task-graphs and the tasks are identified by their names, not by their
+ * instances: the snapshots of a task-graph, and the task-graphs of different
+ * execution plans with the same name, are aggregated in the same metrics.
+ * </p>
+ */
+public enum MetricScope {
+
+    DEVICE("device", "Device"), //
+    TASK_GRAPH("task_graph", "TaskGraph"), //
+    TASK("task", "Task");
+
+    private final String label;
+    private final String mbeanType;
+
+    MetricScope(String label, String mbeanType) {
+        this.label = label;
+        this.mbeanType = mbeanType;
+    }
+
+    /**
+     * Returns the name of the label in the Prometheus format.
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Returns the {@code type} key of the MBeans of the scope.
+     */
+    public String getMBeanType() {
+        return mbeanType;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.metrics;
+
+import java.util.List;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+
+import uk.ac.manchester.tornado.runtime.metrics.MetricsRegistry.Metric;
+
+/**
+ * MBean with the metrics of a device or a task-graph. There is an attribute
+ * per metric, so the metrics registered after the MBean are also visible.
+ */
+class MetricsMBean implements DynamicMBean {
+
+    private final MetricsRegistry registry;
+    private final MetricScope scope;
+    private final String scopeName;
+
+    MetricsMBean(MetricsRegistry registry, MetricScope scope, String scopeName) {
+        this.registry = registry;
+        this.scope = scope;
+        this.scopeName = scopeName;
+    }
+
+    @Override
+    public Object getAttribute(String attribute) throws AttributeNotFoundException {
+        long value = registry.getValue(attribute, scope, scopeName);
+        if (value == -1 && registry.getMetrics(scope, scopeName).stream().noneMatch(m -> m.key().name().equals(attribute))) {
+            throw new AttributeNotFoundException(attribute);
+        }
+        return value;
+    }
+
+    @Override
+    public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+        throw new AttributeNotFoundException("The TornadoVM metrics are read-only: " + attribute.getName());
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] attributes) {
+        AttributeList list = new AttributeList();
+        for (String attribute : attributes) {
+            try {
+                list.add(new Attribute(attribute, getAttribute(attribute)));
+            } catch (AttributeNotFoundException e) {
+                // Missing attributes are not returned
+            }
+        }
+        return list;
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList attributes) {
+        return new AttributeList();
+    }
+
+    @Override
+    public Object invoke(String actionName, Object[] params, String[] signature) {
+        throw new UnsupportedOperationException(actionName);
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        List<Metric> metrics = registry.getMetrics(scope, scopeName);
+        MBeanAttributeInfo[] attributes = new MBeanAttributeInfo[metrics.size()];
+        for (int i = 0; i < attributes.length; i++) {
+            Metric metric = metrics.get(i);
+            attributes[i] = new MBeanAttributeInfo(metric.key().name(), long.class.getName(), metric.help(), true, false, false);
+        }
+        return new MBeanInfo(getClass().getName(), "TornadoVM metrics of " + scope.getLabel() + " " + scopeName, attributes, null, new MBeanOperationInfo[0], null);
+    }
+}
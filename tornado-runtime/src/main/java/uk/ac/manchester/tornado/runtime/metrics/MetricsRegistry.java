@@ -0,0 +1,212 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import uk.ac.manchester.tornado.api.TornadoDeviceContext;
+import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+
+/**
+ * Registry of the operational metrics of the TornadoVM runtime: memory of the
+ * buffer providers, code caches, event pools, and the compilations, launches
+ * and bailouts. The metrics are aggregated per device and per task-graph (see
+ * {@link MetricScope}).
+ *
+ * <p>
+ * The metrics are always updated, since the counters and gauges are cheap.
+ * They are published:
+ * </p>
+ * <ul>
+ * <li>As MBeans ({@code uk.ac.manchester.tornado:type=Device,name=...},
+ * {@code uk.ac.manchester.tornado:type=TaskGraph,name=...} and
+ * {@code uk.ac.manchester.tornado:type=Task,name=...}) with
+ * {@code -Dtornado.metrics.jmx=True}.</li>
+ * <li>In the Prometheus text format, served on
+ * {@code http://127.0.0.1:<port>/metrics}, with
+ * {@code -Dtornado.metrics.prometheus.port=<port>}.</li>
+ * </ul>
+ */
+public final class MetricsRegistry {
+
+    public static final String JMX_DOMAIN = "uk.ac.manchester.tornado";
+
+    private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+
+    private final Map<MetricKey, Metric> metrics = new ConcurrentHashMap<>();
+    private final Map<ScopeKey, Boolean> registeredMBeans = new ConcurrentHashMap<>();
+    private final PrometheusEndpoint prometheusEndpoint;
+
+    record ScopeKey(MetricScope scope, String scopeName) {
+    }
+
+    record MetricKey(String name, MetricScope scope, String scopeName) {
+    }
+
+    /**
+     * Metric with its current value.
+     */
+    record Metric(MetricKey key, String help, boolean isCounter, LongSupplier value, Counter counter) {
+    }
+
+    private MetricsRegistry() {
+        prometheusEndpoint = TornadoOptions.METRICS_PROMETHEUS_PORT > 0 ? PrometheusEndpoint.start(this, TornadoOptions.METRICS_PROMETHEUS_PORT) : null;
+    }
+
+    public static MetricsRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the name of a device in the metrics:
+     * {@code <backend>:<platform>:<device>}, or {@code <backend>} for the
+     * devices without a device context (e.g., the JVM).
+     */
+    public static String deviceName(TornadoVMBackendType backend, TornadoDeviceContext deviceContext) {
+        if (deviceContext == null) {
+            return backend.name().toLowerCase();
+        }
+        return backend.name().toLowerCase() + ":" + deviceContext.getDevicePlatform() + ":" + deviceContext.getDeviceIndex();
+    }
+
+    /**
+     * Returns the counter with the given name, and creates it if it does not
+     * exist.
+     *
+     * @param name
+     *     Name of the metric, in the Prometheus convention (e.g.
+     *     {@code tornado_device_compilations_total}).
+     * @param help
+     *     Description of the metric.
+     * @param scope
+     *     Aggregation level.
+     * @param scopeName
+     *     Name of the device, task-graph or task.
+     * @return {@link Counter}
+     */
+    public Counter counter(String name, String help, MetricScope scope, String scopeName) {
+        MetricKey key = new MetricKey(name, scope, scopeName);
+        Metric metric = metrics.get(key);
+        if (metric == null) {
+            Counter counter = new Counter();
+            metric = metrics.computeIfAbsent(key, k -> new Metric(k, help, true, counter::get, counter));
+            registerMBean(scope, scopeName);
+        }
+        return metric.counter();
+    }
+
+    /**
+     * Registers a gauge. The value is read when the metrics are published. A
+     * gauge with the same name and scope replaces the previous one.
+     */
+    public void gauge(String name, String help, MetricScope scope, String scopeName, LongSupplier value) {
+        MetricKey key = new MetricKey(name, scope, scopeName);
+        metrics.put(key, new Metric(key, help, false, value, null));
+        registerMBean(scope, scopeName);
+    }
+
+    /**
+     * Returns the current value of a metric, or -1 if it does not exist.
+     */
+    public long getValue(String name, MetricScope scope, String scopeName) {
+        Metric metric = metrics.get(new MetricKey(name, scope, scopeName));
+        return metric == null ? -1 : metric.value().getAsLong();
+    }
+
+    /**
+     * Returns the metrics sorted by name and scope.
+     */
+    List<Metric> getMetrics() {
+        List<Metric> list = new ArrayList<>(metrics.values());
+        list.sort(Comparator.comparing((Metric m) -> m.key().name()).thenComparing(m -> m.key().scope()).thenComparing(m -> m.key().scopeName()));
+        return list;
+    }
+
+    List<Metric> getMetrics(MetricScope scope, String scopeName) {
+        List<Metric> list = new ArrayList<>();
+        for (Metric metric : getMetrics()) {
+            if (metric.key().scope() == scope && metric.key().scopeName().equals(scopeName)) {
+                list.add(metric);
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Returns the metrics in the Prometheus text exposition format.
+     */
+    public String toPrometheusFormat() {
+        StringBuilder text = new StringBuilder();
+        String lastName = null;
+        for (Metric metric : getMetrics()) {
+            MetricKey key = metric.key();
+            if (!key.name().equals(lastName)) {
+                text.append("# HELP ").append(key.name()).append(' ').append(metric.help()).append('\n');
+                text.append("# TYPE ").append(key.name()).append(' ').append(metric.isCounter() ? "counter" : "gauge").append('\n');
+                lastName = key.name();
+            }
+            text.append(key.name()).append('{').append(key.scope().getLabel()).append("=\"").append(escapeLabel(key.scopeName())).append("\"} ").append(metric.value().getAsLong()).append('\n');
+        }
+        return text.toString();
+    }
+
+    private static String escapeLabel(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private void registerMBean(MetricScope scope, String scopeName) {
+        if (!TornadoOptions.METRICS_JMX || registeredMBeans.putIfAbsent(new ScopeKey(scope, scopeName), Boolean.TRUE) != null) {
+            return;
+        }
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(JMX_DOMAIN + ":type=" + scope.getMBeanType() + ",name=" + ObjectName.quote(scopeName));
+            if (!server.isRegistered(objectName)) {
+                server.registerMBean(new MetricsMBean(this, scope, scopeName), objectName);
+            }
+        } catch (JMException e) {
+            System.err.println("[TornadoVM-Metrics] Unable to register the MBean of " + scopeName + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stops the Prometheus endpoint, if it was started.
+     */
+    public void shutdown() {
+        if (prometheusEndpoint != null) {
+            prometheusEndpoint.stop();
+        }
+    }
+}
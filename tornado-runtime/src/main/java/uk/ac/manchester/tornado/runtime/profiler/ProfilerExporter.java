@@ -0,0 +1,205 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.profiler;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+
+/**
+ * Exports the profiler records of the task-graphs to the registered
+ * {@link ProfilerSink}s.
+ *
+ * <p>
+ * The execution threads only publish a {@link ProfilerRecord} in a lock-free
+ * {@link ProfilerRecordBuffer}. A daemon thread drains the buffer in batches
+ * (up to {@code tornado.profiler.export.batch} records, at least every
+ * {@code tornado.profiler.export.interval} milliseconds), builds the JSON and
+ * writes it to the sinks. The sinks of {@code tornado.profiler.dump.dir} (file)
+ * and {@code tornado.dump.to.ip} (socket) are registered by default, and more
+ * sinks can be added with {@link #registerSink(ProfilerSink)}. The pending
+ * records are exported when the JVM shuts down.
+ * </p>
+ *
+ * <p>
+ * With {@code -Dtornado.profiler.export.async=False}, the records are exported
+ * by the execution thread.
+ * </p>
+ */
+public final class ProfilerExporter {
+
+    private static final ProfilerExporter INSTANCE = new ProfilerExporter();
+
+    private final ProfilerRecordBuffer buffer;
+    private final List<ProfilerSink> sinks = new CopyOnWriteArrayList<>();
+    private final Thread exporterThread;
+    private volatile boolean running = true;
+    private boolean errorReported;
+    private boolean closed;
+
+    private ProfilerExporter() {
+        buffer = new ProfilerRecordBuffer(TornadoOptions.PROFILER_EXPORT_BUFFER_SIZE);
+        if (!TornadoOptions.PROFILER_DIRECTORY.isEmpty()) {
+            sinks.add(new FileProfilerSink(Path.of(TornadoOptions.PROFILER_DIRECTORY)));
+        }
+        if (!TornadoOptions.SOCKET_PORT.isEmpty()) {
+            try {
+                sinks.add(new SocketProfilerSink());
+            } catch (TornadoRuntimeException e) {
+                System.err.println("[TornadoVM-Profiler] " + e.getMessage());
+            }
+        }
+        if (TornadoOptions.PROFILER_EXPORT_ASYNC) {
+            exporterThread = new Thread(this::exportLoop, "TornadoVM-Profiler-Exporter");
+            exporterThread.setDaemon(true);
+            exporterThread.start();
+        } else {
+            exporterThread = null;
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown));
+    }
+
+    public static ProfilerExporter getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Adds a sink. The sink receives the records published after it is
+     * registered.
+     */
+    public void registerSink(ProfilerSink sink) {
+        sinks.add(sink);
+    }
+
+    public void removeSink(ProfilerSink sink) {
+        sinks.remove(sink);
+    }
+
+    /**
+     * Returns true if there is any sink, so the task-graphs only build the
+     * records that are exported.
+     */
+    public boolean hasSinks() {
+        return !sinks.isEmpty();
+    }
+
+    /**
+     * Publishes the record of an execution. It does not block: if the buffer is
+     * full, the record is dropped.
+     */
+    public void submit(ProfilerRecord record) {
+        if (exporterThread == null) {
+            export(List.of(record));
+            return;
+        }
+        buffer.offer(record);
+        if (buffer.size() >= TornadoOptions.PROFILER_EXPORT_BATCH_SIZE) {
+            LockSupport.unpark(exporterThread);
+        }
+    }
+
+    /**
+     * Returns the number of records dropped because the exporter could not keep
+     * up with the executions.
+     */
+    public long getDroppedRecords() {
+        return buffer.getDroppedRecords();
+    }
+
+    private void exportLoop() {
+        final long interval = TimeUnit.MILLISECONDS.toNanos(TornadoOptions.PROFILER_EXPORT_INTERVAL);
+        List<ProfilerRecord> batch = new ArrayList<>(TornadoOptions.PROFILER_EXPORT_BATCH_SIZE);
+        while (running) {
+            if (buffer.drain(batch, TornadoOptions.PROFILER_EXPORT_BATCH_SIZE) == 0) {
+                LockSupport.parkNanos(this, interval);
+                continue;
+            }
+            export(batch);
+            batch.clear();
+        }
+    }
+
+    private synchronized void export(List<ProfilerRecord> batch) {
+        if (closed) {
+            return;
+        }
+        for (ProfilerSink sink : sinks) {
+            try {
+                sink.export(batch);
+            } catch (IOException e) {
+                // Report the first error only, the exporter keeps running
+                if (!errorReported) {
+                    errorReported = true;
+                    System.err.println("[TornadoVM-Profiler] Error exporting the profiler logs: " + e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Closes the sinks. It waits for the batch that is being exported, and the
+     * later batches are discarded.
+     */
+    private synchronized void closeSinks() {
+        closed = true;
+        for (ProfilerSink sink : sinks) {
+            try {
+                sink.close();
+            } catch (IOException e) {
+                System.err.println("[TornadoVM-Profiler] Error closing a profiler sink: " + e);
+            }
+        }
+    }
+
+    private void shutdown() {
+        running = false;
+        try {
+            if (exporterThread != null) {
+                LockSupport.unpark(exporterThread);
+                exporterThread.join(TimeUnit.SECONDS.toMillis(1));
+                if (exporterThread.isAlive()) {
+                    // The exporter is still writing: it is the only consumer of the buffer
+                    return;
+                }
+                List<ProfilerRecord> batch = new ArrayList<>();
+                while (buffer.drain(batch, Integer.MAX_VALUE) > 0) {
+                    export(batch);
+                    batch.clear();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // The sinks are flushed and closed even if the exporter did not finish
+            closeSinks();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.profiler;
+
+import uk.ac.manchester.tornado.api.profiler.ProfilerType;
+
+/**
+ * Immutable copy of the values of the profiler after one execution of a
+ * task-graph. The record only holds primitive arrays and the names of the
+ * tasks, so it is cheap to build on the execution thread. The JSON is built
+ * when the record is exported ({@link #appendJson(StringBuilder)}), usually by
+ * the {@link ProfilerExporter} thread.
+ *
+ * @param sectionName
+ *     Name of the JSON section (the id of the task-graph).
+ * @param timestamp
+ *     Time of the snapshot, in milliseconds since the epoch.
+ * @param types
+ *     Metrics of the task-graph.
+ * @param values
+ *     Values of the metrics of the task-graph.
+ * @param tasks
+ *     Records of the tasks.
+ */
+public record ProfilerRecord(String sectionName, long timestamp, ProfilerType[] types, long[] values, TaskRecord[] tasks) {
+
+    private static final String INDENT = "    ";
+
+    /**
+     * Values of the profiler for a task.
+     *
+     * @param ip
+     *     IP of the host, or {@code null} if the IP is not logged.
+     */
+    public record TaskRecord(String name, String ip, String backend, String method, String deviceId, String device, ProfilerType[] types, long[] values) {
+    }
+
+    private static void appendValue(StringBuilder json, int level, Object key, Object value) {
+        json.append(INDENT.repeat(level)).append('"').append(key).append("\": \"").append(value).append("\",\n");
+    }
+
+    /**
+     * Appends the record in the JSON format of {@link TimeProfiler#createJson}.
+     */
+    public StringBuilder appendJson(StringBuilder json) {
+        json.append("{\n");
+        json.append(INDENT).append('"').append(sectionName).append("\": {\n");
+        for (int i = 0; i < types.length; i++) {
+            appendValue(json, 2, types[i], values[i]);
+        }
+        for (int t = 0; t < tasks.length; t++) {
+            TaskRecord task = tasks[t];
+            json.append(INDENT.repeat(2)).append('"').append(task.name()).append("\": {\n");
+            if (task.ip() != null) {
+                appendValue(json, 3, "IP", task.ip());
+            }
+            appendValue(json, 3, ProfilerType.BACKEND, task.backend());
+            appendValue(json, 3, ProfilerType.METHOD, task.method());
+            appendValue(json, 3, ProfilerType.DEVICE_ID, task.deviceId());
+            appendValue(json, 3, ProfilerType.DEVICE, task.device());
+            for (int i = 0; i < task.types().length; i++) {
+                appendValue(json, 3, task.types()[i], task.values()[i]);
+            }
+            json.delete(json.length() - 2, json.length() - 1); // remove last comma
+            json.append(INDENT.repeat(2)).append('}');
+            if (t != tasks.length - 1) {
+                json.append(", ");
+            }
+            json.append('\n');
+        }
+        json.append(INDENT).append("}\n");
+        json.append("}\n");
+        return json;
+    }
+
+    public String toJson() {
+        return appendJson(new StringBuilder()).toString();
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.profiler;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free queue of {@link ProfilerRecord}s, based on a ring buffer
+ * with a sequence number per slot. Any number of execution threads can publish
+ * records, and they never block: when the buffer is full, the record is dropped
+ * and counted. The records are drained by a single consumer.
+ */
+public final class ProfilerRecordBuffer {
+
+    private final int mask;
+    private final AtomicReferenceArray<ProfilerRecord> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    /**
+     * Position of the next record to drain. It is written by the consumer only,
+     * and volatile so {@link #size()} reads a recent value from any thread.
+     */
+    private volatile long head;
+
+    /**
+     * @param capacity
+     *     Number of records of the buffer. It is rounded up to a power of two.
+     */
+    public ProfilerRecordBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        mask = size - 1;
+        slots = new AtomicReferenceArray<>(size);
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Publishes a record.
+     *
+     * @return false if the buffer is full and the record has been dropped.
+     */
+    public boolean offer(ProfilerRecord record) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.set(index, record);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                dropped.incrementAndGet();
+                return false;
+            }
+            // Another producer took the slot: retry with the new tail
+        }
+    }
+
+    /**
+     * Moves up to {@code maxRecords} records to {@code batch}. It must be called
+     * by a single consumer thread.
+     *
+     * @return the number of records drained.
+     */
+    public int drain(List<ProfilerRecord> batch, int maxRecords) {
+        long position = head;
+        int count = 0;
+        while (count < maxRecords) {
+            int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            batch.add(slots.get(index));
+            slots.set(index, null);
+            sequences.set(index, position + mask + 1);
+            position++;
+            count++;
+        }
+        head = position;
+        return count;
+    }
+
+    /**
+     * Returns the approximate number of records in the buffer.
+     */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    /**
+     * Returns the number of records dropped because the buffer was full.
+     */
+    public long getDroppedRecords() {
+        return dropped.get();
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.profiler;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Destination of the profiler records exported by the {@link ProfilerExporter}.
+ * The sinks are called from the exporter thread, with the records in batches,
+ * so they can keep their files or connections open between batches.
+ */
+public interface ProfilerSink extends AutoCloseable {
+
+    /**
+     * Exports a batch of records, in the order of the executions.
+     */
+    void export(List<ProfilerRecord> batch) throws IOException;
+
+    /**
+     * Flushes and releases the resources of the sink. It is called when the
+     * exporter stops.
+     */
+    @Override
+    default void close() throws IOException {
+    }
+}
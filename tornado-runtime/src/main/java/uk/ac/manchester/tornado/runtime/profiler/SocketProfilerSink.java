@@ -0,0 +1,57 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.profiler;
+
+import java.io.IOException;
+import java.util.List;
+
+import uk.ac.manchester.tornado.runtime.common.TornadoVMClient;
+
+/**
+ * Sends the JSON of the profiler records to the address of
+ * {@code tornado.dump.to.ip}. The connection is kept open between batches, and
+ * it is opened again if the server closes it.
+ */
+public class SocketProfilerSink implements ProfilerSink {
+
+    private final TornadoVMClient client;
+
+    public SocketProfilerSink() {
+        this.client = new TornadoVMClient();
+    }
+
+    @Override
+    public void export(List<ProfilerRecord> batch) throws IOException {
+        StringBuilder json = new StringBuilder();
+        for (ProfilerRecord record : batch) {
+            record.appendJson(json);
+        }
+        client.send(json.toString());
+    }
+
+    @Override
+    public void close() {
+        client.close();
+    }
+}
@@ -23,13 +23,31 @@
  */
 package uk.ac.manchester.tornado.runtime.profiler;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import uk.ac.manchester.tornado.api.profiler.ProfilerType;
 import uk.ac.manchester.tornado.api.profiler.TornadoProfiler;
 import uk.ac.manchester.tornado.runtime.common.RuntimeUtilities;
 import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
 
+/**
+ * Profiler of the executions of a task-graph.
+ *
+ * <p>
+ * The values are stored in primitive {@link AtomicLongArray}s, indexed by the
+ * ordinal of the {@link ProfilerType}: one set of arrays for the task-graph and
+ * one per task. Each task gets its arrays the first time it is profiled, and the
+ * following accesses only look up the task in a {@link ConcurrentHashMap}. The
+ * updates are atomic operations on the elements of the arrays, so there is no
+ * lock and no boxing, and the interpreters of different devices can profile
+ * the same task-graph concurrently.
+ * </p>
+ */
 public class TimeProfiler implements TornadoProfiler {
 
     /**
@@ -39,244 +57,267 @@ public class TimeProfiler implements TornadoProfiler {
      */
     public static String NO_TASK_NAME = "noTask";
 
-    private HashMap<ProfilerType, Long> profilerTime;
-    private HashMap<String, HashMap<ProfilerType, Long>> taskTimers;
-    private HashMap<String, HashMap<ProfilerType, Long>> taskThroughputMetrics;
-    private HashMap<String, HashMap<ProfilerType, String>> taskDeviceIdentifiers;
-    private HashMap<String, HashMap<ProfilerType, String>> taskMethodNames;
+    private static final ProfilerType[] PROFILER_TYPES = ProfilerType.values();
 
-    private HashMap<String, HashMap<ProfilerType, String>> taskBackends;
+    /**
+     * Value of the metrics that have not been set.
+     */
+    private static final long NOT_SET = Long.MIN_VALUE;
 
-    private StringBuilder indent;
+    /**
+     * Values of the profiler of the task-graph or of a task.
+     */
+    private static class Metrics {
+        final AtomicLongArray timers = newArray();
+        final AtomicLongArray startTimes = newArray();
+        final AtomicLongArray values = newArray();
+
+        private static AtomicLongArray newArray() {
+            AtomicLongArray array = new AtomicLongArray(PROFILER_TYPES.length);
+            for (int i = 0; i < PROFILER_TYPES.length; i++) {
+                array.set(i, NOT_SET);
+            }
+            return array;
+        }
 
-    public TimeProfiler() {
-        profilerTime = new HashMap<>();
-        taskTimers = new HashMap<>();
-        taskDeviceIdentifiers = new HashMap<>();
-        taskMethodNames = new HashMap<>();
-        taskThroughputMetrics = new HashMap<>();
-        taskBackends = new HashMap<>();
-        indent = new StringBuilder("");
-    }
+        private static void add(AtomicLongArray array, ProfilerType type, long value) {
+            array.accumulateAndGet(type.ordinal(), value, (current, x) -> current == NOT_SET ? x : current + x);
+        }
 
-    @Override
-    public synchronized void addValueToMetric(ProfilerType type, String taskName, long value) {
-        if (!taskThroughputMetrics.containsKey(taskName)) {
-            taskThroughputMetrics.put(taskName, new HashMap<>());
+        private static long get(AtomicLongArray array, ProfilerType type) {
+            long value = array.get(type.ordinal());
+            return value == NOT_SET ? 0 : value;
         }
-        HashMap<ProfilerType, Long> profilerType = taskThroughputMetrics.get(taskName);
-        profilerType.put(type, profilerType.get(type) != null ? profilerType.get(type) + value : value);
-        taskThroughputMetrics.put(taskName, profilerType);
-    }
 
-    @Override
-    public synchronized void start(ProfilerType type) {
-        long start = System.nanoTime();
-        profilerTime.put(type, start);
-    }
+        private static boolean isEmpty(AtomicLongArray array) {
+            for (int i = 0; i < PROFILER_TYPES.length; i++) {
+                if (array.get(i) != NOT_SET) {
+                    return false;
+                }
+            }
+            return true;
+        }
 
-    @Override
-    public synchronized void start(ProfilerType type, String taskName) {
-        long start = System.nanoTime();
-        if (!taskTimers.containsKey(taskName)) {
-            taskTimers.put(taskName, new HashMap<>());
+        private static void clear(AtomicLongArray array) {
+            for (int i = 0; i < PROFILER_TYPES.length; i++) {
+                array.set(i, NOT_SET);
+            }
         }
-        HashMap<ProfilerType, Long> profilerType = taskTimers.get(taskName);
-        profilerType.put(type, start);
-        taskTimers.put(taskName, profilerType);
-    }
 
-    @Override
-    public synchronized void registerMethodHandle(ProfilerType type, String taskName, String methodName) {
-        if (!taskMethodNames.containsKey(taskName)) {
-            taskMethodNames.put(taskName, new HashMap<>());
+        void start(ProfilerType type) {
+            startTimes.set(type.ordinal(), System.nanoTime());
         }
-        HashMap<ProfilerType, String> profilerType = taskMethodNames.get(taskName);
-        profilerType.put(type, methodName);
-        taskMethodNames.put(methodName, profilerType);
-    }
 
-    @Override
-    public synchronized void registerDeviceName(String taskName, String deviceInfo) {
-        if (!taskDeviceIdentifiers.containsKey(taskName)) {
-            taskDeviceIdentifiers.put(taskName, new HashMap<>());
+        void stop(ProfilerType type) {
+            long end = System.nanoTime();
+            long start = startTimes.get(type.ordinal());
+            if (start != NOT_SET) {
+                timers.set(type.ordinal(), end - start);
+            }
         }
-        HashMap<ProfilerType, String> profilerType = taskDeviceIdentifiers.get(taskName);
-        profilerType.put(ProfilerType.DEVICE, deviceInfo);
-        taskDeviceIdentifiers.put(taskName, profilerType);
-    }
 
-    @Override
-    public synchronized void registerBackend(String taskName, String backend) {
-        if (!taskBackends.containsKey(taskName)) {
-            taskBackends.put(taskName, new HashMap<>());
+        void clear() {
+            clear(timers);
+            clear(startTimes);
+            clear(values);
         }
-        HashMap<ProfilerType, String> profilerType = taskBackends.get(taskName);
+    }
 
-        profilerType.put(ProfilerType.BACKEND, backend);
-        taskBackends.put(taskName, profilerType);
+    /**
+     * Metrics and descriptions of a task.
+     */
+    private static final class TaskMetrics extends Metrics {
+        private final String name;
+        private volatile String method;
+        private volatile String backend;
+        private volatile String deviceName;
+        private volatile String deviceId;
+
+        private TaskMetrics(String name) {
+            this.name = name;
+        }
     }
 
-    @Override
-    public synchronized void registerDeviceID(String taskName, String deviceID) {
-        if (!taskDeviceIdentifiers.containsKey(taskName)) {
-            taskDeviceIdentifiers.put(taskName, new HashMap<>());
+    private final Metrics graphMetrics = new Metrics();
+    private final ConcurrentHashMap<String, TaskMetrics> taskMetrics = new ConcurrentHashMap<>();
+
+    /**
+     * Tasks in the order they were profiled for the first time.
+     */
+    private final List<TaskMetrics> tasks = new CopyOnWriteArrayList<>();
+
+    private TaskMetrics getTask(String taskName) {
+        TaskMetrics task = taskMetrics.get(taskName);
+        if (task == null) {
+            task = taskMetrics.computeIfAbsent(taskName, name -> {
+                TaskMetrics newTask = new TaskMetrics(name);
+                tasks.add(newTask);
+                return newTask;
+            });
         }
-        HashMap<ProfilerType, String> profilerType = taskDeviceIdentifiers.get(taskName);
-        profilerType.put(ProfilerType.DEVICE_ID, deviceID);
-        taskDeviceIdentifiers.put(taskName, profilerType);
+        return task;
     }
 
     @Override
-    public synchronized void stop(ProfilerType type) {
-        long end = System.nanoTime();
-        long start = profilerTime.get(type);
-        long total = end - start;
-        profilerTime.put(type, total);
+    public void addValueToMetric(ProfilerType type, String taskName, long value) {
+        Metrics.add(getTask(taskName).values, type, value);
     }
 
     @Override
-    public synchronized void stop(ProfilerType type, String taskName) {
-        long end = System.nanoTime();
-        HashMap<ProfilerType, Long> profiledType = taskTimers.get(taskName);
-        long start = profiledType.get(type);
-        long total = end - start;
-        profiledType.put(type, total);
-        taskTimers.put(taskName, profiledType);
+    public void start(ProfilerType type) {
+        graphMetrics.start(type);
     }
 
     @Override
-    public long getTimer(ProfilerType type) {
-        if (!profilerTime.containsKey(type)) {
-            return 0;
-        }
-        return profilerTime.get(type);
+    public void start(ProfilerType type, String taskName) {
+        getTask(taskName).start(type);
     }
 
     @Override
-    public long getTaskTimer(ProfilerType type, String taskName) {
-        if (!taskTimers.containsKey(taskName)) {
-            return 0;
-        }
-        if (!taskTimers.get(taskName).containsKey(type)) {
-            return 0;
-        }
-        return taskTimers.get(taskName).get(type);
+    public void registerMethodHandle(ProfilerType type, String taskName, String methodName) {
+        getTask(taskName).method = methodName;
     }
 
     @Override
-    public synchronized void setTimer(ProfilerType type, long time) {
-        profilerTime.put(type, time);
+    public void registerDeviceName(String taskName, String deviceInfo) {
+        getTask(taskName).deviceName = deviceInfo;
     }
 
     @Override
-    public synchronized void dump() {
-        for (ProfilerType p : profilerTime.keySet()) {
-            System.out.println("[PROFILER] " + p.getDescription() + ": " + profilerTime.get(p));
-        }
+    public void registerBackend(String taskName, String backend) {
+        getTask(taskName).backend = backend;
+    }
 
-        for (String p : taskTimers.keySet()) {
-            System.out.println("[PROFILER-TASK] " + p + ": " + taskTimers.get(p));
+    @Override
+    public void registerDeviceID(String taskName, String deviceID) {
+        getTask(taskName).deviceId = deviceID;
+    }
 
-        }
+    @Override
+    public void stop(ProfilerType type) {
+        graphMetrics.stop(type);
     }
 
-    private void increaseIndent() {
-        indent.append("    ");
+    @Override
+    public void stop(ProfilerType type, String taskName) {
+        getTask(taskName).stop(type);
     }
 
-    private void decreaseIndent() {
-        indent.delete(indent.length() - 4, indent.length());
+    @Override
+    public long getTimer(ProfilerType type) {
+        return Metrics.get(graphMetrics.timers, type);
     }
 
-    private void closeScope(StringBuilder json) {
-        json.append(indent.toString() + "}");
+    @Override
+    public long getTaskTimer(ProfilerType type, String taskName) {
+        TaskMetrics task = taskMetrics.get(taskName);
+        return task == null ? 0 : Metrics.get(task.timers, type);
     }
 
-    private void newLine(StringBuilder json) {
-        json.append("\n");
+    @Override
+    public void setTimer(ProfilerType type, long time) {
+        graphMetrics.timers.set(type.ordinal(), time);
     }
 
     @Override
-    public String createJson(StringBuilder json, String sectionName) {
-        json.append("{\n");
-        increaseIndent();
-        json.append(indent.toString() + "\"" + sectionName + "\": " + "{\n");
-        increaseIndent();
-        for (ProfilerType p : profilerTime.keySet()) {
-            json.append(indent.toString() + "\"" + p + "\"" + ": " + "\"" + profilerTime.get(p) + "\",\n");
-        }
-        if (taskThroughputMetrics.containsKey(NO_TASK_NAME)) {
-            HashMap<ProfilerType, Long> noTaskValues = taskThroughputMetrics.get(NO_TASK_NAME);
-            for (ProfilerType p : noTaskValues.keySet()) {
-                json.append(indent.toString() + "\"" + p + "\"" + ": " + "\"" + noTaskValues.get(p) + "\",\n");
+    public void dump() {
+        for (ProfilerType p : PROFILER_TYPES) {
+            long value = graphMetrics.timers.get(p.ordinal());
+            if (value != NOT_SET) {
+                System.out.println("[PROFILER] " + p.getDescription() + ": " + value);
             }
         }
-
-        final int size = taskTimers.keySet().size();
-        int counter = 0;
-        for (String p : taskTimers.keySet()) {
-            json.append(indent.toString() + "\"" + p + "\"" + ": {\n");
-            increaseIndent();
-            counter++;
-            if (TornadoOptions.LOG_IP) {
-                json.append(indent.toString() + "\"" + "IP" + "\"" + ": " + "\"" + RuntimeUtilities.getTornadoInstanceIP() + "\",\n");
-            }
-            json.append(indent.toString() + "\"" + ProfilerType.BACKEND + "\"" + ": " + "\"" + taskBackends.get(p).get(ProfilerType.BACKEND) + "\",\n");
-            json.append(indent.toString() + "\"" + ProfilerType.METHOD + "\"" + ": " + "\"" + taskMethodNames.get(p).get(ProfilerType.METHOD) + "\",\n");
-            json.append(indent.toString() + "\"" + ProfilerType.DEVICE_ID + "\"" + ": " + "\"" + taskDeviceIdentifiers.get(p).get(ProfilerType.DEVICE_ID) + "\",\n");
-            json.append(indent.toString() + "\"" + ProfilerType.DEVICE + "\"" + ": " + "\"" + taskDeviceIdentifiers.get(p).get(ProfilerType.DEVICE) + "\",\n");
-            if (taskThroughputMetrics.containsKey(p)) {
-                for (ProfilerType p1 : taskThroughputMetrics.get(p).keySet()) {
-                    json.append(indent.toString() + "\"" + p1 + "\"" + ": " + "\"" + taskThroughputMetrics.get(p).get(p1) + "\",\n");
+        for (TaskMetrics task : tasks) {
+            if (!Metrics.isEmpty(task.timers)) {
+                StringBuilder timers = new StringBuilder("{");
+                for (ProfilerType p : PROFILER_TYPES) {
+                    long value = task.timers.get(p.ordinal());
+                    if (value != NOT_SET) {
+                        timers.append(timers.length() > 1 ? ", " : "").append(p).append('=').append(value);
+                    }
                 }
+                System.out.println("[PROFILER-TASK] " + task.name + ": " + timers.append('}'));
             }
-            for (ProfilerType p2 : taskTimers.get(p).keySet()) {
-                json.append(indent.toString() + "\"" + p2 + "\"" + ": " + "\"" + taskTimers.get(p).get(p2) + "\",\n");
+        }
+    }
+
+    /**
+     * Copies the metrics that have been set to {@code types} and {@code values},
+     * from position {@code count}.
+     *
+     * @return the new number of metrics.
+     */
+    private static int collect(AtomicLongArray array, ProfilerType[] types, long[] values, int count) {
+        for (ProfilerType p : PROFILER_TYPES) {
+            long value = array.get(p.ordinal());
+            if (value != NOT_SET) {
+                types[count] = p;
+                values[count++] = value;
             }
-            json.delete(json.length() - 2, json.length() - 1); // remove last comma
-            decreaseIndent();
-            closeScope(json);
-            if (counter != size) {
-                json.append(", ");
+        }
+        return count;
+    }
+
+    /**
+     * Copies the values of the profiler into a {@link ProfilerRecord}. The record
+     * does not change when the profiler is cleaned for the next execution.
+     */
+    public ProfilerRecord snapshot(String sectionName) {
+        ProfilerType[] types = new ProfilerType[2 * PROFILER_TYPES.length];
+        long[] values = new long[types.length];
+        int count = collect(graphMetrics.timers, types, values, 0);
+        TaskMetrics noTask = taskMetrics.get(NO_TASK_NAME);
+        if (noTask != null) {
+            count = collect(noTask.values, types, values, count);
+        }
+
+        List<ProfilerRecord.TaskRecord> taskRecords = new ArrayList<>();
+        String ip = TornadoOptions.LOG_IP ? RuntimeUtilities.getTornadoInstanceIP() : null;
+        for (TaskMetrics task : tasks) {
+            if (Metrics.isEmpty(task.timers)) {
+                continue;
             }
-            newLine(json);
+            ProfilerType[] taskTypes = new ProfilerType[2 * PROFILER_TYPES.length];
+            long[] taskValues = new long[taskTypes.length];
+            int taskCount = collect(task.values, taskTypes, taskValues, 0);
+            taskCount = collect(task.timers, taskTypes, taskValues, taskCount);
+            taskRecords.add(new ProfilerRecord.TaskRecord(task.name, ip, task.backend, task.method, task.deviceId, task.deviceName, Arrays.copyOf(taskTypes, taskCount), Arrays.copyOf(taskValues,
+                    taskCount)));
         }
-        decreaseIndent();
-        closeScope(json);
-        newLine(json);
-        decreaseIndent();
-        closeScope(json);
-        newLine(json);
-        return json.toString();
+        return new ProfilerRecord(sectionName, System.currentTimeMillis(), Arrays.copyOf(types, count), Arrays.copyOf(values, count), taskRecords.toArray(new ProfilerRecord.TaskRecord[0]));
+    }
+
+    @Override
+    public String createJson(StringBuilder json, String sectionName) {
+        return snapshot(sectionName).appendJson(json).toString();
     }
 
     @Override
-    public synchronized void dumpJson(StringBuilder json, String id) {
+    public void dumpJson(StringBuilder json, String id) {
         String jsonContent = createJson(json, id);
         System.out.println(jsonContent);
     }
 
+    /**
+     * Clears the values of the task-graph and of the tasks. The descriptions of
+     * the tasks (method, backend and device) are kept.
+     */
     @Override
-    public synchronized void clean() {
-        taskThroughputMetrics.clear();
-        profilerTime.clear();
-        taskTimers.clear();
-        indent = new StringBuilder("");
+    public void clean() {
+        graphMetrics.clear();
+        for (TaskMetrics task : tasks) {
+            task.clear();
+        }
     }
 
     @Override
-    public synchronized void setTaskTimer(ProfilerType type, String taskID, long timer) {
-        if (!taskTimers.containsKey(taskID)) {
-            taskTimers.put(taskID, new HashMap<>());
-        }
-        taskTimers.get(taskID).put(type, timer);
+    public void setTaskTimer(ProfilerType type, String taskID, long timer) {
+        getTask(taskID).timers.set(type.ordinal(), timer);
     }
 
     @Override
-    public synchronized void sum(ProfilerType acc, long value) {
-        long sum = getTimer(acc) + value;
-        profilerTime.put(acc, sum);
+    public void sum(ProfilerType acc, long value) {
+        Metrics.add(graphMetrics.timers, acc, value);
     }
 
 }
@@ -0,0 +1,184 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.tasks;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import uk.ac.manchester.tornado.api.common.DeoptimizationRecord;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+import uk.ac.manchester.tornado.runtime.metrics.MetricScope;
+import uk.ac.manchester.tornado.runtime.metrics.MetricsRegistry;
+
+/**
+ * Bailouts to Java of the tasks of a task-graph. After {@code maxFailures}
+ * consecutive bailouts of a task, the task-graph is backed off: it runs the
+ * Java implementation without compiling the tasks again until
+ * {@code retryAfterMillis} have passed since the last bailout (or forever, if
+ * the time is negative). A successful execution on the device clears the
+ * consecutive failures.
+ */
+public class DeoptimizationRegistry {
+
+    private static final String[] ANSI_COLORS = { "\u001B[31m", "\u001B[0m" };
+
+    private final Map<String, Entry> entries;
+    private volatile int maxFailures;
+    private volatile long retryAfterMillis;
+
+    /**
+     * True if a task has bailed out since the last successful execution. It
+     * avoids iterating over the entries in the common case of a task-graph
+     * without bailouts.
+     */
+    private volatile boolean hasFailures;
+
+    private static final class Entry {
+        private final String taskId;
+        private String reason;
+        private int count;
+        private int consecutiveFailures;
+        private long firstTimestamp;
+        private long lastTimestamp;
+        private long retryTimestamp;
+
+        Entry(String taskId) {
+            this.taskId = taskId;
+        }
+
+        synchronized DeoptimizationRecord toRecord() {
+            return new DeoptimizationRecord(taskId, reason, count, consecutiveFailures, firstTimestamp, lastTimestamp, retryTimestamp);
+        }
+
+        synchronized long getRetryTimestamp() {
+            return retryTimestamp;
+        }
+    }
+
+    public DeoptimizationRegistry() {
+        this.entries = new ConcurrentHashMap<>();
+        this.maxFailures = TornadoOptions.DEOPT_MAX_FAILURES;
+        this.retryAfterMillis = TornadoOptions.DEOPT_RETRY_AFTER;
+    }
+
+    public void setBackoff(int maxFailures, long retryAfterMillis) {
+        this.maxFailures = maxFailures;
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    private static String cleanReason(String reason) {
+        String clean = reason == null ? "" : reason;
+        for (String color : ANSI_COLORS) {
+            clean = clean.replace(color, "");
+        }
+        return clean.strip();
+    }
+
+    /**
+     * Records a bailout of a task.
+     *
+     * @param taskId
+     *     Id of the task, or of the task-graph if the task is not known.
+     * @param reason
+     *     Message of the bailout.
+     * @return {@link DeoptimizationRecord} after the bailout.
+     */
+    public DeoptimizationRecord recordFailure(String taskId, String reason) {
+        final long now = System.currentTimeMillis();
+        Entry entry = entries.computeIfAbsent(taskId, id -> {
+            MetricsRegistry.getInstance().gauge("tornado_task_deoptimization_backoff", "1 if the compilation of the task is backed off after bailouts", MetricScope.TASK, id,
+                    () -> entries.containsKey(id) && entries.get(id).getRetryTimestamp() > System.currentTimeMillis() ? 1 : 0);
+            return new Entry(id);
+        });
+        MetricsRegistry.getInstance().counter("tornado_task_deoptimizations_total", "Bailouts of the task to Java", MetricScope.TASK, taskId).increment();
+        synchronized (entry) {
+            if (entry.count == 0) {
+                entry.firstTimestamp = now;
+            }
+            entry.count++;
+            entry.consecutiveFailures++;
+            entry.lastTimestamp = now;
+            entry.reason = cleanReason(reason);
+            if (entry.consecutiveFailures < maxFailures) {
+                entry.retryTimestamp = 0;
+            } else if (retryAfterMillis < 0) {
+                entry.retryTimestamp = Long.MAX_VALUE;
+            } else {
+                entry.retryTimestamp = now + retryAfterMillis;
+            }
+        }
+        hasFailures = true;
+        return entry.toRecord();
+    }
+
+    /**
+     * Returns true if any task of the task-graph is backed off, and therefore
+     * the task-graph has to run the Java implementation.
+     */
+    public boolean isBackedOff() {
+        if (!hasFailures) {
+            return false;
+        }
+        final long now = System.currentTimeMillis();
+        for (Entry entry : entries.values()) {
+            if (entry.getRetryTimestamp() > now) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Clears the consecutive failures after a successful execution on the
+     * device. The history of the bailouts is kept.
+     */
+    public void recordSuccess() {
+        if (!hasFailures) {
+            return;
+        }
+        for (Entry entry : entries.values()) {
+            synchronized (entry) {
+                entry.consecutiveFailures = 0;
+                entry.retryTimestamp = 0;
+            }
+        }
+        hasFailures = false;
+    }
+
+    public Map<String, DeoptimizationRecord> getRecords() {
+        Map<String, DeoptimizationRecord> records = new LinkedHashMap<>();
+        entries.values().stream() //
+                .map(Entry::toRecord) //
+                .sorted((a, b) -> Long.compare(a.firstTimestamp(), b.firstTimestamp())) //
+                .forEach(record -> records.put(record.taskId(), record));
+        return Collections.unmodifiableMap(records);
+    }
+
+    public void reset() {
+        entries.clear();
+        hasFailures = false;
+    }
+}
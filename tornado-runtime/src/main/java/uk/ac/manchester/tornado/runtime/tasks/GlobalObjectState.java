@@ -35,6 +35,12 @@ public class GlobalObjectState implements TornadoGlobalObjectState {
 
     private final ConcurrentHashMap<TornadoAcceleratorDevice, DeviceObjectState> deviceStates;
 
+    /**
+     * Number of bytes, from the start of the buffer, copied back to the host. Zero
+     * copies the whole object.
+     */
+    private volatile long copyOutBytes;
+
     public GlobalObjectState() {
         deviceStates = new ConcurrentHashMap<>();
     }
@@ -47,6 +53,22 @@ public class GlobalObjectState implements TornadoGlobalObjectState {
         return deviceStates.get(device);
     }
 
+    public long getCopyOutBytes() {
+        return copyOutBytes;
+    }
+
+    /**
+     * Limits the copies from the devices to the host to the first bytes of the
+     * object, e.g., the header and the result of a reduction finished on the
+     * device. Only honoured for native arrays copied without batches.
+     *
+     * @param bytes
+     *     Number of bytes, including the header of the native array.
+     */
+    public void setCopyOutBytes(long bytes) {
+        this.copyOutBytes = bytes;
+    }
+
     public void clear() {
         deviceStates.clear();
     }
@@ -28,6 +28,7 @@ import static uk.ac.manchester.tornado.runtime.TornadoCoreRuntime.getTornadoRunt
 import uk.ac.manchester.tornado.api.common.Event;
 import uk.ac.manchester.tornado.api.common.TornadoDevice;
 import uk.ac.manchester.tornado.runtime.common.DeviceObjectState;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
 
 public class LocalObjectState {
 
@@ -75,6 +76,9 @@ public class LocalObjectState {
         DeviceObjectState objectState = global.getDeviceState(device);
         if (objectState.isLockedBuffer()) {
             int eventId = device.streamOutBlocking(object, 0, objectState, null);
+            if (TornadoOptions.isVersionedTransfersEnabled()) {
+                objectState.updateVersionAfterCopyOut(object, objectState.getObjectBuffer().getSizeSubRegionSize() <= 0);
+            }
             return device.resolveEvent(eventId);
         }
         return null;
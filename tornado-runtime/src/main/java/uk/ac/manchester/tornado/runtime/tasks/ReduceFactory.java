@@ -290,6 +290,102 @@ class ReduceFactory {
         array.set(0, acc);
     }
 
+    private static void rAnd(int[] array, final int size) {
+        int acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc &= array[i];
+        }
+        array[0] = acc;
+    }
+
+    private static void rAnd(long[] array, final int size) {
+        long acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc &= array[i];
+        }
+        array[0] = acc;
+    }
+
+    private static void rAnd(IntArray array, final int size) {
+        int acc = array.get(0);
+        for (int i = 1; i < size; i++) {
+            acc &= array.get(i);
+        }
+        array.set(0, acc);
+    }
+
+    private static void rAnd(LongArray array, final int size) {
+        long acc = array.get(0);
+        for (int i = 1; i < size; i++) {
+            acc &= array.get(i);
+        }
+        array.set(0, acc);
+    }
+
+    private static void rOr(int[] array, final int size) {
+        int acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc |= array[i];
+        }
+        array[0] = acc;
+    }
+
+    private static void rOr(long[] array, final int size) {
+        long acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc |= array[i];
+        }
+        array[0] = acc;
+    }
+
+    private static void rOr(IntArray array, final int size) {
+        int acc = array.get(0);
+        for (int i = 1; i < size; i++) {
+            acc |= array.get(i);
+        }
+        array.set(0, acc);
+    }
+
+    private static void rOr(LongArray array, final int size) {
+        long acc = array.get(0);
+        for (int i = 1; i < size; i++) {
+            acc |= array.get(i);
+        }
+        array.set(0, acc);
+    }
+
+    private static void rXor(int[] array, final int size) {
+        int acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc ^= array[i];
+        }
+        array[0] = acc;
+    }
+
+    private static void rXor(long[] array, final int size) {
+        long acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc ^= array[i];
+        }
+        array[0] = acc;
+    }
+
+    private static void rXor(IntArray array, final int size) {
+        int acc = array.get(0);
+        for (int i = 1; i < size; i++) {
+            acc ^= array.get(i);
+        }
+        array.set(0, acc);
+    }
+
+    private static void rXor(LongArray array, final int size) {
+        long acc = array.get(0);
+        for (int i = 1; i < size; i++) {
+            acc ^= array.get(i);
+        }
+        array.set(0, acc);
+    }
+
     static void handleAdd(Object newArray, TaskGraph task, int sizeReduceArray, String taskName) {
         switch (newArray.getClass().getTypeName()) {
             case "int[]":
@@ -413,4 +509,61 @@ class ReduceFactory {
                 throw new TornadoRuntimeException(ERROR_MESSAGE + newArray.getClass().getTypeName());
         }
     }
+
+    static void handleAnd(Object newArray, TaskGraph task, int sizeReduceArray, String taskName) {
+        switch (newArray.getClass().getTypeName()) {
+            case "int[]":
+                task.task(taskName, ReduceFactory::rAnd, (int[]) newArray, sizeReduceArray);
+                break;
+            case "long[]":
+                task.task(taskName, ReduceFactory::rAnd, (long[]) newArray, sizeReduceArray);
+                break;
+            case "uk.ac.manchester.tornado.api.types.arrays.IntArray":
+                task.task(taskName, ReduceFactory::rAnd, (IntArray) newArray, sizeReduceArray);
+                break;
+            case "uk.ac.manchester.tornado.api.types.arrays.LongArray":
+                task.task(taskName, ReduceFactory::rAnd, (LongArray) newArray, sizeReduceArray);
+                break;
+            default:
+                throw new TornadoRuntimeException(ERROR_MESSAGE + newArray.getClass().getTypeName());
+        }
+    }
+
+    static void handleOr(Object newArray, TaskGraph task, int sizeReduceArray, String taskName) {
+        switch (newArray.getClass().getTypeName()) {
+            case "int[]":
+                task.task(taskName, ReduceFactory::rOr, (int[]) newArray, sizeReduceArray);
+                break;
+            case "long[]":
+                task.task(taskName, ReduceFactory::rOr, (long[]) newArray, sizeReduceArray);
+                break;
+            case "uk.ac.manchester.tornado.api.types.arrays.IntArray":
+                task.task(taskName, ReduceFactory::rOr, (IntArray) newArray, sizeReduceArray);
+                break;
+            case "uk.ac.manchester.tornado.api.types.arrays.LongArray":
+                task.task(taskName, ReduceFactory::rOr, (LongArray) newArray, sizeReduceArray);
+                break;
+            default:
+                throw new TornadoRuntimeException(ERROR_MESSAGE + newArray.getClass().getTypeName());
+        }
+    }
+
+    static void handleXor(Object newArray, TaskGraph task, int sizeReduceArray, String taskName) {
+        switch (newArray.getClass().getTypeName()) {
+            case "int[]":
+                task.task(taskName, ReduceFactory::rXor, (int[]) newArray, sizeReduceArray);
+                break;
+            case "long[]":
+                task.task(taskName, ReduceFactory::rXor, (long[]) newArray, sizeReduceArray);
+                break;
+            case "uk.ac.manchester.tornado.api.types.arrays.IntArray":
+                task.task(taskName, ReduceFactory::rXor, (IntArray) newArray, sizeReduceArray);
+                break;
+            case "uk.ac.manchester.tornado.api.types.arrays.LongArray":
+                task.task(taskName, ReduceFactory::rXor, (LongArray) newArray, sizeReduceArray);
+                break;
+            default:
+                throw new TornadoRuntimeException(ERROR_MESSAGE + newArray.getClass().getTypeName());
+        }
+    }
 }
@@ -30,10 +30,12 @@ import static uk.ac.manchester.tornado.runtime.TornadoCoreRuntime.getDebugContex
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.graalvm.compiler.graph.Graph;
@@ -57,6 +59,7 @@ import uk.ac.manchester.tornado.api.types.arrays.DoubleArray;
 import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
 import uk.ac.manchester.tornado.api.types.arrays.IntArray;
 import uk.ac.manchester.tornado.api.types.arrays.LongArray;
+import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
 import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
 import uk.ac.manchester.tornado.runtime.analyzer.CodeAnalysis;
 import uk.ac.manchester.tornado.runtime.analyzer.MetaReduceCodeAnalysis;
@@ -93,6 +96,7 @@ class ReduceTaskGraph {
     private List<HybridThreadMeta> hybridThreadMetas;
     private Map<Object, Object> neutralElementsNew = new HashMap<>();
     private Map<Object, Object> neutralElementsOriginal = new HashMap<>();
+    private Set<Object> deviceFinishedArrays = new HashSet<>();
     private TaskGraph rewrittenTaskGraph;
     private Map<Object, List<Integer>> reduceOperandTable;
     private boolean hybridMode;
@@ -125,7 +129,8 @@ class ReduceTaskGraph {
      *     Index of the device within the Tornado's device list.
      * @param inputSize
      *     Input size
-     * @return Output array size
+     * @return Output array size. On GPUs and FPGAs, the array also holds the
+     *     counter of the work-groups that finished their partial reduction.
      */
     private static int obtainSizeArrayResult(int driverIndex, int device, int inputSize) {
         TornadoDeviceType deviceType = TornadoCoreRuntime.getTornadoRuntime().getDriver(driverIndex).getDevice(device).getDeviceType();
@@ -135,13 +140,24 @@ class ReduceTaskGraph {
                 return deviceToRun.getAvailableProcessors() + 1;
             case GPU:
             case ACCELERATOR:
-                return inputSize > calculateAcceleratorGroupSize(deviceToRun, inputSize) ? (inputSize / calculateAcceleratorGroupSize(deviceToRun, inputSize)) + 1 : 2;
+                return inputSize > calculateAcceleratorGroupSize(deviceToRun, inputSize) ? (inputSize / calculateAcceleratorGroupSize(deviceToRun, inputSize)) + 2 : 3;
             default:
                 break;
         }
         return 0;
     }
 
+    /**
+     * The GPU snippets finish the reduction on the device: the last work-group
+     * folds the partial results into the first element of the array. The CPU
+     * snippets leave one partial result per thread, which are folded by an extra
+     * sequential task.
+     */
+    private static boolean isReductionFinishedOnDevice(int driverIndex, int device) {
+        TornadoDeviceType deviceType = TornadoCoreRuntime.getTornadoRuntime().getDriver(driverIndex).getDevice(device).getDeviceType();
+        return deviceType == TornadoDeviceType.GPU || deviceType == TornadoDeviceType.ACCELERATOR;
+    }
+
     /**
      * It computes the right local work group size for GPUs/FPGAs.
      *
@@ -239,6 +255,36 @@ class ReduceTaskGraph {
         }
     }
 
+    /**
+     * The counter of the work-groups is a 32-bit integer stored in the last
+     * element of the array, so it must be zero before each execution.
+     */
+    private void resetGroupCounter(Object reduceArray) {
+        switch (reduceArray) {
+            case int[] ints -> ints[ints.length - 1] = 0;
+            case float[] floats -> floats[floats.length - 1] = 0;
+            case double[] doubles -> doubles[doubles.length - 1] = 0;
+            case long[] longs -> longs[longs.length - 1] = 0;
+            case IntArray intArray -> intArray.set(intArray.getSize() - 1, 0);
+            case FloatArray floatArray -> floatArray.set(floatArray.getSize() - 1, 0);
+            case DoubleArray doubleArray -> doubleArray.set(doubleArray.getSize() - 1, 0);
+            case LongArray longArray -> longArray.set(longArray.getSize() - 1, 0);
+            case null, default -> throw new TornadoRuntimeException(EXCEPTION_MESSAGE_ERROR + reduceArray.getClass());
+        }
+    }
+
+    /**
+     * When the device finishes the reduction, only the first element of the array
+     * is read by the host, so the partial results and the counter of the
+     * work-groups are not copied back.
+     */
+    private static void limitCopyOutToResult(Object reduceArray) {
+        if (reduceArray instanceof TornadoNativeArray nativeArray) {
+            long elementBytes = nativeArray.getNumBytesWithoutHeader() / nativeArray.getSize();
+            TornadoCoreRuntime.getTornadoRuntime().resolveObject(reduceArray).setCopyOutBytes(TornadoNativeArray.ARRAY_HEADER + elementBytes);
+        }
+    }
+
     private Object createNewReduceArray(Object reduceVariable, int size) {
         if (size == 1) {
             return reduceVariable;
@@ -394,7 +440,9 @@ class ReduceTaskGraph {
     /**
      * Compose and execute the new reduction. It dynamically creates a new
      * task-schedule expression that contains: a) the parallel reduction; b) the
-     * final sequential reduction.
+     * final sequential reduction. On GPUs and FPGAs, the last work-group of the
+     * parallel reduction folds the partial results, so there is no sequential
+     * task.
      * <p>
      * It also creates a new thread in the case the input size for the reduction is
      * not power of two and the target device is either the FPGA or the GPU. In this
@@ -482,6 +530,11 @@ class ReduceTaskGraph {
                     Object newDeviceArray = createNewReduceArray(originalReduceArray, sizeReductionArray);
                     Object neutralElement = getNeutralElement(originalReduceArray);
                     fillOutputArrayWithNeutral(newDeviceArray, neutralElement);
+                    if (isReductionFinishedOnDevice(driverToRun, deviceToRun)) {
+                        resetGroupCounter(newDeviceArray);
+                        deviceFinishedArrays.add(newDeviceArray);
+                        limitCopyOutToResult(newDeviceArray);
+                    }
 
                     neutralElementsNew.put(newDeviceArray, neutralElement);
                     neutralElementsOriginal.put(originalReduceArray, neutralElement);
@@ -572,6 +625,16 @@ class ReduceTaskGraph {
                     Object newArray = streamUpdateList.get(i);
                     int sizeReduceArray = sizesReductionArray.get(i);
                     for (REDUCE_OPERATION operation : operations) {
+                        if (hybridMode) {
+                            if (hybridMergeTable == null) {
+                                hybridMergeTable = new HashMap<>();
+                            }
+                            hybridMergeTable.put(newArray, operation);
+                        }
+                        if (deviceFinishedArrays.contains(newArray)) {
+                            continue;
+                        }
+
                         final String newTaskSequentialName = SEQUENTIAL_TASK_REDUCE_NAME + counterSeqName.get();
                         String fullName = rewrittenTaskGraph.getTaskGraphName() + "." + newTaskSequentialName;
                         TornadoRuntime.setProperty(fullName + ".device", driverToRun + ":" + deviceToRun);
@@ -582,15 +645,11 @@ class ReduceTaskGraph {
                             case MUL -> ReduceFactory.handleMul(newArray, rewrittenTaskGraph, sizeReduceArray, newTaskSequentialName);
                             case MAX -> ReduceFactory.handleMax(newArray, rewrittenTaskGraph, sizeReduceArray, newTaskSequentialName);
                             case MIN -> ReduceFactory.handleMin(newArray, rewrittenTaskGraph, sizeReduceArray, newTaskSequentialName);
+                            case AND -> ReduceFactory.handleAnd(newArray, rewrittenTaskGraph, sizeReduceArray, newTaskSequentialName);
+                            case OR -> ReduceFactory.handleOr(newArray, rewrittenTaskGraph, sizeReduceArray, newTaskSequentialName);
+                            case XOR -> ReduceFactory.handleXor(newArray, rewrittenTaskGraph, sizeReduceArray, newTaskSequentialName);
                             default -> throw new TornadoRuntimeException("[ERROR] Reduce operation not supported yet.");
                         }
-
-                        if (hybridMode) {
-                            if (hybridMergeTable == null) {
-                                hybridMergeTable = new HashMap<>();
-                            }
-                            hybridMergeTable.put(newArray, operation);
-                        }
                         counterSeqName.incrementAndGet();
                     }
                 }
@@ -664,6 +723,9 @@ class ReduceTaskGraph {
             Object newArray = pair.getKey();
             Object neutralElement = pair.getValue();
             fillOutputArrayWithNeutral(newArray, neutralElement);
+            if (deviceFinishedArrays.contains(newArray)) {
+                resetGroupCounter(newArray);
+            }
 
             // Hybrid Execution
             if (hostHybridVariables != null && hostHybridVariables.containsKey(newArray)) {
@@ -686,6 +748,9 @@ class ReduceTaskGraph {
             case MUL -> a * b;
             case MAX -> Math.max(a, b);
             case MIN -> Math.min(a, b);
+            case AND -> a & b;
+            case OR -> a | b;
+            case XOR -> a ^ b;
             default -> throw new TornadoRuntimeException(OPERATION_NOT_SUPPORTED_MESSAGE);
         };
     }
@@ -716,6 +781,9 @@ class ReduceTaskGraph {
             case MUL -> a * b;
             case MAX -> Math.max(a, b);
             case MIN -> Math.min(a, b);
+            case AND -> a & b;
+            case OR -> a | b;
+            case XOR -> a ^ b;
             default -> throw new TornadoRuntimeException(OPERATION_NOT_SUPPORTED_MESSAGE);
         };
     }
@@ -25,7 +25,6 @@ package uk.ac.manchester.tornado.runtime.tasks;
 
 import static uk.ac.manchester.tornado.api.profiler.ProfilerType.TOTAL_KERNEL_TIME;
 
-import java.io.IOException;
 import java.lang.foreign.MemorySegment;
 import java.lang.reflect.Array;
 import java.lang.reflect.Method;
@@ -35,6 +34,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -61,6 +61,7 @@ import uk.ac.manchester.tornado.api.TornadoDriver;
 import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
 import uk.ac.manchester.tornado.api.TornadoTaskGraphInterface;
 import uk.ac.manchester.tornado.api.common.Access;
+import uk.ac.manchester.tornado.api.common.DeoptimizationRecord;
 import uk.ac.manchester.tornado.api.common.Event;
 import uk.ac.manchester.tornado.api.common.SchedulableTask;
 import uk.ac.manchester.tornado.api.common.TaskPackage;
@@ -88,6 +89,7 @@ import uk.ac.manchester.tornado.api.exceptions.TornadoBailoutRuntimeException;
 import uk.ac.manchester.tornado.api.exceptions.TornadoDynamicReconfigurationException;
 import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
 import uk.ac.manchester.tornado.api.exceptions.TornadoTaskRuntimeException;
+import uk.ac.manchester.tornado.api.profiler.LatencyHistogram;
 import uk.ac.manchester.tornado.api.profiler.ProfilerType;
 import uk.ac.manchester.tornado.api.profiler.TornadoProfiler;
 import uk.ac.manchester.tornado.api.runtime.TornadoRuntime;
@@ -96,6 +98,7 @@ import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
 import uk.ac.manchester.tornado.api.types.arrays.IntArray;
 import uk.ac.manchester.tornado.api.types.arrays.LongArray;
 import uk.ac.manchester.tornado.api.types.arrays.ShortArray;
+import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
 import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
 import uk.ac.manchester.tornado.runtime.TornadoVM;
 import uk.ac.manchester.tornado.runtime.analyzer.MetaReduceCodeAnalysis;
@@ -106,13 +109,20 @@ import uk.ac.manchester.tornado.runtime.common.RuntimeUtilities;
 import uk.ac.manchester.tornado.runtime.common.Tornado;
 import uk.ac.manchester.tornado.runtime.common.TornadoAcceleratorDevice;
 import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
-import uk.ac.manchester.tornado.runtime.common.TornadoVMClient;
 import uk.ac.manchester.tornado.runtime.graal.compiler.TornadoSuitesProvider;
 import uk.ac.manchester.tornado.runtime.graph.TornadoExecutionContext;
 import uk.ac.manchester.tornado.runtime.graph.TornadoGraph;
 import uk.ac.manchester.tornado.runtime.graph.TornadoGraphBuilder;
+import uk.ac.manchester.tornado.runtime.graph.TornadoTaskFusion;
 import uk.ac.manchester.tornado.runtime.graph.TornadoVMBytecodeBuilder;
+import uk.ac.manchester.tornado.runtime.host.HostParallelExecutor;
+import uk.ac.manchester.tornado.runtime.jfr.BailoutEvent;
+import uk.ac.manchester.tornado.runtime.metrics.Counter;
+import uk.ac.manchester.tornado.runtime.metrics.MetricScope;
+import uk.ac.manchester.tornado.runtime.metrics.MetricsRegistry;
 import uk.ac.manchester.tornado.runtime.profiler.EmptyProfiler;
+import uk.ac.manchester.tornado.runtime.profiler.ProfilerExporter;
+import uk.ac.manchester.tornado.runtime.profiler.ProfilerRecord;
 import uk.ac.manchester.tornado.runtime.profiler.TimeProfiler;
 import uk.ac.manchester.tornado.runtime.sketcher.Sketch;
 import uk.ac.manchester.tornado.runtime.sketcher.SketchRequest;
@@ -136,6 +146,8 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
     private static final ConcurrentHashMap<Policy, ConcurrentHashMap<String, HistoryTable>> executionHistoryPolicy = new ConcurrentHashMap<>();
 
     private static final boolean USE_GLOBAL_TASK_CACHE = false;
+    private static final ProfilerType[] LATENCY_HISTOGRAM_TYPES = { ProfilerType.COPY_IN_TIME, ProfilerType.COPY_OUT_TIME, ProfilerType.TOTAL_DISPATCH_KERNEL_TIME,
+            ProfilerType.TOTAL_TASK_GRAPH_TIME };
 
     private static final String RESET = "\u001B[0m";
     private static final String RED = "\u001B[31m";
@@ -143,6 +155,11 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
     private static final CompileInfo COMPILE_ONLY = new CompileInfo(true, false);
     private static final CompileInfo COMPILE_AND_UPDATE = new CompileInfo(true, true);
     private static final CompileInfo NOT_COMPILE_UPDATE = new CompileInfo(false, false);
+    /**
+     * Minimum number of chunks per host worker, so threads that finish early can
+     * take work from the slower ones.
+     */
+    private static final int HOST_CHUNKS_PER_THREAD = 4;
     private static final Pattern PATTERN_BATCH = Pattern.compile("(\\d+)(MB|mg|gb|GB)");
 
     private static ConcurrentHashMap<Integer, TaskGraph> globalTaskGraphIndex = new ConcurrentHashMap<>();
@@ -173,7 +190,20 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
     private ConcurrentHashMap<Integer, ArrayList<Object>> multiHeapManagerOutputs = new ConcurrentHashMap<>();
     private ConcurrentHashMap<Integer, ArrayList<Object>> multiHeapManagerInputs = new ConcurrentHashMap<>();
     private ConcurrentHashMap<Integer, TaskGraph> taskGraphIndex = new ConcurrentHashMap<>();
-    private StringBuilder bufferLogProfiler = new StringBuilder();
+    private final List<ProfilerRecord> profilerLog = new ArrayList<>();
+    private final Map<String, Map<ProfilerType, LatencyHistogram>> latencyHistograms = new ConcurrentHashMap<>();
+    private final DeoptimizationRegistry deoptimizations = new DeoptimizationRegistry();
+
+    /**
+     * Counters of the task-graph in the {@link MetricsRegistry}, resolved on the
+     * first execution. They are keyed by the name of the task-graph, as the
+     * counters of the interpreter, so the snapshots and the task-graphs with the
+     * same name are aggregated.
+     */
+    private Counter executionsCounter;
+    private Counter bailoutsCounter;
+    private Counter deoptimizationSkipsCounter;
+
     private Graph compilationGraph;
     /**
      * Options for new reductions - experimental.
@@ -188,6 +218,20 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
 
     private ProfilerMode profilerMode;
 
+    /**
+     * Tasks are executed by the pure-Java multi-core executor when it is forced
+     * or when there are no accelerator drivers installed.
+     */
+    private final boolean hostExecution;
+
+    /**
+     * Set once the tasks have been considered for fusion. The high-level
+     * bytecodes before fusion are kept to undo it when a parameter is replaced.
+     */
+    private boolean tasksFused;
+    private byte[] unfusedHighLevelCode;
+    private ByteBuffer unfusedHlBuffer;
+
     /**
      * Task Schedule implementation that uses GPU/FPGA and multicore backends. This constructor must be public. It is invoked using the reflection API.
      *
@@ -209,6 +253,7 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         streamInObjects = new ArrayList<>();
         inputModesObjects = new ArrayList<>();
         outputModeObjects = new ArrayList<>();
+        hostExecution = TornadoOptions.HOST_PARALLEL || TornadoCoreRuntime.getTornadoRuntime().getNumDrivers() == 0;
     }
 
     static void performStreamInObject(TaskGraph task, Object inputObject, final int dataTransferMode) {
@@ -388,7 +433,11 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         // on the device.
         updateData = true;
 
-        // 6. Update task-parameters
+        // 6. The fused tasks keep the old parameter, so they are launched
+        // separately from now on
+        revertTaskFusion();
+
+        // 7. Update task-parameters
         // Force to recompile the task-sketcher
         for (TaskPackage tp : taskPackages) {
             Object[] params = tp.getTaskParameters();
@@ -441,6 +490,10 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         newTaskGraph.timeProfiler = this.timeProfiler;
         newTaskGraph.gridScheduler = this.gridScheduler;
 
+        newTaskGraph.tasksFused = this.tasksFused;
+        newTaskGraph.unfusedHighLevelCode = this.unfusedHighLevelCode;
+        newTaskGraph.unfusedHlBuffer = this.unfusedHlBuffer;
+
         // Pass the profiler to the execution context
         newTaskGraph.executionContext.withProfiler(timeProfiler);
 
@@ -504,8 +557,9 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
 
         meta().setDevice(device);
 
-        // Make sure that a sketch is available for the device.
-        for (int i = 0; i < executionContext.getTaskCount(); i++) {
+        // Make sure that a sketch is available for the device, including the
+        // tasks created by fusion.
+        for (int i = 0; i < executionContext.getTasks().size(); i++) {
             SchedulableTask task = executionContext.getTask(i);
             task.meta().setDevice(device);
             if (task instanceof CompilableTask compilableTask) {
@@ -573,12 +627,18 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
 
     @Override
     public void addInner(SchedulableTask task) {
+        int index = executionContext.addTask(task);
+        sketchTask(task);
+
+        // Prepare Initial Graph before the TornadoVM bytecode generation
+        emitTaskBitcodes(executionContext.getTaskCountAndIncrement(), index, task);
+    }
+
+    private void sketchTask(SchedulableTask task) {
         int driverIndex = task.meta().getDriverIndex();
         Providers providers = TornadoCoreRuntime.getTornadoRuntime().getDriver(driverIndex).getProviders();
         TornadoSuitesProvider suites = TornadoCoreRuntime.getTornadoRuntime().getDriver(driverIndex).getSuitesProvider();
 
-        int index = executionContext.addTask(task);
-
         if (task instanceof CompilableTask compilableTask) {
             final ResolvedJavaMethod resolvedMethod = TornadoCoreRuntime.getTornadoRuntime().resolveMethod(compilableTask.getMethod());
             final TaskMetaData taskMetaData = compilableTask.meta();
@@ -587,12 +647,12 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
             Sketch lookup = TornadoSketcher.lookup(resolvedMethod, compilableTask.meta().getDriverIndex(), compilableTask.meta().getDeviceIndex());
             this.compilationGraph = lookup.getGraph();
         }
+    }
 
-        // Prepare Initial Graph before the TornadoVM bytecode generation
+    private void emitTaskBitcodes(int globalTaskId, int taskIndex, SchedulableTask task) {
         hlBuffer.put(TornadoGraphBitcodes.CONTEXT.index());
-        int globalTaskId = executionContext.getTaskCountAndIncrement();
         hlBuffer.putInt(globalTaskId);
-        hlBuffer.putInt(index);
+        hlBuffer.putInt(taskIndex);
 
         // create parameter list
         final Object[] args = task.getArguments();
@@ -600,7 +660,7 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         hlBuffer.putInt(args.length);
 
         for (final Object arg : args) {
-            index = executionContext.insertVariable(arg);
+            int index = executionContext.insertVariable(arg);
             if (arg.getClass().isPrimitive() || RuntimeUtilities.isBoxedPrimitiveClass(arg.getClass())) {
                 hlBuffer.put(TornadoGraphBitcodes.LOAD_PRIM.index());
             } else {
@@ -613,6 +673,56 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         hlBuffer.put(TornadoGraphBitcodes.LAUNCH.index());
     }
 
+    /**
+     * Fuses consecutive element-wise tasks (see {@link TornadoTaskFusion}) and
+     * rewrites the high-level bytecodes to launch the fused tasks instead. The
+     * original tasks stay in the execution context, so they can be launched
+     * again if the fusion is reverted.
+     */
+    private void fuseTasks() {
+        tasksFused = true;
+        if (batchSizeBytes != -1 || reduceExpressionRewritten || !TornadoTaskFusion.isAvailable()) {
+            return;
+        }
+
+        final List<SchedulableTask> tasks = new ArrayList<>(executionContext.getTasks());
+        TornadoTaskFusion taskFusion = new TornadoTaskFusion(meta(), argumentsLookUp::contains, task -> gridScheduler == null || gridScheduler.get(task.getId()) == null);
+        final List<SchedulableTask> launchOrder = taskFusion.fuse(tasks);
+        if (launchOrder.size() == tasks.size()) {
+            return;
+        }
+
+        for (SchedulableTask task : launchOrder) {
+            if (!tasks.contains(task)) {
+                executionContext.addTask(task);
+                sketchTask(task);
+                if (timeProfiler != null) {
+                    logTaskMethodHandle(task);
+                }
+            }
+        }
+
+        // The original buffer can be shared with other snapshots of this task-graph
+        unfusedHighLevelCode = highLevelCode;
+        unfusedHlBuffer = hlBuffer;
+        highLevelCode = new byte[unfusedHighLevelCode.length];
+        hlBuffer = ByteBuffer.wrap(highLevelCode);
+        hlBuffer.order(ByteOrder.LITTLE_ENDIAN);
+        for (SchedulableTask task : launchOrder) {
+            int taskIndex = executionContext.getTasks().indexOf(task);
+            emitTaskBitcodes(taskIndex, taskIndex, task);
+        }
+    }
+
+    private void revertTaskFusion() {
+        if (unfusedHlBuffer != null) {
+            highLevelCode = unfusedHighLevelCode;
+            hlBuffer = unfusedHlBuffer;
+            unfusedHighLevelCode = null;
+            unfusedHlBuffer = null;
+        }
+    }
+
     private void logTaskMethodHandle(SchedulableTask task) {
         if ((task.getTaskName() != null) && (task.getId() != null)) {
             String methodName = (task instanceof PrebuiltTask prebuiltTask)
@@ -716,6 +826,9 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         CompileInfo compileInfo = extractCompileInfo();
         if (compileInfo.compile) {
             timeProfiler.start(ProfilerType.TOTAL_BYTE_CODE_GENERATION);
+            if (TornadoOptions.FUSE_TASKS && !tasksFused) {
+                fuseTasks();
+            }
             executionContext.scheduleTaskToDevices();
             TornadoVM tornadoVM = compile(compileInfo.updateDevice);
             vmTable.put(meta().getLogicDevice(), tornadoVM);
@@ -767,33 +880,60 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         }
     }
 
+    /**
+     * Publishes the profiler values of the last execution. The execution thread
+     * only copies the values into a {@link ProfilerRecord}; the JSON is built
+     * when the record is printed, read with {@link #getProfileLog()}, or exported
+     * by the {@link ProfilerExporter} thread.
+     */
     private void updateProfiler() {
-        if (!TornadoOptions.isProfilerEnabled()) {
+        if (!TornadoOptions.isProfilerEnabled() || !(timeProfiler instanceof TimeProfiler profiler)) {
             return;
         }
 
+        if (TornadoOptions.isProfilerHistogramsEnabled()) {
+            recordLatencies(profiler);
+        }
+
+        ProfilerRecord profilerRecord = profiler.snapshot(this.getId());
         if (!TornadoOptions.PROFILER_LOGS_ACCUMULATE()) {
-            timeProfiler.dumpJson(new StringBuilder(), this.getId());
+            System.out.println(profilerRecord.toJson());
         } else {
-            bufferLogProfiler.append(timeProfiler.createJson(new StringBuilder(), this.getId()));
+            profilerLog.add(profilerRecord);
         }
 
-        if (!TornadoOptions.SOCKET_PORT.isEmpty()) {
-            TornadoVMClient tornadoVMClient = new TornadoVMClient();
-            try {
-                tornadoVMClient.sentLogOverSocket(timeProfiler.createJson(new StringBuilder(), this.getId()));
-            } catch (IOException e) {
-                System.out.println(e);
-            }
+        ProfilerExporter exporter = ProfilerExporter.getInstance();
+        if (exporter.hasSinks()) {
+            exporter.submit(profilerRecord);
+        }
+    }
+
+    private void recordLatency(String name, ProfilerType type, long value) {
+        if (value > 0) {
+            latencyHistograms.computeIfAbsent(name, k -> new ConcurrentHashMap<>()).computeIfAbsent(type, k -> new LatencyHistogram()).record(value);
         }
+    }
 
-        if (!TornadoOptions.PROFILER_DIRECTORY.isEmpty()) {
-            String jsonFile = timeProfiler.createJson(new StringBuilder(), this.getId());
-            RuntimeUtilities.profilerFileWriter(jsonFile);
+    /**
+     * Adds the timers of the last execution to the latency histograms: the
+     * kernel time of each task, and the transfers, dispatch and end-to-end times
+     * of the task-graph.
+     */
+    private void recordLatencies(TimeProfiler profiler) {
+        for (SchedulableTask task : executionContext.getTasks()) {
+            recordLatency(task.getId(), ProfilerType.TASK_KERNEL_TIME, profiler.getTaskTimer(ProfilerType.TASK_KERNEL_TIME, task.getId()));
+        }
+        for (ProfilerType type : LATENCY_HISTOGRAM_TYPES) {
+            recordLatency(getTaskGraphName(), type, profiler.getTimer(type));
         }
     }
 
-    private void dumpDeoptReason(TornadoBailoutRuntimeException e) {
+    private void dumpDeoptReason(TornadoBailoutRuntimeException e, DeoptimizationRecord deoptimization) {
+        if (deoptimization.isBackedOff()) {
+            String retry = deoptimization.retryTimestamp() == Long.MAX_VALUE ? "" : " for the next " + (deoptimization.retryTimestamp() - deoptimization.lastTimestamp()) + " ms";
+            System.err.println(RED + String.format("[Bailout] %s bailed out %d times in a row. Running the sequential implementation without compiling it again%s.", deoptimization.taskId(),
+                    deoptimization.consecutiveFailures(), retry) + RESET);
+        }
         if (!Tornado.DEBUG) {
             System.err.println(RED + "[Bailout] Running the sequential implementation. Enable --debug to see the reason." + RESET);
         } else {
@@ -804,14 +944,33 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         }
     }
 
-    private void deoptimizeToSequentialJava(TornadoBailoutRuntimeException e) {
-        // Execute the sequential code
-        dumpDeoptReason(e);
-        runAllTasksJavaSequential();
+    private void deoptimizeToSequentialJava(TornadoBailoutRuntimeException e, DeoptimizationRecord deoptimization) {
+        // Execute the Java code
+        dumpDeoptReason(e, deoptimization);
+        runAllTasksAfterBailout();
+    }
+
+    private void runAllTasksAfterBailout() {
+        if (TornadoOptions.RECOVER_BAILOUT_HOST_PARALLEL) {
+            runAllTasksOnHost();
+        } else {
+            runAllTasksJavaSequential();
+        }
+    }
+
+    private void resolveMetrics() {
+        if (executionsCounter == null) {
+            MetricsRegistry metrics = MetricsRegistry.getInstance();
+            executionsCounter = metrics.counter("tornado_task_graph_executions_total", "Executions of the task-graph on the devices", MetricScope.TASK_GRAPH, taskGraphName);
+            bailoutsCounter = metrics.counter("tornado_task_graph_bailouts_total", "Bailouts of the task-graph", MetricScope.TASK_GRAPH, taskGraphName);
+            deoptimizationSkipsCounter = metrics.counter("tornado_task_graph_deopt_skips_total", "Executions of the task-graph that ran the Java code because of the deoptimization backoff",
+                    MetricScope.TASK_GRAPH, taskGraphName);
+        }
     }
 
     @Override
     public void scheduleInner() {
+        resolveMetrics();
         boolean compile = compileToTornadoVMBytecode();
         TornadoAcceleratorDevice deviceForTask = executionContext.getDeviceForTask(0);
         if (compile && deviceForTask.getDeviceContext().isPlatformFPGA()) {
@@ -822,9 +981,20 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
             event = vm.execute();
             timeProfiler.stop(ProfilerType.TOTAL_TASK_GRAPH_TIME);
             updateProfiler();
+            executionsCounter.increment();
+            deoptimizations.recordSuccess();
         } catch (TornadoBailoutRuntimeException e) {
+            bailoutsCounter.increment();
+            DeoptimizationRecord deoptimization = deoptimizations.recordFailure(e.getTaskId() != null ? e.getTaskId() : getTaskGraphName(), e.getMessage());
+            BailoutEvent bailoutEvent = new BailoutEvent();
+            if (bailoutEvent.shouldCommit()) {
+                bailoutEvent.taskGraph = getTaskGraphName();
+                bailoutEvent.reason = e.getMessage();
+                bailoutEvent.recovered = TornadoOptions.RECOVER_BAILOUT;
+                bailoutEvent.commit();
+            }
             if (TornadoOptions.RECOVER_BAILOUT) {
-                deoptimizeToSequentialJava(e);
+                deoptimizeToSequentialJava(e, deoptimization);
             } else {
                 if (Tornado.DEBUG) {
                     e.printStackTrace();
@@ -863,6 +1033,7 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
     @Override
     public void clearProfiles() {
         vm.clearProfiles();
+        latencyHistograms.values().forEach(histograms -> histograms.values().forEach(LatencyHistogram::reset));
     }
 
     @Override
@@ -967,6 +1138,9 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
 
     @Override
     public void warmup() {
+        if (hostExecution) {
+            return;
+        }
         setupProfiler();
         getDevice().getDeviceContext().setResetToFalse();
         timeProfiler.clean();
@@ -1039,7 +1213,11 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         final TornadoAcceleratorDevice device = meta().getLogicDevice();
         final DeviceObjectState deviceState = globalState.getDeviceState(device);
         if (deviceState.isLockedBuffer()) {
-            return device.resolveEvent(device.streamOutBlocking(object, 0, deviceState, null));
+            final Event event = device.resolveEvent(device.streamOutBlocking(object, 0, deviceState, null));
+            if (TornadoOptions.isVersionedTransfersEnabled()) {
+                deviceState.updateVersionAfterCopyOut(object, deviceState.getObjectBuffer().getSizeSubRegionSize() <= 0);
+            }
+            return event;
         }
         return null;
     }
@@ -1204,14 +1382,29 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
 
         setupProfiler();
         isFinished = false;
+        if (hostExecution) {
+            timeProfiler.clean();
+            timeProfiler.start(ProfilerType.TOTAL_TASK_GRAPH_TIME);
+            runAllTasksOnHost();
+            timeProfiler.stop(ProfilerType.TOTAL_TASK_GRAPH_TIME);
+            cleanUp();
+            return this;
+        }
         if (bailout) {
             if (!TornadoOptions.RECOVER_BAILOUT) {
                 throw new TornadoBailoutRuntimeException("[TornadoVM] Error - Recover option disabled");
             } else {
-                runAllTasksJavaSequential();
+                runAllTasksAfterBailout();
                 return this;
             }
         }
+        if (TornadoOptions.RECOVER_BAILOUT && deoptimizations.isBackedOff()) {
+            // A task kept bailing out: run the Java code without compiling it again
+            resolveMetrics();
+            deoptimizationSkipsCounter.increment();
+            runAllTasksAfterBailout();
+            return this;
+        }
 
         timeProfiler.clean();
         timeProfiler.start(ProfilerType.TOTAL_TASK_GRAPH_TIME);
@@ -1338,6 +1531,21 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
             default:
                 throw new TornadoRuntimeException("Sequential Runner not supported yet. Number of parameters: " + type);
         }
+        markNativeArraysModified(taskPackage);
+    }
+
+    /**
+     * The atomics of {@link uk.ac.manchester.tornado.api.TornadoVMIntrinsics} do
+     * not mark the native arrays they write, so the arrays of a task that ran on
+     * the host are marked once, after the task.
+     */
+    private static void markNativeArraysModified(TaskPackage taskPackage) {
+        Object[] parameters = taskPackage.getTaskParameters();
+        for (int i = 1; i < parameters.length; i++) {
+            if (parameters[i] instanceof TornadoNativeArray nativeArray) {
+                nativeArray.markModified();
+            }
+        }
     }
 
     private int synchronizeWithPolicy(Policy policy, long[] totalTimers) {
@@ -1399,6 +1607,42 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         }
     }
 
+    private void runAllTasksOnHost() {
+        for (TaskPackage taskPackage : taskPackages) {
+            runTaskOnHost(taskPackage, getHostChunkSize(taskPackage));
+        }
+    }
+
+    /**
+     * Number of loop iterations that a host worker claims at a time. If the task
+     * was analysed before the bailout, its parallel domain is known, and the chunk
+     * is sized to give each worker several chunks. Otherwise, it uses the default
+     * chunk size.
+     */
+    private int getHostChunkSize(TaskPackage taskPackage) {
+        SchedulableTask task = executionContext.getTask(taskPackage.getId());
+        if (task != null && task.meta() instanceof TaskMetaData taskMetaData && taskMetaData.hasDomain() && taskMetaData.getDomain().getDepth() > 0) {
+            long iterations = taskMetaData.getDomain().get(0).cardinality();
+            long chunkSize = iterations / ((long) TornadoOptions.HOST_THREADS * HOST_CHUNKS_PER_THREAD);
+            return (int) Math.max(1, Math.min(TornadoOptions.HOST_CHUNK_SIZE, chunkSize));
+        }
+        return TornadoOptions.HOST_CHUNK_SIZE;
+    }
+
+    /**
+     * Runs a task with the multi-core host executor over the original arguments.
+     * Tasks that cannot be parallelized on the host run sequentially.
+     */
+    private void runTaskOnHost(TaskPackage taskPackage, int chunkSize) {
+        Object[] parameters = taskPackage.getTaskParameters();
+        Method method = TaskUtils.resolveMethodHandle(parameters[0]);
+        if (HostParallelExecutor.execute(method, Arrays.copyOfRange(parameters, 1, parameters.length), chunkSize)) {
+            markNativeArraysModified(taskPackage);
+        } else {
+            runSequentialCodeInThread(taskPackage);
+        }
+    }
+
     private void runParallelSequential(Policy policy, Thread[] threads, int indexSequential, Timer timer, long[] totalTimers) {
         // Last Thread runs the sequential code
         threads[indexSequential] = new Thread(() -> {
@@ -2023,6 +2267,10 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
     @Override
     public void addTask(TaskPackage taskPackage) {
         taskPackages.add(taskPackage);
+        if (hostExecution) {
+            // Host tasks are not compiled
+            return;
+        }
         String id = taskPackage.getId();
         int type = taskPackage.getTaskType();
         Object[] parameters = taskPackage.getTaskParameters();
@@ -2170,9 +2418,39 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         }
     }
 
+    @Override
+    public void withDeoptimizationBackoff(int maxFailures, long retryAfterMillis) {
+        deoptimizations.setBackoff(maxFailures, retryAfterMillis);
+    }
+
+    @Override
+    public Map<String, DeoptimizationRecord> getDeoptimizations() {
+        return deoptimizations.getRecords();
+    }
+
+    @Override
+    public void resetDeoptimizations() {
+        deoptimizations.reset();
+    }
+
+    @Override
+    public Map<String, Map<ProfilerType, LatencyHistogram>> getLatencyHistograms() {
+        Map<String, Map<ProfilerType, LatencyHistogram>> copy = new TreeMap<>();
+        latencyHistograms.forEach((name, histograms) -> {
+            Map<ProfilerType, LatencyHistogram> types = new EnumMap<>(ProfilerType.class);
+            histograms.forEach((type, histogram) -> types.put(type, histogram.copy()));
+            copy.put(name, types);
+        });
+        return copy;
+    }
+
     @Override
     public String getProfileLog() {
-        return bufferLogProfiler.toString();
+        StringBuilder json = new StringBuilder();
+        for (ProfilerRecord profilerRecord : profilerLog) {
+            profilerRecord.appendJson(json);
+        }
+        return json.toString();
     }
 
     boolean isProfilerEnabled() {
@@ -1,14 +1,20 @@
 open module tornado.unittests {
     requires transitive junit;
     requires transitive tornado.api;
+    requires tornado.matrices;
+    requires tornado.benchmarks;
     requires lucene.core;
     requires java.desktop;
+    requires jdk.jfr;
+    requires java.management;
 
     exports uk.ac.manchester.tornado.unittests;
+    exports uk.ac.manchester.tornado.unittests.algorithms;
     exports uk.ac.manchester.tornado.unittests.api;
     exports uk.ac.manchester.tornado.unittests.arrays;
     exports uk.ac.manchester.tornado.unittests.atomics;
     exports uk.ac.manchester.tornado.unittests.batches;
+    exports uk.ac.manchester.tornado.unittests.benchmarks;
     exports uk.ac.manchester.tornado.unittests.bitsets;
     exports uk.ac.manchester.tornado.unittests.branching;
     exports uk.ac.manchester.tornado.unittests.common;
@@ -16,6 +22,8 @@ open module tornado.unittests {
     exports uk.ac.manchester.tornado.unittests.fields;
     exports uk.ac.manchester.tornado.unittests.flatmap;
     exports uk.ac.manchester.tornado.unittests.functional;
+    exports uk.ac.manchester.tornado.unittests.fusion;
+    exports uk.ac.manchester.tornado.unittests.host;
     exports uk.ac.manchester.tornado.unittests.images;
     exports uk.ac.manchester.tornado.unittests.kernelcontext.api;
     exports uk.ac.manchester.tornado.unittests.kernelcontext.matrices;
@@ -32,6 +40,7 @@ open module tornado.unittests {
     exports uk.ac.manchester.tornado.unittests.slam;
     exports uk.ac.manchester.tornado.unittests.tasks;
     exports uk.ac.manchester.tornado.unittests.temporary.values;
+    exports uk.ac.manchester.tornado.unittests.tensors;
     exports uk.ac.manchester.tornado.unittests.tools;
     exports uk.ac.manchester.tornado.unittests.vectortypes;
     exports uk.ac.manchester.tornado.unittests.virtualization;
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.algorithms;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.algorithms.RadixSort;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.arrays.LongArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the device-wide sort of {@link RadixSort}.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.algorithms.TestRadixSort
+ * </code>
+ */
+public class TestRadixSort extends TornadoTestBase {
+
+    private static final int SIZE = 10000;
+
+    private static void execute(TaskGraph taskGraph, GridScheduler gridScheduler) {
+        TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot());
+        executionPlan.withGridScheduler(gridScheduler) //
+                .execute();
+    }
+
+    @Test
+    public void testSortIntegers() {
+        IntArray keys = new IntArray(SIZE);
+        Random r = new Random();
+        for (int i = 0; i < SIZE; i++) {
+            keys.set(i, r.nextInt());
+        }
+        int[] expected = keys.toHeapArray();
+        Arrays.sort(expected);
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, keys);
+        RadixSort.sort(taskGraph, gridScheduler, "sort", keys) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, keys);
+        execute(taskGraph, gridScheduler);
+
+        assertArrayEquals(expected, keys.toHeapArray());
+    }
+
+    @Test
+    public void testSortPairs() {
+        IntArray keys = new IntArray(SIZE);
+        IntArray values = new IntArray(SIZE);
+        Random r = new Random();
+        for (int i = 0; i < SIZE; i++) {
+            // Repeated keys check that the sort is stable
+            keys.set(i, r.nextInt(100));
+            values.set(i, i);
+        }
+        IntArray original = IntArray.fromArray(keys.toHeapArray());
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, keys, values);
+        RadixSort.sort(taskGraph, gridScheduler, "sort", keys, values) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, keys, values);
+        execute(taskGraph, gridScheduler);
+
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(original.get(values.get(i)), keys.get(i));
+            if (i > 0) {
+                boolean ordered = keys.get(i - 1) < keys.get(i) || (keys.get(i - 1) == keys.get(i) && values.get(i - 1) < values.get(i));
+                assertTrue(ordered);
+            }
+        }
+    }
+
+    @Test
+    public void testSortLongs() {
+        LongArray keys = new LongArray(SIZE);
+        Random r = new Random();
+        for (int i = 0; i < SIZE; i++) {
+            keys.set(i, r.nextLong());
+        }
+        long[] expected = keys.toHeapArray();
+        Arrays.sort(expected);
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, keys);
+        RadixSort.sort(taskGraph, gridScheduler, "sort", keys) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, keys);
+        execute(taskGraph, gridScheduler);
+
+        assertArrayEquals(expected, keys.toHeapArray());
+    }
+
+    @Test
+    public void testSortFloats() {
+        FloatArray keys = new FloatArray(SIZE);
+        Random r = new Random();
+        for (int i = 0; i < SIZE; i++) {
+            keys.set(i, (r.nextFloat() - 0.5f) * 1000.0f);
+        }
+        float[] expected = keys.toHeapArray();
+        Arrays.sort(expected);
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, keys);
+        RadixSort.sort(taskGraph, gridScheduler, "sort", keys) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, keys);
+        execute(taskGraph, gridScheduler);
+
+        assertArrayEquals(expected, keys.toHeapArray(), 0.0f);
+    }
+
+    @Test
+    public void testSortSegments() {
+        IntArray keys = new IntArray(SIZE);
+        Random r = new Random();
+        for (int i = 0; i < SIZE; i++) {
+            keys.set(i, r.nextInt(2000) - 1000);
+        }
+        IntArray segmentOffsets = IntArray.fromElements(0, 10, 10, 3000, 7001, SIZE);
+        int[] expected = keys.toHeapArray();
+        for (int s = 0; s < segmentOffsets.getSize() - 1; s++) {
+            Arrays.sort(expected, segmentOffsets.get(s), segmentOffsets.get(s + 1));
+        }
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, keys, segmentOffsets);
+        RadixSort.sortSegments(taskGraph, gridScheduler, "sort", keys, null, segmentOffsets) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, keys);
+        execute(taskGraph, gridScheduler);
+
+        assertArrayEquals(expected, keys.toHeapArray());
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.algorithms;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.algorithms.Scan;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.arrays.LongArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the device-wide scan of {@link Scan}.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.algorithms.TestScan
+ * </code>
+ */
+public class TestScan extends TornadoTestBase {
+
+    // Three levels of blocks, and a partial last block
+    private static final int SIZE = Scan.BLOCK_SIZE * Scan.BLOCK_SIZE + 1000;
+
+    private static IntArray randomInput(int size) {
+        IntArray input = new IntArray(size);
+        Random r = new Random();
+        for (int i = 0; i < size; i++) {
+            input.set(i, r.nextInt(100));
+        }
+        return input;
+    }
+
+    private static void assertInclusiveScan(IntArray input, IntArray output) {
+        int sum = 0;
+        for (int i = 0; i < input.getSize(); i++) {
+            sum += input.get(i);
+            assertEquals(sum, output.get(i));
+        }
+    }
+
+    private static void assertExclusiveScan(IntArray input, IntArray output) {
+        int sum = 0;
+        for (int i = 0; i < input.getSize(); i++) {
+            assertEquals(sum, output.get(i));
+            sum += input.get(i);
+        }
+    }
+
+    private static void executeScanTasks(TaskGraph taskGraph, GridScheduler gridScheduler) {
+        TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot());
+        executionPlan.withGridScheduler(gridScheduler) //
+                .execute();
+    }
+
+    @Test
+    public void testInclusiveScan() {
+        IntArray input = randomInput(SIZE);
+        IntArray output = new IntArray(SIZE);
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input, output);
+        Scan.inclusive(taskGraph, gridScheduler, "scan", input, output) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+        executeScanTasks(taskGraph, gridScheduler);
+
+        assertInclusiveScan(input, output);
+    }
+
+    @Test
+    public void testExclusiveScan() {
+        IntArray input = randomInput(SIZE);
+        IntArray output = new IntArray(SIZE);
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input, output);
+        Scan.exclusive(taskGraph, gridScheduler, "scan", input, output) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+        executeScanTasks(taskGraph, gridScheduler);
+
+        assertExclusiveScan(input, output);
+    }
+
+    @Test
+    public void testSingleBlock() {
+        IntArray input = randomInput(100);
+        IntArray output = new IntArray(100);
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input, output);
+        Scan.inclusive(taskGraph, gridScheduler, "scan", input, output) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+        executeScanTasks(taskGraph, gridScheduler);
+
+        assertInclusiveScan(input, output);
+    }
+
+    @Test
+    public void testScanFloat() {
+        final int size = 5000;
+        FloatArray input = new FloatArray(size);
+        input.init(1.0f);
+        FloatArray output = new FloatArray(size);
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input, output);
+        Scan.inclusive(taskGraph, gridScheduler, "scan", input, output) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+        executeScanTasks(taskGraph, gridScheduler);
+
+        for (int i = 0; i < size; i++) {
+            assertEquals(i + 1, output.get(i), 0.0f);
+        }
+    }
+
+    @Test
+    public void testBatchedInclusiveScan() {
+        IntArray input = randomInput(SIZE);
+        IntArray output = new IntArray(SIZE);
+
+        Scan.inclusive(input, output, 10000);
+
+        assertInclusiveScan(input, output);
+    }
+
+    @Test
+    public void testBatchedExclusiveScan() {
+        IntArray input = randomInput(SIZE);
+        IntArray output = new IntArray(SIZE);
+
+        Scan.exclusive(input, output, 10000);
+
+        assertExclusiveScan(input, output);
+    }
+
+    @Test
+    public void testBatchedScanLong() {
+        final int size = 20000;
+        LongArray input = new LongArray(size);
+        input.init(1L << 33);
+        LongArray output = new LongArray(size);
+
+        Scan.inclusive(input, output, 4096);
+
+        for (int i = 0; i < size; i++) {
+            assertEquals((i + 1) * (1L << 33), output.get(i));
+        }
+    }
+}
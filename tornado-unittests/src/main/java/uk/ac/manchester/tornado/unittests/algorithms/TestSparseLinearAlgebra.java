@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.algorithms;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.algorithms.SparseLinearAlgebra;
+import uk.ac.manchester.tornado.api.algorithms.SparseLinearAlgebra.Strategy;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.sparse.CSRMatrixFloat;
+import uk.ac.manchester.tornado.api.types.sparse.SELLMatrixFloat;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the sparse matrix products of {@link SparseLinearAlgebra}.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.algorithms.TestSparseLinearAlgebra
+ * </code>
+ */
+public class TestSparseLinearAlgebra extends TornadoTestBase {
+
+    private static final int NUM_ROWS = 4096;
+    private static final int NUM_COLUMNS = 2048;
+
+    /**
+     * Creates a matrix with the given row lengths and random columns and values.
+     */
+    private static CSRMatrixFloat createMatrix(int[] rowLengths) {
+        Random r = new Random(42);
+        int nnz = 0;
+        for (int length : rowLengths) {
+            nnz += length;
+        }
+        int[] rows = new int[nnz];
+        int[] columns = new int[nnz];
+        float[] values = new float[nnz];
+        int k = 0;
+        for (int i = 0; i < rowLengths.length; i++) {
+            for (int j = 0; j < rowLengths[i]; j++) {
+                rows[k] = i;
+                columns[k] = r.nextInt(NUM_COLUMNS);
+                values[k] = r.nextFloat() - 0.5f;
+                k++;
+            }
+        }
+        return CSRMatrixFloat.fromCoordinates(rowLengths.length, NUM_COLUMNS, rows, columns, values);
+    }
+
+    private static CSRMatrixFloat createUniformMatrix(int rowLength) {
+        int[] rowLengths = new int[NUM_ROWS];
+        for (int i = 0; i < NUM_ROWS; i++) {
+            rowLengths[i] = rowLength;
+        }
+        return createMatrix(rowLengths);
+    }
+
+    /**
+     * Power-law row lengths: a few rows have most of the non-zeros, and many
+     * rows are empty.
+     */
+    private static CSRMatrixFloat createPowerLawMatrix() {
+        Random r = new Random(7);
+        int[] rowLengths = new int[NUM_ROWS];
+        for (int i = 0; i < NUM_ROWS; i++) {
+            rowLengths[i] = (int) Math.min(NUM_COLUMNS, Math.floor(Math.pow(1.0 - r.nextDouble(), -1.0 / 1.2)) - 1);
+        }
+        rowLengths[3] = NUM_COLUMNS;
+        return createMatrix(rowLengths);
+    }
+
+    private static FloatArray createVector(int size) {
+        Random r = new Random(11);
+        FloatArray x = new FloatArray(size);
+        for (int i = 0; i < size; i++) {
+            x.set(i, r.nextFloat());
+        }
+        return x;
+    }
+
+    private static void execute(TaskGraph taskGraph, GridScheduler gridScheduler) {
+        TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot());
+        executionPlan.withGridScheduler(gridScheduler) //
+                .execute();
+    }
+
+    private static void checkSpmv(CSRMatrixFloat matrix, Strategy strategy) {
+        FloatArray x = createVector(matrix.getNumColumns());
+        FloatArray y = new FloatArray(matrix.getNumRows());
+        FloatArray expected = new FloatArray(matrix.getNumRows());
+        matrix.multiply(x, expected);
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, x);
+        SparseLinearAlgebra.spmv(taskGraph, gridScheduler, "spmv", matrix, x, y, strategy) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, y);
+        execute(taskGraph, gridScheduler);
+
+        for (int i = 0; i < matrix.getNumRows(); i++) {
+            assertEquals(expected.get(i), y.get(i), 1e-3f * Math.max(1, matrix.getRowLength(i)));
+        }
+    }
+
+    @Test
+    public void testSelectStrategy() {
+        assertEquals(Strategy.ROW_PER_THREAD, SparseLinearAlgebra.selectStrategy(createUniformMatrix(4)));
+        assertEquals(Strategy.GROUP_PER_ROW, SparseLinearAlgebra.selectStrategy(createUniformMatrix(64)));
+        assertEquals(Strategy.MERGE_PATH, SparseLinearAlgebra.selectStrategy(createPowerLawMatrix()));
+    }
+
+    @Test
+    public void testSpmvRowPerThread() {
+        checkSpmv(createUniformMatrix(4), Strategy.ROW_PER_THREAD);
+        checkSpmv(createPowerLawMatrix(), Strategy.ROW_PER_THREAD);
+    }
+
+    @Test
+    public void testSpmvGroupPerRow() {
+        checkSpmv(createUniformMatrix(64), Strategy.GROUP_PER_ROW);
+        checkSpmv(createPowerLawMatrix(), Strategy.GROUP_PER_ROW);
+    }
+
+    @Test
+    public void testSpmvMergePath() {
+        checkSpmv(createUniformMatrix(4), Strategy.MERGE_PATH);
+        checkSpmv(createPowerLawMatrix(), Strategy.MERGE_PATH);
+    }
+
+    @Test
+    public void testSpmvSELL() {
+        CSRMatrixFloat csr = createPowerLawMatrix();
+        FloatArray x = createVector(csr.getNumColumns());
+        FloatArray expected = new FloatArray(csr.getNumRows());
+        csr.multiply(x, expected);
+
+        SELLMatrixFloat[] matrices = { SELLMatrixFloat.fromCSR(csr), SELLMatrixFloat.fromCSR(csr, 32, 256) };
+        for (SELLMatrixFloat matrix : matrices) {
+            FloatArray y = new FloatArray(csr.getNumRows());
+            GridScheduler gridScheduler = new GridScheduler();
+            TaskGraph taskGraph = new TaskGraph("s0") //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, x);
+            SparseLinearAlgebra.spmv(taskGraph, gridScheduler, "spmv", matrix, x, y) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, y);
+            execute(taskGraph, gridScheduler);
+
+            for (int i = 0; i < csr.getNumRows(); i++) {
+                assertEquals(expected.get(i), y.get(i), 1e-3f * Math.max(1, csr.getRowLength(i)));
+            }
+        }
+    }
+
+    @Test
+    public void testSpmm() {
+        final int numVectors = 8;
+        CSRMatrixFloat matrix = createUniformMatrix(16);
+        FloatArray x = createVector(matrix.getNumColumns() * numVectors);
+        FloatArray y = new FloatArray(matrix.getNumRows() * numVectors);
+
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, x);
+        SparseLinearAlgebra.spmm(taskGraph, gridScheduler, "spmm", matrix, x, y, numVectors) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, y);
+        execute(taskGraph, gridScheduler);
+
+        FloatArray column = new FloatArray(matrix.getNumColumns());
+        FloatArray expected = new FloatArray(matrix.getNumRows());
+        for (int v = 0; v < numVectors; v++) {
+            for (int j = 0; j < matrix.getNumColumns(); j++) {
+                column.set(j, x.get(j * numVectors + v));
+            }
+            matrix.multiply(column, expected);
+            for (int i = 0; i < matrix.getNumRows(); i++) {
+                assertEquals(expected.get(i), y.get(i * numVectors + v), 1e-3f);
+            }
+        }
+    }
+}
@@ -18,7 +18,10 @@
 package uk.ac.manchester.tornado.unittests.api;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
 import java.util.stream.IntStream;
 
 import org.junit.Test;
@@ -27,11 +30,15 @@ import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
 import uk.ac.manchester.tornado.api.TaskGraph;
 import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
 import uk.ac.manchester.tornado.api.TornadoExecutionResult;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
 import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.enums.ProfilerMode;
 import uk.ac.manchester.tornado.api.runtime.TornadoRuntime;
 import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
 import uk.ac.manchester.tornado.unittests.arrays.TestArrays;
 import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+import uk.ac.manchester.tornado.unittests.common.TornadoVMMultiDeviceNotSupported;
 
 /**
  * <p>
@@ -44,6 +51,8 @@ import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
 public class TestIO extends TornadoTestBase {
     // CHECKSTYLE:OFF
 
+    private static final String VERSIONED_TRANSFERS = "tornado.transfers.versioned";
+
     private FloatArray createAndInitializeArray(int size) {
         FloatArray array = new FloatArray(size);
         IntStream.range(0, size).parallel().forEach(idx -> {
@@ -210,5 +219,257 @@ public class TestIO extends TornadoTestBase {
         assertEquals(copyInSumSimpleExec, copyInSumSimpleExecWithDev, (float) copyInSumSimpleExec / 12);
 
     }
+
+    private static void incrementInPlace(FloatArray a, FloatArray b) {
+        for (@Parallel int i = 0; i < a.getSize(); i++) {
+            a.set(i, a.get(i) + 1.0f);
+            b.set(i, a.get(i));
+        }
+    }
+
+    /**
+     * With {@code tornado.transfers.versioned}, arrays transferred with
+     * {@link DataTransferMode#EVERY_EXECUTION} are only copied again when the host
+     * modifies them, but the device must always see the latest host values.
+     */
+    @Test
+    public void testVersionedStreamIn() {
+        final int N = 128;
+
+        FloatArray arrayA = createAndInitializeArray(N);
+        FloatArray arrayB = createAndInitializeArray(N);
+        FloatArray arrayC = new FloatArray(N);
+
+        System.setProperty(VERSIONED_TRANSFERS, "True");
+        try {
+            TaskGraph taskGraph = new TaskGraph("s0") //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, arrayA, arrayB) //
+                    .task("t0", TestArrays::vectorAddFloat, arrayA, arrayB, arrayC) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, arrayC);
+
+            ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+            TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
+
+            executionPlan.execute();
+            for (int i = 0; i < N; i++) {
+                assertEquals(2 * i, arrayC.get(i), 0.0f);
+            }
+
+            // Modified with set
+            arrayA.set(3, 100.0f);
+            executionPlan.execute();
+            assertEquals(103.0f, arrayC.get(3), 0.0f);
+
+            // Modified with init
+            arrayB.init(1.0f);
+            executionPlan.execute();
+            for (int i = 0; i < N; i++) {
+                assertEquals((i == 3 ? 100.0f : i) + 1.0f, arrayC.get(i), 0.0f);
+            }
+
+            // Modified through the memory segment
+            arrayA.getSegment().setAtIndex(ValueLayout.JAVA_FLOAT, TornadoNativeArray.ARRAY_HEADER / Float.BYTES + 3, 3.0f);
+            arrayA.markModified();
+            executionPlan.execute();
+            for (int i = 0; i < N; i++) {
+                assertEquals(i + 1.0f, arrayC.get(i), 0.0f);
+            }
+        } finally {
+            System.setProperty(VERSIONED_TRANSFERS, "False");
+        }
+    }
+
+    /**
+     * Without {@code tornado.transfers.versioned}, arrays transferred with
+     * {@link DataTransferMode#EVERY_EXECUTION} are copied in every execution, even
+     * if the host writes them through the memory segment only.
+     */
+    @Test
+    public void testStreamInSegmentWrite() {
+        final int N = 128;
+
+        FloatArray arrayA = createAndInitializeArray(N);
+        FloatArray arrayB = createAndInitializeArray(N);
+        FloatArray arrayC = new FloatArray(N);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, arrayA, arrayB) //
+                .task("t0", TestArrays::vectorAddFloat, arrayA, arrayB, arrayC) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, arrayC);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
+        executionPlan.execute();
+
+        FloatArray source = new FloatArray(N);
+        IntStream.range(0, N).forEach(i -> source.set(i, 2 * i));
+        MemorySegment.copy(source.getSegment(), 0, arrayA.getSegment(), 0, arrayA.getNumBytesOfSegment());
+        arrayB.getSegment().setAtIndex(ValueLayout.JAVA_FLOAT, TornadoNativeArray.ARRAY_HEADER / Float.BYTES + 3, 10.0f);
+        executionPlan.execute();
+        for (int i = 0; i < N; i++) {
+            assertEquals(2 * i + (i == 3 ? 10.0f : i), arrayC.get(i), 0.0f);
+        }
+    }
+
+    /**
+     * With {@code tornado.transfers.versioned}, arrays transferred with
+     * {@link DataTransferMode#FIRST_EXECUTION} are copied again when the host
+     * modifies them.
+     */
+    @Test
+    public void testVersionedFirstExecution() {
+        final int N = 128;
+
+        FloatArray weights = createAndInitializeArray(N);
+        FloatArray input = createAndInitializeArray(N);
+        FloatArray output = new FloatArray(N);
+
+        System.setProperty(VERSIONED_TRANSFERS, "True");
+        try {
+            TaskGraph taskGraph = new TaskGraph("s0") //
+                    .transferToDevice(DataTransferMode.FIRST_EXECUTION, weights) //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                    .task("t0", TestArrays::vectorAddFloat, weights, input, output) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+
+            ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+            TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
+
+            executionPlan.execute();
+            for (int i = 0; i < N; i++) {
+                assertEquals(2 * i, output.get(i), 0.0f);
+            }
+
+            // Not modified: the device keeps the first copy
+            executionPlan.execute();
+            for (int i = 0; i < N; i++) {
+                assertEquals(2 * i, output.get(i), 0.0f);
+            }
+
+            weights.init(1.0f);
+            executionPlan.execute();
+            for (int i = 0; i < N; i++) {
+                assertEquals(i + 1.0f, output.get(i), 0.0f);
+            }
+        } finally {
+            System.setProperty(VERSIONED_TRANSFERS, "False");
+        }
+    }
+
+    /**
+     * The task writes an array that is transferred with
+     * {@link DataTransferMode#EVERY_EXECUTION}, so the host values must be
+     * copied again in every execution even if the host does not modify them.
+     */
+    @Test
+    public void testStreamInWrittenByTask() {
+        final int N = 128;
+
+        FloatArray arrayA = createAndInitializeArray(N);
+        FloatArray arrayB = new FloatArray(N);
+
+        System.setProperty(VERSIONED_TRANSFERS, "True");
+        try {
+            TaskGraph taskGraph = new TaskGraph("s0") //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, arrayA) //
+                    .task("t0", TestIO::incrementInPlace, arrayA, arrayB) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, arrayB);
+
+            ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+            TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
+
+            for (int k = 0; k < 4; k++) {
+                executionPlan.execute();
+                for (int i = 0; i < N; i++) {
+                    assertEquals(i + 1.0f, arrayB.get(i), 0.0f);
+                }
+            }
+        } finally {
+            System.setProperty(VERSIONED_TRANSFERS, "False");
+        }
+    }
+
+    private static TornadoExecutionPlan createIncrementPlan(FloatArray arrayA, FloatArray arrayB) {
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, arrayA) //
+                .task("t0", TestIO::incrementInPlace, arrayA, arrayB) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, arrayA, arrayB);
+        return new TornadoExecutionPlan(taskGraph.snapshot());
+    }
+
+    private static TornadoExecutionPlan createDoublePlan(FloatArray arrayA, FloatArray arrayC) {
+        TaskGraph taskGraph = new TaskGraph("s1") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, arrayA) //
+                .task("t0", TestArrays::vectorAddFloat, arrayA, arrayA, arrayC) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, arrayC);
+        return new TornadoExecutionPlan(taskGraph.snapshot()).withProfiler(ProfilerMode.SILENT);
+    }
+
+    /**
+     * With {@code tornado.transfers.versioned}, the copy of an array to the host
+     * gives the array a new version. A second task-graph on the same device
+     * shares the device buffer, which already holds this version, so it skips
+     * the copy of the array to the device.
+     */
+    @Test
+    public void testVersionedCopyOutSameDevice() {
+        final int N = 128;
+
+        FloatArray arrayA = createAndInitializeArray(N);
+        FloatArray arrayB = new FloatArray(N);
+        FloatArray arrayC = new FloatArray(N);
+
+        System.setProperty(VERSIONED_TRANSFERS, "True");
+        try {
+            TornadoExecutionPlan incrementPlan = createIncrementPlan(arrayA, arrayB);
+            TornadoExecutionPlan doublePlan = createDoublePlan(arrayA, arrayC);
+
+            for (int k = 1; k <= 3; k++) {
+                incrementPlan.execute();
+                TornadoExecutionResult executionResult = doublePlan.execute();
+                assertEquals(0, executionResult.getProfilerResult().getDeviceWriteTime());
+                for (int i = 0; i < N; i++) {
+                    assertEquals(2.0f * (i + k), arrayC.get(i), 0.0f);
+                }
+            }
+        } finally {
+            System.clearProperty(VERSIONED_TRANSFERS);
+        }
+    }
+
+    /**
+     * With {@code tornado.transfers.versioned}, the copy of an array to the host
+     * gives the array a new version, so the buffer of another device, which holds
+     * the previous version, is copied again.
+     */
+    @Test
+    public void testVersionedCopyOutTwoDevices() {
+        if (TornadoRuntime.getTornadoRuntime().getDriver(0).getDeviceCount() < 2) {
+            throw new TornadoVMMultiDeviceNotSupported("Not enough devices to run tests");
+        }
+        final int N = 128;
+
+        FloatArray arrayA = createAndInitializeArray(N);
+        FloatArray arrayB = new FloatArray(N);
+        FloatArray arrayC = new FloatArray(N);
+
+        System.setProperty(VERSIONED_TRANSFERS, "True");
+        try {
+            TornadoExecutionPlan incrementPlan = createIncrementPlan(arrayA, arrayB).withDevice(TornadoExecutionPlan.getDevice(0, 0));
+            TornadoExecutionPlan doublePlan = createDoublePlan(arrayA, arrayC).withDevice(TornadoExecutionPlan.getDevice(0, 1));
+
+            doublePlan.execute();
+            for (int k = 1; k <= 3; k++) {
+                incrementPlan.execute();
+                TornadoExecutionResult executionResult = doublePlan.execute();
+                assertTrue(executionResult.getProfilerResult().getDeviceWriteTime() > 0);
+                for (int i = 0; i < N; i++) {
+                    assertEquals(2.0f * (i + k), arrayC.get(i), 0.0f);
+                }
+            }
+        } finally {
+            System.clearProperty(VERSIONED_TRANSFERS);
+        }
+    }
     // CHECKSTYLE:ON
 }
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.arrays;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.HalfFloatArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the half-precision storage of {@link HalfFloatArray}.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.arrays.TestHalfFloatArray
+ * </code>
+ */
+public class TestHalfFloatArray extends TornadoTestBase {
+
+    private static final int SIZE = 4096;
+
+    public static void vectorAdd(HalfFloatArray a, HalfFloatArray b, HalfFloatArray c) {
+        for (@Parallel int i = 0; i < c.getSize(); i++) {
+            c.set(i, a.get(i) + b.get(i));
+        }
+    }
+
+    public static void toSingle(HalfFloatArray input, FloatArray output) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            output.set(i, input.get(i));
+        }
+    }
+
+    public static void toHalf(FloatArray input, HalfFloatArray output) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            output.set(i, input.get(i));
+        }
+    }
+
+    /**
+     * Matrix-vector multiplication with the weights in half precision and the
+     * accumulation in single precision.
+     */
+    public static void matrixVector(HalfFloatArray weights, FloatArray x, FloatArray y, int n) {
+        for (@Parallel int i = 0; i < y.getSize(); i++) {
+            float sum = 0.0f;
+            for (int j = 0; j < n; j++) {
+                sum += weights.get(i * n + j) * x.get(j);
+            }
+            y.set(i, sum);
+        }
+    }
+
+    private static void execute(TaskGraph taskGraph) {
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
+        executionPlan.execute();
+    }
+
+    @Test
+    public void testHostConversions() {
+        HalfFloatArray array = HalfFloatArray.fromElements(0.0f, 1.0f, -2.5f, 65504.0f, 1.0e-7f, Float.POSITIVE_INFINITY);
+        float[] expected = { 0.0f, 1.0f, -2.5f, 65504.0f, Float.float16ToFloat(Float.floatToFloat16(1.0e-7f)), Float.POSITIVE_INFINITY };
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], array.get(i), 0.0f);
+        }
+        assertEquals(expected.length * 2L, array.getNumBytesWithoutHeader());
+    }
+
+    @Test
+    public void testVectorAdd() {
+        HalfFloatArray a = new HalfFloatArray(SIZE);
+        HalfFloatArray b = new HalfFloatArray(SIZE);
+        HalfFloatArray c = new HalfFloatArray(SIZE);
+        Random r = new Random();
+        for (int i = 0; i < SIZE; i++) {
+            a.set(i, r.nextFloat() * 100.0f);
+            b.set(i, r.nextFloat() * 100.0f);
+        }
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("t0", TestHalfFloatArray::vectorAdd, a, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+        execute(taskGraph);
+
+        HalfFloatArray sequential = new HalfFloatArray(SIZE);
+        vectorAdd(a, b, sequential);
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(sequential.getHalf(i), c.getHalf(i));
+        }
+    }
+
+    @Test
+    public void testConversionsOnDevice() {
+        // All the finite positive and negative half-precision values
+        final int size = 1 << 16;
+        HalfFloatArray input = new HalfFloatArray(size);
+        for (int i = 0; i < size; i++) {
+            input.setHalf(i, (short) i);
+        }
+        FloatArray single = new FloatArray(size);
+        HalfFloatArray output = new HalfFloatArray(size);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", TestHalfFloatArray::toSingle, input, single) //
+                .task("t1", TestHalfFloatArray::toHalf, single, output) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, single, output);
+        execute(taskGraph);
+
+        for (int i = 0; i < size; i++) {
+            float expected = Float.float16ToFloat((short) i);
+            if (Float.isNaN(expected)) {
+                continue;
+            }
+            assertEquals(expected, single.get(i), 0.0f);
+            assertEquals((short) i, output.getHalf(i));
+        }
+    }
+
+    @Test
+    public void testMatrixVector() {
+        final int n = 256;
+        HalfFloatArray weights = new HalfFloatArray(n * n);
+        FloatArray x = new FloatArray(n);
+        FloatArray y = new FloatArray(n);
+        Random r = new Random();
+        for (int i = 0; i < n * n; i++) {
+            weights.set(i, r.nextFloat() - 0.5f);
+        }
+        for (int i = 0; i < n; i++) {
+            x.set(i, r.nextFloat());
+        }
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, weights, x) //
+                .task("t0", TestHalfFloatArray::matrixVector, weights, x, y, n) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, y);
+        execute(taskGraph);
+
+        FloatArray sequential = new FloatArray(n);
+        matrixVector(weights, x, sequential, n);
+        for (int i = 0; i < n; i++) {
+            assertEquals(sequential.get(i), y.get(i), 0.01f);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.atomics;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.TornadoVMIntrinsics;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.arrays.LongArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the atomic operations on the elements of the native arrays.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.atomics.TestAtomicArrays
+ * </code>
+ */
+public class TestAtomicArrays extends TornadoTestBase {
+    // CHECKSTYLE:OFF
+
+    private static final int BINS = 16;
+
+    public static void histogram(IntArray input, IntArray bins) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            TornadoVMIntrinsics.atomic_add(bins, input.get(i), 1);
+        }
+    }
+
+    public static void histogramLong(IntArray input, LongArray bins) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            TornadoVMIntrinsics.atomic_add(bins, input.get(i), 2L);
+            TornadoVMIntrinsics.atomic_sub(bins, input.get(i), 1L);
+        }
+    }
+
+    public static void minMax(IntArray input, IntArray result) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            TornadoVMIntrinsics.atomic_min(result, 0, input.get(i));
+            TornadoVMIntrinsics.atomic_max(result, 1, input.get(i));
+        }
+    }
+
+    public static void floatSum(FloatArray input, FloatArray result) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            TornadoVMIntrinsics.atomic_add(result, 0, input.get(i));
+        }
+    }
+
+    /**
+     * Only the first thread that finds a zero flag writes its index.
+     */
+    public static void firstWriter(IntArray flag, IntArray owners) {
+        for (@Parallel int i = 0; i < owners.getSize(); i++) {
+            if (TornadoVMIntrinsics.atomic_cas(flag, 0, 0, 1)) {
+                owners.set(i, 1);
+            }
+        }
+    }
+
+    private static IntArray randomBins(int size) {
+        IntArray input = new IntArray(size);
+        Random r = new Random();
+        for (int i = 0; i < size; i++) {
+            input.set(i, r.nextInt(BINS));
+        }
+        return input;
+    }
+
+    @Test
+    public void testHistogram() {
+        final int size = 8192;
+        IntArray input = randomBins(size);
+        IntArray bins = new IntArray(BINS);
+        bins.init(0);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input, bins) //
+                .task("t0", TestAtomicArrays::histogram, input, bins) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, bins);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
+        executionPlan.execute();
+
+        IntArray expected = new IntArray(BINS);
+        expected.init(0);
+        histogram(input, expected);
+
+        int total = 0;
+        for (int i = 0; i < BINS; i++) {
+            assertEquals(expected.get(i), bins.get(i));
+            total += bins.get(i);
+        }
+        assertEquals(size, total);
+    }
+
+    @Test
+    public void testHistogramLong() {
+        final int size = 8192;
+        IntArray input = randomBins(size);
+        LongArray bins = new LongArray(BINS);
+        bins.init(0);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input, bins) //
+                .task("t0", TestAtomicArrays::histogramLong, input, bins) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, bins);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
+        executionPlan.execute();
+
+        LongArray expected = new LongArray(BINS);
+        expected.init(0);
+        histogramLong(input, expected);
+
+        for (int i = 0; i < BINS; i++) {
+            assertEquals(expected.get(i), bins.get(i));
+        }
+    }
+
+    @Test
+    public void testMinMax() {
+        final int size = 8192;
+        IntArray input = new IntArray(size);
+        Random r = new Random();
+        for (int i = 0; i < size; i++) {
+            input.set(i, r.nextInt());
+        }
+        IntArray result = new IntArray(2);
+        result.set(0, Integer.MAX_VALUE);
+        result.set(1, Integer.MIN_VALUE);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input, result) //
+                .task("t0", TestAtomicArrays::minMax, input, result) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, result);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
+        executionPlan.execute();
+
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            min = Math.min(min, input.get(i));
+            max = Math.max(max, input.get(i));
+        }
+        assertEquals(min, result.get(0));
+        assertEquals(max, result.get(1));
+    }
+
+    @Test
+    public void testFloatSum() {
+        final int size = 2048;
+        FloatArray input = new FloatArray(size);
+        input.init(0.5f);
+        FloatArray result = new FloatArray(1);
+        result.init(0.0f);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input, result) //
+                .task("t0", TestAtomicArrays::floatSum, input, result) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, result);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
+        executionPlan.execute();
+
+        assertEquals(size * 0.5f, result.get(0), 0.01f);
+    }
+
+    @Test
+    public void testCompareAndSwap() {
+        final int size = 1024;
+        IntArray flag = new IntArray(1);
+        flag.init(0);
+        IntArray owners = new IntArray(size);
+        owners.init(0);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, flag, owners) //
+                .task("t0", TestAtomicArrays::firstWriter, flag, owners) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, flag, owners);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
+        executionPlan.execute();
+
+        int writers = 0;
+        for (int i = 0; i < size; i++) {
+            writers += owners.get(i);
+        }
+        assertEquals(1, flag.get(0));
+        assertEquals(1, writers);
+    }
+    // CHECKSTYLE:ON
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.benchmarks;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.benchmarks.BenchmarkComparator;
+import uk.ac.manchester.tornado.benchmarks.BenchmarkComparator.Comparison;
+import uk.ac.manchester.tornado.benchmarks.BenchmarkComparator.Verdict;
+import uk.ac.manchester.tornado.benchmarks.BenchmarkResult;
+import uk.ac.manchester.tornado.benchmarks.BenchmarkStatistics;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests of the statistics, the JSON results and the comparator of the
+ * benchmarks. The tests run on the host only.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.benchmarks.TestBenchmarkStatistics
+ * </code>
+ */
+public class TestBenchmarkStatistics extends TornadoTestBase {
+
+    /**
+     * The warmup is longer than the measured iterations, so the medians would
+     * change if the warmup samples were compared.
+     */
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 16;
+
+    /**
+     * Samples around {@code median}, with a relative noise of 2%, after
+     * {@code WARMUP} samples of {@code warmupValue}.
+     */
+    private static double[] samples(Random random, double median, double warmupValue) {
+        double[] samples = new double[WARMUP + ITERATIONS];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = i < WARMUP ? warmupValue : median * (1 + 0.02 * (random.nextDouble() - 0.5));
+        }
+        return samples;
+    }
+
+    private static BenchmarkResult result(double[] samples, double[] kernel, double[] copyIn) {
+        return new BenchmarkResult("saxpy-100-1024", "tornado", "0:0", "OpenCL", "GPU", "1024", true, WARMUP, samples, kernel, copyIn, new double[0]);
+    }
+
+    /**
+     * Two sets without overlap: U = 0, and p = 1.8267e-4 with the normal
+     * approximation and the continuity correction.
+     */
+    @Test
+    public void testMannWhitneyNoTies() {
+        double[] x = new double[10];
+        double[] y = new double[10];
+        for (int i = 0; i < 10; i++) {
+            x[i] = i + 1;
+            y[i] = i + 11;
+        }
+        assertEquals(1.826718e-4, BenchmarkStatistics.mannWhitneyPValue(x, y), 1e-7);
+        assertEquals(1.826718e-4, BenchmarkStatistics.mannWhitneyPValue(y, x), 1e-7);
+        assertEquals(1.0, BenchmarkStatistics.mannWhitneyPValue(x, x.clone()), 1e-6);
+    }
+
+    /**
+     * Sets with ties: U = 30, and p = 0.015782 with the tie correction of the
+     * variance (p = 0.0166 without it).
+     */
+    @Test
+    public void testMannWhitneyTies() {
+        double[] x = { 1, 2, 2, 3, 3, 3, 4, 5, 5, 6, 7, 8 };
+        double[] y = { 3, 4, 5, 5, 6, 6, 7, 7, 8, 8, 9, 10 };
+        assertEquals(0.0157823, BenchmarkStatistics.mannWhitneyPValue(x, y), 1e-6);
+
+        // All the samples are tied
+        double[] same = { 5, 5, 5, 5 };
+        assertEquals(1.0, BenchmarkStatistics.mannWhitneyPValue(same, same.clone()), 1e-9);
+    }
+
+    @Test
+    public void testJsonRoundTrip() {
+        BenchmarkResult result = new BenchmarkResult("dft-\"quoted\"", "tornado", "1:0", "PTX", "C:\\GPU \"RTX\"", "size=1024, iterations=2", false, 2, new double[] { 10, 20, 30 },
+                new double[] { 1, 2, 3 }, new double[0], new double[] { 4, 5, 6 });
+        BenchmarkResult parsed = BenchmarkResult.fromJson(result.toJson());
+
+        assertEquals(result.benchmark(), parsed.benchmark());
+        assertEquals(result.variant(), parsed.variant());
+        assertEquals(result.device(), parsed.device());
+        assertEquals(result.backend(), parsed.backend());
+        assertEquals(result.deviceName(), parsed.deviceName());
+        assertEquals(result.config(), parsed.config());
+        assertEquals(result.valid(), parsed.valid());
+        assertEquals(result.warmup(), parsed.warmup());
+        assertArrayEquals(result.samples(), parsed.samples(), 0);
+        assertArrayEquals(result.kernel(), parsed.kernel(), 0);
+        assertArrayEquals(result.copyIn(), parsed.copyIn(), 0);
+        assertArrayEquals(result.copyOut(), parsed.copyOut(), 0);
+        assertArrayEquals(new double[] { 30 }, parsed.getSteadySamples(), 0);
+    }
+
+    /**
+     * The end-to-end time is 20% slower, the kernel time does not change and the
+     * copy-in time is 20% faster.
+     */
+    @Test
+    public void testComparatorRegression() {
+        Random random = new Random(7);
+        BenchmarkResult baseline = result(samples(random, 1000, 1000), samples(random, 500, 500), samples(random, 200, 200));
+        BenchmarkResult current = result(samples(random, 1200, 1200), samples(random, 500, 500), samples(random, 160, 160));
+
+        List<Comparison> comparisons = new BenchmarkComparator(0.05, 5).compare(List.of(baseline), List.of(current));
+
+        assertEquals(3, comparisons.size());
+        for (Comparison comparison : comparisons) {
+            Verdict expected = switch (comparison.metric()) {
+                case "time" -> Verdict.REGRESSION;
+                case "kernel" -> Verdict.SAME;
+                case "copyIn" -> Verdict.IMPROVEMENT;
+                default -> throw new AssertionError(comparison.metric());
+            };
+            assertEquals(comparison.metric(), expected, comparison.verdict());
+            assertEquals(baseline.getKey(), comparison.key());
+        }
+    }
+
+    /**
+     * The warmup samples are excluded from all the series, so a slower warmup
+     * alone is not a regression.
+     */
+    @Test
+    public void testComparatorIgnoresWarmup() {
+        Random random = new Random(11);
+        BenchmarkResult baseline = result(samples(random, 1000, 1000), samples(random, 500, 500), samples(random, 200, 200));
+        BenchmarkResult current = result(samples(random, 1000, 100_000), samples(random, 500, 50_000), samples(random, 200, 20_000));
+
+        for (Comparison comparison : new BenchmarkComparator(0.05, 5).compare(List.of(baseline), List.of(current))) {
+            assertEquals(comparison.metric(), Verdict.SAME, comparison.verdict());
+        }
+    }
+}
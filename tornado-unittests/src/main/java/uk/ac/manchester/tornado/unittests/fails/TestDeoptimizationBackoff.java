@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.fails;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.common.DeoptimizationRecord;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.matrix.Matrix2DFloat;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the backoff of the tasks that bail out to Java.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.fails.TestDeoptimizationBackoff
+ * </code>
+ */
+public class TestDeoptimizationBackoff extends TornadoTestBase {
+
+    private static final int SIZE = 256;
+
+    /**
+     * Object allocation is not supported, so the compilation of the task fails
+     * and the task-graph runs the Java implementation.
+     */
+    public static void allocate(FloatArray a) {
+        Matrix2DFloat f = new Matrix2DFloat(SIZE, 1);
+        for (@Parallel int i = 0; i < SIZE; i++) {
+            f.set(i, 0, i);
+            a.set(i, f.get(i, 0));
+        }
+    }
+
+    private static TornadoExecutionPlan createExecutionPlan(FloatArray a) {
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a) //
+                .task("t0", TestDeoptimizationBackoff::allocate, a) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, a);
+        return new TornadoExecutionPlan(taskGraph.snapshot());
+    }
+
+    @Test
+    public void testBackoff() {
+        assertNotBackend(TornadoVMBackendType.PTX);
+
+        FloatArray a = new FloatArray(SIZE);
+        TornadoExecutionPlan executionPlan = createExecutionPlan(a);
+        executionPlan.withDeoptimizationBackoff(2, -1);
+
+        for (int i = 0; i < 5; i++) {
+            a.init(-1);
+            executionPlan.execute();
+            for (int j = 0; j < SIZE; j++) {
+                assertEquals(j, a.get(j), 0.0f);
+            }
+        }
+
+        DeoptimizationRecord record = executionPlan.getDeoptimizations().get("s0.t0");
+        assertNotNull(record);
+        // The task is not compiled again after the second bailout
+        assertEquals(2, record.count());
+        assertEquals(2, record.consecutiveFailures());
+        assertTrue(record.isBackedOff());
+        assertEquals(Long.MAX_VALUE, record.retryTimestamp());
+        assertTrue(record.firstTimestamp() <= record.lastTimestamp());
+        assertFalse(record.reason().isEmpty());
+
+        executionPlan.resetDeoptimizations();
+        assertTrue(executionPlan.getDeoptimizations().isEmpty());
+    }
+
+    @Test
+    public void testRetry() {
+        assertNotBackend(TornadoVMBackendType.PTX);
+
+        FloatArray a = new FloatArray(SIZE);
+        TornadoExecutionPlan executionPlan = createExecutionPlan(a);
+        // Compile again in every execution
+        executionPlan.withDeoptimizationBackoff(1, 0);
+
+        for (int i = 0; i < 3; i++) {
+            executionPlan.execute();
+        }
+
+        Map<String, DeoptimizationRecord> deoptimizations = executionPlan.getDeoptimizations();
+        assertEquals(1, deoptimizations.size());
+        DeoptimizationRecord record = deoptimizations.get("s0.t0");
+        assertNotNull(record);
+        assertEquals(3, record.count());
+        assertFalse(record.isBackedOff());
+    }
+}
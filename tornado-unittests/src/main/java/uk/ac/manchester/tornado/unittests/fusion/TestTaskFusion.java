@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.fusion;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the fusion of consecutive element-wise tasks. The results must be
+ * the same with and without fusion. The kernels launched are read from the JDK
+ * Flight Recorder events, so the tests also check which tasks are fused.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V -J"-Dtornado.fuse.tasks=True" uk.ac.manchester.tornado.unittests.fusion.TestTaskFusion
+ * </code>
+ */
+public class TestTaskFusion extends TornadoTestBase {
+    // CHECKSTYLE:OFF
+
+    private static final boolean FUSION = Boolean.parseBoolean(System.getProperty("tornado.fuse.tasks", "False"));
+
+    private static void vectorAdd(FloatArray a, FloatArray b, FloatArray c) {
+        for (@Parallel int i = 0; i < c.getSize(); i++) {
+            c.set(i, a.get(i) + b.get(i));
+        }
+    }
+
+    private static void scale(FloatArray a, FloatArray b, float alpha) {
+        for (@Parallel int i = 0; i < b.getSize(); i++) {
+            b.set(i, a.get(i) * alpha);
+        }
+    }
+
+    private static void relu(FloatArray a, FloatArray b) {
+        for (@Parallel int i = 0; i < b.getSize(); i++) {
+            float value = a.get(i);
+            b.set(i, value < 0 ? 0.0f : value);
+        }
+    }
+
+    private static void shiftLeft(FloatArray a, FloatArray b) {
+        for (@Parallel int i = 0; i < b.getSize(); i++) {
+            b.set(i, a.get((i + 1) % a.getSize()));
+        }
+    }
+
+    private static FloatArray randomArray(int size) {
+        FloatArray array = new FloatArray(size);
+        Random r = new Random();
+        IntStream.range(0, size).forEach(i -> array.set(i, r.nextFloat() - 0.5f));
+        return array;
+    }
+
+    /**
+     * Runs the execution plan and returns the ids of the tasks launched on the
+     * device, in launch order.
+     */
+    private static List<String> executeAndRecordLaunches(TornadoExecutionPlan executionPlan, int numExecutions, Runnable check) throws IOException {
+        try (Recording recording = new Recording()) {
+            recording.enable("tornado.KernelLaunch");
+            recording.start();
+            for (int k = 0; k < numExecutions; k++) {
+                executionPlan.execute();
+                check.run();
+            }
+            recording.stop();
+            Path file = Files.createTempFile("tornado-fusion", ".jfr");
+            try {
+                recording.dump(file);
+                return RecordingFile.readAllEvents(file).stream() //
+                        .filter(event -> event.getEventType().getName().equals("tornado.KernelLaunch")) //
+                        .sorted((e1, e2) -> e1.getStartTime().compareTo(e2.getStartTime())) //
+                        .map(event -> event.getString("task")) //
+                        .toList();
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private static void assertLaunches(List<String> expected, int numExecutions, List<String> launches) {
+        assertEquals(expected.size() * numExecutions, launches.size());
+        for (int i = 0; i < launches.size(); i++) {
+            assertEquals(expected.get(i % expected.size()), launches.get(i));
+        }
+    }
+
+    /**
+     * The intermediate arrays are not copied back to the host, so they can be
+     * eliminated from the fused kernel.
+     */
+    @Test
+    public void testElementWiseChain() throws IOException {
+        final int size = 4096;
+        FloatArray a = randomArray(size);
+        FloatArray b = randomArray(size);
+        FloatArray c = new FloatArray(size);
+        FloatArray d = new FloatArray(size);
+        FloatArray e = new FloatArray(size);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("t0", TestTaskFusion::vectorAdd, a, b, c) //
+                .task("t1", TestTaskFusion::scale, c, d, 2.0f) //
+                .task("t2", TestTaskFusion::relu, d, e) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, e);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
+
+        final int numExecutions = 2;
+        e.init(-1.0f);
+        List<String> launches = executeAndRecordLaunches(executionPlan, numExecutions, () -> {
+            for (int i = 0; i < size; i++) {
+                float value = (a.get(i) + b.get(i)) * 2.0f;
+                assertEquals(value < 0 ? 0.0f : value, e.get(i), 0.001f);
+            }
+            e.init(-1.0f);
+        });
+
+        // With fusion, a single kernel runs the three tasks
+        assertLaunches(FUSION ? List.of("s0.t0_t1_t2") : List.of("s0.t0", "s0.t1", "s0.t2"), numExecutions, launches);
+    }
+
+    /**
+     * The intermediate array is copied back to the host, so the fused kernel
+     * must still write it.
+     */
+    @Test
+    public void testTransferredIntermediate() throws IOException {
+        final int size = 4096;
+        FloatArray a = randomArray(size);
+        FloatArray b = randomArray(size);
+        FloatArray c = new FloatArray(size);
+        FloatArray d = new FloatArray(size);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("t0", TestTaskFusion::vectorAdd, a, b, c) //
+                .task("t1", TestTaskFusion::scale, c, d, 0.5f) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c, d);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
+        List<String> launches = executeAndRecordLaunches(executionPlan, 1, () -> {
+            for (int i = 0; i < size; i++) {
+                assertEquals(a.get(i) + b.get(i), c.get(i), 0.001f);
+                assertEquals((a.get(i) + b.get(i)) * 0.5f, d.get(i), 0.001f);
+            }
+        });
+
+        assertLaunches(FUSION ? List.of("s0.t0_t1") : List.of("s0.t0", "s0.t1"), 1, launches);
+    }
+
+    /**
+     * The second task reads a neighbour of the element written by the first
+     * one, so the tasks are not fused.
+     */
+    @Test
+    public void testNeighbourAccess() throws IOException {
+        final int size = 4096;
+        FloatArray a = randomArray(size);
+        FloatArray b = randomArray(size);
+        FloatArray c = new FloatArray(size);
+        FloatArray d = new FloatArray(size);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("t0", TestTaskFusion::vectorAdd, a, b, c) //
+                .task("t1", TestTaskFusion::shiftLeft, c, d) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, d);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
+        List<String> launches = executeAndRecordLaunches(executionPlan, 1, () -> {
+            for (int i = 0; i < size; i++) {
+                int j = (i + 1) % size;
+                assertEquals(a.get(j) + b.get(j), d.get(i), 0.001f);
+            }
+        });
+
+        // The tasks are launched separately, also when fusion is enabled
+        assertLaunches(List.of("s0.t0", "s0.t1"), 1, launches);
+    }
+    // CHECKSTYLE:ON
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.host;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.matrix.Matrix2DFloat;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the execution of the tasks on the host after a bailout. The
+ * tasks allocate objects, which is not supported on the devices, so the
+ * task-graphs always run the Java code. The results must be the same with the
+ * sequential and with the multi-core host fallback.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V -J"-Dtornado.recover.bailout.parallel=True" uk.ac.manchester.tornado.unittests.host.TestHostBailout
+ * </code>
+ */
+public class TestHostBailout extends TornadoTestBase {
+    // CHECKSTYLE:OFF
+
+    private static final int SIZE = 8192;
+
+    private static void scale(FloatArray a, FloatArray b) {
+        for (@Parallel int i = 0; i < a.getSize(); i++) {
+            Matrix2DFloat m = new Matrix2DFloat(1, 1);
+            m.set(0, 0, a.get(i) * 2);
+            b.set(i, m.get(0, 0));
+        }
+    }
+
+    private static void countCall(IntArray calls) {
+        calls.set(0, calls.get(0) + 1);
+    }
+
+    private static void scaleCountingCalls(FloatArray a, FloatArray b, IntArray calls) {
+        countCall(calls);
+        for (@Parallel int i = 0; i < a.getSize(); i++) {
+            Matrix2DFloat m = new Matrix2DFloat(1, 1);
+            m.set(0, 0, a.get(i) * 2);
+            b.set(i, m.get(0, 0));
+        }
+    }
+
+    @Test
+    public void testBailout() {
+        assertNotBackend(TornadoVMBackendType.PTX);
+
+        FloatArray a = new FloatArray(SIZE);
+        FloatArray b = new FloatArray(SIZE);
+        IntStream.range(0, SIZE).forEach(i -> a.set(i, i));
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a) //
+                .task("t0", TestHostBailout::scale, a, b) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, b);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
+
+        for (int k = 0; k < 3; k++) {
+            b.init(-1.0f);
+            executionPlan.execute();
+            for (int i = 0; i < SIZE; i++) {
+                assertEquals(2.0f * i, b.get(i), 0.0f);
+            }
+        }
+
+        // The results come from the host and not from a compiled kernel
+        assertNotNull(executionPlan.getDeoptimizations().get("s0.t0"));
+    }
+
+    /**
+     * The code before the loop must run once per execution after a bailout.
+     */
+    @Test
+    public void testBailoutSideEffects() {
+        assertNotBackend(TornadoVMBackendType.PTX);
+
+        FloatArray a = new FloatArray(SIZE);
+        FloatArray b = new FloatArray(SIZE);
+        IntArray calls = new IntArray(1);
+        IntStream.range(0, SIZE).forEach(i -> a.set(i, i));
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, calls) //
+                .task("t0", TestHostBailout::scaleCountingCalls, a, b, calls) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, b, calls);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
+
+        for (int k = 0; k < 3; k++) {
+            executionPlan.execute();
+            assertEquals(k + 1, calls.get(0));
+            for (int i = 0; i < SIZE; i++) {
+                assertEquals(2.0f * i, b.get(i), 0.0f);
+            }
+        }
+    }
+    // CHECKSTYLE:ON
+}
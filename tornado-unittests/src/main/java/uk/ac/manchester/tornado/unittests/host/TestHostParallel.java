@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.host;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the pure-Java multi-core host executor. The tests are valid for
+ * any backend, but they are meant to run with the host executor enabled.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V -J"-Dtornado.host.parallel=True -Dtornado.host.chunk=16" uk.ac.manchester.tornado.unittests.host.TestHostParallel
+ * </code>
+ */
+public class TestHostParallel extends TornadoTestBase {
+    // CHECKSTYLE:OFF
+
+    private static void vectorAdd(FloatArray a, FloatArray b, FloatArray c) {
+        for (@Parallel int i = 0; i < c.getSize(); i++) {
+            c.set(i, a.get(i) + b.get(i));
+        }
+    }
+
+    private static void evenIndexes(IntArray a, IntArray b) {
+        for (@Parallel int i = 0; i < a.getSize(); i += 2) {
+            b.set(i, a.get(i) * 2);
+        }
+    }
+
+    private static void matrixVectorMultiplication(FloatArray matrix, FloatArray vector, FloatArray result, int size) {
+        for (@Parallel int i = 0; i < size; i++) {
+            float sum = 0.0f;
+            for (int j = 0; j < size; j++) {
+                sum += matrix.get((i * size) + j) * vector.get(j);
+            }
+            result.set(i, sum);
+        }
+    }
+
+    private static void countCall(IntArray calls) {
+        calls.set(0, calls.get(0) + 1);
+    }
+
+    private static void vectorAddCountingCalls(FloatArray a, FloatArray b, FloatArray c, IntArray calls) {
+        countCall(calls);
+        for (@Parallel int i = 0; i < c.getSize(); i++) {
+            c.set(i, a.get(i) + b.get(i));
+        }
+    }
+
+    private static void scale(FloatArray a, FloatArray b, float factor) {
+        final int size = a.getSize();
+        final float absFactor = Math.abs(factor);
+        for (@Parallel int i = 0; i < size; i++) {
+            b.set(i, a.get(i) * absFactor);
+        }
+    }
+
+    private static void prefixSum(IntArray a, IntArray b) {
+        b.set(0, a.get(0));
+        for (int i = 1; i < a.getSize(); i++) {
+            b.set(i, b.get(i - 1) + a.get(i));
+        }
+    }
+
+    @Test
+    public void testVectorAdd() {
+        final int size = 8192;
+        FloatArray a = new FloatArray(size);
+        FloatArray b = new FloatArray(size);
+        FloatArray c = new FloatArray(size);
+
+        Random r = new Random();
+        IntStream.range(0, size).forEach(i -> {
+            a.set(i, r.nextFloat());
+            b.set(i, r.nextFloat());
+        });
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("t0", TestHostParallel::vectorAdd, a, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
+
+        // Run twice to use the cached parallel version of the task
+        for (int k = 0; k < 2; k++) {
+            c.init(0.0f);
+            executionPlan.execute();
+            for (int i = 0; i < size; i++) {
+                assertEquals(a.get(i) + b.get(i), c.get(i), 0.001f);
+            }
+        }
+    }
+
+    @Test
+    public void testLoopStride() {
+        final int size = 4099;
+        IntArray a = new IntArray(size);
+        IntArray b = new IntArray(size);
+        a.init(3);
+        b.init(-1);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("t0", TestHostParallel::evenIndexes, a, b) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, b);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
+        executionPlan.execute();
+
+        for (int i = 0; i < size; i++) {
+            assertEquals((i % 2 == 0) ? 6 : -1, b.get(i));
+        }
+    }
+
+    @Test
+    public void testNestedLoops() {
+        final int size = 256;
+        FloatArray matrix = new FloatArray(size * size);
+        FloatArray vector = new FloatArray(size);
+        FloatArray result = new FloatArray(size);
+        FloatArray resultSeq = new FloatArray(size);
+
+        Random r = new Random();
+        IntStream.range(0, size * size).forEach(i -> matrix.set(i, r.nextFloat()));
+        IntStream.range(0, size).forEach(i -> vector.set(i, r.nextFloat()));
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, matrix, vector) //
+                .task("t0", TestHostParallel::matrixVectorMultiplication, matrix, vector, result, size) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, result);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
+        executionPlan.execute();
+
+        matrixVectorMultiplication(matrix, vector, resultSeq, size);
+        for (int i = 0; i < size; i++) {
+            assertEquals(resultSeq.get(i), result.get(i), 0.01f);
+        }
+    }
+
+    /**
+     * The call before the loop may have side effects, so the task is not shared by
+     * several threads, and the call runs once per execution.
+     */
+    @Test
+    public void testCallBeforeLoop() {
+        final int size = 4096;
+        FloatArray a = new FloatArray(size);
+        FloatArray b = new FloatArray(size);
+        FloatArray c = new FloatArray(size);
+        IntArray calls = new IntArray(1);
+        a.init(1.0f);
+        b.init(2.0f);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b, calls) //
+                .task("t0", TestHostParallel::vectorAddCountingCalls, a, b, c, calls) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c, calls);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
+
+        for (int k = 0; k < 3; k++) {
+            executionPlan.execute();
+            assertEquals(k + 1, calls.get(0));
+            for (int i = 0; i < size; i++) {
+                assertEquals(3.0f, c.get(i), 0.0f);
+            }
+        }
+    }
+
+    /**
+     * Getters of the TornadoVM types and math functions can run before the loop.
+     */
+    @Test
+    public void testGettersBeforeLoop() {
+        final int size = 4096;
+        FloatArray a = new FloatArray(size);
+        FloatArray b = new FloatArray(size);
+        IntStream.range(0, size).forEach(i -> a.set(i, i));
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a) //
+                .task("t0", TestHostParallel::scale, a, b, -2.0f) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, b);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
+        executionPlan.execute();
+
+        for (int i = 0; i < size; i++) {
+            assertEquals(2.0f * i, b.get(i), 0.0f);
+        }
+    }
+
+    /**
+     * Tasks without a {@code @Parallel} loop run sequentially on the host.
+     */
+    @Test
+    public void testSequentialTask() {
+        final int size = 1024;
+        IntArray a = new IntArray(size);
+        IntArray b = new IntArray(size);
+        a.init(1);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a) //
+                .task("t0", TestHostParallel::prefixSum, a, b) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, b);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
+        executionPlan.execute();
+
+        for (int i = 0; i < size; i++) {
+            assertEquals(i + 1, b.get(i));
+        }
+    }
+    // CHECKSTYLE:ON
+}
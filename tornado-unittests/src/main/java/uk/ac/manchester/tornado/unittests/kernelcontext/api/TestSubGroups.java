@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.kernelcontext.api;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.WorkerGrid;
+import uk.ac.manchester.tornado.api.WorkerGrid1D;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.arrays.LongArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the sub-group operations of the {@link KernelContext}. The size of
+ * the sub-groups depends on the device (it is 1 when the device does not
+ * support sub-groups), so the kernels also record the sub-group identifiers
+ * to compute the expected values.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.kernelcontext.api.TestSubGroups
+ * </code>
+ */
+public class TestSubGroups extends TornadoTestBase {
+
+    private static final int SIZE = 1024;
+    private static final int LOCAL_SIZE = 64;
+
+    public static void subGroupIds(KernelContext context, IntArray sizes, IntArray localIds, IntArray ids) {
+        int i = context.globalIdx;
+        sizes.set(i, context.getSubGroupSize());
+        localIds.set(i, context.getSubGroupLocalId());
+        ids.set(i, context.getSubGroupId());
+    }
+
+    public static void reduceAdd(KernelContext context, IntArray input, IntArray output, IntArray ids) {
+        int i = context.globalIdx;
+        output.set(i, context.subGroupReduceAdd(input.get(i)));
+        ids.set(i, context.getSubGroupId());
+    }
+
+    public static void reduceMinMax(KernelContext context, FloatArray input, FloatArray min, FloatArray max, IntArray ids) {
+        int i = context.globalIdx;
+        float value = input.get(i);
+        min.set(i, context.subGroupReduceMin(value));
+        max.set(i, context.subGroupReduceMax(value));
+        ids.set(i, context.getSubGroupId());
+    }
+
+    public static void scan(KernelContext context, IntArray inclusive, IntArray exclusive, IntArray localIds) {
+        int i = context.globalIdx;
+        inclusive.set(i, context.subGroupScanInclusiveAdd(1));
+        exclusive.set(i, context.subGroupScanExclusiveAdd(1));
+        localIds.set(i, context.getSubGroupLocalId());
+    }
+
+    public static void broadcastAndShuffle(KernelContext context, IntArray broadcast, IntArray shuffle, IntArray localIds) {
+        int i = context.globalIdx;
+        int localId = context.getSubGroupLocalId();
+        int last = context.getSubGroupSize() - 1;
+        broadcast.set(i, context.subGroupBroadcast(i, 0));
+        // Each work-item reads the value of the symmetric work-item
+        shuffle.set(i, context.subGroupShuffle(i, last - localId));
+        localIds.set(i, localId);
+    }
+
+    public static void ballot(KernelContext context, LongArray ballots, IntArray sizes) {
+        int i = context.globalIdx;
+        ballots.set(i, context.subGroupBallot((context.getSubGroupLocalId() & 1) == 0));
+        sizes.set(i, context.getSubGroupSize());
+    }
+
+    private static void execute(TaskGraph taskGraph) {
+        WorkerGrid worker = new WorkerGrid1D(SIZE);
+        worker.setLocalWork(LOCAL_SIZE, 1, 1);
+        GridScheduler gridScheduler = new GridScheduler("s0.t0", worker);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
+        executionPlan.withGridScheduler(gridScheduler) //
+                .execute();
+    }
+
+    /**
+     * @return the key of the sub-group of the work-item: sub-groups do not span
+     *     work-groups.
+     */
+    private static int subGroupKey(int i, IntArray ids) {
+        return (i / LOCAL_SIZE) * LOCAL_SIZE + ids.get(i);
+    }
+
+    @Test
+    public void testSubGroupIds() {
+        IntArray sizes = new IntArray(SIZE);
+        IntArray localIds = new IntArray(SIZE);
+        IntArray ids = new IntArray(SIZE);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .task("t0", TestSubGroups::subGroupIds, new KernelContext(), sizes, localIds, ids) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, sizes, localIds, ids);
+        execute(taskGraph);
+
+        for (int i = 0; i < SIZE; i++) {
+            int subGroupSize = sizes.get(i);
+            assertTrue(subGroupSize >= 1 && subGroupSize <= LOCAL_SIZE);
+            assertTrue(localIds.get(i) < subGroupSize);
+            assertEquals((i % LOCAL_SIZE) % subGroupSize, localIds.get(i));
+            assertEquals((i % LOCAL_SIZE) / subGroupSize, ids.get(i));
+        }
+    }
+
+    @Test
+    public void testReduceAdd() {
+        IntArray input = new IntArray(SIZE);
+        IntArray output = new IntArray(SIZE);
+        IntArray ids = new IntArray(SIZE);
+        IntStream.range(0, SIZE).forEach(i -> input.set(i, i % 7));
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", TestSubGroups::reduceAdd, new KernelContext(), input, output, ids) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output, ids);
+        execute(taskGraph);
+
+        int[] sums = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            sums[subGroupKey(i, ids)] += input.get(i);
+        }
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(sums[subGroupKey(i, ids)], output.get(i));
+        }
+    }
+
+    @Test
+    public void testReduceMinMax() {
+        FloatArray input = new FloatArray(SIZE);
+        FloatArray min = new FloatArray(SIZE);
+        FloatArray max = new FloatArray(SIZE);
+        IntArray ids = new IntArray(SIZE);
+        IntStream.range(0, SIZE).forEach(i -> input.set(i, (i * 37) % 101 - 50.0f));
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", TestSubGroups::reduceMinMax, new KernelContext(), input, min, max, ids) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, min, max, ids);
+        execute(taskGraph);
+
+        float[] expectedMin = new float[SIZE];
+        float[] expectedMax = new float[SIZE];
+        Arrays.fill(expectedMin, Float.MAX_VALUE);
+        Arrays.fill(expectedMax, -Float.MAX_VALUE);
+        for (int i = 0; i < SIZE; i++) {
+            int key = subGroupKey(i, ids);
+            expectedMin[key] = Math.min(expectedMin[key], input.get(i));
+            expectedMax[key] = Math.max(expectedMax[key], input.get(i));
+        }
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(expectedMin[subGroupKey(i, ids)], min.get(i), 0.0f);
+            assertEquals(expectedMax[subGroupKey(i, ids)], max.get(i), 0.0f);
+        }
+    }
+
+    @Test
+    public void testScan() {
+        IntArray inclusive = new IntArray(SIZE);
+        IntArray exclusive = new IntArray(SIZE);
+        IntArray localIds = new IntArray(SIZE);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .task("t0", TestSubGroups::scan, new KernelContext(), inclusive, exclusive, localIds) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, inclusive, exclusive, localIds);
+        execute(taskGraph);
+
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(localIds.get(i) + 1, inclusive.get(i));
+            assertEquals(localIds.get(i), exclusive.get(i));
+        }
+    }
+
+    @Test
+    public void testBroadcastAndShuffle() {
+        IntArray broadcast = new IntArray(SIZE);
+        IntArray shuffle = new IntArray(SIZE);
+        IntArray localIds = new IntArray(SIZE);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .task("t0", TestSubGroups::broadcastAndShuffle, new KernelContext(), broadcast, shuffle, localIds) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, broadcast, shuffle, localIds);
+        execute(taskGraph);
+
+        for (int i = 0; i < SIZE; i++) {
+            int first = i - localIds.get(i);
+            assertEquals(first, broadcast.get(i));
+            // The symmetric work-item of the first one is the last one
+            int last = shuffle.get(first);
+            assertEquals(first + last - i, shuffle.get(i));
+        }
+    }
+
+    /**
+     * The mask holds the first 64 work-items of the sub-group, so the bits from
+     * 32 on are checked on devices with 64-wide sub-groups.
+     */
+    @Test
+    public void testBallot() {
+        LongArray ballots = new LongArray(SIZE);
+        IntArray sizes = new IntArray(SIZE);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .task("t0", TestSubGroups::ballot, new KernelContext(), ballots, sizes) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, ballots, sizes);
+        execute(taskGraph);
+
+        for (int i = 0; i < SIZE; i++) {
+            int subGroupSize = sizes.get(i);
+            long expected = 0;
+            for (int lane = 0; lane < Math.min(subGroupSize, 64); lane += 2) {
+                expected |= 1L << lane;
+            }
+            assertEquals(expected, ballots.get(i));
+        }
+    }
+}
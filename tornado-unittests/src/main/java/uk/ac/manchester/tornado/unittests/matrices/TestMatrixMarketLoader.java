@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.matrices;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.types.arrays.DoubleArray;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.matrix.MatrixMarketLoader;
+import uk.ac.manchester.tornado.matrix.SparseMatrixUtils.CSRMatrix;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Compares the matrices loaded by {@link MatrixMarketLoader} with a reference
+ * loader that reads the lines with a {@link BufferedReader} and parses the
+ * values with {@link Double#parseDouble}.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.matrices.TestMatrixMarketLoader
+ * </code>
+ */
+public class TestMatrixMarketLoader extends TornadoTestBase {
+
+    /**
+     * Small chunks, so every file is parsed by many threads.
+     */
+    private static final int SMALL_CHUNK_BYTES = 64;
+
+    private record Entry(int row, int column, double value) {
+    }
+
+    /**
+     * Reference loader: the entries are expanded and sorted by row and column.
+     */
+    private static List<Entry> loadReference(Path path) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.US_ASCII)) {
+            String[] banner = reader.readLine().trim().toLowerCase(Locale.ROOT).split("\\s+");
+            boolean pattern = banner[3].equals("pattern");
+            boolean symmetric = banner[4].equals("symmetric");
+            boolean skewSymmetric = banner[4].equals("skew-symmetric");
+            boolean sizeRead = false;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("%")) {
+                    continue;
+                }
+                if (!sizeRead) {
+                    sizeRead = true;
+                    continue;
+                }
+                String[] tokens = line.split("\\s+");
+                int row = Integer.parseInt(tokens[0]) - 1;
+                int column = Integer.parseInt(tokens[1]) - 1;
+                double value = pattern ? Double.NaN : Double.parseDouble(tokens[2]);
+                entries.add(new Entry(row, column, value));
+                if ((symmetric || skewSymmetric) && row != column) {
+                    entries.add(new Entry(column, row, skewSymmetric ? -value : value));
+                }
+            }
+        }
+        entries.sort(Comparator.comparingInt(Entry::row).thenComparingInt(Entry::column));
+        return entries;
+    }
+
+    private static void assertStructure(List<Entry> reference, int numRows, CSRMatrix<?> matrix) {
+        assertEquals(numRows, matrix.size);
+        assertEquals(reference.size(), matrix.n);
+        assertEquals(numRows + 1, matrix.rows.getSize());
+        assertEquals(0, matrix.rows.get(0));
+        int k = 0;
+        for (int row = 0; row < numRows; row++) {
+            while (k < reference.size() && reference.get(k).row() == row) {
+                k++;
+            }
+            assertEquals("Offset of row " + row, k, matrix.rows.get(row + 1));
+        }
+        for (int i = 0; i < reference.size(); i++) {
+            assertEquals(reference.get(i).column(), matrix.cols.get(i));
+        }
+    }
+
+    private static void assertMatrix(List<Entry> reference, int numRows, CSRMatrix<DoubleArray> matrix) {
+        assertStructure(reference, numRows, matrix);
+        for (int i = 0; i < reference.size(); i++) {
+            assertEquals(Double.doubleToLongBits(reference.get(i).value()), Double.doubleToLongBits(matrix.vals.get(i)));
+        }
+    }
+
+    private static void assertMatrixFloat(List<Entry> reference, int numRows, CSRMatrix<FloatArray> matrix) {
+        assertStructure(reference, numRows, matrix);
+        for (int i = 0; i < reference.size(); i++) {
+            assertEquals((float) reference.get(i).value(), matrix.vals.get(i), 0.0f);
+        }
+    }
+
+    /**
+     * Value in one of the notations found in the Matrix Market files: short and
+     * long decimals, integers, exponents, and exponents out of the range of the
+     * exact conversion.
+     */
+    private static String randomValue(Random random) {
+        double value = (random.nextDouble() - 0.5) * 1000;
+        return switch (random.nextInt(6)) {
+            case 0 -> String.format(Locale.ROOT, "%.6f", value);
+            case 1 -> Double.toString(value);
+            case 2 -> Integer.toString((int) value);
+            case 3 -> String.format(Locale.ROOT, "%.10e", value);
+            case 4 -> String.format(Locale.ROOT, "%.3E", value * 1e-30);
+            default -> String.format(Locale.ROOT, "%+.17g", value);
+        };
+    }
+
+    /**
+     * Writes a random matrix with comment and blank lines in the header and
+     * between the entries. The symmetric matrices only have entries in the lower
+     * triangle, and the skew-symmetric ones have no diagonal entries.
+     */
+    private static Path writeMatrix(String field, String symmetry, int numRows, int numColumns, int numEntries, String newLine) throws IOException {
+        Random random = new Random(numEntries);
+        boolean lowerTriangle = !symmetry.equals("general");
+        Set<Long> coordinates = new HashSet<>();
+        List<String> lines = new ArrayList<>();
+        while (lines.size() < numEntries) {
+            int row = random.nextInt(numRows);
+            int column = random.nextInt(numColumns);
+            if (lowerTriangle && (column > row || (column == row && symmetry.equals("skew-symmetric")))) {
+                continue;
+            }
+            if (coordinates.add((long) row << 32 | column)) {
+                String line = (row + 1) + " " + (column + 1);
+                if (!field.equals("pattern")) {
+                    line += (random.nextBoolean() ? " " : " \t ") + randomValue(random);
+                }
+                lines.add(line);
+            }
+        }
+
+        StringBuilder file = new StringBuilder();
+        file.append("%%MatrixMarket matrix coordinate ").append(field).append(" ").append(symmetry).append(newLine);
+        file.append("% Generated by ").append(TestMatrixMarketLoader.class.getSimpleName()).append(newLine);
+        file.append(newLine);
+        file.append("%").append(newLine);
+        file.append(numRows).append(" ").append(numColumns).append(" ").append(numEntries).append(newLine);
+        for (int i = 0; i < lines.size(); i++) {
+            if (i % 97 == 0) {
+                file.append("% comment between the entries").append(newLine);
+            }
+            if (i % 131 == 0) {
+                file.append(newLine);
+            }
+            file.append(lines.get(i)).append(newLine);
+        }
+
+        Path path = Files.createTempFile("tornado-matrix", ".mtx");
+        Files.writeString(path, file, StandardCharsets.US_ASCII);
+        return path;
+    }
+
+    private static void checkDouble(String symmetry, String newLine) throws IOException {
+        final int numRows = 300;
+        final int numColumns = symmetry.equals("general") ? 200 : numRows;
+        Path path = writeMatrix("real", symmetry, numRows, numColumns, 4000, newLine);
+        try {
+            List<Entry> reference = loadReference(path);
+            assertMatrix(reference, numRows, MatrixMarketLoader.loadDouble(path));
+            assertMatrix(reference, numRows, MatrixMarketLoader.loadDouble(path, SMALL_CHUNK_BYTES));
+            assertMatrixFloat(reference, numRows, MatrixMarketLoader.loadFloat(path, SMALL_CHUNK_BYTES));
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void testGeneral() throws IOException {
+        checkDouble("general", "\n");
+    }
+
+    @Test
+    public void testGeneralCRLF() throws IOException {
+        checkDouble("general", "\r\n");
+    }
+
+    @Test
+    public void testSymmetric() throws IOException {
+        checkDouble("symmetric", "\n");
+    }
+
+    @Test
+    public void testSkewSymmetric() throws IOException {
+        checkDouble("skew-symmetric", "\r\n");
+    }
+
+    /**
+     * The values of the pattern matrices are generated, so they must not
+     * depend on the chunks, and the mirrored entries must have the same value.
+     */
+    @Test
+    public void testPattern() throws IOException {
+        for (String symmetry : new String[] { "general", "symmetric" }) {
+            final int numRows = 300;
+            Path path = writeMatrix("pattern", symmetry, numRows, numRows, 4000, "\n");
+            try {
+                List<Entry> reference = loadReference(path);
+                CSRMatrix<DoubleArray> matrix = MatrixMarketLoader.loadDouble(path);
+                CSRMatrix<DoubleArray> chunked = MatrixMarketLoader.loadDouble(path, SMALL_CHUNK_BYTES);
+                assertStructure(reference, numRows, matrix);
+                assertStructure(reference, numRows, chunked);
+                for (int i = 0; i < matrix.n; i++) {
+                    double value = matrix.vals.get(i);
+                    assertTrue(value >= 0 && value < 256);
+                    assertEquals(value, chunked.vals.get(i), 0.0);
+                }
+                if (symmetry.equals("symmetric")) {
+                    for (int row = 0; row < numRows; row++) {
+                        for (int k = matrix.rows.get(row); k < matrix.rows.get(row + 1); k++) {
+                            assertEquals(matrix.vals.get(k), valueAt(matrix, matrix.cols.get(k), row), 0.0);
+                        }
+                    }
+                }
+            } finally {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    /**
+     * The entries are scattered from the positions of each chunk in the rows, so
+     * the duplicated entries keep the order of the file, as in the stable sort of
+     * the reference.
+     */
+    @Test
+    public void testDuplicates() throws IOException {
+        final int numRows = 20;
+        StringBuilder file = new StringBuilder("%%MatrixMarket matrix coordinate real general\n");
+        final int numEntries = 1000;
+        file.append(numRows).append(" ").append(numRows).append(" ").append(numEntries).append("\n");
+        Random random = new Random(numEntries);
+        for (int i = 0; i < numEntries; i++) {
+            file.append(random.nextInt(numRows) + 1).append(" ").append(random.nextInt(4) + 1).append(" ").append(i).append("\n");
+        }
+        Path path = Files.createTempFile("tornado-matrix", ".mtx");
+        try {
+            Files.writeString(path, file, StandardCharsets.US_ASCII);
+            List<Entry> reference = loadReference(path);
+            assertMatrix(reference, numRows, MatrixMarketLoader.loadDouble(path));
+            assertMatrix(reference, numRows, MatrixMarketLoader.loadDouble(path, SMALL_CHUNK_BYTES));
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    private static double valueAt(CSRMatrix<DoubleArray> matrix, int row, int column) {
+        for (int k = matrix.rows.get(row); k < matrix.rows.get(row + 1); k++) {
+            if (matrix.cols.get(k) == column) {
+                return matrix.vals.get(k);
+            }
+        }
+        return Double.NaN;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.profiler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.profiler.ChromeEventTracer;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.profiler.TestChromeEventTracer
+ * </code>
+ */
+public class TestChromeEventTracer extends TornadoTestBase {
+
+    private Path directory;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("tornado-chrome-trace");
+        System.setProperty(ChromeEventTracer.CHROME_EVENT_TRACER_FILENAME_KEY, directory.resolve("trace.json").toString());
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        ChromeEventTracer.disable();
+        ChromeEventTracer.close();
+        System.clearProperty(ChromeEventTracer.CHROME_EVENT_TRACER_FILENAME_KEY);
+        System.clearProperty(ChromeEventTracer.CHROME_EVENT_TRACER_FILE_SIZE_KEY);
+        System.clearProperty(ChromeEventTracer.CHROME_EVENT_TRACER_FILES_KEY);
+        System.clearProperty(ChromeEventTracer.CHROME_EVENT_TRACER_SAMPLING_KEY);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    private List<Path> traceFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private int countEvents() throws IOException {
+        int numEvents = 0;
+        for (Path file : traceFiles()) {
+            String trace = Files.readString(file);
+            assertTrue(trace.startsWith("["));
+            assertTrue(trace.strip().endsWith("]"));
+            numEvents += trace.split("\"ph\":\"X\"", -1).length - 1;
+        }
+        return numEvents;
+    }
+
+    @Test
+    public void testStreaming() throws IOException {
+        ChromeEventTracer.enable();
+        for (int i = 0; i < 100; i++) {
+            ChromeEventTracer.enqueueTaskIfEnabled("task", i * 1000L, i * 1000L + 500);
+        }
+        ChromeEventTracer.flush();
+        assertEquals(1, traceFiles().size());
+
+        ChromeEventTracer.disable();
+        ChromeEventTracer.enqueueTaskIfEnabled("task", 0, 1);
+        ChromeEventTracer.close();
+        assertEquals(100, countEvents());
+        assertEquals(0, ChromeEventTracer.getDroppedEvents());
+    }
+
+    @Test
+    public void testRotation() throws IOException {
+        System.setProperty(ChromeEventTracer.CHROME_EVENT_TRACER_FILE_SIZE_KEY, "4096");
+        System.setProperty(ChromeEventTracer.CHROME_EVENT_TRACER_FILES_KEY, "3");
+        ChromeEventTracer.enable();
+        for (int i = 0; i < 1000; i++) {
+            ChromeEventTracer.enqueueWriteIfEnabled("copy", 1024, i * 1000L, i * 1000L + 500);
+        }
+        ChromeEventTracer.close();
+        List<Path> files = traceFiles();
+        assertEquals(3, files.size());
+        assertTrue(countEvents() < 1000);
+    }
+
+    @Test
+    public void testSampling() throws IOException {
+        System.setProperty(ChromeEventTracer.CHROME_EVENT_TRACER_SAMPLING_KEY, "10");
+        ChromeEventTracer.enable();
+        for (int i = 0; i < 1000; i++) {
+            ChromeEventTracer.enqueueTaskIfEnabled("task", i * 1000L, i * 1000L + 500);
+        }
+        ChromeEventTracer.close();
+        assertEquals(100, countEvents());
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.profiler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.runtime.TornadoRuntime;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.unittests.TestHello;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Checks the JDK Flight Recorder events emitted by the TornadoVM runtime.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.profiler.TestFlightRecorderEvents
+ * </code>
+ */
+public class TestFlightRecorderEvents extends TornadoTestBase {
+
+    private static long count(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).count();
+    }
+
+    @Test
+    public void testExecutionEvents() throws IOException {
+        final int numExecutions = 4;
+        IntArray a = new IntArray(1024);
+        IntArray b = new IntArray(1024);
+        IntArray c = new IntArray(1024);
+        a.init(1);
+        b.init(2);
+
+        // Make sure that the task is compiled during the recording
+        TornadoRuntime.getTornadoRuntime().getDefaultDevice().reset();
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("tornado.TaskCompilation");
+            recording.enable("tornado.KernelLaunch");
+            recording.enable("tornado.KernelComplete");
+            recording.enable("tornado.DataTransfer");
+            recording.enable("tornado.BufferAllocation");
+            recording.start();
+
+            TaskGraph taskGraph = new TaskGraph("s0") //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                    .task("t0", TestHello::add, a, b, c) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+            TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot());
+            for (int i = 0; i < numExecutions; i++) {
+                // Update the inputs, so they are copied in every execution
+                a.set(0, i);
+                b.set(0, i);
+                executionPlan.execute();
+            }
+
+            recording.stop();
+            Path file = Files.createTempFile("tornado-jfr", ".jfr");
+            try {
+                recording.dump(file);
+                events = RecordingFile.readAllEvents(file);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
+
+        assertTrue(count(events, "tornado.TaskCompilation") >= 1);
+        assertEquals(numExecutions, count(events, "tornado.KernelLaunch"));
+        assertEquals(numExecutions, count(events, "tornado.KernelComplete"));
+        assertTrue(count(events, "tornado.BufferAllocation") >= 1);
+        // Copies of a and b to the device, and c to the host
+        assertEquals(3L * numExecutions, count(events, "tornado.DataTransfer"));
+
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals("tornado.KernelComplete")) {
+                assertEquals("s0.t0", event.getString("task"));
+                assertTrue(event.getLong("deviceEndTime") >= event.getLong("deviceStartTime"));
+            }
+        }
+    }
+}
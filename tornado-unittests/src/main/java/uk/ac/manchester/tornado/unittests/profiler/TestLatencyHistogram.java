@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.profiler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.TornadoProfilerResult;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.enums.ProfilerMode;
+import uk.ac.manchester.tornado.api.profiler.LatencyHistogram;
+import uk.ac.manchester.tornado.api.profiler.ProfilerType;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.unittests.TestHello;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.profiler.TestLatencyHistogram
+ * </code>
+ */
+public class TestLatencyHistogram extends TornadoTestBase {
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        assertTrue("expected " + expected + " but was " + actual, Math.abs(expected - actual) <= Math.max(1, expected / 64));
+    }
+
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 100_000; i++) {
+            histogram.record(i * 1000);
+        }
+        assertEquals(100_000, histogram.getTotalCount());
+        assertEquals(1000, histogram.getMin());
+        assertEquals(100_000_000, histogram.getMax());
+        assertEquals(50_000_500.0, histogram.getMean(), 1e-3);
+        assertWithinPrecision(50_000_000, histogram.getP50());
+        assertWithinPrecision(99_000_000, histogram.getP99());
+        assertWithinPrecision(99_900_000, histogram.getP999());
+        assertEquals(100_000_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testTailLatency() {
+        Random r = new Random(31);
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 10_000; i++) {
+            // 2% of the executions are 100x slower
+            histogram.record(i % 50 == 0 ? 5_000_000 : 50_000 + r.nextInt(1000));
+        }
+        assertTrue(histogram.getP50() < 52_000);
+        assertTrue(histogram.getP99() > 4_900_000);
+        assertEquals(5_000_000, histogram.getMax());
+    }
+
+    @Test
+    public void testAddAndReset() {
+        LatencyHistogram a = new LatencyHistogram();
+        LatencyHistogram b = new LatencyHistogram();
+        for (int i = 0; i < 100; i++) {
+            a.record(10);
+            b.record(1_000_000);
+        }
+        a.add(b);
+        assertEquals(200, a.getTotalCount());
+        assertEquals(10, a.getP50());
+        assertWithinPrecision(1_000_000, a.getP99());
+
+        LatencyHistogram copy = a.copy();
+        a.reset();
+        assertEquals(0, a.getTotalCount());
+        assertEquals(0, a.getP99());
+        assertEquals(0, a.getMax());
+        assertEquals(200, copy.getTotalCount());
+    }
+
+    @Test
+    public void testHistogramsFromExecutionPlan() {
+        final int numExecutions = 10;
+        IntArray a = new IntArray(256);
+        IntArray b = new IntArray(256);
+        IntArray c = new IntArray(256);
+        a.init(1);
+        b.init(2);
+
+        System.setProperty("tornado.profiler.histograms", "True");
+        try {
+            TaskGraph taskGraph = new TaskGraph("s0") //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                    .task("t0", TestHello::add, a, b, c) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+            TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot());
+            executionPlan.withProfiler(ProfilerMode.SILENT);
+
+            TornadoProfilerResult profilerResult = null;
+            for (int i = 0; i < numExecutions; i++) {
+                profilerResult = executionPlan.execute().getProfilerResult();
+            }
+
+            LatencyHistogram total = profilerResult.getLatencyHistogram("s0", ProfilerType.TOTAL_TASK_GRAPH_TIME);
+            assertEquals(numExecutions, total.getTotalCount());
+            assertTrue(total.getP50() > 0);
+            assertTrue(total.getP999() >= total.getP50());
+            // The profiler times the kernel of every execution
+            assertEquals(numExecutions, profilerResult.getLatencyHistogram("s0.t0", ProfilerType.TASK_KERNEL_TIME).getTotalCount());
+
+            executionPlan.clearProfiles();
+            assertEquals(0, profilerResult.getLatencyHistogram("s0", ProfilerType.TOTAL_TASK_GRAPH_TIME).getTotalCount());
+
+            executionPlan.withoutProfiler();
+        } finally {
+            System.clearProperty("tornado.profiler.histograms");
+        }
+    }
+}
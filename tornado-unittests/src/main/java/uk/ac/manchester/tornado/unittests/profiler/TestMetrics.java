@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.profiler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.unittests.TestHello;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests of the registry of runtime metrics, read through the MBeans and the
+ * Prometheus endpoint. The test needs the options
+ * {@code -Dtornado.metrics.jmx=True} and
+ * {@code -Dtornado.metrics.prometheus.port=<port>}.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V -J"-Dtornado.metrics.jmx=True -Dtornado.metrics.prometheus.port=9464" uk.ac.manchester.tornado.unittests.profiler.TestMetrics
+ * </code>
+ */
+public class TestMetrics extends TornadoTestBase {
+
+    private static final String JMX_DOMAIN = "uk.ac.manchester.tornado";
+    private static final String EXECUTIONS = "tornado_task_graph_executions_total";
+    private static final String COMPILATIONS = "tornado_task_graph_compilations_total";
+    private static final String KERNEL_LAUNCHES = "tornado_device_kernel_launches_total";
+
+    private static ImmutableTaskGraph createTaskGraph(String name) {
+        IntArray a = new IntArray(256);
+        IntArray b = new IntArray(256);
+        IntArray c = new IntArray(256);
+        a.init(1);
+        b.init(2);
+        TaskGraph taskGraph = new TaskGraph(name) //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("t0", TestHello::add, a, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+        return taskGraph.snapshot();
+    }
+
+    private static void execute(String taskGraphName, int numExecutions) {
+        TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(createTaskGraph(taskGraphName));
+        for (int i = 0; i < numExecutions; i++) {
+            executionPlan.execute();
+        }
+    }
+
+    private static ObjectName objectName(String type, String name) throws JMException {
+        return new ObjectName(JMX_DOMAIN + ":type=" + type + ",name=" + ObjectName.quote(name));
+    }
+
+    private static MBeanServer mbeanServer() {
+        assertTrue("The test needs -Dtornado.metrics.jmx=True", Boolean.parseBoolean(System.getProperty("tornado.metrics.jmx")));
+        return ManagementFactory.getPlatformMBeanServer();
+    }
+
+    private static long getTaskGraphMetric(String taskGraphName, String metric) throws JMException {
+        return (Long) mbeanServer().getAttribute(objectName("TaskGraph", taskGraphName), metric);
+    }
+
+    private static String scrape() throws IOException {
+        String port = System.getProperty("tornado.metrics.prometheus.port");
+        assertNotNull("The test needs -Dtornado.metrics.prometheus.port=<port>", port);
+        HttpURLConnection connection = (HttpURLConnection) URI.create("http://127.0.0.1:" + port + "/metrics").toURL().openConnection();
+        try (InputStream in = connection.getInputStream()) {
+            assertEquals(200, connection.getResponseCode());
+            assertTrue(connection.getContentType().startsWith("text/plain"));
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * The snapshots of a task-graph, and the task-graphs of different execution
+     * plans with the same name, are aggregated in the same metrics.
+     */
+    @Test
+    public void testAggregationByName() throws JMException {
+        final String name = "metricsAggregation";
+        execute(name, 3);
+        execute(name, 2);
+
+        assertEquals(5, getTaskGraphMetric(name, EXECUTIONS));
+        assertTrue(getTaskGraphMetric(name, COMPILATIONS) > 0);
+    }
+
+    @Test
+    public void testMBeanRegistration() throws JMException {
+        final String name = "metricsMBean";
+        execute(name, 1);
+
+        MBeanServer server = mbeanServer();
+        ObjectName taskGraph = objectName("TaskGraph", name);
+        assertTrue(server.isRegistered(taskGraph));
+        Set<String> attributes = new HashSet<>();
+        for (MBeanAttributeInfo attribute : server.getMBeanInfo(taskGraph).getAttributes()) {
+            assertEquals(long.class.getName(), attribute.getType());
+            assertFalse(attribute.isWritable());
+            attributes.add(attribute.getName());
+        }
+        assertTrue(attributes.containsAll(List.of(EXECUTIONS, COMPILATIONS)));
+
+        Set<ObjectName> devices = server.queryNames(new ObjectName(JMX_DOMAIN + ":type=Device,*"), null);
+        assertFalse(devices.isEmpty());
+        long kernelLaunches = 0;
+        for (ObjectName device : devices) {
+            Object value = Arrays.stream(server.getMBeanInfo(device).getAttributes()).anyMatch(a -> a.getName().equals(KERNEL_LAUNCHES)) //
+                    ? server.getAttribute(device, KERNEL_LAUNCHES)
+                    : 0L;
+            kernelLaunches += (Long) value;
+        }
+        assertTrue(kernelLaunches > 0);
+    }
+
+    /**
+     * Each metric has one HELP and one TYPE line, followed by all its samples,
+     * and the quotes and backslashes of the label values are escaped.
+     */
+    @Test
+    public void testPrometheusFormat() throws IOException, JMException {
+        final String name = "metrics\"escaped\\graph";
+        execute(name, 4);
+
+        // The MBean name is quoted
+        assertEquals(4, getTaskGraphMetric(name, EXECUTIONS));
+
+        String text = scrape();
+        assertTrue(text.contains(EXECUTIONS + "{task_graph=\"metrics\\\"escaped\\\\graph\"} 4\n"));
+
+        Map<String, String> types = new HashMap<>();
+        String current = null;
+        String[] lines = text.split("\n");
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i];
+            if (line.startsWith("# HELP ")) {
+                String metric = line.split(" ")[2];
+                assertFalse("Duplicated HELP of " + metric, types.containsKey(metric));
+                assertTrue(lines[i + 1].startsWith("# TYPE " + metric + " "));
+                types.put(metric, lines[i + 1].split(" ")[3]);
+                current = metric;
+                i++;
+            } else {
+                String metric = line.substring(0, line.indexOf('{'));
+                assertEquals("Sample of " + metric + " outside of its group", current, metric);
+                Long.parseLong(line.substring(line.lastIndexOf(' ') + 1));
+            }
+        }
+        assertEquals("counter", types.get(EXECUTIONS));
+        assertEquals("counter", types.get(KERNEL_LAUNCHES));
+        assertEquals("gauge", types.get("tornado_device_buffers_used"));
+    }
+}
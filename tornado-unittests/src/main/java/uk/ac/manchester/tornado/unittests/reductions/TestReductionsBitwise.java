@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.reductions;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.annotations.Reduce;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.math.TornadoMath;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.arrays.LongArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the bitwise reductions with {@link Reduce}, and for a max reduction
+ * on long values that need the high bits. The initial value of the result is
+ * the identity of the operation.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.reductions.TestReductionsBitwise
+ * </code>
+ */
+public class TestReductionsBitwise extends TornadoTestBase {
+
+    private static final int SIZE = 4096;
+
+    private static void orReduction(IntArray input, @Reduce IntArray result) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            result.set(0, result.get(0) | input.get(i));
+        }
+    }
+
+    private static void andReduction(IntArray input, @Reduce IntArray result) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            result.set(0, result.get(0) & input.get(i));
+        }
+    }
+
+    private static void xorReduction(IntArray input, @Reduce IntArray result) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            result.set(0, result.get(0) ^ input.get(i));
+        }
+    }
+
+    private static void orReductionLong(LongArray input, @Reduce LongArray result) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            result.set(0, result.get(0) | input.get(i));
+        }
+    }
+
+    /**
+     * A max reduction on long values that use the high bits, which are built from
+     * the input in the parallel loop. It is not an argmax reduction, which
+     * {@link Reduce} does not support.
+     */
+    private static void maxPackedLongReduction(IntArray input, @Reduce LongArray result) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            result.set(0, TornadoMath.max(result.get(0), ((long) input.get(i) << 32) | i));
+        }
+    }
+
+    private static IntArray randomInput(int bound) {
+        IntArray input = new IntArray(SIZE);
+        Random r = new Random();
+        for (int i = 0; i < SIZE; i++) {
+            input.set(i, r.nextInt(bound));
+        }
+        return input;
+    }
+
+    private static void execute(TaskGraph taskGraph) {
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
+        executionPlan.execute();
+    }
+
+    @Test
+    public void testReductionOr() {
+        IntArray input = new IntArray(SIZE);
+        input.init(0);
+        input.set(17, 1 << 3);
+        input.set(SIZE - 1, 1 << 12);
+        IntArray result = new IntArray(1);
+        result.init(0);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", TestReductionsBitwise::orReduction, input, result) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, result);
+        execute(taskGraph);
+
+        IntArray sequential = new IntArray(1);
+        sequential.init(0);
+        orReduction(input, sequential);
+
+        assertEquals(sequential.get(0), result.get(0));
+    }
+
+    @Test
+    public void testReductionAnd() {
+        IntArray input = new IntArray(SIZE);
+        input.init(0xFF);
+        input.set(100, 0x0F);
+        IntArray result = new IntArray(1);
+        result.init(-1);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", TestReductionsBitwise::andReduction, input, result) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, result);
+        execute(taskGraph);
+
+        IntArray sequential = new IntArray(1);
+        sequential.init(-1);
+        andReduction(input, sequential);
+
+        assertEquals(sequential.get(0), result.get(0));
+    }
+
+    @Test
+    public void testReductionXor() {
+        IntArray input = randomInput(Integer.MAX_VALUE);
+        IntArray result = new IntArray(1);
+        result.init(0);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", TestReductionsBitwise::xorReduction, input, result) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, result);
+        execute(taskGraph);
+
+        IntArray sequential = new IntArray(1);
+        sequential.init(0);
+        xorReduction(input, sequential);
+
+        assertEquals(sequential.get(0), result.get(0));
+    }
+
+    @Test
+    public void testReductionOrLong() {
+        LongArray input = new LongArray(SIZE);
+        input.init(0);
+        input.set(5, 1L << 40);
+        input.set(2000, 1L << 2);
+        LongArray result = new LongArray(1);
+        result.init(0);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", TestReductionsBitwise::orReductionLong, input, result) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, result);
+        execute(taskGraph);
+
+        LongArray sequential = new LongArray(1);
+        sequential.init(0);
+        orReductionLong(input, sequential);
+
+        assertEquals(sequential.get(0), result.get(0));
+    }
+
+    @Test
+    public void testMaxPackedLong() {
+        IntArray input = randomInput(1000);
+        input.set(1234, 5000);
+        LongArray result = new LongArray(1);
+        result.init(Long.MIN_VALUE);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", TestReductionsBitwise::maxPackedLongReduction, input, result) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, result);
+        execute(taskGraph);
+
+        assertEquals(5000, (int) (result.get(0) >> 32));
+        assertEquals(1234, (int) result.get(0));
+    }
+}
@@ -150,6 +150,34 @@ public class TestReductionsDoubles extends TornadoTestBase {
         assertEquals(sequential.get(0), result.get(0), 0.01f);
     }
 
+    /**
+     * The double reductions go through the local-memory tree before the last
+     * work-group folds the partial results. The input changes in every execution.
+     */
+    @Test
+    public void testSumDoublesRepeatedExecutions() {
+        DoubleArray input = new DoubleArray(SIZE_LARGE);
+        DoubleArray result = new DoubleArray(1);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", TestReductionsDoubles::reductionAddDoublesLarge, input, result) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, result);
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
+
+        Random r = new Random(23);
+        for (int iteration = 0; iteration < 8; iteration++) {
+            final double offset = iteration * 10.0;
+            IntStream.range(0, SIZE_LARGE).forEach(i -> input.set(i, offset + r.nextDouble()));
+            executionPlan.execute();
+
+            DoubleArray sequential = new DoubleArray(1);
+            reductionAddDoublesLarge(input, sequential);
+            assertEquals(sequential.get(0), result.get(0), 1e-6 * sequential.get(0));
+        }
+    }
+
     private static void reductionAddDoubles2(DoubleArray input, @Reduce DoubleArray result) {
         double error = 2f;
         result.set(0, 0.0f);
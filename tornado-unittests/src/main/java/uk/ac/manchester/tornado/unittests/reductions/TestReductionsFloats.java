@@ -450,6 +450,42 @@ public class TestReductionsFloats extends TornadoTestBase {
         assertEquals(sequential.get(0), result.get(0), 0.01f);
     }
 
+    /**
+     * Each work-group stores a partial result, and the last work-group folds them
+     * on the device. The input changes in every execution, so a stale partial
+     * result of any work-group, or of a previous execution, changes the result.
+     */
+    @Test
+    public void testReductionsRepeatedExecutions() {
+        FloatArray input = new FloatArray(LARGE_SIZE);
+        FloatArray sum = new FloatArray(1);
+        FloatArray max = new FloatArray(1);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", TestReductionsFloats::reductionAddFloatsLarge, input, sum) //
+                .task("t1", TestReductionsFloats::maxReductionAnnotation, input, max) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, sum, max);
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
+
+        Random r = new Random(17);
+        for (int iteration = 0; iteration < 8; iteration++) {
+            final float scale = iteration + 1;
+            IntStream.range(0, LARGE_SIZE).forEach(i -> input.set(i, r.nextFloat() * scale));
+            // The maximum is in a different work-group in every execution
+            input.set(r.nextInt(LARGE_SIZE), 1000.0f + iteration);
+            executionPlan.execute();
+
+            FloatArray sequentialSum = new FloatArray(1);
+            FloatArray sequentialMax = new FloatArray(1);
+            reductionAddFloatsLarge(input, sequentialSum);
+            maxReductionAnnotation(input, sequentialMax);
+            assertEquals(sequentialSum.get(0), sum.get(0), 1e-4f * sequentialSum.get(0));
+            assertEquals(sequentialMax.get(0), max.get(0), 0.0f);
+        }
+    }
+
     private static void minReductionAnnotation(FloatArray input, @Reduce FloatArray result, float neutral) {
         result.set(0, neutral);
         for (@Parallel int i = 0; i < input.getSize(); i++) {
@@ -49,6 +49,12 @@ public class TestReductionsIntegers extends TornadoTestBase {
     private static final int BIG_SIZE = 1024;
 
     private static final int LARGE_SIZE = 262144;
+
+    /**
+     * Enough elements to launch thousands of work-groups, so that many of them
+     * race for the counter of the last group.
+     */
+    private static final int MANY_GROUPS_SIZE = 1 << 22;
     private static final int SIZE = 4096;
 
     /**
@@ -294,6 +300,62 @@ public class TestReductionsIntegers extends TornadoTestBase {
         assertEquals(sequential.get(0), result.get(0));
     }
 
+    /**
+     * The last work-group folds the partial results on the device. The counter of
+     * the work-groups must be reset between executions.
+     */
+    @Test
+    public void testReductionRepeatedExecutions() {
+        IntArray input = new IntArray(LARGE_SIZE);
+        IntArray result = new IntArray(1);
+        result.init(0);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", TestReductionsIntegers::reductionAnnotationLarge, input, result) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, result);
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
+
+        Random r = new Random();
+        for (int iteration = 0; iteration < 4; iteration++) {
+            IntStream.range(0, LARGE_SIZE).forEach(i -> input.set(i, r.nextInt(100)));
+            executionPlan.execute();
+
+            IntArray sequential = new IntArray(1);
+            reductionAnnotationLarge(input, sequential);
+            assertEquals(sequential.get(0), result.get(0));
+        }
+    }
+
+    /**
+     * The last work-group reads the partial results of all the other groups. The
+     * result is exact only if the fences around the counter publish every
+     * partial result across the whole device, so the reduction is repeated to
+     * expose a missing fence.
+     */
+    @Test
+    public void testReductionManyWorkGroups() {
+        IntArray input = new IntArray(MANY_GROUPS_SIZE);
+        IntArray result = new IntArray(1);
+        result.init(0);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", TestReductionsIntegers::reductionAnnotationLarge, input, result) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, result);
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
+
+        Random r = new Random(7);
+        for (int iteration = 0; iteration < 16; iteration++) {
+            IntStream.range(0, MANY_GROUPS_SIZE).parallel().forEach(i -> input.set(i, 1));
+            input.set(r.nextInt(MANY_GROUPS_SIZE), 1 + iteration);
+            executionPlan.execute();
+            assertEquals(MANY_GROUPS_SIZE + iteration, result.get(0));
+        }
+    }
+
     @Test
     public void testReductionConstant() {
         IntArray input = new IntArray(SMALL_SIZE);
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2024, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.tensors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.tensors.TensorFloat;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the strided views of {@link TensorFloat}.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.tensors.TestTensors
+ * </code>
+ */
+public class TestTensors extends TornadoTestBase {
+
+    public static void add(FloatArray a, IntArray layoutA, FloatArray b, IntArray layoutB, FloatArray c, IntArray layoutC) {
+        for (@Parallel int i = 0; i < TensorFloat.numElements(layoutC); i++) {
+            c.set(TensorFloat.elementIndex(layoutC, i), a.get(TensorFloat.elementIndex(layoutA, i)) + b.get(TensorFloat.elementIndex(layoutB, i)));
+        }
+    }
+
+    public static void matrixMultiplication(FloatArray a, IntArray layoutA, FloatArray b, IntArray layoutB, FloatArray c, IntArray layoutC) {
+        int n = TensorFloat.size(layoutA, 1);
+        for (@Parallel int i = 0; i < TensorFloat.size(layoutC, 0); i++) {
+            for (@Parallel int j = 0; j < TensorFloat.size(layoutC, 1); j++) {
+                float sum = 0.0f;
+                for (int k = 0; k < n; k++) {
+                    sum += a.get(TensorFloat.index(layoutA, i, k)) * b.get(TensorFloat.index(layoutB, k, j));
+                }
+                c.set(TensorFloat.index(layoutC, i, j), sum);
+            }
+        }
+    }
+
+    private static TensorFloat randomTensor(int... shape) {
+        TensorFloat tensor = new TensorFloat(shape);
+        Random r = new Random();
+        for (int i = 0; i < tensor.getSize(); i++) {
+            tensor.getStorage().set(i, r.nextFloat());
+        }
+        return tensor;
+    }
+
+    private static void execute(TaskGraph taskGraph) {
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
+        executionPlan.execute();
+    }
+
+    @Test
+    public void testViews() {
+        TensorFloat tensor = new TensorFloat(2, 3, 4);
+        for (int i = 0; i < tensor.getSize(); i++) {
+            tensor.getStorage().set(i, i);
+        }
+        assertTrue(tensor.isContiguous());
+        assertEquals(1 * 12 + 2 * 4 + 3, tensor.get(1, 2, 3), 0.0f);
+
+        TensorFloat transposed = tensor.transpose(0, 2);
+        assertFalse(transposed.isContiguous());
+        assertSame(tensor.getStorage(), transposed.getStorage());
+        assertEquals(tensor.get(1, 2, 3), transposed.get(3, 2, 1), 0.0f);
+
+        TensorFloat slice = tensor.slice(1, 1, 3);
+        assertEquals(2, slice.getShape(1));
+        assertEquals(tensor.get(1, 1, 0), slice.get(1, 0, 0), 0.0f);
+
+        TensorFloat row = tensor.select(0, 1).select(0, 2);
+        assertEquals(1, row.getRank());
+        assertEquals(tensor.get(1, 2, 3), row.get(3), 0.0f);
+
+        TensorFloat reshaped = tensor.reshape(6, 4);
+        assertEquals(tensor.get(1, 2, 3), reshaped.get(5, 3), 0.0f);
+
+        TensorFloat copy = transposed.contiguous();
+        assertTrue(copy.isContiguous());
+        assertEquals(transposed.get(3, 2, 1), copy.get(3, 2, 1), 0.0f);
+    }
+
+    @Test(expected = TornadoRuntimeException.class)
+    public void testReshapeOfView() {
+        new TensorFloat(4, 4).transpose(0, 1).reshape(16);
+    }
+
+    @Test
+    public void testAddTransposed() {
+        TensorFloat a = randomTensor(2, 3, 8, 16);
+        // The permuted view of b has the shape of a
+        TensorFloat b = randomTensor(16, 3, 8, 2).permute(3, 1, 2, 0);
+        TensorFloat c = new TensorFloat(2, 3, 8, 16);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a.getStorage(), a.getLayout(), b.getStorage(), b.getLayout(), c.getLayout()) //
+                .task("t0", TestTensors::add, a.getStorage(), a.getLayout(), b.getStorage(), b.getLayout(), c.getStorage(), c.getLayout()) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c.getStorage());
+        execute(taskGraph);
+
+        for (int n = 0; n < 2; n++) {
+            for (int ch = 0; ch < 3; ch++) {
+                for (int h = 0; h < 8; h++) {
+                    for (int w = 0; w < 16; w++) {
+                        assertEquals(a.get(n, ch, h, w) + b.get(n, ch, h, w), c.get(n, ch, h, w), 0.001f);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testMatrixMultiplicationOfViews() {
+        final int size = 64;
+        TensorFloat batch = randomTensor(2, size, size);
+        // Second matrix of the batch, transposed, times the first block of the first matrix
+        TensorFloat a = batch.select(0, 1).transpose(0, 1);
+        TensorFloat b = batch.select(0, 0).slice(1, 0, size / 2);
+        TensorFloat c = new TensorFloat(size, size / 2);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, batch.getStorage(), a.getLayout(), b.getLayout(), c.getLayout()) //
+                .task("t0", TestTensors::matrixMultiplication, a.getStorage(), a.getLayout(), b.getStorage(), b.getLayout(), c.getStorage(), c.getLayout()) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c.getStorage());
+        execute(taskGraph);
+
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size / 2; j++) {
+                float sum = 0.0f;
+                for (int k = 0; k < size; k++) {
+                    sum += a.get(i, k) * b.get(k, j);
+                }
+                assertEquals(sum, c.get(i, j), 0.01f);
+            }
+        }
+    }
+}